@@ -0,0 +1,236 @@
+/*
+ * File: Benchmark.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+/**
+ * A named, repeatable operation whose performance is measured by a {@link BenchmarkRunner}.
+ * <p>
+ * Implementations perform a requested number of operations in {@link #run(int)}, returning a value
+ * derived from the results of the operations so that the work can't be optimized away.  Resources
+ * required by the operations are acquired in {@link #setUp()} and released in {@link #tearDown()},
+ * outside of the measurements.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public abstract class Benchmark
+{
+    /**
+     * The name of the {@link Benchmark}.
+     */
+    private final String name;
+
+    /**
+     * The {@link Mode} in which the {@link Benchmark} is measured.
+     */
+    private final Mode mode;
+
+
+    /**
+     * Constructs a {@link Benchmark}.
+     *
+     * @param name  the name of the {@link Benchmark}
+     * @param mode  the {@link Mode} in which the {@link Benchmark} is measured
+     */
+    protected Benchmark(String name,
+                        Mode   mode)
+    {
+        this.name = name;
+        this.mode = mode;
+    }
+
+
+    /**
+     * Obtains the name of the {@link Benchmark}.
+     *
+     * @return the name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Obtains the {@link Mode} in which the {@link Benchmark} is measured.
+     *
+     * @return the {@link Mode}
+     */
+    public Mode getMode()
+    {
+        return mode;
+    }
+
+
+    /**
+     * Acquires the resources required by the {@link Benchmark}, before it's measured.
+     *
+     * @throws Exception  when the resources can't be acquired
+     */
+    public void setUp() throws Exception
+    {
+    }
+
+
+    /**
+     * Performs the specified number of operations.
+     *
+     * @param operations  the number of operations to perform
+     *
+     * @return a value derived from the results of the operations
+     *
+     * @throws Exception  when an operation fails
+     */
+    public abstract long run(int operations) throws Exception;
+
+
+    /**
+     * Releases the resources acquired by the {@link Benchmark}, after it's measured.
+     *
+     * @throws Exception  when the resources can't be released
+     */
+    public void tearDown() throws Exception
+    {
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "Benchmark{" + name + ", " + mode + "}";
+    }
+
+
+    /**
+     * Constructs a {@link Benchmark} for an {@link Operation} that requires no resources.
+     *
+     * @param name       the name of the {@link Benchmark}
+     * @param mode       the {@link Mode} in which the {@link Benchmark} is measured
+     * @param operation  the {@link Operation}
+     *
+     * @return a new {@link Benchmark}
+     */
+    public static Benchmark of(String    name,
+                               Mode      mode,
+                               Operation operation)
+    {
+        return new Benchmark(name, mode)
+        {
+            @Override
+            public long run(int operations) throws Exception
+            {
+                long result = 0;
+
+                for (int i = 0; i < operations; i++)
+                {
+                    result += operation.perform();
+                }
+
+                return result;
+            }
+        };
+    }
+
+
+    /**
+     * A single operation of a {@link Benchmark}.
+     */
+    @FunctionalInterface
+    public interface Operation
+    {
+        /**
+         * Performs the operation.
+         *
+         * @return a value derived from the result of the operation
+         *
+         * @throws Exception  when the operation fails
+         */
+        long perform() throws Exception;
+    }
+
+
+    /**
+     * The modes in which {@link Benchmark}s are measured.
+     */
+    public enum Mode
+    {
+        /**
+         * Measures the number of operations per second.
+         */
+        THROUGHPUT("thrpt", "ops/s"),
+
+        /**
+         * Measures the average time of an operation in microseconds.
+         */
+        AVERAGE_TIME("avgt", "us/op");
+
+        /**
+         * The abbreviation of the {@link Mode} (as used by JMH).
+         */
+        private final String abbreviation;
+
+        /**
+         * The unit of scores measured in the {@link Mode}.
+         */
+        private final String unit;
+
+
+        /**
+         * Constructs a {@link Mode}.
+         *
+         * @param abbreviation  the abbreviation of the {@link Mode}
+         * @param unit          the unit of scores
+         */
+        Mode(String abbreviation,
+             String unit)
+        {
+            this.abbreviation = abbreviation;
+            this.unit         = unit;
+        }
+
+
+        /**
+         * Obtains the abbreviation of the {@link Mode}.
+         *
+         * @return the abbreviation
+         */
+        public String getAbbreviation()
+        {
+            return abbreviation;
+        }
+
+
+        /**
+         * Obtains the unit of scores measured in the {@link Mode}.
+         *
+         * @return the unit
+         */
+        public String getUnit()
+        {
+            return unit;
+        }
+    }
+}
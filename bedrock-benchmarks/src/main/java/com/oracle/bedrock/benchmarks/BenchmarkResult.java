@@ -0,0 +1,262 @@
+/*
+ * File: BenchmarkResult.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The measured scores of a {@link Benchmark}, one per measurement iteration.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class BenchmarkResult
+{
+    /**
+     * The two-sided 99.9% quantiles of Student's t-distribution, by degrees of freedom (1 to 10).
+     */
+    private static final double[] T_QUANTILES = {636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041,
+                                                 4.781, 4.587};
+
+    /**
+     * The name of the {@link Benchmark}.
+     */
+    private final String name;
+
+    /**
+     * The {@link Benchmark.Mode} of the scores.
+     */
+    private final Benchmark.Mode mode;
+
+    /**
+     * The number of warmup iterations.
+     */
+    private final int warmupIterations;
+
+    /**
+     * The scores of each measurement iteration.
+     */
+    private final List<Double> scores;
+
+
+    /**
+     * Constructs a {@link BenchmarkResult}.
+     *
+     * @param name              the name of the {@link Benchmark}
+     * @param mode              the {@link Benchmark.Mode} of the scores
+     * @param warmupIterations  the number of warmup iterations
+     * @param scores            the scores of each measurement iteration
+     */
+    public BenchmarkResult(String         name,
+                           Benchmark.Mode mode,
+                           int            warmupIterations,
+                           List<Double>   scores)
+    {
+        this.name             = name;
+        this.mode             = mode;
+        this.warmupIterations = warmupIterations;
+        this.scores           = Collections.unmodifiableList(new ArrayList<>(scores));
+    }
+
+
+    /**
+     * Obtains the name of the {@link Benchmark}.
+     *
+     * @return the name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Obtains the {@link Benchmark.Mode} of the scores.
+     *
+     * @return the {@link Benchmark.Mode}
+     */
+    public Benchmark.Mode getMode()
+    {
+        return mode;
+    }
+
+
+    /**
+     * Obtains the scores of each measurement iteration.
+     *
+     * @return the scores
+     */
+    public List<Double> getScores()
+    {
+        return scores;
+    }
+
+
+    /**
+     * Obtains the score, being the mean of the measured scores.
+     *
+     * @return the score
+     */
+    public double getScore()
+    {
+        double total = 0;
+
+        for (double score : scores)
+        {
+            total += score;
+        }
+
+        return scores.isEmpty() ? Double.NaN : total / scores.size();
+    }
+
+
+    /**
+     * Obtains the error of the score, being the half-width of its 99.9% confidence interval.
+     *
+     * @return the error (or <code>NaN</code> when there are fewer than two scores)
+     */
+    public double getScoreError()
+    {
+        int n = scores.size();
+
+        if (n < 2)
+        {
+            return Double.NaN;
+        }
+
+        double mean     = getScore();
+        double variance = 0;
+
+        for (double score : scores)
+        {
+            variance += (score - mean) * (score - mean);
+        }
+
+        variance /= n - 1;
+
+        // beyond ten degrees of freedom, conservatively use the quantile for twenty
+        double quantile = n - 1 <= T_QUANTILES.length ? T_QUANTILES[n - 2] : n - 1 <= 20 ? 3.850 : 3.646;
+
+        return quantile * Math.sqrt(variance / n);
+    }
+
+
+    /**
+     * Obtains the {@link BenchmarkResult} as a JSON object, in the format produced by JMH,
+     * so that results may be compared and visualized with the same tools.
+     *
+     * @return the JSON object
+     */
+    public String toJson()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append("{\n");
+        builder.append("    \"benchmark\" : ").append(quote(name)).append(",\n");
+        builder.append("    \"mode\" : ").append(quote(mode.getAbbreviation())).append(",\n");
+        builder.append("    \"threads\" : 1,\n");
+        builder.append("    \"forks\" : 1,\n");
+        builder.append("    \"jdkVersion\" : ").append(quote(System.getProperty("java.version"))).append(",\n");
+        builder.append("    \"warmupIterations\" : ").append(warmupIterations).append(",\n");
+        builder.append("    \"measurementIterations\" : ").append(scores.size()).append(",\n");
+        builder.append("    \"primaryMetric\" : {\n");
+        builder.append("        \"score\" : ").append(number(getScore())).append(",\n");
+        builder.append("        \"scoreError\" : ").append(number(getScoreError())).append(",\n");
+        builder.append("        \"scoreUnit\" : ").append(quote(mode.getUnit())).append(",\n");
+        builder.append("        \"rawData\" : [[");
+
+        for (int i = 0; i < scores.size(); i++)
+        {
+            builder.append(i == 0 ? "" : ", ").append(number(scores.get(i)));
+        }
+
+        builder.append("]]\n");
+        builder.append("    }\n");
+        builder.append("}");
+
+        return builder.toString();
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return String.format(Locale.ROOT,
+                             "%s (%s) %.3f +/- %.3f %s",
+                             name,
+                             mode.getAbbreviation(),
+                             getScore(),
+                             getScoreError(),
+                             mode.getUnit());
+    }
+
+
+    /**
+     * Formats a number for JSON, where non-finite numbers are represented as strings (as JMH does).
+     *
+     * @param value  the number
+     *
+     * @return the JSON number
+     */
+    private static String number(double value)
+    {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.6f", value) : quote(String.valueOf(value));
+    }
+
+
+    /**
+     * Quotes a string for JSON.
+     *
+     * @param value  the string
+     *
+     * @return the JSON string
+     */
+    private static String quote(String value)
+    {
+        StringBuilder builder = new StringBuilder("\"");
+
+        for (char c : value.toCharArray())
+        {
+            if (c == '"' || c == '\\')
+            {
+                builder.append('\\').append(c);
+            }
+            else if (c < ' ')
+            {
+                builder.append(String.format("\\u%04x", (int) c));
+            }
+            else
+            {
+                builder.append(c);
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * File: BenchmarkRunner.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Benchmark}s over a number of timed warmup and measurement iterations.
+ * <p>
+ * Each iteration repeatedly runs batches of operations until the iteration time has elapsed,
+ * doubling the size of the batches (up to a limit) while they complete in less than a millisecond,
+ * so that the cost of timing is amortized over fast operations without delaying slow operations.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class BenchmarkRunner
+{
+    /**
+     * The maximum number of operations in a batch.
+     */
+    private static final int MAXIMUM_BATCH_SIZE = 1 << 16;
+
+    /**
+     * The minimum duration of a batch before the batch size stops growing.
+     */
+    private static final long MINIMUM_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * A sink for the values returned by {@link Benchmark}s, so that their work can't be optimized away.
+     */
+    private static volatile long sink;
+
+    /**
+     * The number of warmup iterations.
+     */
+    private final int warmupIterations;
+
+    /**
+     * The number of measurement iterations.
+     */
+    private final int measurementIterations;
+
+    /**
+     * The duration of each iteration in nanoseconds.
+     */
+    private final long iterationNanos;
+
+
+    /**
+     * Constructs a {@link BenchmarkRunner}.
+     *
+     * @param warmupIterations       the number of warmup iterations
+     * @param measurementIterations  the number of measurement iterations
+     * @param iterationTime          the duration of each iteration
+     * @param iterationTimeUnit      the {@link TimeUnit} of the iteration duration
+     */
+    public BenchmarkRunner(int      warmupIterations,
+                           int      measurementIterations,
+                           long     iterationTime,
+                           TimeUnit iterationTimeUnit)
+    {
+        if (warmupIterations < 0 || measurementIterations < 1 || iterationTime < 1)
+        {
+            throw new IllegalArgumentException("Benchmarks require measurement iterations of some duration");
+        }
+
+        this.warmupIterations      = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos        = iterationTimeUnit.toNanos(iterationTime);
+    }
+
+
+    /**
+     * Measures a {@link Benchmark}.
+     *
+     * @param benchmark  the {@link Benchmark}
+     *
+     * @return the {@link BenchmarkResult}
+     *
+     * @throws Exception  when the {@link Benchmark} fails
+     */
+    public BenchmarkResult run(Benchmark benchmark) throws Exception
+    {
+        List<Double> scores = new ArrayList<>();
+
+        benchmark.setUp();
+
+        try
+        {
+            for (int i = 0; i < warmupIterations; i++)
+            {
+                iterate(benchmark);
+            }
+
+            for (int i = 0; i < measurementIterations; i++)
+            {
+                scores.add(iterate(benchmark));
+            }
+        }
+        finally
+        {
+            benchmark.tearDown();
+        }
+
+        return new BenchmarkResult(benchmark.getName(), benchmark.getMode(), warmupIterations, scores);
+    }
+
+
+    /**
+     * Runs a single iteration of a {@link Benchmark}.
+     *
+     * @param benchmark  the {@link Benchmark}
+     *
+     * @return the score of the iteration
+     *
+     * @throws Exception  when the {@link Benchmark} fails
+     */
+    private double iterate(Benchmark benchmark) throws Exception
+    {
+        long operations = 0;
+        int  batchSize  = 1;
+        long result     = 0;
+        long start      = System.nanoTime();
+        long elapsed;
+
+        do
+        {
+            long batchStart = System.nanoTime();
+
+            result     += benchmark.run(batchSize);
+            operations += batchSize;
+
+            long now = System.nanoTime();
+
+            if (now - batchStart < MINIMUM_BATCH_NANOS && batchSize < MAXIMUM_BATCH_SIZE)
+            {
+                batchSize *= 2;
+            }
+
+            elapsed = now - start;
+        }
+        while (elapsed < iterationNanos);
+
+        sink += result;
+
+        return benchmark.getMode() == Benchmark.Mode.THROUGHPUT
+               ? operations / (elapsed / 1_000_000_000.0)
+               : (elapsed / 1_000.0) / operations;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * File: Benchmarks.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the Bedrock {@link Benchmark}s, reporting their scores and writing the results as JSON
+ * (in the format produced by JMH) so that they may be tracked from release to release.
+ * <p>
+ * Usage: <code>java -cp &lt;class-path&gt; com.oracle.bedrock.benchmarks.Benchmarks [options] [regex...]</code>
+ * <ul>
+ *     <li><code>-wi &lt;count&gt;</code> the number of warmup iterations (default 3)</li>
+ *     <li><code>-i &lt;count&gt;</code> the number of measurement iterations (default 5)</li>
+ *     <li><code>-r &lt;seconds&gt;</code> the duration of each iteration (default 1)</li>
+ *     <li><code>-rff &lt;file&gt;</code> the file to which results are written (default bedrock-benchmarks.json)</li>
+ *     <li><code>-l</code> lists the benchmarks without running them</li>
+ * </ul>
+ * When regular expressions are specified, only the benchmarks with names matching
+ * (at least partially) one of them are run.  Benchmarks that fail are reported and omitted
+ * from the results.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class Benchmarks
+{
+    /**
+     * Prevent instances of {@link Benchmarks}.
+     */
+    private Benchmarks()
+    {
+    }
+
+
+    /**
+     * Obtains all of the Bedrock {@link Benchmark}s.
+     *
+     * @return the {@link Benchmark}s
+     */
+    public static List<Benchmark> all()
+    {
+        List<Benchmark> benchmarks = new ArrayList<>();
+
+        benchmarks.addAll(RemoteChannelBenchmarks.benchmarks());
+        benchmarks.addAll(SerializerBenchmarks.benchmarks());
+        benchmarks.addAll(ConsoleBenchmarks.benchmarks());
+        benchmarks.addAll(OptionsBenchmarks.benchmarks());
+        benchmarks.addAll(EnsuredBenchmarks.benchmarks());
+        benchmarks.addAll(LaunchBenchmarks.benchmarks());
+
+        return benchmarks;
+    }
+
+
+    /**
+     * Runs the {@link Benchmark}s.
+     *
+     * @param arguments  the options and regular expressions selecting the benchmarks
+     *
+     * @throws Exception  when a benchmark fails
+     */
+    public static void main(String[] arguments) throws Exception
+    {
+        int           warmupIterations      = 3;
+        int           measurementIterations = 5;
+        long          iterationSeconds      = 1;
+        Path          resultFile            = Paths.get("bedrock-benchmarks.json");
+        boolean       list                  = false;
+        List<Pattern> patterns              = new ArrayList<>();
+
+        for (int i = 0; i < arguments.length; i++)
+        {
+            switch (arguments[i])
+            {
+            case "-wi" :
+                warmupIterations = Integer.parseInt(arguments[++i]);
+                break;
+
+            case "-i" :
+                measurementIterations = Integer.parseInt(arguments[++i]);
+                break;
+
+            case "-r" :
+                iterationSeconds = Long.parseLong(arguments[++i]);
+                break;
+
+            case "-rff" :
+                resultFile = Paths.get(arguments[++i]);
+                break;
+
+            case "-l" :
+                list = true;
+                break;
+
+            default :
+                patterns.add(Pattern.compile(arguments[i]));
+            }
+        }
+
+        List<Benchmark> benchmarks = select(all(), patterns);
+
+        if (list)
+        {
+            benchmarks.forEach(benchmark -> System.out.println(benchmark.getName()));
+
+            return;
+        }
+
+        BenchmarkRunner       runner  = new BenchmarkRunner(warmupIterations,
+                                                            measurementIterations,
+                                                            iterationSeconds,
+                                                            TimeUnit.SECONDS);
+        List<BenchmarkResult> results = new ArrayList<>();
+
+        for (Benchmark benchmark : benchmarks)
+        {
+            System.out.println("# Benchmark: " + benchmark.getName());
+
+            try
+            {
+                BenchmarkResult result = runner.run(benchmark);
+
+                System.out.println(result);
+
+                results.add(result);
+            }
+            catch (Exception e)
+            {
+                // a failing benchmark is reported and omitted from the results, allowing the others to run
+                System.out.println("# Benchmark failed: " + benchmark.getName());
+                e.printStackTrace(System.out);
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-48s %5s %4s %16s %16s  %s%n", "Benchmark", "Mode", "Cnt", "Score", "Error", "Units");
+
+        for (BenchmarkResult result : results)
+        {
+            System.out.printf(Locale.ROOT,
+                              "%-48s %5s %4d %16.3f +/- %12.3f  %s%n",
+                              result.getName(),
+                              result.getMode().getAbbreviation(),
+                              result.getScores().size(),
+                              result.getScore(),
+                              result.getScoreError(),
+                              result.getMode().getUnit());
+        }
+
+        write(results, resultFile);
+
+        System.out.println();
+        System.out.println("Results written to " + resultFile.toAbsolutePath());
+    }
+
+
+    /**
+     * Selects the {@link Benchmark}s with names matching one of the specified {@link Pattern}s.
+     *
+     * @param benchmarks  the {@link Benchmark}s
+     * @param patterns    the {@link Pattern}s (when empty all {@link Benchmark}s are selected)
+     *
+     * @return the selected {@link Benchmark}s
+     */
+    static List<Benchmark> select(List<Benchmark> benchmarks,
+                                  List<Pattern>   patterns)
+    {
+        if (patterns.isEmpty())
+        {
+            return benchmarks;
+        }
+
+        List<Benchmark> selected = new ArrayList<>();
+
+        for (Benchmark benchmark : benchmarks)
+        {
+            if (patterns.stream().anyMatch(pattern -> pattern.matcher(benchmark.getName()).find()))
+            {
+                selected.add(benchmark);
+            }
+        }
+
+        return selected;
+    }
+
+
+    /**
+     * Writes {@link BenchmarkResult}s to a file as a JSON array.
+     *
+     * @param results  the {@link BenchmarkResult}s
+     * @param file     the file
+     *
+     * @throws IOException  when the file can't be written
+     */
+    static void write(List<BenchmarkResult> results,
+                      Path                  file) throws IOException
+    {
+        StringBuilder builder = new StringBuilder("[\n");
+
+        for (int i = 0; i < results.size(); i++)
+        {
+            builder.append(i == 0 ? "" : ",\n").append(results.get(i).toJson());
+        }
+
+        builder.append("\n]\n");
+
+        Path parent = file.toAbsolutePath().getParent();
+
+        if (parent != null)
+        {
+            Files.createDirectories(parent);
+        }
+
+        Files.write(file, builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * File: ConsoleBenchmarks.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.console.CapturingApplicationConsole;
+import com.oracle.bedrock.runtime.java.container.LineNumberingOutputStream;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link Benchmark}s for the throughput of application output, measured in lines per second,
+ * through {@link LineNumberingOutputStream}s (as used to label diagnostic output, compared with
+ * its original byte-at-a-time implementation) and through {@link ApplicationConsole}s (from the
+ * application writing a line until it's captured).
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ConsoleBenchmarks
+{
+    /**
+     * A typical line of application output.
+     */
+    static final String LINE = "2026-01-01 12:00:00.000/1.234 Oracle Coherence GE 14.1.1.0.0 <Info> "
+                               + "(thread=main, member=1): Loaded cache configuration from "
+                               + "\"file:/coherence-cache-config.xml\"";
+
+
+    /**
+     * Prevent instances of {@link ConsoleBenchmarks}.
+     */
+    private ConsoleBenchmarks()
+    {
+    }
+
+
+    /**
+     * Obtains the console {@link Benchmark}s.
+     *
+     * @return the {@link Benchmark}s
+     */
+    public static List<Benchmark> benchmarks()
+    {
+        return Arrays.asList(new LineNumberingBenchmark(),
+                             new OriginalLineNumberingBenchmark(),
+                             new CapturingConsoleBenchmark());
+    }
+
+
+    /**
+     * A {@link Benchmark} writing lines through a {@link LineNumberingOutputStream} that discards its output.
+     */
+    static class LineNumberingBenchmark extends Benchmark
+    {
+        /**
+         * The bytes of a line.
+         */
+        private final byte[] line;
+
+        /**
+         * The {@link LineNumberingOutputStream}.
+         */
+        private LineNumberingOutputStream stream;
+
+
+        /**
+         * Constructs a {@link LineNumberingBenchmark}.
+         */
+        LineNumberingBenchmark()
+        {
+            super("console.lineNumbering", Mode.THROUGHPUT);
+
+            this.line = (LINE + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+
+
+        @Override
+        public void setUp()
+        {
+            stream = new LineNumberingOutputStream(OutputStream.nullOutputStream(), "out");
+        }
+
+
+        @Override
+        public long run(int operations) throws Exception
+        {
+            for (int i = 0; i < operations; i++)
+            {
+                stream.write(line);
+            }
+
+            return operations;
+        }
+    }
+
+
+    /**
+     * A {@link Benchmark} writing lines through the original implementation of the
+     * {@link LineNumberingOutputStream}, as a baseline for the {@link LineNumberingBenchmark}.
+     */
+    static class OriginalLineNumberingBenchmark extends Benchmark
+    {
+        /**
+         * The bytes of a line.
+         */
+        private final byte[] line;
+
+        /**
+         * The {@link OriginalLineNumberingOutputStream}.
+         */
+        private OriginalLineNumberingOutputStream stream;
+
+
+        /**
+         * Constructs an {@link OriginalLineNumberingBenchmark}.
+         */
+        OriginalLineNumberingBenchmark()
+        {
+            super("console.lineNumbering.original", Mode.THROUGHPUT);
+
+            this.line = (LINE + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+
+
+        @Override
+        public void setUp()
+        {
+            stream = new OriginalLineNumberingOutputStream(OutputStream.nullOutputStream(), "out");
+        }
+
+
+        @Override
+        public long run(int operations) throws Exception
+        {
+            for (int i = 0; i < operations; i++)
+            {
+                stream.write(line);
+            }
+
+            return operations;
+        }
+    }
+
+
+    /**
+     * The original implementation of the {@link LineNumberingOutputStream}, which formatted a label
+     * for each line with <code>String.format</code> and wrote every byte individually.
+     */
+    static class OriginalLineNumberingOutputStream extends FilterOutputStream
+    {
+        /**
+         * The number of the next line.
+         */
+        private int lineNumber;
+
+        /**
+         * The prefix of each label.
+         */
+        private String prefix;
+
+        /**
+         * Was the last byte written the end of a line?
+         */
+        private boolean lastOutputWasEOL;
+
+
+        /**
+         * Constructs an {@link OriginalLineNumberingOutputStream}.
+         *
+         * @param outputStream  the {@link OutputStream} to write to
+         * @param prefix        the prefix of each label
+         */
+        OriginalLineNumberingOutputStream(OutputStream outputStream,
+                                          String       prefix)
+        {
+            super(outputStream);
+
+            this.lineNumber       = 1;
+            this.lastOutputWasEOL = true;
+            this.prefix           = prefix == null ? "" : prefix.trim();
+            this.prefix           = this.prefix.isEmpty() ? this.prefix : this.prefix + ":";
+        }
+
+
+        @Override
+        public void write(int value) throws IOException
+        {
+            if (lastOutputWasEOL && value != '\n' && value != '\r')
+            {
+                byte[] bytes = String.format("[%-10s%4d]: ", prefix, lineNumber++).getBytes();
+
+                for (byte c : bytes)
+                {
+                    super.write(c);
+                }
+
+                lastOutputWasEOL = false;
+            }
+
+            super.write(value);
+
+            if (value == '\n' || value == '\r')
+            {
+                lastOutputWasEOL = true;
+            }
+        }
+    }
+
+
+    /**
+     * A {@link Benchmark} writing lines to a {@link CapturingApplicationConsole}, waiting for all
+     * of the lines to be captured.
+     */
+    static class CapturingConsoleBenchmark extends Benchmark
+    {
+        /**
+         * The {@link CapturingApplicationConsole}, retaining just the most recently captured line.
+         */
+        private CapturingApplicationConsole console;
+
+        /**
+         * The {@link PrintWriter} used to write application output.
+         */
+        private PrintWriter writer;
+
+        /**
+         * The number of batches written, used to mark the end of each batch.
+         */
+        private long batches;
+
+
+        /**
+         * Constructs a {@link CapturingConsoleBenchmark}.
+         */
+        CapturingConsoleBenchmark()
+        {
+            super("console.capturing", Mode.THROUGHPUT);
+        }
+
+
+        @Override
+        public void setUp()
+        {
+            console = new CapturingApplicationConsole(1);
+            writer  = console.getOutputWriter();
+        }
+
+
+        @Override
+        public long run(int operations)
+        {
+            for (int i = 1; i < operations; i++)
+            {
+                writer.println(LINE);
+            }
+
+            // the last line of the batch marks its end
+            String marker = "end-" + (++batches);
+
+            writer.println(marker);
+            writer.flush();
+
+            while (!marker.equals(console.getCapturedOutputLines().peek()))
+            {
+                Thread.onSpinWait();
+            }
+
+            return batches;
+        }
+
+
+        @Override
+        public void tearDown()
+        {
+            console.close();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * File: EnsuredBenchmarks.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import com.oracle.bedrock.deferred.Deferred;
+import com.oracle.bedrock.deferred.Ensured;
+import com.oracle.bedrock.deferred.TemporarilyUnavailableException;
+import com.oracle.bedrock.deferred.options.RetryFrequency;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Benchmark}s for the overhead of {@link Ensured#get()}, which is used to poll for
+ * {@link Deferred} values by <code>Eventually.assertThat</code> and many other facilities.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class EnsuredBenchmarks
+{
+    /**
+     * The number of times the {@link Deferred} of the retrying benchmark is unavailable.
+     */
+    private static final int UNAVAILABLE_ATTEMPTS = 3;
+
+
+    /**
+     * Prevent instances of {@link EnsuredBenchmarks}.
+     */
+    private EnsuredBenchmarks()
+    {
+    }
+
+
+    /**
+     * Obtains the {@link Ensured} {@link Benchmark}s.
+     *
+     * @return the {@link Benchmark}s
+     */
+    public static List<Benchmark> benchmarks()
+    {
+        return Arrays.asList(Benchmark.of("ensured.get.available",
+                                          Benchmark.Mode.THROUGHPUT,
+                                          () -> new Ensured<>(new Available()).get()),
+                             Benchmark.of("ensured.get.retrying",
+                                          Benchmark.Mode.AVERAGE_TIME,
+                                          () -> new Ensured<>(new EventuallyAvailable(),
+                                                              RetryFrequency.every(0,
+                                                                                   TimeUnit.MILLISECONDS)).get()));
+    }
+
+
+    /**
+     * A {@link Deferred} that is always available.
+     */
+    static class Available implements Deferred<Long>
+    {
+        @Override
+        public Long get()
+        {
+            return 1L;
+        }
+
+
+        @Override
+        public Class<Long> getDeferredClass()
+        {
+            return Long.class;
+        }
+    }
+
+
+    /**
+     * A {@link Deferred} that becomes available after being temporarily unavailable
+     * {@link #UNAVAILABLE_ATTEMPTS} times.
+     */
+    static class EventuallyAvailable implements Deferred<Long>
+    {
+        /**
+         * The number of attempts to acquire the value.
+         */
+        private int attempts;
+
+
+        @Override
+        public Long get()
+        {
+            if (++attempts <= UNAVAILABLE_ATTEMPTS)
+            {
+                throw new TemporarilyUnavailableException(this);
+            }
+
+            return (long) attempts;
+        }
+
+
+        @Override
+        public Class<Long> getDeferredClass()
+        {
+            return Long.class;
+        }
+    }
+}
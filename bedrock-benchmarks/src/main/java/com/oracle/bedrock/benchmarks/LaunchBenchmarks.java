@@ -0,0 +1,108 @@
+/*
+ * File: LaunchBenchmarks.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.Platform;
+import com.oracle.bedrock.runtime.java.JavaApplication;
+import com.oracle.bedrock.runtime.java.JavaVirtualMachine;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.DisplayName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link Benchmark}s for the end-to-end time to launch a trivial {@link JavaApplication}, wait
+ * for it to terminate and close it, both as a separate process (using the {@link LocalPlatform})
+ * and in-process (using the {@link JavaVirtualMachine}).
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class LaunchBenchmarks
+{
+    /**
+     * Prevent instances of {@link LaunchBenchmarks}.
+     */
+    private LaunchBenchmarks()
+    {
+    }
+
+
+    /**
+     * Obtains the launch {@link Benchmark}s.
+     *
+     * @return the {@link Benchmark}s
+     */
+    public static List<Benchmark> benchmarks()
+    {
+        return Arrays.asList(launch("launch.local", LocalPlatform::get),
+                             launch("launch.container", JavaVirtualMachine::get));
+    }
+
+
+    /**
+     * Constructs a {@link Benchmark} to launch a {@link TrivialApplication} on a {@link Platform}.
+     *
+     * @param name      the name of the {@link Benchmark}
+     * @param platform  a {@link Supplier} of the {@link Platform}
+     *
+     * @return a new {@link Benchmark}
+     */
+    static Benchmark launch(String             name,
+                            Supplier<Platform> platform)
+    {
+        return Benchmark.of(name, Benchmark.Mode.AVERAGE_TIME, () -> {
+                                try (JavaApplication application =
+                                    platform.get().launch(JavaApplication.class,
+                                                          ClassName.of(TrivialApplication.class),
+                                                          DisplayName.of("Benchmark"),
+                                                          Console.none()))
+                                {
+                                    return application.waitFor();
+                                }
+                            });
+    }
+
+
+    /**
+     * An application that terminates immediately.
+     */
+    public static class TrivialApplication
+    {
+        /**
+         * Entry point for the application.
+         *
+         * @param arguments  the arguments (ignored)
+         */
+        public static void main(String[] arguments)
+        {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * File: OptionsBenchmarks.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.options.Argument;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.runtime.options.ErrorStreamRedirection;
+import com.oracle.bedrock.runtime.options.Executable;
+import com.oracle.bedrock.runtime.options.Orphanable;
+import com.oracle.bedrock.runtime.options.WorkingDirectory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link Benchmark}s for {@link OptionsByType}, which are created and queried many times
+ * for every application launched.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class OptionsBenchmarks
+{
+    /**
+     * Prevent instances of {@link OptionsBenchmarks}.
+     */
+    private OptionsBenchmarks()
+    {
+    }
+
+
+    /**
+     * Obtains the {@link OptionsByType} {@link Benchmark}s.
+     *
+     * @return the {@link Benchmark}s
+     */
+    public static List<Benchmark> benchmarks()
+    {
+        Option[]      options       = options();
+        OptionsByType optionsByType = OptionsByType.of(options);
+
+        return Arrays.asList(Benchmark.of("optionsByType.of",
+                                          Benchmark.Mode.THROUGHPUT,
+                                          () -> OptionsByType.of(options).asArray().length),
+                             Benchmark.of("optionsByType.get",
+                                          Benchmark.Mode.THROUGHPUT,
+                                          () -> optionsByType.get(DisplayName.class).hashCode()),
+                             Benchmark.of("optionsByType.get.default",
+                                          Benchmark.Mode.THROUGHPUT,
+                                          () -> OptionsByType.empty().get(Orphanable.class).hashCode()),
+                             Benchmark.of("optionsByType.getOrSetDefault",
+                                          Benchmark.Mode.THROUGHPUT,
+                                          () -> OptionsByType.of(options)
+                                          .getOrSetDefault(ErrorStreamRedirection.class,
+                                                           ErrorStreamRedirection.disabled())
+                                          .hashCode()));
+    }
+
+
+    /**
+     * Obtains the {@link Option}s typical of launching an application.
+     *
+     * @return the {@link Option}s
+     */
+    static Option[] options()
+    {
+        return new Option[] {Executable.named("java"), DisplayName.of("server"), Argument.of("-version"),
+                             Argument.of("-Xmx256m"), WorkingDirectory.at("/tmp"), Orphanable.enabled(false)};
+    }
+}
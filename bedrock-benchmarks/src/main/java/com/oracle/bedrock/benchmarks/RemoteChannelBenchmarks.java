@@ -0,0 +1,269 @@
+/*
+ * File: RemoteChannelBenchmarks.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import com.oracle.bedrock.runtime.concurrent.AbstractRemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.PipeBasedRemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.socket.SocketBasedRemoteChannelClient;
+import com.oracle.bedrock.runtime.concurrent.socket.SocketBasedRemoteChannelServer;
+
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Benchmark}s for the round-trip latency and throughput of {@link RemoteChannel}s,
+ * both for in-process {@link PipeBasedRemoteChannel}s (as used by containerized applications)
+ * and for socket-based channels over the loopback interface (as used by local and remote applications).
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RemoteChannelBenchmarks
+{
+    /**
+     * The size of the pipes used by {@link PipeBasedRemoteChannel}s (the same as for containerized applications).
+     */
+    private static final int PIPE_SIZE = 64 * 1024;
+
+
+    /**
+     * Prevent instances of {@link RemoteChannelBenchmarks}.
+     */
+    private RemoteChannelBenchmarks()
+    {
+    }
+
+
+    /**
+     * Obtains the {@link RemoteChannel} {@link Benchmark}s.
+     *
+     * @return the {@link Benchmark}s
+     */
+    public static List<Benchmark> benchmarks()
+    {
+        return Arrays.asList(new PipeChannelBenchmark("remoteChannel.pipe.roundTrip", Benchmark.Mode.AVERAGE_TIME),
+                             new PipeChannelBenchmark("remoteChannel.pipe.throughput", Benchmark.Mode.THROUGHPUT),
+                             new SocketChannelBenchmark("remoteChannel.socket.roundTrip", Benchmark.Mode.AVERAGE_TIME),
+                             new SocketChannelBenchmark("remoteChannel.socket.throughput", Benchmark.Mode.THROUGHPUT));
+    }
+
+
+    /**
+     * A {@link Benchmark} submitting {@link Echo}s through a {@link RemoteChannel}.  Round-trips are
+     * measured by waiting for each response before submitting the next {@link Echo}, where as
+     * throughput is measured by submitting all of the {@link Echo}s before waiting for their responses.
+     */
+    abstract static class ChannelBenchmark extends Benchmark
+    {
+        /**
+         * The {@link RemoteChannel} to which {@link Echo}s are submitted.
+         */
+        protected AbstractRemoteChannel channel;
+
+
+        /**
+         * Constructs a {@link ChannelBenchmark}.
+         *
+         * @param name  the name of the {@link Benchmark}
+         * @param mode  the {@link Benchmark.Mode} of the {@link Benchmark}
+         */
+        ChannelBenchmark(String name,
+                         Mode   mode)
+        {
+            super(name, mode);
+        }
+
+
+        @Override
+        public long run(int operations) throws Exception
+        {
+            long result = 0;
+
+            if (getMode() == Mode.AVERAGE_TIME)
+            {
+                for (int i = 0; i < operations; i++)
+                {
+                    result += channel.submit(new Echo(i)).get();
+                }
+            }
+            else
+            {
+                List<CompletableFuture<Integer>> futures = new ArrayList<>(operations);
+
+                for (int i = 0; i < operations; i++)
+                {
+                    futures.add(channel.submit(new Echo(i)));
+                }
+
+                for (CompletableFuture<Integer> future : futures)
+                {
+                    result += future.get();
+                }
+            }
+
+            return result;
+        }
+    }
+
+
+    /**
+     * A {@link ChannelBenchmark} using a pair of connected {@link PipeBasedRemoteChannel}s.
+     */
+    static class PipeChannelBenchmark extends ChannelBenchmark
+    {
+        /**
+         * The {@link PipeBasedRemoteChannel} executing the submitted {@link Echo}s.
+         */
+        private PipeBasedRemoteChannel remote;
+
+
+        /**
+         * Constructs a {@link PipeChannelBenchmark}.
+         *
+         * @param name  the name of the {@link Benchmark}
+         * @param mode  the {@link Benchmark.Mode} of the {@link Benchmark}
+         */
+        PipeChannelBenchmark(String name,
+                             Mode   mode)
+        {
+            super(name, mode);
+        }
+
+
+        @Override
+        public void setUp() throws Exception
+        {
+            PipedInputStream  inboundInputStream   = new PipedInputStream(PIPE_SIZE);
+            PipedOutputStream inboundOutputStream  = new PipedOutputStream(inboundInputStream);
+            PipedInputStream  outboundInputStream  = new PipedInputStream(PIPE_SIZE);
+            PipedOutputStream outboundOutputStream = new PipedOutputStream(outboundInputStream);
+
+            PipeBasedRemoteChannel local = new PipeBasedRemoteChannel(outboundOutputStream, inboundInputStream);
+
+            remote = new PipeBasedRemoteChannel(inboundOutputStream, outboundInputStream);
+
+            local.open();
+            remote.open();
+
+            channel = local;
+        }
+
+
+        @Override
+        public void tearDown()
+        {
+            channel.close();
+            remote.close();
+        }
+    }
+
+
+    /**
+     * A {@link ChannelBenchmark} using a {@link SocketBasedRemoteChannelClient} connected to
+     * a {@link SocketBasedRemoteChannelServer} over the loopback interface.
+     */
+    static class SocketChannelBenchmark extends ChannelBenchmark
+    {
+        /**
+         * The {@link SocketBasedRemoteChannelServer} executing the submitted {@link Echo}s.
+         */
+        private SocketBasedRemoteChannelServer server;
+
+
+        /**
+         * Constructs a {@link SocketChannelBenchmark}.
+         *
+         * @param name  the name of the {@link Benchmark}
+         * @param mode  the {@link Benchmark.Mode} of the {@link Benchmark}
+         */
+        SocketChannelBenchmark(String name,
+                               Mode   mode)
+        {
+            super(name, mode);
+        }
+
+
+        @Override
+        public void setUp() throws Exception
+        {
+            server = new SocketBasedRemoteChannelServer("Benchmark");
+
+            InetAddress                    address = server.open();
+            SocketBasedRemoteChannelClient client  = new SocketBasedRemoteChannelClient(address,
+                                                                                          server.getPort(),
+                                                                                          null);
+
+            client.open();
+
+            channel = client;
+        }
+
+
+        @Override
+        public void tearDown()
+        {
+            channel.close();
+            server.close();
+        }
+    }
+
+
+    /**
+     * A {@link RemoteCallable} returning the value with which it was constructed.
+     */
+    public static class Echo implements RemoteCallable<Integer>
+    {
+        /**
+         * The value to return.
+         */
+        private final int value;
+
+
+        /**
+         * Constructs an {@link Echo}.
+         *
+         * @param value  the value to return
+         */
+        public Echo(int value)
+        {
+            this.value = value;
+        }
+
+
+        @Override
+        public Integer call()
+        {
+            return value;
+        }
+    }
+}
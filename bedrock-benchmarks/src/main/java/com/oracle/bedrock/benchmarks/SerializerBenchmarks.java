@@ -0,0 +1,275 @@
+/*
+ * File: SerializerBenchmarks.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import com.oracle.bedrock.runtime.concurrent.CompactRemoteChannelSerializer;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
+import com.oracle.bedrock.runtime.concurrent.RemoteEvent;
+import com.oracle.bedrock.runtime.concurrent.callable.GetSystemProperty;
+import com.oracle.bedrock.runtime.concurrent.callable.RemoteCallableStaticMethod;
+import com.oracle.bedrock.runtime.java.io.ClassLoaderAwareObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Benchmark}s for the cost of serializing and deserializing typical {@link RemoteChannel}
+ * requests, events and responses, using default Java serialization (as {@link RemoteChannel}s do when no
+ * {@link RemoteChannelSerializer} is configured) and the {@link CompactRemoteChannelSerializer}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class SerializerBenchmarks
+{
+    /**
+     * Prevent instances of {@link SerializerBenchmarks}.
+     */
+    private SerializerBenchmarks()
+    {
+    }
+
+
+    /**
+     * Obtains the serializer {@link Benchmark}s.
+     *
+     * @return the {@link Benchmark}s
+     */
+    public static List<Benchmark> benchmarks()
+    {
+        LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+
+        values.put("callable", new GetSystemProperty("java.home"));
+        values.put("static-method", new RemoteCallableStaticMethod<>("com.oracle.bedrock.Main",
+                                                                     "main",
+                                                                     Arrays.asList("--port", "9000", "--verbose")));
+        values.put("event", new TestEvent("testFinished", "com.oracle.bedrock.FooTest", 42));
+        values.put("string", "/usr/lib/jvm/java-17-openjdk-amd64");
+        values.put("integer", 42);
+
+        ArrayList<String> list = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++)
+        {
+            list.add("item-" + i);
+        }
+
+        values.put("list", list);
+
+        HashMap<String, Object> map = new HashMap<>();
+
+        map.put("pid", 1234L);
+        map.put("name", "server-1");
+        map.put("running", true);
+
+        values.put("map", map);
+
+        List<Benchmark> benchmarks = new ArrayList<>();
+
+        for (Map.Entry<String, Object> entry : values.entrySet())
+        {
+            benchmarks.add(new SerializerBenchmark("serializer.java." + entry.getKey(),
+                                                   new JavaSerializer(),
+                                                   entry.getValue()));
+            benchmarks.add(new SerializerBenchmark("serializer.compact." + entry.getKey(),
+                                                   new CompactRemoteChannelSerializer(),
+                                                   entry.getValue()));
+        }
+
+        return benchmarks;
+    }
+
+
+    /**
+     * A {@link Benchmark} measuring the round-trip (serialize then deserialize) of a value using
+     * {@link RemoteChannelSerializer}s established for a sending and a receiving channel.
+     */
+    static class SerializerBenchmark extends Benchmark
+    {
+        /**
+         * The {@link RemoteChannelSerializer}.
+         */
+        private final RemoteChannelSerializer serializer;
+
+        /**
+         * The value to serialize.
+         */
+        private final Object value;
+
+        /**
+         * The {@link RemoteChannelSerializer} of the sending channel.
+         */
+        private RemoteChannelSerializer sender;
+
+        /**
+         * The {@link RemoteChannelSerializer} of the receiving channel.
+         */
+        private RemoteChannelSerializer receiver;
+
+
+        /**
+         * Constructs a {@link SerializerBenchmark}.
+         *
+         * @param name        the name of the {@link Benchmark}
+         * @param serializer  the {@link RemoteChannelSerializer}
+         * @param value       the value to serialize
+         */
+        SerializerBenchmark(String                  name,
+                            RemoteChannelSerializer serializer,
+                            Object                  value)
+        {
+            super(name, Mode.THROUGHPUT);
+
+            this.serializer = serializer;
+            this.value      = value;
+        }
+
+
+        @Override
+        public void setUp()
+        {
+            ClassLoader classLoader = SerializerBenchmarks.class.getClassLoader();
+
+            sender   = serializer.forChannel(classLoader);
+            receiver = serializer.forChannel(classLoader);
+        }
+
+
+        @Override
+        public long run(int operations)
+        {
+            long result = 0;
+
+            for (int i = 0; i < operations; i++)
+            {
+                byte[] bytes = sender.serialize(value);
+                Object received = receiver.deserialize(bytes);
+
+                result += bytes.length + (received == null ? 0 : 1);
+            }
+
+            return result;
+        }
+    }
+
+
+    /**
+     * A {@link RemoteChannelSerializer} equivalent to the default serialization of values by
+     * {@link RemoteChannel}s (a new {@link ObjectOutputStream} for each value).
+     */
+    static class JavaSerializer implements RemoteChannelSerializer
+    {
+        @Override
+        public byte[] serialize(Object o)
+        {
+            try
+            {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+                ObjectOutputStream    stream = new ObjectOutputStream(buffer);
+
+                stream.writeObject(o);
+                stream.flush();
+
+                return buffer.toByteArray();
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T deserialize(byte[] bytes)
+        {
+            try (ObjectInputStream stream =
+                new ClassLoaderAwareObjectInputStream(SerializerBenchmarks.class.getClassLoader(),
+                                                      new ByteArrayInputStream(bytes)))
+            {
+                return (T) stream.readObject();
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+            catch (ClassNotFoundException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+
+    /**
+     * A {@link RemoteEvent} resembling those raised by test runners.
+     */
+    static class TestEvent implements RemoteEvent
+    {
+        /**
+         * The name of the event.
+         */
+        private final String name;
+
+        /**
+         * The name of the class raising the event.
+         */
+        private final String className;
+
+        /**
+         * The time of the event.
+         */
+        private final long time;
+
+
+        /**
+         * Constructs a {@link TestEvent}.
+         *
+         * @param name       the name of the event
+         * @param className  the name of the class raising the event
+         * @param time       the time of the event
+         */
+        TestEvent(String name,
+                  String className,
+                  long   time)
+        {
+            this.name      = name;
+            this.className = className;
+            this.time      = time;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * File: BenchmarkRunnerTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.benchmarks;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit Tests for the {@link BenchmarkRunner} and {@link BenchmarkResult}s.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class BenchmarkRunnerTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    /**
+     * Ensure that a {@link Benchmark} is set up, measured for each iteration and torn down.
+     */
+    @Test
+    public void shouldMeasureBenchmark() throws Exception
+    {
+        AtomicInteger setUps    = new AtomicInteger();
+        AtomicInteger tearDowns = new AtomicInteger();
+
+        Benchmark benchmark = new Benchmark("test", Benchmark.Mode.THROUGHPUT)
+        {
+            @Override
+            public void setUp()
+            {
+                setUps.incrementAndGet();
+            }
+
+
+            @Override
+            public long run(int operations)
+            {
+                return operations;
+            }
+
+
+            @Override
+            public void tearDown()
+            {
+                tearDowns.incrementAndGet();
+            }
+        };
+
+        BenchmarkResult result = new BenchmarkRunner(1, 3, 10, TimeUnit.MILLISECONDS).run(benchmark);
+
+        assertThat(setUps.get(), is(1));
+        assertThat(tearDowns.get(), is(1));
+        assertThat(result.getName(), is("test"));
+        assertThat(result.getScores().size(), is(3));
+        assertThat(result.getScore() > 0, is(true));
+        assertThat(result.getScoreError() >= 0, is(true));
+    }
+
+
+    /**
+     * Ensure that the score and error of a {@link BenchmarkResult} are the mean and the
+     * half-width of the 99.9% confidence interval of the scores.
+     */
+    @Test
+    public void shouldCalculateScoreAndError()
+    {
+        BenchmarkResult result = new BenchmarkResult("test", Benchmark.Mode.AVERAGE_TIME, 0, Arrays.asList(1.0, 3.0));
+
+        assertThat(result.getScore(), is(2.0));
+
+        // standard deviation of sqrt(2), over sqrt(2) samples, with the quantile for one degree of freedom
+        assertThat(Math.abs(result.getScoreError() - 636.619) < 0.001, is(true));
+        assertThat(Double.isNaN(new BenchmarkResult("test",
+                                                    Benchmark.Mode.AVERAGE_TIME,
+                                                    0,
+                                                    Collections.singletonList(1.0)).getScoreError()),
+                   is(true));
+    }
+
+
+    /**
+     * Ensure that {@link Benchmark}s are selected by (partially) matching their names.
+     */
+    @Test
+    public void shouldSelectBenchmarksByName()
+    {
+        List<Benchmark> benchmarks = Arrays.asList(Benchmark.of("remoteChannel.pipe",
+                                                                Benchmark.Mode.THROUGHPUT,
+                                                                () -> 1),
+                                                   Benchmark.of("optionsByType.get",
+                                                                Benchmark.Mode.THROUGHPUT,
+                                                                () -> 1));
+
+        List<Benchmark> selected = Benchmarks.select(benchmarks,
+                                                     Collections.singletonList(Pattern.compile("options")));
+
+        assertThat(selected.size(), is(1));
+        assertThat(selected.get(0).getName(), is("optionsByType.get"));
+        assertThat(Benchmarks.select(benchmarks, Collections.emptyList()).size(), is(2));
+    }
+
+
+    /**
+     * Ensure that {@link BenchmarkResult}s are written as a JSON array in the format produced by JMH.
+     */
+    @Test
+    public void shouldWriteResultsAsJson() throws Exception
+    {
+        Path file = temporaryFolder.getRoot().toPath().resolve("results").resolve("benchmarks.json");
+
+        Benchmarks.write(Arrays.asList(new BenchmarkResult("a \"quoted\" name",
+                                                           Benchmark.Mode.THROUGHPUT,
+                                                           2,
+                                                           Arrays.asList(10.0, 20.0)),
+                                       new BenchmarkResult("other",
+                                                           Benchmark.Mode.AVERAGE_TIME,
+                                                           2,
+                                                           Arrays.asList(5.0))),
+                         file);
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        assertThat(json.trim().startsWith("["), is(true));
+        assertThat(json.trim().endsWith("]"), is(true));
+        assertThat(json, containsString("\"benchmark\" : \"a \\\"quoted\\\" name\""));
+        assertThat(json, containsString("\"mode\" : \"thrpt\""));
+        assertThat(json, containsString("\"score\" : 15.000000"));
+        assertThat(json, containsString("\"scoreUnit\" : \"us/op\""));
+        assertThat(json, containsString("\"scoreError\" : \"NaN\""));
+        assertThat(json, containsString("\"rawData\" : [[10.000000, 20.000000]]"));
+    }
+}
@@ -38,6 +38,13 @@ import java.util.concurrent.ThreadFactory;
  */
 public class ThreadFactories
 {
+    /**
+     * The {@link ThreadFactory} producing virtual {@link Thread}s, or <code>null</code>
+     * when they aren't supported by the Java runtime.
+     */
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+
     /**
      * A {@link ThreadFactory} enabling choice of {@link Thread} types.
      *
@@ -59,4 +66,55 @@ public class ThreadFactories
             }
         };
     }
+
+
+    /**
+     * Determines if the Java runtime supports virtual {@link Thread}s.
+     *
+     * @return <code>true</code> when virtual {@link Thread}s are supported,
+     *         <code>false</code> otherwise
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+
+    /**
+     * A {@link ThreadFactory} producing virtual {@link Thread}s when the Java runtime
+     * supports them, otherwise producing daemon platform {@link Thread}s.
+     *
+     * @return an appropriate {@link ThreadFactory}
+     */
+    public static ThreadFactory usingVirtualThreads()
+    {
+        return VIRTUAL_THREAD_FACTORY == null ? usingDaemonThreads(true) : VIRTUAL_THREAD_FACTORY;
+    }
+
+
+    /**
+     * Reflectively creates a {@link ThreadFactory} for virtual {@link Thread}s, allowing
+     * them to be used without requiring a Java runtime that supports them.
+     *
+     * @return a {@link ThreadFactory} or <code>null</code> when virtual {@link Thread}s
+     *         aren't supported (or are a preview feature that hasn't been enabled)
+     */
+    private static ThreadFactory createVirtualThreadFactory()
+    {
+        try
+        {
+            Object        builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            ThreadFactory factory =
+                (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+
+            // ensure virtual threads can actually be created
+            factory.newThread(() -> {});
+
+            return factory;
+        }
+        catch (ReflectiveOperationException | RuntimeException | LinkageError e)
+        {
+            return null;
+        }
+    }
 }
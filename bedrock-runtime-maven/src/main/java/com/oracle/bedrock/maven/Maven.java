@@ -50,7 +50,6 @@ import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyFilter;
-import org.eclipse.aether.repository.LocalRepository;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactDescriptorResult;
 import org.eclipse.aether.resolution.ArtifactRequest;
@@ -75,6 +74,12 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -86,6 +91,12 @@ import java.util.logging.Logger;
  * {@link Maven} {@link Profile}s are {@link ComposableOption}s.  When multiple are provided
  * as a parameter, they will be composed in order of declaration into a single new instance.
  * <p>
+ * The {@link RepositorySystem}, the {@link RepositorySystemSession}s and the parsed settings are
+ * shared by all {@link Maven} profiles in a process, and the {@link ClassPath} resolved for a
+ * set of artifacts is reused by subsequent launches for as long as the resolved files remain
+ * unchanged in the local repository.  Defining the {@link #RESOLUTION_CACHE} property additionally
+ * persists resolutions of released artifacts (or of any artifacts when offline) across processes.
+ * <p>
  * Copyright (c) 2016. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -98,6 +109,29 @@ public class Maven implements Profile, ComposableOption<Maven>
      */
     private static final Logger LOGGER = Logger.getLogger(Maven.class.getName());
 
+    /**
+     * The Java System (String) Property that specifies the file in which resolved {@link ClassPath}s
+     * are persisted across processes (when not defined, resolutions are only cached in-process).
+     */
+    public static final String RESOLUTION_CACHE = "bedrock.maven.resolution.cache";
+
+    /**
+     * The {@link RepositorySystem} shared by all {@link Maven} profiles (lazily created).
+     */
+    private static RepositorySystem repositorySystem;
+
+    /**
+     * The {@link RepositorySystemSession}s shared by all {@link Maven} profiles,
+     * keyed by offline mode and local repository location.
+     */
+    private static final ConcurrentHashMap<String, RepositorySystemSession> SESSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The effective Maven {@link Settings}, keyed by the location and last modified time
+     * of the global and user settings files.
+     */
+    private static final ConcurrentHashMap<String, Settings> SETTINGS = new ConcurrentHashMap<>();
+
     /**
      * The {@link File} for the user settings (ie: settings.xml)
      * <p>
@@ -188,13 +222,28 @@ public class Maven implements Profile, ComposableOption<Maven>
 
     /**
      * Obtain the Maven {@link Settings} for this {@link Maven} profile
-     * given the specified {@link OptionsByType}.
+     * given the specified {@link OptionsByType}, reusing the previously parsed {@link Settings}
+     * while the settings files remain unchanged.
      *
      * @param optionsByType the launch {@link OptionsByType}
      *
-     * @return a new {@link Settings}
+     * @return the {@link Settings}
      */
     private Settings getSettings(OptionsByType optionsByType)
+    {
+        String key = globalSettingsFile + "@" + globalSettingsFile.lastModified() + "|" + userSettingsFile + "@"
+                     + userSettingsFile.lastModified();
+
+        return SETTINGS.computeIfAbsent(key, k -> newSettings());
+    }
+
+
+    /**
+     * Parses the Maven {@link Settings} for this {@link Maven} profile.
+     *
+     * @return a new {@link Settings}
+     */
+    private Settings newSettings()
     {
         SettingsBuilder                settingsBuilder = new DefaultSettingsBuilderFactory().newInstance();
 
@@ -224,12 +273,59 @@ public class Maven implements Profile, ComposableOption<Maven>
     }
 
 
+    /**
+     * Obtains the {@link RepositorySystem} shared for resolving {@link Artifact}s.
+     *
+     * @return the {@link RepositorySystem}
+     */
+    private static synchronized RepositorySystem getRepositorySystem()
+    {
+        if (repositorySystem == null)
+        {
+            repositorySystem = newRepositorySystem();
+        }
+
+        return repositorySystem;
+    }
+
+
+    /**
+     * Obtains the {@link RepositorySystemSession} shared for resolving {@link Artifact}s
+     * with the specified offline mode and local repository.
+     *
+     * @param system                  the {@link RepositorySystem}
+     * @param isOffline               should the session operate in offline mode
+     * @param localRepositoryLocation the location of the local repository
+     *
+     * @return the {@link RepositorySystemSession}
+     */
+    private static RepositorySystemSession getSession(RepositorySystem system,
+                                                      boolean          isOffline,
+                                                      File             localRepositoryLocation)
+    {
+        return SESSIONS.computeIfAbsent(isOffline + "|" + localRepositoryLocation.getAbsolutePath(),
+                                        key -> {
+                                            RepositorySystemSession.SessionBuilder sessionBuilder =
+                                                new SessionBuilderSupplier(system).get();
+
+                                            sessionBuilder.setOffline(isOffline);
+
+                                            sessionBuilder.setCache(new DefaultRepositoryCache());
+
+                                            sessionBuilder.withLocalRepositoryBaseDirectories(localRepositoryLocation
+                                                .toPath());
+
+                                            return sessionBuilder.build();
+                                        });
+    }
+
+
     /**
      * Obtains the {@link RepositorySystem} we'll use for resolving {@link Artifact}s.
      *
      * @return a new {@link RepositorySystem}.
      */
-    private RepositorySystem newRepositorySystem()
+    private static RepositorySystem newRepositorySystem()
     {
         return new RepositorySystemSupplier() {
             @Override
@@ -280,53 +376,245 @@ public class Maven implements Profile, ComposableOption<Maven>
             perform(
                 (system, session, repositories, scope) -> {
 
-                    // we only filter based on the scope
-                    DependencyFilter filter = DependencyFilterUtils.classpathFilter(scope);
+                    // resolve the class path of the artifacts (reusing a previous resolution when unchanged)
+                    ClassPath classPath =
+                        MavenResolutionCache.get().getClassPath(getResolutionKey(session, repositories, scope),
+                                                                isPersistable(session),
+                                                                () -> resolve(system, session, repositories, scope));
 
-                    // collect class paths for each resolved artifact
-                    LinkedHashSet<ClassPath> artifactPaths = new LinkedHashSet<>();
+                    // add the additional ClassPaths (when defined)
+                    classPath = additionalClassPath == null ? classPath : new ClassPath(classPath, additionalClassPath);
 
-                    for (Artifact artifact : artifacts.values())
-                    {
-                        ArtifactRequest artifactRequest = new ArtifactRequest();
-                        artifactRequest.setArtifact(artifact);
-                        artifactRequest.setRepositories(repositories);
+                    optionsByType.add(classPath);
+                },
+                optionsByType);
+        }
+        catch (RepositoryException e)
+        {
+            throw new RuntimeException("Failed to resolve artifact", e);
+        }
+    }
 
-                        ArtifactResult artifactResult = system.resolveArtifact(session, artifactRequest);
-                        Artifact actualArtifact = artifactResult.getArtifact();
-                        artifactPaths.add(ClassPath.ofPath(actualArtifact.getPath()));
 
-                        CollectRequest collectRequest = new CollectRequest();
+    /**
+     * Resolves the files of the {@link ClassPath} for the {@link Artifact}s of the {@link Maven} profile,
+     * in order of declaration, resolving independent {@link Artifact}s concurrently.
+     *
+     * @param system       the {@link RepositorySystem}
+     * @param session      the {@link RepositorySystemSession}
+     * @param repositories the {@link RemoteRepository}s
+     * @param scope        the Maven scope of the resolution
+     *
+     * @return the resolved files
+     *
+     * @throws RepositoryException when an exception occurs interacting with the repository
+     */
+    private List<File> resolve(RepositorySystem        system,
+                               RepositorySystemSession session,
+                               List<RemoteRepository>  repositories,
+                               String                  scope) throws RepositoryException
+    {
+        ArrayList<Artifact>   artifacts   = new ArrayList<>(this.artifacts.values());
+        ArrayList<List<File>> resolutions = new ArrayList<>(artifacts.size());
+        int                   parallelism = Math.min(artifacts.size(), Runtime.getRuntime().availableProcessors());
 
-                        collectRequest.setRoot(new Dependency(artifact, scope));
-                        collectRequest.setRepositories(repositories);
+        if (parallelism <= 1)
+        {
+            for (Artifact artifact : artifacts)
+            {
+                resolutions.add(resolve(system, session, repositories, scope, artifact));
+            }
+        }
+        else
+        {
+            AtomicInteger threadCount = new AtomicInteger(0);
 
-                        DependencyRequest dependencyRequest = new DependencyRequest(collectRequest, filter);
+            ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+                                                                           runnable -> {
+                                                                               Thread thread =
+                                                                                   new Thread(runnable,
+                                                                                              "Bedrock-Maven-Resolver-"
+                                                                                              + threadCount
+                                                                                                  .incrementAndGet());
 
-                        List<ArtifactResult> artifactResults = system.resolveDependencies(session,
-                                                                                          dependencyRequest)
-                                                                                          .getArtifactResults();
-                        //artifactPaths.add(ClassPath.ofPath(artifact.getPath()));
-                        for (ArtifactResult dependencyResult : artifactResults)
-                        {
-                            artifactPaths.add(ClassPath.ofPath(dependencyResult.getArtifact().getPath()));
-                        }
-                    }
+                                                                               thread.setDaemon(true);
 
-                    // define the ClassPath based on the artifact paths
-                    ClassPath classPath = new ClassPath(artifactPaths);
+                                                                               return thread;
+                                                                           });
 
-                    // add the additional ClassPaths (when defined)
-                    classPath = additionalClassPath == null ? classPath : new ClassPath(classPath, additionalClassPath);
+            try
+            {
+                ArrayList<Future<List<File>>> futures = new ArrayList<>(artifacts.size());
 
-                    optionsByType.add(classPath);
-                },
-                optionsByType);
+                for (Artifact artifact : artifacts)
+                {
+                    futures.add(executorService.submit(() -> resolve(system, session, repositories, scope, artifact)));
+                }
+
+                for (Future<List<File>> future : futures)
+                {
+                    resolutions.add(future.get());
+                }
+            }
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+
+                if (cause instanceof RepositoryException)
+                {
+                    throw (RepositoryException) cause;
+                }
+                else if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                else
+                {
+                    throw new RuntimeException("Failed to resolve artifact", cause);
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new RuntimeException("Interrupted while resolving artifacts", e);
+            }
+            finally
+            {
+                executorService.shutdownNow();
+            }
         }
-        catch (RepositoryException e)
+
+        // combine the files of each artifact, in order of declaration
+        LinkedHashSet<File> files = new LinkedHashSet<>();
+
+        for (List<File> resolution : resolutions)
         {
-            throw new RuntimeException("Failed to resolve artifact", e);
+            files.addAll(resolution);
+        }
+
+        return new ArrayList<>(files);
+    }
+
+
+    /**
+     * Resolves the files of an {@link Artifact} and its dependencies.
+     *
+     * @param system       the {@link RepositorySystem}
+     * @param session      the {@link RepositorySystemSession}
+     * @param repositories the {@link RemoteRepository}s
+     * @param scope        the Maven scope of the resolution
+     * @param artifact     the {@link Artifact}
+     *
+     * @return the resolved files
+     *
+     * @throws RepositoryException when an exception occurs interacting with the repository
+     */
+    private static List<File> resolve(RepositorySystem        system,
+                                      RepositorySystemSession session,
+                                      List<RemoteRepository>  repositories,
+                                      String                  scope,
+                                      Artifact                artifact) throws RepositoryException
+    {
+        // we only filter based on the scope
+        DependencyFilter filter = DependencyFilterUtils.classpathFilter(scope);
+
+        ArrayList<File>  files  = new ArrayList<>();
+
+        ArtifactRequest  artifactRequest = new ArtifactRequest();
+
+        artifactRequest.setArtifact(artifact);
+        artifactRequest.setRepositories(repositories);
+
+        ArtifactResult artifactResult = system.resolveArtifact(session, artifactRequest);
+
+        files.add(artifactResult.getArtifact().getPath().toFile());
+
+        CollectRequest collectRequest = new CollectRequest();
+
+        collectRequest.setRoot(new Dependency(artifact, scope));
+        collectRequest.setRepositories(repositories);
+
+        DependencyRequest    dependencyRequest = new DependencyRequest(collectRequest, filter);
+
+        List<ArtifactResult> artifactResults   = system.resolveDependencies(session,
+                                                                            dependencyRequest).getArtifactResults();
+
+        for (ArtifactResult dependencyResult : artifactResults)
+        {
+            files.add(dependencyResult.getArtifact().getPath().toFile());
         }
+
+        return files;
+    }
+
+
+    /**
+     * Obtains the key identifying a resolution of the {@link Artifact}s of the {@link Maven} profile,
+     * including everything that may influence the resolved {@link ClassPath}.
+     *
+     * @param session      the {@link RepositorySystemSession}
+     * @param repositories the {@link RemoteRepository}s
+     * @param scope        the Maven scope of the resolution
+     *
+     * @return the resolution key
+     */
+    private String getResolutionKey(RepositorySystemSession session,
+                                    List<RemoteRepository>  repositories,
+                                    String                  scope)
+    {
+        StringBuilder key = new StringBuilder();
+
+        key.append("scope=").append(scope);
+        key.append(";offline=").append(session.isOffline());
+        key.append(";settings=").append(globalSettingsFile).append(',').append(userSettingsFile);
+        key.append(";local=").append(session.getLocalRepository().getBasedir());
+        key.append(";repositories=");
+
+        for (RemoteRepository repository : repositories)
+        {
+            key.append(repository.getId()).append('=').append(repository.getUrl()).append(',');
+        }
+
+        key.append(";artifacts=");
+
+        for (Artifact artifact : artifacts.values())
+        {
+            key.append(artifact).append(',');
+        }
+
+        return key.toString();
+    }
+
+
+    /**
+     * Determines if a resolution of the {@link Artifact}s of the {@link Maven} profile may be persisted
+     * across processes, which is only the case when offline or when every {@link Artifact} is a released
+     * version (not a snapshot, range or meta-version that may resolve differently over time).
+     *
+     * @param session the {@link RepositorySystemSession}
+     *
+     * @return <code>true</code> if the resolution may be persisted
+     */
+    private boolean isPersistable(RepositorySystemSession session)
+    {
+        if (session.isOffline())
+        {
+            return true;
+        }
+
+        for (Artifact artifact : artifacts.values())
+        {
+            String version = artifact.getVersion();
+
+            if (artifact.isSnapshot() || version.startsWith("[") || version.startsWith("(")
+                || version.equals("LATEST") || version.equals("RELEASE"))
+            {
+                return false;
+            }
+        }
+
+        return true;
     }
 
 
@@ -770,28 +1058,16 @@ public class Maven implements Profile, ComposableOption<Maven>
         // acquire the Maven Settings for the profile
         Settings settings = getSettings(optionsByType);
 
-        // ----- establish the repository system using the settings -----
-        RepositorySystem system = newRepositorySystem();
-
-        // ----- establish the session for the repository system -----
-        RepositorySystemSession.SessionBuilder sessionBuilder = new SessionBuilderSupplier(system).get();
-
-        sessionBuilder.setOffline(isOffline == null ? false : isOffline);
+        // ----- obtain the shared repository system -----
+        RepositorySystem system = getRepositorySystem();
 
-        sessionBuilder.setCache(new DefaultRepositoryCache());
-
-        // define the local repository
+        // ----- obtain the shared session for the repository system -----
         File localRepositoryLocation = new File(System.getProperty("user.home") + separators.getFileSeparator() + ".m2"
                                                 + separators.getFileSeparator() + "repository");
 
-        LocalRepository localRepo = new LocalRepository(localRepositoryLocation);
-
-
-        sessionBuilder.withLocalRepositoryBaseDirectories(localRepositoryLocation.toPath());
-        RepositorySystemSession.CloseableSession session = sessionBuilder.build();
-
-
-        sessionBuilder.setLocalRepositoryManager(system.newLocalRepositoryManager(session, localRepo));
+        RepositorySystemSession session = getSession(system,
+                                                     isOffline == null ? false : isOffline,
+                                                     localRepositoryLocation);
 
         // ----- establish the remote repositories to use from the settings -----
 
@@ -0,0 +1,501 @@
+/*
+ * File: MavenResolutionCache.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.maven;
+
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.java.ClassPath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide (and optionally persistent) cache of the {@link ClassPath}s resolved by
+ * {@link Maven} profiles, keyed by everything that influences a resolution (the artifacts, scope,
+ * offline mode, local repository and remote repositories).
+ * <p>
+ * Each resolution records the size and last modified time of the files it resolved to, so that a
+ * cached {@link ClassPath} is only used while every file remains unchanged in the local repository.
+ * <p>
+ * When the {@link Maven#RESOLUTION_CACHE} property is defined, resolutions are also persisted to the
+ * specified file, allowing them to be reused by subsequent processes.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+class MavenResolutionCache
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MavenResolutionCache.class.getName());
+
+    /**
+     * The magic number identifying a persisted resolution cache.
+     */
+    private static final int MAGIC = 0xBEDC0DE5;
+
+    /**
+     * The version of the persisted resolution cache format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The process-wide {@link MavenResolutionCache}, lazily created.
+     */
+    private static volatile MavenResolutionCache instance;
+
+    /**
+     * The file in which resolutions are persisted (<code>null</code> when not persisted).
+     */
+    private final Path file;
+
+    /**
+     * The {@link Resolution}s, keyed by resolution key.
+     */
+    private final ConcurrentHashMap<String, Resolution> resolutions;
+
+    /**
+     * The locks used to ensure a resolution key is only resolved by one thread at a time.
+     */
+    private final ConcurrentHashMap<String, Object> locks;
+
+    /**
+     * The number of requests satisfied by the cache.
+     */
+    private final AtomicLong hitCount;
+
+    /**
+     * The number of requests that required a resolution.
+     */
+    private final AtomicLong missCount;
+
+    /**
+     * Has the persisted file been loaded?
+     */
+    private boolean loaded;
+
+
+    /**
+     * Constructs a {@link MavenResolutionCache}.
+     *
+     * @param file  the file in which to persist resolutions (<code>null</code> to not persist)
+     */
+    MavenResolutionCache(Path file)
+    {
+        this.file        = file;
+        this.resolutions = new ConcurrentHashMap<>();
+        this.locks       = new ConcurrentHashMap<>();
+        this.hitCount    = new AtomicLong();
+        this.missCount   = new AtomicLong();
+        this.loaded      = file == null;
+    }
+
+
+    /**
+     * Obtains the process-wide {@link MavenResolutionCache}.
+     *
+     * @return the {@link MavenResolutionCache}
+     */
+    static MavenResolutionCache get()
+    {
+        if (instance == null)
+        {
+            synchronized (MavenResolutionCache.class)
+            {
+                if (instance == null)
+                {
+                    String location = System.getProperty(Maven.RESOLUTION_CACHE);
+
+                    instance = new MavenResolutionCache(location == null
+                                                        || location.trim().isEmpty() ? null : Paths.get(location));
+                }
+            }
+        }
+
+        return instance;
+    }
+
+
+    /**
+     * Obtains the {@link ClassPath} for the specified resolution key, resolving it with the
+     * provided {@link Resolver} when it's not cached or any of its files has changed.
+     * <p>
+     * Concurrent requests for the same key are resolved only once.
+     *
+     * @param key         the resolution key
+     * @param persistable should a new resolution be persisted (when persistence is enabled)
+     * @param resolver    the {@link Resolver} to resolve the files of the {@link ClassPath}
+     *
+     * @return the {@link ClassPath}
+     *
+     * @throws E when the {@link Resolver} fails
+     */
+    <E extends Exception> ClassPath getClassPath(String      key,
+                                                 boolean     persistable,
+                                                 Resolver<E> resolver) throws E
+    {
+        load();
+
+        Resolution resolution = resolutions.get(key);
+
+        if (resolution != null && resolution.isValid())
+        {
+            hitCount.incrementAndGet();
+
+            return resolution.getClassPath();
+        }
+
+        synchronized (locks.computeIfAbsent(key, k -> new Object()))
+        {
+            resolution = resolutions.get(key);
+
+            if (resolution != null && resolution.isValid())
+            {
+                hitCount.incrementAndGet();
+
+                return resolution.getClassPath();
+            }
+
+            missCount.incrementAndGet();
+
+            resolution = new Resolution(resolver.resolve(), persistable);
+
+            resolutions.put(key, resolution);
+
+            if (persistable)
+            {
+                save();
+            }
+
+            return resolution.getClassPath();
+        }
+    }
+
+
+    /**
+     * Obtains the number of requests satisfied by the cache.
+     *
+     * @return the number of cache hits
+     */
+    long getHitCount()
+    {
+        return hitCount.get();
+    }
+
+
+    /**
+     * Obtains the number of requests that required a resolution.
+     *
+     * @return the number of cache misses
+     */
+    long getMissCount()
+    {
+        return missCount.get();
+    }
+
+
+    /**
+     * Loads the persisted resolutions (if any, and not already loaded).
+     */
+    private synchronized void load()
+    {
+        if (loaded)
+        {
+            return;
+        }
+
+        loaded = true;
+
+        if (!Files.isRegularFile(file))
+        {
+            return;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION)
+            {
+                return;
+            }
+
+            int count = input.readInt();
+
+            for (int i = 0; i < count; i++)
+            {
+                String key       = input.readUTF();
+                int    fileCount = input.readInt();
+                File[] files     = new File[fileCount];
+                long[] sizes     = new long[fileCount];
+                long[] times     = new long[fileCount];
+
+                for (int j = 0; j < fileCount; j++)
+                {
+                    files[j] = new File(input.readUTF());
+                    sizes[j] = input.readLong();
+                    times[j] = input.readLong();
+                }
+
+                resolutions.putIfAbsent(key, new Resolution(files, sizes, times, true));
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.FINE, "Failed to load the Maven resolution cache " + file, e);
+        }
+    }
+
+
+    /**
+     * Saves the persistable and valid resolutions to the file (when persistence is enabled).
+     * <p>
+     * The cache is written to a temporary file that then replaces the cache file, so that other
+     * processes never observe a partially written cache.
+     */
+    private synchronized void save()
+    {
+        if (file == null)
+        {
+            return;
+        }
+
+        HashMap<String, Resolution> snapshot = new HashMap<>();
+
+        resolutions.forEach((key, resolution) -> {
+                                if (resolution.persistable && resolution.isValid())
+                                {
+                                    snapshot.put(key, resolution);
+                                }
+                            });
+
+        Path temporary = null;
+
+        try
+        {
+            Path directory = file.toAbsolutePath().getParent();
+
+            if (directory != null)
+            {
+                Files.createDirectories(directory);
+            }
+
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream output =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary))))
+            {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(snapshot.size());
+
+                for (Map.Entry<String, Resolution> entry : snapshot.entrySet())
+                {
+                    Resolution resolution = entry.getValue();
+
+                    output.writeUTF(entry.getKey());
+                    output.writeInt(resolution.files.length);
+
+                    for (int i = 0; i < resolution.files.length; i++)
+                    {
+                        output.writeUTF(resolution.files[i].getPath());
+                        output.writeLong(resolution.sizes[i]);
+                        output.writeLong(resolution.times[i]);
+                    }
+                }
+            }
+
+            try
+            {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.FINE, "Failed to save the Maven resolution cache " + file, e);
+
+            if (temporary != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(temporary);
+                }
+                catch (IOException ignored)
+                {
+                    // deliberately empty as the temporary file will simply remain
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Resolves the files of a {@link ClassPath}, in order.
+     *
+     * @param <E>  the type of {@link Exception} thrown when resolution fails
+     */
+    @FunctionalInterface
+    interface Resolver<E extends Exception>
+    {
+        /**
+         * Resolves the files of a {@link ClassPath}.
+         *
+         * @return the resolved files, in {@link ClassPath} order
+         *
+         * @throws E when resolution fails
+         */
+        Collection<File> resolve() throws E;
+    }
+
+
+    /**
+     * The files resolved for a resolution key, together with their sizes and last modified times
+     * at the time of resolution.
+     */
+    private static class Resolution
+    {
+        /**
+         * The resolved files, in {@link ClassPath} order.
+         */
+        private final File[] files;
+
+        /**
+         * The sizes of the files when resolved.
+         */
+        private final long[] sizes;
+
+        /**
+         * The last modified times of the files when resolved.
+         */
+        private final long[] times;
+
+        /**
+         * Should the {@link Resolution} be persisted?
+         */
+        private final boolean persistable;
+
+
+        /**
+         * Constructs a {@link Resolution} for the specified files, as they currently are.
+         *
+         * @param files        the resolved files
+         * @param persistable  should the {@link Resolution} be persisted
+         */
+        private Resolution(Collection<File> files,
+                           boolean          persistable)
+        {
+            this.files       = new LinkedHashSet<>(files).toArray(new File[0]);
+            this.sizes       = new long[this.files.length];
+            this.times       = new long[this.files.length];
+            this.persistable = persistable;
+
+            for (int i = 0; i < this.files.length; i++)
+            {
+                sizes[i] = this.files[i].length();
+                times[i] = this.files[i].lastModified();
+            }
+        }
+
+
+        /**
+         * Constructs a {@link Resolution}.
+         *
+         * @param files        the resolved files
+         * @param sizes        the sizes of the files
+         * @param times        the last modified times of the files
+         * @param persistable  should the {@link Resolution} be persisted
+         */
+        private Resolution(File[]  files,
+                           long[]  sizes,
+                           long[]  times,
+                           boolean persistable)
+        {
+            this.files       = files;
+            this.sizes       = sizes;
+            this.times       = times;
+            this.persistable = persistable;
+        }
+
+
+        /**
+         * Determines if the resolved files are unchanged since they were resolved.
+         *
+         * @return <code>true</code> if every file exists with the same size and last modified time
+         */
+        private boolean isValid()
+        {
+            for (int i = 0; i < files.length; i++)
+            {
+                if (!files[i].exists() || files[i].length() != sizes[i] || files[i].lastModified() != times[i])
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+
+        /**
+         * Obtains the {@link ClassPath} of the resolved files.
+         *
+         * @return a new {@link ClassPath}
+         */
+        private ClassPath getClassPath()
+        {
+            List<ClassPath> classPaths = new ArrayList<>(files.length);
+
+            for (File file : files)
+            {
+                classPaths.add(ClassPath.ofPath(file.toPath()));
+            }
+
+            return new ClassPath(classPaths);
+        }
+    }
+}
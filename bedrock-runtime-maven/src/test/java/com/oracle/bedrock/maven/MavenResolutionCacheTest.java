@@ -0,0 +1,118 @@
+/*
+ * File: MavenResolutionCacheTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.maven;
+
+import com.oracle.bedrock.runtime.java.ClassPath;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Unit tests for the {@link MavenResolutionCache}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class MavenResolutionCacheTest
+{
+    /**
+     * A temporary folder for the resolved files.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    /**
+     * Ensure that a resolution is reused until one of its files changes.
+     */
+    @Test
+    public void shouldResolveAgainWhenResolvedFileChanges() throws IOException
+    {
+        File                 a           = temporaryFolder.newFile("a.jar");
+        File                 b           = temporaryFolder.newFile("b.jar");
+        AtomicInteger        resolutions = new AtomicInteger();
+        MavenResolutionCache cache       = new MavenResolutionCache(null);
+
+        MavenResolutionCache.Resolver<IOException> resolver = () -> {
+                                                                  resolutions.incrementAndGet();
+
+                                                                  return Arrays.asList(a, b);
+                                                              };
+
+        ClassPath classPath = cache.getClassPath("key", true, resolver);
+
+        assertThat(classPath.size(), is(2));
+        assertThat(cache.getClassPath("key", true, resolver), is(classPath));
+        assertThat(resolutions.get(), is(1));
+
+        Files.write(b.toPath(), new byte[] {1, 2, 3});
+
+        assertThat(cache.getClassPath("key", true, resolver), is(classPath));
+        assertThat(resolutions.get(), is(2));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(2L));
+    }
+
+
+    /**
+     * Ensure that persistable resolutions are reused by another cache using the same file.
+     */
+    @Test
+    public void shouldReusePersistedResolutions() throws IOException
+    {
+        File                 a     = temporaryFolder.newFile("a.jar");
+        File                 file  = new File(temporaryFolder.getRoot(), "resolutions.cache");
+        MavenResolutionCache cache = new MavenResolutionCache(file.toPath());
+
+        ClassPath            classPath = cache.getClassPath("released", true, () -> Arrays.asList(a));
+
+        cache.getClassPath("snapshot", false, () -> Arrays.asList(a));
+
+        assertThat(file.isFile(), is(true));
+
+        MavenResolutionCache other = new MavenResolutionCache(file.toPath());
+
+        assertThat(other.getClassPath("released",
+                                      true,
+                                      () -> {
+                                          throw new IllegalStateException("should not resolve");
+                                      }),
+                   is(classPath));
+
+        assertThat(other.getClassPath("snapshot", false, () -> Arrays.asList(a)), is(classPath));
+        assertThat(other.getHitCount(), is(1L));
+        assertThat(other.getMissCount(), is(1L));
+    }
+}
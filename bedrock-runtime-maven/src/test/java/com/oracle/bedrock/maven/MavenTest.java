@@ -161,4 +161,62 @@ public class MavenTest
         assertThat(classPath.toString(), not(containsString("hamcrest-core-1.3.jar")));
         assertThat(classPath.toString(), not(containsString("hamcrest-core-2.1.jar")));
     }
+
+
+    /**
+     * Ensure that {@link Maven} reuses the {@link ClassPath} resolved by a previous launch
+     * of the same artifacts.
+     */
+    @Test
+    public void shouldReuseResolvedClassPathForRepeatedLaunches()
+    {
+        LocalPlatform platform  = LocalPlatform.get();
+        MetaClass<?>  metaClass = new JavaApplication.MetaClass();
+
+        OptionsByType first     = OptionsByType.of(Maven.artifact("org.hamcrest:hamcrest-core:jar:2.2"));
+
+        first.get(Maven.class).onLaunching(platform, metaClass, first);
+
+        long          hits   = MavenResolutionCache.get().getHitCount();
+        long          misses = MavenResolutionCache.get().getMissCount();
+
+        OptionsByType second = OptionsByType.of(Maven.artifact("org.hamcrest:hamcrest-core:jar:2.2"));
+
+        second.get(Maven.class).onLaunching(platform, metaClass, second);
+
+        assertThat(MavenResolutionCache.get().getHitCount(), is(hits + 1));
+        assertThat(MavenResolutionCache.get().getMissCount(), is(misses));
+
+        assertThat(second.get(ClassPath.class), is(first.get(ClassPath.class)));
+    }
+
+
+    /**
+     * Ensure that {@link Maven} resolves multiple independent artifacts into a {@link ClassPath}
+     * ordered by declaration.
+     */
+    @Test
+    public void shouldResolveMultipleArtifactsInDeclarationOrder()
+    {
+        LocalPlatform platform      = LocalPlatform.get();
+        MetaClass<?>  metaClass     = new JavaApplication.MetaClass();
+        OptionsByType optionsByType = OptionsByType.empty();
+
+        optionsByType.addAll(Maven.artifact("junit:junit:jar:4.13.2"),
+                             Maven.artifact("org.hamcrest:hamcrest:jar:2.2"));
+
+        Maven maven = optionsByType.get(Maven.class);
+
+        maven.onLaunching(platform, metaClass, optionsByType);
+
+        ClassPath classPath = optionsByType.getOrDefault(ClassPath.class, null);
+
+        assertThat(classPath, is(not(nullValue())));
+        assertThat(classPath.size(), is(3));
+
+        String path = classPath.toString();
+
+        assertThat(path.indexOf("junit-4.13.2.jar") < path.indexOf("hamcrest-core-1.3.jar"), is(true));
+        assertThat(path.indexOf("hamcrest-core-1.3.jar") < path.indexOf("hamcrest-2.2.jar"), is(true));
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * File: ArtifactDigestsTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link ArtifactDigests}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ArtifactDigestsTest
+{
+    /**
+     * The SHA-256 digest of "hello".
+     */
+    private static final String HELLO = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    @Test
+    public void shouldDigestFileContent() throws Exception
+    {
+        File file = temporaryFolder.newFile("artifact.jar");
+
+        Files.write(file.toPath(), "hello".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(ArtifactDigests.of(file), is(HELLO));
+        assertThat(ArtifactDigests.ofString("hello"), is(HELLO));
+    }
+
+
+    @Test
+    public void shouldDigestChangedFileContent() throws Exception
+    {
+        File file = temporaryFolder.newFile("artifact.jar");
+
+        Files.write(file.toPath(), "hello".getBytes(StandardCharsets.UTF_8));
+
+        String digest = ArtifactDigests.of(file);
+
+        Files.write(file.toPath(), "hello world".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(ArtifactDigests.of(file), is(not(digest)));
+    }
+
+
+    @Test
+    public void shouldDigestDirectoryStructure() throws Exception
+    {
+        File directory = temporaryFolder.newFolder("classes");
+        File file      = new File(directory, "resource.txt");
+
+        Files.write(file.toPath(), "hello".getBytes(StandardCharsets.UTF_8));
+
+        String digest = ArtifactDigests.ofDirectory(directory);
+
+        assertThat(ArtifactDigests.ofDirectory(directory), is(digest));
+
+        Files.write(new File(directory, "other.txt").toPath(), "hello".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(ArtifactDigests.ofDirectory(directory), is(not(digest)));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * File: DeploymentArchiveTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote;
+
+import com.oracle.bedrock.runtime.options.PlatformSeparators;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for the {@link DeploymentArchive}, extracting archives using the local <code>tar</code>.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class DeploymentArchiveTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    @Test
+    public void shouldDetermineTargetFileNames() throws Exception
+    {
+        File               source     = createFile("a.jar", 10);
+        PlatformSeparators separators = PlatformSeparators.forUnix();
+
+        DeploymentArchive archive =
+            new DeploymentArchive(Arrays.asList(new DeploymentArtifact(source),
+                                                new DeploymentArtifact(source, new File("b.jar")),
+                                                new DeploymentArtifact(source, new File("/opt/lib/c.jar"))),
+                                  "app",
+                                  separators);
+
+        assertThat(archive.getTargetFileNames(), is(Arrays.asList("app/a.jar", "app/b.jar", "/opt/lib/c.jar")));
+    }
+
+
+    @Test
+    public void shouldExtractArtifacts() throws Exception
+    {
+        File   targetDir = temporaryFolder.newFolder();
+        Random random    = new Random();
+
+        DeploymentArtifact[] artifacts = new DeploymentArtifact[] {
+            new DeploymentArtifact(createFile("empty.jar", 0)),
+            new DeploymentArtifact(createFile("block.jar", 512)),
+            new DeploymentArtifact(createFile("large.jar", 200000 + random.nextInt(1000))),
+            new DeploymentArtifact(createFile("renamed.jar", 700), new File("lib/other.jar"))};
+
+        extract(new DeploymentArchive(Arrays.asList(artifacts), "app", PlatformSeparators.forUnix()), targetDir);
+
+        assertContent(new File(targetDir, "app/empty.jar"), artifacts[0].getSourceFile());
+        assertContent(new File(targetDir, "app/block.jar"), artifacts[1].getSourceFile());
+        assertContent(new File(targetDir, "app/large.jar"), artifacts[2].getSourceFile());
+        assertContent(new File(targetDir, "lib/other.jar"), artifacts[3].getSourceFile());
+    }
+
+
+    @Test
+    public void shouldExtractArtifactsWithLongPaths() throws Exception
+    {
+        File   targetDir = temporaryFolder.newFolder();
+        File   source    = createFile("long.jar", 1000);
+        String splitable = repeat("directory-", 12);
+        String extended  = repeat("a-very-long-directory-name/", 12);
+
+        DeploymentArchive archive =
+            new DeploymentArchive(Arrays.asList(new DeploymentArtifact(source,
+                                                                       new File(splitable + "/" + repeat("f", 90)
+                                                                                + ".jar")),
+                                                new DeploymentArtifact(source,
+                                                                       new File(extended + "extended.jar"))),
+                                  "app",
+                                  PlatformSeparators.forUnix());
+
+        extract(archive, targetDir);
+
+        assertContent(new File(targetDir, splitable + "/" + repeat("f", 90) + ".jar"), source);
+        assertContent(new File(targetDir, extended + "extended.jar"), source);
+    }
+
+
+    @Test
+    public void shouldPadArchiveToCompleteRecords() throws Exception
+    {
+        File                     source    = createFile("a.jar", 100);
+        List<DeploymentArtifact> artifacts = Collections.singletonList(new DeploymentArtifact(source));
+        DeploymentArchive        archive   = new DeploymentArchive(artifacts, "app", PlatformSeparators.forUnix());
+
+        // a header and content block followed by two end blocks, padded to a record of twenty blocks
+        assertThat(archive.writeTo(new ByteArrayOutputStream()), is(10240L));
+    }
+
+
+    /**
+     * Creates a file of random content in the temporary folder.
+     *
+     * @param name  the name of the file
+     * @param size  the size of the file
+     *
+     * @return the file
+     */
+    private File createFile(String name,
+                            int    size) throws Exception
+    {
+        byte[] content = new byte[size];
+
+        new Random().nextBytes(content);
+
+        File file = new File(temporaryFolder.newFolder(), name);
+
+        Files.write(file.toPath(), content);
+
+        return file;
+    }
+
+
+    /**
+     * Extracts a {@link DeploymentArchive} into a directory using the local <code>tar</code>.
+     *
+     * @param archive    the {@link DeploymentArchive}
+     * @param directory  the directory
+     */
+    private void extract(DeploymentArchive archive,
+                         File              directory) throws Exception
+    {
+        List<String> command = Arrays.asList(DeploymentArchive.EXTRACT_COMMAND.split(" "));
+        Process      process = new ProcessBuilder(command).directory(directory).redirectErrorStream(true).start();
+
+        try (OutputStream outputStream = process.getOutputStream())
+        {
+            archive.writeTo(outputStream);
+        }
+
+        String output = new String(process.getInputStream().readAllBytes());
+
+        assertThat("Failed to extract archive: " + output, process.waitFor(), is(0));
+    }
+
+
+    /**
+     * Asserts that an extracted file has the content of its source.
+     *
+     * @param file    the extracted file
+     * @param source  the source file
+     */
+    private static void assertContent(File file,
+                                      File source) throws Exception
+    {
+        assertThat(file + " should exist", file.isFile(), is(true));
+        assertArrayEquals(Files.readAllBytes(source.toPath()), Files.readAllBytes(file.toPath()));
+    }
+
+
+    /**
+     * Repeats a string.
+     *
+     * @param string  the string
+     * @param count   the number of times to repeat it
+     *
+     * @return the repeated string
+     */
+    private static String repeat(String string,
+                                 int    count)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < count; i++)
+        {
+            builder.append(string);
+        }
+
+        return builder.toString();
+    }
+}
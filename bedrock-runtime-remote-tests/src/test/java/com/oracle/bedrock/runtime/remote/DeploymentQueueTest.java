@@ -0,0 +1,159 @@
+/*
+ * File: DeploymentQueueTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link DeploymentQueue}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class DeploymentQueueTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    @Test
+    public void shouldPreserveOrderWhenSequential() throws Exception
+    {
+        DeploymentQueue queue = new DeploymentQueue(createArtifacts(10, 300, 20), 1);
+
+        assertThat(drain(queue), is(Arrays.asList(0, 1, 2)));
+    }
+
+
+    @Test
+    public void shouldOrderLargestFirstWhenConcurrent() throws Exception
+    {
+        DeploymentQueue queue = new DeploymentQueue(createArtifacts(10, 300, 20), 4);
+
+        assertThat(drain(queue), is(Arrays.asList(1, 2, 0)));
+    }
+
+
+    @Test
+    public void shouldTransferEachArtifactOnceAcrossWorkers() throws Exception
+    {
+        DeploymentQueue queue       = new DeploymentQueue(createArtifacts(1, 2, 3, 4, 5, 6, 7, 8), 3);
+        List<Integer>   transferred = Collections.synchronizedList(new ArrayList<>());
+
+        queue.execute("Test-Deployer",
+                      () -> {
+                          for (int i = queue.next(); i >= 0; i = queue.next())
+                          {
+                              transferred.add(i);
+                          }
+                      });
+
+        Collections.sort(transferred);
+
+        assertThat(transferred, is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7)));
+    }
+
+
+    @Test
+    public void shouldAbandonRemainingArtifactsWhenWorkerFails() throws Exception
+    {
+        DeploymentQueue queue = new DeploymentQueue(createArtifacts(1, 2, 3, 4, 5, 6, 7, 8), 2);
+        AtomicInteger   taken = new AtomicInteger();
+
+        try
+        {
+            queue.execute("Test-Deployer",
+                          () -> {
+                              for (int i = queue.next(); i >= 0; i = queue.next())
+                              {
+                                  taken.incrementAndGet();
+
+                                  throw new IOException("Failed to transfer " + i);
+                              }
+                          });
+
+            fail("Expected the failure to be thrown");
+        }
+        catch (IOException e)
+        {
+            // expected
+        }
+
+        assertThat(queue.next(), is(-1));
+        assertThat(taken.get() <= 2, is(true));
+    }
+
+
+    /**
+     * Drains the indexes of the {@link DeploymentQueue}.
+     */
+    private List<Integer> drain(DeploymentQueue queue)
+    {
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = queue.next(); i >= 0; i = queue.next())
+        {
+            indexes.add(i);
+        }
+
+        return indexes;
+    }
+
+
+    /**
+     * Creates {@link DeploymentArtifact}s of the specified sizes.
+     */
+    private List<DeploymentArtifact> createArtifacts(int... sizes) throws IOException
+    {
+        List<DeploymentArtifact> artifacts = new ArrayList<>();
+
+        for (int size : sizes)
+        {
+            File file = temporaryFolder.newFile();
+
+            Files.write(file.toPath(), new byte[size]);
+
+            artifacts.add(new DeploymentArtifact(file));
+        }
+
+        return artifacts;
+    }
+}
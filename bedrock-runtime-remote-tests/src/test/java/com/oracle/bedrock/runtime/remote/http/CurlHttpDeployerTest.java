@@ -37,12 +37,14 @@ import com.oracle.bedrock.runtime.remote.DeploymentArtifact;
 import com.oracle.bedrock.runtime.remote.RemotePlatform;
 import com.oracle.bedrock.runtime.remote.java.applications.SleepingApplication;
 import com.oracle.bedrock.runtime.remote.options.Deployer;
+import com.oracle.bedrock.runtime.remote.options.DeploymentCache;
 import org.junit.Assume;
 import org.junit.Test;
 
 import java.io.File;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -239,6 +241,41 @@ public class CurlHttpDeployerTest extends AbstractHttpDeployerTest
     }
 
 
+    @Test
+    public void shouldRunCurlUsingDeploymentCache() throws Exception
+    {
+        String curl = findCurl();
+
+        Assume.assumeThat("Test ignored as curl does not exist", curl, is(notNullValue()));
+
+        File                     cacheDir          = temporaryFolder.newFolder();
+        File                     firstDir          = temporaryFolder.newFolder();
+        File                     secondDir         = temporaryFolder.newFolder();
+        List<DeploymentArtifact> artifactsToDeploy = createArtifactList(2);
+        DeploymentCache          cache             = DeploymentCache.at(cacheDir.getCanonicalPath());
+
+        CurlHttpDeployer         deploymentMethod  = new CurlHttpDeployer(curl);
+
+        deploymentMethod.deploy(artifactsToDeploy, firstDir.getCanonicalPath(), LocalPlatform.get(), cache);
+        deploymentMethod.deploy(artifactsToDeploy, secondDir.getCanonicalPath(), LocalPlatform.get(), cache);
+
+        assertThat(cacheDir.listFiles().length, is(artifactsToDeploy.size()));
+
+        for (DeploymentArtifact artifact : artifactsToDeploy)
+        {
+            File source = artifact.getSourceFile();
+            File first  = new File(firstDir, source.getName());
+            File second = new File(secondDir, source.getName());
+
+            assertThat(getMD5(first), is(getMD5(source)));
+            assertThat(getMD5(second), is(getMD5(source)));
+
+            // both deployments are linked to the same cached artifact
+            assertThat(Files.isSameFile(first.toPath(), second.toPath()), is(true));
+        }
+    }
+
+
     @Test
     public void shouldRunApplicationUsingDeployer() throws Exception
     {
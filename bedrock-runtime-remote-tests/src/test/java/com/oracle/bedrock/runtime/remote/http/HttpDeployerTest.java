@@ -28,6 +28,10 @@ package com.oracle.bedrock.runtime.remote.http;
 import com.oracle.bedrock.runtime.LocalPlatform;
 import com.oracle.bedrock.runtime.Platform;
 import com.oracle.bedrock.runtime.remote.DeploymentArtifact;
+import com.oracle.bedrock.runtime.remote.DeployedArtifacts;
+import com.oracle.bedrock.runtime.remote.options.ArchiveDeployment;
+import com.oracle.bedrock.runtime.remote.options.DeploymentCache;
+import com.oracle.bedrock.runtime.remote.options.DeploymentParallelism;
 
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
@@ -53,9 +57,17 @@ import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
 
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Functional tests for {@link HttpDeployer}.
@@ -139,6 +151,262 @@ public class HttpDeployerTest extends AbstractHttpDeployerTest
         }
     }
 
+    @Test
+    public void shouldDeployArtifactsConcurrently() throws Exception
+    {
+        final File                     tempDir           = temporaryFolder.newFolder();
+        final List<File>               artifactsDeployed = Collections.synchronizedList(new ArrayList<>());
+        final List<DeploymentArtifact> artifactsToDeploy = createArtifactList(6);
+        final CountDownLatch           concurrent        = new CountDownLatch(3);
+        final Set<String>              threads           = ConcurrentHashMap.newKeySet();
+
+        HttpDeployer http = new HttpDeployer()
+        {
+            @Override
+            protected void deployArtifact(URL sourceURL, String targetFileName, Platform platform)
+            {
+                threads.add(Thread.currentThread().getName());
+
+                // wait for the first three downloads to be in progress at the same time
+                concurrent.countDown();
+
+                try
+                {
+                    concurrent.await(30, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                pullArtifacts(sourceURL, targetFileName, artifactsDeployed);
+            }
+        };
+
+        DeployedArtifacts deployed = http.deploy(artifactsToDeploy,
+                                                 tempDir.getCanonicalPath(),
+                                                 LocalPlatform.get(),
+                                                 DeploymentParallelism.of(3));
+
+        assertThat(concurrent.getCount(), is(0L));
+        assertThat(threads.size(), is(3));
+        assertThat(artifactsDeployed.size(), is(artifactsToDeploy.size()));
+
+        // the deployed artifacts are reported in the order they were specified
+        int i = 0;
+
+        for (File file : deployed)
+        {
+            File source = artifactsToDeploy.get(i++).getSourceFile();
+
+            assertThat(file.getName(), is(source.getName()));
+            assertThat("MD5 mismatch for " + source, getMD5(file), is(getMD5(source)));
+        }
+
+        assertThat(i, is(artifactsToDeploy.size()));
+    }
+
+    @Test
+    public void shouldDeployArtifactsAsSingleArchive() throws Exception
+    {
+        final File                     tempDir           = temporaryFolder.newFolder();
+        final List<URL>                archivesDeployed  = new ArrayList<>();
+        final List<DeploymentArtifact> artifactsToDeploy = createArtifactList(5);
+
+        HttpDeployer http = new HttpDeployer()
+        {
+            @Override
+            protected void deployArtifact(URL sourceURL, String targetFileName, Platform platform)
+            {
+                fail("Artifacts should not be deployed individually");
+            }
+
+            @Override
+            protected boolean deployArchive(URL sourceURL, Platform platform)
+            {
+                archivesDeployed.add(sourceURL);
+
+                extractArchive(sourceURL);
+
+                return true;
+            }
+        };
+
+        DeployedArtifacts deployed = http.deploy(artifactsToDeploy,
+                                                 tempDir.getCanonicalPath(),
+                                                 LocalPlatform.get(),
+                                                 ArchiveDeployment.enabled());
+
+        assertThat(archivesDeployed.size(), is(1));
+
+        int i = 0;
+
+        for (File file : deployed)
+        {
+            File source = artifactsToDeploy.get(i++).getSourceFile();
+
+            assertThat(file, is(new File(tempDir.getCanonicalPath(), source.getName())));
+            assertThat("MD5 mismatch for " + source, getMD5(file), is(getMD5(source)));
+        }
+
+        assertThat(i, is(artifactsToDeploy.size()));
+    }
+
+    @Test
+    public void shouldDeployArtifactsIndividuallyWhenArchivesAreNotSupported() throws Exception
+    {
+        final File                     tempDir           = temporaryFolder.newFolder();
+        final List<File>               artifactsDeployed = new ArrayList<>();
+        final List<DeploymentArtifact> artifactsToDeploy = createArtifactList(3);
+
+        HttpDeployer http = new HttpDeployer()
+        {
+            @Override
+            protected void deployArtifact(URL sourceURL, String targetFileName, Platform platform)
+            {
+                pullArtifacts(sourceURL, targetFileName, artifactsDeployed);
+            }
+        };
+
+        DeployedArtifacts deployed = http.deploy(artifactsToDeploy,
+                                                 tempDir.getCanonicalPath(),
+                                                 LocalPlatform.get(),
+                                                 ArchiveDeployment.enabled());
+
+        assertThat(artifactsDeployed.size(), is(artifactsToDeploy.size()));
+        assertThat(deployed.size(), is(artifactsToDeploy.size()));
+
+        for (DeploymentArtifact artifact : artifactsToDeploy)
+        {
+            File source = artifact.getSourceFile();
+
+            assertThat(getMD5(new File(tempDir, source.getName())), is(getMD5(source)));
+        }
+    }
+
+    @Test
+    public void shouldOnlyDeployArtifactsMissingFromDeploymentCache() throws Exception
+    {
+        final File                     cacheDir          = temporaryFolder.newFolder();
+        final File                     firstDir          = temporaryFolder.newFolder();
+        final File                     secondDir         = temporaryFolder.newFolder();
+        final List<File>               artifactsDeployed = new ArrayList<>();
+        final List<DeploymentArtifact> artifactsToDeploy = createArtifactList(3);
+        final DeploymentCache          cache             = DeploymentCache.at(cacheDir.getCanonicalPath());
+
+        HttpDeployer http = new HttpDeployer()
+        {
+            @Override
+            protected void deployArtifact(URL sourceURL, String targetFileName, Platform platform)
+            {
+                pullArtifacts(sourceURL, targetFileName, artifactsDeployed);
+            }
+        };
+
+        http.deploy(artifactsToDeploy, firstDir.getCanonicalPath(), LocalPlatform.get(), cache);
+
+        int transferred = artifactsDeployed.size();
+
+        assertThat(transferred > 0, is(true));
+
+        http.deploy(artifactsToDeploy, secondDir.getCanonicalPath(), LocalPlatform.get(), cache);
+
+        // the second deployment is satisfied by the cache
+        assertThat(artifactsDeployed.size(), is(transferred));
+
+        for (DeploymentArtifact artifact : artifactsToDeploy)
+        {
+            File source = artifact.getSourceFile();
+
+            assertThat(getMD5(new File(firstDir, source.getName())), is(getMD5(source)));
+            assertThat(getMD5(new File(secondDir, source.getName())), is(getMD5(source)));
+        }
+    }
+
+    @Test
+    public void shouldNotLinkCachedArtifactsWritableByOthers() throws Exception
+    {
+        final File                     cacheDir          = temporaryFolder.newFolder();
+        final File                     firstDir          = temporaryFolder.newFolder();
+        final File                     secondDir         = temporaryFolder.newFolder();
+        final List<File>               artifactsDeployed = new ArrayList<>();
+        final List<DeploymentArtifact> artifactsToDeploy = createArtifactList(3);
+        final DeploymentCache          cache             = DeploymentCache.at(cacheDir.getCanonicalPath());
+
+        HttpDeployer http = new HttpDeployer()
+        {
+            @Override
+            protected void deployArtifact(URL sourceURL, String targetFileName, Platform platform)
+            {
+                pullArtifacts(sourceURL, targetFileName, artifactsDeployed);
+            }
+        };
+
+        http.deploy(artifactsToDeploy, firstDir.getCanonicalPath(), LocalPlatform.get(), cache);
+
+        int transferred = artifactsDeployed.size();
+
+        // allow other users to tamper with the cached artifacts
+        for (File cached : cacheDir.listFiles())
+        {
+            Files.setPosixFilePermissions(cached.toPath(), PosixFilePermissions.fromString("rw-rw-rw-"));
+        }
+
+        http.deploy(artifactsToDeploy, secondDir.getCanonicalPath(), LocalPlatform.get(), cache);
+
+        // the second deployment bypasses the untrusted cache
+        assertThat(artifactsDeployed.size(), is(transferred * 2));
+
+        for (DeploymentArtifact artifact : artifactsToDeploy)
+        {
+            File source   = artifact.getSourceFile();
+            File deployed = new File(secondDir, source.getName());
+
+            assertThat(Files.isSymbolicLink(deployed.toPath()), is(false));
+            assertThat(getMD5(deployed), is(getMD5(source)));
+
+            for (File cached : cacheDir.listFiles())
+            {
+                assertThat(Files.isSameFile(cached.toPath(), deployed.toPath()), is(false));
+            }
+        }
+    }
+
+    /**
+     * Download an archive from the HTTP server at the specified address,
+     * piping it into a local tar process to extract it.
+     *
+     * @param sourceURL  the URL to download the archive from
+     */
+    public void extractArchive(URL sourceURL)
+    {
+        try
+        {
+            HttpURLConnection urlConnection = (HttpURLConnection) sourceURL.openConnection();
+
+            assertThat("Expected response code 200 for archive " + sourceURL.toExternalForm(),
+                       urlConnection.getResponseCode(),
+                       is(200));
+
+            Process process = new ProcessBuilder("tar", "-xzPf", "-").redirectErrorStream(true).start();
+
+            try (InputStream data = urlConnection.getInputStream();
+                OutputStream os = process.getOutputStream())
+            {
+                data.transferTo(os);
+            }
+
+            String output = new String(process.getInputStream().readAllBytes());
+
+            assertThat("Failed to extract archive: " + output, process.waitFor(), is(0));
+        }
+        catch (IOException | InterruptedException e)
+        {
+            fail("Error extracting " + sourceURL.toExternalForm() + " " + e.getMessage());
+        }
+    }
+
+
     /**
      * Get the specified list of artifacts from the HTTP server
      * at the specified address.
@@ -27,9 +27,16 @@ package com.oracle.bedrock.runtime.remote.java.options;
 
 import com.oracle.bedrock.OptionsByType;
 import com.oracle.bedrock.runtime.remote.options.Deployment;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -37,6 +44,10 @@ import static org.junit.Assert.assertThat;
  */
 public class JavaDeploymentTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
     @Test
     public void shouldWorkAsAnOption() throws Exception
     {
@@ -45,4 +56,33 @@ public class JavaDeploymentTest
 
         assertThat(optionsByType.get(Deployment.class), is(deployment));
     }
+
+
+    @Test
+    public void shouldReuseDirectoryArchiveWhileDirectoryIsUnchanged() throws Exception
+    {
+        File directory = temporaryFolder.newFolder("classes");
+        File file      = new File(directory, "resource.txt");
+
+        Files.write(file.toPath(), "hello".getBytes(StandardCharsets.UTF_8));
+
+        File archive = JavaDeployment.getDirectoryArchive(directory);
+
+        assertThat(archive.isFile(), is(true));
+
+        long lastModified = archive.lastModified();
+
+        assertThat(JavaDeployment.getDirectoryArchive(directory), is(archive));
+        assertThat(archive.lastModified(), is(lastModified));
+
+        Files.write(file.toPath(), "hello world".getBytes(StandardCharsets.UTF_8));
+
+        File changed = JavaDeployment.getDirectoryArchive(directory);
+
+        assertThat(changed, is(not(archive)));
+        assertThat(changed.isFile(), is(true));
+        assertThat(archive.exists(), is(false));
+
+        changed.delete();
+    }
 }
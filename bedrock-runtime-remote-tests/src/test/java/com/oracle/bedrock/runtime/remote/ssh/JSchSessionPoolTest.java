@@ -0,0 +1,220 @@
+/*
+ * File: JSchSessionPoolTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote.ssh;
+
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.remote.options.SessionPooling;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link JSchSessionPool}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class JSchSessionPoolTest
+{
+    @Test
+    public void shouldMultiplexChannelsOverPooledSessions() throws Exception
+    {
+        JSch                    jSch    = mock(JSch.class);
+        JSchBasedAuthentication auth    = mock(JSchBasedAuthentication.class);
+        Session                 first   = connectedSession();
+        Session                 second  = connectedSession();
+        SessionPooling          pooling = SessionPooling.enabled(2, 1, TimeUnit.MINUTES);
+        JSchSessionPool         pool    = new JSchSessionPool();
+        JSchSessionFactory      factory = new JSchSessionFactory(jSch);
+
+        when(jSch.getSession("Larry", "test.oracle.com", 22)).thenReturn(first, second);
+
+        Session a = acquire(pool, factory, auth, pooling);
+        Session b = acquire(pool, factory, auth, pooling);
+        Session c = acquire(pool, factory, auth, pooling);
+
+        assertThat(a, is(sameInstance(first)));
+        assertThat(b, is(sameInstance(first)));
+        assertThat(c, is(sameInstance(second)));
+        assertThat(pool.size(), is(2));
+
+        verify(jSch, times(2)).getSession("Larry", "test.oracle.com", 22);
+        verify(first).connect();
+        verify(second).connect();
+        verify(first).setServerAliveInterval((int) SessionPooling.DEFAULT_KEEP_ALIVE_INTERVAL_MS);
+    }
+
+
+    @Test
+    public void shouldReuseReleasedSession() throws Exception
+    {
+        JSch                    jSch    = mock(JSch.class);
+        JSchBasedAuthentication auth    = mock(JSchBasedAuthentication.class);
+        Session                 session = connectedSession();
+        SessionPooling          pooling = SessionPooling.enabled();
+        JSchSessionPool         pool    = new JSchSessionPool();
+        JSchSessionFactory      factory = new JSchSessionFactory(jSch);
+
+        when(jSch.getSession("Larry", "test.oracle.com", 22)).thenReturn(session);
+
+        Session a = acquire(pool, factory, auth, pooling);
+
+        assertThat(pool.release(a), is(true));
+
+        Session b = acquire(pool, factory, auth, pooling);
+
+        assertThat(b, is(sameInstance(a)));
+
+        verify(jSch, times(1)).getSession("Larry", "test.oracle.com", 22);
+        verify(session, never()).disconnect();
+    }
+
+
+    @Test
+    public void shouldReplaceDisconnectedSession() throws Exception
+    {
+        JSch                    jSch    = mock(JSch.class);
+        JSchBasedAuthentication auth    = mock(JSchBasedAuthentication.class);
+        Session                 first   = connectedSession();
+        Session                 second  = connectedSession();
+        SessionPooling          pooling = SessionPooling.enabled();
+        JSchSessionPool         pool    = new JSchSessionPool();
+        JSchSessionFactory      factory = new JSchSessionFactory(jSch);
+
+        when(jSch.getSession("Larry", "test.oracle.com", 22)).thenReturn(first, second);
+
+        Session a = acquire(pool, factory, auth, pooling);
+
+        pool.release(a);
+
+        when(first.isConnected()).thenReturn(false);
+
+        Session b = acquire(pool, factory, auth, pooling);
+
+        assertThat(b, is(not(sameInstance(a))));
+        assertThat(pool.size(), is(1));
+
+        verify(first).disconnect();
+    }
+
+
+    @Test
+    public void shouldEvictIdleSessions() throws Exception
+    {
+        JSch                    jSch    = mock(JSch.class);
+        JSchBasedAuthentication auth    = mock(JSchBasedAuthentication.class);
+        Session                 session = connectedSession();
+        SessionPooling          pooling = SessionPooling.enabled(1, 0, TimeUnit.MILLISECONDS);
+        JSchSessionPool         pool    = new JSchSessionPool();
+        JSchSessionFactory      factory = new JSchSessionFactory(jSch);
+
+        when(jSch.getSession("Larry", "test.oracle.com", 22)).thenReturn(session);
+
+        Session a = acquire(pool, factory, auth, pooling);
+
+        // sessions in use are never evicted
+        pool.evict();
+
+        assertThat(pool.size(), is(1));
+        verify(session, never()).disconnect();
+
+        pool.release(a);
+        pool.evict();
+
+        assertThat(pool.size(), is(0));
+        verify(session).disconnect();
+    }
+
+
+    @Test
+    public void shouldNotPoolSessionsByDefault() throws Exception
+    {
+        JSch                    jSch    = mock(JSch.class);
+        JSchBasedAuthentication auth    = mock(JSchBasedAuthentication.class);
+        Session                 session = connectedSession();
+        JSchSessionFactory      factory = new JSchSessionFactory(jSch);
+
+        when(jSch.getSession("Larry", "test.oracle.com", 22)).thenReturn(session);
+
+        Session result = factory.acquireSession("test.oracle.com",
+                                                22,
+                                                "Larry",
+                                                auth,
+                                                new JSchSocketFactory(),
+                                                OptionsByType.empty());
+
+        assertThat(result, is(sameInstance(session)));
+        assertThat(JSchSessionPool.get().release(result), is(false));
+
+        JSchSessionFactory.releaseSession(result);
+
+        verify(session).disconnect();
+    }
+
+
+    /**
+     * Acquires a {@link Session} from the {@link JSchSessionPool} for a test host.
+     */
+    private Session acquire(JSchSessionPool         pool,
+                            JSchSessionFactory      factory,
+                            JSchBasedAuthentication auth,
+                            SessionPooling          pooling) throws Exception
+    {
+        return pool.acquire(factory,
+                            "test.oracle.com",
+                            22,
+                            "Larry",
+                            auth,
+                            new JSchSocketFactory(),
+                            OptionsByType.empty(),
+                            pooling);
+    }
+
+
+    /**
+     * Creates a mock {@link Session} that is connected.
+     */
+    private Session connectedSession()
+    {
+        Session session = mock(Session.class);
+
+        when(session.isConnected()).thenReturn(true);
+
+        return session;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * File: ArtifactDigests.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote;
+
+import com.oracle.bedrock.annotations.Internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Provides content digests (SHA-256) of {@link DeploymentArtifact}s, used to address artifacts
+ * in remote deployment caches.
+ * <p>
+ * The digest of a file is cached by its fingerprint (canonical path, size and last modified time),
+ * so the content of an unchanged file is hashed once per process, no matter how many times it's deployed.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class ArtifactDigests
+{
+    /**
+     * The size of the buffer used to read files.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The digests of files, by fingerprint.
+     */
+    private static final ConcurrentHashMap<String, String> DIGESTS = new ConcurrentHashMap<>();
+
+
+    /**
+     * Prevent instances of {@link ArtifactDigests}.
+     */
+    private ArtifactDigests()
+    {
+    }
+
+
+    /**
+     * Obtains the digest of the content of the specified file.
+     *
+     * @param file  the file
+     *
+     * @return the hexadecimal SHA-256 digest of the file
+     *
+     * @throws IOException  when the file can't be read
+     */
+    public static String of(File file) throws IOException
+    {
+        String fingerprint = file.getCanonicalPath() + '|' + file.length() + '|' + file.lastModified();
+        String digest      = DIGESTS.get(fingerprint);
+
+        if (digest == null)
+        {
+            MessageDigest messageDigest = newMessageDigest();
+            byte[]        buffer        = new byte[BUFFER_SIZE];
+
+            try (InputStream stream = Files.newInputStream(file.toPath()))
+            {
+                int read;
+
+                while ((read = stream.read(buffer)) > 0)
+                {
+                    messageDigest.update(buffer, 0, read);
+                }
+            }
+
+            digest = toHex(messageDigest.digest());
+
+            DIGESTS.put(fingerprint, digest);
+        }
+
+        return digest;
+    }
+
+
+    /**
+     * Obtains a digest of the structure of the specified directory, being the relative paths,
+     * sizes and last modified times of the files it contains.  The content of the files isn't read,
+     * so the digest changes whenever a file is added, removed or modified.
+     *
+     * @param directory  the directory
+     *
+     * @return the hexadecimal SHA-256 digest of the directory
+     *
+     * @throws IOException  when the directory can't be read
+     */
+    public static String ofDirectory(File directory) throws IOException
+    {
+        Path          root          = directory.toPath();
+        MessageDigest messageDigest = newMessageDigest();
+        List<Path>    paths;
+
+        try (Stream<Path> stream = Files.walk(root))
+        {
+            paths = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+
+        for (Path path : paths)
+        {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            String              entry      = root.relativize(path).toString().replace(File.separatorChar, '/')
+                                             + '|' + attributes.size() + '|'
+                                             + attributes.lastModifiedTime().toMillis() + '\n';
+
+            messageDigest.update(entry.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return toHex(messageDigest.digest());
+    }
+
+
+    /**
+     * Obtains the digest of the specified string.
+     *
+     * @param string  the string
+     *
+     * @return the hexadecimal SHA-256 digest of the string (encoded as UTF-8)
+     */
+    public static String ofString(String string)
+    {
+        return toHex(newMessageDigest().digest(string.getBytes(StandardCharsets.UTF_8)));
+    }
+
+
+    /**
+     * Creates a new SHA-256 {@link MessageDigest}.
+     *
+     * @return a new {@link MessageDigest}
+     */
+    private static MessageDigest newMessageDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /**
+     * Converts bytes into a lower-case hexadecimal string.
+     *
+     * @param bytes  the bytes
+     *
+     * @return the hexadecimal string
+     */
+    private static String toHex(byte[] bytes)
+    {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+        for (byte b : bytes)
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ * File: DeploymentArchive.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote;
+
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.options.PlatformSeparators;
+import com.oracle.bedrock.runtime.remote.options.ArchiveDeployment;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A gzip compressed tar archive of {@link DeploymentArtifact}s that's generated on the fly as it's
+ * written, used to transfer an entire deployment to a remote platform as a single stream
+ * (see {@link ArchiveDeployment}).
+ * <p>
+ * Each entry of the archive is named by the full remote path of the {@link DeploymentArtifact}, being
+ * either relative to the directory in which the archive is extracted or absolute, so that the archive
+ * must be extracted using {@link #EXTRACT_COMMAND}.  Entries are written in the POSIX ustar format,
+ * with POSIX extended headers for paths and sizes that exceed that format.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class DeploymentArchive
+{
+    /**
+     * The command that extracts a {@link DeploymentArchive} from standard input, preserving absolute paths.
+     */
+    public static final String EXTRACT_COMMAND = "tar -xzPf -";
+
+    /**
+     * The size of a tar block.
+     */
+    private static final int BLOCK_SIZE = 512;
+
+    /**
+     * The size of a tar record, to which the archive is padded.
+     */
+    private static final int RECORD_SIZE = 20 * BLOCK_SIZE;
+
+    /**
+     * The size of the buffers used to read artifacts and compress the archive.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum size of an entry that can be defined by a ustar header.
+     */
+    private static final long MAXIMUM_USTAR_SIZE = 077777777777L;
+
+    /**
+     * The {@link DeploymentArtifact}s in the archive.
+     */
+    private final List<DeploymentArtifact> artifacts;
+
+    /**
+     * The remote file names of the {@link DeploymentArtifact}s, in the same order.
+     */
+    private final List<String> targetFileNames;
+
+
+    /**
+     * Constructs a {@link DeploymentArchive} for the specified {@link DeploymentArtifact}s.
+     *
+     * @param artifacts        the {@link DeploymentArtifact}s
+     * @param remoteDirectory  the remote directory for {@link DeploymentArtifact}s without a
+     *                         destination directory
+     * @param separators       the {@link PlatformSeparators} of the remote platform
+     */
+    public DeploymentArchive(List<DeploymentArtifact> artifacts,
+                             String                   remoteDirectory,
+                             PlatformSeparators       separators)
+    {
+        this.artifacts       = new ArrayList<>(artifacts);
+        this.targetFileNames = new ArrayList<>(artifacts.size());
+
+        for (DeploymentArtifact artifact : artifacts)
+        {
+            File   destinationFile = artifact.getDestinationFile();
+            String parentFolder;
+            String fileName;
+
+            if (destinationFile == null)
+            {
+                parentFolder = remoteDirectory;
+                fileName     = artifact.getSourceFile().getName();
+            }
+            else
+            {
+                parentFolder = separators.asPlatformFileName(destinationFile.getParent());
+
+                if (parentFolder == null)
+                {
+                    parentFolder = remoteDirectory;
+                }
+
+                fileName = destinationFile.getName();
+            }
+
+            targetFileNames.add(parentFolder + separators.getFileSeparator() + fileName);
+        }
+    }
+
+
+    /**
+     * Obtains the {@link DeploymentArtifact}s in the archive.
+     *
+     * @return  the {@link DeploymentArtifact}s
+     */
+    public List<DeploymentArtifact> getArtifacts()
+    {
+        return Collections.unmodifiableList(artifacts);
+    }
+
+
+    /**
+     * Obtains the remote file names of the {@link DeploymentArtifact}s in the archive, in the order
+     * of the {@link DeploymentArtifact}s.
+     *
+     * @return  the remote file names
+     */
+    public List<String> getTargetFileNames()
+    {
+        return Collections.unmodifiableList(targetFileNames);
+    }
+
+
+    /**
+     * Writes the compressed archive to the specified {@link OutputStream}, reading each
+     * {@link DeploymentArtifact} as it's written.  The {@link OutputStream} is flushed but not closed.
+     *
+     * @param outputStream  the {@link OutputStream}
+     *
+     * @return  the number of uncompressed bytes written
+     *
+     * @throws IOException  when an artifact can't be read or the archive can't be written
+     */
+    public long writeTo(OutputStream outputStream) throws IOException
+    {
+        GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        byte[]           buffer     = new byte[BUFFER_SIZE];
+        long             written    = 0;
+
+        for (int i = 0; i < artifacts.size(); i++)
+        {
+            written += writeEntry(gzipStream, targetFileNames.get(i), artifacts.get(i).getSourceFile(), buffer);
+        }
+
+        // the archive ends with two empty blocks, padded to a complete record
+        long end = written + 2 * BLOCK_SIZE;
+
+        end += (RECORD_SIZE - end % RECORD_SIZE) % RECORD_SIZE;
+
+        writeZeros(gzipStream, end - written);
+
+        gzipStream.finish();
+        outputStream.flush();
+
+        return end;
+    }
+
+
+    /**
+     * Writes the entry for a file to the archive.
+     *
+     * @param outputStream  the {@link OutputStream} of the archive
+     * @param name          the name of the entry
+     * @param file          the file
+     * @param buffer        the buffer to use for reading the file
+     *
+     * @return  the number of bytes written
+     *
+     * @throws IOException  when the file can't be read or the entry can't be written
+     */
+    private static long writeEntry(OutputStream outputStream,
+                                   String       name,
+                                   File         file,
+                                   byte[]       buffer) throws IOException
+    {
+        try (InputStream inputStream = new FileInputStream(file))
+        {
+            long                size    = file.length();
+            int                 mode    = file.canExecute() ? 0755 : 0644;
+            long                time    = file.lastModified() / 1000;
+            Map<String, String> records = new LinkedHashMap<>();
+            String              header  = name;
+            String              prefix  = "";
+
+            if (size > MAXIMUM_USTAR_SIZE)
+            {
+                records.put("size", String.valueOf(size));
+            }
+
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+            if (nameBytes.length > 100)
+            {
+                int separator = nameBytes.length == name.length() ? splitIndex(name) : -1;
+
+                if (separator < 0)
+                {
+                    records.put("path", name);
+                    header = name.substring(Math.max(0, name.length() - 100));
+                }
+                else
+                {
+                    prefix = name.substring(0, separator);
+                    header = name.substring(separator + 1);
+                }
+            }
+
+            long written = 0;
+
+            if (!records.isEmpty())
+            {
+                byte[] extended = extendedHeader(records);
+
+                written += writeHeader(outputStream, "PaxHeader", "", extended.length, mode, time, 'x');
+                outputStream.write(extended);
+                written += extended.length;
+                written += pad(outputStream, extended.length);
+            }
+
+            written += writeHeader(outputStream, header, prefix, size > MAXIMUM_USTAR_SIZE ? 0 : size, mode, time, '0');
+
+            // copy exactly the size recorded in the header, even when the file has since changed
+            long remaining = size;
+
+            while (remaining > 0)
+            {
+                int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+
+                if (read < 0)
+                {
+                    writeZeros(outputStream, remaining);
+                    break;
+                }
+
+                outputStream.write(buffer, 0, read);
+                remaining -= read;
+            }
+
+            written += size;
+            written += pad(outputStream, size);
+
+            return written;
+        }
+    }
+
+
+    /**
+     * Determines the index of the separator at which an ASCII name can be split into a ustar
+     * prefix (of up to 155 characters) and name (of up to 100 characters).
+     *
+     * @param name  the name
+     *
+     * @return  the index of the separator or <code>-1</code> when the name can't be split
+     */
+    private static int splitIndex(String name)
+    {
+        int index = name.indexOf('/', Math.max(0, name.length() - 101));
+
+        return index > 0 && index <= 155 && index < name.length() - 1 ? index : -1;
+    }
+
+
+    /**
+     * Creates the content of a POSIX extended header.
+     *
+     * @param records  the records of the header
+     *
+     * @return  the content of the header
+     */
+    private static byte[] extendedHeader(Map<String, String> records)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (Map.Entry<String, String> record : records.entrySet())
+        {
+            String content = " " + record.getKey() + "=" + record.getValue() + "\n";
+            int    length  = content.getBytes(StandardCharsets.UTF_8).length;
+
+            // each record is prefixed by its length, including the digits of the length itself
+            int total = length + 1;
+
+            while (total != length + String.valueOf(total).length())
+            {
+                total = length + String.valueOf(total).length();
+            }
+
+            builder.append(total).append(content);
+        }
+
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Writes a ustar header block.
+     *
+     * @param outputStream  the {@link OutputStream} of the archive
+     * @param name          the name of the entry
+     * @param prefix        the prefix of the name of the entry
+     * @param size          the size of the entry
+     * @param mode          the file mode of the entry
+     * @param time          the modification time of the entry, in seconds
+     * @param type          the type of the entry
+     *
+     * @return  the number of bytes written
+     *
+     * @throws IOException  when the header can't be written
+     */
+    private static int writeHeader(OutputStream outputStream,
+                                   String       name,
+                                   String       prefix,
+                                   long         size,
+                                   int          mode,
+                                   long         time,
+                                   char         type) throws IOException
+    {
+        byte[] header = new byte[BLOCK_SIZE];
+
+        putString(header, 0, 100, name);
+        putOctal(header, 100, 8, mode);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, size);
+        putOctal(header, 136, 12, time);
+
+        header[156] = (byte) type;
+
+        putString(header, 257, 6, "ustar");
+        putString(header, 263, 2, "00");
+        putString(header, 345, 155, prefix);
+
+        // the checksum is calculated with the checksum field itself filled with spaces
+        for (int i = 148; i < 156; i++)
+        {
+            header[i] = ' ';
+        }
+
+        long checksum = 0;
+
+        for (byte b : header)
+        {
+            checksum += b & 0xFF;
+        }
+
+        putOctal(header, 148, 7, checksum);
+
+        outputStream.write(header);
+
+        return BLOCK_SIZE;
+    }
+
+
+    /**
+     * Places a string into a header field, truncating it to the length of the field.
+     *
+     * @param header  the header
+     * @param offset  the offset of the field
+     * @param length  the length of the field
+     * @param value   the string
+     */
+    private static void putString(byte[] header,
+                                  int    offset,
+                                  int    length,
+                                  String value)
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        System.arraycopy(bytes, 0, header, offset, Math.min(bytes.length, length));
+    }
+
+
+    /**
+     * Places a zero padded, nul terminated octal number into a header field.
+     *
+     * @param header  the header
+     * @param offset  the offset of the field
+     * @param length  the length of the field, including the nul terminator
+     * @param value   the number
+     */
+    private static void putOctal(byte[] header,
+                                 int    offset,
+                                 int    length,
+                                 long   value)
+    {
+        String octal = Long.toOctalString(value);
+
+        for (int i = 0; i < length - 1; i++)
+        {
+            int digit = octal.length() - (length - 1) + i;
+
+            header[offset + i] = (byte) (digit < 0 ? '0' : octal.charAt(digit));
+        }
+
+        header[offset + length - 1] = 0;
+    }
+
+
+    /**
+     * Pads the archive with zeros to the end of the current block.
+     *
+     * @param outputStream  the {@link OutputStream} of the archive
+     * @param size          the size of the content written in the current entry
+     *
+     * @return  the number of bytes written
+     *
+     * @throws IOException  when the padding can't be written
+     */
+    private static long pad(OutputStream outputStream,
+                            long         size) throws IOException
+    {
+        long padding = (BLOCK_SIZE - size % BLOCK_SIZE) % BLOCK_SIZE;
+
+        writeZeros(outputStream, padding);
+
+        return padding;
+    }
+
+
+    /**
+     * Writes the specified number of zeros.
+     *
+     * @param outputStream  the {@link OutputStream}
+     * @param count         the number of zeros
+     *
+     * @throws IOException  when the zeros can't be written
+     */
+    private static void writeZeros(OutputStream outputStream,
+                                   long         count) throws IOException
+    {
+        byte[] zeros = new byte[(int) Math.min(count, BUFFER_SIZE)];
+
+        for (long remaining = count; remaining > 0; remaining -= zeros.length)
+        {
+            outputStream.write(zeros, 0, (int) Math.min(zeros.length, remaining));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * File: DeploymentQueue.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote;
+
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.remote.options.Deployer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A queue of {@link DeploymentArtifact}s to be transferred by one or more concurrent workers of a
+ * {@link Deployer}.  When transferred concurrently the {@link DeploymentArtifact}s are ordered largest
+ * first so that the longest transfers start earliest, otherwise they're transferred in order.
+ * <p>
+ * Workers repeatedly take the index of the next {@link DeploymentArtifact} to transfer, meaning
+ * that a worker that completes its transfers early simply takes on the remaining work.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class DeploymentQueue
+{
+    /**
+     * The indexes of the {@link DeploymentArtifact}s yet to be transferred, largest first.
+     */
+    private final ConcurrentLinkedQueue<Integer> indexes;
+
+    /**
+     * The maximum number of concurrent workers.
+     */
+    private final int parallelism;
+
+
+    /**
+     * Constructs a {@link DeploymentQueue} for the specified {@link DeploymentArtifact}s.
+     *
+     * @param artifacts    the {@link DeploymentArtifact}s
+     * @param parallelism  the maximum number of concurrent workers
+     */
+    public DeploymentQueue(List<DeploymentArtifact> artifacts,
+                           int                      parallelism)
+    {
+        ArrayList<Integer> order = new ArrayList<>(artifacts.size());
+        long[]             sizes = new long[artifacts.size()];
+
+        for (int i = 0; i < artifacts.size(); i++)
+        {
+            order.add(i);
+            sizes[i] = artifacts.get(i).getSourceFile().length();
+        }
+
+        if (parallelism > 1)
+        {
+            order.sort(Comparator.comparingLong((Integer i) -> sizes[i]).reversed());
+        }
+
+        this.indexes     = new ConcurrentLinkedQueue<>(order);
+        this.parallelism = parallelism;
+    }
+
+
+    /**
+     * Takes the index of the next {@link DeploymentArtifact} to transfer.
+     *
+     * @return  the index of the {@link DeploymentArtifact} or <code>-1</code> when there are none remaining
+     */
+    public int next()
+    {
+        Integer index = indexes.poll();
+
+        return index == null ? -1 : index;
+    }
+
+
+    /**
+     * Executes the specified {@link Worker} on up to the parallelism number of threads, waiting for
+     * them all to complete.  Should a {@link Worker} fail, the remaining {@link DeploymentArtifact}s
+     * are abandoned and the first failure is thrown once the other {@link Worker}s have completed.
+     * <p>
+     * When the parallelism is one (or there's at most one {@link DeploymentArtifact}) the
+     * {@link Worker} is executed on the calling thread.
+     *
+     * @param name    the prefix of the name for the threads
+     * @param worker  the {@link Worker}
+     *
+     * @throws Exception  when a {@link Worker} fails
+     */
+    public void execute(String name,
+                        Worker worker) throws Exception
+    {
+        int workers = Math.min(parallelism, indexes.size());
+
+        if (workers <= 1)
+        {
+            worker.run();
+
+            return;
+        }
+
+        AtomicInteger   threadCount     = new AtomicInteger(0);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(workers,
+                                                                       runnable -> {
+                                                                           Thread thread =
+                                                                               new Thread(runnable,
+                                                                                          name + "-"
+                                                                                          + threadCount
+                                                                                              .incrementAndGet());
+
+                                                                           thread.setDaemon(true);
+
+                                                                           return thread;
+                                                                       });
+
+        try
+        {
+            ArrayList<Future<?>> futures = new ArrayList<>(workers);
+
+            for (int i = 0; i < workers; i++)
+            {
+                futures.add(executorService.submit(() -> {
+                                                       try
+                                                       {
+                                                           worker.run();
+
+                                                           return null;
+                                                       }
+                                                       catch (Exception | Error e)
+                                                       {
+                                                           // abandon the remaining artifacts
+                                                           indexes.clear();
+
+                                                           throw e;
+                                                       }
+                                                   }));
+            }
+
+            Throwable failure = null;
+
+            for (Future<?> future : futures)
+            {
+                try
+                {
+                    future.get();
+                }
+                catch (ExecutionException e)
+                {
+                    failure = failure == null ? e.getCause() : failure;
+                }
+            }
+
+            if (failure instanceof Exception)
+            {
+                throw (Exception) failure;
+            }
+            else if (failure instanceof Error)
+            {
+                throw (Error) failure;
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+
+    /**
+     * A worker that transfers {@link DeploymentArtifact}s taken from a {@link DeploymentQueue}
+     * until there are none remaining.
+     */
+    @FunctionalInterface
+    public interface Worker
+    {
+        /**
+         * Transfers {@link DeploymentArtifact}s until there are none remaining.
+         *
+         * @throws Exception  when a transfer fails
+         */
+        void run() throws Exception;
+    }
+}
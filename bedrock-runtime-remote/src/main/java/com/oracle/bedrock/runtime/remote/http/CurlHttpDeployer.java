@@ -121,4 +121,11 @@ public class CurlHttpDeployer extends HttpDeployer
             }
         }
     }
+
+
+    @Override
+    protected String getDownloadToOutputCommand(URL sourceURL)
+    {
+        return curlCommand + " -sSf " + sourceURL.toExternalForm();
+    }
 }
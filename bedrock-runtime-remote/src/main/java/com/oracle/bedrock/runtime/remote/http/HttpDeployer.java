@@ -37,36 +37,57 @@ import com.oracle.bedrock.runtime.options.Argument;
 import com.oracle.bedrock.runtime.options.DisplayName;
 import com.oracle.bedrock.runtime.options.Executable;
 import com.oracle.bedrock.runtime.options.PlatformSeparators;
+import com.oracle.bedrock.runtime.remote.ArtifactDigests;
 import com.oracle.bedrock.runtime.remote.DeployedArtifacts;
+import com.oracle.bedrock.runtime.remote.DeploymentArchive;
 import com.oracle.bedrock.runtime.remote.DeploymentArtifact;
+import com.oracle.bedrock.runtime.remote.DeploymentQueue;
+import com.oracle.bedrock.runtime.remote.options.ArchiveDeployment;
 import com.oracle.bedrock.runtime.remote.options.Deployer;
+import com.oracle.bedrock.runtime.remote.options.DeploymentCache;
+import com.oracle.bedrock.runtime.remote.options.DeploymentParallelism;
 import com.oracle.bedrock.table.Table;
+import com.sun.net.httpserver.HttpContext;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URL;
-import java.nio.file.Files;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A base class for {@link Deployer}s that use HTTP
  * as a file transfer mechanism.
  * <p>
+ * When a {@link DeploymentCache} is enabled, artifacts are downloaded into the
+ * remote cache only when not already cached, and are then linked into place.
+ * <p>
+ * When a {@link DeploymentParallelism} is defined, artifacts are downloaded concurrently,
+ * largest first, each concurrent download using its own connection to the HTTP server.
+ * <p>
+ * When an {@link ArchiveDeployment} is enabled, artifacts are instead downloaded as a single
+ * compressed archive, generated on the fly by the HTTP server, that's piped into <code>tar</code>.
+ * <p>
  * Copyright (c) 2015. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -79,6 +100,26 @@ public abstract class HttpDeployer implements Deployer
      */
     private OptionsByType optionsByType;
 
+    /**
+     * The exit status of a cached deployment script when the artifact was linked from the cache.
+     */
+    private static final int CACHED = 0;
+
+    /**
+     * The exit status of a cached deployment script when the artifact was downloaded.
+     */
+    private static final int DOWNLOADED = 10;
+
+    /**
+     * The exit status of a cached deployment script when the artifact is missing from the cache.
+     */
+    private static final int MISSING = 11;
+
+    /**
+     * The exit status of a cached deployment script when the cached artifact can't be trusted.
+     */
+    private static final int UNTRUSTED = 12;
+
 
     /**
      * Create a new {@link HttpDeployer}.
@@ -98,7 +139,10 @@ public abstract class HttpDeployer implements Deployer
      * @param size the size of the buffer in bytes
      *
      * @return this {@link HttpDeployer} to allow a fluent method style
+     *
+     * @deprecated artifacts are now served using {@link FileChannel#transferTo}, so no buffer is used
      */
+    @Deprecated
     public HttpDeployer withBufferSize(int size)
     {
         optionsByType.add(new BufferSize(size));
@@ -114,7 +158,10 @@ public abstract class HttpDeployer implements Deployer
      * @param size the size of the buffer in kilo-bytes
      *
      * @return this {@link HttpDeployer} to allow a fluent method style
+     *
+     * @deprecated artifacts are now served using {@link FileChannel#transferTo}, so no buffer is used
      */
+    @Deprecated
     public HttpDeployer withBufferSizeInKB(int size)
     {
         return withBufferSize(size * 1024);
@@ -128,7 +175,10 @@ public abstract class HttpDeployer implements Deployer
      * @param size the size of the buffer in mega-bytes
      *
      * @return this {@link HttpDeployer} to allow a fluent method style
+     *
+     * @deprecated artifacts are now served using {@link FileChannel#transferTo}, so no buffer is used
      */
+    @Deprecated
     public HttpDeployer withBufferSizeInMB(int size)
     {
         return withBufferSize(size * 1024 * 1024);
@@ -218,6 +268,24 @@ public abstract class HttpDeployer implements Deployer
         Map<String, DeploymentArtifact> artifactMap = new LinkedHashMap<>();
         ExecutorService                 executor    = createExecutor();
         HttpServer                      server      = null;
+        int                             parallelism = optionsByType.get(DeploymentParallelism.class).get();
+
+        // concurrent downloads require the HTTP server to serve concurrent requests
+        if (executor == null && parallelism > 1)
+        {
+            AtomicInteger threadCount = new AtomicInteger(0);
+
+            executor = Executors.newFixedThreadPool(parallelism,
+                                                    runnable -> {
+                                                        Thread thread = new Thread(runnable,
+                                                                                   "Bedrock-HTTP-Deployer-Server-"
+                                                                                   + threadCount.incrementAndGet());
+
+                                                        thread.setDaemon(true);
+
+                                                        return thread;
+                                                    });
+        }
 
         try
         {
@@ -228,6 +296,24 @@ public abstract class HttpDeployer implements Deployer
 
             server = createServer(executor, artifactMap);
 
+            // download all of the artifacts as a single archive (when enabled and not cached)
+            if (optionsByType.get(ArchiveDeployment.class).isEnabled()
+                &&!optionsByType.get(DeploymentCache.class).isEnabled())
+            {
+                PlatformSeparators separators = optionsByType.get(PlatformSeparators.class);
+
+                if (deployArchive(new DeploymentArchive(artifactsToDeploy, remoteDirectory, separators),
+                                  platform,
+                                  server,
+                                  optionsByType,
+                                  deployedArtifacts))
+                {
+                    return deployedArtifacts;
+                }
+
+                // otherwise the archive can't be downloaded, so deploy the artifacts individually
+            }
+
             deployAllArtifacts(artifactMap,
                                remoteDirectory,
                                platform,
@@ -279,53 +365,368 @@ public abstract class HttpDeployer implements Deployer
         try
         {
             PlatformSeparators separators      = optionsByType.get(PlatformSeparators.class);
+            DeploymentCache    cache           = optionsByType.get(DeploymentCache.class);
             Table              deploymentTable = new Table();
             String             hostAddress     = httpServerAddress.getAddress().getHostAddress();
             int                port            = httpServerAddress.getPort();
 
-            for (Map.Entry<String, DeploymentArtifact> entry : artifacts.entrySet())
+            if (cache.isEnabled()
+                && executeScript(platform, "mkdir -p -m 700 " + quotePath(cache.getDirectory())) != 0)
             {
-                DeploymentArtifact artifact        = entry.getValue();
-                File               sourceFile      = artifact.getSourceFile();
-                URL                sourceURL       = new URL("http", hostAddress, port, entry.getKey());
-                File               destinationFile = artifact.getDestinationFile();
-                double             start           = System.currentTimeMillis();
+                throw new RuntimeException("Failed to create the deployment cache " + cache.getDirectory());
+            }
 
-                String             destinationParentFolder;
-                String             destinationFileName;
+            // download the artifacts, using one connection per concurrent download
+            DeploymentParallelism         parallelism  = optionsByType.get(DeploymentParallelism.class);
+            ArrayList<String>             paths        = new ArrayList<>(artifacts.keySet());
+            ArrayList<DeploymentArtifact> artifactList = new ArrayList<>(artifacts.values());
+            int                           count        = artifactList.size();
+            String[]                      targets      = new String[count];
+            String[][]                    rows         = new String[count][];
+            DeploymentQueue               queue        = new DeploymentQueue(artifactList, parallelism.get());
+
+            queue.execute("Bedrock-HTTP-Deployer",
+                          () -> {
+                              for (int i = queue.next(); i >= 0; i = queue.next())
+                              {
+                                  DeploymentArtifact artifact        = artifactList.get(i);
+                                  File               sourceFile      = artifact.getSourceFile();
+                                  URL                sourceURL       = new URL("http", hostAddress, port, paths.get(i));
+                                  File               destinationFile = artifact.getDestinationFile();
+                                  double             start           = System.currentTimeMillis();
+
+                                  String             destinationParentFolder;
+                                  String             destinationFileName;
+
+                                  if (destinationFile == null)
+                                  {
+                                      destinationParentFolder = remoteDirectory;
+                                      destinationFileName     = sourceFile.getName();
+                                  }
+                                  else
+                                  {
+                                      destinationParentFolder =
+                                          separators.asPlatformFileName(destinationFile.getParent());
+
+                                      if (destinationParentFolder == null)
+                                      {
+                                          destinationParentFolder = remoteDirectory;
+                                      }
+
+                                      destinationFileName = destinationFile.getName();
+                                  }
+
+                                  String targetFileName = destinationParentFolder + separators.getFileSeparator()
+                                                          + destinationFileName;
+
+                                  String transfer       = "transferred";
+
+                                  if (cache.isEnabled())
+                                  {
+                                      if (!deployCached(sourceURL,
+                                                        sourceFile,
+                                                        targetFileName,
+                                                        cache,
+                                                        separators,
+                                                        platform))
+                                      {
+                                          transfer = "cached";
+                                      }
+                                  }
+                                  else
+                                  {
+                                      deployArtifact(sourceURL, targetFileName, platform);
+                                  }
+
+                                  double time = (System.currentTimeMillis() - start) / 1000.0d;
+
+                                  targets[i] = targetFileName;
+                                  rows[i]    = new String[] {sourceFile.toString(), destinationFileName,
+                                                             String.format("%.3f s", time), transfer};
+                              }
+                          });
+
+            // record the deployed artifacts and their timings in the order they were specified
+            for (int i = 0; i < count; i++)
+            {
+                deployedArtifacts.add(new File(targets[i]));
+                deploymentTable.addRow(rows[i]);
+            }
 
-                if (destinationFile == null)
-                {
-                    destinationParentFolder = remoteDirectory;
-                    destinationFileName     = sourceFile.getName();
-                }
-                else
-                {
-                    destinationParentFolder = separators.asPlatformFileName(destinationFile.getParent());
+            Table diagnosticsTable = optionsByType.get(Table.class);
 
-                    if (destinationParentFolder == null)
-                    {
-                        destinationParentFolder = remoteDirectory;
-                    }
+            if (diagnosticsTable != null)
+            {
+                diagnosticsTable.addRow("Application Deployments ", deploymentTable.toString());
+            }
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("Error deploying artifacts", e);
+        }
+    }
 
-                    destinationFileName = destinationFile.getName();
-                }
 
-                String targetFileName = destinationParentFolder + separators.getFileSeparator() + destinationFileName;
+    /**
+     * Deploys a {@link DeploymentArchive}, served as a single download by the specified {@link HttpServer}.
+     *
+     * @param archive            the {@link DeploymentArchive} to deploy
+     * @param platform           the remote {@link Platform} to deploy to
+     * @param server             the {@link HttpServer} serving the artifacts
+     * @param optionsByType      the {@link OptionsByType}s to use
+     * @param deployedArtifacts  the {@link DeployedArtifacts}
+     *
+     * @return <code>true</code> if the {@link DeploymentArchive} was deployed, <code>false</code> if
+     *         archive deployments are not supported
+     */
+    private boolean deployArchive(DeploymentArchive archive,
+                                  Platform          platform,
+                                  HttpServer        server,
+                                  OptionsByType     optionsByType,
+                                  DeployedArtifacts deployedArtifacts)
+    {
+        String            path    = "/" + UUID.randomUUID().toString() + ".tar.gz";
+        InetSocketAddress address = server.getAddress();
+        HttpContext       context = server.createContext(path, new ArchiveHandler(archive));
+        double            start   = System.currentTimeMillis();
+
+        try
+        {
+            URL sourceURL = new URL("http", address.getAddress().getHostAddress(), address.getPort(), path);
 
-                deployArtifact(sourceURL, targetFileName, platform);
+            if (!deployArchive(sourceURL, platform))
+            {
+                return false;
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error deploying artifacts", e);
+        }
+        finally
+        {
+            server.removeContext(context);
+        }
+
+        double time            = (System.currentTimeMillis() - start) / 1000.0d;
+        Table  deploymentTable = new Table();
+
+        for (String targetFileName : archive.getTargetFileNames())
+        {
+            deployedArtifacts.add(new File(targetFileName));
+        }
+
+        for (int i = 0; i < archive.getArtifacts().size(); i++)
+        {
+            File sourceFile = archive.getArtifacts().get(i).getSourceFile();
 
-                // add the file as a deployed artifact
-                deployedArtifacts.add(new File(targetFileName));
+            deploymentTable.addRow(sourceFile.toString(),
+                                   new File(archive.getTargetFileNames().get(i)).getName(),
+                                   "",
+                                   "archived");
+        }
+
+        deploymentTable.addRow("Archive of " + archive.getArtifacts().size() + " artifacts",
+                               path,
+                               String.format("%.3f s", time),
+                               "transferred");
 
-                double time = (System.currentTimeMillis() - start) / 1000.0d;
+        Table diagnosticsTable = optionsByType.get(Table.class);
+
+        if (diagnosticsTable != null)
+        {
+            diagnosticsTable.addRow("Application Deployments ", deploymentTable.toString());
+        }
+
+        return true;
+    }
 
-                deploymentTable.addRow(sourceFile.toString(), destinationFileName, String.format("%.3f s", time));
+
+    /**
+     * Deploys an artifact using a content-addressed {@link DeploymentCache}, downloading the artifact
+     * into the cache only when it's not already cached and then linking the cached file to the target file.
+     * <p>
+     * A cached file is only linked when it's a regular file owned by the remote user that isn't writable by
+     * other users, otherwise the artifact is downloaded directly to the target file, bypassing the cache.
+     * <p>
+     * When the artifact can be {@link #getDownloadToOutputCommand(URL) downloaded to standard output}, the
+     * artifact is deployed using a single remote command, otherwise a cached artifact is linked using a
+     * single remote command and a missing artifact is downloaded and then moved into the cache and linked.
+     *
+     * @param sourceURL       the HTTP URL to download the artifact from
+     * @param sourceFile      the local file of the artifact
+     * @param targetFileName  the target file name to link the cached artifact to
+     * @param cache           the {@link DeploymentCache}
+     * @param separators      the {@link PlatformSeparators} of the remote {@link Platform}
+     * @param platform        the remote {@link Platform} to deploy the artifact on
+     *
+     * @return <code>true</code> if the artifact was downloaded, <code>false</code> if it was already cached
+     *
+     * @throws IOException  when the artifact can't be read
+     */
+    protected boolean deployCached(URL                sourceURL,
+                                   File               sourceFile,
+                                   String             targetFileName,
+                                   DeploymentCache    cache,
+                                   PlatformSeparators separators,
+                                   Platform           platform) throws IOException
+    {
+        String cachedFile  = cache.getPath(ArtifactDigests.of(sourceFile), separators.getFileSeparator());
+
+        // download into a partial file that's then atomically renamed, so that other
+        // deployments never observe incomplete cached files
+        String partialFile = cachedFile + ".part-" + UUID.randomUUID();
+        String variables   = "c=" + quotePath(cachedFile) + "; t=" + quotePath(targetFileName) + "; p="
+                             + quotePath(partialFile) + "; ";
+        String download    = getDownloadToOutputCommand(sourceURL);
+        int    result;
+
+        if (download == null)
+        {
+            result = executeScript(platform,
+                                   variables + "if [ ! -e \"$c\" ]; then exit " + MISSING + "; fi; "
+                                   + linkIfTrusted(CACHED) + "exit " + UNTRUSTED);
+
+            if (result == MISSING)
+            {
+                deployArtifact(sourceURL, partialFile, platform);
+
+                result = executeScript(platform,
+                                       variables + "mv -f \"$p\" \"$c\" || exit 1; "
+                                       + linkIfTrusted(DOWNLOADED) + "exit " + UNTRUSTED);
+            }
+
+            if (result == UNTRUSTED)
+            {
+                deployArtifact(sourceURL, targetFileName, platform);
+
+                result = DOWNLOADED;
             }
         }
-        catch (Exception e)
+        else
         {
-            throw new RuntimeException("Error deploying artifacts", e);
+            result = executeScript(platform,
+                                   variables + "r=" + CACHED + "; if [ ! -e \"$c\" ]; then " + download
+                                   + " > \"$p\" && mv -f \"$p\" \"$c\" || { rm -f \"$p\"; exit 1; }; r="
+                                   + DOWNLOADED + "; fi; " + linkIfTrusted("$r") + download
+                                   + " > \"$t\" || exit 1; exit " + DOWNLOADED);
+        }
+
+        if (result != CACHED && result != DOWNLOADED)
+        {
+            throw new RuntimeException("Failed to deploy the cached artifact " + sourceFile + " as " + cachedFile
+                                       + " linked to " + targetFileName);
+        }
+
+        return result == DOWNLOADED;
+    }
+
+
+    /**
+     * Creates the shell script fragment that links the cached file <code>$c</code> to the target file
+     * <code>$t</code> and exits with the specified status when the cached file is trusted, being a regular
+     * file owned by the user that isn't writable by the group or other users.  A hard link is preferred
+     * (so undeploying the link never affects the cache), falling back to a symbolic link.
+     *
+     * @param status  the exit status when the cached file was linked
+     *
+     * @return the shell script fragment
+     */
+    private static String linkIfTrusted(Object status)
+    {
+        return "if [ -f \"$c\" ] && [ -O \"$c\" ] && [ -z \"$(find \"$c\" -prune \\( -perm -020 -o -perm -002 \\)"
+               + " -print)\" ]; then ln -f \"$c\" \"$t\" 2>/dev/null || ln -sf \"$c\" \"$t\" || exit 1; exit "
+               + status + "; fi; ";
+    }
+
+
+    /**
+     * Quotes a path for use in a shell script, with a leading <code>~</code> denoting the
+     * home directory of the user.
+     *
+     * @param path  the path
+     *
+     * @return the quoted path
+     */
+    protected static String quotePath(String path)
+    {
+        if (path.equals("~"))
+        {
+            return "\"$HOME\"";
+        }
+        else if (path.startsWith("~/"))
+        {
+            return "\"$HOME\"/" + quote(path.substring(2));
+        }
+        else
+        {
+            return quote(path);
+        }
+    }
+
+
+    /**
+     * Quotes a string, using single quotes, so that it's not interpreted by a shell.
+     *
+     * @param string  the string
+     *
+     * @return the quoted string
+     */
+    protected static String quote(String string)
+    {
+        return "'" + string.replace("'", "'\\''") + "'";
+    }
+
+
+    /**
+     * Executes a shell script on a {@link Platform}, waiting for it to complete.
+     *
+     * @param platform  the {@link Platform}
+     * @param script    the shell script
+     *
+     * @return the exit value of the script
+     */
+    protected int executeScript(Platform platform,
+                                String   script)
+    {
+        // the commands of remote platforms are interpreted by a shell, unlike those of the local platform
+        String argument = platform instanceof LocalPlatform ? script : quote(script);
+
+        try (Application application = platform.launch(Application.class,
+                                                       Executable.named("sh"),
+                                                       Argument.of("-c"),
+                                                       Argument.of(argument),
+                                                       DisplayName.of("Deploy")))
+        {
+            return application.waitFor();
+        }
+    }
+
+
+    /**
+     * Executes a command on a {@link Platform}, waiting for it to complete.
+     *
+     * @param platform    the {@link Platform}
+     * @param executable  the executable to run
+     * @param arguments   the arguments for the executable
+     *
+     * @return the exit value of the command
+     */
+    protected int execute(Platform  platform,
+                          String    executable,
+                          String... arguments)
+    {
+        OptionsByType launchOptions = OptionsByType.of(Executable.named(executable),
+                                                       DisplayName.of("Deploy"));
+
+        for (String argument : arguments)
+        {
+            launchOptions.add(Argument.of(StringHelper.doubleQuoteIfNecessary(argument)));
+        }
+
+        try (Application application = platform.launch(Application.class, launchOptions.asArray()))
+        {
+            return application.waitFor();
         }
     }
 
@@ -400,6 +801,54 @@ public abstract class HttpDeployer implements Deployer
                                            Platform platform);
 
 
+    /**
+     * Deploy the specified {@link DeploymentArchive}, by downloading it and piping it into
+     * {@link DeploymentArchive#EXTRACT_COMMAND} on the remote {@link Platform}.
+     * <p>
+     * Implementations that can download to standard output should override
+     * {@link #getDownloadToOutputCommand(URL)}, or this method when the archive is downloaded
+     * by other means.  When neither is overridden the archive is not deployed, and the artifacts
+     * are instead deployed individually.
+     *
+     * @param sourceURL  the HTTP URL to download the {@link DeploymentArchive} from
+     * @param platform   the remote {@link Platform} to download the {@link DeploymentArchive} on
+     *
+     * @return <code>true</code> if the {@link DeploymentArchive} was deployed, <code>false</code> if
+     *         archive deployments are not supported
+     */
+    protected boolean deployArchive(URL      sourceURL,
+                                    Platform platform)
+    {
+        String command = getDownloadToOutputCommand(sourceURL);
+
+        if (command == null)
+        {
+            return false;
+        }
+
+        if (executeScript(platform, command + " | " + DeploymentArchive.EXTRACT_COMMAND) != 0)
+        {
+            throw new RuntimeException("Failed to download and extract the deployment archive " + sourceURL);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Obtains the shell command that downloads the specified URL to standard output
+     * on the remote {@link Platform}.
+     *
+     * @param sourceURL  the HTTP URL to download
+     *
+     * @return  the command or <code>null</code> when downloading to standard output is not supported
+     */
+    protected String getDownloadToOutputCommand(URL sourceURL)
+    {
+        return null;
+    }
+
+
     /**
      * Start the HTTP server that will be used to serve the artifacts
      * to be deployed.
@@ -483,37 +932,82 @@ public abstract class HttpDeployer implements Deployer
             URI  sourceURI = requestedArtifact.getSourceFile().toURI();
             Path path      = Paths.get(sourceURI);
 
-            httpExchange.getResponseHeaders().set("Content-length", String.valueOf(Files.size(path)));
-            httpExchange.getResponseHeaders().set("Content-type", "application/octet-stream");
-            httpExchange.sendResponseHeaders(200, 0);
-
-            BufferSize bufferSize  = optionsByType.getOrSetDefault(BufferSize.class, new BufferSize(1000000));
-            int        bufferBytes = bufferSize.getBufferSize();
+            // transfer the file directly from its channel rather than copying it through a heap buffer
+            try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ))
+            {
+                long size = source.size();
 
-            byte[]     buff        = new byte[bufferBytes];
+                httpExchange.getResponseHeaders().set("Content-length", String.valueOf(size));
+                httpExchange.getResponseHeaders().set("Content-type", "application/octet-stream");
+                httpExchange.sendResponseHeaders(200, 0);
 
-            try (InputStream data = sourceURI.toURL().openStream();
-                OutputStream os = httpExchange.getResponseBody())
-            {
-                while (true)
+                try (OutputStream os = httpExchange.getResponseBody();
+                    WritableByteChannel target = Channels.newChannel(os))
                 {
-                    int read = data.read(buff, 0, bufferBytes);
+                    long position = 0;
 
-                    if (read <= 0)
+                    while (position < size)
                     {
-                        break;
-                    }
+                        long transferred = source.transferTo(position, size - position, target);
+
+                        if (transferred <= 0)
+                        {
+                            break;
+                        }
 
-                    os.write(buff, 0, read);
+                        position += transferred;
+                    }
                 }
             }
         }
     }
 
 
+    /**
+     * A {@link HttpHandler} implementation that serves a {@link DeploymentArchive},
+     * generating the archive as it's sent.
+     */
+    public static class ArchiveHandler implements HttpHandler
+    {
+        /**
+         * The {@link DeploymentArchive} to serve.
+         */
+        private final DeploymentArchive archive;
+
+
+        /**
+         * Create an {@link ArchiveHandler} to serve the specified {@link DeploymentArchive}.
+         *
+         * @param archive  the {@link DeploymentArchive} to serve
+         */
+        public ArchiveHandler(DeploymentArchive archive)
+        {
+            this.archive = archive;
+        }
+
+
+        @Override
+        public void handle(HttpExchange httpExchange) throws IOException
+        {
+            httpExchange.getResponseHeaders().set("Content-type", "application/gzip");
+
+            // the size of the compressed archive isn't known in advance, so it's sent in chunks
+            httpExchange.sendResponseHeaders(200, 0);
+
+            try (OutputStream os = httpExchange.getResponseBody())
+            {
+                archive.writeTo(os);
+            }
+        }
+    }
+
+
     /**
      * An {@link Option} for the {@link BufferSize}.
+     *
+     * @deprecated artifacts are now served using {@link FileChannel#transferTo}, so no buffer is used
      */
+    @Deprecated
     public static class BufferSize implements Option
     {
         private int bufferSize;
@@ -127,4 +127,11 @@ public class WGetHttpDeployer extends HttpDeployer
         }
 
     }
+
+
+    @Override
+    protected String getDownloadToOutputCommand(URL sourceURL)
+    {
+        return wgetCommand + " -q -O - " + sourceURL.toExternalForm();
+    }
 }
@@ -32,12 +32,15 @@ import com.oracle.bedrock.runtime.Platform;
 import com.oracle.bedrock.runtime.java.ClassPath;
 import com.oracle.bedrock.runtime.java.JavaApplication;
 import com.oracle.bedrock.runtime.java.options.BedrockRunner;
+import com.oracle.bedrock.runtime.remote.ArtifactDigests;
 import com.oracle.bedrock.runtime.remote.DeploymentArtifact;
 import com.oracle.bedrock.runtime.remote.options.Deployment;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -53,6 +56,11 @@ import java.util.List;
  */
 public class JavaDeployment implements Deployment
 {
+    /**
+     * The name of the folder, in the temporary directory, in which jars of deployed directories are cached.
+     */
+    public static final String DIRECTORY_ARCHIVES = "bedrock-deployments";
+
     /**
      * Should the {@link Deployment} automatically detect the required {@link JavaApplication} artifacts?
      * Ultimately this means using the {@link ClassPath} of the {@link JavaApplication} to determine
@@ -230,14 +238,11 @@ public class JavaDeployment implements Deployment
                         }
                         else
                         {
-                            // create a temporary file in which to zip the contents of the folder
-                            File temporaryFile = File.createTempFile("bedrock-deployment-", ".jar");
-
-                            FileHelper.zip(Collections.singletonList(file), "", temporaryFile.getAbsolutePath());
+                            // zip the contents of the folder (reusing a previous zip when unchanged)
+                            File archiveFile = getDirectoryArchive(file);
 
-                            DeploymentArtifact artifact = new DeploymentArtifact(temporaryFile,
-                                                                                 new File(temporaryFile.getName()),
-                                                                                 true);
+                            DeploymentArtifact artifact = new DeploymentArtifact(archiveFile,
+                                                                                 new File(archiveFile.getName()));
 
                             deploymentArtifacts.add(artifact);
                         }
@@ -254,6 +259,66 @@ public class JavaDeployment implements Deployment
     }
 
 
+    /**
+     * Obtains a jar containing the contents of the specified directory, creating it only when the
+     * contents of the directory have changed since a jar was last created for the directory.
+     * <p>
+     * Jars are cached in the {@link #DIRECTORY_ARCHIVES} folder of the temporary directory, named by
+     * digests of the directory path and its contents, so that repeated deployments of an unchanged
+     * directory (even by different processes) reuse the same jar and thus have the same content digest.
+     *
+     * @param directory  the directory
+     *
+     * @return the jar {@link File}
+     *
+     * @throws IOException  when the jar can't be created
+     */
+    static File getDirectoryArchive(File directory) throws IOException
+    {
+        File   cacheDirectory = new File(System.getProperty("java.io.tmpdir"), DIRECTORY_ARCHIVES);
+        String prefix         = "bedrock-deployment-"
+                                + ArtifactDigests.ofString(directory.getCanonicalPath()).substring(0, 16) + "-";
+        File   archiveFile    = new File(cacheDirectory,
+                                         prefix + ArtifactDigests.ofDirectory(directory).substring(0, 16) + ".jar");
+
+        if (!archiveFile.isFile())
+        {
+            Files.createDirectories(cacheDirectory.toPath());
+
+            // remove the jars of previous versions of the directory
+            File[] previousFiles = cacheDirectory.listFiles((dir,
+                                                             name) -> name.startsWith(prefix) && name.endsWith(".jar"));
+
+            if (previousFiles != null)
+            {
+                for (File previousFile : previousFiles)
+                {
+                    previousFile.delete();
+                }
+            }
+
+            // zip into a temporary file that's then atomically moved into place
+            File temporaryFile = File.createTempFile(prefix, ".tmp", cacheDirectory);
+
+            try
+            {
+                FileHelper.zip(Collections.singletonList(directory), "", temporaryFile.getAbsolutePath());
+
+                Files.move(temporaryFile.toPath(),
+                           archiveFile.toPath(),
+                           StandardCopyOption.REPLACE_EXISTING,
+                           StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                temporaryFile.delete();
+            }
+        }
+
+        return archiveFile;
+    }
+
+
     @Override
     public boolean equals(Object other)
     {
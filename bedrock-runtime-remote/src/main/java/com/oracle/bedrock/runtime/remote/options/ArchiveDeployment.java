@@ -0,0 +1,135 @@
+/*
+ * File: ArchiveDeployment.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.remote.DeploymentArchive;
+import com.oracle.bedrock.runtime.remote.DeploymentArtifact;
+
+/**
+ * An {@link Option} to define if {@link Deployer}s transfer all of the {@link DeploymentArtifact}s
+ * of a deployment as a single compressed archive, rather than one at a time.
+ * <p>
+ * When enabled, a gzip compressed tar archive of the {@link DeploymentArtifact}s is generated on the fly
+ * and streamed directly into <code>tar</code> on the remote platform, over a single SSH exec channel or
+ * a single HTTP download, without creating a temporary file on either side.  This avoids the per-file
+ * round trips of deploying large numbers of small artifacts, such as class path archives.
+ * <p>
+ * Archive deployments require <code>tar</code> (with gzip support) on the remote platform and are
+ * ignored when a {@link DeploymentCache} is enabled, as cached artifacts are transferred individually.
+ * See {@link DeploymentArchive}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ArchiveDeployment implements Option
+{
+    /**
+     * Is archive deployment enabled.
+     */
+    private final boolean enabled;
+
+
+    /**
+     * Privately constructs an {@link ArchiveDeployment}.
+     *
+     * @param enabled  is archive deployment enabled
+     */
+    private ArchiveDeployment(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+
+    /**
+     * Determines if {@link DeploymentArtifact}s are transferred as a single archive.
+     *
+     * @return  <code>true</code> if archive deployment is enabled
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "ArchiveDeployment{" + (enabled ? "enabled" : "disabled") + "}";
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof ArchiveDeployment))
+        {
+            return false;
+        }
+
+        ArchiveDeployment that = (ArchiveDeployment) other;
+
+        return enabled == that.enabled;
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        return Boolean.hashCode(enabled);
+    }
+
+
+    /**
+     * Constructs an {@link ArchiveDeployment} that transfers {@link DeploymentArtifact}s as a
+     * single compressed archive.
+     *
+     * @return  an enabled {@link ArchiveDeployment}
+     */
+    public static ArchiveDeployment enabled()
+    {
+        return new ArchiveDeployment(true);
+    }
+
+
+    /**
+     * Constructs an {@link ArchiveDeployment} that transfers {@link DeploymentArtifact}s individually,
+     * the default.
+     *
+     * @return  a disabled {@link ArchiveDeployment}
+     */
+    @OptionsByType.Default
+    public static ArchiveDeployment disabled()
+    {
+        return new ArchiveDeployment(false);
+    }
+}
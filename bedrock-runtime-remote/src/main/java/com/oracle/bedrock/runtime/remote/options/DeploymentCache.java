@@ -0,0 +1,202 @@
+/*
+ * File: DeploymentCache.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.remote.ArtifactDigests;
+
+/**
+ * An {@link Option} to define a content-addressed cache on a remote platform into which
+ * {@link Deployer}s transfer deployment artifacts.
+ * <p>
+ * When enabled, each artifact is stored once in the cache directory, named by its content digest
+ * (see {@link ArtifactDigests}), and then linked into the deployment directory.  Artifacts already
+ * present in the cache are not transferred again, meaning that repeated deployments of the same
+ * artifacts only transfer those that have changed.
+ * <p>
+ * The default cache is private to the remote user, in their home directory.  As cached artifacts are
+ * trusted by name, a cached artifact is only linked when it's owned by the remote user and isn't
+ * writable by other users, otherwise the artifact is transferred directly, bypassing the cache.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class DeploymentCache implements Option
+{
+    /**
+     * The default remote directory for the cache, in the home directory of the remote user.
+     */
+    public static final String DEFAULT_DIRECTORY = "~/.bedrock/deployment-cache";
+
+    /**
+     * The remote directory of the cache (<code>null</code> when disabled).
+     */
+    private final String directory;
+
+
+    /**
+     * Privately constructs a {@link DeploymentCache}.
+     *
+     * @param directory  the remote directory of the cache (<code>null</code> when disabled)
+     */
+    private DeploymentCache(String directory)
+    {
+        this.directory = directory;
+    }
+
+
+    /**
+     * Determines if the {@link DeploymentCache} is enabled.
+     *
+     * @return  <code>true</code> if the {@link DeploymentCache} is enabled
+     */
+    public boolean isEnabled()
+    {
+        return directory != null;
+    }
+
+
+    /**
+     * Obtains the remote directory of the {@link DeploymentCache}.
+     *
+     * @return  the remote directory or <code>null</code> when disabled
+     */
+    public String getDirectory()
+    {
+        return directory;
+    }
+
+
+    /**
+     * Obtains the remote directory of the {@link DeploymentCache}, with a leading <code>~</code>
+     * replaced by the specified home directory of the remote user.
+     *
+     * @param homeDirectory  the home directory of the remote user
+     *
+     * @return  the remote directory or <code>null</code> when disabled
+     */
+    public String getDirectory(String homeDirectory)
+    {
+        if (directory != null && (directory.equals("~") || directory.startsWith("~/")))
+        {
+            return homeDirectory + directory.substring(1);
+        }
+
+        return directory;
+    }
+
+
+    /**
+     * Obtains the remote path of the cached artifact with the specified digest.
+     *
+     * @param digest     the digest of the artifact
+     * @param separator  the file separator of the remote platform
+     *
+     * @return  the remote path
+     */
+    public String getPath(String digest,
+                          String separator)
+    {
+        return directory.endsWith(separator) ? directory + digest : directory + separator + digest;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "DeploymentCache{" + (isEnabled() ? directory : "disabled") + "}";
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof DeploymentCache))
+        {
+            return false;
+        }
+
+        DeploymentCache that = (DeploymentCache) other;
+
+        return directory == null ? that.directory == null : directory.equals(that.directory);
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        return directory == null ? 0 : directory.hashCode();
+    }
+
+
+    /**
+     * Constructs a disabled {@link DeploymentCache}, in which case all artifacts
+     * are transferred on every deployment.
+     *
+     * @return  a disabled {@link DeploymentCache}
+     */
+    @OptionsByType.Default
+    public static DeploymentCache disabled()
+    {
+        return new DeploymentCache(null);
+    }
+
+
+    /**
+     * Constructs an enabled {@link DeploymentCache} using the {@link #DEFAULT_DIRECTORY}.
+     *
+     * @return  an enabled {@link DeploymentCache}
+     */
+    public static DeploymentCache enabled()
+    {
+        return new DeploymentCache(DEFAULT_DIRECTORY);
+    }
+
+
+    /**
+     * Constructs an enabled {@link DeploymentCache} using the specified remote directory.
+     *
+     * @param directory  the remote directory of the cache (a leading <code>~</code> denoting the
+     *                   home directory of the remote user)
+     *
+     * @return  an enabled {@link DeploymentCache}
+     */
+    public static DeploymentCache at(String directory)
+    {
+        if (directory == null || directory.trim().isEmpty())
+        {
+            throw new IllegalArgumentException("The deployment cache directory must be specified");
+        }
+
+        return new DeploymentCache(directory.trim());
+    }
+}
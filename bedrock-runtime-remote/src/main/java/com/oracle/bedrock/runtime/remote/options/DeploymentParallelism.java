@@ -0,0 +1,151 @@
+/*
+ * File: DeploymentParallelism.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.remote.DeploymentArtifact;
+
+/**
+ * An {@link Option} to define the maximum number of {@link DeploymentArtifact}s a {@link Deployer}
+ * transfers concurrently, each over its own channel or connection.
+ * <p>
+ * Artifacts are transferred largest first from a shared queue, so that concurrent transfers finish at
+ * around the same time, with each channel taking the next artifact as soon as it completes its current
+ * transfer.  For SFTP deployments each concurrent channel leases its own session when
+ * {@link SessionPooling} is enabled, otherwise the channels share a single session, in which case the
+ * parallelism is limited to {@link SessionPooling#DEFAULT_MAXIMUM_CHANNELS} (the default
+ * <code>MaxSessions</code> setting of an SSH server).
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class DeploymentParallelism implements Option
+{
+    /**
+     * The maximum number of {@link DeploymentArtifact}s to transfer concurrently.
+     */
+    private int parallelism;
+
+
+    /**
+     * Privately construct a {@link DeploymentParallelism}.
+     *
+     * @param parallelism  the maximum number of {@link DeploymentArtifact}s to transfer concurrently
+     */
+    private DeploymentParallelism(int parallelism)
+    {
+        this.parallelism = parallelism;
+    }
+
+
+    /**
+     * Obtains the maximum number of {@link DeploymentArtifact}s to transfer concurrently.
+     *
+     * @return  the maximum number of {@link DeploymentArtifact}s to transfer concurrently
+     */
+    public int get()
+    {
+        return parallelism;
+    }
+
+
+    /**
+     * Determines if {@link DeploymentArtifact}s are transferred one after another.
+     *
+     * @return  <code>true</code> if {@link DeploymentArtifact}s are transferred sequentially
+     */
+    public boolean isSequential()
+    {
+        return parallelism == 1;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "DeploymentParallelism{" + parallelism + "}";
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof DeploymentParallelism))
+        {
+            return false;
+        }
+
+        DeploymentParallelism that = (DeploymentParallelism) other;
+
+        return parallelism == that.parallelism;
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        return parallelism;
+    }
+
+
+    /**
+     * Constructs a {@link DeploymentParallelism} that transfers {@link DeploymentArtifact}s one after
+     * another, the default.
+     *
+     * @return  a sequential {@link DeploymentParallelism}
+     */
+    @OptionsByType.Default
+    public static DeploymentParallelism sequential()
+    {
+        return new DeploymentParallelism(1);
+    }
+
+
+    /**
+     * Constructs a {@link DeploymentParallelism}.
+     *
+     * @param parallelism  the maximum number of {@link DeploymentArtifact}s to transfer concurrently
+     *
+     * @return  a {@link DeploymentParallelism}
+     *
+     * @throws IllegalArgumentException  when the parallelism is less than one
+     */
+    public static DeploymentParallelism of(int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("The DeploymentParallelism must be at least 1");
+        }
+
+        return new DeploymentParallelism(parallelism);
+    }
+}
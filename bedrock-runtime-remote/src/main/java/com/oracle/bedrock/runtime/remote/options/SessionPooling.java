@@ -0,0 +1,258 @@
+/*
+ * File: SessionPooling.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.remote.RemotePlatform;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link Option} to define if and how SSH sessions to a {@link RemotePlatform} are pooled.
+ * <p>
+ * When enabled, the SSH session established for a launch, deployment or remote command is
+ * retained and shared, with up to {@link #getMaximumChannels()} concurrently open channels
+ * multiplexed over each session (which should not exceed the <code>MaxSessions</code> setting of
+ * the SSH server).  Sessions are kept alive with keep-alive messages, checked for health before
+ * being reused and disconnected once they have been idle for the {@link #getIdleTimeout(TimeUnit)}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class SessionPooling implements Option
+{
+    /**
+     * The default maximum number of channels per session (the OpenSSH default for <code>MaxSessions</code>).
+     */
+    public static final int DEFAULT_MAXIMUM_CHANNELS = 10;
+
+    /**
+     * The default time, in milliseconds, an idle session is retained.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 60000;
+
+    /**
+     * The default interval, in milliseconds, between keep-alive messages.
+     */
+    public static final long DEFAULT_KEEP_ALIVE_INTERVAL_MS = 15000;
+
+    /**
+     * The maximum number of concurrently open channels per session (zero when disabled).
+     */
+    private final int maximumChannels;
+
+    /**
+     * The time, in milliseconds, an idle session is retained.
+     */
+    private final long idleTimeoutMS;
+
+    /**
+     * The interval, in milliseconds, between keep-alive messages.
+     */
+    private final long keepAliveIntervalMS;
+
+
+    /**
+     * Privately constructs a {@link SessionPooling}.
+     *
+     * @param maximumChannels      the maximum number of concurrently open channels per session
+     *                             (zero when disabled)
+     * @param idleTimeoutMS        the time, in milliseconds, an idle session is retained
+     * @param keepAliveIntervalMS  the interval, in milliseconds, between keep-alive messages
+     */
+    private SessionPooling(int  maximumChannels,
+                           long idleTimeoutMS,
+                           long keepAliveIntervalMS)
+    {
+        this.maximumChannels     = maximumChannels;
+        this.idleTimeoutMS       = idleTimeoutMS;
+        this.keepAliveIntervalMS = keepAliveIntervalMS;
+    }
+
+
+    /**
+     * Determines if the {@link SessionPooling} is enabled.
+     *
+     * @return  <code>true</code> if sessions are pooled
+     */
+    public boolean isEnabled()
+    {
+        return maximumChannels > 0;
+    }
+
+
+    /**
+     * Obtains the maximum number of concurrently open channels per session.
+     *
+     * @return  the maximum number of channels
+     */
+    public int getMaximumChannels()
+    {
+        return maximumChannels;
+    }
+
+
+    /**
+     * Obtains the time an idle session is retained.
+     *
+     * @param units  the {@link TimeUnit} of the result
+     *
+     * @return  the idle timeout
+     */
+    public long getIdleTimeout(TimeUnit units)
+    {
+        return units.convert(idleTimeoutMS, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Obtains the interval between keep-alive messages.
+     *
+     * @param units  the {@link TimeUnit} of the result
+     *
+     * @return  the keep-alive interval
+     */
+    public long getKeepAliveInterval(TimeUnit units)
+    {
+        return units.convert(keepAliveIntervalMS, TimeUnit.MILLISECONDS);
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return isEnabled()
+               ? "SessionPooling{maximumChannels=" + maximumChannels + ", idleTimeout=" + idleTimeoutMS
+                 + " ms, keepAliveInterval=" + keepAliveIntervalMS + " ms}" : "SessionPooling{disabled}";
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof SessionPooling))
+        {
+            return false;
+        }
+
+        SessionPooling that = (SessionPooling) other;
+
+        return maximumChannels == that.maximumChannels && idleTimeoutMS == that.idleTimeoutMS
+               && keepAliveIntervalMS == that.keepAliveIntervalMS;
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        int result = maximumChannels;
+
+        result = 31 * result + Long.hashCode(idleTimeoutMS);
+        result = 31 * result + Long.hashCode(keepAliveIntervalMS);
+
+        return result;
+    }
+
+
+    /**
+     * Constructs a disabled {@link SessionPooling}, in which case a new SSH session is
+     * established (and disconnected) for every remote operation.
+     *
+     * @return  a disabled {@link SessionPooling}
+     */
+    @OptionsByType.Default
+    public static SessionPooling disabled()
+    {
+        return new SessionPooling(0, 0, 0);
+    }
+
+
+    /**
+     * Constructs an enabled {@link SessionPooling} using the default maximum channels,
+     * idle timeout and keep-alive interval.
+     *
+     * @return  an enabled {@link SessionPooling}
+     */
+    public static SessionPooling enabled()
+    {
+        return new SessionPooling(DEFAULT_MAXIMUM_CHANNELS, DEFAULT_IDLE_TIMEOUT_MS, DEFAULT_KEEP_ALIVE_INTERVAL_MS);
+    }
+
+
+    /**
+     * Constructs an enabled {@link SessionPooling} using the default keep-alive interval.
+     *
+     * @param maximumChannels  the maximum number of concurrently open channels per session
+     * @param idleTimeout      the time an idle session is retained
+     * @param units            the {@link TimeUnit} of the idle timeout
+     *
+     * @return  an enabled {@link SessionPooling}
+     */
+    public static SessionPooling enabled(int      maximumChannels,
+                                         long     idleTimeout,
+                                         TimeUnit units)
+    {
+        return enabled(maximumChannels,
+                       units.toMillis(idleTimeout),
+                       DEFAULT_KEEP_ALIVE_INTERVAL_MS,
+                       TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Constructs an enabled {@link SessionPooling}.
+     *
+     * @param maximumChannels    the maximum number of concurrently open channels per session
+     * @param idleTimeout        the time an idle session is retained
+     * @param keepAliveInterval  the interval between keep-alive messages (zero to not send them)
+     * @param units              the {@link TimeUnit} of the idle timeout and keep-alive interval
+     *
+     * @return  an enabled {@link SessionPooling}
+     */
+    public static SessionPooling enabled(int      maximumChannels,
+                                         long     idleTimeout,
+                                         long     keepAliveInterval,
+                                         TimeUnit units)
+    {
+        if (maximumChannels < 1)
+        {
+            throw new IllegalArgumentException("The maximum channels per session must be at least one");
+        }
+
+        if (idleTimeout < 0 || keepAliveInterval < 0)
+        {
+            throw new IllegalArgumentException("The idle timeout and keep-alive interval must not be negative");
+        }
+
+        return new SessionPooling(maximumChannels, units.toMillis(idleTimeout), units.toMillis(keepAliveInterval));
+    }
+}
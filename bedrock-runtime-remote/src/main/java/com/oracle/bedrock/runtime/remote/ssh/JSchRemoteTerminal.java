@@ -111,19 +111,20 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
         JSchSocketFactory socketFactory = new JSchSocketFactory();
 
         // initially there's no session
-        Session session = null;
+        Session     session     = null;
+        ChannelExec execChannel = null;
 
         try
         {
             // create the remote session
-            session = sessionFactory.createSession(platform.getAddress().getHostName(),
-                                                   platform.getPort(),
-                                                   platform.getUserName(),
-                                                   platform.getAuthentication(),
-                                                   socketFactory,
-                                                   optionsByType);
+            session = sessionFactory.acquireSession(platform.getAddress().getHostName(),
+                                                    platform.getPort(),
+                                                    platform.getUserName(),
+                                                    platform.getAuthentication(),
+                                                    socketFactory,
+                                                    optionsByType);
 
-            ChannelExec execChannel = (ChannelExec) session.openChannel("exec");
+            execChannel = (ChannelExec) session.openChannel("exec");
 
             // (re)define the "local.address" variable so that we can use for resolving the platform
             optionsByType.add(Variable.with("local.address", socketFactory.getLastLocalAddress().getHostAddress()));
@@ -227,11 +228,13 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
         }
         catch (JSchException e)
         {
-            if (session != null)
+            if (execChannel != null)
             {
-                session.disconnect();
+                execChannel.disconnect();
             }
 
+            JSchSessionFactory.releaseSession(session);
+
             throw new RuntimeException("Failed to create remote application", e);
         }
     }
@@ -241,7 +244,8 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
     public void makeDirectories(String        directoryName,
                                 OptionsByType optionsByType)
     {
-        Session session = null;
+        Session     session     = null;
+        ChannelExec execChannel = null;
 
         try
         {
@@ -252,14 +256,14 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
             JSchSocketFactory socketFactory = new JSchSocketFactory();
 
             // create the remote session
-            session = sessionFactory.createSession(platform.getAddress().getHostName(),
-                                                   platform.getPort(),
-                                                   platform.getUserName(),
-                                                   platform.getAuthentication(),
-                                                   socketFactory,
-                                                   optionsByType);
+            session = sessionFactory.acquireSession(platform.getAddress().getHostName(),
+                                                    platform.getPort(),
+                                                    platform.getUserName(),
+                                                    platform.getAuthentication(),
+                                                    socketFactory,
+                                                    optionsByType);
 
-            ChannelExec execChannel = (ChannelExec) session.openChannel("exec");
+            execChannel = (ChannelExec) session.openChannel("exec");
 
             execChannel.setCommand("mkdir -p " + directoryName);
 
@@ -275,10 +279,12 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
         }
         finally
         {
-            if (session != null)
+            if (execChannel != null)
             {
-                session.disconnect();
+                execChannel.disconnect();
             }
+
+            JSchSessionFactory.releaseSession(session);
         }
     }
 
@@ -287,7 +293,8 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
                          String        destination,
                          OptionsByType optionsByType)
     {
-        Session session = null;
+        Session     session     = null;
+        ChannelExec execChannel = null;
 
         try
         {
@@ -298,15 +305,16 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
             JSchSocketFactory socketFactory = new JSchSocketFactory();
 
             // create the remote session
-            session = sessionFactory.createSession(platform.getAddress().getHostName(),
-                                                   platform.getPort(),
-                                                   platform.getUserName(),
-                                                   platform.getAuthentication(),
-                                                   socketFactory,
-                                                   optionsByType);
+            session = sessionFactory.acquireSession(platform.getAddress().getHostName(),
+                                                    platform.getPort(),
+                                                    platform.getUserName(),
+                                                    platform.getAuthentication(),
+                                                    socketFactory,
+                                                    optionsByType);
 
-            ChannelExec execChannel = (ChannelExec) session.openChannel("exec");
-            String      moveCommand = String.format("mv %s %s", source, destination);
+            execChannel = (ChannelExec) session.openChannel("exec");
+
+            String moveCommand = String.format("mv %s %s", source, destination);
 
             execChannel.setCommand(moveCommand);
 
@@ -322,10 +330,12 @@ public class JSchRemoteTerminal extends AbstractRemoteTerminal
         }
         finally
         {
-            if (session != null)
+            if (execChannel != null)
             {
-                session.disconnect();
+                execChannel.disconnect();
             }
+
+            JSchSessionFactory.releaseSession(session);
         }
     }
 }
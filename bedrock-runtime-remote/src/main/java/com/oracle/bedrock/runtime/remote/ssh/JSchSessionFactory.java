@@ -31,6 +31,7 @@ import com.jcraft.jsch.Session;
 import com.oracle.bedrock.OptionsByType;
 import com.oracle.bedrock.options.Timeout;
 import com.oracle.bedrock.runtime.remote.Authentication;
+import com.oracle.bedrock.runtime.remote.options.SessionPooling;
 import com.oracle.bedrock.runtime.remote.options.StrictHostChecking;
 import com.oracle.bedrock.runtime.remote.options.UserKnownHostsFile;
 
@@ -148,4 +149,63 @@ public class JSchSessionFactory
 
         return session;
     }
+
+
+    /**
+     * Acquire a JSch {@link Session} connected to the specified remote host, reusing a pooled
+     * {@link Session} when {@link SessionPooling} is enabled, otherwise creating a new {@link Session}.
+     * <p>
+     * The {@link Session} must be returned using {@link #releaseSession(Session)}.
+     *
+     * @param userName        the user name to use to connect to the specified host
+     * @param authentication  the {@link Authentication} method to use to authenticate the user
+     * @param hostName        the host name of the remote host to connect to
+     * @param port            the port on the remote host to connect to
+     * @param socketFactory   the {@link JSchSocketFactory} to use
+     * @param optionsByType   the {@link OptionsByType} to use to control the session
+     *
+     * @return a {@link Session} connected to the specified remote host
+     *
+     * @throws JSchException if an error occurs creating the {@link Session}
+     */
+    public Session acquireSession(String            hostName,
+                                  int               port,
+                                  String            userName,
+                                  Authentication    authentication,
+                                  JSchSocketFactory socketFactory,
+                                  OptionsByType     optionsByType) throws JSchException
+    {
+        SessionPooling pooling = optionsByType.get(SessionPooling.class);
+
+        if (pooling.isEnabled())
+        {
+            return JSchSessionPool.get().acquire(this,
+                                                 hostName,
+                                                 port,
+                                                 userName,
+                                                 authentication,
+                                                 socketFactory,
+                                                 optionsByType,
+                                                 pooling);
+        }
+        else
+        {
+            return createSession(hostName, port, userName, authentication, socketFactory, optionsByType);
+        }
+    }
+
+
+    /**
+     * Release a JSch {@link Session} obtained using {@link #acquireSession}, returning it to the
+     * {@link JSchSessionPool} when it's pooled, otherwise disconnecting it.
+     *
+     * @param session  the {@link Session} to release (may be <code>null</code>)
+     */
+    public static void releaseSession(Session session)
+    {
+        if (session != null && !JSchSessionPool.get().release(session))
+        {
+            session.disconnect();
+        }
+    }
 }
@@ -0,0 +1,434 @@
+/*
+ * File: JSchSessionPool.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.remote.ssh;
+
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.remote.Authentication;
+import com.oracle.bedrock.runtime.remote.options.SessionPooling;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide pool of connected JSch {@link Session}s, keyed by host, port, user and
+ * {@link Authentication}, over which multiple channels are multiplexed as defined by
+ * {@link SessionPooling}.
+ * <p>
+ * Each {@link #acquire acquisition} of a {@link Session} leases one channel of the {@link Session},
+ * which must be returned by {@link #release(Session) releasing} the {@link Session}.  Idle
+ * {@link Session}s are disconnected by a background timer once their idle timeout has expired.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class JSchSessionPool
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(JSchSessionPool.class.getName());
+
+    /**
+     * The interval, in milliseconds, between evictions of idle {@link Session}s.
+     */
+    private static final long EVICTION_INTERVAL_MS = 1000;
+
+    /**
+     * The number of unanswered keep-alive messages after which a {@link Session} is disconnected.
+     */
+    private static final int KEEP_ALIVE_COUNT_MAX = 3;
+
+    /**
+     * The process-wide {@link JSchSessionPool}.
+     */
+    private static final JSchSessionPool INSTANCE = new JSchSessionPool();
+
+    /**
+     * The {@link PooledSession}s, keyed by connection.
+     */
+    private final ConcurrentHashMap<String, List<PooledSession>> pools;
+
+    /**
+     * The {@link PooledSession}s, keyed by {@link Session}.
+     */
+    private final ConcurrentHashMap<Session, PooledSession> sessions;
+
+    /**
+     * The {@link ScheduledExecutorService} evicting idle {@link Session}s (lazily started).
+     */
+    private ScheduledExecutorService evictor;
+
+
+    /**
+     * Constructs a {@link JSchSessionPool}.
+     */
+    JSchSessionPool()
+    {
+        this.pools    = new ConcurrentHashMap<>();
+        this.sessions = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Obtains the process-wide {@link JSchSessionPool}.
+     *
+     * @return the {@link JSchSessionPool}
+     */
+    public static JSchSessionPool get()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Acquires a channel lease on a healthy pooled {@link Session} to the specified remote host,
+     * creating a new {@link Session} using the {@link JSchSessionFactory} when no pooled
+     * {@link Session} has a channel available.
+     *
+     * @param sessionFactory  the {@link JSchSessionFactory} to create a {@link Session}
+     * @param hostName        the host name of the remote host to connect to
+     * @param port            the port on the remote host to connect to
+     * @param userName        the user name to use to connect to the specified host
+     * @param authentication  the {@link Authentication} method to use to authenticate the user
+     * @param socketFactory   the {@link JSchSocketFactory} to use, which will report the local
+     *                        address of the {@link Session}, even when reused
+     * @param optionsByType   the {@link OptionsByType} to use to control the session
+     * @param pooling         the {@link SessionPooling} configuration
+     *
+     * @return a connected {@link Session}, to be {@link #release(Session) released}
+     *
+     * @throws JSchException if an error occurs creating the {@link Session}
+     */
+    public Session acquire(JSchSessionFactory sessionFactory,
+                           String             hostName,
+                           int                port,
+                           String             userName,
+                           Authentication     authentication,
+                           JSchSocketFactory  socketFactory,
+                           OptionsByType      optionsByType,
+                           SessionPooling     pooling) throws JSchException
+    {
+        String              key  = userName + "@" + hostName + ":" + port + "/"
+                                   + authentication.getClass().getName() + "@"
+                                   + Integer.toHexString(System.identityHashCode(authentication));
+
+        List<PooledSession> pool = pools.computeIfAbsent(key, k -> new ArrayList<>());
+
+        synchronized (pool)
+        {
+            Iterator<PooledSession> iterator = pool.iterator();
+
+            while (iterator.hasNext())
+            {
+                PooledSession pooled = iterator.next();
+
+                if (pooled.leases < pooled.maximumChannels)
+                {
+                    if (pooled.isHealthy())
+                    {
+                        pooled.leases++;
+
+                        socketFactory.setLastLocalAddress(pooled.localAddress);
+
+                        return pooled.session;
+                    }
+                    else if (pooled.leases == 0)
+                    {
+                        iterator.remove();
+                        discard(pooled);
+                    }
+                }
+            }
+        }
+
+        // no pooled session has a channel available, so establish a new session (without holding the lock)
+        Session session = sessionFactory.createSession(hostName,
+                                                       port,
+                                                       userName,
+                                                       authentication,
+                                                       socketFactory,
+                                                       optionsByType);
+
+        long keepAliveInterval = pooling.getKeepAliveInterval(TimeUnit.MILLISECONDS);
+
+        if (keepAliveInterval > 0)
+        {
+            session.setServerAliveInterval((int) Math.min(keepAliveInterval, Integer.MAX_VALUE));
+            session.setServerAliveCountMax(KEEP_ALIVE_COUNT_MAX);
+        }
+
+        PooledSession pooled = new PooledSession(session, pool, socketFactory.getLastLocalAddress(), pooling);
+
+        pooled.leases = 1;
+
+        synchronized (pool)
+        {
+            pool.add(pooled);
+        }
+
+        sessions.put(session, pooled);
+
+        ensureEvicting();
+
+        return session;
+    }
+
+
+    /**
+     * Releases a channel lease on a {@link Session} previously {@link #acquire acquired}
+     * from the {@link JSchSessionPool}.
+     *
+     * @param session  the {@link Session}
+     *
+     * @return <code>true</code> if the {@link Session} is pooled, or <code>false</code> if the
+     *         {@link Session} was not acquired from the {@link JSchSessionPool}
+     */
+    public boolean release(Session session)
+    {
+        PooledSession pooled = session == null ? null : sessions.get(session);
+
+        if (pooled == null)
+        {
+            return false;
+        }
+
+        synchronized (pooled.pool)
+        {
+            pooled.leases = Math.max(0, pooled.leases - 1);
+            pooled.lastUsed = System.currentTimeMillis();
+
+            if (pooled.leases == 0 && !pooled.session.isConnected())
+            {
+                pooled.pool.remove(pooled);
+                discard(pooled);
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Determines the number of {@link Session}s currently pooled.
+     *
+     * @return the number of pooled {@link Session}s
+     */
+    public int size()
+    {
+        return sessions.size();
+    }
+
+
+    /**
+     * Disconnects the {@link Session}s that have been idle for longer than their idle timeout
+     * (or are no longer connected).
+     */
+    void evict()
+    {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<String, List<PooledSession>> entry : pools.entrySet())
+        {
+            List<PooledSession> pool = entry.getValue();
+
+            synchronized (pool)
+            {
+                Iterator<PooledSession> iterator = pool.iterator();
+
+                while (iterator.hasNext())
+                {
+                    PooledSession pooled = iterator.next();
+
+                    if (pooled.leases == 0
+                        && (now - pooled.lastUsed >= pooled.idleTimeout || !pooled.session.isConnected()))
+                    {
+                        iterator.remove();
+                        discard(pooled);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Removes a {@link PooledSession} from the {@link JSchSessionPool} and disconnects its {@link Session}.
+     * Must be called while holding the lock on the pool from which it was removed.
+     *
+     * @param pooled  the {@link PooledSession}
+     */
+    private void discard(PooledSession pooled)
+    {
+        sessions.remove(pooled.session);
+
+        try
+        {
+            pooled.session.disconnect();
+        }
+        catch (RuntimeException e)
+        {
+            LOGGER.log(Level.FINE, "Failed to disconnect pooled session", e);
+        }
+    }
+
+
+    /**
+     * Ensures the background eviction of idle {@link Session}s has been started.
+     */
+    private synchronized void ensureEvicting()
+    {
+        if (evictor == null)
+        {
+            evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                                                                     Thread thread =
+                                                                         new Thread(runnable,
+                                                                                    "Bedrock-SSH-Session-Evictor");
+
+                                                                     thread.setDaemon(true);
+
+                                                                     return thread;
+                                                                 });
+
+            evictor.scheduleWithFixedDelay(this::evict,
+                                           EVICTION_INTERVAL_MS,
+                                           EVICTION_INTERVAL_MS,
+                                           TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * A {@link Session} in a {@link JSchSessionPool}, guarded by the lock of its pool.
+     */
+    private static class PooledSession
+    {
+        /**
+         * The connected {@link Session}.
+         */
+        private final Session session;
+
+        /**
+         * The pool to which the {@link PooledSession} belongs.
+         */
+        private final List<PooledSession> pool;
+
+        /**
+         * The local {@link InetAddress} of the {@link Session}.
+         */
+        private final InetAddress localAddress;
+
+        /**
+         * The maximum number of concurrent channel leases.
+         */
+        private final int maximumChannels;
+
+        /**
+         * The time, in milliseconds, the {@link Session} is retained while idle.
+         */
+        private final long idleTimeout;
+
+        /**
+         * The interval, in milliseconds, after which an idle {@link Session} is checked before reuse.
+         */
+        private final long keepAliveInterval;
+
+        /**
+         * The number of current channel leases.
+         */
+        private int leases;
+
+        /**
+         * The time the {@link Session} was last released.
+         */
+        private long lastUsed;
+
+
+        /**
+         * Constructs a {@link PooledSession}.
+         *
+         * @param session       the connected {@link Session}
+         * @param pool          the pool to which the {@link PooledSession} belongs
+         * @param localAddress  the local {@link InetAddress} of the {@link Session}
+         * @param pooling       the {@link SessionPooling} configuration
+         */
+        private PooledSession(Session             session,
+                              List<PooledSession> pool,
+                              InetAddress         localAddress,
+                              SessionPooling      pooling)
+        {
+            this.session           = session;
+            this.pool              = pool;
+            this.localAddress      = localAddress;
+            this.maximumChannels   = pooling.getMaximumChannels();
+            this.idleTimeout       = pooling.getIdleTimeout(TimeUnit.MILLISECONDS);
+            this.keepAliveInterval = pooling.getKeepAliveInterval(TimeUnit.MILLISECONDS);
+            this.leases            = 0;
+            this.lastUsed          = System.currentTimeMillis();
+        }
+
+
+        /**
+         * Determines if the {@link Session} is healthy, sending a keep-alive message to check
+         * the connection when it has been idle for longer than the keep-alive interval.
+         *
+         * @return <code>true</code> if the {@link Session} may be used
+         */
+        private boolean isHealthy()
+        {
+            if (!session.isConnected())
+            {
+                return false;
+            }
+
+            if (leases == 0 && keepAliveInterval > 0 && System.currentTimeMillis() - lastUsed > keepAliveInterval)
+            {
+                try
+                {
+                    session.sendKeepAliveMsg();
+                }
+                catch (Exception e)
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -85,4 +85,16 @@ public class JSchSocketFactory implements SocketFactory
     {
         return lastLocalAddress;
     }
+
+
+    /**
+     * Sets the local {@link InetAddress} to that of a previously created {@link Socket}
+     * (used when an existing {@link Socket} is reused instead of creating a new {@link Socket}).
+     *
+     * @param localAddress  the local {@link InetAddress}
+     */
+    void setLastLocalAddress(InetAddress localAddress)
+    {
+        this.lastLocalAddress = localAddress;
+    }
 }
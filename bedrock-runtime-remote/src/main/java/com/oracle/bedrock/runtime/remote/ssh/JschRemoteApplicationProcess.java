@@ -134,7 +134,9 @@ public class JschRemoteApplicationProcess implements RemoteApplicationProcess
         }
 
         channel.disconnect();
-        session.disconnect();
+
+        // return the session to the pool (when pooled), otherwise disconnect it
+        JSchSessionFactory.releaseSession(session);
     }
 
 
@@ -25,31 +25,57 @@
 
 package com.oracle.bedrock.runtime.remote.ssh;
 
+import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpATTRS;
 import com.jcraft.jsch.SftpException;
 import com.oracle.bedrock.Option;
 import com.oracle.bedrock.OptionsByType;
 import com.oracle.bedrock.diagnostics.DiagnosticsRecording;
+import com.oracle.bedrock.lang.StringHelper;
 import com.oracle.bedrock.runtime.Platform;
 import com.oracle.bedrock.runtime.options.PlatformSeparators;
+import com.oracle.bedrock.runtime.remote.ArtifactDigests;
 import com.oracle.bedrock.runtime.remote.Authentication;
 import com.oracle.bedrock.runtime.remote.DeployedArtifacts;
+import com.oracle.bedrock.runtime.remote.DeploymentArchive;
 import com.oracle.bedrock.runtime.remote.DeploymentArtifact;
+import com.oracle.bedrock.runtime.remote.DeploymentQueue;
 import com.oracle.bedrock.runtime.remote.RemotePlatform;
+import com.oracle.bedrock.runtime.remote.options.ArchiveDeployment;
 import com.oracle.bedrock.runtime.remote.options.Deployer;
+import com.oracle.bedrock.runtime.remote.options.DeploymentCache;
+import com.oracle.bedrock.runtime.remote.options.DeploymentParallelism;
+import com.oracle.bedrock.runtime.remote.options.SessionPooling;
 import com.oracle.bedrock.table.Table;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An implementation of a {@link Deployer} that uses SFTP to
  * transfer {@link DeploymentArtifact}s to a platform.
  * <p>
+ * When a {@link DeploymentCache} is enabled, artifacts are transferred into the
+ * remote cache only when not already cached, and are then linked into place.
+ * <p>
+ * When a {@link DeploymentParallelism} is defined, artifacts are transferred concurrently,
+ * largest first, each concurrent transfer using its own SFTP channel of the same session.
+ * <p>
+ * When an {@link ArchiveDeployment} is enabled, artifacts are instead streamed as a single
+ * compressed archive into <code>tar</code> over an SSH exec channel.
+ * <p>
  * Copyright (c) 2015. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -57,6 +83,11 @@ import java.util.List;
  */
 public class SftpDeployer implements Deployer
 {
+    /**
+     * The output of an archive deployment when it created the remote directory.
+     */
+    private static final String CREATED = "bedrock-created";
+
     /**
      * The {@link JSchSessionFactory} to use to obtain JSch {@link Session}s.
      */
@@ -125,18 +156,31 @@ public class SftpDeployer implements Deployer
         try
         {
             // Obtain the connected JSch Session
-            session = sessionFactory.createSession(hostName,
-                                                   port,
-                                                   userName,
-                                                   authentication,
-                                                   socketFactory,
-                                                   optionsByType);
+            session = sessionFactory.acquireSession(hostName,
+                                                    port,
+                                                    userName,
+                                                    authentication,
+                                                    socketFactory,
+                                                    optionsByType);
 
             // ----- deploy remote application artifacts (using sftp) -----
 
             // determine the separators for the platform
             PlatformSeparators separators = optionsByType.get(PlatformSeparators.class);
 
+            // transfer all of the artifacts as a single archive (when enabled and not cached)
+            if (optionsByType.get(ArchiveDeployment.class).isEnabled()
+                &&!optionsByType.get(DeploymentCache.class).isEnabled())
+            {
+                deployArchive(session,
+                              new DeploymentArchive(artifactsToDeploy, remoteDirectory, separators),
+                              remoteDirectory,
+                              optionsByType,
+                              deployedArtifacts);
+
+                return deployedArtifacts;
+            }
+
             if (artifactsToDeploy.size() > 0)
             {
                 ChannelSftp sftpChannel = null;
@@ -161,58 +205,100 @@ public class SftpDeployer implements Deployer
                         deployedArtifacts.add(new File(remoteDirectory));
                     }
 
-                    // copy deployment artifacts into the remote server
-                    for (DeploymentArtifact artifactToDeploy : artifactsToDeploy)
-                    {
-                        // acquire the source file to deploy
-                        File sourceFile = artifactToDeploy.getSourceFile();
-
-                        // change to the desired remote directory
-                        File   destinationFile = artifactToDeploy.getDestinationFile();
+                    // establish the content-addressed deployment cache (when enabled)
+                    // (cached artifacts are only trusted when owned by the owner of the home directory)
+                    DeploymentCache cache          = optionsByType.get(DeploymentCache.class);
+                    String          cacheDirectory = null;
+                    int             cacheOwner     = -1;
 
-                        String destinationFileName;
+                    if (cache.isEnabled())
+                    {
+                        String home = sftpChannel.getHome();
 
-                        if (destinationFile == null)
-                        {
-                            sftpChannel.cd(remoteDirectory);
-                            destinationFileName = sourceFile.getName();
+                        cacheDirectory = cache.getDirectory(home);
+                        cacheOwner     = sftpChannel.stat(home).getUId();
 
-                            // add the file as a deployed artifact
-                            deployedArtifacts.add(new File(remoteDirectory, destinationFileName));
-                        }
-                        else
+                        if (!exists(sftpChannel, cacheDirectory))
                         {
-                            String destinationFilePath = separators.asPlatformFileName(destinationFile.getParent());
+                            makeDirectories(sftpChannel, cacheDirectory);
 
-                            String dirName;
-
-                            if (destinationFilePath == null)
-                            {
-                                dirName = separators.asPlatformFileName(remoteDirectory);
-                            }
-                            else
-                            {
-                                dirName = separators.asPlatformFileName(destinationFilePath);
-                            }
-
-                            sftpChannel.cd(dirName);
-
-                            destinationFileName = destinationFile.getName();
-
-                            // add the file as a deployed artifact
-                            deployedArtifacts.add(new File(dirName, destinationFileName));
+                            // keep the cache private to the user
+                            sftpChannel.chmod(0700, cacheDirectory);
                         }
+                    }
 
-                        // copy the source artifact to the destination file
-                        double start = System.currentTimeMillis();
-
-                        sftpChannel.put(new FileInputStream(sourceFile), destinationFileName);
-
-                        double time = (System.currentTimeMillis() - start) / 1000.0d;
-
-                        deploymentTable.addRow(sourceFile.toString(),
-                                               String.valueOf(destinationFile),
-                                               String.format("%.3f s", time));
+                    // copy deployment artifacts into the remote server, using one channel per concurrent
+                    // transfer (the first reusing the channel we already have).  when sessions are pooled each
+                    // additional channel leases its own session, so the pool never exceeds the maximum channels
+                    // per session, otherwise the channels share the session, limited to the default MaxSessions
+                    DeploymentParallelism        parallelism = optionsByType.get(DeploymentParallelism.class);
+                    boolean                      pooled      = optionsByType.get(SessionPooling.class).isEnabled();
+                    int                          concurrency = pooled
+                                                               ? parallelism.get()
+                                                               : Math.min(parallelism.get(),
+                                                                          SessionPooling.DEFAULT_MAXIMUM_CHANNELS);
+                    int                          count       = artifactsToDeploy.size();
+                    File[]                       deployed    = new File[count];
+                    String[][]                   rows        = new String[count][];
+                    DeploymentQueue              queue       = new DeploymentQueue(artifactsToDeploy, concurrency);
+                    AtomicReference<ChannelSftp> available   = new AtomicReference<>(sftpChannel);
+                    Session                      connected   = session;
+                    String                       cachedIn    = cacheDirectory;
+                    int                          cachedBy    = cacheOwner;
+
+                    queue.execute("Bedrock-SFTP-Deployer",
+                                  () -> {
+                                      ChannelSftp channel = available.getAndSet(null);
+                                      boolean     opened  = channel == null;
+                                      Session     leased  = null;
+
+                                      try
+                                      {
+                                          if (opened)
+                                          {
+                                              leased  = pooled
+                                                        ? sessionFactory.acquireSession(hostName,
+                                                                                        port,
+                                                                                        userName,
+                                                                                        authentication,
+                                                                                        socketFactory,
+                                                                                        optionsByType)
+                                                        : null;
+
+                                              Session channelSession = leased == null ? connected : leased;
+
+                                              channel = (ChannelSftp) channelSession.openChannel("sftp");
+                                              channel.connect(channelSession.getTimeout());
+                                          }
+
+                                          for (int i = queue.next(); i >= 0; i = queue.next())
+                                          {
+                                              rows[i] = deploy(channel,
+                                                               artifactsToDeploy.get(i),
+                                                               remoteDirectory,
+                                                               separators,
+                                                               cachedIn,
+                                                               cachedBy,
+                                                               deployed,
+                                                               i);
+                                          }
+                                      }
+                                      finally
+                                      {
+                                          if (opened && channel != null)
+                                          {
+                                              channel.disconnect();
+                                          }
+
+                                          JSchSessionFactory.releaseSession(leased);
+                                      }
+                                  });
+
+                    // record the deployed artifacts and their timings in the order they were specified
+                    for (int i = 0; i < count; i++)
+                    {
+                        deployedArtifacts.add(deployed[i]);
+                        deploymentTable.addRow(rows[i]);
                     }
 
                     Table diagnosticsTable = optionsByType.get(Table.class);
@@ -222,7 +308,11 @@ public class SftpDeployer implements Deployer
                         diagnosticsTable.addRow("Application Deployments ", deploymentTable.toString());
                     }
                 }
-                catch (IOException | SftpException e)
+                catch (RuntimeException e)
+                {
+                    throw e;
+                }
+                catch (Exception e)
                 {
                     throw new RuntimeException("Failed to deploy application", e);
                 }
@@ -242,13 +332,378 @@ public class SftpDeployer implements Deployer
         }
         finally
         {
-            if (session != null)
+            JSchSessionFactory.releaseSession(session);
+        }
+
+        return deployedArtifacts;
+    }
+
+
+    /**
+     * Deploys a {@link DeploymentArchive} by streaming it into the standard input of <code>tar</code>,
+     * executed using an SSH exec channel of the specified {@link Session}.
+     *
+     * @param session            the {@link Session}
+     * @param archive            the {@link DeploymentArchive} to deploy
+     * @param remoteDirectory    the default remote directory for the artifacts
+     * @param optionsByType      the deployment {@link OptionsByType}
+     * @param deployedArtifacts  the {@link DeployedArtifacts} in which to record the deployed files
+     *
+     * @throws JSchException  when the exec channel can't be opened
+     */
+    private void deployArchive(Session           session,
+                               DeploymentArchive archive,
+                               String            remoteDirectory,
+                               OptionsByType     optionsByType,
+                               DeployedArtifacts deployedArtifacts) throws JSchException
+    {
+        ChannelExec           execChannel = null;
+        ByteArrayOutputStream errors      = new ByteArrayOutputStream();
+        String                directory   = StringHelper.doubleQuoteIfNecessary(remoteDirectory);
+        double                start       = System.currentTimeMillis();
+
+        try
+        {
+            // create the remote directory (noting when it didn't exist) and extract the archive from stdin
+            execChannel = (ChannelExec) session.openChannel("exec");
+            execChannel.setCommand("test -d " + directory + " || echo " + CREATED + " ; mkdir -p " + directory
+                                   + " && " + DeploymentArchive.EXTRACT_COMMAND);
+            execChannel.setErrStream(errors);
+
+            InputStream  output = execChannel.getInputStream();
+            OutputStream input  = execChannel.getOutputStream();
+
+            execChannel.connect(session.getTimeout());
+
+            // stream the archive, closing the input so that tar observes the end of the archive
+            long size;
+
+            try (OutputStream outputStream = new BufferedOutputStream(input, 64 * 1024))
+            {
+                size = archive.writeTo(outputStream);
+            }
+
+            String result = new String(output.readAllBytes(), StandardCharsets.UTF_8);
+
+            while (!execChannel.isClosed())
+            {
+                Thread.sleep(10);
+            }
+
+            if (execChannel.getExitStatus() != 0)
+            {
+                throw new RuntimeException("Failed to extract the deployment archive (exit status "
+                                           + execChannel.getExitStatus() + "): "
+                                           + errors.toString(StandardCharsets.UTF_8).trim());
+            }
+
+            if (result.contains(CREATED))
+            {
+                // add the directory as something to clean up
+                deployedArtifacts.add(new File(remoteDirectory));
+            }
+
+            double time            = (System.currentTimeMillis() - start) / 1000.0d;
+            Table  deploymentTable = new Table();
+
+            for (String targetFileName : archive.getTargetFileNames())
+            {
+                deployedArtifacts.add(new File(targetFileName));
+            }
+
+            for (DeploymentArtifact artifact : archive.getArtifacts())
+            {
+                deploymentTable.addRow(artifact.getSourceFile().toString(),
+                                       String.valueOf(artifact.getDestinationFile()),
+                                       "",
+                                       "archived");
+            }
+
+            deploymentTable.addRow("Archive of " + archive.getArtifacts().size() + " artifacts",
+                                   remoteDirectory,
+                                   String.format("%.3f s", time),
+                                   size + " bytes");
+
+            Table diagnosticsTable = optionsByType.get(Table.class);
+
+            if (diagnosticsTable != null)
+            {
+                diagnosticsTable.addRow("Application Deployments ", deploymentTable.toString());
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Failed to deploy application", e);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException("Interrupted while deploying application", e);
+        }
+        finally
+        {
+            if (execChannel != null)
             {
-                session.disconnect();
+                execChannel.disconnect();
             }
         }
+    }
 
-        return deployedArtifacts;
+
+    /**
+     * Deploys a {@link DeploymentArtifact} using the specified {@link ChannelSftp}.
+     *
+     * @param sftpChannel      the {@link ChannelSftp}
+     * @param artifact         the {@link DeploymentArtifact} to deploy
+     * @param remoteDirectory  the default remote directory for the artifact
+     * @param separators       the {@link PlatformSeparators} of the remote platform
+     * @param cacheDirectory   the resolved {@link DeploymentCache} directory
+     *                         (<code>null</code> when the {@link DeploymentCache} is disabled)
+     * @param cacheOwner       the user id that must own trusted cached files
+     * @param deployed         the deployed files, in which to record the deployed file
+     * @param index            the index of the {@link DeploymentArtifact}
+     *
+     * @return the diagnostics {@link Table} row describing the deployment
+     *
+     * @throws IOException    when the file can't be read
+     * @throws SftpException  when the file can't be deployed
+     */
+    private String[] deploy(ChannelSftp        sftpChannel,
+                            DeploymentArtifact artifact,
+                            String             remoteDirectory,
+                            PlatformSeparators separators,
+                            String             cacheDirectory,
+                            int                cacheOwner,
+                            File[]             deployed,
+                            int                index) throws IOException, SftpException
+    {
+        // acquire the source file to deploy
+        File sourceFile = artifact.getSourceFile();
+
+        // change to the desired remote directory
+        File   destinationFile = artifact.getDestinationFile();
+
+        String destinationFileName;
+
+        if (destinationFile == null)
+        {
+            sftpChannel.cd(remoteDirectory);
+            destinationFileName = sourceFile.getName();
+
+            // add the file as a deployed artifact
+            deployed[index] = new File(remoteDirectory, destinationFileName);
+        }
+        else
+        {
+            String destinationFilePath = separators.asPlatformFileName(destinationFile.getParent());
+
+            String dirName;
+
+            if (destinationFilePath == null)
+            {
+                dirName = separators.asPlatformFileName(remoteDirectory);
+            }
+            else
+            {
+                dirName = separators.asPlatformFileName(destinationFilePath);
+            }
+
+            sftpChannel.cd(dirName);
+
+            destinationFileName = destinationFile.getName();
+
+            // add the file as a deployed artifact
+            deployed[index] = new File(dirName, destinationFileName);
+        }
+
+        // copy the source artifact to the destination file
+        double start = System.currentTimeMillis();
+
+        String transfer;
+
+        if (cacheDirectory != null)
+        {
+            transfer = deployCached(sftpChannel, cacheDirectory, cacheOwner, sourceFile, destinationFileName)
+                       ? "transferred" : "cached";
+        }
+        else
+        {
+            try (FileInputStream inputStream = new FileInputStream(sourceFile))
+            {
+                sftpChannel.put(inputStream, destinationFileName);
+            }
+
+            transfer = "transferred";
+        }
+
+        double time = (System.currentTimeMillis() - start) / 1000.0d;
+
+        return new String[] {sourceFile.toString(), String.valueOf(destinationFile), String.format("%.3f s", time),
+                             transfer};
+    }
+
+
+    /**
+     * Deploys a file using a content-addressed {@link DeploymentCache}, transferring the file into the
+     * cache only when it's not already cached and then linking the cached file into the current
+     * remote directory.
+     * <p>
+     * A cached file is only trusted when it's a regular file owned by the specified owner and isn't
+     * writable by other users, otherwise the file is transferred directly, bypassing the cache.
+     *
+     * @param sftpChannel          the {@link ChannelSftp}
+     * @param cacheDirectory       the resolved {@link DeploymentCache} directory
+     * @param cacheOwner           the user id that must own trusted cached files
+     * @param sourceFile           the file to deploy
+     * @param destinationFileName  the name of the file in the current remote directory
+     *
+     * @return <code>true</code> if the file was transferred, <code>false</code> if it was already cached
+     *
+     * @throws IOException    when the file can't be read
+     * @throws SftpException  when the file can't be deployed
+     */
+    private boolean deployCached(ChannelSftp sftpChannel,
+                                 String      cacheDirectory,
+                                 int         cacheOwner,
+                                 File        sourceFile,
+                                 String      destinationFileName) throws IOException, SftpException
+    {
+        String  cachedFile  = cacheDirectory + "/" + ArtifactDigests.of(sourceFile);
+        boolean transferred = false;
+
+        if (!exists(sftpChannel, cachedFile))
+        {
+            // transfer into a partial file that's then atomically renamed, so that other
+            // deployments never observe incomplete cached files
+            String partialFile = cachedFile + ".part-" + UUID.randomUUID();
+
+            try (FileInputStream inputStream = new FileInputStream(sourceFile))
+            {
+                sftpChannel.put(inputStream, partialFile);
+            }
+
+            try
+            {
+                sftpChannel.rename(partialFile, cachedFile);
+            }
+            catch (SftpException e)
+            {
+                // another deployment may have concurrently cached the same file
+                sftpChannel.rm(partialFile);
+
+                if (!exists(sftpChannel, cachedFile))
+                {
+                    throw e;
+                }
+            }
+
+            transferred = true;
+        }
+
+        if (!isTrusted(sftpChannel.lstat(cachedFile), cacheOwner))
+        {
+            // never link a cached file that another user could have planted or modified
+            try (FileInputStream inputStream = new FileInputStream(sourceFile))
+            {
+                sftpChannel.put(inputStream, destinationFileName);
+            }
+
+            return true;
+        }
+
+        // prefer a hard link (so undeploying the link never affects the cache) falling back to a symbolic link
+        try
+        {
+            sftpChannel.hardlink(cachedFile, destinationFileName);
+        }
+        catch (SftpException e)
+        {
+            sftpChannel.symlink(cachedFile, destinationFileName);
+        }
+
+        return transferred;
+    }
+
+
+    /**
+     * Determines if a cached file can be trusted, being a regular file owned by the specified owner
+     * that isn't writable by the group or other users.
+     *
+     * @param attributes  the {@link SftpATTRS} of the cached file
+     * @param owner       the user id that must own the file
+     *
+     * @return <code>true</code> if the cached file can be trusted
+     */
+    private static boolean isTrusted(SftpATTRS attributes,
+                                     int       owner)
+    {
+        return attributes.isReg() && attributes.getUId() == owner && (attributes.getPermissions() & 022) == 0;
+    }
+
+
+    /**
+     * Determines if a remote file or directory exists.
+     *
+     * @param sftpChannel  the {@link ChannelSftp}
+     * @param path         the remote path
+     *
+     * @return <code>true</code> if the path exists
+     */
+    private static boolean exists(ChannelSftp sftpChannel,
+                                  String      path)
+    {
+        try
+        {
+            sftpChannel.lstat(path);
+
+            return true;
+        }
+        catch (SftpException e)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Creates a remote directory, including any missing parent directories.
+     *
+     * @param sftpChannel  the {@link ChannelSftp}
+     * @param directory    the remote directory
+     *
+     * @throws SftpException  when a directory can't be created
+     */
+    private static void makeDirectories(ChannelSftp sftpChannel,
+                                        String      directory) throws SftpException
+    {
+        StringBuilder path = new StringBuilder(directory.startsWith("/") ? "/" : "");
+
+        for (String name : directory.split("/"))
+        {
+            if (!name.isEmpty())
+            {
+                path.append(name);
+
+                if (!exists(sftpChannel, path.toString()))
+                {
+                    try
+                    {
+                        sftpChannel.mkdir(path.toString());
+                    }
+                    catch (SftpException e)
+                    {
+                        // the directory may have been concurrently created
+                        if (!exists(sftpChannel, path.toString()))
+                        {
+                            throw e;
+                        }
+                    }
+                }
+
+                path.append('/');
+            }
+        }
     }
 
 
@@ -286,12 +741,12 @@ public class SftpDeployer implements Deployer
         try
         {
             // obtain the connected JSch Session
-            session = sessionFactory.createSession(hostName,
-                                                   port,
-                                                   userName,
-                                                   authentication,
-                                                   socketFactory,
-                                                   optionsByType);
+            session = sessionFactory.acquireSession(hostName,
+                                                    port,
+                                                    userName,
+                                                    authentication,
+                                                    socketFactory,
+                                                    optionsByType);
 
             // ----- undeploy remote application artifacts (using sftp) -----
 
@@ -351,10 +806,7 @@ public class SftpDeployer implements Deployer
         }
         finally
         {
-            if (session != null)
-            {
-                session.disconnect();
-            }
+            JSchSessionFactory.releaseSession(session);
         }
 
         return failedArtifacts;
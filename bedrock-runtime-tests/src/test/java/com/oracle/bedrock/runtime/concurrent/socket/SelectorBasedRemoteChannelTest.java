@@ -0,0 +1,389 @@
+/*
+ * File: SelectorBasedRemoteChannelTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent.socket;
+
+import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+import com.oracle.bedrock.runtime.concurrent.RemoteEventListener;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
+import com.oracle.bedrock.runtime.concurrent.options.StreamName;
+import com.oracle.bedrock.runtime.concurrent.socket.SocketBasedRemoteChannelTest.Content;
+import com.oracle.bedrock.runtime.concurrent.socket.SocketBasedRemoteChannelTest.Event;
+import com.oracle.bedrock.runtime.concurrent.socket.SocketBasedRemoteChannelTest.PingPong;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Functional Tests for {@link SelectorBasedRemoteChannelServer}s and {@link SelectorBasedRemoteChannel}s.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class SelectorBasedRemoteChannelTest
+{
+    /**
+     * Ensure a {@link SelectorBasedRemoteChannelServer} can submit, receive and raise
+     * using the {@link ChannelProtocol#FRAMED} protocol.
+     */
+    @Test
+    public void shouldSubmitAndRaiseUsingFramedProtocol() throws Exception
+    {
+        int                  count    = 100;
+        final CountDownLatch latch    = new CountDownLatch(count);
+        final List<Integer>  list     = new CopyOnWriteArrayList<>();
+        RemoteEventListener  listener = event -> {
+                                            list.add(((Event) event).getId());
+                                            latch.countDown();
+                                        };
+
+        try (SelectorBasedRemoteChannelServer server = new SelectorBasedRemoteChannelServer("Test",
+                                                                                            0,
+                                                                                            null,
+                                                                                            ChannelProtocol.FRAMED))
+        {
+            StreamName  streamName = StreamName.of("Foo");
+            InetAddress address    = server.open();
+
+            server.addListener(listener, streamName);
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null,
+                                                                                            ChannelProtocol.SERIALIZED))
+            {
+                client.open();
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(client.getProtocol(), is(ChannelProtocol.FRAMED));
+
+                assertThat(server.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+
+                for (int i = 0; i < count; i++)
+                {
+                    client.raise(new Event(i), streamName);
+                }
+
+                assertThat(latch.await(1, TimeUnit.MINUTES), is(true));
+
+                for (int i = 0; i < count; i++)
+                {
+                    assertThat(list.get(i), is(i));
+                }
+
+                for (SelectorBasedRemoteChannel channel : server.getRemoteChannels())
+                {
+                    assertThat(channel.getProtocol(), is(ChannelProtocol.FRAMED));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Ensure a {@link SelectorBasedRemoteChannelServer} can submit and receive
+     * using the {@link ChannelProtocol#SERIALIZED} protocol.
+     */
+    @Test
+    public void shouldSubmitUsingSerializedProtocol() throws Exception
+    {
+        try (SelectorBasedRemoteChannelServer server = new SelectorBasedRemoteChannelServer("Test",
+                                                                                            0,
+                                                                                            null,
+                                                                                            ChannelProtocol.SERIALIZED))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null,
+                                                                                            ChannelProtocol.SERIALIZED))
+            {
+                client.open();
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(server.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(client.getProtocol(), is(ChannelProtocol.SERIALIZED));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure a {@link SelectorBasedRemoteChannelServer} continues to work with clients
+     * that don't understand protocol negotiation (ie: clients from an earlier release).
+     */
+    @Test
+    public void shouldAcceptClientsWithoutNegotiation() throws Exception
+    {
+        try (SelectorBasedRemoteChannelServer server = new SelectorBasedRemoteChannelServer("Test",
+                                                                                            0,
+                                                                                            null,
+                                                                                            ChannelProtocol.FRAMED))
+        {
+            InetAddress address = server.open();
+
+            try (Socket socket = new Socket(address, server.getPort()))
+            {
+                Thread peer = new Thread(() -> SocketBasedRemoteChannelTest.runLegacyPeer(socket), "LegacyPeer");
+
+                peer.setDaemon(true);
+                peer.start();
+
+                awaitRemoteChannels(server, 1);
+
+                assertThat(server.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(server.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+
+                for (SelectorBasedRemoteChannel channel : server.getRemoteChannels())
+                {
+                    assertThat(channel.getProtocol(), is(ChannelProtocol.SERIALIZED));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Ensure the number of threads used by a {@link SelectorBasedRemoteChannelServer}
+     * doesn't grow with the number of connected clients.
+     */
+    @Test
+    public void shouldMultiplexClientsOnFixedThreads() throws Exception
+    {
+        int                                  count   = 25;
+        List<SocketBasedRemoteChannelClient> clients = new ArrayList<>();
+
+        try (SelectorGroup selectorGroup = new SelectorGroup("Multiplexed", 1, 2);
+            SelectorBasedRemoteChannelServer server = new SelectorBasedRemoteChannelServer("Test",
+                                                                                           0,
+                                                                                           null,
+                                                                                           null,
+                                                                                           selectorGroup))
+        {
+            InetAddress address = server.open();
+
+            for (int i = 0; i < count; i++)
+            {
+                SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                           server.getPort(),
+                                                                                           null);
+
+                clients.add(client);
+                client.open();
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+            }
+
+            awaitRemoteChannels(server, count);
+
+            for (SelectorBasedRemoteChannel channel : server.getRemoteChannels())
+            {
+                assertThat(channel.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+            }
+
+            long threads = Thread.getAllStackTraces().keySet().stream()
+                           .filter(thread -> thread.getName().startsWith("Multiplexed:")).count();
+
+            assertThat(threads, is(lessThanOrEqualTo(3L)));
+        }
+        finally
+        {
+            clients.forEach(SocketBasedRemoteChannelClient::close);
+        }
+    }
+
+
+    /**
+     * Ensure a {@link SelectorBasedRemoteChannelServer} can receive and send more bytes than
+     * it will buffer, suspending reading and waiting to write as required.
+     */
+    @Test
+    public void shouldExchangeMoreThanBufferedBytes() throws Exception
+    {
+        int    count   = 8;
+        byte[] payload = new byte[SelectorBasedRemoteChannel.MAXIMUM_BUFFERED_BYTES / 2];
+
+        new Random(42).nextBytes(payload);
+
+        try (SelectorBasedRemoteChannelServer server = new SelectorBasedRemoteChannelServer("Test",
+                                                                                            0,
+                                                                                            null,
+                                                                                            ChannelProtocol.FRAMED))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null))
+            {
+                client.open();
+
+                List<CompletableFuture<byte[]>> futures = new ArrayList<>();
+
+                for (int i = 0; i < count; i++)
+                {
+                    futures.add(client.submit(new Echo(payload)));
+                }
+
+                for (CompletableFuture<byte[]> future : futures)
+                {
+                    assertThat(Arrays.equals(future.get(1, TimeUnit.MINUTES), payload), is(true));
+                }
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure a {@link SelectorBasedRemoteChannelServer} with fewer executor threads than
+     * concurrently streamed results continues to stream all of them.
+     */
+    @Test
+    public void shouldStreamMoreResultsThanExecutorThreads() throws Exception
+    {
+        int count = 4;
+        int size  = 2 * 1024 * 1024 + 17;
+
+        try (SelectorGroup selectorGroup = new SelectorGroup("Streaming", 1, 2);
+            SelectorBasedRemoteChannelServer server = new SelectorBasedRemoteChannelServer("Test",
+                                                                                           0,
+                                                                                           null,
+                                                                                           null,
+                                                                                           selectorGroup))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null))
+            {
+                client.open();
+
+                List<InputStream> streams = new ArrayList<>();
+
+                for (int i = 0; i < count; i++)
+                {
+                    streams.add(client.submit(new Content(size)).get(1, TimeUnit.MINUTES));
+                }
+
+                for (InputStream stream : streams)
+                {
+                    byte[] buffer = new byte[8192];
+                    long   total  = 0;
+                    int    read;
+
+                    while ((read = stream.read(buffer)) >= 0)
+                    {
+                        total += read;
+                    }
+
+                    stream.close();
+
+                    assertThat(total, is((long) size));
+                }
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+            }
+        }
+    }
+
+
+    /**
+     * Waits for a {@link SelectorBasedRemoteChannelServer} to have the specified number of
+     * {@link SelectorBasedRemoteChannel}s.
+     *
+     * @param server  the {@link SelectorBasedRemoteChannelServer}
+     * @param count   the number of {@link SelectorBasedRemoteChannel}s
+     */
+    private static void awaitRemoteChannels(SelectorBasedRemoteChannelServer server,
+                                            int                              count) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+        int  actual   = 0;
+
+        while (System.currentTimeMillis() < deadline)
+        {
+            actual = 0;
+
+            for (SelectorBasedRemoteChannel ignored : server.getRemoteChannels())
+            {
+                actual++;
+            }
+
+            if (actual >= count)
+            {
+                return;
+            }
+
+            Thread.sleep(10);
+        }
+
+        assertThat(actual, is(count));
+    }
+
+
+    /**
+     * A {@link RemoteCallable} that returns the bytes it was given.
+     */
+    public static class Echo implements RemoteCallable<byte[]>
+    {
+        private final byte[] bytes;
+
+
+        /**
+         * Constructs an {@link Echo}.
+         *
+         * @param bytes  the bytes to return
+         */
+        public Echo(byte[] bytes)
+        {
+            this.bytes = bytes;
+        }
+
+
+        @Override
+        public byte[] call()
+        {
+            return bytes;
+        }
+    }
+}
@@ -26,17 +26,34 @@
 package com.oracle.bedrock.runtime.concurrent.socket;
 
 import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.oracle.bedrock.runtime.Settings;
+import com.oracle.bedrock.runtime.concurrent.CompactRemoteChannelSerializer;
 import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelMetrics;
 import com.oracle.bedrock.runtime.concurrent.RemoteEvent;
 import com.oracle.bedrock.runtime.concurrent.RemoteEventListener;
+import com.oracle.bedrock.runtime.concurrent.RemoteInputStream;
 import com.oracle.bedrock.runtime.concurrent.RemoteRunnable;
 import com.oracle.bedrock.runtime.concurrent.options.Caching;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
 import com.oracle.bedrock.runtime.concurrent.options.StreamName;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -44,6 +61,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.oracle.bedrock.deferred.DeferredHelper.future;
 import static org.hamcrest.CoreMatchers.is;
@@ -346,6 +364,692 @@ public class SocketBasedRemoteChannelTest
     }
 
 
+    /**
+     * Ensure {@link SocketBasedRemoteChannel}s negotiate the {@link ChannelProtocol#FRAMED}
+     * protocol when one end requests it, and can then submit requests and raise events.
+     */
+    @Test
+    public void shouldNegotiateFramedProtocol() throws Exception
+    {
+        int                  count    = 100;
+        final CountDownLatch latch    = new CountDownLatch(count);
+        final List<Integer>  list     = new ArrayList<>();
+        RemoteEventListener  listener = event -> {
+                                            list.add(((Event) event).getId());
+                                            latch.countDown();
+                                        };
+
+        try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test",
+                                                                                        0,
+                                                                                        null,
+                                                                                        ChannelProtocol.FRAMED))
+        {
+            StreamName  streamName = StreamName.of("Foo");
+            InetAddress address    = server.open();
+
+            server.addListener(listener, streamName);
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null,
+                                                                                            ChannelProtocol.SERIALIZED))
+            {
+                client.open();
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(client.getProtocol(), is(ChannelProtocol.FRAMED));
+
+                assertThat(server.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+
+                for (int i = 0; i < count; i++)
+                {
+                    client.raise(new Event(i), streamName);
+                }
+
+                assertThat(latch.await(1, TimeUnit.MINUTES), is(true));
+
+                for (int i = 0; i < count; i++)
+                {
+                    assertThat(list.get(i), is(i));
+                }
+
+                for (SocketBasedRemoteChannel channel : server.getRemoteChannels())
+                {
+                    assertThat(channel.getProtocol(), is(ChannelProtocol.FRAMED));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Ensure a batch of {@link RemoteCallable}s can be submitted together (in both directions
+     * and using both protocols), with the results returned in the order of submission.
+     */
+    @Test
+    public void shouldSubmitAllRemoteCallables() throws Exception
+    {
+        int        count     = 100;
+        List<Echo> callables = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            callables.add(new Echo(i));
+        }
+
+        for (ChannelProtocol protocol : ChannelProtocol.values())
+        {
+            try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test",
+                                                                                            0,
+                                                                                            null,
+                                                                                            protocol))
+            {
+                InetAddress address = server.open();
+
+                try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                                server.getPort(),
+                                                                                                null,
+                                                                                                protocol))
+                {
+                    client.open();
+
+                    List<CompletableFuture<Integer>> serverResponses = client.submitAll(callables);
+
+                    assertThat(serverResponses.size(), is(count));
+
+                    for (int i = 0; i < count; i++)
+                    {
+                        assertThat(serverResponses.get(i).get(1, TimeUnit.MINUTES), is(i));
+                    }
+
+                    assertThat(client.getProtocol(), is(protocol));
+
+                    List<CompletableFuture<Integer>> clientResponses = server.submitAll(callables);
+
+                    assertThat(clientResponses.size(), is(count));
+
+                    for (int i = 0; i < count; i++)
+                    {
+                        assertThat(clientResponses.get(i).get(1, TimeUnit.MINUTES), is(i));
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Ensure {@link RemoteCallable}s submitted concurrently by many threads are all sent
+     * (and their responses received) when the outbound queue is drained.
+     */
+    @Test
+    public void shouldSubmitConcurrentlyFromManyThreads() throws Exception
+    {
+        int threads   = 8;
+        int perThread = 250;
+
+        try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test",
+                                                                                        0,
+                                                                                        null,
+                                                                                        ChannelProtocol.FRAMED))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null))
+            {
+                client.open();
+
+                List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                List<Thread>                     senders = new ArrayList<>();
+
+                for (int t = 0; t < threads; t++)
+                {
+                    final int offset = t * perThread;
+
+                    Thread thread = new Thread(() -> {
+                                                   for (int i = 0; i < perThread; i++)
+                                                   {
+                                                       CompletableFuture<Integer> future =
+                                                           client.submit(new Echo(offset + i));
+
+                                                       synchronized (futures)
+                                                       {
+                                                           futures.add(future);
+                                                       }
+                                                   }
+                                               });
+
+                    senders.add(thread);
+                    thread.start();
+                }
+
+                for (Thread thread : senders)
+                {
+                    thread.join();
+                }
+
+                assertThat(futures.size(), is(threads * perThread));
+
+                int total = 0;
+
+                for (CompletableFuture<Integer> future : futures)
+                {
+                    total += future.get(1, TimeUnit.MINUTES);
+                }
+
+                int n = threads * perThread;
+
+                assertThat(total, is(n * (n - 1) / 2));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure {@link RemoteCallable}s submitted concurrently are all sent (and their responses
+     * received) when the drain loop lingers for more operations before flushing.
+     */
+    @Test
+    public void shouldSubmitConcurrentlyWhileLingering() throws Exception
+    {
+        int threads   = 4;
+        int perThread = 100;
+
+        System.setProperty(Settings.CHANNEL_LINGER, "1000");
+
+        try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test",
+                                                                                        0,
+                                                                                        null,
+                                                                                        ChannelProtocol.FRAMED))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null))
+            {
+                client.open();
+
+                List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                List<Thread>                     senders = new ArrayList<>();
+
+                for (int t = 0; t < threads; t++)
+                {
+                    final int offset = t * perThread;
+
+                    Thread thread = new Thread(() -> {
+                                                   for (int i = 0; i < perThread; i++)
+                                                   {
+                                                       CompletableFuture<Integer> future =
+                                                           client.submit(new Echo(offset + i));
+
+                                                       synchronized (futures)
+                                                       {
+                                                           futures.add(future);
+                                                       }
+                                                   }
+                                               });
+
+                    senders.add(thread);
+                    thread.start();
+                }
+
+                for (Thread thread : senders)
+                {
+                    thread.join();
+                }
+
+                int total = 0;
+
+                for (CompletableFuture<Integer> future : futures)
+                {
+                    total += future.get(1, TimeUnit.MINUTES);
+                }
+
+                int n = threads * perThread;
+
+                assertThat(total, is(n * (n - 1) / 2));
+            }
+        }
+        finally
+        {
+            System.clearProperty(Settings.CHANNEL_LINGER);
+        }
+    }
+
+
+    /**
+     * Ensure equal {@link RemoteCallable}s submitted concurrently with {@link Caching} enabled
+     * are only sent once, sharing the result while it's in flight and once it's cached.
+     */
+    @Test
+    public void shouldSendConcurrentlyCachedCallablesOnce() throws Exception
+    {
+        int threads = 20;
+
+        try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test"))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null))
+            {
+                client.open();
+
+                List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                CountDownLatch                   start   = new CountDownLatch(1);
+                List<Thread>                     pollers = new ArrayList<>();
+
+                for (int t = 0; t < threads; t++)
+                {
+                    Thread thread = new Thread(() -> {
+                                                   try
+                                                   {
+                                                       start.await();
+                                                   }
+                                                   catch (InterruptedException e)
+                                                   {
+                                                       return;
+                                                   }
+
+                                                   CompletableFuture<Integer> future =
+                                                       client.submit(new Counter(), Caching.enabled());
+
+                                                   synchronized (futures)
+                                                   {
+                                                       futures.add(future);
+                                                   }
+                                               });
+
+                    pollers.add(thread);
+                    thread.start();
+                }
+
+                start.countDown();
+
+                for (Thread thread : pollers)
+                {
+                    thread.join();
+                }
+
+                assertThat(futures.size(), is(threads));
+
+                int value = futures.get(0).get(1, TimeUnit.MINUTES);
+
+                for (CompletableFuture<Integer> future : futures)
+                {
+                    assertThat(future.get(1, TimeUnit.MINUTES), is(value));
+                }
+
+                assertThat(client.submit(new Counter(), Caching.enabled()).get(1, TimeUnit.MINUTES), is(value));
+
+                assertThat(client.getResultCache().getMissCount(), is(1L));
+                assertThat(client.getResultCache().getHitCount(), is((long) threads));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure {@link SocketBasedRemoteChannel}s record {@link RemoteChannelMetrics} for the operations
+     * they send and receive, with the server recording the metrics of all of its channels.
+     */
+    @Test
+    public void shouldRecordMetrics() throws Exception
+    {
+        int count = 50;
+
+        try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test"))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null))
+            {
+                client.open();
+
+                for (int i = 0; i < count; i++)
+                {
+                    assertThat(client.submit(new Echo(i)).get(1, TimeUnit.MINUTES), is(i));
+                }
+
+                RemoteChannelMetrics clientMetrics = client.getMetrics();
+                RemoteChannelMetrics serverMetrics = server.getMetrics();
+
+                assertThat(clientMetrics.getSentCount("CALLABLE"), is((long) count));
+                assertThat(clientMetrics.getReceivedCount("RESPONSE"), is((long) count));
+                assertThat(clientMetrics.getLatency("RESPONSE").getCount(), is((long) count));
+                assertThat(clientMetrics.getSerializationTime().getCount(), is((long) count));
+                assertThat(clientMetrics.getPendingOperations(), is(0));
+
+                assertThat(serverMetrics.getReceivedCount("CALLABLE"), is((long) count));
+                assertThat(serverMetrics.getLatency("CALLABLE").getCount(), is((long) count));
+                assertThat(serverMetrics.getBytesReceived(), is(clientMetrics.getBytesSent()));
+                assertThat(serverMetrics.getBytesReceived() > 0, is(true));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure large {@link InputStream} and {@link ReadableByteChannel} results are streamed
+     * (using both protocols), while other requests continue to be processed.
+     */
+    @Test
+    public void shouldStreamLargeResults() throws Exception
+    {
+        int size = 5 * 1024 * 1024 + 123;
+
+        for (ChannelProtocol protocol : ChannelProtocol.values())
+        {
+            try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test",
+                                                                                            0,
+                                                                                            null,
+                                                                                            protocol))
+            {
+                InetAddress address = server.open();
+
+                try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                                server.getPort(),
+                                                                                                null,
+                                                                                                protocol))
+                {
+                    client.open();
+
+                    // stream the content as an InputStream
+                    InputStream stream = client.submit(new Content(size)).get(1, TimeUnit.MINUTES);
+
+                    assertThat(stream instanceof RemoteInputStream, is(true));
+
+                    // other requests are processed while the content is streamed
+                    assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+
+                    long count = 0;
+                    int  b;
+
+                    while ((b = stream.read()) >= 0)
+                    {
+                        assertThat(b, is((int) (count % 251)));
+                        count++;
+                    }
+
+                    assertThat(count, is((long) size));
+
+                    // stream the content as a ReadableByteChannel to a file
+                    File file = File.createTempFile("bedrock-stream", ".bin");
+
+                    try (ReadableByteChannel channel = server.submit(new ContentChannel(size)).get(1,
+                                                                                                 TimeUnit.MINUTES);
+                        FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE))
+                    {
+                        long position = 0;
+                        long transferred;
+
+                        while ((transferred = fileChannel.transferFrom(channel, position, 1024 * 1024)) > 0)
+                        {
+                            position += transferred;
+                        }
+
+                        assertThat(position, is((long) size));
+                        assertThat(file.length(), is((long) size));
+                    }
+                    finally
+                    {
+                        file.delete();
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Ensure streaming a result is flow controlled by the reader and cancelled when the
+     * {@link RemoteInputStream} is closed before reaching the end of the content.
+     */
+    @Test
+    public void shouldCancelStreamingWhenStreamClosedEarly() throws Exception
+    {
+        try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test"))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null))
+            {
+                client.open();
+
+                EndlessContent.produced.set(0);
+                EndlessContent.closed = new CountDownLatch(1);
+
+                InputStream stream = client.submit(new EndlessContent()).get(1, TimeUnit.MINUTES);
+
+                assertThat(stream.read() >= 0, is(true));
+
+                // the content produced is bounded by the credits returned as it's read
+                Thread.sleep(500);
+
+                assertThat(EndlessContent.produced.get() < 32 * 64 * 1024, is(true));
+
+                stream.close();
+
+                assertThat(EndlessContent.closed.await(1, TimeUnit.MINUTES), is(true));
+
+                // the channel remains usable
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure {@link SocketBasedRemoteChannel}s using the {@link CompactRemoteChannelSerializer}
+     * can submit requests and raise events (using both protocols), for which class descriptors
+     * are only sent once.
+     */
+    @Test
+    public void shouldSubmitAndRaiseUsingCompactSerializer() throws Exception
+    {
+        int count = 100;
+
+        for (ChannelProtocol protocol : ChannelProtocol.values())
+        {
+            final CountDownLatch latch    = new CountDownLatch(count);
+            final List<Integer>  list     = new ArrayList<>();
+            RemoteEventListener  listener = event -> {
+                                                list.add(((Event) event).getId());
+                                                latch.countDown();
+                                            };
+
+            try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test",
+                                                                                            0,
+                                                                                            new CompactRemoteChannelSerializer(),
+                                                                                            protocol))
+            {
+                StreamName  streamName = StreamName.of("Foo");
+                InetAddress address    = server.open();
+
+                server.addListener(listener, streamName);
+
+                try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                                server.getPort(),
+                                                                                                new CompactRemoteChannelSerializer(),
+                                                                                                protocol))
+                {
+                    client.open();
+
+                    for (int i = 0; i < count; i++)
+                    {
+                        assertThat(client.submit(new Echo(i)).get(1, TimeUnit.MINUTES), is(i));
+                        assertThat(server.submit(new Echo(-i)).get(1, TimeUnit.MINUTES), is(-i));
+                    }
+
+                    assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+
+                    for (int i = 0; i < count; i++)
+                    {
+                        client.raise(new Event(i), streamName);
+                    }
+
+                    assertThat(latch.await(1, TimeUnit.MINUTES), is(true));
+
+                    for (int i = 0; i < count; i++)
+                    {
+                        assertThat(list.get(i), is(i));
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Ensure {@link SocketBasedRemoteChannel}s use the {@link ChannelProtocol#SERIALIZED}
+     * protocol when neither end requests the {@link ChannelProtocol#FRAMED} protocol.
+     */
+    @Test
+    public void shouldNegotiateSerializedProtocol() throws Exception
+    {
+        try (SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer("Test",
+                                                                                        0,
+                                                                                        null,
+                                                                                        ChannelProtocol.SERIALIZED))
+        {
+            InetAddress address = server.open();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(address,
+                                                                                            server.getPort(),
+                                                                                            null,
+                                                                                            ChannelProtocol.SERIALIZED))
+            {
+                client.open();
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(client.getProtocol(), is(ChannelProtocol.SERIALIZED));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure a {@link SocketBasedRemoteChannelClient} requesting the {@link ChannelProtocol#FRAMED}
+     * protocol continues to work with a peer that doesn't understand protocol negotiation
+     * (ie: a peer from an earlier release).
+     */
+    @Test
+    public void shouldFallBackToSerializedProtocolWithoutNegotiation() throws Exception
+    {
+        try (ServerSocket serverSocket = new ServerSocket(0))
+        {
+            Thread peer = new Thread(() -> runLegacyPeer(serverSocket), "LegacyPeer");
+
+            peer.setDaemon(true);
+            peer.start();
+
+            try (SocketBasedRemoteChannelClient client = new SocketBasedRemoteChannelClient(InetAddress.getLoopbackAddress(),
+                                                                                            serverSocket.getLocalPort(),
+                                                                                            null,
+                                                                                            ChannelProtocol.FRAMED))
+            {
+                client.open();
+
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(client.submit(new PingPong()).get(1, TimeUnit.MINUTES), is("PONG"));
+                assertThat(client.getProtocol(), is(ChannelProtocol.SERIALIZED));
+            }
+        }
+    }
+
+
+    /**
+     * Accepts a single connection and processes CALLABLE requests using the
+     * original (un-negotiated) protocol, responding to anything else with an exception.
+     *
+     * @param serverSocket  the {@link ServerSocket} on which to accept the connection
+     */
+    private static void runLegacyPeer(ServerSocket serverSocket)
+    {
+        try (Socket socket = serverSocket.accept())
+        {
+            runLegacyPeer(socket);
+        }
+        catch (IOException e)
+        {
+            // the server socket was closed
+        }
+    }
+
+
+    /**
+     * Processes CALLABLE requests on a connected {@link Socket} using the original
+     * (un-negotiated) protocol, responding to anything else with an exception.
+     *
+     * @param socket  the connected {@link Socket}
+     */
+    static void runLegacyPeer(Socket socket)
+    {
+        try
+        {
+            ObjectOutputStream output = new ObjectOutputStream(socket.getOutputStream());
+
+            output.flush();
+
+            ObjectInputStream input = new ObjectInputStream(socket.getInputStream());
+
+            while (true)
+            {
+                String operationType = input.readUTF();
+                long   sequence      = input.readLong();
+                byte[] bytes         = new byte[input.readInt()];
+
+                input.readFully(bytes);
+
+                Object response;
+
+                try
+                {
+                    if (!operationType.equals("CALLABLE"))
+                    {
+                        throw new IllegalArgumentException("Unsupported operation " + operationType);
+                    }
+
+                    ObjectInputStream operation = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+                    operation.readBoolean();
+
+                    response = ((Callable<?>) operation.readObject()).call();
+                }
+                catch (Exception e)
+                {
+                    response = e;
+                }
+
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+                try (ObjectOutputStream stream = new ObjectOutputStream(buffer))
+                {
+                    stream.writeObject(response);
+                }
+
+                output.writeUTF("RESPONSE");
+                output.writeLong(sequence);
+                output.writeInt(buffer.size());
+                output.write(buffer.toByteArray());
+                output.flush();
+            }
+        }
+        catch (Exception e)
+        {
+            // the client closed the connection
+        }
+    }
+
+
     /**
      * A simple {@link RemoteCallable} that increments a count for each invocation.
      */
@@ -376,6 +1080,145 @@ public class SocketBasedRemoteChannelTest
     }
 
 
+    /**
+     * A simple {@link RemoteCallable} that returns the value it was constructed with.
+     */
+    public static class Echo implements RemoteCallable<Integer>
+    {
+        /**
+         * The value to return.
+         */
+        private int value;
+
+
+        /**
+         * Constructs the {@link Echo}.
+         *
+         * @param value  the value to return
+         */
+        public Echo(int value)
+        {
+            this.value = value;
+        }
+
+
+        @Override
+        public Integer call() throws Exception
+        {
+            return value;
+        }
+    }
+
+
+    /**
+     * A {@link RemoteCallable} that returns an {@link InputStream} of generated content.
+     */
+    public static class Content implements RemoteCallable<InputStream>
+    {
+        /**
+         * The size of the content.
+         */
+        private int size;
+
+
+        /**
+         * Constructs the {@link Content}.
+         *
+         * @param size  the size of the content
+         */
+        public Content(int size)
+        {
+            this.size = size;
+        }
+
+
+        @Override
+        public InputStream call() throws Exception
+        {
+            return new InputStream()
+            {
+                private int position = 0;
+
+
+                @Override
+                public int read()
+                {
+                    return position < size ? position++ % 251 : -1;
+                }
+            };
+        }
+    }
+
+
+    /**
+     * A {@link RemoteCallable} that returns an {@link InputStream} of endless generated content,
+     * recording the amount of content produced and when it's closed.
+     */
+    public static class EndlessContent implements RemoteCallable<InputStream>
+    {
+        /**
+         * The number of bytes produced.
+         */
+        static final AtomicLong produced = new AtomicLong();
+
+        /**
+         * The {@link CountDownLatch} released when the content is closed.
+         */
+        static volatile CountDownLatch closed = new CountDownLatch(1);
+
+
+        @Override
+        public InputStream call() throws Exception
+        {
+            return new InputStream()
+            {
+                @Override
+                public int read()
+                {
+                    return (int) (produced.getAndIncrement() % 251);
+                }
+
+
+                @Override
+                public void close()
+                {
+                    closed.countDown();
+                }
+            };
+        }
+    }
+
+
+    /**
+     * A {@link RemoteCallable} that returns a {@link ReadableByteChannel} of generated content.
+     */
+    public static class ContentChannel implements RemoteCallable<ReadableByteChannel>
+    {
+        /**
+         * The size of the content.
+         */
+        private int size;
+
+
+        /**
+         * Constructs the {@link ContentChannel}.
+         *
+         * @param size  the size of the content
+         */
+        public ContentChannel(int size)
+        {
+            this.size = size;
+        }
+
+
+        @Override
+        public ReadableByteChannel call() throws Exception
+        {
+            return Channels.newChannel(new Content(size).call());
+        }
+    }
+
+
     /**
      * A simple {@link RemoteEvent} for testing.
      */
@@ -28,10 +28,13 @@ package com.oracle.bedrock.runtime.java;
 import classloader.applications.EventingApplication;
 import classloader.applications.ParentApplication;
 import classloader.applications.SleepingApplication;
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
 import com.oracle.bedrock.testsupport.deferred.Eventually;
 import com.oracle.bedrock.io.NetworkHelper;
 import com.oracle.bedrock.options.Timeout;
 import com.oracle.bedrock.runtime.Application;
+import com.oracle.bedrock.runtime.ApplicationListener;
 import com.oracle.bedrock.runtime.LocalPlatform;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannelListener;
@@ -63,15 +66,19 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import javax.management.ObjectName;
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.oracle.bedrock.deferred.DeferredHelper.delayedBy;
 import static com.oracle.bedrock.deferred.DeferredHelper.future;
@@ -84,6 +91,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * Functional Tests for {@link LocalJavaApplicationLauncher}s.
@@ -483,6 +491,50 @@ public class LocalPlatformJavaApplicationTest extends AbstractJavaApplicationTes
     }
 
 
+    /**
+     * Ensure that the metrics MBean of a {@link JavaApplication} isn't left registered
+     * when launching the {@link JavaApplication} fails.
+     */
+    @Test
+    public void shouldNotRegisterMetricsWhenLaunchFails() throws Exception
+    {
+        String                           name     = "metrics-" + UUID.randomUUID();
+        AtomicReference<JavaApplication> launched = new AtomicReference<>();
+
+        try
+        {
+            getPlatform().launch(JavaApplication.class,
+                                 ClassName.of(SleepingApplication.class),
+                                 DisplayName.of(name),
+                                 IPv4Preferred.yes(),
+                                 new FailingApplicationListener(launched));
+
+            fail("Expected the launch to fail");
+        }
+        catch (IllegalStateException e)
+        {
+            assertThat(e.getMessage(), is("Failed to launch"));
+        }
+
+        try
+        {
+            Set<ObjectName> names =
+                ManagementFactory.getPlatformMBeanServer()
+                .queryNames(new ObjectName("com.oracle.bedrock:type=RemoteChannel,*"), null);
+
+            assertThat(names.stream().anyMatch(objectName -> objectName.getKeyProperty("name").contains(name)),
+                       is(false));
+        }
+        finally
+        {
+            if (launched.get() != null)
+            {
+                launched.get().close();
+            }
+        }
+    }
+
+
     /**
      * Ensure that {@link JavaApplication}s can is launched with a system-property
      * that contains spaces.
@@ -781,4 +833,51 @@ public class LocalPlatformJavaApplicationTest extends AbstractJavaApplicationTes
             return executor;
         }
     }
+
+
+    /**
+     * An {@link ApplicationListener} that fails the launch of a {@link JavaApplication}
+     * (without closing it).
+     */
+    public static class FailingApplicationListener implements ApplicationListener<JavaApplication>, Option
+    {
+        /**
+         * The launched {@link JavaApplication}.
+         */
+        private final AtomicReference<JavaApplication> launched;
+
+
+        /**
+         * Constructs a {@link FailingApplicationListener}.
+         *
+         * @param launched  the reference to the launched {@link JavaApplication}
+         */
+        public FailingApplicationListener(AtomicReference<JavaApplication> launched)
+        {
+            this.launched = launched;
+        }
+
+
+        @Override
+        public void onClosing(JavaApplication application,
+                              OptionsByType   optionsByType)
+        {
+        }
+
+
+        @Override
+        public void onClosed(JavaApplication application,
+                             OptionsByType   optionsByType)
+        {
+        }
+
+
+        @Override
+        public void onLaunched(JavaApplication application)
+        {
+            launched.set(application);
+
+            throw new IllegalStateException("Failed to launch");
+        }
+    }
 }
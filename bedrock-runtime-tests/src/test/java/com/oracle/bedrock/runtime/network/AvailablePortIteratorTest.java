@@ -30,12 +30,21 @@ import org.hamcrest.MatcherAssert;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 
 /**
@@ -106,4 +115,95 @@ public class AvailablePortIteratorTest
 
         MatcherAssert.assertThat(availablePorts1, not(equalTo(availablePorts2)));
     }
+
+
+    /**
+     * Ensure that ephemeral {@link AvailablePortIterator}s return distinct, bindable
+     * ports within the range, reserved with the {@link PortRegistry}.
+     */
+    @Test
+    public void shouldFindEphemeralPorts() throws IOException
+    {
+        PortRegistry          registry = PortRegistry.at(newRegistryFile().toPath());
+
+        AvailablePortIterator iterator1 = AvailablePortIterator.ephemeral(registry,
+                                                                          1024,
+                                                                          AvailablePortIterator.MAXIMUM_PORT,
+                                                                          Collections.singletonList(NetworkHelper
+                                                                              .getWildcardAddress()));
+
+        AvailablePortIterator iterator2 = AvailablePortIterator.ephemeral(registry,
+                                                                          1024,
+                                                                          AvailablePortIterator.MAXIMUM_PORT,
+                                                                          Collections.singletonList(NetworkHelper
+                                                                              .getWildcardAddress()));
+
+        MatcherAssert.assertThat(iterator1.isEphemeral(), is(true));
+
+        Set<Integer> ports = new HashSet<>();
+
+        for (int i = 0; i < 20; i++)
+        {
+            int port = (i % 2 == 0 ? iterator1 : iterator2).next();
+
+            MatcherAssert.assertThat(port, is(greaterThanOrEqualTo(1024)));
+            MatcherAssert.assertThat(port, is(lessThanOrEqualTo(AvailablePortIterator.MAXIMUM_PORT)));
+            MatcherAssert.assertThat(registry.isReserved(port), is(true));
+            MatcherAssert.assertThat(ports.add(port), is(true));
+
+            // the port must be available now that it's been returned
+            try (ServerSocket socket = new ServerSocket(port))
+            {
+                MatcherAssert.assertThat(socket.getLocalPort(), is(port));
+            }
+        }
+    }
+
+
+    /**
+     * Ensure that released ephemeral ports are no longer reserved.
+     */
+    @Test
+    public void shouldReleaseEphemeralPorts()
+    {
+        PortRegistry          registry = PortRegistry.at(newRegistryFile().toPath());
+
+        AvailablePortIterator iterator = AvailablePortIterator.ephemeral(registry,
+                                                                         1024,
+                                                                         AvailablePortIterator.MAXIMUM_PORT,
+                                                                         Collections.singletonList(NetworkHelper
+                                                                             .getWildcardAddress()));
+
+        int                   port     = iterator.next();
+
+        MatcherAssert.assertThat(registry.getReservedPorts(), hasItem(port));
+        MatcherAssert.assertThat(iterator.release(port), is(true));
+        MatcherAssert.assertThat(registry.isReserved(port), is(false));
+        MatcherAssert.assertThat(iterator.release(port), is(false));
+
+        // releasing a port from a scanning iterator has no effect
+        MatcherAssert.assertThat(new AvailablePortIterator(30000, 30030).release(port), is(false));
+    }
+
+
+    /**
+     * Creates a new registry file that is deleted on exit.
+     *
+     * @return the registry {@link File}
+     */
+    private static File newRegistryFile()
+    {
+        try
+        {
+            File file = File.createTempFile("bedrock-ports", ".registry");
+
+            file.deleteOnExit();
+
+            return file;
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
 }
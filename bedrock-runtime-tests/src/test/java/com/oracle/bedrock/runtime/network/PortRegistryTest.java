@@ -0,0 +1,116 @@
+/*
+ * File: PortRegistryTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.network;
+
+import classloader.applications.SleepingApplication;
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.JavaApplication;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.java.options.IPv4Preferred;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Functional tests for the {@link PortRegistry}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class PortRegistryTest
+{
+    /**
+     * Ensure that a port can only be reserved once within a process.
+     */
+    @Test
+    public void shouldReservePortOnce() throws IOException
+    {
+        File         file     = newRegistryFile();
+        PortRegistry registry = PortRegistry.at(file.toPath());
+
+        assertThat(PortRegistry.at(file.getAbsoluteFile().toPath()), is(sameInstance(registry)));
+
+        assertThat(registry.reserve(40001), is(true));
+        assertThat(registry.reserve(40001), is(false));
+        assertThat(registry.isReserved(40001), is(true));
+        assertThat(registry.getReservedPorts(), contains(40001));
+
+        assertThat(registry.release(40001), is(true));
+        assertThat(registry.release(40001), is(false));
+        assertThat(registry.reserve(40001), is(true));
+        assertThat(registry.release(40001), is(true));
+    }
+
+
+    /**
+     * Ensure that a port reserved by one process can't be reserved by another
+     * until it has been released.
+     */
+    @Test
+    public void shouldReservePortAcrossProcesses() throws IOException
+    {
+        File         file     = newRegistryFile();
+        PortRegistry registry = PortRegistry.at(file.toPath());
+
+        assertThat(registry.reserve(40002), is(true));
+
+        try (JavaApplication application = LocalPlatform.get().launch(JavaApplication.class,
+                                                                      ClassName.of(SleepingApplication.class),
+                                                                      IPv4Preferred.yes()))
+        {
+            assertThat(application.submit(new ReservePort(file.getAbsolutePath(), 40002)).join(), is(false));
+            assertThat(application.submit(new ReservePort(file.getAbsolutePath(), 40003)).join(), is(true));
+
+            // the other process holds its reservation
+            assertThat(registry.reserve(40003), is(false));
+
+            registry.release(40002);
+
+            assertThat(application.submit(new ReservePort(file.getAbsolutePath(), 40002)).join(), is(true));
+        }
+    }
+
+
+    /**
+     * Creates a new registry file that is deleted on exit.
+     *
+     * @return the registry {@link File}
+     */
+    private static File newRegistryFile() throws IOException
+    {
+        File file = File.createTempFile("bedrock-ports", ".registry");
+
+        file.deleteOnExit();
+
+        return file;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * File: ReservePort.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.network;
+
+import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+
+import java.nio.file.Paths;
+
+/**
+ * A {@link RemoteCallable} that attempts to reserve a port with a {@link PortRegistry}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ReservePort implements RemoteCallable<Boolean>
+{
+    /**
+     * The path of the registry file.
+     */
+    private final String registry;
+
+    /**
+     * The port to reserve.
+     */
+    private final int port;
+
+
+    /**
+     * Constructs a {@link ReservePort}.
+     *
+     * @param registry  the path of the registry file
+     * @param port      the port to reserve
+     */
+    public ReservePort(String registry,
+                       int    port)
+    {
+        this.registry = registry;
+        this.port     = port;
+    }
+
+
+    @Override
+    public Boolean call() throws Exception
+    {
+        return PortRegistry.at(Paths.get(registry)).reserve(port);
+    }
+}
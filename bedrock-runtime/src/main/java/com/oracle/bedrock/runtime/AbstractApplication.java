@@ -38,6 +38,7 @@ import com.oracle.bedrock.runtime.options.Console;
 import com.oracle.bedrock.runtime.options.ConsoleErrorRedirector;
 import com.oracle.bedrock.runtime.options.ConsoleInputRedirector;
 import com.oracle.bedrock.runtime.options.ConsoleOutputRedirector;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 import com.oracle.bedrock.runtime.options.DisplayName;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -138,9 +139,12 @@ public abstract class AbstractApplication<P extends ApplicationProcess> extends
         this.displayName = optionsByType.get(DisplayName.class).resolve(optionsByType);
 
         // establish the application console
-        console = optionsByType.getOrSetDefault(ApplicationConsoleBuilder.class, Console.system()).build(displayName);
+        console = optionsByType.getOrSetDefault(ApplicationConsoleBuilder.class, Console.system()).build(displayName,
+                                                                                                         optionsByType);
 
         // establish the standard input, output and error redirection threads for the application console
+        // (using virtual threads when enabled and supported)
+        VirtualThreads virtualThreads = optionsByType.get(VirtualThreads.class);
 
         // start a thread to redirect standard out to the console
         ConsoleOutputRedirector outputRedirector = optionsByType.getOrDefault(ConsoleOutputRedirector.class,
@@ -153,7 +157,8 @@ public abstract class AbstractApplication<P extends ApplicationProcess> extends
                            process.getInputStream(),
                            console,
                            process.getId(),
-                           diagnosticsEnabled);
+                           diagnosticsEnabled,
+                           virtualThreads);
 
 
         // start a thread to redirect standard err to the console
@@ -167,7 +172,8 @@ public abstract class AbstractApplication<P extends ApplicationProcess> extends
                            process.getErrorStream(),
                            console,
                            process.getId(),
-                           diagnosticsEnabled);
+                           diagnosticsEnabled,
+                           virtualThreads);
 
         // start a thread to redirect standard in from the console
         ConsoleInputRedirector inRedirector = optionsByType.getOrDefault(ConsoleInputRedirector.class,
@@ -175,7 +181,7 @@ public abstract class AbstractApplication<P extends ApplicationProcess> extends
 
         stdinThread = inRedirector.getRedirector();
         stdinThread.setName(displayName + " StdIn Thread");
-        stdinThread.start(process.getOutputStream(), console);
+        stdinThread.start(process.getOutputStream(), console, virtualThreads);
     }
 
 
@@ -305,7 +311,7 @@ public abstract class AbstractApplication<P extends ApplicationProcess> extends
 
             try
             {
-                stdoutThread.join();
+                stdoutThread.awaitTermination();
             }
             catch (InterruptedException e)
             {
@@ -324,7 +330,7 @@ public abstract class AbstractApplication<P extends ApplicationProcess> extends
 
             try
             {
-                stderrThread.join();
+                stderrThread.awaitTermination();
             }
             catch (InterruptedException e)
             {
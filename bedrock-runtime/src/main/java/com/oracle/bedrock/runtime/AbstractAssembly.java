@@ -31,6 +31,8 @@ import com.oracle.bedrock.annotations.Internal;
 import com.oracle.bedrock.deferred.DeferredPredicate;
 import com.oracle.bedrock.runtime.options.Discriminator;
 import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.runtime.options.LaunchParallelism;
+import com.oracle.bedrock.runtime.options.RollingRelaunch;
 import com.oracle.bedrock.runtime.options.StabilityPredicate;
 
 import java.util.ArrayList;
@@ -41,6 +43,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
@@ -352,6 +358,10 @@ public abstract class AbstractAssembly<A extends Application> implements Assembl
         // determine the common expandingOptions
         OptionsByType expandingOptions = OptionsByType.of(optionsByType).addAll(options);
 
+        // establish the launch options for each application before launching any of them
+        // (so that discriminators are assigned in order, regardless of the order in which they're launched)
+        ArrayList<OptionsByType> launchOptionsList = new ArrayList<>(count);
+
         for (int i = 0; i < count; i++)
         {
             // establish the launch options for the next application
@@ -370,40 +380,104 @@ public abstract class AbstractAssembly<A extends Application> implements Assembl
                 launchOptions.addIfAbsent(Discriminator.of(counter.incrementAndGet()));
             }
 
-            // attempt to launch the application
-            try
-            {
-                // acquire the platform from the infrastructure based on the launch options
-                Platform platform = infrastructure.getPlatform(launchOptions.asArray());
+            launchOptionsList.add(launchOptions);
+        }
 
-                // launch the application
-                A application = platform.launch(applicationClass, launchOptions.asArray());
+        // determine how many applications may be launched concurrently
+        int parallelism = Math.min(count,
+                                   expandingOptions.getOrDefault(LaunchParallelism.class,
+                                                                 LaunchParallelism.sequential()).get());
 
-                // remember the application
-                // (so we can add it to the assembly once they are all launched)
-                launchedApplications.add(application);
+        if (parallelism <= 1)
+        {
+            for (OptionsByType launchOptions : launchOptionsList)
+            {
+                // attempt to launch the application
+                try
+                {
+                    // remember the application
+                    // (so we can add it to the assembly once they are all launched)
+                    launchedApplications.add(launch(infrastructure, applicationClass, launchOptions));
+                }
+                catch (Throwable throwable)
+                {
+                    throw rollback(launchedApplications, count, applicationClass, launchOptions, throwable);
+                }
             }
-            catch (Throwable throwable)
+        }
+        else
+        {
+            ExecutorService      executorService = newLaunchExecutorService(parallelism);
+            ArrayList<Future<A>> futures         = new ArrayList<>(count);
+            AtomicBoolean        aborted         = new AtomicBoolean(false);
+            boolean              interrupted     = false;
+            Throwable            failure         = null;
+            OptionsByType        failedOptions   = null;
+
+            try
             {
-                // ensure all recently launched applications are shutdown to prevent applications staying around
-                for (A application : launchedApplications)
+                for (OptionsByType launchOptions : launchOptionsList)
+                {
+                    // applications yet to be launched are skipped once a launch has failed
+                    futures.add(executorService.submit(() -> aborted.get()
+                                                             ? null
+                                                             : launch(infrastructure,
+                                                                      applicationClass,
+                                                                      launchOptions)));
+                }
+
+                // collect the applications in the order they were requested
+                // (after a failure, waiting for those being launched so they can be closed)
+                for (int i = 0; i < count; i++)
                 {
                     try
                     {
-                        application.close();
+                        A application = futures.get(i).get();
+
+                        if (application != null)
+                        {
+                            launchedApplications.add(application);
+                        }
+                    }
+                    catch (ExecutionException e)
+                    {
+                        aborted.set(true);
+
+                        if (failure == null)
+                        {
+                            failure       = e.getCause();
+                            failedOptions = launchOptionsList.get(i);
+                        }
                     }
-                    catch (Throwable t)
+                    catch (InterruptedException e)
                     {
-                        // we ignore any issues when the application fails to close
+                        aborted.set(true);
+                        interrupted = true;
+
+                        if (failure == null)
+                        {
+                            failure       = e;
+                            failedOptions = launchOptionsList.get(i);
+                        }
+
+                        // wait again for the application (so it's not left running)
+                        i--;
                     }
                 }
+            }
+            finally
+            {
+                executorService.shutdown();
 
-                throw new RuntimeException("Failed to launch one of the desired " + applicationClass.getSimpleName()
-                                           + "(s) out of " + count + " requested. " + "Automatically closed "
-                                           + launchedApplications.size()
-                                           + " that were successfully created.  The options provided where "
-                                           + launchOptions,
-                                           throwable);
+                if (interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (failure != null)
+            {
+                throw rollback(launchedApplications, count, applicationClass, failedOptions, failure);
             }
         }
 
@@ -422,6 +496,91 @@ public abstract class AbstractAssembly<A extends Application> implements Assembl
     }
 
 
+    /**
+     * Launches an {@link Application} on a {@link Platform} acquired from the {@link Infrastructure}.
+     *
+     * @param infrastructure    the {@link Infrastructure} on which to launch the {@link Application}
+     * @param applicationClass  the class of {@link Application}
+     * @param launchOptions     the {@link OptionsByType} to use for launching the {@link Application}
+     *
+     * @return the launched {@link Application}
+     */
+    private A launch(Infrastructure     infrastructure,
+                     Class<? extends A> applicationClass,
+                     OptionsByType      launchOptions)
+    {
+        // acquire the platform from the infrastructure based on the launch options
+        Platform platform = infrastructure.getPlatform(launchOptions.asArray());
+
+        // launch the application
+        return platform.launch(applicationClass, launchOptions.asArray());
+    }
+
+
+    /**
+     * Closes the {@link Application}s that were launched before a failure to launch one
+     * of the {@link Application}s requested by {@link #expand(int, Infrastructure, Class, Option...)}.
+     *
+     * @param launchedApplications  the {@link Application}s that were launched
+     * @param count                 the number of {@link Application}s requested
+     * @param applicationClass      the class of {@link Application}
+     * @param launchOptions         the {@link OptionsByType} of the {@link Application} that failed to launch
+     * @param throwable             the cause of the failure
+     *
+     * @return the {@link RuntimeException} to throw
+     */
+    private RuntimeException rollback(List<A>            launchedApplications,
+                                      int                count,
+                                      Class<? extends A> applicationClass,
+                                      OptionsByType      launchOptions,
+                                      Throwable          throwable)
+    {
+        // ensure all recently launched applications are shutdown to prevent applications staying around
+        for (A application : launchedApplications)
+        {
+            try
+            {
+                application.close();
+            }
+            catch (Throwable t)
+            {
+                // we ignore any issues when the application fails to close
+            }
+        }
+
+        return new RuntimeException("Failed to launch one of the desired " + applicationClass.getSimpleName()
+                                    + "(s) out of " + count + " requested. " + "Automatically closed "
+                                    + launchedApplications.size()
+                                    + " that were successfully created.  The options provided where "
+                                    + launchOptions,
+                                    throwable);
+    }
+
+
+    /**
+     * Creates an {@link ExecutorService} for concurrently launching (or closing) {@link Application}s.
+     *
+     * @param parallelism  the maximum number of {@link Application}s to launch concurrently
+     *
+     * @return a new {@link ExecutorService}, to be shutdown by the caller
+     */
+    private ExecutorService newLaunchExecutorService(int parallelism)
+    {
+        AtomicInteger threadCount = new AtomicInteger(0);
+
+        return Executors.newFixedThreadPool(parallelism,
+                                            runnable -> {
+                                                Thread thread = new Thread(runnable,
+                                                                           "Bedrock-Assembly-Launcher-"
+                                                                           + threadCount.incrementAndGet());
+
+                                                thread.setDaemon(true);
+
+                                                return thread;
+                                            });
+    }
+
+
     /**
      * Called when the {@link Assembly} is first created and after the
      * {@link #expand(int, Platform, Class, Option...)}, {@link #add(Application)} and
@@ -511,6 +670,9 @@ public abstract class AbstractAssembly<A extends Application> implements Assembl
 
     /**
      * Restarts the specified {@link Application}s using the provide {@link Option}s.
+     * <p>
+     * When a {@link RollingRelaunch} is provided, the {@link Application}s are closed and relaunched
+     * in batches of the specified size, otherwise they are closed and relaunched one at a time.
      *
      * @param applications  the {@link Application}s to relaunch
      * @param options       the {@link Option}s for restarting
@@ -519,6 +681,19 @@ public abstract class AbstractAssembly<A extends Application> implements Assembl
     protected void relaunch(List<? extends A> applications,
                             Option...         options)
     {
+        int batchSize = OptionsByType.of(options).getOrDefault(RollingRelaunch.class,
+                                                               RollingRelaunch.oneAtATime()).getBatchSize();
+
+        if (batchSize > 1)
+        {
+            for (int i = 0; i < applications.size(); i += batchSize)
+            {
+                relaunchBatch(applications.subList(i, Math.min(applications.size(), i + batchSize)), options);
+            }
+
+            return;
+        }
+
         // close and relaunch each application one at a time
         applications.forEach(
             application -> {
@@ -561,6 +736,201 @@ public abstract class AbstractAssembly<A extends Application> implements Assembl
     }
 
 
+    /**
+     * Restarts a batch of {@link Application}s using the provided {@link Option}s, closing all of
+     * the {@link Application}s in the batch concurrently and then relaunching them concurrently.
+     * <p>
+     * The {@link #onRelaunching(Application, OptionsByType)}, {@link #onRelaunching(Platform, OptionsByType)}
+     * and {@link #onRelaunched(Application, Application, OptionsByType)} notifications are made on the
+     * calling thread, in the order of the {@link Application}s in the batch.
+     * <p>
+     * Should an {@link Application} fail to close, it's returned to the {@link Assembly} (so that it
+     * may be closed later) rather than relaunched, the remaining {@link Application}s are relaunched,
+     * and the failure is then thrown (with any further failures suppressed).
+     *
+     * @param batch    the {@link Application}s to relaunch
+     * @param options  the {@link Option}s for restarting
+     */
+    @SuppressWarnings("unchecked")
+    private void relaunchBatch(List<? extends A> batch,
+                               Option...         options)
+    {
+        ArrayList<A>             originals     = new ArrayList<>(batch.size());
+        ArrayList<Platform>      platforms     = new ArrayList<>(batch.size());
+        ArrayList<OptionsByType> launchOptions = new ArrayList<>(batch.size());
+
+        for (A application : batch)
+        {
+            // only relaunch if the application is in the assembly
+            if (remove(application))
+            {
+                // establish the launch options
+                // (based on the application and specified options)
+                OptionsByType optionsByType = OptionsByType.of(application.getOptions()).addAll(options);
+
+                // notify the assembly that the application is about to be relaunched
+                onRelaunching(application, optionsByType);
+
+                originals.add(application);
+                platforms.add(application.getPlatform());
+                launchOptions.add(optionsByType);
+            }
+        }
+
+        if (originals.isEmpty())
+        {
+            return;
+        }
+
+        ExecutorService executorService = newLaunchExecutorService(originals.size());
+
+        try
+        {
+            // close the applications (using the options)
+            ArrayList<Future<?>> closings = new ArrayList<>(originals.size());
+
+            for (A application : originals)
+            {
+                closings.add(executorService.submit(() -> {
+                                                        application.close(options);
+                                                        application.waitFor();
+                                                    }));
+            }
+
+            RuntimeException failure = null;
+
+            for (int i = 0, closing = 0; closing < closings.size(); closing++)
+            {
+                try
+                {
+                    await(closings.get(closing));
+
+                    i++;
+                }
+                catch (RuntimeException e)
+                {
+                    // don't relaunch an application that failed to close, but keep it in the assembly
+                    add(originals.remove(i));
+                    platforms.remove(i);
+                    launchOptions.remove(i);
+
+                    failure = suppress(failure, e);
+                }
+            }
+
+            // notify the assembly we're about to relaunch the applications
+            for (int i = 0; i < originals.size(); i++)
+            {
+                onRelaunching(platforms.get(i), launchOptions.get(i));
+            }
+
+            // (re) launch the applications, each being the same class as the original
+            ArrayList<Future<A>> launchings = new ArrayList<>(originals.size());
+
+            for (int i = 0; i < originals.size(); i++)
+            {
+                Platform      platform         = platforms.get(i);
+                OptionsByType optionsByType    = launchOptions.get(i);
+                Class<A>      applicationClass = (Class<A>) originals.get(i).getClass();
+
+                launchings.add(executorService.submit(() -> platform.launch(applicationClass,
+                                                                            optionsByType.asArray())));
+            }
+
+            for (int i = 0; i < originals.size(); i++)
+            {
+                try
+                {
+                    A relaunchedApplication = await(launchings.get(i));
+
+                    // notify the assembly that the application was restarted
+                    onRelaunched(originals.get(i), relaunchedApplication, launchOptions.get(i));
+
+                    // add the application to the assembly
+                    // (this will notify the assembly of the new application)
+                    add(relaunchedApplication);
+                }
+                catch (RuntimeException e)
+                {
+                    // the remaining applications are still added to the assembly before failing
+                    failure = suppress(failure, e);
+                }
+            }
+
+            if (failure != null)
+            {
+                throw failure;
+            }
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
+
+    /**
+     * Combines a failure with any previous failure, suppressing it in the previous failure.
+     *
+     * @param previous  the previous failure (may be <code>null</code>)
+     * @param failure   the failure
+     *
+     * @return  the previous failure, or the failure when there was no previous failure
+     */
+    private static RuntimeException suppress(RuntimeException previous,
+                                             RuntimeException failure)
+    {
+        if (previous == null)
+        {
+            return failure;
+        }
+
+        previous.addSuppressed(failure);
+
+        return previous;
+    }
+
+
+    /**
+     * Waits for a {@link Future} to complete, rethrowing the cause of any failure.
+     *
+     * @param future  the {@link Future}
+     * @param <T>     the type of the result
+     *
+     * @return the result of the {@link Future}
+     */
+    private static <T> T await(Future<T> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException("Interrupted while relaunching applications", e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            else if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            else
+            {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+
     /**
      * Creates the specified number of "clones" of the specified {@link Application}s using the
      * provided override {@link Option}s.
@@ -26,6 +26,7 @@
 package com.oracle.bedrock.runtime;
 
 import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
 
 /**
  * A builder for {@link ApplicationConsole}s.
@@ -46,4 +47,23 @@ public interface ApplicationConsoleBuilder extends Option
      * @return  an {@link ApplicationConsole} for the specified application name
      */
     ApplicationConsole build(String applicationName);
+
+
+    /**
+     * Realizes an {@link ApplicationConsole} for the specified application name, using the
+     * {@link OptionsByType} with which the application is being launched.
+     * <p>
+     * By default the {@link OptionsByType} are ignored.
+     *
+     * @param applicationName  the name of the application that will use the
+     *                         returned {@link ApplicationConsole}
+     * @param optionsByType    the launch {@link OptionsByType} of the application
+     *
+     * @return  an {@link ApplicationConsole} for the specified application name
+     */
+    default ApplicationConsole build(String        applicationName,
+                                     OptionsByType optionsByType)
+    {
+        return build(applicationName);
+    }
 }
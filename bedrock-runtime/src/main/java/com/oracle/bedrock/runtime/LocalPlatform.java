@@ -119,9 +119,21 @@ public class LocalPlatform extends AbstractPlatform
 
         List<InetAddress> bindableAddresses = NetworkHelper.getInetAddresses(NetworkHelper.BINDABLE_ADDRESS);
 
-        this.availablePortIterator = new AvailablePortIterator(30000,
-                                                               AvailablePortIterator.MAXIMUM_PORT,
-                                                               bindableAddresses);
+        // (optionally acquiring ephemeral ports reserved across the processes on this host)
+        String allocation = System.getProperty(Settings.PORT_ALLOCATION, "scan");
+
+        if (allocation.trim().equalsIgnoreCase("ephemeral"))
+        {
+            this.availablePortIterator = AvailablePortIterator.ephemeral(30000,
+                                                                         AvailablePortIterator.MAXIMUM_PORT,
+                                                                         bindableAddresses);
+        }
+        else
+        {
+            this.availablePortIterator = new AvailablePortIterator(30000,
+                                                                   AvailablePortIterator.MAXIMUM_PORT,
+                                                                   bindableAddresses);
+        }
     }
 
 
@@ -64,6 +64,78 @@ public class Settings
      */
     public static final String CHANNEL_SERIALIZER = "bedrock.runtime.channel.serializer";
 
+    /**
+     * The Java System (String) Property that specifies the preferred wire protocol for
+     * remote channels (either "serialized" or "framed").
+     */
+    public static final String CHANNEL_PROTOCOL = "bedrock.runtime.channel.protocol";
+
+    /**
+     * The Java System (String) Property that specifies the transport used by servers accepting
+     * remote channel connections from launched applications (either "socket" or "selector").
+     */
+    public static final String CHANNEL_TRANSPORT = "bedrock.runtime.channel.transport";
+
+    /**
+     * The Java System (int) Property that specifies the number of selector threads shared by
+     * selector-based remote channel servers.
+     */
+    public static final String CHANNEL_SELECTOR_THREADS = "bedrock.runtime.channel.selector.threads";
+
+    /**
+     * The Java System (int) Property that specifies the maximum number of threads shared by
+     * selector-based remote channel servers for executing operations.
+     */
+    public static final String CHANNEL_EXECUTOR_THREADS = "bedrock.runtime.channel.executor.threads";
+
+    /**
+     * The Java System (int) Property that specifies the maximum number of operations a remote channel
+     * writes before flushing.
+     */
+    public static final String CHANNEL_BATCH_SIZE = "bedrock.runtime.channel.batch.size";
+
+    /**
+     * The Java System (long) Property that specifies the maximum time, in microseconds, that a remote
+     * channel waits for more operations to write before flushing (defaults to zero, not waiting).
+     */
+    public static final String CHANNEL_LINGER = "bedrock.runtime.channel.linger";
+
+    /**
+     * The Java System (int) Property that specifies the maximum number of results a remote channel
+     * caches for callables submitted with caching enabled.
+     */
+    public static final String CHANNEL_CACHE_SIZE = "bedrock.runtime.channel.cache.size";
+
+    /**
+     * The Java System (long) Property that specifies the maximum total weight (approximately bytes)
+     * of the results a remote channel caches for callables submitted with caching enabled.
+     */
+    public static final String CHANNEL_CACHE_WEIGHT = "bedrock.runtime.channel.cache.weight";
+
+    /**
+     * The Java System (boolean) Property to enable the use of virtual threads (when supported by
+     * the Java runtime) for remote channels, console redirection and output capturing.
+     */
+    public static final String VIRTUAL_THREADS = "bedrock.runtime.virtual.threads";
+
+    /**
+     * The Java System (String) Property that specifies how the {@link LocalPlatform} allocates
+     * available ports (either "scan" or "ephemeral").
+     */
+    public static final String PORT_ALLOCATION = "bedrock.runtime.ports.allocation";
+
+    /**
+     * The Java System (String) Property that specifies the file used to reserve ports across
+     * the processes on a host (defaults to a file in the temporary directory).
+     */
+    public static final String PORT_REGISTRY = "bedrock.runtime.ports.registry";
+
+    /**
+     * The Java System (String) Property that specifies the file in which the resources of class path
+     * archives are indexed (defaults to a file in the temporary directory, or "none" to not persist it).
+     */
+    public static final String CLASSPATH_INDEX = "bedrock.runtime.classpath.index";
+
 
     /**
      * Determines if diagnostics are enabled.
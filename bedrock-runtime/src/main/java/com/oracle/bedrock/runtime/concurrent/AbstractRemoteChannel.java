@@ -28,16 +28,19 @@ package com.oracle.bedrock.runtime.concurrent;
 import com.oracle.bedrock.Option;
 import com.oracle.bedrock.OptionsByType;
 import com.oracle.bedrock.annotations.Internal;
-import com.oracle.bedrock.lang.ThreadFactories;
 import com.oracle.bedrock.options.Timeout;
+import com.oracle.bedrock.runtime.Settings;
 import com.oracle.bedrock.runtime.concurrent.options.Caching;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
 import com.oracle.bedrock.runtime.concurrent.options.StreamName;
 import com.oracle.bedrock.runtime.java.io.ClassLoaderAwareObjectInputStream;
-import com.oracle.bedrock.util.Pair;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -46,22 +49,35 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.net.Socket;
-import java.time.Instant;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -81,15 +97,56 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
     */
     private static final Logger LOGGER = Logger.getLogger(AbstractRemoteChannel.class.getName());
 
+    /**
+     * The operation type used to negotiate the {@link ChannelProtocol} when a
+     * {@link RemoteChannel} is opened.  Peers that don't understand this type respond
+     * with an exception, in which case the {@link ChannelProtocol#SERIALIZED} protocol is used.
+     */
+    private static final String NEGOTIATION = "PROTOCOL";
+
+    /**
+     * The version of the protocol supported by this {@link AbstractRemoteChannel}
+     * (sent during negotiation).  Version 1 introduced the {@link ChannelProtocol#FRAMED} protocol.
+     * Version 2 introduced streaming of {@link InputStream} and {@link ReadableByteChannel} results,
+     * flow controlled using credits returned as the streamed content is read.
+     */
+    private static final byte PROTOCOL_VERSION = 2;
+
+    /**
+     * The maximum number of chunks of a streamed result that may be sent but not yet read
+     * (the initial credit of a stream), bounding the memory used at both ends when streaming results.
+     */
+    private static final int MAXIMUM_CHUNKS_IN_FLIGHT = 16;
+
+    /**
+     * The size of the buffer in which frames are coalesced before being written to the
+     * underlying {@link OutputStream}.
+     */
+    private static final int FRAME_OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The default maximum number of operations written by the drain loop before flushing.
+     */
+    private static final int DEFAULT_MAXIMUM_BATCH_SIZE = 256;
+
     /**
      * The underlying {@link OutputStream} to use for sending requests and raising
      * events on the {@link RemoteChannel}.
      */
     private final OutputStream underlyingOutput;
 
+    /**
+     * The buffered {@link OutputStream} (over the underlying {@link OutputStream}) to which
+     * frames are written when using the {@link ChannelProtocol#FRAMED} protocol, allowing
+     * frames sent together to be written and flushed together.
+     */
+    private final OutputStream frameOutput;
+
     /**
      * The underlying {@link OutputStream} to use for receiving requests, responses
      * and events from the {@link RemoteChannel}.
+     * <p>
+     * When this is <code>null</code> received bytes are provided using {@link #receive(ByteBuffer)}.
      */
     private final InputStream underlyingInput;
 
@@ -119,6 +176,24 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
      */
     private final ExecutorService concurrentExecutionService;
 
+    /**
+     * Is the concurrent {@link ExecutorService} shared with other {@link RemoteChannel}s,
+     * in which case it must not be shutdown when this {@link RemoteChannel} is closed.
+     */
+    private final boolean isExecutionServiceShared;
+
+    /**
+     * The {@link ThreadFactory} for the dedicated threads of the {@link RemoteChannel},
+     * producing virtual threads when {@link VirtualThreads} are enabled and supported.
+     */
+    private final ThreadFactory threadFactory;
+
+    /**
+     * The {@link ClassLoader} to use for deserializing received operations
+     * (established when the {@link RemoteChannel} is opened).
+     */
+    private ClassLoader classLoader;
+
     /**
      * The {@link Thread} to read {@link Callable}s from the {@link Socket}.
      * <p>
@@ -145,6 +220,18 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
     @SuppressWarnings("rawtypes")
     private final HashMap<String, Class<? extends Operation>> protocol;
 
+    /**
+     * The factories for the defined {@link Operation} types, being {@link MethodHandle}s of
+     * their constructors bound to this {@link AbstractRemoteChannel}, indexed by operation type.
+     */
+    private final HashMap<String, MethodHandle> operationFactories;
+
+    /**
+     * The {@link MethodHandle}s of the no-argument constructors of classes whose instances are
+     * sent by class name (when they aren't {@link Serializable}), indexed by class name.
+     */
+    private final ConcurrentHashMap<String, MethodHandle> instantiators;
+
     /**
      * The pending {@link Operation}s that are waiting for responses,
      * indexed by sequence number.
@@ -160,17 +247,117 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
     /**
      * The result cache for {@link Callable}s submitted using a {@link Caching#enabled(Option...)}
      * option.
-     * <p>
-     * The cache is a map from the {@link RemoteCallable} to a {@link Pair}
-     * consisting of the result and the {@link Instant} when result expires.
      */
-    private final ConcurrentHashMap<Callable<?>, Pair<Object, Instant>> cache;
+    private final ResultCache resultCache;
+
+    /**
+     * The {@link RemoteChannelMetrics} recorded by this {@link AbstractRemoteChannel}
+     * (possibly shared with other {@link AbstractRemoteChannel}s).
+     */
+    private RemoteChannelMetrics metrics;
+
+    /**
+     * The number of received operations waiting to be executed.
+     */
+    private final AtomicInteger scheduledOperations;
 
     /**
      * The {@link RemoteChannelSerializer} to use.
      */
     private RemoteChannelSerializer serializer;
 
+    /**
+     * The {@link ChannelProtocol} requested by this end of the {@link RemoteChannel}.
+     */
+    private final ChannelProtocol requestedProtocol;
+
+    /**
+     * The {@link ChannelProtocol} negotiated with the other end of the {@link RemoteChannel},
+     * completed once negotiation has finished.
+     */
+    private final CompletableFuture<ChannelProtocol> negotiation;
+
+    /**
+     * The sequence number used for negotiating the {@link ChannelProtocol}.
+     */
+    private long negotiationSequence;
+
+    /**
+     * The protocol version of the other end of the {@link RemoteChannel}
+     * (zero until negotiated or when the other end doesn't negotiate).
+     */
+    private volatile int peerVersion;
+
+    /**
+     * The {@link RemoteInputStream}s of results being streamed from the other end of the
+     * {@link RemoteChannel}, indexed by the sequence number of the {@link RemoteCallable}.
+     */
+    private final ConcurrentHashMap<Long, RemoteInputStream> incomingStreams;
+
+    /**
+     * The {@link OutgoingStream}s of results being streamed to the other end of the
+     * {@link RemoteChannel}, indexed by the sequence number of the {@link RemoteCallable}.
+     */
+    private final ConcurrentHashMap<Long, OutgoingStream> outgoingStreams;
+
+    /**
+     * The {@link Runnable}s to send using the sequential {@link ExecutorService}
+     * once the {@link ChannelProtocol} has been negotiated, in the order they were sent.
+     */
+    private final ArrayList<Runnable> deferredSenders;
+
+    /**
+     * The (lock-free, multiple-producer, single-consumer) queue of {@link Runnable}s
+     * waiting to be sent by the drain loop, in the order they were sent.
+     */
+    private final ConcurrentLinkedQueue<Runnable> outbound;
+
+    /**
+     * A flag to indicate if the drain loop has been scheduled (or is running) on the
+     * sequential {@link ExecutorService}.
+     */
+    private final AtomicBoolean isDraining;
+
+    /**
+     * The {@link Thread} of the drain loop while it's lingering for more {@link Runnable}s
+     * (<code>null</code> when not lingering), which is unparked when a {@link Runnable} is sent.
+     */
+    private volatile Thread lingeringThread;
+
+    /**
+     * The maximum number of {@link Runnable}s sent by the drain loop before flushing.
+     */
+    private final int maximumBatchSize;
+
+    /**
+     * The maximum time (in nanoseconds) the drain loop will wait for more {@link Runnable}s
+     * to be sent before flushing (zero to flush as soon as the queue is empty).
+     */
+    private final long lingerNanos;
+
+    /**
+     * The operation types, indexed by their opcode in the {@link ChannelProtocol#FRAMED} protocol.
+     */
+    private final ArrayList<String> operationTypes;
+
+    /**
+     * The {@link FrameBufferPool} providing buffers for sending frames when
+     * using the {@link ChannelProtocol#FRAMED} protocol.
+     */
+    private final FrameBufferPool frameBufferPool;
+
+    /**
+     * The {@link FrameReader} for receiving frames when using the {@link ChannelProtocol#FRAMED}
+     * protocol (lazily created once the protocol has been negotiated).
+     */
+    private FrameReader frameReader;
+
+    /**
+     * The {@link BlockDataReader} for receiving operations using the {@link ChannelProtocol#SERIALIZED}
+     * protocol when received bytes are provided using {@link #receive(ByteBuffer)}.
+     */
+    private BlockDataReader blockDataReader;
+
     /**
      * Constructs a {@link AbstractRemoteChannel} to submit and accept {@link Callable}s.
      *
@@ -196,11 +383,100 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
     public AbstractRemoteChannel(OutputStream outputStream,
                                  InputStream  inputStream,
                                  RemoteChannelSerializer serializer) throws IOException
+    {
+        this(outputStream, inputStream, serializer, null);
+    }
+
+    /**
+     * Constructs a {@link AbstractRemoteChannel} to submit and accept {@link Callable}s.
+     *
+     * @param outputStream  the {@link OutputStream} from the {@link RemoteChannel}
+     * @param inputStream   the {@link InputStream} into the {@link RemoteChannel}
+     * @param serializer    the optional {@link RemoteChannelSerializer}
+     * @param protocol      the requested {@link ChannelProtocol}
+     *                      (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     *
+     * @throws IOException when the {@link RemoteChannel} can't connect provided streams
+     */
+    public AbstractRemoteChannel(OutputStream            outputStream,
+                                 InputStream             inputStream,
+                                 RemoteChannelSerializer serializer,
+                                 ChannelProtocol         protocol) throws IOException
+    {
+        this(outputStream, inputStream, serializer, protocol, null);
+    }
+
+    /**
+     * Constructs a {@link AbstractRemoteChannel} to submit and accept {@link Callable}s.
+     * <p>
+     * When an {@link ExecutorService} is provided it's shared with other {@link RemoteChannel}s
+     * (it won't be shutdown when this {@link RemoteChannel} is closed), and is also used to
+     * execute tasks in sequence, meaning the {@link RemoteChannel} doesn't require any
+     * dedicated threads of its own.
+     *
+     * @param outputStream     the {@link OutputStream} from the {@link RemoteChannel}
+     * @param inputStream      the {@link InputStream} into the {@link RemoteChannel}
+     *                         (<code>null</code> when received bytes are provided using
+     *                         {@link #receive(ByteBuffer)})
+     * @param serializer       the optional {@link RemoteChannelSerializer}
+     * @param protocol         the requested {@link ChannelProtocol}
+     *                         (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     * @param executorService  the optional shared {@link ExecutorService} for executing operations
+     *                         (<code>null</code> to use dedicated threads)
+     *
+     * @throws IOException when the {@link RemoteChannel} can't connect provided streams
+     */
+    protected AbstractRemoteChannel(OutputStream            outputStream,
+                                    InputStream             inputStream,
+                                    RemoteChannelSerializer serializer,
+                                    ChannelProtocol         protocol,
+                                    ExecutorService         executorService) throws IOException
+    {
+        this(outputStream, inputStream, serializer, protocol, executorService, null);
+    }
+
+    /**
+     * Constructs a {@link AbstractRemoteChannel} to submit and accept {@link Callable}s, using
+     * the specified {@link VirtualThreads} to create the dedicated threads of the {@link RemoteChannel}.
+     *
+     * @param outputStream     the {@link OutputStream} from the {@link RemoteChannel}
+     * @param inputStream      the {@link InputStream} into the {@link RemoteChannel}
+     *                         (<code>null</code> when received bytes are provided using
+     *                         {@link #receive(ByteBuffer)})
+     * @param serializer       the optional {@link RemoteChannelSerializer}
+     * @param protocol         the requested {@link ChannelProtocol}
+     *                         (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     * @param executorService  the optional shared {@link ExecutorService} for executing operations
+     *                         (<code>null</code> to use dedicated threads)
+     * @param virtualThreads   the {@link VirtualThreads} for the dedicated threads
+     *                         (<code>null</code> to use {@link VirtualThreads#autoDetect()})
+     *
+     * @throws IOException when the {@link RemoteChannel} can't connect provided streams
+     */
+    protected AbstractRemoteChannel(OutputStream            outputStream,
+                                    InputStream             inputStream,
+                                    RemoteChannelSerializer serializer,
+                                    ChannelProtocol         protocol,
+                                    ExecutorService         executorService,
+                                    VirtualThreads          virtualThreads) throws IOException
     {
         // remember the underlying streams as we may have to interact with them later
-        this.underlyingOutput = outputStream;
-        this.underlyingInput  = inputStream;
-        this.serializer       = serializer;
+        this.underlyingOutput  = outputStream;
+        this.underlyingInput   = inputStream;
+        this.serializer        = serializer;
+        this.requestedProtocol = protocol == null ? ChannelProtocol.autoDetect() : protocol;
+        this.negotiation       = new CompletableFuture<>();
+        this.frameBufferPool   = new FrameBufferPool();
+        this.operationTypes    = new ArrayList<>();
+        this.deferredSenders   = new ArrayList<>();
+        this.outbound          = new ConcurrentLinkedQueue<>();
+        this.incomingStreams   = new ConcurrentHashMap<>();
+        this.outgoingStreams   = new ConcurrentHashMap<>();
+        this.isDraining        = new AtomicBoolean(false);
+        this.maximumBatchSize  = Math.max(1, Integer.getInteger(Settings.CHANNEL_BATCH_SIZE,
+                                                                DEFAULT_MAXIMUM_BATCH_SIZE));
+        this.lingerNanos       = TimeUnit.MICROSECONDS.toNanos(Math.max(0, Long.getLong(Settings.CHANNEL_LINGER, 0)));
+        this.frameOutput       = new BufferedOutputStream(underlyingOutput, FRAME_OUTPUT_BUFFER_SIZE);
 
         // establish the object output stream
         this.output = underlyingOutput instanceof ObjectOutputStream
@@ -210,23 +486,51 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
         // allowing connected streams to begin reading (avoid blocking).
         this.output.flush();
 
-        this.sequentialExecutionService = Executors.newSingleThreadExecutor(ThreadFactories.usingDaemonThreads(true));
-        this.concurrentExecutionService = Executors.newCachedThreadPool(ThreadFactories.usingDaemonThreads(true));
+        // the dedicated threads are virtual threads when enabled (and supported)
+        this.threadFactory = virtualThreads == null
+                             ? VirtualThreads.autoDetect().getThreadFactory() : virtualThreads.getThreadFactory();
+
+        if (executorService == null)
+        {
+            this.sequentialExecutionService = Executors.newSingleThreadExecutor(threadFactory);
+            this.concurrentExecutionService = Executors.newCachedThreadPool(threadFactory);
+            this.isExecutionServiceShared   = false;
+        }
+        else
+        {
+            this.sequentialExecutionService = new SerialExecutorService(executorService);
+            this.concurrentExecutionService = executorService;
+            this.isExecutionServiceShared   = true;
+        }
+
         this.requestAcceptorThread      = null;
         this.isReadable                 = new AtomicBoolean(true);
         this.isWritable                 = new AtomicBoolean(true);
         this.protocol                   = new HashMap<>();
+        this.operationFactories         = new HashMap<>();
+        this.instantiators              = new ConcurrentHashMap<>();
         this.pendingOperations          = new ConcurrentHashMap<>();
         this.nextSequenceNumber         = new AtomicLong(0);
 
         // establish the result cache for RemoteCallables
-        this.cache = new ConcurrentHashMap<>();
+        this.resultCache = new ResultCache(Integer.getInteger(Settings.CHANNEL_CACHE_SIZE,
+                                                              ResultCache.DEFAULT_MAXIMUM_SIZE),
+                                           Long.getLong(Settings.CHANNEL_CACHE_WEIGHT,
+                                                        ResultCache.DEFAULT_MAXIMUM_WEIGHT),
+                                           ResultCache::weigh);
+
+        // establish the metrics (until shared metrics are provided)
+        this.metrics             = new RemoteChannelMetrics();
+        this.scheduledOperations = new AtomicInteger();
 
         // establish the operations that are part of the protocol
-        protocol.put("CALLABLE", CallableOperation.class);
-        protocol.put("RESPONSE", ResponseOperation.class);
-        protocol.put("RUNNABLE", RunnableOperation.class);
-        protocol.put("EVENT", EventOperation.class);
+        // (the order in which they're defined determines their opcodes, so only append!)
+        defineOperation("CALLABLE", CallableOperation.class);
+        defineOperation("RESPONSE", ResponseOperation.class);
+        defineOperation("RUNNABLE", RunnableOperation.class);
+        defineOperation("EVENT", EventOperation.class);
+        defineOperation("CHUNK", ChunkOperation.class);
+        defineOperation("CREDIT", CreditOperation.class);
     }
 
     public void setSerializer(RemoteChannelSerializer serializer)
@@ -234,6 +538,198 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
         this.serializer = serializer;
     }
 
+
+    /**
+     * Sets the {@link RemoteChannelMetrics} to record, typically so that a server can record the
+     * metrics of all of its {@link RemoteChannel}s together.  This must be called before opening.
+     *
+     * @param metrics  the {@link RemoteChannelMetrics}
+     */
+    public void setMetrics(RemoteChannelMetrics metrics)
+    {
+        if (metrics != null)
+        {
+            this.metrics = metrics;
+        }
+    }
+
+
+    @Override
+    public RemoteChannelMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+
+    /**
+     * Obtains the number of operations waiting for responses.
+     *
+     * @return the number of pending operations
+     */
+    int getPendingOperationCount()
+    {
+        return pendingOperations.size();
+    }
+
+
+    /**
+     * Obtains the number of operations waiting to be sent (including those deferred
+     * until the protocol has been negotiated).
+     *
+     * @return the number of outbound operations
+     */
+    int getOutboundQueueDepth()
+    {
+        synchronized (deferredSenders)
+        {
+            return outbound.size() + deferredSenders.size();
+        }
+    }
+
+
+    /**
+     * Obtains the number of received operations waiting to be executed.
+     *
+     * @return the number of scheduled operations
+     */
+    int getExecutorQueueDepth()
+    {
+        return scheduledOperations.get();
+    }
+
+
+    /**
+     * Serializes a value using the {@link RemoteChannelSerializer}.
+     *
+     * @param value  the value to serialize
+     *
+     * @return the serialized value
+     *
+     * @throws IOException when the value can't be serialized
+     */
+    private byte[] serialize(Object value) throws IOException
+    {
+        try
+        {
+            return serializer.serialize(value);
+        }
+        catch (UncheckedIOException e)
+        {
+            // unwrap the cause so that NotSerializableExceptions are reported to the caller
+            throw e.getCause();
+        }
+    }
+
+
+    /**
+     * Deserializes a value using the {@link RemoteChannelSerializer}.
+     *
+     * @param bytes  the serialized value
+     * @param <T>    the expected type
+     *
+     * @return the deserialized value
+     *
+     * @throws IOException when the value can't be deserialized
+     */
+    private <T> T deserialize(byte[] bytes) throws IOException
+    {
+        try
+        {
+            return serializer.deserialize(bytes);
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+    }
+
+
+    /**
+     * Defines an {@link Operation} type that is part of the protocol, allocating
+     * the next available opcode for it.
+     *
+     * @param operationType   the operation type
+     * @param operationClass  the {@link Operation} class
+     */
+    @SuppressWarnings("rawtypes")
+    private void defineOperation(String                     operationType,
+                                 Class<? extends Operation> operationClass)
+    {
+        protocol.put(operationType, operationClass);
+        operationTypes.add(operationType);
+
+        try
+        {
+            MethodHandle constructor = MethodHandles.lookup().findConstructor(operationClass,
+                                                                              MethodType.methodType(void.class,
+                                                                                                    AbstractRemoteChannel.class));
+
+            operationFactories.put(operationType, constructor.bindTo(this).asType(MethodType.methodType(Operation.class)));
+        }
+        catch (NoSuchMethodException | IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("The operation " + operationClass
+                                               + " doesn't declare an accessible AbstractRemoteChannel constructor",
+                                               e);
+        }
+    }
+
+
+    /**
+     * Instantiates a class (sent by name) using its no-argument constructor, remembering
+     * the constructor for subsequent instantiations.
+     *
+     * @param className  the name of the class
+     *
+     * @return a new instance of the class
+     *
+     * @throws ReflectiveOperationException when the class can't be instantiated
+     */
+    private Object newInstance(String className) throws ReflectiveOperationException
+    {
+        MethodHandle constructor = instantiators.get(className);
+
+        if (constructor == null)
+        {
+            Class<?> instanceClass = Class.forName(className);
+
+            if (Modifier.isAbstract(instanceClass.getModifiers()))
+            {
+                throw new InstantiationException(className);
+            }
+
+            constructor = MethodHandles.lookup()
+                                       .unreflectConstructor(instanceClass.getDeclaredConstructor())
+                                       .asType(MethodType.methodType(Object.class));
+
+            instantiators.putIfAbsent(className, constructor);
+        }
+
+        try
+        {
+            return (Object) constructor.invokeExact();
+        }
+        catch (Error e)
+        {
+            throw e;
+        }
+        catch (Throwable throwable)
+        {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+
+    /**
+     * Obtains the {@link ChannelProtocol} negotiated with the other end of the {@link RemoteChannel}.
+     *
+     * @return the {@link ChannelProtocol} or <code>null</code> if negotiation hasn't completed
+     */
+    public ChannelProtocol getProtocol()
+    {
+        return negotiation.getNow(null);
+    }
+
 /**
      * Get netstats information from OS.
      *
@@ -295,10 +791,30 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
             // determine the ClassLoader to use for reading requests
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
 
+            this.classLoader = classLoader;
+
+            // establish the serializer for this channel (serializers may maintain per-channel state)
+            if (serializer != null)
+            {
+                serializer = serializer.forChannel(classLoader);
+            }
+
+            // include this channel in the metrics
+            for (int opcode = 0; opcode < operationTypes.size(); opcode++)
+            {
+                metrics.defineOperationType(opcode, operationTypes.get(opcode));
+            }
+
+            metrics.attach(this);
+
             // establish the input stream to read requests
+            // (unless received bytes are provided using receive(ByteBuffer))
             try
             {
-                this.input = new ClassLoaderAwareObjectInputStream(classLoader, underlyingInput);
+                if (underlyingInput != null)
+                {
+                    this.input = new ClassLoaderAwareObjectInputStream(classLoader, underlyingInput);
+                }
             }
             catch (IOException e)
             {
@@ -310,84 +826,15 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
                 return;
             }
 
-            requestAcceptorThread = new Thread(() -> {
-                while (isReadable.get() && isWritable.get())
-                {
-                    try
-                    {
-                        // read the operation to perform
-                        String operationType = input.readUTF();
-
-                        // read the allocated sequence number for the operation
-                        long sequence = input.readLong();
-
-                        // read the serialized operation from the stream
-                        int    length = input.readInt();
-                        byte[] bytes  = new byte[length];
+            // negotiate the protocol before anything else is sent
+            negotiationSequence = nextSequenceNumber.getAndIncrement();
 
-                        input.readFully(bytes, 0, length);
+            sequentialExecutionService.submit(this::negotiate);
 
-                        // attempt to instantiate, deserialize and schedule the operation for execution
-                        try
-                        {
-                            ByteArrayInputStream buffer =
-                                new ByteArrayInputStream(bytes);
-                            ObjectInputStream stream =
-                                new ClassLoaderAwareObjectInputStream(classLoader,
-                                                                      buffer);
-
-                            // instantiate the operation and initialize its state
-                            Class<? extends Operation> operationClass =
-                                protocol.get(operationType);
-
-                            Constructor<? extends Operation> constructor =
-                                operationClass.getConstructor(AbstractRemoteChannel.class);
-
-                            Operation operation =
-                                constructor.newInstance(AbstractRemoteChannel
-                                    .this);
-
-                            operation.read(stream);
-
-                            // submit the operation for execution based on the
-                            // operational stream
-                            StreamName streamName = operation.getStreamName();
-
-                            if (streamName == null)
-                            {
-                                // when there's no stream name, execute the operation concurrently
-                                concurrentExecutionService.submit(new Executor(sequence,
-                                                                               operation));
-                            }
-                            else
-                            {
-                                // when there's stream name, execute the operation sequentially
-                                sequentialExecutionService.submit(new Executor(sequence,
-                                                                               operation));
-                            }
-
-                        }
-                        catch (Exception e)
-                        {
-                            // when we can't execute the operation we notify the sender of the exception
-                            sequentialExecutionService.submit(new Sender(sequence, new ResponseOperation<>(e)));
-                        }
-                    }
-                    catch (Exception e)
-                    {
-                        // the stream has become corrupted or was closed
-                        // (either way there's nothing else we can read or do)
-                        isReadable.set(false);
-                        LOGGER.log(Level.FINE, "termination of RemoteChannel:RequestAcceptor thread", e);
-                    }
-                }
-
-                close();
-            });
-
-            requestAcceptorThread.setName("RemoteChannel:RequestAcceptor");
-            requestAcceptorThread.setDaemon(true);
-            requestAcceptorThread.start();
+            if (underlyingInput != null)
+            {
+                startRequestAcceptor(classLoader);
+            }
 
             for (RemoteChannelListener listener : channelListeners)
             {
@@ -404,417 +851,1652 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
     }
 
 
-    @Override
-    protected void onClose()
+    /**
+     * Starts the {@link Thread} that reads and schedules operations from the underlying {@link InputStream}.
+     *
+     * @param classLoader  the {@link ClassLoader} for deserializing operations
+     */
+    private void startRequestAcceptor(ClassLoader classLoader)
     {
-        // no longer accept any more requests
-        isReadable.set(false);
+        requestAcceptorThread = threadFactory.newThread(() -> {
+            while (isReadable.get() && isWritable.get())
+            {
+                try
+                {
+                    if (negotiation.getNow(null) == ChannelProtocol.FRAMED)
+                    {
+                        acceptFrame(classLoader);
+                    }
+                    else
+                    {
+                        acceptSerialized(classLoader);
+                    }
+                }
+                catch (Exception e)
+                {
+                    // the stream has become corrupted or was closed
+                    // (either way there's nothing else we can read or do)
+                    isReadable.set(false);
+                    LOGGER.log(Level.FINE, "termination of RemoteChannel:RequestAcceptor thread", e);
+                }
+            }
 
-        // gracefully shutdown the executor services
-        concurrentExecutionService.shutdown();
-        sequentialExecutionService.shutdown();
+            close();
+        });
 
-        // clear all of the event listeners
-        eventListenersByStreamName.clear();
+        requestAcceptorThread.setName("RemoteChannel:RequestAcceptor");
+        requestAcceptorThread.start();
+    }
 
-        // no longer write any more responses
-        isWritable.set(false);
 
-        // close the input and output streams
-        try
+    /**
+     * Reads and schedules the operations that are completely contained in the specified
+     * {@link ByteBuffer}, for {@link RemoteChannel}s that don't provide an {@link InputStream}
+     * (typically because they're driven by a {@link java.nio.channels.Selector}).
+     * <p>
+     * Upon returning the {@link ByteBuffer} is positioned at the start of the first
+     * incomplete operation, so that the remaining bytes may be compacted and provided
+     * again once more bytes have been received.  This method must not be called concurrently.
+     *
+     * @param buffer  the {@link ByteBuffer} containing the received bytes
+     *
+     * @throws IOException  should the received bytes be corrupted
+     */
+    protected void receive(ByteBuffer buffer) throws IOException
+    {
+        while (isReadable.get() && isWritable.get())
         {
-            if (input != null)
+            if (negotiation.getNow(null) == ChannelProtocol.FRAMED)
+            {
+                if (frameReader == null)
                 {
-                input.close();
+                    frameReader = new FrameReader(classLoader);
                 }
-        }
-        catch (IOException e)
-        {
-            // don't care
-        }
-        finally
-        {
-            input = null;
-        }
 
-        try
-        {
-            if (output != null)
+                if (frameReader.read(buffer))
                 {
-                output.close();
+                    acceptFrame();
+                }
+                else
+                {
+                    return;
+                }
+            }
+            else
+            {
+                if (blockDataReader == null)
+                {
+                    blockDataReader = new BlockDataReader();
+                }
+
+                if (blockDataReader.read(buffer))
+                {
+                    acceptSerialized(blockDataReader.getOperationType(),
+                                     blockDataReader.getSequence(),
+                                     blockDataReader.getBytes(),
+                                     classLoader);
+                }
+                else
+                {
+                    return;
                 }
+            }
         }
-        catch (IOException e)
+    }
+
+
+    /**
+     * Sends the negotiation request for the {@link ChannelProtocol}.  Other operations
+     * are deferred by {@link #send(Runnable)} until the protocol is known.
+     * <p>
+     * This must be the first task executed by the sequential {@link ExecutorService}.
+     */
+    private void negotiate()
+    {
+        try
         {
-            // don't care
+            byte[] bytes = new byte[] {PROTOCOL_VERSION, (byte) requestedProtocol.ordinal()};
+
+            output.writeUTF(NEGOTIATION);
+            output.writeLong(negotiationSequence);
+            output.writeInt(bytes.length);
+            output.write(bytes, 0, bytes.length);
+            output.flush();
         }
-        finally
+        catch (Exception e)
         {
-            output = null;
+            LOGGER.log(Level.FINE, "Failed to send protocol negotiation", e);
+
+            onNegotiated(ChannelProtocol.SERIALIZED);
         }
+    }
 
-        // raise IllegalStateExceptions for any remaining pending operations
-        for (Operation<?> operation : pendingOperations.values())
+
+    /**
+     * Completes the {@link ChannelProtocol} negotiation using the negotiation
+     * request received from the other end of the {@link RemoteChannel}.
+     *
+     * @param bytes  the negotiation request
+     */
+    private void onNegotiation(byte[] bytes)
+    {
+        int             version       = bytes.length > 0 ? bytes[0] : 0;
+
+        peerVersion = version;
+        ChannelProtocol peerRequested = bytes.length > 1 && bytes[1] == ChannelProtocol.FRAMED.ordinal()
+                                        ? ChannelProtocol.FRAMED : ChannelProtocol.SERIALIZED;
+
+        // the framed protocol is used when both ends support it and either end requested it
+        boolean framed = Math.min(version, PROTOCOL_VERSION) >= 1
+                         && (requestedProtocol == ChannelProtocol.FRAMED || peerRequested == ChannelProtocol.FRAMED);
+
+        onNegotiated(framed ? ChannelProtocol.FRAMED : ChannelProtocol.SERIALIZED);
+    }
+
+
+    /**
+     * Completes the {@link ChannelProtocol} negotiation, releasing any deferred
+     * senders (in order) to the drain loop.
+     *
+     * @param protocol  the negotiated {@link ChannelProtocol}
+     */
+    private void onNegotiated(ChannelProtocol protocol)
+    {
+        synchronized (deferredSenders)
         {
-            try
-            {
-                operation.completeExceptionally(new IllegalStateException("RemoteChannel is closed"));
-            }
-            catch (Exception e)
+            if (negotiation.complete(protocol))
             {
-                // we ignore exceptions that the listener throws
+                outbound.addAll(deferredSenders);
+                deferredSenders.clear();
             }
         }
 
-        pendingOperations.clear();
+        scheduleDrain();
     }
 
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    @Override
-    public <T> CompletableFuture<T> submit(RemoteCallable<T> callable,
-                                           Option...         options) throws IllegalStateException
+    /**
+     * Sends (asynchronously) by adding the {@link Runnable} to the outbound queue of the
+     * drain loop, deferring the {@link Runnable} until the {@link ChannelProtocol} has
+     * been negotiated.
+     *
+     * @param runnable  the {@link Runnable} that sends
+     *
+     * @throws RejectedExecutionException when the {@link RemoteChannel} has been closed
+     */
+    private void send(Runnable runnable)
     {
-        if (isOpen())
+        if (sequentialExecutionService.isShutdown())
         {
-            OptionsByType optionsByType = OptionsByType.of(options);
-
-            // determine if Caching is enabled for this submission
-            Caching caching = optionsByType.get(Caching.class);
+            throw new RejectedExecutionException("RemoteChannel is closed");
+        }
 
-            if (caching.isEnabled())
+        synchronized (deferredSenders)
+        {
+            if (!negotiation.isDone())
             {
-                // attempt to acquire the existing cache value that hasn't expired
-                // (if it's expired replace it with null)
-                Pair<Object, Instant> pair = cache.compute(callable,
-                                                           (c, existing) -> existing == null
-                                                                            || existing.getY()
-                                                                            .isBefore(Instant.now()) ? null : existing);
-
-                if (pair != null)
-                {
-                    CompletableFuture<T> future = new CompletableFuture<>();
-
-                    future.complete((T) pair.getX());
+                deferredSenders.add(runnable);
 
-                    return future;
-                }
-            }
-            else
-            {
-                // ensure the cache is cleared for the current callable
-                cache.remove(callable);
+                return;
             }
+        }
 
-            // by default we acknowledge when processed
-            optionsByType.addIfAbsent(AcknowledgeWhen.PROCESSED);
+        outbound.offer(runnable);
 
-            CallableOperation operation = new CallableOperation<>(callable, optionsByType);
+        Thread thread = lingeringThread;
 
-            return sendOperation(operation, optionsByType);
+        if (thread != null)
+        {
+            LockSupport.unpark(thread);
         }
-        else
+
+        scheduleDrain();
+    }
+
+
+    /**
+     * Schedules the drain loop on the sequential {@link ExecutorService}, unless it's
+     * already scheduled or running.
+     */
+    private void scheduleDrain()
+    {
+        if (!outbound.isEmpty() && isDraining.compareAndSet(false, true))
         {
-            throw new IllegalStateException("RemoteChannel is closed");
+            try
+            {
+                sequentialExecutionService.execute(this::drain);
+            }
+            catch (RejectedExecutionException e)
+            {
+                // the RemoteChannel has been closed, so there's nothing to drain to
+                isDraining.set(false);
+            }
         }
     }
 
 
-    @Override
-    public CompletableFuture<Void> submit(RemoteRunnable runnable,
-                                          Option...      options) throws IllegalStateException
+    /**
+     * The drain loop, executed by the sequential {@link ExecutorService}, that writes the
+     * queued {@link Runnable}s (up to the maximum batch size, optionally lingering for more)
+     * and then flushes the output once.  Should more remain, the loop is rescheduled
+     * (allowing other sequential tasks to be executed).
+     */
+    private void drain()
     {
-        if (isOpen())
+        int count = 0;
+
+        try
         {
-            OptionsByType optionsByType = OptionsByType.of(options);
+            Runnable runnable;
 
-            // by default we acknowledge when sent
-            optionsByType.addIfAbsent(AcknowledgeWhen.SENT);
+            while (count < maximumBatchSize && (runnable = poll()) != null)
+            {
+                try
+                {
+                    runnable.run();
+                }
+                catch (RuntimeException e)
+                {
+                    LOGGER.log(Level.SEVERE, "Caught exception sending to the RemoteChannel", e);
+                }
 
-            RunnableOperation operation = new RunnableOperation(runnable, optionsByType);
+                count++;
+            }
 
-            return sendOperation(operation, optionsByType);
+            flush();
         }
-        else
+        finally
         {
-            throw new IllegalStateException("RemoteChannel is closed");
+            isDraining.set(false);
+
+            scheduleDrain();
         }
     }
 
 
-    @Override
-    public CompletableFuture<Void> raise(RemoteEvent event,
-                                         Option...   options)
+    /**
+     * Obtains the next {@link Runnable} from the outbound queue, lingering for one
+     * to arrive when the queue is empty and lingering is enabled.
+     *
+     * @return the next {@link Runnable} or <code>null</code> when there isn't one
+     */
+    private Runnable poll()
     {
-        if (isOpen())
+        Runnable runnable = outbound.poll();
+
+        if (runnable == null && lingerNanos > 0)
         {
-            OptionsByType optionsByType = OptionsByType.of(options);
-            StreamName    streamName    = optionsByType.get(StreamName.class);
+            long deadline = System.nanoTime() + lingerNanos;
 
-            // by default we acknowledge when sent
-            optionsByType.addIfAbsent(AcknowledgeWhen.SENT);
+            // park (rather than spin) until a runnable is sent, the linger expires or the channel closes
+            lingeringThread = Thread.currentThread();
 
-            EventOperation operation = new EventOperation(streamName, event, optionsByType);
+            try
+            {
+                long remaining;
 
-            return sendOperation(operation, optionsByType);
+                while ((runnable = outbound.poll()) == null && (remaining = deadline - System.nanoTime()) > 0
+                       && isWritable.get())
+                {
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+            finally
+            {
+                lingeringThread = null;
+            }
         }
-        else
+
+        return runnable;
+    }
+
+
+    /**
+     * Flushes the output for the negotiated {@link ChannelProtocol}.
+     * Must be called by the drain loop.
+     */
+    private void flush()
+    {
+        if (isWritable.get())
         {
-            throw new IllegalStateException("RemoteChannel is closed");
+            try
+            {
+                if (negotiation.getNow(null) == ChannelProtocol.FRAMED)
+                {
+                    frameOutput.flush();
+                }
+                else
+                {
+                    output.flush();
+                }
+            }
+            catch (IOException e)
+            {
+                LOGGER.log(Level.SEVERE, "Caught exception flushing the RemoteChannel", e);
+            }
         }
     }
 
 
-    private <T> CompletableFuture<T> sendOperation(Operation<T>  operation,
-                                                   OptionsByType optionsByType)
+    /**
+     * Reads and schedules the next operation sent using the {@link ChannelProtocol#SERIALIZED} protocol.
+     *
+     * @param classLoader  the {@link ClassLoader} for deserializing the operation
+     *
+     * @throws IOException  should the underlying stream be corrupted or closed
+     */
+    private void acceptSerialized(ClassLoader classLoader) throws IOException
     {
-        long   sequence = nextSequenceNumber.getAndIncrement();
-        Sender sender   = new Sender(sequence, operation);
+        // read the operation to perform
+        String operationType = input.readUTF();
 
-        if (optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.SENT)
-        {
-            return CompletableFuture.runAsync(sender, sequentialExecutionService).thenApply((_void) -> null);
-        }
-        else
-        {
-            pendingOperations.put(sequence, operation);
+        // read the allocated sequence number for the operation
+        long sequence = input.readLong();
 
-            sequentialExecutionService.submit(sender);
+        // read the serialized operation from the stream
+        int    length = input.readInt();
+        byte[] bytes  = new byte[length];
 
-            return operation.getCompletableFuture();
-        }
+        input.readFully(bytes, 0, length);
+
+        acceptSerialized(operationType, sequence, bytes, classLoader);
     }
 
 
     /**
-     * An {@link Operation} to be executed in-order by a {@link AbstractRemoteChannel}.
+     * Schedules an operation sent using the {@link ChannelProtocol#SERIALIZED} protocol.
      *
-     * @param <T>  the result returned locally by remotely executing the operation.
+     * @param operationType  the type of operation
+     * @param sequence       the sequence number of the operation
+     * @param bytes          the serialized operation
+     * @param classLoader    the {@link ClassLoader} for deserializing the operation
      */
-    interface Operation<T>
+    private void acceptSerialized(String      operationType,
+                                  long        sequence,
+                                  byte[]      bytes,
+                                  ClassLoader classLoader)
     {
-        /**
-         * Obtains the unique type of {@link Operation}.
-         *
-         * @return the type of {@link Operation}
-         */
-        String getType();
+        if (!negotiation.isDone())
+        {
+            if (operationType.equals(NEGOTIATION))
+            {
+                onNegotiation(bytes);
 
+                return;
+            }
+            else if (operationType.equals("RESPONSE") && sequence == negotiationSequence)
+            {
+                // the other end doesn't understand negotiation, so we use the original protocol
+                onNegotiated(ChannelProtocol.SERIALIZED);
 
-        /**
-         * Writes the {@link Operation} state to the specified {@link ObjectOutputStream},
-         * so that it may later be read from an {@link ObjectInputStream} and executed.
-         *
+                return;
+            }
+        }
+
+        metrics.onReceived(operationTypes.indexOf(operationType), bytes.length);
+
+        // attempt to instantiate, deserialize and schedule the operation for execution
+        try
+        {
+            ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+            ObjectInputStream    stream = new ClassLoaderAwareObjectInputStream(classLoader, buffer);
+
+            accept(operationType, sequence, stream);
+        }
+        catch (Exception e)
+        {
+            // when we can't execute the operation we notify the sender of the exception
+            send(new Sender(sequence, new ResponseOperation<>(e)));
+        }
+    }
+
+
+    /**
+     * Reads and schedules the next operation sent using the {@link ChannelProtocol#FRAMED} protocol.
+     *
+     * @param classLoader  the {@link ClassLoader} for deserializing the operation
+     *
+     * @throws IOException  should the underlying stream be corrupted or closed
+     */
+    private void acceptFrame(ClassLoader classLoader) throws IOException
+    {
+        if (frameReader == null)
+        {
+            frameReader = new FrameReader(underlyingInput, classLoader);
+        }
+
+        frameReader.read();
+
+        acceptFrame();
+    }
+
+
+    /**
+     * Schedules the operation in the current frame of the {@link FrameReader}.
+     */
+    private void acceptFrame()
+    {
+        long sequence = frameReader.getSequence();
+        int  opcode   = frameReader.getOpcode() & 0xFF;
+
+        try
+        {
+            if (opcode >= operationTypes.size())
+            {
+                throw new IOException("Unknown operation opcode " + opcode);
+            }
+
+            metrics.onReceived(opcode, frameReader.getLength());
+
+            accept(operationTypes.get(opcode), sequence, frameReader.getObjectInputStream());
+
+            frameReader.complete();
+        }
+        catch (Exception e)
+        {
+            frameReader.discard();
+
+            // when we can't execute the operation we notify the sender of the exception
+            send(new Sender(sequence, new ResponseOperation<>(e)));
+        }
+    }
+
+
+    /**
+     * Instantiates, deserializes and schedules an operation for execution.
+     *
+     * @param operationType  the type of operation
+     * @param sequence       the sequence number of the operation
+     * @param stream         the {@link ObjectInputStream} from which to read the operation
+     *
+     * @throws Exception  should the operation fail to be instantiated or deserialized
+     */
+    @SuppressWarnings("rawtypes")
+    private void accept(String            operationType,
+                        long              sequence,
+                        ObjectInputStream stream) throws Exception
+    {
+        // instantiate the operation and initialize its state
+        MethodHandle factory = operationFactories.get(operationType);
+
+        if (factory == null)
+        {
+            throw new IllegalArgumentException("Unknown operation type " + operationType);
+        }
+
+        Operation operation;
+
+        try
+        {
+            operation = (Operation) factory.invokeExact();
+        }
+        catch (Exception | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable throwable)
+        {
+            throw new InvocationTargetException(throwable);
+        }
+
+        operation.read(stream);
+
+        if (operation instanceof ChunkOperation || operation instanceof CreditOperation)
+        {
+            // chunks of streamed results are delivered immediately (and in order), as are credits
+            // (so they're never queued behind the operations waiting for them)
+            operation.execute(sequence);
+
+            return;
+        }
+
+        // submit the operation for execution based on the
+        // operational stream
+        StreamName streamName = operation.getStreamName();
+
+        if (streamName == null)
+        {
+            // when there's no stream name, execute the operation concurrently
+            concurrentExecutionService.submit(new Executor(sequence, operation));
+        }
+        else
+        {
+            // when there's stream name, execute the operation sequentially
+            sequentialExecutionService.submit(new Executor(sequence, operation));
+        }
+    }
+
+
+    @Override
+    protected void onClose()
+    {
+        // no longer accept any more requests
+        isReadable.set(false);
+
+        // release any senders waiting for protocol negotiation
+        // (they'll be completed as the executor services shutdown)
+        onNegotiated(ChannelProtocol.SERIALIZED);
+
+        // gracefully shutdown the executor services (that aren't shared)
+        if (!isExecutionServiceShared)
+        {
+            concurrentExecutionService.shutdown();
+        }
+
+        sequentialExecutionService.shutdown();
+
+        // clear all of the event listeners
+        eventListenersByStreamName.clear();
+
+        // no longer write any more responses (and stop the drain loop lingering)
+        isWritable.set(false);
+
+        Thread thread = lingeringThread;
+
+        if (thread != null)
+        {
+            LockSupport.unpark(thread);
+        }
+
+        // close the input and output streams
+        try
+        {
+            if (input != null)
+                {
+                input.close();
+                }
+        }
+        catch (IOException e)
+        {
+            // don't care
+        }
+        finally
+        {
+            input = null;
+        }
+
+        try
+        {
+            if (output != null)
+                {
+                output.close();
+                }
+        }
+        catch (IOException e)
+        {
+            // don't care
+        }
+        finally
+        {
+            output = null;
+        }
+
+        // raise IllegalStateExceptions for any remaining pending operations
+        for (Operation<?> operation : pendingOperations.values())
+        {
+            try
+            {
+                operation.completeExceptionally(new IllegalStateException("RemoteChannel is closed"));
+            }
+            catch (Exception e)
+            {
+                // we ignore exceptions that the listener throws
+            }
+        }
+
+        pendingOperations.clear();
+
+        // fail any results that are still being streamed
+        for (RemoteInputStream remoteInputStream : incomingStreams.values())
+        {
+            remoteInputStream.fail(new IOException("RemoteChannel is closed"));
+        }
+
+        incomingStreams.clear();
+
+        // stop streaming results to the other end
+        for (OutgoingStream outgoingStream : outgoingStreams.values())
+        {
+            outgoingStream.cancel();
+        }
+
+        outgoingStreams.clear();
+
+        metrics.detach(this);
+    }
+
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public <T> CompletableFuture<T> submit(RemoteCallable<T> callable,
+                                           Option...         options) throws IllegalStateException
+    {
+        if (isOpen())
+        {
+            OptionsByType optionsByType = OptionsByType.of(options);
+
+            // by default we acknowledge when processed
+            optionsByType.addIfAbsent(AcknowledgeWhen.PROCESSED);
+
+            // use the cached result (or the result in flight) when Caching is enabled
+            long timeToLive = getCachingTimeToLive(callable, optionsByType);
+
+            if (timeToLive >= 0)
+            {
+                return resultCache.get(callable,
+                                       timeToLive,
+                                       () -> sendOperation(new CallableOperation<>(callable, optionsByType),
+                                                           optionsByType));
+            }
+
+            CallableOperation operation = new CallableOperation<>(callable, optionsByType);
+
+            return sendOperation(operation, optionsByType);
+        }
+        else
+        {
+            throw new IllegalStateException("RemoteChannel is closed");
+        }
+    }
+
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public <T> List<CompletableFuture<T>> submitAll(Collection<? extends RemoteCallable<T>> callables,
+                                                    Option...                               options)
+                                                        throws IllegalStateException
+    {
+        if (isOpen())
+        {
+            List<CompletableFuture<T>> futures        = new ArrayList<>(callables.size());
+            List<Sender>               senders        = new ArrayList<>(callables.size());
+            List<Integer>              unacknowledged = new ArrayList<>();
+
+            for (RemoteCallable<T> callable : callables)
+            {
+                OptionsByType optionsByType = OptionsByType.of(options);
+
+                // by default we acknowledge when processed
+                optionsByType.addIfAbsent(AcknowledgeWhen.PROCESSED);
+
+                // use the cached result (or the result in flight) when Caching is enabled
+                long timeToLive = getCachingTimeToLive(callable, optionsByType);
+
+                if (timeToLive >= 0)
+                {
+                    futures.add(resultCache.get(callable, timeToLive, () -> {
+                                                    CallableOperation operation = new CallableOperation<>(callable,
+                                                                                                          optionsByType);
+                                                    long sequence = nextSequenceNumber.getAndIncrement();
+
+                                                    senders.add(new Sender(sequence, operation));
+                                                    pendingOperations.put(sequence, operation);
+
+                                                    return operation.getCompletableFuture();
+                                                }));
+                }
+                else
+                {
+                    CallableOperation operation = new CallableOperation<>(callable, optionsByType);
+                    long              sequence  = nextSequenceNumber.getAndIncrement();
+
+                    senders.add(new Sender(sequence, operation));
+
+                    if (optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.SENT)
+                    {
+                        // the future is completed once the batch has been sent
+                        unacknowledged.add(futures.size());
+                        futures.add(null);
+                    }
+                    else
+                    {
+                        pendingOperations.put(sequence, operation);
+
+                        futures.add(operation.getCompletableFuture());
+                    }
+                }
+            }
+
+            if (!senders.isEmpty())
+            {
+                // send the operations together (the drain loop writes them before flushing)
+                CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> senders.forEach(Sender::run),
+                                                                          this::send);
+
+                for (int index : unacknowledged)
+                {
+                    futures.set(index, sent.thenApply((_void) -> null));
+                }
+            }
+
+            return futures;
+        }
+        else
+        {
+            throw new IllegalStateException("RemoteChannel is closed");
+        }
+    }
+
+
+    /**
+     * Determines the time for which the result of a {@link RemoteCallable} should be cached, when
+     * {@link Caching} is enabled by the provided options (and the result will be acknowledged).
+     * When {@link Caching} isn't enabled, any cached result for the {@link RemoteCallable} is removed.
+     *
+     * @param callable       the {@link RemoteCallable}
+     * @param optionsByType  the {@link OptionsByType} for the submission
+     *
+     * @return the time to live in nanoseconds or <code>-1</code> if the result shouldn't be cached
+     */
+    private long getCachingTimeToLive(RemoteCallable<?> callable,
+                                      OptionsByType     optionsByType)
+    {
+        // determine if Caching is enabled for this submission
+        Caching caching = optionsByType.get(Caching.class);
+
+        if (caching.isEnabled() && optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.PROCESSED)
+        {
+            // determine the Caching Timeout
+            Timeout timeout = caching.getOptionsByType().get(Timeout.class);
+
+            return Math.max(0, timeout.to(TimeUnit.NANOSECONDS));
+        }
+        else
+        {
+            // ensure the cache is cleared for the current callable
+            resultCache.remove(callable);
+
+            return -1;
+        }
+    }
+
+
+    /**
+     * Obtains the {@link ResultCache} of the results of {@link RemoteCallable}s submitted
+     * with {@link Caching} enabled, including its hit, miss and eviction counts.
+     *
+     * @return the {@link ResultCache}
+     */
+    public ResultCache getResultCache()
+    {
+        return resultCache;
+    }
+
+
+    @Override
+    public CompletableFuture<Void> submit(RemoteRunnable runnable,
+                                          Option...      options) throws IllegalStateException
+    {
+        if (isOpen())
+        {
+            OptionsByType optionsByType = OptionsByType.of(options);
+
+            // by default we acknowledge when sent
+            optionsByType.addIfAbsent(AcknowledgeWhen.SENT);
+
+            RunnableOperation operation = new RunnableOperation(runnable, optionsByType);
+
+            return sendOperation(operation, optionsByType);
+        }
+        else
+        {
+            throw new IllegalStateException("RemoteChannel is closed");
+        }
+    }
+
+
+    @Override
+    public CompletableFuture<Void> raise(RemoteEvent event,
+                                         Option...   options)
+    {
+        if (isOpen())
+        {
+            OptionsByType optionsByType = OptionsByType.of(options);
+            StreamName    streamName    = optionsByType.get(StreamName.class);
+
+            // by default we acknowledge when sent
+            optionsByType.addIfAbsent(AcknowledgeWhen.SENT);
+
+            EventOperation operation = new EventOperation(streamName, event, optionsByType);
+
+            return sendOperation(operation, optionsByType);
+        }
+        else
+        {
+            throw new IllegalStateException("RemoteChannel is closed");
+        }
+    }
+
+
+    private <T> CompletableFuture<T> sendOperation(Operation<T>  operation,
+                                                   OptionsByType optionsByType)
+    {
+        long   sequence = nextSequenceNumber.getAndIncrement();
+        Sender sender   = new Sender(sequence, operation);
+
+        if (optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.SENT)
+        {
+            return CompletableFuture.runAsync(sender, this::send).thenApply((_void) -> null);
+        }
+        else
+        {
+            pendingOperations.put(sequence, operation);
+
+            send(sender);
+
+            return operation.getCompletableFuture();
+        }
+    }
+
+
+    /**
+     * Starts streaming the content of an {@link InputStream} or {@link ReadableByteChannel}
+     * result of a {@link RemoteCallable}, in chunks, to the other end of the {@link RemoteChannel}.
+     *
+     * @param sequence  the sequence number of the {@link RemoteCallable}
+     * @param result    the {@link InputStream} or {@link ReadableByteChannel}
+     *
+     * @return the {@link ResponseOperation} to send (before the chunks)
+     */
+    @SuppressWarnings("rawtypes")
+    private Operation streamResult(long   sequence,
+                                   Object result)
+    {
+        ReadableByteChannel channel = result instanceof ReadableByteChannel
+                                      ? (ReadableByteChannel) result : Channels.newChannel((InputStream) result);
+
+        if (peerVersion < 2)
+        {
+            closeQuietly(channel);
+
+            return new ResponseOperation<>(new NotSerializableException("Streamed results ("
+                                                                        + result.getClass().getName()
+                                                                        + ") are not supported by the RemoteChannel"));
+        }
+
+        // the other end returns credits as it reads the chunks (or cancels when it closes the stream early)
+        OutgoingStream outgoing = new OutgoingStream(sequence, channel);
+
+        outgoingStreams.put(sequence, outgoing);
+
+        // the response must be sent before the chunks, so we start streaming once it's been sent
+        Runnable streamer = outgoing::schedule;
+
+        return new ResponseOperation<>(new StreamedResult(result instanceof ReadableByteChannel), streamer);
+    }
+
+
+    /**
+     * Closes an {@link InputStream} or {@link ReadableByteChannel}, ignoring any exceptions.
+     *
+     * @param closeable  the {@link Closeable}
+     */
+    private static void closeQuietly(Closeable closeable)
+    {
+        try
+        {
+            closeable.close();
+        }
+        catch (IOException e)
+        {
+            // don't care
+        }
+    }
+
+
+    /**
+     * Creates a {@link RemoteInputStream} for a result being streamed from the other end of the
+     * {@link RemoteChannel}, that returns credits to (or cancels) the other end as it's read (or closed).
+     *
+     * @param sequence  the sequence number of the {@link RemoteCallable}
+     *
+     * @return a new {@link RemoteInputStream}
+     */
+    private RemoteInputStream createIncomingStream(long sequence)
+    {
+        return new RemoteInputStream(credits -> {
+                                         try
+                                         {
+                                             send(new Sender(sequence, new CreditOperation(credits)));
+                                         }
+                                         catch (RejectedExecutionException e)
+                                         {
+                                             // the RemoteChannel is closed, so the stream has already stopped
+                                         }
+                                     });
+    }
+
+
+    /**
+     * An {@link Operation} to be executed in-order by a {@link AbstractRemoteChannel}.
+     *
+     * @param <T>  the result returned locally by remotely executing the operation.
+     */
+    interface Operation<T>
+    {
+        /**
+         * Obtains the unique type of {@link Operation}.
+         *
+         * @return the type of {@link Operation}
+         */
+        String getType();
+
+
+        /**
+         * Writes the {@link Operation} state to the specified {@link ObjectOutputStream},
+         * so that it may later be read from an {@link ObjectInputStream} and executed.
+         *
          * @param output  the {@link ObjectOutputStream}
          *
-         * @throws IOException  should the write fail
+         * @throws IOException  should the write fail
+         */
+        void write(ObjectOutputStream output) throws IOException;
+
+
+        /**
+         * Reads the {@link Operation} state from the specified {@link ObjectInputStream}.
+         *
+         * @param input  the {@link ObjectInputStream}
+         *
+         * @throws IOException  should the read fail
+         */
+        void read(ObjectInputStream input) throws IOException;
+
+
+        /**
+         * Executes the {@link Operation}.
+         *
+         * @param sequence  the sequence number of the {@link Operation}
+         *
+         * @return Operation  the {@link Operation} to be sent back to the initiator of this
+         *                    {@link Operation} (if null, nothing is returned)
+         */
+        @SuppressWarnings("rawtypes")
+        Operation execute(long sequence);
+
+
+        /**
+         * Obtains the {@link StreamName} on which the {@link Operation} should be processed
+         * (in sequence) or <code>null</code> when the {@link Operation} has no requirement
+         * for processing order.
+         *
+         * @return  the {@link StreamName}
+         */
+        StreamName getStreamName();
+
+
+        /**
+         * Notifies the {@link Operation} that it was completed with the specified result.
+         *
+         * @param result  the result
+         */
+        void complete(T result);
+
+
+        /**
+         * Notifies the {@link Operation} that is was completed exceptionally with the specified {@link Throwable}.
+         *
+         * @param throwable  the throwable
+         */
+        void completeExceptionally(Throwable throwable);
+
+
+        /**
+         * Obtains the {@link CompletableFuture} that can be used for acquiring
+         * the result of the {@link Operation}, including the result and exception thrown.
+         *
+         * @return  the {@link CompletableFuture}
+         */
+        CompletableFuture<T> getCompletableFuture();
+    }
+
+
+    /**
+     * An {@link Operation} to send and execute a {@link Callable}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    class CallableOperation<T> implements Operation<T>
+    {
+        /**
+         * The {@link CompletableFuture} for the result of the {@link Callable}.
+         */
+        private transient CompletableFuture<T> future;
+
+        /**
+         * The transient {@link OptionsByType} for the {@link Operation}.
+         */
+        private transient OptionsByType optionsByType;
+
+        /**
+         * Is a response required for the {@link Callable}?
+         */
+        private boolean isResponseRequired;
+
+        /**
+         * The {@link Callable} to eventually execute.
+         */
+        private Callable<T> callable;
+
+        /**
+         * The {@link System#nanoTime()} when the {@link Callable} was submitted.
+         */
+        private transient long submittedAt;
+
+
+        /**
+         * Constructs a {@link AbstractRemoteChannel.CallableOperation}
+         * (required for construction)
+         */
+        @SuppressWarnings("unused")
+        public CallableOperation()
+        {
+        }
+
+
+        /**
+         * Constructs a {@link AbstractRemoteChannel.CallableOperation}
+         *
+         * @param callable       the {@link Callable} to execute remotely
+         * @param optionsByType  the {@link OptionsByType} for the execution
+         *
+         * @throws NullPointerException      should the {@link Callable} be <code>null</code>
+         * @throws IllegalArgumentException  should the {@link Callable} be an anonymous inner class
          */
-        void write(ObjectOutputStream output) throws IOException;
+        public CallableOperation(Callable<T>   callable,
+                                 OptionsByType optionsByType)
+        {
+            Class<?> callableClass = callable == null ? null : callable.getClass();
+
+            if (callableClass == null)
+            {
+                throw new NullPointerException("Callable can't be null");
+            }
+            else if (callableClass.isAnonymousClass())
+            {
+                throw new IllegalArgumentException("Callable can't be an anonymous inner-class");
+            }
+            else if (callableClass.isMemberClass() &&!Modifier.isStatic(callableClass.getModifiers()))
+            {
+                throw new IllegalArgumentException("Callable can't be an non-static inner-class");
+            }
+            else
+            {
+                this.isResponseRequired = optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.PROCESSED;
+                this.callable           = callable;
+                this.future             = new CompletableFuture<>();
+                this.optionsByType      = optionsByType;
+                this.submittedAt        = System.nanoTime();
+            }
+        }
+
+
+        /**
+         * Obtains the {@link System#nanoTime()} when the {@link Callable} was submitted.
+         *
+         * @return the time the {@link Callable} was submitted
+         */
+        long getSubmittedAt()
+        {
+            return submittedAt;
+        }
+
+
+        @Override
+        public String getType()
+        {
+            return "CALLABLE";
+        }
+
+
+        @Override
+        public Operation execute(long sequence)
+        {
+            Operation operation = null;
+
+            try
+            {
+                // attempt to inject the RemoteChannel into the callable.
+                AbstractRemoteChannel.this.injectInto(callable);
+
+                // execute the Callable
+                Object result = callable.call();
+
+                if (result instanceof InputStream || result instanceof ReadableByteChannel)
+                {
+                    if (isResponseRequired)
+                    {
+                        // stream the result in chunks (when the other end supports it)
+                        operation = streamResult(sequence, result);
+                    }
+                    else
+                    {
+                        // nothing will read the result
+                        closeQuietly((Closeable) result);
+                    }
+                }
+                else if (isResponseRequired)
+                {
+                    operation = new ResponseOperation<>(result);
+                }
+            }
+            catch (Throwable throwable)
+            {
+                if (isResponseRequired)
+                {
+                    operation = new ResponseOperation<>(throwable);
+                }
+            }
+
+            return operation;
+        }
+
+
+        @Override
+        public void read(ObjectInputStream input) throws IOException
+        {
+            isResponseRequired = input.readBoolean();
+
+            try
+            {
+                // read the callable or the name of the callable class
+                Object object;
+                if (serializer == null)
+                {
+                    object = input.readObject();
+                }
+                else
+                {
+                    int len = input.readInt();
+                    object = deserialize(input.readNBytes(len));
+                }
+
+                if (object instanceof String)
+                {
+                    callable = (Callable) newInstance((String) object);
+                }
+                else
+                {
+                    callable = (Callable) object;
+                }
+            }
+            catch (ReflectiveOperationException e)
+            {
+                LOGGER.log(Level.SEVERE, e, () -> "Error reading CallableOperation");
+                throw new IOException(e);
+            }
+        }
+
+
+        @Override
+        public void write(ObjectOutputStream output) throws IOException
+        {
+            output.writeBoolean(isResponseRequired);
+
+            // serialize the Callable (if it is!)
+            if (callable instanceof Serializable)
+            {
+                if (serializer == null)
+                {
+                    output.writeObject(callable);
+                }
+                else
+                {
+                    byte[] bytes = serialize(callable);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+            }
+            else
+            {
+                output.writeObject(callable.getClass().getName());
+            }
+        }
+
+
+        @Override
+        public StreamName getStreamName()
+        {
+            return null;
+        }
+
+
+        @Override
+        public void complete(T result)
+        {
+            future.complete(result);
+        }
+
+
+        @Override
+        public void completeExceptionally(Throwable throwable)
+        {
+            future.completeExceptionally(throwable);
+        }
+
+
+        @Override
+        public CompletableFuture<T> getCompletableFuture()
+        {
+            return future;
+        }
+    }
+
+
+    /**
+     * An {@link Operation} to raise a {@link RemoteEvent}.
+     */
+    @SuppressWarnings("rawtypes")
+    class EventOperation implements Operation<Void>
+    {
+        /**
+         * The {@link CompletableFuture} for notifying of event delivery.
+         */
+        private transient CompletableFuture<Void> future;
+
+        /**
+         * The transient {@link OptionsByType} for the {@link Operation}.
+         */
+        private transient OptionsByType optionsByType;
+
+        /**
+         * The {@link StreamName} for the {@link RemoteEvent}
+         */
+        private StreamName streamName;
+
+        /**
+         * The {@link RemoteEvent} to eventually execute.
+         */
+        private RemoteEvent event;
+        private boolean     isAckRequired;
+
+
+        /**
+         * Constructs an {@link EventOperation}
+         * (required for serialization)
+         */
+        public EventOperation()
+        {
+        }
+
+
+        /**
+         * Constructs an {@link EventOperation}
+         *
+         * @param streamName       the {@link StreamName} for the {@link RemoteEvent}
+         * @param event            the {@link RemoteEvent} to fire remotely
+         *
+         * @throws NullPointerException      should the {@link RemoteEvent} be <code>null</code>
+         * @throws IllegalArgumentException  should the {@link RemoteEvent} be an anonymous inner class
+         */
+        public EventOperation(StreamName    streamName,
+                              RemoteEvent   event,
+                              OptionsByType optionsByType)
+        {
+            if (streamName == null)
+            {
+                throw new NullPointerException("The streamName can't be null");
+            }
+            else if (event == null)
+            {
+                throw new NullPointerException("RemoteEvent can't be null");
+            }
+            else if (event.getClass().isAnonymousClass())
+            {
+                throw new IllegalArgumentException("RemoteEvent can't be an anonymous inner-class");
+            }
+            else
+            {
+                this.streamName    = streamName;
+                this.isAckRequired = optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.PROCESSED;
+                this.event         = event;
+                this.future        = new CompletableFuture<>();
+                this.optionsByType = optionsByType;
+            }
+        }
+
+
+        @Override
+        public String getType()
+        {
+            return "EVENT";
+        }
+
+
+        @Override
+        public Operation execute(long sequence)
+        {
+            Set<RemoteEventListener> eventListeners = eventListenersByStreamName.get(streamName);
 
+            if (eventListeners != null)
+            {
+                eventListeners.forEach(
+                    eventListener -> {
+                        try
+                        {
+                            eventListener.onEvent(event);
+                        }
+                        catch (Throwable e)
+                        {
+                            e.printStackTrace();
+                        }
+                    });
+            }
 
-        /**
-         * Reads the {@link Operation} state from the specified {@link ObjectInputStream}.
-         *
-         * @param input  the {@link ObjectInputStream}
-         *
-         * @throws IOException  should the read fail
-         */
-        void read(ObjectInputStream input) throws IOException;
+            return isAckRequired ? new ResponseOperation<>(null) : null;
+        }
 
 
-        /**
-         * Executes the {@link Operation}.
-         *
-         * @param sequence  the sequence number of the {@link Operation}
-         *
-         * @return Operation  the {@link Operation} to be sent back to the initiator of this
-         *                    {@link Operation} (if null, nothing is returned)
-         */
-        @SuppressWarnings("rawtypes")
-        Operation execute(long sequence);
+        @Override
+        public void read(ObjectInputStream input) throws IOException
+        {
+            try
+            {
+                // read the streamName
+                streamName = StreamName.of(input.readUTF());
 
+                // read notification flag
+                isAckRequired = input.readBoolean();
 
-        /**
-         * Obtains the {@link StreamName} on which the {@link Operation} should be processed
-         * (in sequence) or <code>null</code> when the {@link Operation} has no requirement
-         * for processing order.
-         *
-         * @return  the {@link StreamName}
-         */
-        StreamName getStreamName();
+                // read the callable or the name of the callable class
+                Object object;
+                if (serializer == null)
+                {
+                    object = input.readObject();
+                }
+                else
+                {
+                    int len = input.readInt();
+                    object = deserialize(input.readNBytes(len));
+                }
+
+            if (object instanceof String)
+                {
+                    event = (RemoteEvent) newInstance((String) object);
+                }
+                else
+                {
+                    event = (RemoteEvent) object;
+                }
+            }
+            catch (ReflectiveOperationException e)
+            {
+                throw new IOException(e);
+            }
+        }
+
+
+        @Override
+        public void write(ObjectOutputStream output) throws IOException
+        {
+            // serialize the stream name
+            output.writeUTF(streamName.get());
+
+            // serialize the notification flag
+            output.writeBoolean(isAckRequired);
+
+            // serialize the Runnable (if it is!)
+            if (event instanceof Serializable)
+            {
+                if (serializer == null)
+                {
+                    output.writeObject(event);
+                }
+                else
+                {
+                    byte[] bytes = serialize(event);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+            }
+            else
+            {
+                output.writeObject(event.getClass().getName());
+            }
+        }
+
+
+        @Override
+        public StreamName getStreamName()
+        {
+            return streamName;
+        }
+
+
+        @Override
+        public void complete(Void result)
+        {
+            future.complete(result);
+        }
+
+
+        @Override
+        public void completeExceptionally(Throwable throwable)
+        {
+            future.completeExceptionally(throwable);
+        }
+
+
+        @Override
+        public CompletableFuture<Void> getCompletableFuture()
+        {
+            return future;
+        }
+    }
 
 
+    /**
+     * Asynchronously executes an {@link Operation} that was
+     * received by the {@link AbstractRemoteChannel}.
+     */
+    @SuppressWarnings("rawtypes")
+    class Executor implements Runnable
+    {
         /**
-         * Notifies the {@link Operation} that it was completed with the specified result.
-         *
-         * @param result  the result
+         * The sequence number for the {@link Operation} to execute.
          */
-        void complete(T result);
+        private final long sequence;
 
+        /**
+         * The {@link Operation} to execute.
+         */
+        private final Operation operation;
 
         /**
-         * Notifies the {@link Operation} that is was completed exceptionally with the specified {@link Throwable}.
-         *
-         * @param throwable  the throwable
+         * The {@link System#nanoTime()} when the {@link Operation} was received.
          */
-        void completeExceptionally(Throwable throwable);
+        private final long receivedAt;
 
 
         /**
-         * Obtains the {@link CompletableFuture} that can be used for acquiring
-         * the result of the {@link Operation}, including the result and exception thrown.
+         * Constructs an {@link Executor}.
          *
-         * @return  the {@link CompletableFuture}
+         * @param sequence   the sequence number of the {@link Operation}
+         * @param operation  the {@link Operation} to execute
          */
-        CompletableFuture<T> getCompletableFuture();
+        public Executor(long      sequence,
+                        Operation operation)
+        {
+            this.sequence   = sequence;
+            this.operation  = operation;
+            this.receivedAt = System.nanoTime();
+
+            scheduledOperations.incrementAndGet();
+        }
+
+
+        @Override
+        public void run()
+        {
+        scheduledOperations.decrementAndGet();
+
+        try
+            {
+            // execute the operation
+            Operation resultingOperation = operation.execute(sequence);
+
+            // the latency of responses is recorded when they complete the pending operation
+            if (!(operation instanceof ResponseOperation))
+            {
+                metrics.onLatency(operationTypes.indexOf(operation.getType()), System.nanoTime() - receivedAt);
+            }
+
+            // when there's a result, asynchronously send it back
+            if (resultingOperation != null)
+            {
+                send(new Sender(sequence, resultingOperation));
+
+                // stream the content of the result (after the result has been sent)
+                if (resultingOperation instanceof ResponseOperation
+                    && ((ResponseOperation) resultingOperation).getStreamer() != null)
+                {
+                    ((ResponseOperation) resultingOperation).getStreamer().run();
+                }
+            }
+            }
+        catch (Exception e)
+            {
+            LOGGER.log(Level.SEVERE, "Exception while executing remote operation", e);
+            throw new RuntimeException("Bedrock failed to execute remote operation", e);
+            }
+        }
     }
 
 
     /**
-     * An {@link Operation} to send and execute a {@link Callable}.
+     * An {@link Operation} to send and deliver a response.
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
-    class CallableOperation<T> implements Operation<T>
+    class ResponseOperation<T> implements Operation<T>
     {
         /**
-         * The {@link CompletableFuture} for the result of the {@link Callable}.
-         */
-        private transient CompletableFuture<T> future;
-
-        /**
-         * The transient {@link OptionsByType} for the {@link Operation}.
-         */
-        private transient OptionsByType optionsByType;
-
-        /**
-         * Is a response required for the {@link Callable}?
+         * The response.
          */
-        private boolean isResponseRequired;
+        private T response;
 
         /**
-         * The {@link Callable} to eventually execute.
+         * The optional {@link Runnable} to stream the content of the response
+         * (once the response has been sent).
          */
-        private Callable<T> callable;
+        private transient Runnable streamer;
 
 
         /**
-         * Constructs a {@link AbstractRemoteChannel.CallableOperation}
+         * Constructs a {@link AbstractRemoteChannel.ResponseOperation}
          * (required for construction)
          */
-        @SuppressWarnings("unused")
-        public CallableOperation()
+        public ResponseOperation()
         {
         }
 
 
         /**
-         * Constructs a {@link AbstractRemoteChannel.CallableOperation}
-         *
-         * @param callable       the {@link Callable} to execute remotely
-         * @param optionsByType  the {@link OptionsByType} for the execution
+         * Constructs a {@link AbstractRemoteChannel.ResponseOperation}
          *
-         * @throws NullPointerException      should the {@link Callable} be <code>null</code>
-         * @throws IllegalArgumentException  should the {@link Callable} be an anonymous inner class
+         * @param response  the response
          */
-        public CallableOperation(Callable<T>   callable,
-                                 OptionsByType optionsByType)
+        public ResponseOperation(T response)
         {
-            Class<?> callableClass = callable == null ? null : callable.getClass();
+            this.response = response;
+        }
 
-            if (callableClass == null)
-            {
-                throw new NullPointerException("Callable can't be null");
-            }
-            else if (callableClass.isAnonymousClass())
-            {
-                throw new IllegalArgumentException("Callable can't be an anonymous inner-class");
-            }
-            else if (callableClass.isMemberClass() &&!Modifier.isStatic(callableClass.getModifiers()))
-            {
-                throw new IllegalArgumentException("Callable can't be an non-static inner-class");
-            }
-            else
-            {
-                this.isResponseRequired = optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.PROCESSED;
-                this.callable           = callable;
-                this.future             = new CompletableFuture<>();
-                this.optionsByType      = optionsByType;
-            }
+
+        /**
+         * Constructs a {@link AbstractRemoteChannel.ResponseOperation} for a streamed response
+         *
+         * @param response  the response
+         * @param streamer  the {@link Runnable} to stream the content of the response
+         */
+        public ResponseOperation(T        response,
+                                 Runnable streamer)
+        {
+            this.response = response;
+            this.streamer = streamer;
+        }
+
+
+        /**
+         * Obtains the {@link Runnable} to stream the content of the response.
+         *
+         * @return the {@link Runnable} or <code>null</code> when the response isn't streamed
+         */
+        public Runnable getStreamer()
+        {
+            return streamer;
         }
 
 
         @Override
         public String getType()
         {
-            return "CALLABLE";
+            return "RESPONSE";
         }
 
 
         @Override
         public Operation execute(long sequence)
         {
-            Operation operation = null;
+            Operation operation = pendingOperations.remove(sequence);
 
-            try
+            if (operation != null)
             {
-                // attempt to inject the RemoteChannel into the callable.
-                AbstractRemoteChannel.this.injectInto(callable);
-
-                // execute the Callable
-                Object result = callable.call();
+                if (operation instanceof CallableOperation)
+                {
+                    metrics.onLatency(operationTypes.indexOf(getType()),
+                                      System.nanoTime() - ((CallableOperation) operation).getSubmittedAt());
+                }
 
-                if (isResponseRequired)
+                try
                 {
-                    operation = new ResponseOperation<>(result);
+                    if (response instanceof Throwable)
+                    {
+                        operation.completeExceptionally((Throwable) response);
+                    }
+                    else if (response instanceof StreamedResult)
+                    {
+                        // the result is being streamed in chunks
+                        RemoteInputStream stream = incomingStreams.computeIfAbsent(sequence,
+                                                                                   k -> createIncomingStream(k));
+
+                        // forget the stream when all of the content has already been received
+                        if (stream.claim())
+                        {
+                            incomingStreams.remove(sequence);
+                        }
+
+                        operation.complete(((StreamedResult) response).isChannel() ? stream.getChannel() : stream);
+                    }
+                    else
+                    {
+                        operation.complete(response);
+                    }
                 }
-            }
-            catch (Throwable throwable)
-            {
-                if (isResponseRequired)
+                catch (Throwable throwable)
                 {
-                    operation = new ResponseOperation<>(throwable);
+                    // we ignore any exceptions that the future may throw
                 }
             }
 
-            return operation;
+            return null;
         }
 
 
         @Override
         public void read(ObjectInputStream input) throws IOException
         {
-            isResponseRequired = input.readBoolean();
-
             try
             {
-                // read the callable or the name of the callable class
-                Object object;
                 if (serializer == null)
                 {
-                    object = input.readObject();
+                    response = (T) input.readObject();
                 }
                 else
                 {
                     int len = input.readInt();
-                    object = serializer.deserialize(input.readNBytes(len));
-                }
-
-                if (object instanceof String)
-                {
-                    String   className     = (String) object;
-                    Class<?> callableClass = Class.forName(className);
-
-                    callable = (Callable) callableClass.getDeclaredConstructor().newInstance();
-                }
-                else
-                {
-                    callable = (Callable) object;
+                    response = deserialize(input.readNBytes(len));
                 }
             }
-            catch (ClassNotFoundException | InstantiationException | IllegalAccessException
-                    | NoSuchMethodException | InvocationTargetException e)
+            catch (ClassNotFoundException e)
             {
-                LOGGER.log(Level.SEVERE, e, () -> "Error reading CallableOperation");
                 throw new IOException(e);
             }
         }
@@ -823,29 +2505,26 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
         @Override
         public void write(ObjectOutputStream output) throws IOException
         {
-            output.writeBoolean(isResponseRequired);
-
-            // serialize the Callable (if it is!)
-            if (callable instanceof Serializable)
+            if (serializer == null)
             {
-                if (serializer == null)
-                {
-                    output.writeObject(callable);
-                }
-                else
-                {
-                    byte[] bytes = serializer.serialize(callable);
-                    output.writeInt(bytes.length);
-                    output.write(bytes);
-                }
+                output.writeObject(response);
             }
             else
             {
-                output.writeObject(callable.getClass().getName());
+                byte[] bytes = serialize(response);
+                output.writeInt(bytes.length);
+                output.write(bytes);
             }
         }
 
 
+        @Override
+        public String toString()
+        {
+            return "ResponseOperation{response=" + response + "}";
+        }
+
+
         @Override
         public StreamName getStreamName()
         {
@@ -856,437 +2535,479 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
         @Override
         public void complete(T result)
         {
-            // cache the result (if required)
-            Caching caching = optionsByType.get(Caching.class);
-
-            if (caching.isEnabled())
-            {
-                // determine the Caching Timeout
-                Timeout timeout = caching.getOptionsByType().get(Timeout.class);
-
-                // determine the Instant in the future when the result will timeout
-                Instant instant = Instant.now().plusMillis(timeout.to(TimeUnit.MILLISECONDS));
-
-                // cache the result for the callable
-                cache.put(callable, new Pair<>(result, instant));
-            }
-
-            future.complete(result);
+            // nothing to do as ResponseOperations never get completed
         }
 
 
         @Override
         public void completeExceptionally(Throwable throwable)
         {
-            future.completeExceptionally(throwable);
+            // nothing to do as ResponseOperations don't throw exceptions
         }
 
 
         @Override
         public CompletableFuture<T> getCompletableFuture()
         {
-            return future;
+            return null;
         }
     }
 
 
     /**
-     * An {@link Operation} to raise a {@link RemoteEvent}.
+     * An {@link Operation} to deliver a chunk of the content of a streamed result,
+     * identified by the sequence number of the {@link RemoteCallable} that produced it.
      */
     @SuppressWarnings("rawtypes")
-    class EventOperation implements Operation<Void>
+    class ChunkOperation implements Operation<Void>
     {
         /**
-         * The {@link CompletableFuture} for notifying of event delivery.
+         * The content of the chunk.
          */
-        private transient CompletableFuture<Void> future;
+        private byte[] bytes;
 
         /**
-         * The transient {@link OptionsByType} for the {@link Operation}.
+         * The number of bytes of content.
          */
-        private transient OptionsByType optionsByType;
+        private int length;
 
         /**
-         * The {@link StreamName} for the {@link RemoteEvent}
+         * The buffers to which the content is returned once written (<code>null</code> when not reused).
          */
-        private StreamName streamName;
+        private transient Queue<byte[]> buffers;
 
         /**
-         * The {@link RemoteEvent} to eventually execute.
+         * Is this the last chunk of the content?
          */
-        private RemoteEvent event;
-        private boolean     isAckRequired;
+        private boolean isLast;
+
+        /**
+         * The reason streaming failed (<code>null</code> when it hasn't).
+         */
+        private String failure;
 
 
         /**
-         * Constructs an {@link EventOperation}
-         * (required for serialization)
+         * Constructs a {@link AbstractRemoteChannel.ChunkOperation}
+         * (required for construction)
          */
-        public EventOperation()
+        public ChunkOperation()
         {
         }
 
 
         /**
-         * Constructs an {@link EventOperation}
-         *
-         * @param streamName       the {@link StreamName} for the {@link RemoteEvent}
-         * @param event            the {@link RemoteEvent} to fire remotely
+         * Constructs a {@link AbstractRemoteChannel.ChunkOperation}
          *
-         * @throws NullPointerException      should the {@link RemoteEvent} be <code>null</code>
-         * @throws IllegalArgumentException  should the {@link RemoteEvent} be an anonymous inner class
+         * @param bytes    the buffer containing the content of the chunk
+         * @param length   the number of bytes of content
+         * @param isLast   is this the last chunk of the content
+         * @param failure  the reason streaming failed (<code>null</code> when it hasn't)
+         * @param buffers  the buffers to which the buffer is returned once written (<code>null</code> when not reused)
          */
-        public EventOperation(StreamName    streamName,
-                              RemoteEvent   event,
-                              OptionsByType optionsByType)
+        public ChunkOperation(byte[]        bytes,
+                              int           length,
+                              boolean       isLast,
+                              String        failure,
+                              Queue<byte[]> buffers)
         {
-            if (streamName == null)
-            {
-                throw new NullPointerException("The streamName can't be null");
-            }
-            else if (event == null)
-            {
-                throw new NullPointerException("RemoteEvent can't be null");
-            }
-            else if (event.getClass().isAnonymousClass())
-            {
-                throw new IllegalArgumentException("RemoteEvent can't be an anonymous inner-class");
-            }
-            else
-            {
-                this.streamName    = streamName;
-                this.isAckRequired = optionsByType.get(AcknowledgeWhen.class) == AcknowledgeWhen.PROCESSED;
-                this.event         = event;
-                this.future        = new CompletableFuture<>();
-                this.optionsByType = optionsByType;
-            }
+            this.bytes   = bytes;
+            this.length  = length;
+            this.isLast  = isLast;
+            this.failure = failure;
+            this.buffers = buffers;
         }
 
 
         @Override
         public String getType()
         {
-            return "EVENT";
+            return "CHUNK";
         }
 
 
         @Override
         public Operation execute(long sequence)
         {
-            Set<RemoteEventListener> eventListeners = eventListenersByStreamName.get(streamName);
+            // chunks may arrive before the response (as responses are executed concurrently)
+            RemoteInputStream stream = incomingStreams.computeIfAbsent(sequence, k -> createIncomingStream(k));
 
-            if (eventListeners != null)
+            stream.offer(bytes);
+
+            // forget the stream once it's complete and claimed by the response
+            if (failure == null ? isLast && stream.complete() : stream.fail(new IOException(failure)))
             {
-                eventListeners.forEach(
-                    eventListener -> {
-                        try
-                        {
-                            eventListener.onEvent(event);
-                        }
-                        catch (Throwable e)
-                        {
-                            e.printStackTrace();
-                        }
-                    });
+                incomingStreams.remove(sequence);
             }
 
-            return isAckRequired ? new ResponseOperation<>(null) : null;
+            return null;
         }
 
 
         @Override
         public void read(ObjectInputStream input) throws IOException
         {
-            try
-            {
-                // read the streamName
-                streamName = StreamName.of(input.readUTF());
+            length = input.readInt();
+            bytes  = new byte[length];
 
-                // read notification flag
-                isAckRequired = input.readBoolean();
+            input.readFully(bytes);
 
-                // read the callable or the name of the callable class
-                Object object;
-                if (serializer == null)
-                {
-                    object = input.readObject();
-                }
-                else
-                {
-                    int len = input.readInt();
-                    object = serializer.deserialize(input.readNBytes(len));
-                }
+            isLast  = input.readBoolean();
+            failure = input.readBoolean() ? input.readUTF() : null;
+        }
 
-            if (object instanceof String)
-                {
-                    String className = (String) object;
 
-                    event = (RemoteEvent) Class.forName(className).getDeclaredConstructor().newInstance();
-                }
-                else
-                {
-                    event = (RemoteEvent) object;
-                }
+        @Override
+        public void write(ObjectOutputStream output) throws IOException
+        {
+            output.writeInt(length);
+            output.write(bytes, 0, length);
+            output.writeBoolean(isLast);
+            output.writeBoolean(failure != null);
+
+            if (failure != null)
+            {
+                output.writeUTF(failure);
             }
-            catch (ClassNotFoundException | NoSuchMethodException | InvocationTargetException
-                    | InstantiationException | IllegalAccessException e)
+
+            // the content has been copied, so the buffer may be reused for another chunk
+            if (buffers != null)
             {
-                throw new IOException(e);
+                buffers.offer(bytes);
+
+                buffers = null;
+                bytes   = null;
             }
         }
 
 
         @Override
-        public void write(ObjectOutputStream output) throws IOException
+        public StreamName getStreamName()
         {
-            // serialize the stream name
-            output.writeUTF(streamName.get());
+            return null;
+        }
+
+
+        @Override
+        public void complete(Void result)
+        {
+            // nothing to do as ChunkOperations never get completed
+        }
+
+
+        @Override
+        public void completeExceptionally(Throwable throwable)
+        {
+            // nothing to do as ChunkOperations don't throw exceptions
+        }
+
+
+        @Override
+        public CompletableFuture<Void> getCompletableFuture()
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * An {@link Operation} to return credits for the chunks of a streamed result that have been read,
+     * or to cancel streaming, identified by the sequence number of the {@link RemoteCallable}
+     * that produced the result.
+     */
+    @SuppressWarnings("rawtypes")
+    class CreditOperation implements Operation<Void>
+    {
+        /**
+         * The number of chunks read, or {@link RemoteInputStream#CANCEL} to cancel streaming.
+         */
+        private int credits;
+
+
+        /**
+         * Constructs a {@link AbstractRemoteChannel.CreditOperation}
+         * (required for construction)
+         */
+        public CreditOperation()
+        {
+        }
+
+
+        /**
+         * Constructs a {@link AbstractRemoteChannel.CreditOperation}
+         *
+         * @param credits  the number of chunks read, or {@link RemoteInputStream#CANCEL} to cancel streaming
+         */
+        public CreditOperation(int credits)
+        {
+            this.credits = credits;
+        }
+
+
+        @Override
+        public String getType()
+        {
+            return "CREDIT";
+        }
 
-            // serialize the notification flag
-            output.writeBoolean(isAckRequired);
 
-            // serialize the Runnable (if it is!)
-            if (event instanceof Serializable)
+        @Override
+        public Operation execute(long sequence)
+        {
+            OutgoingStream stream = outgoingStreams.get(sequence);
+
+            if (stream != null)
             {
-                if (serializer == null)
+                if (credits == RemoteInputStream.CANCEL)
                 {
-                    output.writeObject(event);
+                    stream.cancel();
                 }
                 else
                 {
-                    byte[] bytes = serializer.serialize(event);
-                    output.writeInt(bytes.length);
-                    output.write(bytes);
+                    stream.credit(credits);
                 }
             }
-            else
-            {
-                output.writeObject(event.getClass().getName());
-            }
+
+            return null;
+        }
+
+
+        @Override
+        public void read(ObjectInputStream input) throws IOException
+        {
+            credits = input.readInt();
+        }
+
+
+        @Override
+        public void write(ObjectOutputStream output) throws IOException
+        {
+            output.writeInt(credits);
         }
 
 
         @Override
         public StreamName getStreamName()
         {
-            return streamName;
+            return null;
         }
 
 
         @Override
         public void complete(Void result)
         {
-            future.complete(result);
+            // nothing to do as CreditOperations never get completed
         }
 
 
         @Override
         public void completeExceptionally(Throwable throwable)
         {
-            future.completeExceptionally(throwable);
+            // nothing to do as CreditOperations don't throw exceptions
         }
 
 
         @Override
         public CompletableFuture<Void> getCompletableFuture()
         {
-            return future;
+            return null;
         }
     }
 
 
     /**
-     * Asynchronously executes an {@link Operation} that was
-     * received by the {@link AbstractRemoteChannel}.
+     * A result being streamed to the other end of the {@link RemoteChannel}, in chunks.
+     * <p>
+     * Streaming is driven by the arrival of credits: chunks are read and sent by a task on the
+     * concurrent {@link ExecutorService} while credits remain, after which the task ends (rather
+     * than waiting) and is scheduled again when more credits arrive.  The chunk buffers are reused
+     * once their content has been written to the {@link RemoteChannel}.
      */
-    @SuppressWarnings("rawtypes")
-    class Executor implements Runnable
+    private class OutgoingStream
     {
         /**
-         * The sequence number for the {@link Operation} to execute.
+         * The sequence number of the {@link RemoteCallable} that produced the result.
          */
         private final long sequence;
 
         /**
-         * The {@link Operation} to execute.
+         * The content being streamed.
          */
-        private final Operation operation;
-
+        private final ReadableByteChannel channel;
 
         /**
-         * Constructs an {@link Executor}.
-         *
-         * @param sequence   the sequence number of the {@link Operation}
-         * @param operation  the {@link Operation} to execute
+         * The number of chunks that may be sent, returned by the other end as it reads them.
          */
-        public Executor(long      sequence,
-                        Operation operation)
-        {
-            this.sequence  = sequence;
-            this.operation = operation;
-        }
-
+        private final AtomicInteger credits;
 
-        @Override
-        public void run()
-        {
-        try
-            {
-            // execute the operation
-            Operation resultingOperation = operation.execute(sequence);
+        /**
+         * Is the streaming task scheduled (or running)?
+         */
+        private final AtomicBoolean isScheduled;
 
-            // when there's a result, asynchronously send it back
-            if (resultingOperation != null)
-            {
-                sequentialExecutionService.submit(new Sender(sequence, resultingOperation));
-            }
-            }
-        catch (Exception e)
-            {
-            LOGGER.log(Level.SEVERE, "Exception while executing remote operation", e);
-            throw new RuntimeException("Bedrock failed to execute remote operation", e);
-            }
-        }
-    }
+        /**
+         * The chunk buffers available for reuse (those sent are returned once they've been written).
+         */
+        private final ConcurrentLinkedQueue<byte[]> buffers;
 
+        /**
+         * Has the other end (or the {@link RemoteChannel}) cancelled streaming?
+         */
+        private volatile boolean isCancelled;
 
-    /**
-     * An {@link Operation} to send and deliver a response.
-     */
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    class ResponseOperation<T> implements Operation<T>
-    {
         /**
-         * The response.
+         * Has streaming finished (only used by the streaming task)?
          */
-        private T response;
+        private boolean isFinished;
 
 
         /**
-         * Constructs a {@link AbstractRemoteChannel.ResponseOperation}
-         * (required for construction)
+         * Constructs an {@link OutgoingStream}.
+         *
+         * @param sequence  the sequence number of the {@link RemoteCallable}
+         * @param channel   the content to stream
          */
-        public ResponseOperation()
+        private OutgoingStream(long                sequence,
+                               ReadableByteChannel channel)
         {
+            this.sequence    = sequence;
+            this.channel     = channel;
+            this.credits     = new AtomicInteger(MAXIMUM_CHUNKS_IN_FLIGHT);
+            this.isScheduled = new AtomicBoolean(false);
+            this.buffers     = new ConcurrentLinkedQueue<>();
         }
 
 
         /**
-         * Constructs a {@link AbstractRemoteChannel.ResponseOperation}
+         * Returns credits for chunks read by the other end, continuing streaming.
          *
-         * @param response  the response
+         * @param count  the number of credits
          */
-        public ResponseOperation(T response)
+        private void credit(int count)
         {
-            this.response = response;
+            credits.addAndGet(count);
+
+            schedule();
         }
 
 
-        @Override
-        public String getType()
+        /**
+         * Cancels streaming, letting the other end forget the stream.
+         */
+        private void cancel()
         {
-            return "RESPONSE";
+            isCancelled = true;
+
+            schedule();
         }
 
 
-        @Override
-        public Operation execute(long sequence)
+        /**
+         * Schedules the streaming task, unless it's already scheduled or running.
+         */
+        private void schedule()
         {
-            Operation operation = pendingOperations.remove(sequence);
-
-            if (operation != null)
+            if (isScheduled.compareAndSet(false, true))
             {
                 try
                 {
-                    if (response instanceof Throwable)
-                    {
-                        operation.completeExceptionally((Throwable) response);
-                    }
-                    else
-                    {
-                        operation.complete(response);
-                    }
+                    concurrentExecutionService.execute(this::stream);
                 }
-                catch (Throwable throwable)
+                catch (RejectedExecutionException e)
                 {
-                    // we ignore any exceptions that the future may throw
+                    // the RemoteChannel is closed, so there's nowhere to stream to
+                    finish();
                 }
             }
-
-            return null;
         }
 
 
-        @Override
-        public void read(ObjectInputStream input) throws IOException
+        /**
+         * Reads and sends chunks while there are credits (executed by the streaming task).
+         */
+        private void stream()
         {
             try
             {
-                if (serializer == null)
-                {
-                    response = (T) input.readObject();
-                }
-                else
+                while (!isFinished)
                 {
-                    int len = input.readInt();
-                    response = serializer.deserialize(input.readNBytes(len));
-                }
-            }
-            catch (ClassNotFoundException e)
-            {
-                throw new IOException(e);
-            }
-        }
-
+                    if (isCancelled || !isWritable.get())
+                    {
+                        // let the other end forget the stream
+                        send(new Sender(sequence, new ChunkOperation(new byte[0], 0, true, null, null)));
 
-        @Override
-        public void write(ObjectOutputStream output) throws IOException
-        {
-            if (serializer == null)
-            {
-                output.writeObject(response);
-            }
-            else
-            {
-                byte[] bytes = serializer.serialize(response);
-                output.writeInt(bytes.length);
-                output.write(bytes);
-            }
-        }
+                        finish();
+                    }
+                    else if (credits.get() > 0)
+                    {
+                        credits.decrementAndGet();
 
+                        byte[]     chunk  = buffers.poll();
+                        ByteBuffer buffer = ByteBuffer.wrap(chunk == null
+                                                            ? new byte[RemoteInputStream.CHUNK_SIZE] : chunk);
+                        boolean    isLast = false;
 
-        @Override
-        public String toString()
-        {
-            return "ResponseOperation{response=" + response + "}";
-        }
+                        // fill the chunk (or reach the end of the content)
+                        while (buffer.hasRemaining() && !isLast && !isCancelled)
+                        {
+                            isLast = channel.read(buffer) < 0;
+                        }
 
+                        send(new Sender(sequence,
+                                        new ChunkOperation(buffer.array(), buffer.position(), isLast, null, buffers)));
 
-        @Override
-        public StreamName getStreamName()
-        {
-            return null;
-        }
+                        if (isLast)
+                        {
+                            finish();
+                        }
+                    }
+                    else
+                    {
+                        // wait for more credits (without occupying the thread)
+                        break;
+                    }
+                }
+            }
+            catch (Exception e)
+            {
+                try
+                {
+                    // let the other end know streaming failed
+                    send(new Sender(sequence, new ChunkOperation(new byte[0], 0, true, String.valueOf(e), null)));
+                }
+                catch (RejectedExecutionException rejected)
+                {
+                    // the RemoteChannel is closed, so the other end has already stopped
+                }
 
+                finish();
+            }
+            finally
+            {
+                isScheduled.set(false);
 
-        @Override
-        public void complete(T result)
-        {
-            // nothing to do as ResponseOperations never get completed
+                // credits (or a cancellation) may have arrived after deciding to stop
+                if (!isFinished && (credits.get() > 0 || isCancelled))
+                {
+                    schedule();
+                }
+            }
         }
 
 
-        @Override
-        public void completeExceptionally(Throwable throwable)
+        /**
+         * Finishes streaming, forgetting the stream and closing the content.
+         */
+        private void finish()
         {
-            // nothing to do as ResponseOperations don't throw exceptions
-        }
+            if (!isFinished)
+            {
+                isFinished = true;
 
+                outgoingStreams.remove(sequence, this);
 
-        @Override
-        public CompletableFuture<T> getCompletableFuture()
-        {
-            return null;
+                closeQuietly(channel);
+            }
         }
     }
 
@@ -1409,22 +3130,19 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
                 else
                 {
                     int len = input.readInt();
-                    object = serializer.deserialize(input.readNBytes(len));
+                    object = deserialize(input.readNBytes(len));
                 }
 
                 if (object instanceof String)
                 {
-                    String className = (String) object;
-
-                    runnable = (Runnable) Class.forName(className).getDeclaredConstructor().newInstance();
+                    runnable = (Runnable) newInstance((String) object);
                 }
                 else
                 {
                     runnable = (Runnable) object;
                 }
             }
-            catch (ClassNotFoundException | InvocationTargetException | NoSuchMethodException
-                    | IllegalAccessException | InstantiationException e)
+            catch (ReflectiveOperationException e)
             {
                 LOGGER.log(Level.SEVERE, e, () -> "Error reading RunnableOperation");
                 throw new IOException(e);
@@ -1446,7 +3164,7 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
                 }
                 else
                 {
-                    byte[] bytes = serializer.serialize(runnable);
+                    byte[] bytes = serialize(runnable);
                     output.writeInt(bytes.length);
                     output.write(bytes);
                 }
@@ -1521,13 +3239,91 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
 
         @Override
         public void run()
+        {
+            if (negotiation.getNow(null) == ChannelProtocol.FRAMED)
+            {
+                sendFrame();
+            }
+            else
+            {
+                sendSerialized();
+            }
+        }
+
+
+        /**
+         * Sends the {@link Operation} using the {@link ChannelProtocol#FRAMED} protocol.
+         */
+        private void sendFrame()
+        {
+            FrameBuffer buffer = frameBufferPool.acquire();
+
+            try
+            {
+                Operation frameOperation = operation;
+
+                long started = System.nanoTime();
+
+                try
+                {
+                    // attempt to write the operation to the buffer
+                    frameOperation.write(buffer.begin());
+                }
+                catch (NotSerializableException e)
+                {
+                    LOGGER.log(Level.SEVERE, e, () -> "Sender: could not send " + operation);
+
+                    // determine if the operation required acknowledgement (we can acknowledge failure here)
+                    Operation pending = pendingOperations.remove(sequence);
+
+                    if (pending != null)
+                    {
+                        // when there's a "local" future, notify the operation of the exception
+                        // (there's no need to send anything to the other end)
+                        pending.completeExceptionally(e);
+
+                        return;
+                    }
+
+                    // let the original caller know we failed to serialize the response
+                    frameOperation = new ResponseOperation<>(new Exception(e.getMessage()));
+                    frameOperation.write(buffer.begin());
+                }
+
+                int opcode = operationTypes.indexOf(frameOperation.getType());
+
+                buffer.end((byte) opcode, sequence);
+
+                metrics.onSent(opcode, buffer.size(), System.nanoTime() - started);
+
+                if (isWritable.get())
+                {
+                    buffer.writeTo(frameOutput);
+                }
+            }
+            catch (IOException e)
+            {
+                LOGGER.log(Level.SEVERE, e, () -> "Caught exception sending operation " + operation);
+            }
+            finally
+            {
+                frameBufferPool.release(buffer);
+            }
+        }
+
+
+        /**
+         * Sends the {@link Operation} using the {@link ChannelProtocol#SERIALIZED} protocol.
+         */
+        private void sendSerialized()
         {
             try
             {
                 // create a temporary stream in which to serialize the operation
                 // (so we can't corrupt the actual output stream if an operation fails to serialize)
-                ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);    // 4k
-                ObjectOutputStream    stream = new ObjectOutputStream(buffer);
+                long                  started = System.nanoTime();
+                ByteArrayOutputStream buffer  = new ByteArrayOutputStream(4096);    // 4k
+                ObjectOutputStream    stream  = new ObjectOutputStream(buffer);
 
                 // serialize the operation and send the operation over the stream
                 // (assume we must send the operation)
@@ -1589,11 +3385,12 @@ public abstract class AbstractRemoteChannel extends AbstractControllableRemoteCh
                     // now send the buffer (to the actual output stream)
                     byte[] array = buffer.toByteArray();
 
+                    metrics.onSent(operationTypes.indexOf(operation.getType()),
+                                   array.length,
+                                   System.nanoTime() - started);
+
                     output.writeInt(array.length);
                     output.write(array, 0, array.length);
-
-                    // ensure the buffer is flushed so that the server can read it
-                    output.flush();
                 }
             }
             catch (IOException e)
@@ -0,0 +1,299 @@
+/*
+ * File: BlockDataReader.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import com.oracle.bedrock.annotations.Internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectStreamConstants;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Reads operations sent using the {@link com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol#SERIALIZED}
+ * protocol from {@link ByteBuffer}s containing received bytes, without blocking.
+ * <p>
+ * Operations in the {@link com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol#SERIALIZED}
+ * protocol are written to an {@link java.io.ObjectOutputStream} as primitive data, which
+ * the stream wraps in block data records.  The {@link BlockDataReader} unwraps the records
+ * only as far as is required to read each operation, so that the bytes following the
+ * last operation remain in the {@link ByteBuffer}, should the protocol change.
+ * <p>
+ * {@link BlockDataReader}s are not thread-safe.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class BlockDataReader
+{
+    /**
+     * The size of the Java Serialization stream header.
+     */
+    private static final int STREAM_HEADER_SIZE = 4;
+
+    /**
+     * Has the stream header been read?
+     */
+    private boolean isHeaderRead;
+
+    /**
+     * The number of bytes remaining in the current block data record.
+     */
+    private int blockRemaining;
+
+    /**
+     * The unwrapped bytes that have yet to be read as an operation.
+     */
+    private byte[] data;
+
+    /**
+     * The number of unwrapped bytes in {@link #data}.
+     */
+    private int size;
+
+    /**
+     * The type of the current operation.
+     */
+    private String operationType;
+
+    /**
+     * The sequence number of the current operation.
+     */
+    private long sequence;
+
+    /**
+     * The serialized bytes of the current operation.
+     */
+    private byte[] bytes;
+
+
+    /**
+     * Constructs a {@link BlockDataReader}.
+     */
+    public BlockDataReader()
+    {
+        this.isHeaderRead   = false;
+        this.blockRemaining = 0;
+        this.data           = new byte[256];
+        this.size           = 0;
+    }
+
+
+    /**
+     * Reads the next operation from the specified {@link ByteBuffer}, consuming only the
+     * bytes required to do so.  When the operation is incomplete, all of the bytes in the
+     * {@link ByteBuffer} that may be part of the operation are consumed and retained.
+     *
+     * @param buffer  the {@link ByteBuffer}
+     *
+     * @return <code>true</code> when an operation was read, <code>false</code> when more bytes are required
+     *
+     * @throws IOException  should the stream be corrupted
+     */
+    public boolean read(ByteBuffer buffer) throws IOException
+    {
+        if (!isHeaderRead)
+        {
+            if (buffer.remaining() < STREAM_HEADER_SIZE)
+            {
+                return false;
+            }
+
+            if (buffer.getShort() != ObjectStreamConstants.STREAM_MAGIC
+                || buffer.getShort() != ObjectStreamConstants.STREAM_VERSION)
+            {
+                throw new StreamCorruptedException("Invalid stream header");
+            }
+
+            isHeaderRead = true;
+        }
+
+        while (!parse())
+        {
+            if (blockRemaining == 0)
+            {
+                // read the next block data header
+                if (!buffer.hasRemaining())
+                {
+                    return false;
+                }
+
+                int start = buffer.position();
+                int tc    = buffer.get() & 0xFF;
+
+                if (tc == (ObjectStreamConstants.TC_BLOCKDATA & 0xFF))
+                {
+                    if (!buffer.hasRemaining())
+                    {
+                        buffer.position(start);
+
+                        return false;
+                    }
+
+                    blockRemaining = buffer.get() & 0xFF;
+                }
+                else if (tc == (ObjectStreamConstants.TC_BLOCKDATALONG & 0xFF))
+                {
+                    if (buffer.remaining() < 4)
+                    {
+                        buffer.position(start);
+
+                        return false;
+                    }
+
+                    blockRemaining = buffer.getInt();
+
+                    if (blockRemaining < 0)
+                    {
+                        throw new StreamCorruptedException("Invalid block data length " + blockRemaining);
+                    }
+                }
+                else if (tc != (ObjectStreamConstants.TC_RESET & 0xFF))
+                {
+                    throw new StreamCorruptedException(String.format("Unexpected type code 0x%02X", tc));
+                }
+            }
+            else
+            {
+                // unwrap as much of the current block data record as possible
+                int count = Math.min(blockRemaining, buffer.remaining());
+
+                if (count == 0)
+                {
+                    return false;
+                }
+
+                if (size + count > data.length)
+                {
+                    data = Arrays.copyOf(data, Math.max(size + count, data.length * 2));
+                }
+
+                buffer.get(data, size, count);
+
+                size           += count;
+                blockRemaining -= count;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Attempts to parse an operation from the unwrapped bytes, removing the bytes when successful.
+     *
+     * @return <code>true</code> when an operation was parsed
+     *
+     * @throws IOException  should the operation be corrupted
+     */
+    private boolean parse() throws IOException
+    {
+        // an operation is a UTF type, a long sequence number, an int length and the serialized bytes
+        if (size < 2)
+        {
+            return false;
+        }
+
+        int typeLength = ((data[0] & 0xFF) << 8) | (data[1] & 0xFF);
+        int offset     = 2 + typeLength + 8;
+
+        if (size < offset + 4)
+        {
+            return false;
+        }
+
+        int length = ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16)
+                     | ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+
+        if (length < 0)
+        {
+            throw new StreamCorruptedException("Invalid operation length " + length);
+        }
+
+        int total = offset + 4 + length;
+
+        if (size < total)
+        {
+            return false;
+        }
+
+        DataInputStream stream = new DataInputStream(new ByteArrayInputStream(data, 0, offset));
+
+        operationType = stream.readUTF();
+        sequence      = stream.readLong();
+        bytes         = Arrays.copyOfRange(data, offset + 4, total);
+
+        // remove the operation from the unwrapped bytes
+        System.arraycopy(data, total, data, 0, size - total);
+
+        size -= total;
+
+        // don't retain buffers that were grown for unusually large operations
+        if (size == 0 && data.length > FrameBuffer.MAXIMUM_RETAINED_CAPACITY)
+        {
+            data = new byte[256];
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Obtains the type of the current operation.
+     *
+     * @return the operation type
+     */
+    public String getOperationType()
+    {
+        return operationType;
+    }
+
+
+    /**
+     * Obtains the sequence number of the current operation.
+     *
+     * @return the sequence number
+     */
+    public long getSequence()
+    {
+        return sequence;
+    }
+
+
+    /**
+     * Obtains the serialized bytes of the current operation.
+     *
+     * @return the serialized bytes
+     */
+    public byte[] getBytes()
+    {
+        return bytes;
+    }
+}
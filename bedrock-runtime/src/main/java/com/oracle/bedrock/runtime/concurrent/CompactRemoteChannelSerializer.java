@@ -0,0 +1,801 @@
+/*
+ * File: CompactRemoteChannelSerializer.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import com.oracle.bedrock.runtime.java.io.ClassLoaderAwareObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link RemoteChannelSerializer} that writes primitives, {@link String}s, byte arrays and
+ * common collections of them using a compact encoding, and all other values using Java
+ * serialization with a per-channel dictionary of class descriptors.
+ * <p>
+ * The first time a class descriptor is sent over a {@link RemoteChannel} it's written in full
+ * together with an identifier, after which only the identifier is sent, unlike regular Java
+ * serialization which writes class descriptors for every serialized value.
+ * <p>
+ * As the dictionaries are established in the order values are sent and received,
+ * {@link RemoteChannel}s obtain their own instance using {@link #forChannel(ClassLoader)}.
+ * To use this serializer for spawned Java applications, specify it as an option when launching
+ * or define the {@link com.oracle.bedrock.runtime.Settings#CHANNEL_SERIALIZER} system property
+ * as the name of this class.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class CompactRemoteChannelSerializer implements RemoteChannelSerializer
+{
+    /**
+     * The tags identifying the encoding of serialized values.
+     */
+    private static final byte NULL            = 0;
+    private static final byte TRUE            = 1;
+    private static final byte FALSE           = 2;
+    private static final byte BYTE            = 3;
+    private static final byte SHORT           = 4;
+    private static final byte CHARACTER       = 5;
+    private static final byte INTEGER         = 6;
+    private static final byte LONG            = 7;
+    private static final byte FLOAT           = 8;
+    private static final byte DOUBLE          = 9;
+    private static final byte STRING          = 10;
+    private static final byte BYTE_ARRAY      = 11;
+    private static final byte ARRAY_LIST      = 12;
+    private static final byte HASH_SET        = 13;
+    private static final byte LINKED_HASH_SET = 14;
+    private static final byte HASH_MAP        = 15;
+    private static final byte LINKED_HASH_MAP = 16;
+    private static final byte OBJECT          = 17;
+
+    /**
+     * The maximum depth of nested collections written using the compact encoding
+     * (deeper, or self-referencing, collections are written using Java serialization).
+     */
+    private static final int MAXIMUM_DEPTH = 32;
+
+    /**
+     * The {@link ClassLoader} for resolving deserialized classes
+     * (<code>null</code> to use the context {@link ClassLoader} of the deserializing {@link Thread}).
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * The identifiers of the classes whose descriptors have been sent.
+     */
+    private final HashMap<Class<?>, Integer> sentDescriptors;
+
+    /**
+     * The class descriptors that have been received, indexed by identifier.
+     */
+    private final HashMap<Integer, ObjectStreamClass> receivedDescriptors;
+
+    /**
+     * The resolved classes of received descriptors, indexed by class name.
+     */
+    private final HashMap<String, Class<?>> resolvedClasses;
+
+
+    /**
+     * Constructs a {@link CompactRemoteChannelSerializer}.
+     */
+    public CompactRemoteChannelSerializer()
+    {
+        this(null);
+    }
+
+
+    /**
+     * Constructs a {@link CompactRemoteChannelSerializer} that resolves classes
+     * using the specified {@link ClassLoader}.
+     *
+     * @param classLoader  the {@link ClassLoader} (<code>null</code> for the {@link Thread} context {@link ClassLoader})
+     */
+    public CompactRemoteChannelSerializer(ClassLoader classLoader)
+    {
+        this.classLoader         = classLoader;
+        this.sentDescriptors     = new HashMap<>();
+        this.receivedDescriptors = new HashMap<>();
+        this.resolvedClasses     = new HashMap<>();
+    }
+
+
+    @Override
+    public RemoteChannelSerializer forChannel(ClassLoader classLoader)
+    {
+        return new CompactRemoteChannelSerializer(classLoader);
+    }
+
+
+    @Override
+    public byte[] serialize(Object o)
+    {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        DataOutputStream      output = new DataOutputStream(buffer);
+
+        try
+        {
+            if (!writeCompact(output, o, 0))
+            {
+                // the value (or something it contains) requires Java serialization
+                buffer.reset();
+                output.writeByte(OBJECT);
+                writeObject(output, o);
+            }
+
+            output.flush();
+
+            return buffer.toByteArray();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] bytes)
+    {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        try
+        {
+            return (T) read(input);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /**
+     * Attempts to write a value using the compact encoding.
+     *
+     * @param output  the {@link DataOutputStream} to write to
+     * @param value   the value
+     * @param depth   the depth of the value in the collections being written
+     *
+     * @return <code>true</code> if the value was written, or <code>false</code> when
+     *         the value requires Java serialization
+     *
+     * @throws IOException when the value can't be written
+     */
+    private boolean writeCompact(DataOutputStream output,
+                                 Object           value,
+                                 int              depth) throws IOException
+    {
+        if (value == null)
+        {
+            output.writeByte(NULL);
+
+            return true;
+        }
+
+        Class<?> valueClass = value.getClass();
+
+        if (valueClass == String.class)
+        {
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+
+            output.writeByte(STRING);
+            writeVarLong(output, bytes.length);
+            output.write(bytes);
+        }
+        else if (valueClass == Integer.class)
+        {
+            output.writeByte(INTEGER);
+            writeVarLong(output, (Integer) value);
+        }
+        else if (valueClass == Long.class)
+        {
+            output.writeByte(LONG);
+            writeVarLong(output, (Long) value);
+        }
+        else if (valueClass == Boolean.class)
+        {
+            output.writeByte((Boolean) value ? TRUE : FALSE);
+        }
+        else if (valueClass == Double.class)
+        {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        }
+        else if (valueClass == Float.class)
+        {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        }
+        else if (valueClass == Byte.class)
+        {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        }
+        else if (valueClass == Short.class)
+        {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        }
+        else if (valueClass == Character.class)
+        {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) value);
+        }
+        else if (valueClass == byte[].class)
+        {
+            byte[] bytes = (byte[]) value;
+
+            output.writeByte(BYTE_ARRAY);
+            writeVarLong(output, bytes.length);
+            output.write(bytes);
+        }
+        else if (depth >= MAXIMUM_DEPTH)
+        {
+            return false;
+        }
+        else if (valueClass == ArrayList.class)
+        {
+            return writeCollection(output, ARRAY_LIST, (Collection<?>) value, depth);
+        }
+        else if (valueClass == HashSet.class)
+        {
+            return writeCollection(output, HASH_SET, (Collection<?>) value, depth);
+        }
+        else if (valueClass == LinkedHashSet.class)
+        {
+            return writeCollection(output, LINKED_HASH_SET, (Collection<?>) value, depth);
+        }
+        else if (valueClass == HashMap.class)
+        {
+            return writeMap(output, HASH_MAP, (Map<?, ?>) value, depth);
+        }
+        else if (valueClass == LinkedHashMap.class)
+        {
+            return writeMap(output, LINKED_HASH_MAP, (Map<?, ?>) value, depth);
+        }
+        else
+        {
+            return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Attempts to write a {@link Collection} using the compact encoding.
+     *
+     * @param output      the {@link DataOutputStream} to write to
+     * @param tag         the tag for the type of {@link Collection}
+     * @param collection  the {@link Collection}
+     * @param depth       the depth of the {@link Collection}
+     *
+     * @return <code>true</code> if the {@link Collection} and its elements were written
+     *
+     * @throws IOException when the {@link Collection} can't be written
+     */
+    private boolean writeCollection(DataOutputStream output,
+                                    byte             tag,
+                                    Collection<?>    collection,
+                                    int              depth) throws IOException
+    {
+        output.writeByte(tag);
+        writeVarLong(output, collection.size());
+
+        for (Object element : collection)
+        {
+            if (!writeCompact(output, element, depth + 1))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Attempts to write a {@link Map} using the compact encoding.
+     *
+     * @param output  the {@link DataOutputStream} to write to
+     * @param tag     the tag for the type of {@link Map}
+     * @param map     the {@link Map}
+     * @param depth   the depth of the {@link Map}
+     *
+     * @return <code>true</code> if the {@link Map} and its entries were written
+     *
+     * @throws IOException when the {@link Map} can't be written
+     */
+    private boolean writeMap(DataOutputStream output,
+                             byte             tag,
+                             Map<?, ?>        map,
+                             int              depth) throws IOException
+    {
+        output.writeByte(tag);
+        writeVarLong(output, map.size());
+
+        for (Map.Entry<?, ?> entry : map.entrySet())
+        {
+            if (!writeCompact(output, entry.getKey(), depth + 1) || !writeCompact(output, entry.getValue(), depth + 1))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Writes a value using Java serialization, sending only the identifiers of previously
+     * sent class descriptors.
+     *
+     * @param output  the {@link OutputStream} to write to
+     * @param value   the value
+     *
+     * @throws IOException when the value can't be serialized
+     */
+    private void writeObject(OutputStream output,
+                             Object       value) throws IOException
+    {
+        synchronized (sentDescriptors)
+        {
+            DictionaryOutputStream stream = new DictionaryOutputStream(output);
+
+            stream.writeObject(value);
+            stream.flush();
+
+            // only once the value has been serialized are its descriptors known to be sent
+            sentDescriptors.putAll(stream.newDescriptors);
+        }
+    }
+
+
+    /**
+     * Reads a value written by {@link #serialize(Object)}.
+     *
+     * @param input  the {@link DataInputStream} to read from
+     *
+     * @return the value
+     *
+     * @throws IOException when the value can't be read
+     */
+    private Object read(DataInputStream input) throws IOException
+    {
+        byte tag = input.readByte();
+
+        switch (tag)
+        {
+        case NULL :
+            return null;
+
+        case TRUE :
+            return Boolean.TRUE;
+
+        case FALSE :
+            return Boolean.FALSE;
+
+        case BYTE :
+            return input.readByte();
+
+        case SHORT :
+            return input.readShort();
+
+        case CHARACTER :
+            return input.readChar();
+
+        case INTEGER :
+            return (int) readVarLong(input);
+
+        case LONG :
+            return readVarLong(input);
+
+        case FLOAT :
+            return input.readFloat();
+
+        case DOUBLE :
+            return input.readDouble();
+
+        case STRING :
+            return new String(readBytes(input), StandardCharsets.UTF_8);
+
+        case BYTE_ARRAY :
+            return readBytes(input);
+
+        case ARRAY_LIST :
+        case HASH_SET :
+        case LINKED_HASH_SET :
+            return readCollection(input, tag);
+
+        case HASH_MAP :
+        case LINKED_HASH_MAP :
+            return readMap(input, tag);
+
+        case OBJECT :
+            return readObject(input);
+
+        default :
+            throw new StreamCorruptedException("Unknown serialized value type " + tag);
+        }
+    }
+
+
+    /**
+     * Reads a {@link Collection} written using the compact encoding.
+     *
+     * @param input  the {@link DataInputStream} to read from
+     * @param tag    the tag for the type of {@link Collection}
+     *
+     * @return the {@link Collection}
+     *
+     * @throws IOException when the {@link Collection} can't be read
+     */
+    private Collection<Object> readCollection(DataInputStream input,
+                                              byte            tag) throws IOException
+    {
+        int                size = readSize(input);
+        Collection<Object> collection;
+
+        if (tag == ARRAY_LIST)
+        {
+            collection = new ArrayList<>(size);
+        }
+        else if (tag == HASH_SET)
+        {
+            collection = new HashSet<>(capacityOf(size));
+        }
+        else
+        {
+            collection = new LinkedHashSet<>(capacityOf(size));
+        }
+
+        for (int i = 0; i < size; i++)
+        {
+            collection.add(read(input));
+        }
+
+        return collection;
+    }
+
+
+    /**
+     * Reads a {@link Map} written using the compact encoding.
+     *
+     * @param input  the {@link DataInputStream} to read from
+     * @param tag    the tag for the type of {@link Map}
+     *
+     * @return the {@link Map}
+     *
+     * @throws IOException when the {@link Map} can't be read
+     */
+    private Map<Object, Object> readMap(DataInputStream input,
+                                        byte            tag) throws IOException
+    {
+        int                 size = readSize(input);
+        Map<Object, Object> map  = tag == HASH_MAP ? new HashMap<>(capacityOf(size))
+                                                   : new LinkedHashMap<>(capacityOf(size));
+
+        for (int i = 0; i < size; i++)
+        {
+            Object key = read(input);
+
+            map.put(key, read(input));
+        }
+
+        return map;
+    }
+
+
+    /**
+     * Reads a value written using Java serialization, resolving class descriptors
+     * using the identifiers of those previously received.
+     *
+     * @param input  the {@link InputStream} to read from
+     *
+     * @return the value
+     *
+     * @throws IOException when the value can't be deserialized
+     */
+    private Object readObject(InputStream input) throws IOException
+    {
+        synchronized (receivedDescriptors)
+        {
+            try
+            {
+                ClassLoader loader = classLoader == null ? Thread.currentThread().getContextClassLoader() : classLoader;
+
+                return new DictionaryInputStream(loader, input).readObject();
+            }
+            catch (ClassNotFoundException e)
+            {
+                throw new IOException(e);
+            }
+        }
+    }
+
+
+    /**
+     * Reads a length-prefixed array of bytes.
+     *
+     * @param input  the {@link DataInputStream} to read from
+     *
+     * @return the bytes
+     *
+     * @throws IOException when the bytes can't be read
+     */
+    private static byte[] readBytes(DataInputStream input) throws IOException
+    {
+        byte[] bytes = new byte[readSize(input)];
+
+        input.readFully(bytes);
+
+        return bytes;
+    }
+
+
+    /**
+     * Reads the size of a {@link String}, array or collection.
+     *
+     * @param input  the {@link DataInputStream} to read from
+     *
+     * @return the size
+     *
+     * @throws IOException when the size can't be read or is invalid
+     */
+    private static int readSize(DataInputStream input) throws IOException
+    {
+        long size = readVarLong(input);
+
+        if (size < 0 || size > Integer.MAX_VALUE)
+        {
+            throw new StreamCorruptedException("Invalid size " + size);
+        }
+
+        return (int) size;
+    }
+
+
+    /**
+     * Determines the initial capacity of a hashed collection to hold the specified number of entries.
+     *
+     * @param size  the number of entries
+     *
+     * @return the initial capacity
+     */
+    private static int capacityOf(int size)
+    {
+        return (int) Math.min(Integer.MAX_VALUE, (long) size * 4 / 3 + 1);
+    }
+
+
+    /**
+     * Writes a zig-zag encoded variable length long, so that small
+     * (including small negative) values occupy a single byte.
+     *
+     * @param output  the {@link DataOutputStream} to write to
+     * @param value   the value
+     *
+     * @throws IOException when the value can't be written
+     */
+    private static void writeVarLong(DataOutputStream output,
+                                     long             value) throws IOException
+    {
+        long encoded = (value << 1) ^ (value >> 63);
+
+        while ((encoded & ~0x7FL) != 0)
+        {
+            output.writeByte((int) ((encoded & 0x7F) | 0x80));
+            encoded >>>= 7;
+        }
+
+        output.writeByte((int) encoded);
+    }
+
+
+    /**
+     * Reads a zig-zag encoded variable length long written by {@link #writeVarLong(DataOutputStream, long)}.
+     *
+     * @param input  the {@link DataInputStream} to read from
+     *
+     * @return the value
+     *
+     * @throws IOException when the value can't be read
+     */
+    private static long readVarLong(DataInputStream input) throws IOException
+    {
+        long encoded = 0;
+
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            int b = input.readUnsignedByte();
+
+            encoded |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+            {
+                return (encoded >>> 1) ^ -(encoded & 1);
+            }
+        }
+
+        throw new StreamCorruptedException("Malformed variable length value");
+    }
+
+
+    /**
+     * An {@link ObjectOutputStream} that writes the identifiers of previously sent class descriptors
+     * instead of the descriptors themselves.
+     */
+    private class DictionaryOutputStream extends ObjectOutputStream
+    {
+        /**
+         * The identifiers of the class descriptors sent for the first time by this stream.
+         */
+        private final HashMap<Class<?>, Integer> newDescriptors;
+
+
+        /**
+         * Constructs a {@link DictionaryOutputStream}.
+         *
+         * @param output  the {@link OutputStream} to write to
+         *
+         * @throws IOException when the stream can't be created
+         */
+        DictionaryOutputStream(OutputStream output) throws IOException
+        {
+            super(output);
+
+            this.newDescriptors = new HashMap<>();
+        }
+
+
+        @Override
+        protected void writeStreamHeader()
+        {
+            // the stream header is implied
+        }
+
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass descriptor) throws IOException
+        {
+            Class<?> descriptorClass = descriptor.forClass();
+            Integer  id              = sentDescriptors.get(descriptorClass);
+
+            if (id == null)
+            {
+                id = newDescriptors.get(descriptorClass);
+            }
+
+            if (id == null)
+            {
+                // allocate an identifier and send the descriptor with it
+                id = sentDescriptors.size() + newDescriptors.size();
+
+                newDescriptors.put(descriptorClass, id);
+
+                writeInt(-1 - id);
+                super.writeClassDescriptor(descriptor);
+            }
+            else
+            {
+                writeInt(id);
+            }
+        }
+    }
+
+
+    /**
+     * An {@link ClassLoaderAwareObjectInputStream} that resolves class descriptors using
+     * the identifiers of previously received class descriptors.
+     */
+    private class DictionaryInputStream extends ClassLoaderAwareObjectInputStream
+    {
+        /**
+         * Constructs a {@link DictionaryInputStream}.
+         *
+         * @param classLoader  the {@link ClassLoader} for resolving classes
+         * @param input        the {@link InputStream} to read from
+         *
+         * @throws IOException when the stream can't be created
+         */
+        DictionaryInputStream(ClassLoader classLoader,
+                              InputStream input) throws IOException
+        {
+            super(classLoader, input);
+        }
+
+
+        @Override
+        protected void readStreamHeader()
+        {
+            // the stream header is implied
+        }
+
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException
+        {
+            int id = readInt();
+
+            if (id < 0)
+            {
+                ObjectStreamClass descriptor = super.readClassDescriptor();
+
+                receivedDescriptors.put(-1 - id, descriptor);
+
+                return descriptor;
+            }
+            else
+            {
+                ObjectStreamClass descriptor = receivedDescriptors.get(id);
+
+                if (descriptor == null)
+                {
+                    throw new StreamCorruptedException("Unknown class descriptor " + id);
+                }
+
+                return descriptor;
+            }
+        }
+
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException, ClassNotFoundException
+        {
+            Class<?> resolvedClass = resolvedClasses.get(descriptor.getName());
+
+            if (resolvedClass == null)
+            {
+                resolvedClass = super.resolveClass(descriptor);
+
+                resolvedClasses.put(descriptor.getName(), resolvedClass);
+            }
+
+            return resolvedClass;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * File: FrameBuffer.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import com.oracle.bedrock.annotations.Internal;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A reusable buffer in which a single frame of the {@link com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol#FRAMED}
+ * protocol is assembled before being written to a {@link RemoteChannel}.
+ * <p>
+ * A frame consists of a one-byte opcode, the sequence number of the operation
+ * and the size of the payload (both encoded as unsigned variable-length integers),
+ * followed by the payload itself.  Space for the header is reserved at the front of
+ * the buffer so that once the payload has been written the header can be placed
+ * immediately before it, allowing the entire frame to be written with a single call.
+ * <p>
+ * Each {@link FrameBuffer} owns an {@link ObjectOutputStream} that is reused for
+ * every frame.  The {@link ObjectOutputStream} is reset at the start of each frame,
+ * so every payload is self-contained and may be read by any {@link FrameReader},
+ * regardless of the {@link FrameBuffer} that produced it.
+ * <p>
+ * {@link FrameBuffer}s are not thread-safe.  They are intended to be acquired from
+ * and released to a {@link FrameBufferPool}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class FrameBuffer extends OutputStream
+{
+    /**
+     * The maximum size of a frame header (an opcode, a variable-length long sequence
+     * number and a variable-length int payload size).
+     */
+    public static final int MAXIMUM_HEADER_SIZE = 1 + 10 + 5;
+
+    /**
+     * The initial capacity of a {@link FrameBuffer}.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The largest capacity a {@link FrameBuffer} will retain between frames.  Buffers
+     * that grew beyond this while writing a large payload are shrunk when released.
+     */
+    public static final int MAXIMUM_RETAINED_CAPACITY = 1024 * 1024;
+
+    /**
+     * The bytes of the frame.
+     */
+    private byte[] bytes;
+
+    /**
+     * The position at which the next byte will be written.
+     */
+    private int position;
+
+    /**
+     * The position of the first byte of the frame (the start of the header).
+     */
+    private int start;
+
+    /**
+     * The position of the first byte of the payload.
+     */
+    private int payloadStart;
+
+    /**
+     * The reusable {@link ObjectOutputStream} writing into this {@link FrameBuffer}
+     * (lazily created).
+     */
+    private ObjectOutputStream objectOutputStream;
+
+
+    /**
+     * Constructs a {@link FrameBuffer}.
+     */
+    public FrameBuffer()
+    {
+        this.bytes        = new byte[DEFAULT_CAPACITY];
+        this.position     = MAXIMUM_HEADER_SIZE;
+        this.start        = MAXIMUM_HEADER_SIZE;
+        this.payloadStart = MAXIMUM_HEADER_SIZE;
+    }
+
+
+    /**
+     * Begins a new frame, discarding any previous frame.
+     *
+     * @return the {@link ObjectOutputStream} into which the payload of the frame should be written
+     *
+     * @throws IOException  should the {@link ObjectOutputStream} fail to reset
+     */
+    public ObjectOutputStream begin() throws IOException
+    {
+        if (objectOutputStream == null)
+        {
+            // the stream header is written into the reserved header space, but is then
+            // overwritten by the frame headers (readers synthesize the stream header)
+            position           = MAXIMUM_HEADER_SIZE;
+            objectOutputStream = new ObjectOutputStream(this);
+
+            objectOutputStream.flush();
+
+            payloadStart = position;
+        }
+
+        position = payloadStart;
+        start    = payloadStart;
+
+        // reset the stream so the payload doesn't refer to objects or classes from previous frames
+        objectOutputStream.reset();
+
+        return objectOutputStream;
+    }
+
+
+    /**
+     * Completes the current frame by writing the frame header in front of the payload.
+     *
+     * @param opcode    the opcode of the operation in the frame
+     * @param sequence  the sequence number of the operation
+     *
+     * @throws IOException  should the {@link ObjectOutputStream} fail to flush
+     */
+    public void end(byte opcode,
+                    long sequence) throws IOException
+    {
+        objectOutputStream.flush();
+
+        int length     = position - payloadStart;
+        int headerSize = 1 + sizeOfVarLong(sequence) + sizeOfVarLong(length);
+
+        start = payloadStart - headerSize;
+
+        int offset = start;
+
+        bytes[offset++] = opcode;
+        offset          = putVarLong(bytes, offset, sequence);
+
+        putVarLong(bytes, offset, length);
+    }
+
+
+    /**
+     * Obtains the size of the completed frame, including the header.
+     *
+     * @return the size of the frame in bytes
+     */
+    public int size()
+    {
+        return position - start;
+    }
+
+
+    /**
+     * Writes the completed frame to the specified {@link OutputStream}.
+     *
+     * @param outputStream  the {@link OutputStream}
+     *
+     * @throws IOException  should the write fail
+     */
+    public void writeTo(OutputStream outputStream) throws IOException
+    {
+        outputStream.write(bytes, start, position - start);
+    }
+
+
+    /**
+     * Releases excess capacity acquired while writing an unusually large frame.
+     */
+    public void trim()
+    {
+        if (bytes.length > MAXIMUM_RETAINED_CAPACITY)
+        {
+            bytes    = new byte[DEFAULT_CAPACITY];
+            position = payloadStart;
+            start    = payloadStart;
+        }
+    }
+
+
+    @Override
+    public void write(int b)
+    {
+        ensureCapacity(1);
+
+        bytes[position++] = (byte) b;
+    }
+
+
+    @Override
+    public void write(byte[] buffer,
+                      int    offset,
+                      int    length)
+    {
+        ensureCapacity(length);
+
+        System.arraycopy(buffer, offset, bytes, position, length);
+
+        position += length;
+    }
+
+
+    /**
+     * Ensures there's capacity to write the specified number of bytes.
+     *
+     * @param required  the number of bytes
+     */
+    private void ensureCapacity(int required)
+    {
+        int minimum = position + required;
+
+        if (minimum < 0)
+        {
+            throw new OutOfMemoryError("Frame payload exceeds the maximum array size");
+        }
+
+        if (minimum > bytes.length)
+        {
+            int capacity = Math.max(bytes.length << 1, minimum);
+
+            bytes = Arrays.copyOf(bytes, capacity < 0 ? Integer.MAX_VALUE - 8 : capacity);
+        }
+    }
+
+
+    /**
+     * Determines the number of bytes required to encode the specified value as an
+     * unsigned variable-length integer.
+     *
+     * @param value  the value
+     *
+     * @return the number of bytes
+     */
+    public static int sizeOfVarLong(long value)
+    {
+        int size = 1;
+
+        while ((value & ~0x7FL) != 0)
+        {
+            value >>>= 7;
+            size++;
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Encodes the specified value as an unsigned variable-length integer
+     * (seven bits per byte, least significant group first).
+     *
+     * @param bytes   the bytes into which to encode the value
+     * @param offset  the offset at which to encode the value
+     * @param value   the value
+     *
+     * @return the offset following the encoded value
+     */
+    public static int putVarLong(byte[] bytes,
+                                 int    offset,
+                                 long   value)
+    {
+        while ((value & ~0x7FL) != 0)
+        {
+            bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value           >>>= 7;
+        }
+
+        bytes[offset++] = (byte) value;
+
+        return offset;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * File: FrameBufferPool.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import com.oracle.bedrock.annotations.Internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A bounded pool of {@link FrameBuffer}s, allowing the buffers and their
+ * {@link java.io.ObjectOutputStream}s to be reused across frames instead of being
+ * allocated for every operation sent over a {@link RemoteChannel}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class FrameBufferPool
+{
+    /**
+     * The default maximum number of idle {@link FrameBuffer}s retained by a {@link FrameBufferPool}.
+     */
+    public static final int DEFAULT_MAXIMUM_IDLE = 8;
+
+    /**
+     * The idle {@link FrameBuffer}s.
+     */
+    private final ArrayBlockingQueue<FrameBuffer> buffers;
+
+
+    /**
+     * Constructs a {@link FrameBufferPool} retaining at most {@link #DEFAULT_MAXIMUM_IDLE}
+     * idle {@link FrameBuffer}s.
+     */
+    public FrameBufferPool()
+    {
+        this(DEFAULT_MAXIMUM_IDLE);
+    }
+
+
+    /**
+     * Constructs a {@link FrameBufferPool}.
+     *
+     * @param maximumIdle  the maximum number of idle {@link FrameBuffer}s to retain
+     */
+    public FrameBufferPool(int maximumIdle)
+    {
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, maximumIdle));
+    }
+
+
+    /**
+     * Acquires a {@link FrameBuffer}, creating one when none are idle.
+     *
+     * @return a {@link FrameBuffer}
+     */
+    public FrameBuffer acquire()
+    {
+        FrameBuffer buffer = buffers.poll();
+
+        return buffer == null ? new FrameBuffer() : buffer;
+    }
+
+
+    /**
+     * Returns a {@link FrameBuffer} to the pool, discarding it when the pool is full.
+     *
+     * @param buffer  the {@link FrameBuffer}
+     */
+    public void release(FrameBuffer buffer)
+    {
+        if (buffer != null)
+        {
+            buffer.trim();
+            buffers.offer(buffer);
+        }
+    }
+
+
+    /**
+     * Obtains the number of idle {@link FrameBuffer}s in the pool.
+     *
+     * @return the number of idle {@link FrameBuffer}s
+     */
+    public int size()
+    {
+        return buffers.size();
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * File: FrameReader.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.java.io.ClassLoaderAwareObjectInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamConstants;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads frames of the {@link com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol#FRAMED}
+ * protocol (as produced by {@link FrameBuffer}s) from an {@link InputStream} or from
+ * {@link ByteBuffer}s containing received bytes.
+ * <p>
+ * Payloads are read into a buffer that is reused from frame to frame and are
+ * deserialized using a single {@link ObjectInputStream}, avoiding the allocation of
+ * a new buffer and {@link ObjectInputStream} per operation.
+ * <p>
+ * {@link FrameReader}s are not thread-safe.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class FrameReader
+{
+    /**
+     * The Java Serialization stream header that precedes every payload written by a
+     * {@link FrameBuffer}, but which isn't sent over the wire.
+     */
+    private static final byte[] STREAM_HEADER = new byte[] {(byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8),
+                                                            (byte) ObjectStreamConstants.STREAM_MAGIC,
+                                                            (byte) (ObjectStreamConstants.STREAM_VERSION >>> 8),
+                                                            (byte) ObjectStreamConstants.STREAM_VERSION};
+
+    /**
+     * The {@link InputStream} from which to read frames
+     * (<code>null</code> when frames are read from {@link ByteBuffer}s).
+     */
+    private final InputStream inputStream;
+
+    /**
+     * The {@link ClassLoader} to use for resolving deserialized classes.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * The {@link PayloadInputStream} over the payload of the current frame.
+     */
+    private final PayloadInputStream payloadInputStream;
+
+    /**
+     * The reusable {@link ObjectInputStream} for reading payloads (lazily created).
+     */
+    private ObjectInputStream objectInputStream;
+
+    /**
+     * The opcode of the current frame.
+     */
+    private byte opcode;
+
+    /**
+     * The sequence number of the current frame.
+     */
+    private long sequence;
+
+
+    /**
+     * Constructs a {@link FrameReader}.
+     *
+     * @param inputStream  the {@link InputStream} from which to read frames
+     * @param classLoader  the {@link ClassLoader} for resolving deserialized classes
+     */
+    public FrameReader(InputStream inputStream,
+                       ClassLoader classLoader)
+    {
+        this.inputStream        = inputStream instanceof BufferedInputStream
+                                  ? inputStream : new BufferedInputStream(inputStream, 64 * 1024);
+        this.classLoader        = classLoader;
+        this.payloadInputStream = new PayloadInputStream();
+    }
+
+
+    /**
+     * Constructs a {@link FrameReader} that reads frames from {@link ByteBuffer}s
+     * using {@link #read(ByteBuffer)}.
+     *
+     * @param classLoader  the {@link ClassLoader} for resolving deserialized classes
+     */
+    public FrameReader(ClassLoader classLoader)
+    {
+        this.inputStream        = null;
+        this.classLoader        = classLoader;
+        this.payloadInputStream = new PayloadInputStream();
+    }
+
+
+    /**
+     * Reads the next frame, blocking until it is available.
+     *
+     * @throws IOException  should the {@link InputStream} be closed or the frame be corrupted
+     */
+    public void read() throws IOException
+    {
+        int b = inputStream.read();
+
+        if (b < 0)
+        {
+            throw new EOFException("End of stream reached while waiting for a frame");
+        }
+
+        opcode   = (byte) b;
+        sequence = readVarLong();
+
+        long length = readVarLong();
+
+        if (length < 0 || length > Integer.MAX_VALUE - 8)
+        {
+            throw new StreamCorruptedException("Invalid frame length " + length);
+        }
+
+        payloadInputStream.fill(inputStream, (int) length);
+    }
+
+
+    /**
+     * Reads the next frame from the specified {@link ByteBuffer}, but only when it
+     * completely contains the frame.  When the frame is incomplete the position of the
+     * {@link ByteBuffer} remains unchanged.
+     *
+     * @param buffer  the {@link ByteBuffer}
+     *
+     * @return <code>true</code> when a frame was read, <code>false</code> when the frame is incomplete
+     *
+     * @throws IOException  should the frame be corrupted
+     */
+    public boolean read(ByteBuffer buffer) throws IOException
+    {
+        int start = buffer.position();
+
+        if (!buffer.hasRemaining())
+        {
+            return false;
+        }
+
+        byte frameOpcode   = buffer.get();
+        long frameSequence = getVarLong(buffer);
+        long length        = frameSequence < 0 ? -1 : getVarLong(buffer);
+
+        if (length > Integer.MAX_VALUE - 8)
+        {
+            throw new StreamCorruptedException("Invalid frame length " + length);
+        }
+
+        if (length < 0 || buffer.remaining() < length)
+        {
+            buffer.position(start);
+
+            return false;
+        }
+
+        opcode   = frameOpcode;
+        sequence = frameSequence;
+
+        payloadInputStream.fill(buffer, (int) length);
+
+        return true;
+    }
+
+
+    /**
+     * Obtains the opcode of the current frame.
+     *
+     * @return the opcode
+     */
+    public byte getOpcode()
+    {
+        return opcode;
+    }
+
+
+    /**
+     * Obtains the sequence number of the current frame.
+     *
+     * @return the sequence number
+     */
+    public long getSequence()
+    {
+        return sequence;
+    }
+
+
+    /**
+     * Obtains the size of the payload of the current frame.
+     *
+     * @return the payload size in bytes
+     */
+    public int getLength()
+    {
+        return payloadInputStream.length;
+    }
+
+
+    /**
+     * Obtains the {@link ObjectInputStream} positioned at the start of the
+     * payload of the current frame.
+     *
+     * @return the {@link ObjectInputStream}
+     *
+     * @throws IOException  should the {@link ObjectInputStream} fail to be created
+     */
+    public ObjectInputStream getObjectInputStream() throws IOException
+    {
+        if (objectInputStream == null)
+        {
+            payloadInputStream.prefix = 0;
+            objectInputStream         = new ClassLoaderAwareObjectInputStream(classLoader, payloadInputStream);
+        }
+
+        return objectInputStream;
+    }
+
+
+    /**
+     * Completes reading the current frame.  Should the payload not have been entirely
+     * consumed, the {@link ObjectInputStream} is discarded so that any internally
+     * buffered state can't leak into the next frame.
+     */
+    public void complete()
+    {
+        if (payloadInputStream.remaining() > 0)
+        {
+            discard();
+        }
+        else if (objectInputStream != null)
+        {
+            try
+            {
+                if (objectInputStream.available() > 0)
+                {
+                    discard();
+                }
+            }
+            catch (IOException e)
+            {
+                discard();
+            }
+        }
+    }
+
+
+    /**
+     * Discards the {@link ObjectInputStream}, typically after a payload failed to
+     * be deserialized, so that a new one will be created for the next frame.
+     */
+    public void discard()
+    {
+        objectInputStream = null;
+    }
+
+
+    /**
+     * Reads an unsigned variable-length integer from the {@link InputStream}.
+     *
+     * @return the value
+     *
+     * @throws IOException  should the stream end or the value be malformed
+     */
+    private long readVarLong() throws IOException
+    {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            int b = inputStream.read();
+
+            if (b < 0)
+            {
+                throw new EOFException("End of stream reached while reading a frame header");
+            }
+
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+            {
+                return value;
+            }
+        }
+
+        throw new StreamCorruptedException("Malformed variable-length integer in frame header");
+    }
+
+
+    /**
+     * Gets an unsigned variable-length integer from the {@link ByteBuffer}.
+     *
+     * @param buffer  the {@link ByteBuffer}
+     *
+     * @return the value or <code>-1</code> when the {@link ByteBuffer} doesn't contain the entire value
+     *
+     * @throws IOException  should the value be malformed
+     */
+    private static long getVarLong(ByteBuffer buffer) throws IOException
+    {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            if (!buffer.hasRemaining())
+            {
+                return -1;
+            }
+
+            int b = buffer.get();
+
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+            {
+                return value;
+            }
+        }
+
+        throw new StreamCorruptedException("Malformed variable-length integer in frame header");
+    }
+
+
+    /**
+     * An {@link InputStream} over the payload of the current frame, preceded
+     * by a synthesized stream header when a new {@link ObjectInputStream} is created.
+     */
+    private static class PayloadInputStream extends InputStream
+    {
+        /**
+         * The payload bytes (reused between frames).
+         */
+        private byte[] bytes = new byte[FrameBuffer.DEFAULT_CAPACITY];
+
+        /**
+         * The length of the current payload.
+         */
+        private int length;
+
+        /**
+         * The position of the next byte to read.
+         */
+        private int position;
+
+        /**
+         * The number of stream header bytes consumed (the header is available
+         * while this is less than the header size).
+         */
+        private int prefix = STREAM_HEADER.length;
+
+
+        /**
+         * Fills the payload from the specified {@link InputStream}.
+         *
+         * @param inputStream  the {@link InputStream}
+         * @param length       the number of bytes to read
+         *
+         * @throws IOException  should the {@link InputStream} end prematurely
+         */
+        void fill(InputStream inputStream,
+                  int         length) throws IOException
+        {
+            if (length > bytes.length || bytes.length > FrameBuffer.MAXIMUM_RETAINED_CAPACITY)
+            {
+                bytes = new byte[Math.max(length, FrameBuffer.DEFAULT_CAPACITY)];
+            }
+
+            int read = inputStream.readNBytes(bytes, 0, length);
+
+            if (read < length)
+            {
+                throw new EOFException("End of stream reached while reading a frame payload");
+            }
+
+            this.length   = length;
+            this.position = 0;
+        }
+
+
+        /**
+         * Fills the payload from the specified {@link ByteBuffer}.
+         *
+         * @param buffer  the {@link ByteBuffer}
+         * @param length  the number of bytes to get
+         */
+        void fill(ByteBuffer buffer,
+                  int        length)
+        {
+            if (length > bytes.length || bytes.length > FrameBuffer.MAXIMUM_RETAINED_CAPACITY)
+            {
+                bytes = new byte[Math.max(length, FrameBuffer.DEFAULT_CAPACITY)];
+            }
+
+            buffer.get(bytes, 0, length);
+
+            this.length   = length;
+            this.position = 0;
+        }
+
+
+        /**
+         * Obtains the number of bytes remaining in the payload.
+         *
+         * @return the number of remaining bytes
+         */
+        int remaining()
+        {
+            return (STREAM_HEADER.length - prefix) + (length - position);
+        }
+
+
+        @Override
+        public int read()
+        {
+            if (prefix < STREAM_HEADER.length)
+            {
+                return STREAM_HEADER[prefix++] & 0xFF;
+            }
+
+            return position < length ? bytes[position++] & 0xFF : -1;
+        }
+
+
+        @Override
+        public int read(byte[] buffer,
+                        int    offset,
+                        int    count)
+        {
+            if (count == 0)
+            {
+                return 0;
+            }
+
+            int read = 0;
+
+            while (prefix < STREAM_HEADER.length && read < count)
+            {
+                buffer[offset + read++] = STREAM_HEADER[prefix++];
+            }
+
+            int available = Math.min(count - read, length - position);
+
+            if (available > 0)
+            {
+                System.arraycopy(bytes, position, buffer, offset + read, available);
+
+                position += available;
+                read     += available;
+            }
+
+            return read == 0 ? -1 : read;
+        }
+
+
+        @Override
+        public int available()
+        {
+            return remaining();
+        }
+    }
+}
@@ -26,6 +26,7 @@
 package com.oracle.bedrock.runtime.concurrent;
 
 import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 
 import java.io.IOException;
 import java.io.PipedInputStream;
@@ -56,4 +57,23 @@ public class PipeBasedRemoteChannel extends AbstractRemoteChannel
     {
         super(outputStream, inputStream);
     }
+
+
+    /**
+     * Create a {@link PipeBasedRemoteChannel} using the specified
+     * {@link PipedInputStream} and {@link PipedOutputStream}s.
+     *
+     * @param outputStream    the {@link PipedOutputStream}
+     * @param inputStream     the {@link PipedInputStream}
+     * @param virtualThreads  the {@link VirtualThreads} for the dedicated threads of the channel
+     *                        (<code>null</code> to use {@link VirtualThreads#autoDetect()})
+     *
+     * @throws IOException  when it's not possible to use the respective pipes
+     */
+    public PipeBasedRemoteChannel(PipedOutputStream outputStream,
+                                  PipedInputStream  inputStream,
+                                  VirtualThreads    virtualThreads) throws IOException
+    {
+        super(outputStream, inputStream, null, null, null, virtualThreads);
+    }
 }
@@ -40,6 +40,9 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -102,6 +105,56 @@ public interface RemoteChannel extends Closeable
                                     Option...         options) throws IllegalStateException;
 
 
+    /**
+     * Submits a batch of {@link RemoteCallable}s for asynchronous execution by the
+     * {@link RemoteChannel}, returning a {@link CompletableFuture} for each of the
+     * {@link RemoteCallable}s, in the order they were provided.
+     * <p>
+     * Where possible the {@link RemoteCallable}s are sent together, using a single
+     * write and flush, instead of individually.  The provided {@link Option}s apply to
+     * each of the {@link RemoteCallable}s.
+     *
+     * @param callables  the {@link RemoteCallable}s to be executed
+     * @param options    the {@link Option}s for the {@link RemoteCallable}s
+     * @param <T>        the return type of the {@link RemoteCallable}s
+     *
+     * @return  a {@link List} of {@link CompletableFuture}s that will be completed with the
+     *          results of the corresponding {@link RemoteCallable} executions
+     *
+     * @throws IllegalStateException     if the {@link RemoteChannel} is closed or
+     *                                   is unable to accept the submission
+     * @throws IllegalArgumentException  if a {@link RemoteCallable} isn't serializable, is anonymous
+     *                                   or a non-static inner class
+     */
+    default <T> List<CompletableFuture<T>> submitAll(Collection<? extends RemoteCallable<T>> callables,
+                                                     Option...                               options)
+                                                         throws IllegalStateException
+    {
+        List<CompletableFuture<T>> futures = new ArrayList<>(callables.size());
+
+        for (RemoteCallable<T> callable : callables)
+        {
+            futures.add(submit(callable, options));
+        }
+
+        return futures;
+    }
+
+
+    /**
+     * Obtains the {@link RemoteChannelMetrics} for the {@link RemoteChannel}, including the
+     * counts and latencies of operations, the number of bytes sent and received and the
+     * depths of its queues.
+     *
+     * @return the {@link RemoteChannelMetrics} or <code>null</code> if the {@link RemoteChannel}
+     *         doesn't record metrics
+     */
+    default RemoteChannelMetrics getMetrics()
+    {
+        return null;
+    }
+
+
     /**
      * Submits a {@link RemoteRunnable} for asynchronous execution by the
      * {@link RemoteChannel}.
@@ -0,0 +1,704 @@
+/*
+ * File: RemoteChannelMetrics.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The metrics of one or more {@link AbstractRemoteChannel}s, including the counts and
+ * latencies of operations by type, the time to serialize operations, the size of operations
+ * and the number of bytes sent and received, together with the current number of pending
+ * operations and the depths of the outbound and executor queues.
+ * <p>
+ * The latency of a received CALLABLE, RUNNABLE or EVENT operation is the time from when it's
+ * received until it's executed.  The latency of a RESPONSE is the time from when the
+ * {@link RemoteCallable} it responds to was submitted, until the response was received.
+ * <p>
+ * Recording metrics doesn't allocate, as counts use {@link LongAdder}s and latencies and sizes
+ * are recorded in {@link Histogram}s with fixed (power of two) buckets.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RemoteChannelMetrics implements RemoteChannelMetricsMXBean
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(RemoteChannelMetrics.class.getName());
+
+    /**
+     * The maximum number of operation types (opcodes) for which metrics are recorded.
+     */
+    private static final int MAXIMUM_OPERATION_TYPES = 16;
+
+    /**
+     * The source of unique identifiers for registered {@link RemoteChannelMetrics}.
+     */
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    /**
+     * The names of the operation types, indexed by opcode.
+     */
+    private final String[] operationTypes;
+
+    /**
+     * The number of operations sent, indexed by opcode.
+     */
+    private final LongAdder[] sentCounts;
+
+    /**
+     * The number of operations received, indexed by opcode.
+     */
+    private final LongAdder[] receivedCounts;
+
+    /**
+     * The latencies (in nanoseconds) of operations, indexed by opcode.
+     */
+    private final Histogram[] latencies;
+
+    /**
+     * The time (in nanoseconds) to serialize operations.
+     */
+    private final Histogram serializationTimes;
+
+    /**
+     * The size (in bytes) of operations sent and received.
+     */
+    private final Histogram frameSizes;
+
+    /**
+     * The number of bytes sent.
+     */
+    private final LongAdder bytesSent;
+
+    /**
+     * The number of bytes received.
+     */
+    private final LongAdder bytesReceived;
+
+    /**
+     * The open {@link AbstractRemoteChannel}s recording these metrics.
+     */
+    private final CopyOnWriteArrayList<AbstractRemoteChannel> channels;
+
+    /**
+     * The {@link ObjectName} of these metrics when registered as an MBean.
+     */
+    private volatile ObjectName objectName;
+
+
+    /**
+     * Constructs a {@link RemoteChannelMetrics}.
+     */
+    public RemoteChannelMetrics()
+    {
+        this.operationTypes     = new String[MAXIMUM_OPERATION_TYPES];
+        this.sentCounts         = new LongAdder[MAXIMUM_OPERATION_TYPES];
+        this.receivedCounts     = new LongAdder[MAXIMUM_OPERATION_TYPES];
+        this.latencies          = new Histogram[MAXIMUM_OPERATION_TYPES];
+        this.serializationTimes = new Histogram();
+        this.frameSizes         = new Histogram();
+        this.bytesSent          = new LongAdder();
+        this.bytesReceived      = new LongAdder();
+        this.channels           = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < MAXIMUM_OPERATION_TYPES; i++)
+        {
+            sentCounts[i]     = new LongAdder();
+            receivedCounts[i] = new LongAdder();
+            latencies[i]      = new Histogram();
+        }
+    }
+
+
+    /**
+     * Defines the name of the operation type with the specified opcode.
+     *
+     * @param opcode         the opcode
+     * @param operationType  the operation type
+     */
+    void defineOperationType(int    opcode,
+                             String operationType)
+    {
+        if (opcode >= 0 && opcode < MAXIMUM_OPERATION_TYPES)
+        {
+            operationTypes[opcode] = operationType;
+        }
+    }
+
+
+    /**
+     * Starts including the gauges of an {@link AbstractRemoteChannel} in these metrics.
+     *
+     * @param channel  the {@link AbstractRemoteChannel}
+     */
+    void attach(AbstractRemoteChannel channel)
+    {
+        channels.addIfAbsent(channel);
+    }
+
+
+    /**
+     * Stops including the gauges of an {@link AbstractRemoteChannel} in these metrics.
+     *
+     * @param channel  the {@link AbstractRemoteChannel}
+     */
+    void detach(AbstractRemoteChannel channel)
+    {
+        channels.remove(channel);
+    }
+
+
+    /**
+     * Records that an operation was sent.
+     *
+     * @param opcode             the opcode of the operation
+     * @param size               the size of the operation (in bytes)
+     * @param serializationTime  the time (in nanoseconds) taken to serialize the operation
+     */
+    void onSent(int  opcode,
+                int  size,
+                long serializationTime)
+    {
+        if (opcode >= 0 && opcode < MAXIMUM_OPERATION_TYPES)
+        {
+            sentCounts[opcode].increment();
+        }
+
+        serializationTimes.record(serializationTime);
+        frameSizes.record(size);
+        bytesSent.add(size);
+    }
+
+
+    /**
+     * Records that an operation was received.
+     *
+     * @param opcode  the opcode of the operation
+     * @param size    the size of the operation (in bytes)
+     */
+    void onReceived(int opcode,
+                    int size)
+    {
+        if (opcode >= 0 && opcode < MAXIMUM_OPERATION_TYPES)
+        {
+            receivedCounts[opcode].increment();
+        }
+
+        frameSizes.record(size);
+        bytesReceived.add(size);
+    }
+
+
+    /**
+     * Records the latency of an operation.
+     *
+     * @param opcode   the opcode of the operation
+     * @param latency  the latency (in nanoseconds)
+     */
+    void onLatency(int  opcode,
+                   long latency)
+    {
+        if (opcode >= 0 && opcode < MAXIMUM_OPERATION_TYPES)
+        {
+            latencies[opcode].record(latency);
+        }
+    }
+
+
+    /**
+     * Obtains the number of operations of the specified type that have been sent.
+     *
+     * @param operationType  the operation type (for example "CALLABLE")
+     *
+     * @return the number of operations sent
+     */
+    public long getSentCount(String operationType)
+    {
+        int opcode = indexOf(operationType);
+
+        return opcode < 0 ? 0 : sentCounts[opcode].sum();
+    }
+
+
+    /**
+     * Obtains the number of operations of the specified type that have been received.
+     *
+     * @param operationType  the operation type (for example "CALLABLE")
+     *
+     * @return the number of operations received
+     */
+    public long getReceivedCount(String operationType)
+    {
+        int opcode = indexOf(operationType);
+
+        return opcode < 0 ? 0 : receivedCounts[opcode].sum();
+    }
+
+
+    /**
+     * Obtains the {@link Histogram} of the latencies (in nanoseconds) of operations of the specified type.
+     *
+     * @param operationType  the operation type (for example "RESPONSE")
+     *
+     * @return the {@link Histogram} or <code>null</code> if the operation type is unknown
+     */
+    public Histogram getLatency(String operationType)
+    {
+        int opcode = indexOf(operationType);
+
+        return opcode < 0 ? null : latencies[opcode];
+    }
+
+
+    /**
+     * Obtains the {@link Histogram} of the times (in nanoseconds) taken to serialize operations.
+     *
+     * @return the {@link Histogram}
+     */
+    public Histogram getSerializationTime()
+    {
+        return serializationTimes;
+    }
+
+
+    /**
+     * Obtains the {@link Histogram} of the sizes (in bytes) of the operations sent and received.
+     *
+     * @return the {@link Histogram}
+     */
+    public Histogram getFrameSizes()
+    {
+        return frameSizes;
+    }
+
+
+    @Override
+    public Map<String, Long> getSentCounts()
+    {
+        return collect(sentCounts, LongAdder::sum);
+    }
+
+
+    @Override
+    public Map<String, Long> getReceivedCounts()
+    {
+        return collect(receivedCounts, LongAdder::sum);
+    }
+
+
+    @Override
+    public Map<String, Double> getMeanLatencyMicros()
+    {
+        return collect(latencies, histogram -> histogram.getMean() / 1000.0);
+    }
+
+
+    @Override
+    public Map<String, Long> getP99LatencyMicros()
+    {
+        return collect(latencies, histogram -> TimeUnit.NANOSECONDS.toMicros(histogram.getPercentile(99.0)));
+    }
+
+
+    @Override
+    public double getMeanSerializationMicros()
+    {
+        return serializationTimes.getMean() / 1000.0;
+    }
+
+
+    @Override
+    public long getP99SerializationMicros()
+    {
+        return TimeUnit.NANOSECONDS.toMicros(serializationTimes.getPercentile(99.0));
+    }
+
+
+    @Override
+    public double getMeanFrameSize()
+    {
+        return frameSizes.getMean();
+    }
+
+
+    @Override
+    public long getMaximumFrameSize()
+    {
+        return frameSizes.getMaximum();
+    }
+
+
+    @Override
+    public long getBytesSent()
+    {
+        return bytesSent.sum();
+    }
+
+
+    @Override
+    public long getBytesReceived()
+    {
+        return bytesReceived.sum();
+    }
+
+
+    @Override
+    public int getPendingOperations()
+    {
+        return sum(AbstractRemoteChannel::getPendingOperationCount);
+    }
+
+
+    @Override
+    public int getOutboundQueueDepth()
+    {
+        return sum(AbstractRemoteChannel::getOutboundQueueDepth);
+    }
+
+
+    @Override
+    public int getExecutorQueueDepth()
+    {
+        return sum(AbstractRemoteChannel::getExecutorQueueDepth);
+    }
+
+
+    /**
+     * Registers these metrics as an MBean with the platform {@link MBeanServer}, using the
+     * name <code>com.oracle.bedrock:type=RemoteChannel,name=[name],id=[id]</code>.
+     * <p>
+     * Failing to register the metrics is logged, but otherwise ignored.
+     *
+     * @param name  the name (typically of the application)
+     *
+     * @return the {@link ObjectName} or <code>null</code> if the metrics couldn't be registered
+     */
+    public synchronized ObjectName register(String name)
+    {
+        unregister();
+
+        try
+        {
+            ObjectName candidate = new ObjectName("com.oracle.bedrock:type=RemoteChannel,name="
+                                                  + ObjectName.quote(name == null ? "" : name) + ",id="
+                                                  + NEXT_ID.incrementAndGet());
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+
+            objectName = candidate;
+        }
+        catch (JMException | RuntimeException e)
+        {
+            LOGGER.log(Level.FINE, "Failed to register the RemoteChannelMetrics MBean for " + name, e);
+        }
+
+        return objectName;
+    }
+
+
+    /**
+     * Unregisters these metrics from the platform {@link MBeanServer} (when registered).
+     */
+    public synchronized void unregister()
+    {
+        if (objectName != null)
+        {
+            try
+            {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            }
+            catch (JMException | RuntimeException e)
+            {
+                LOGGER.log(Level.FINE, "Failed to unregister the RemoteChannelMetrics MBean " + objectName, e);
+            }
+
+            objectName = null;
+        }
+    }
+
+
+    /**
+     * Obtains the {@link ObjectName} of these metrics when registered as an MBean.
+     *
+     * @return the {@link ObjectName} or <code>null</code> if not registered
+     */
+    public ObjectName getObjectName()
+    {
+        return objectName;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "RemoteChannelMetrics{sent=" + getSentCounts() + ", received=" + getReceivedCounts()
+               + ", meanLatencyMicros=" + getMeanLatencyMicros() + ", bytesSent=" + getBytesSent()
+               + ", bytesReceived=" + getBytesReceived() + ", pending=" + getPendingOperations() + "}";
+    }
+
+
+    /**
+     * Determines the opcode of an operation type.
+     *
+     * @param operationType  the operation type
+     *
+     * @return the opcode or <code>-1</code> if the operation type is unknown
+     */
+    private int indexOf(String operationType)
+    {
+        for (int i = 0; i < MAXIMUM_OPERATION_TYPES; i++)
+        {
+            if (operationTypes[i] != null && operationTypes[i].equals(operationType))
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Collects a value for each defined operation type.
+     *
+     * @param values     the values, indexed by opcode
+     * @param extractor  the {@link Function} to extract the reported value
+     * @param <V>        the type of the values
+     * @param <R>        the type of the reported values
+     *
+     * @return a {@link Map} of the reported values, by operation type
+     */
+    private <V, R> Map<String, R> collect(V[]                      values,
+                                          Function<? super V, R> extractor)
+    {
+        LinkedHashMap<String, R> map = new LinkedHashMap<>();
+
+        for (int i = 0; i < MAXIMUM_OPERATION_TYPES; i++)
+        {
+            if (operationTypes[i] != null)
+            {
+                map.put(operationTypes[i], extractor.apply(values[i]));
+            }
+        }
+
+        return map;
+    }
+
+
+    /**
+     * Sums a gauge over the attached {@link AbstractRemoteChannel}s.
+     *
+     * @param gauge  the gauge
+     *
+     * @return the sum
+     */
+    private int sum(ToIntFunction<AbstractRemoteChannel> gauge)
+    {
+        int sum = 0;
+
+        for (AbstractRemoteChannel channel : channels)
+        {
+            sum += gauge.applyAsInt(channel);
+        }
+
+        return sum;
+    }
+
+
+    /**
+     * A concurrent histogram of non-negative values, recorded (without allocation) into
+     * fixed buckets, where bucket <i>n</i> counts values less than 2<sup><i>n</i></sup>
+     * and at least 2<sup><i>n</i>-1</sup>.
+     */
+    public static class Histogram
+    {
+        /**
+         * The number of buckets (one for zero and one for each bit of a long).
+         */
+        private static final int BUCKETS = 65;
+
+        /**
+         * The number of values recorded in each bucket.
+         */
+        private final AtomicLongArray buckets;
+
+        /**
+         * The number of values recorded.
+         */
+        private final LongAdder count;
+
+        /**
+         * The sum of the values recorded.
+         */
+        private final LongAdder total;
+
+        /**
+         * The maximum value recorded.
+         */
+        private final AtomicLong maximum;
+
+
+        /**
+         * Constructs an empty {@link Histogram}.
+         */
+        public Histogram()
+        {
+            this.buckets = new AtomicLongArray(BUCKETS);
+            this.count   = new LongAdder();
+            this.total   = new LongAdder();
+            this.maximum = new AtomicLong();
+        }
+
+
+        /**
+         * Records a value (negative values are recorded as zero).
+         *
+         * @param value  the value
+         */
+        public void record(long value)
+        {
+            long recorded = Math.max(0, value);
+
+            buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(recorded));
+            count.increment();
+            total.add(recorded);
+
+            long current = maximum.get();
+
+            while (recorded > current && !maximum.compareAndSet(current, recorded))
+            {
+                current = maximum.get();
+            }
+        }
+
+
+        /**
+         * Obtains the number of values recorded.
+         *
+         * @return the number of values
+         */
+        public long getCount()
+        {
+            return count.sum();
+        }
+
+
+        /**
+         * Obtains the sum of the values recorded.
+         *
+         * @return the sum
+         */
+        public long getTotal()
+        {
+            return total.sum();
+        }
+
+
+        /**
+         * Obtains the maximum value recorded.
+         *
+         * @return the maximum value (zero if none have been recorded)
+         */
+        public long getMaximum()
+        {
+            return maximum.get();
+        }
+
+
+        /**
+         * Obtains the mean of the values recorded.
+         *
+         * @return the mean (zero if none have been recorded)
+         */
+        public double getMean()
+        {
+            long n = count.sum();
+
+            return n == 0 ? 0.0 : (double) total.sum() / n;
+        }
+
+
+        /**
+         * Obtains an upper bound for the specified percentile of the values recorded,
+         * being the upper bound of the bucket containing the percentile (limited to
+         * the maximum value recorded).
+         *
+         * @param percentile  the percentile (between 0 and 100)
+         *
+         * @return the upper bound of the percentile (zero if none have been recorded)
+         */
+        public long getPercentile(double percentile)
+        {
+            long recorded = 0;
+
+            for (int i = 0; i < BUCKETS; i++)
+            {
+                recorded += buckets.get(i);
+            }
+
+            long target     = (long) Math.ceil(recorded * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+            long cumulative = 0;
+
+            for (int i = 0; i < BUCKETS && recorded > 0; i++)
+            {
+                cumulative += buckets.get(i);
+
+                if (cumulative >= Math.max(1, target))
+                {
+                    long upperBound = i == 0 ? 0 : i == 64 ? Long.MAX_VALUE : (1L << i) - 1;
+
+                    return Math.min(upperBound, getMaximum());
+                }
+            }
+
+            return 0;
+        }
+
+
+        @Override
+        public String toString()
+        {
+            return "Histogram{count=" + getCount() + ", mean=" + getMean() + ", p99=" + getPercentile(99.0)
+                   + ", maximum=" + getMaximum() + "}";
+        }
+    }
+}
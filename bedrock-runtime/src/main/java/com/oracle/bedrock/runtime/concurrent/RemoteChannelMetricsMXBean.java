@@ -0,0 +1,141 @@
+/*
+ * File: RemoteChannelMetricsMXBean.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link RemoteChannelMetrics}, registered by launchers for the
+ * {@link RemoteChannel}s of the applications they launch.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public interface RemoteChannelMetricsMXBean
+{
+    /**
+     * Obtains the number of operations sent, by operation type.
+     *
+     * @return the number of operations sent
+     */
+    Map<String, Long> getSentCounts();
+
+
+    /**
+     * Obtains the number of operations received, by operation type.
+     *
+     * @return the number of operations received
+     */
+    Map<String, Long> getReceivedCounts();
+
+
+    /**
+     * Obtains the mean latency of operations (in microseconds), by operation type.
+     *
+     * @return the mean latencies
+     */
+    Map<String, Double> getMeanLatencyMicros();
+
+
+    /**
+     * Obtains the 99th percentile latency of operations (in microseconds), by operation type.
+     *
+     * @return the 99th percentile latencies
+     */
+    Map<String, Long> getP99LatencyMicros();
+
+
+    /**
+     * Obtains the mean time (in microseconds) to serialize an operation.
+     *
+     * @return the mean serialization time
+     */
+    double getMeanSerializationMicros();
+
+
+    /**
+     * Obtains the 99th percentile time (in microseconds) to serialize an operation.
+     *
+     * @return the 99th percentile serialization time
+     */
+    long getP99SerializationMicros();
+
+
+    /**
+     * Obtains the mean size (in bytes) of the operations sent and received.
+     *
+     * @return the mean size
+     */
+    double getMeanFrameSize();
+
+
+    /**
+     * Obtains the maximum size (in bytes) of the operations sent and received.
+     *
+     * @return the maximum size
+     */
+    long getMaximumFrameSize();
+
+
+    /**
+     * Obtains the number of bytes sent.
+     *
+     * @return the number of bytes sent
+     */
+    long getBytesSent();
+
+
+    /**
+     * Obtains the number of bytes received.
+     *
+     * @return the number of bytes received
+     */
+    long getBytesReceived();
+
+
+    /**
+     * Obtains the number of operations waiting for responses.
+     *
+     * @return the number of pending operations
+     */
+    int getPendingOperations();
+
+
+    /**
+     * Obtains the number of operations waiting to be sent.
+     *
+     * @return the depth of the outbound queue
+     */
+    int getOutboundQueueDepth();
+
+
+    /**
+     * Obtains the number of received operations waiting to be executed.
+     *
+     * @return the depth of the executor queues
+     */
+    int getExecutorQueueDepth();
+}
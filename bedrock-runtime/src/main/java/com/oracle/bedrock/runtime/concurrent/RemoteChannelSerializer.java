@@ -1,6 +1,7 @@
 package com.oracle.bedrock.runtime.concurrent;
 
 import com.oracle.bedrock.Option;
+import com.oracle.bedrock.runtime.Settings;
 
 /**
  * A custom serializer to use for remote channels.
@@ -26,4 +27,50 @@ public interface RemoteChannelSerializer
      * @return the deserialized value
      */
     <T> T deserialize(byte[] bytes);
+
+    /**
+     * Obtains the {@link RemoteChannelSerializer} to use for a single {@link RemoteChannel}
+     * (when it's opened), allowing serializers to maintain per-channel state.
+     * <p>
+     * Values are serialized by a {@link RemoteChannel} in the order they are sent and
+     * deserialized in the order they are received.
+     *
+     * @param classLoader  the {@link ClassLoader} of the {@link RemoteChannel} for resolving classes
+     *
+     * @return the {@link RemoteChannelSerializer} for the {@link RemoteChannel}
+     *         (by default this {@link RemoteChannelSerializer})
+     */
+    default RemoteChannelSerializer forChannel(ClassLoader classLoader)
+        {
+        return this;
+        }
+
+    /**
+     * Obtains a new instance of the {@link RemoteChannelSerializer} class specified by the
+     * {@link Settings#CHANNEL_SERIALIZER} system property.
+     *
+     * @return the {@link RemoteChannelSerializer} or <code>null</code> if the property isn't defined
+     *
+     * @throws IllegalArgumentException when the {@link RemoteChannelSerializer} can't be created
+     */
+    static RemoteChannelSerializer fromSettings()
+        {
+        String serializerName = System.getProperty(Settings.CHANNEL_SERIALIZER);
+
+        if (serializerName == null || serializerName.trim().isEmpty())
+            {
+            return null;
+            }
+
+        try
+            {
+            Class<?> clz = Class.forName(serializerName.trim());
+
+            return (RemoteChannelSerializer) clz.getDeclaredConstructor().newInstance();
+            }
+        catch (Exception e)
+            {
+            throw new IllegalArgumentException("Failed to create the RemoteChannelSerializer " + serializerName, e);
+            }
+        }
     }
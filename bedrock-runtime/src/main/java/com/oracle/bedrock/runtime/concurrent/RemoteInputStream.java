@@ -0,0 +1,345 @@
+/*
+ * File: RemoteInputStream.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link InputStream} of the content streamed by a {@link RemoteChannel} as the result
+ * of a {@link RemoteCallable} that returned an {@link InputStream} or a {@link ReadableByteChannel}.
+ * <p>
+ * The content is sent in chunks, interleaved with other traffic on the {@link RemoteChannel},
+ * meaning large results don't need to be serialized (or held in memory) in their entirety.
+ * Streaming is flow controlled, with a credit returned to the sender as each chunk is read,
+ * so only a bounded number of chunks are ever retained by the {@link RemoteInputStream}.
+ * Closing the {@link RemoteInputStream} before reaching the end of the content cancels streaming.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RemoteInputStream extends InputStream
+{
+    /**
+     * The size of the chunks in which content is streamed.
+     */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * The credits reported to cancel streaming.
+     */
+    static final int CANCEL = -1;
+
+    /**
+     * The {@link IntConsumer} to report credits for the chunks that have been read,
+     * or {@link #CANCEL} when streaming is cancelled.
+     */
+    private final IntConsumer creditor;
+
+    /**
+     * The chunks received but not yet read.
+     */
+    private final ArrayDeque<byte[]> chunks;
+
+    /**
+     * The chunk currently being read (<code>null</code> when there isn't one).
+     */
+    private byte[] chunk;
+
+    /**
+     * The position of the next byte to read from the current chunk.
+     */
+    private int position;
+
+    /**
+     * Has the last chunk been received?
+     */
+    private boolean isComplete;
+
+    /**
+     * Has the {@link RemoteInputStream} been claimed by the response for the streamed result?
+     */
+    private boolean isClaimed;
+
+    /**
+     * Has the {@link RemoteInputStream} been closed?
+     */
+    private boolean isClosed;
+
+    /**
+     * The reason streaming failed (<code>null</code> when it hasn't).
+     */
+    private IOException failure;
+
+
+    /**
+     * Constructs a {@link RemoteInputStream}.
+     *
+     * @param creditor  the {@link IntConsumer} to report credits for the chunks that have been read,
+     *                  or {@link #CANCEL} when streaming is cancelled
+     */
+    RemoteInputStream(IntConsumer creditor)
+    {
+        this.chunks   = new ArrayDeque<>();
+        this.creditor = creditor;
+    }
+
+
+    /**
+     * Adds a received chunk of content.
+     *
+     * @param bytes  the chunk
+     */
+    synchronized void offer(byte[] bytes)
+    {
+        if (!isClosed && bytes.length > 0)
+        {
+            chunks.add(bytes);
+            notifyAll();
+        }
+    }
+
+
+    /**
+     * Signals that the response for the streamed result has been received, which may be
+     * before or after the chunks of content have been received.
+     *
+     * @return <code>true</code> if all of the content has already been received
+     */
+    synchronized boolean claim()
+    {
+        isClaimed = true;
+
+        return isComplete;
+    }
+
+
+    /**
+     * Signals that all of the content has been received.
+     *
+     * @return <code>true</code> if the response for the streamed result has already been received
+     */
+    synchronized boolean complete()
+    {
+        isComplete = true;
+        notifyAll();
+
+        return isClaimed;
+    }
+
+
+    /**
+     * Signals that streaming failed, after which reading will throw an {@link IOException}.
+     *
+     * @param failure  the reason streaming failed
+     *
+     * @return <code>true</code> if the response for the streamed result has already been received
+     */
+    synchronized boolean fail(IOException failure)
+    {
+        if (!isComplete)
+        {
+            this.failure    = failure;
+            this.isComplete = true;
+            notifyAll();
+        }
+
+        return isClaimed;
+    }
+
+
+    /**
+     * Waits for a chunk with unread content to become available.
+     *
+     * @return <code>true</code> if there's a chunk to read, <code>false</code> at the end of the stream
+     *
+     * @throws IOException when streaming failed, the stream is closed or the wait is interrupted
+     */
+    private boolean awaitChunk() throws IOException
+    {
+        while (chunk == null || position == chunk.length)
+        {
+            if (isClosed)
+            {
+                throw new IOException("RemoteInputStream is closed");
+            }
+
+            chunk    = chunks.poll();
+            position = 0;
+
+            if (chunk != null)
+            {
+                // allow the sender to send another chunk
+                creditor.accept(1);
+            }
+            else
+            {
+                if (isComplete)
+                {
+                    if (failure != null)
+                    {
+                        throw new IOException("Failed to stream the remote content", failure);
+                    }
+
+                    return false;
+                }
+
+                try
+                {
+                    wait();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+
+                    throw new InterruptedIOException("Interrupted while waiting for remote content");
+                }
+            }
+        }
+
+        return true;
+    }
+
+
+    @Override
+    public synchronized int read() throws IOException
+    {
+        return awaitChunk() ? chunk[position++] & 0xFF : -1;
+    }
+
+
+    @Override
+    public synchronized int read(byte[] buffer,
+                                 int    offset,
+                                 int    length) throws IOException
+    {
+        if (length == 0)
+        {
+            return 0;
+        }
+
+        if (!awaitChunk())
+        {
+            return -1;
+        }
+
+        int count = Math.min(length, chunk.length - position);
+
+        System.arraycopy(chunk, position, buffer, offset, count);
+
+        position += count;
+
+        return count;
+    }
+
+
+    @Override
+    public synchronized int available()
+    {
+        int available = chunk == null ? 0 : chunk.length - position;
+
+        for (byte[] bytes : chunks)
+        {
+            available += bytes.length;
+        }
+
+        return available;
+    }
+
+
+    @Override
+    public synchronized void close()
+    {
+        // stop the sender when there's content yet to be received
+        if (!isClosed && !isComplete)
+        {
+            creditor.accept(CANCEL);
+        }
+
+        // discard the retained (and any further) content
+        isClosed = true;
+        chunk    = null;
+
+        chunks.clear();
+        notifyAll();
+    }
+
+
+    /**
+     * Obtains a {@link ReadableByteChannel} for reading the content of the {@link RemoteInputStream}.
+     *
+     * @return a {@link ReadableByteChannel}
+     */
+    public ReadableByteChannel getChannel()
+    {
+        return Channels.newChannel(this);
+    }
+
+
+    /**
+     * Transfers the remaining content of the {@link RemoteInputStream} to the specified file
+     * (replacing any existing file) using {@link FileChannel#transferFrom(ReadableByteChannel, long, long)},
+     * after which the {@link RemoteInputStream} is closed.
+     *
+     * @param path  the {@link Path} of the file
+     *
+     * @return the number of bytes transferred
+     *
+     * @throws IOException when the content can't be streamed or the file can't be written
+     */
+    public long transferTo(Path path) throws IOException
+    {
+        try (FileChannel fileChannel = FileChannel.open(path,
+                                                        StandardOpenOption.CREATE,
+                                                        StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ReadableByteChannel channel = getChannel();
+            long                total   = 0;
+            long                count;
+
+            // the channel blocks until content is available, so nothing transferred means the end
+            while ((count = fileChannel.transferFrom(channel, total, CHUNK_SIZE)) > 0)
+            {
+                total += count;
+            }
+
+            return total;
+        }
+        finally
+        {
+            close();
+        }
+    }
+}
@@ -0,0 +1,584 @@
+/*
+ * File: ResultCache.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import com.oracle.bedrock.runtime.concurrent.options.Caching;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded cache of the results of {@link RemoteCallable}s submitted to a {@link RemoteChannel}
+ * with {@link Caching} enabled.
+ * <p>
+ * Results are cached until they expire, or until the cache exceeds either its maximum size or
+ * the maximum total weight of its results (as determined by a weigher), in which case the
+ * results that expire soonest are evicted first.  Results weighing more than the maximum
+ * weight aren't cached.  Concurrent submissions of
+ * equal {@link RemoteCallable}s share the result of the first submission while it's in flight,
+ * so only it is sent.  Failed submissions aren't cached.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ResultCache
+{
+    /**
+     * The default maximum number of cached results.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * The default maximum total weight of cached results (approximately bytes, using {@link #weigh(Object)}).
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+
+    /**
+     * The approximate weight of an object whose content isn't otherwise weighed.
+     */
+    private static final long OBJECT_WEIGHT = 16;
+
+    /**
+     * The depth to which the elements of arrays, {@link Collection}s and {@link Map}s are weighed.
+     */
+    private static final int MAXIMUM_WEIGH_DEPTH = 4;
+
+    /**
+     * The maximum number of cached results.
+     */
+    private final int maximumSize;
+
+    /**
+     * The maximum total weight of cached results.
+     */
+    private final long maximumWeight;
+
+    /**
+     * The function determining the weight of a result.
+     */
+    private final ToLongFunction<Object> weigher;
+
+    /**
+     * The total weight of the cached (completed) results.
+     */
+    private long weight;
+
+    /**
+     * The {@link Entry}s (both in flight and completed), indexed by {@link Callable}.
+     */
+    private final HashMap<Callable<?>, Entry> entries;
+
+    /**
+     * The completed {@link Entry}s, ordered by the time they expire.
+     */
+    private final TreeSet<Entry> expiries;
+
+    /**
+     * The next {@link Entry} identifier (to order {@link Entry}s expiring at the same time).
+     */
+    private long nextId;
+
+    /**
+     * The number of submissions satisfied by cached (or in flight) results.
+     */
+    private long hitCount;
+
+    /**
+     * The number of submissions not satisfied by cached results.
+     */
+    private long missCount;
+
+    /**
+     * The number of results removed because they expired or the cache was full.
+     */
+    private long evictionCount;
+
+
+    /**
+     * Constructs a {@link ResultCache} with the {@link #DEFAULT_MAXIMUM_WEIGHT}, weighing results
+     * using {@link #weigh(Object)}.
+     *
+     * @param maximumSize  the maximum number of cached results
+     */
+    public ResultCache(int maximumSize)
+    {
+        this(maximumSize, DEFAULT_MAXIMUM_WEIGHT, ResultCache::weigh);
+    }
+
+
+    /**
+     * Constructs a {@link ResultCache}.
+     *
+     * @param maximumSize    the maximum number of cached results
+     * @param maximumWeight  the maximum total weight of cached results
+     * @param weigher        the function determining the weight of a result
+     */
+    public ResultCache(int                    maximumSize,
+                       long                   maximumWeight,
+                       ToLongFunction<Object> weigher)
+    {
+        this.maximumSize   = Math.max(1, maximumSize);
+        this.maximumWeight = Math.max(0, maximumWeight);
+        this.weigher       = weigher;
+        this.weight        = 0;
+        this.entries       = new HashMap<>();
+        this.expiries      = new TreeSet<>((x, y) -> x.expiresAt == y.expiresAt
+                                                     ? Long.compare(x.id, y.id)
+                                                     : Long.compare(x.expiresAt - y.expiresAt, 0));
+        this.nextId        = 0;
+    }
+
+
+    /**
+     * Obtains the unexpired (or in flight) result for a {@link Callable}, otherwise
+     * submits it using the provided {@link Supplier} and caches the result once it's
+     * successfully completed.
+     *
+     * @param callable      the {@link Callable}
+     * @param timeToLive    the time (in nanoseconds) for which a new result should be cached
+     * @param submitter     the {@link Supplier} that submits the {@link Callable}
+     * @param <T>           the type of result
+     *
+     * @return a {@link CompletableFuture} for the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> get(Callable<T>                     callable,
+                                        long                            timeToLive,
+                                        Supplier<CompletableFuture<T>> submitter)
+    {
+        Entry entry;
+
+        synchronized (this)
+        {
+            long now = System.nanoTime();
+
+            entry = entries.get(callable);
+
+            if (entry != null && entry.isCompleted && entry.expiresAt - now <= 0)
+            {
+                // the cached result has expired
+                remove(entry);
+
+                evictionCount++;
+
+                entry = null;
+            }
+
+            if (entry != null)
+            {
+                hitCount++;
+
+                return (CompletableFuture<T>) entry.result.copy();
+            }
+
+            missCount++;
+
+            entry = new Entry(callable, nextId++, timeToLive);
+
+            entries.put(callable, entry);
+        }
+
+        // submit the callable (outside of the lock, as sending may block)
+        CompletableFuture<T> future;
+
+        try
+        {
+            future = submitter.get();
+        }
+        catch (RuntimeException e)
+        {
+            remove(callable, entry);
+
+            throw e;
+        }
+
+        Entry submitted = entry;
+
+        future.whenComplete((result, throwable) -> {
+                                if (throwable == null)
+                                {
+                                    // weigh the result outside of the lock, as it may be large
+                                    onCompleted(submitted, Math.max(0, weigher.applyAsLong(result)));
+                                    submitted.result.complete(result);
+                                }
+                                else
+                                {
+                                    remove(callable, submitted);
+                                    submitted.result.completeExceptionally(throwable);
+                                }
+                            });
+
+        return future;
+    }
+
+
+    /**
+     * Removes the cached (or in flight) result for a {@link Callable}, so that it will
+     * be submitted again when requested.
+     *
+     * @param callable  the {@link Callable}
+     */
+    public synchronized void remove(Callable<?> callable)
+    {
+        Entry entry = entries.get(callable);
+
+        if (entry != null)
+        {
+            remove(entry);
+        }
+    }
+
+
+    /**
+     * Removes all of the cached results.
+     */
+    public synchronized void clear()
+    {
+        entries.clear();
+        expiries.clear();
+
+        weight = 0;
+    }
+
+
+    /**
+     * Obtains the number of cached (and in flight) results.
+     *
+     * @return the number of results
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+
+    /**
+     * Obtains the maximum number of cached results.
+     *
+     * @return the maximum number of results
+     */
+    public int getMaximumSize()
+    {
+        return maximumSize;
+    }
+
+
+    /**
+     * Obtains the total weight of the cached results.
+     *
+     * @return the total weight
+     */
+    public synchronized long getWeight()
+    {
+        return weight;
+    }
+
+
+    /**
+     * Obtains the maximum total weight of cached results.
+     *
+     * @return the maximum total weight
+     */
+    public long getMaximumWeight()
+    {
+        return maximumWeight;
+    }
+
+
+    /**
+     * Obtains the number of submissions satisfied by cached (or in flight) results.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHitCount()
+    {
+        return hitCount;
+    }
+
+
+    /**
+     * Obtains the number of submissions that weren't satisfied by cached results.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMissCount()
+    {
+        return missCount;
+    }
+
+
+    /**
+     * Obtains the number of results removed because they expired or the cache was full.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+
+    @Override
+    public synchronized String toString()
+    {
+        return "ResultCache{size=" + entries.size() + ", maximumSize=" + maximumSize + ", weight=" + weight
+               + ", maximumWeight=" + maximumWeight + ", hits=" + hitCount + ", misses=" + missCount
+               + ", evictions=" + evictionCount + "}";
+    }
+
+
+    /**
+     * Approximates the number of bytes of a result, being the length of {@link CharSequence}s and
+     * primitive arrays and the sum of the elements of arrays, {@link Collection}s and {@link Map}s
+     * (to a limited depth), with other objects having a small fixed weight.
+     *
+     * @param result  the result
+     *
+     * @return the approximate weight of the result
+     */
+    public static long weigh(Object result)
+    {
+        return weigh(result, 0);
+    }
+
+
+    /**
+     * Approximates the number of bytes of an object, at a depth within a result.
+     *
+     * @param object  the object
+     * @param depth   the depth of the object within the result
+     *
+     * @return the approximate weight of the object
+     */
+    private static long weigh(Object object,
+                              int    depth)
+    {
+        if (object == null)
+        {
+            return 0;
+        }
+        else if (object instanceof CharSequence)
+        {
+            return OBJECT_WEIGHT + 2L * ((CharSequence) object).length();
+        }
+        else if (object instanceof byte[])
+        {
+            return OBJECT_WEIGHT + ((byte[]) object).length;
+        }
+        else if (object.getClass().isArray() && object.getClass().getComponentType().isPrimitive())
+        {
+            return OBJECT_WEIGHT + 8L * Array.getLength(object);
+        }
+        else if (depth >= MAXIMUM_WEIGH_DEPTH)
+        {
+            return OBJECT_WEIGHT;
+        }
+        else if (object instanceof Object[])
+        {
+            long total = OBJECT_WEIGHT;
+
+            for (Object element : (Object[]) object)
+            {
+                total += weigh(element, depth + 1);
+            }
+
+            return total;
+        }
+        else if (object instanceof Collection)
+        {
+            long total = OBJECT_WEIGHT;
+
+            for (Object element : (Collection<?>) object)
+            {
+                total += weigh(element, depth + 1);
+            }
+
+            return total;
+        }
+        else if (object instanceof Map)
+        {
+            long total = OBJECT_WEIGHT;
+
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet())
+            {
+                total += weigh(entry.getKey(), depth + 1) + weigh(entry.getValue(), depth + 1);
+            }
+
+            return total;
+        }
+        else
+        {
+            return OBJECT_WEIGHT;
+        }
+    }
+
+
+    /**
+     * Records that the result for an {@link Entry} has been received, evicting the
+     * expired results and, when the cache is full or too heavy, those that expire soonest.
+     *
+     * @param entry        the {@link Entry}
+     * @param entryWeight  the weight of the result
+     */
+    private synchronized void onCompleted(Entry entry,
+                                          long  entryWeight)
+    {
+        if (entries.get(entry.callable) != entry)
+        {
+            // the entry was removed while it was in flight
+            return;
+        }
+
+        if (entryWeight > maximumWeight)
+        {
+            // the result is too heavy to cache at all
+            remove(entry);
+
+            evictionCount++;
+
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        entry.isCompleted = true;
+        entry.expiresAt   = now + entry.timeToLive;
+        entry.weight      = entryWeight;
+
+        expiries.add(entry);
+
+        weight += entryWeight;
+
+        while (!expiries.isEmpty()
+               && (expiries.first().expiresAt - now <= 0 || entries.size() > maximumSize || weight > maximumWeight))
+        {
+            remove(expiries.first());
+
+            evictionCount++;
+        }
+    }
+
+
+    /**
+     * Removes an {@link Entry} for a {@link Callable}, if it's still the current {@link Entry}.
+     *
+     * @param callable  the {@link Callable}
+     * @param entry     the {@link Entry}
+     */
+    private synchronized void remove(Callable<?> callable,
+                                     Entry       entry)
+    {
+        if (entries.get(callable) == entry)
+        {
+            remove(entry);
+        }
+    }
+
+
+    /**
+     * Removes an {@link Entry}.
+     *
+     * @param entry  the {@link Entry}
+     */
+    private void remove(Entry entry)
+    {
+        entries.remove(entry.callable);
+
+        if (entry.isCompleted)
+        {
+            expiries.remove(entry);
+
+            weight -= entry.weight;
+        }
+    }
+
+
+    /**
+     * A cached (or in flight) result.
+     */
+    private static class Entry
+    {
+        /**
+         * The {@link Callable} that produced the result.
+         */
+        private final Callable<?> callable;
+
+        /**
+         * The unique identifier of the {@link Entry}.
+         */
+        private final long id;
+
+        /**
+         * The time (in nanoseconds) for which the result is cached.
+         */
+        private final long timeToLive;
+
+        /**
+         * The result, shared by all submissions of the {@link Callable}.
+         */
+        private final CompletableFuture<Object> result;
+
+        /**
+         * Has the result been received?
+         */
+        private boolean isCompleted;
+
+        /**
+         * The {@link System#nanoTime()} when the result expires (once completed).
+         */
+        private long expiresAt;
+
+        /**
+         * The weight of the result (once completed).
+         */
+        private long weight;
+
+
+        /**
+         * Constructs an {@link Entry}.
+         *
+         * @param callable    the {@link Callable}
+         * @param id          the unique identifier
+         * @param timeToLive  the time (in nanoseconds) for which the result is cached
+         */
+        Entry(Callable<?> callable,
+              long        id,
+              long        timeToLive)
+        {
+            this.callable   = callable;
+            this.id         = id;
+            this.timeToLive = timeToLive;
+            this.result     = new CompletableFuture<>();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * File: SerialExecutorService.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import com.oracle.bedrock.annotations.Internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} that executes tasks one at a time,
+ * in the order they were submitted, using the threads of another (typically shared)
+ * {@link Executor}, instead of requiring a dedicated thread.
+ * <p>
+ * Shutting down a {@link SerialExecutorService} doesn't shutdown the underlying {@link Executor}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class SerialExecutorService extends AbstractExecutorService
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SerialExecutorService.class.getName());
+
+    /**
+     * The maximum number of tasks to execute before yielding the thread of the
+     * underlying {@link Executor} to other work.
+     */
+    private static final int MAXIMUM_TASKS_PER_DRAIN = 64;
+
+    /**
+     * The underlying {@link Executor}.
+     */
+    private final Executor executor;
+
+    /**
+     * The tasks waiting to be executed.
+     */
+    private final ArrayDeque<Runnable> tasks;
+
+    /**
+     * Is a drain of the tasks scheduled or running with the underlying {@link Executor}?
+     */
+    private boolean isDraining;
+
+    /**
+     * Has the {@link SerialExecutorService} been shutdown?
+     */
+    private boolean isShutdown;
+
+
+    /**
+     * Constructs a {@link SerialExecutorService}.
+     *
+     * @param executor  the underlying {@link Executor} to use for executing tasks
+     */
+    public SerialExecutorService(Executor executor)
+    {
+        this.executor   = executor;
+        this.tasks      = new ArrayDeque<>();
+        this.isDraining = false;
+        this.isShutdown = false;
+    }
+
+
+    @Override
+    public void execute(Runnable runnable)
+    {
+        synchronized (this)
+        {
+            if (isShutdown)
+            {
+                throw new RejectedExecutionException("SerialExecutorService has been shutdown");
+            }
+
+            tasks.add(runnable);
+
+            if (isDraining)
+            {
+                return;
+            }
+
+            isDraining = true;
+        }
+
+        schedule();
+    }
+
+
+    /**
+     * Schedules draining the tasks with the underlying {@link Executor}.
+     */
+    private void schedule()
+    {
+        try
+        {
+            executor.execute(this::drain);
+        }
+        catch (RejectedExecutionException e)
+        {
+            synchronized (this)
+            {
+                tasks.clear();
+                isDraining = false;
+                notifyAll();
+            }
+
+            throw e;
+        }
+    }
+
+
+    /**
+     * Executes the waiting tasks in order, re-scheduling itself after executing
+     * {@link #MAXIMUM_TASKS_PER_DRAIN} tasks so that other work isn't starved.
+     */
+    private void drain()
+    {
+        for (int count = 0; count < MAXIMUM_TASKS_PER_DRAIN; count++)
+        {
+            Runnable runnable;
+
+            synchronized (this)
+            {
+                runnable = tasks.poll();
+
+                if (runnable == null)
+                {
+                    isDraining = false;
+                    notifyAll();
+
+                    return;
+                }
+            }
+
+            try
+            {
+                runnable.run();
+            }
+            catch (Throwable throwable)
+            {
+                LOGGER.log(Level.WARNING, "Task failed while executing in sequence", throwable);
+            }
+        }
+
+        schedule();
+    }
+
+
+    @Override
+    public synchronized void shutdown()
+    {
+        isShutdown = true;
+    }
+
+
+    @Override
+    public synchronized List<Runnable> shutdownNow()
+    {
+        isShutdown = true;
+
+        List<Runnable> remaining = new ArrayList<>(tasks);
+
+        tasks.clear();
+
+        return remaining;
+    }
+
+
+    @Override
+    public synchronized boolean isShutdown()
+    {
+        return isShutdown;
+    }
+
+
+    @Override
+    public synchronized boolean isTerminated()
+    {
+        return isShutdown && !isDraining && tasks.isEmpty();
+    }
+
+
+    @Override
+    public synchronized boolean awaitTermination(long     timeout,
+                                                 TimeUnit unit) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        while (!isTerminated())
+        {
+            long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0)
+            {
+                return false;
+            }
+
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+
+        return true;
+    }
+}
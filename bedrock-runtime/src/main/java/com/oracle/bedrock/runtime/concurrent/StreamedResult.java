@@ -0,0 +1,67 @@
+/*
+ * File: StreamedResult.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * The response sent in place of an {@link InputStream} or {@link ReadableByteChannel} result of a
+ * {@link RemoteCallable}, indicating that the content of the result will follow in chunks.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+class StreamedResult implements Serializable
+{
+    /**
+     * Was the result a {@link ReadableByteChannel} (instead of an {@link InputStream})?
+     */
+    private final boolean isChannel;
+
+
+    /**
+     * Constructs a {@link StreamedResult}.
+     *
+     * @param isChannel  was the result a {@link ReadableByteChannel}
+     */
+    StreamedResult(boolean isChannel)
+    {
+        this.isChannel = isChannel;
+    }
+
+
+    /**
+     * Determines if the result was a {@link ReadableByteChannel} (instead of an {@link InputStream}).
+     *
+     * @return <code>true</code> if the result was a {@link ReadableByteChannel}
+     */
+    boolean isChannel()
+    {
+        return isChannel;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * File: ChannelProtocol.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.Settings;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+
+/**
+ * An {@link Option} to define the wire protocol a {@link RemoteChannel} would like
+ * to use for sending and receiving operations.
+ * <p>
+ * The protocol is negotiated when a {@link RemoteChannel} is opened.  The
+ * {@link #FRAMED} protocol is used when both ends of the {@link RemoteChannel} support it
+ * and at least one end requests it, otherwise the {@link #SERIALIZED} protocol is used,
+ * allowing {@link RemoteChannel}s from earlier releases to continue to work.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public enum ChannelProtocol implements Option
+{
+    /**
+     * Operations are sent as Java Serialization streams, each prefixed with the
+     * name of the operation type (the original protocol).
+     */
+    SERIALIZED,
+
+    /**
+     * Operations are sent as binary frames consisting of a one-byte opcode,
+     * a variable-length sequence number, a variable-length payload size and the
+     * payload, using buffers that are reused from frame to frame.
+     */
+    FRAMED;
+
+
+    /**
+     * Obtains the {@link ChannelProtocol} defined by the {@link Settings#CHANNEL_PROTOCOL}
+     * system property, defaulting to {@link #SERIALIZED} when the property isn't defined
+     * or isn't recognized.
+     *
+     * @return the {@link ChannelProtocol}
+     */
+    @OptionsByType.Default
+    public static ChannelProtocol autoDetect()
+    {
+        String name = System.getProperty(Settings.CHANNEL_PROTOCOL);
+
+        if (name != null)
+        {
+            for (ChannelProtocol protocol : values())
+            {
+                if (protocol.name().equalsIgnoreCase(name.trim()))
+                {
+                    return protocol;
+                }
+            }
+        }
+
+        return SERIALIZED;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * File: ChannelTransport.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.Settings;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+
+/**
+ * An {@link Option} to define the transport used by the server that accepts
+ * {@link RemoteChannel} connections from launched applications.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public enum ChannelTransport implements Option
+{
+    /**
+     * Each connection uses blocking sockets, with dedicated threads for reading
+     * and for executing operations.
+     */
+    SOCKET,
+
+    /**
+     * All connections are multiplexed using non-blocking sockets on a small, fixed
+     * number of shared selector threads, with operations executed by a shared,
+     * bounded pool of threads.
+     */
+    SELECTOR;
+
+
+    /**
+     * Obtains the {@link ChannelTransport} defined by the {@link Settings#CHANNEL_TRANSPORT}
+     * system property, defaulting to {@link #SOCKET} when the property isn't defined
+     * or isn't recognized.
+     *
+     * @return the {@link ChannelTransport}
+     */
+    @OptionsByType.Default
+    public static ChannelTransport autoDetect()
+    {
+        String name = System.getProperty(Settings.CHANNEL_TRANSPORT);
+
+        if (name != null)
+        {
+            for (ChannelTransport transport : values())
+            {
+                if (transport.name().equalsIgnoreCase(name.trim()))
+                {
+                    return transport;
+                }
+            }
+        }
+
+        return SOCKET;
+    }
+}
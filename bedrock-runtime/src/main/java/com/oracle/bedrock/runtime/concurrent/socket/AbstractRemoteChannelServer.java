@@ -0,0 +1,461 @@
+/*
+ * File: AbstractRemoteChannelServer.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent.socket;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.io.NetworkHelper;
+import com.oracle.bedrock.runtime.concurrent.AbstractControllableRemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.AbstractRemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.ControllableRemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelMetrics;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
+import com.oracle.bedrock.runtime.concurrent.RemoteEvent;
+import com.oracle.bedrock.runtime.concurrent.RemoteEventListener;
+import com.oracle.bedrock.runtime.concurrent.RemoteRunnable;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.oracle.bedrock.predicate.Predicates.allOf;
+
+/**
+ * An abstract {@link ControllableRemoteChannel} server that accepts socket connections,
+ * submitting requests and raising events to all of the {@link RemoteChannel}s that
+ * have connected.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ *
+ * @param <C>  the type of {@link AbstractRemoteChannel} created for each connection
+ */
+@Internal
+public abstract class AbstractRemoteChannelServer<C extends AbstractRemoteChannel>
+    extends AbstractControllableRemoteChannel
+{
+    /**
+     * The current {@link RemoteChannel}s managed by the server (indexed by a channel id).
+     */
+    protected final ConcurrentHashMap<Integer, C> remoteChannels;
+
+    /**
+     * Should the running server terminate as soon as possible?
+     */
+    protected final AtomicBoolean isTerminating;
+
+    /**
+     * The name for this server.
+     */
+    protected final String name;
+
+    /**
+     * The port that this server should bind to (or zero to use an ephemeral port).
+     */
+    protected final int port;
+
+    /**
+     * An optional serializer to use.
+     */
+    protected final RemoteChannelSerializer serializer;
+
+    /**
+     * The {@link ChannelProtocol} requested for accepted connections
+     * (<code>null</code> to use {@link ChannelProtocol#autoDetect()}).
+     */
+    protected final ChannelProtocol protocol;
+
+    /**
+     * The {@link RemoteChannelMetrics} recorded by all of the {@link RemoteChannel}s of the server.
+     */
+    protected final RemoteChannelMetrics metrics;
+
+    /**
+     * The {@link VirtualThreads} for the dedicated threads of accepted {@link RemoteChannel}s
+     * (<code>null</code> to use {@link VirtualThreads#autoDetect()}).
+     */
+    protected final VirtualThreads virtualThreads;
+
+
+    /**
+     * Constructs an {@link AbstractRemoteChannelServer}.
+     *
+     * @param name        the name of this server
+     * @param port        the port to bind to
+     * @param serializer  an optional serializer to use
+     * @param protocol    the {@link ChannelProtocol} requested for accepted connections
+     *                    (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     */
+    protected AbstractRemoteChannelServer(String                  name,
+                                          int                     port,
+                                          RemoteChannelSerializer serializer,
+                                          ChannelProtocol         protocol)
+    {
+        this(name, port, serializer, protocol, null);
+    }
+
+
+    /**
+     * Constructs an {@link AbstractRemoteChannelServer}.
+     *
+     * @param name            the name of this server
+     * @param port            the port to bind to
+     * @param serializer      an optional serializer to use
+     * @param protocol        the {@link ChannelProtocol} requested for accepted connections
+     *                        (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     * @param virtualThreads  the {@link VirtualThreads} for the dedicated threads of accepted connections
+     *                        (<code>null</code> to use {@link VirtualThreads#autoDetect()})
+     */
+    protected AbstractRemoteChannelServer(String                  name,
+                                          int                     port,
+                                          RemoteChannelSerializer serializer,
+                                          ChannelProtocol         protocol,
+                                          VirtualThreads          virtualThreads)
+    {
+        super();
+        this.name           = name;
+        this.port           = port;
+        this.serializer     = serializer;
+        this.protocol       = protocol;
+        this.virtualThreads = virtualThreads;
+        this.remoteChannels = new ConcurrentHashMap<>();
+        this.isTerminating  = new AtomicBoolean(false);
+        this.metrics        = new RemoteChannelMetrics();
+    }
+
+
+    /**
+     * Opens and starts the server.
+     * <p>
+     * Does nothing if the server is already open.
+     *
+     * @return the {@link InetAddress} on which the server is accepting connections
+     *
+     * @throws IOException  when the server socket can't be established
+     */
+    public abstract InetAddress open() throws IOException;
+
+
+    /**
+     * Obtains the port on which the server is listening.
+     *
+     * @return the port
+     */
+    public abstract int getPort();
+
+
+    /**
+     * Obtains the {@link InetAddress} to which the server socket is bound.
+     *
+     * @return the {@link InetAddress} or <code>null</code> if the server is closed
+     */
+    protected abstract InetAddress getBoundInetAddress();
+
+
+    /**
+     * Obtains the default {@link InetAddress} on which the server is accepting connections.
+     *
+     * @return the {@link InetAddress}
+     */
+    protected InetAddress getInetAddress()
+    {
+        return getInetAddress(allOf(NetworkHelper.LOOPBACK_ADDRESS, NetworkHelper.DEFAULT_ADDRESS));
+    }
+
+
+    /**
+     * Obtains the {@link InetAddress} on which the server will accept connections
+     * (based on a specific {@link Predicate})
+     *
+     * @param predicate  the {@link Predicate} to filter {@link InetAddress}es
+     *                   (or <code>null</code> indicating the default is acceptable)
+     *
+     * @return the {@link InetAddress}
+     */
+    public synchronized InetAddress getInetAddress(Predicate<InetAddress> predicate)
+    {
+        InetAddress boundInetAddress = getBoundInetAddress();
+
+        if (boundInetAddress != null)
+        {
+            try
+            {
+                predicate = predicate == null ? NetworkHelper.DEFAULT_ADDRESS : predicate;
+
+                InetAddress inetAddress = NetworkHelper.getInetAddress(predicate);
+
+                // when the specific inetAddess is not available, use the server socket
+                return inetAddress == null ? boundInetAddress : inetAddress;
+            }
+            catch (SocketException e)
+            {
+                return boundInetAddress;
+            }
+        }
+        else
+        {
+            throw new IllegalStateException("Server is closed");
+        }
+    }
+
+
+    /**
+     * Opens a newly connected {@link RemoteChannel}, adding the server {@link RemoteEventListener}s
+     * and {@link com.oracle.bedrock.runtime.concurrent.RemoteChannelListener}s to it, and when
+     * successfully opened, remembering it.
+     *
+     * @param channelId  the id of the {@link RemoteChannel}
+     * @param channel    the {@link RemoteChannel}
+     *
+     * @return <code>true</code> when the {@link RemoteChannel} was opened
+     */
+    protected boolean openRemoteChannel(int channelId,
+                                        C   channel)
+    {
+        // add all of the RemoteChannelServer RemoteEventListeners to the RemoteChannel
+        eventListenersByStreamName.forEach((streamName,
+            listeners) -> listeners.forEach(listener -> channel.addListener(listener, streamName)));
+
+        // add all of the RemoteChannelServer ChannelListeners to the RemoteChannel
+        channelListeners.forEach(channel::addListener);
+
+        // record the metrics of the RemoteChannel with those of the server
+        channel.setMetrics(metrics);
+
+        // open the channel to for communication
+        channel.open();
+
+        if (channel.isOpen())
+        {
+            // remember our the RemoteChannel
+            remoteChannels.put(channelId, channel);
+
+            return true;
+        }
+        else
+        {
+            return false;
+        }
+    }
+
+
+    @Override
+    public RemoteChannelMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+
+    /**
+     * Closes all of the {@link RemoteChannel}s managed by the server.
+     */
+    protected void closeRemoteChannels()
+    {
+        for (C channel : remoteChannels.values())
+        {
+            try
+            {
+                channel.close();
+            }
+            catch (Exception e)
+            {
+                // we don't care about exceptions for clients when we close
+            }
+        }
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> submit(RemoteCallable<T> callable,
+                                           Option...         options) throws IllegalStateException
+    {
+        synchronized (this)
+        {
+            if (isOpen() &&!isTerminating.get())
+            {
+                List<CompletableFuture<T>> futures =
+                    remoteChannels.values().stream().map((channel) -> channel.submit(callable))
+                    .collect(Collectors.toList());
+
+                if (futures.isEmpty())
+                {
+                    throw new IllegalStateException("Failed to submit the request [" + callable
+                                                    + "].  There are no RemoteChannels connected");
+                }
+
+                return (CompletableFuture<T>) CompletableFuture.anyOf(futures.toArray(new CompletableFuture[futures.size()]));
+            }
+            else
+            {
+                throw new IllegalStateException("Can't submit the request [" + callable
+                                                + " as the RemoteChannel is closing or is closed");
+            }
+        }
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<CompletableFuture<T>> submitAll(Collection<? extends RemoteCallable<T>> callables,
+                                                    Option...                               options)
+                                                        throws IllegalStateException
+    {
+        synchronized (this)
+        {
+            if (isOpen() &&!isTerminating.get())
+            {
+                // submit the batch to each channel (so each channel sends the batch together)
+                List<List<CompletableFuture<T>>> batches =
+                    remoteChannels.values().stream().map((channel) -> channel.submitAll(callables, options))
+                    .collect(Collectors.toList());
+
+                if (batches.isEmpty())
+                {
+                    throw new IllegalStateException("Failed to submit the requests " + callables
+                                                    + ".  There are no RemoteChannels connected");
+                }
+
+                // the result of each callable is the first result from any channel
+                List<CompletableFuture<T>> futures = new ArrayList<>(callables.size());
+
+                for (int i = 0; i < callables.size(); i++)
+                {
+                    final int index = i;
+
+                    futures.add((CompletableFuture<T>) CompletableFuture.anyOf(batches.stream()
+                        .map((batch) -> batch.get(index)).toArray(CompletableFuture[]::new)));
+                }
+
+                return futures;
+            }
+            else
+            {
+                throw new IllegalStateException("Can't submit the requests " + callables
+                                                + " as the RemoteChannel is closing or is closed");
+            }
+        }
+    }
+
+
+    @Override
+    public CompletableFuture<Void> submit(RemoteRunnable runnable,
+                                          Option...      options) throws IllegalStateException
+    {
+        synchronized (this)
+        {
+            if (isOpen() &&!isTerminating.get())
+            {
+                List<CompletableFuture<?>> futures =
+                    remoteChannels.values().stream().map((channel) -> channel.submit(runnable))
+                    .collect(Collectors.toList());
+
+                if (futures.isEmpty())
+                {
+                    throw new IllegalStateException("Failed to submit the request [" + runnable
+                                                    + "].  There are no RemoteChannels connected");
+                }
+
+                return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+            }
+            else
+            {
+                throw new IllegalStateException("Can't submit the request [" + runnable
+                                                + "] as the RemoteChannel is closing or is closed");
+            }
+        }
+    }
+
+
+    @Override
+    public void addListener(RemoteEventListener listener,
+                            Option...           options)
+    {
+        super.addListener(listener, options);
+
+        // now add the listener to all of the RemoteChannels
+        remoteChannels.forEach((id, remoteChannel) -> remoteChannel.addListener(listener, options));
+    }
+
+
+    @Override
+    public void removeListener(RemoteEventListener listener,
+                               Option...           options)
+    {
+        super.removeListener(listener, options);
+
+        // now remove the listener from all of the RemoteChannels
+        remoteChannels.forEach((id, remoteChannel) -> remoteChannel.removeListener(listener, options));
+    }
+
+
+    @Override
+    public CompletableFuture<Void> raise(RemoteEvent event,
+                                         Option...   options)
+    {
+        if (isOpen())
+        {
+            List<CompletableFuture<?>> futures = remoteChannels.values().stream().map((channel) -> {
+                                                         try
+                                                         {
+                                                             return channel.raise(event, options);
+                                                         }
+                                                         catch (Throwable e)
+                                                         {
+                                                             // we ignore exceptions when a RemoteChannel fails to raise (probably because it is closing)
+                                                             return CompletableFuture.completedFuture(null);
+                                                         }
+                                                     }).collect(Collectors.toList());
+
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+
+    /**
+     * Obtains the currently connected {@link RemoteChannel}s.
+     *
+     * @return an {@link Iterable} over the currently connected {@link RemoteChannel}s
+     */
+    public Iterable<C> getRemoteChannels()
+    {
+        return remoteChannels.values();
+    }
+}
@@ -0,0 +1,688 @@
+/*
+ * File: SelectorBasedRemoteChannel.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent.socket;
+
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.concurrent.AbstractRemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.FrameBuffer;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link RemoteChannel} over a non-blocking {@link SocketChannel}, whose bytes are
+ * read and written by a thread of a {@link SelectorGroup} and whose operations are
+ * deserialized and executed by the {@link ExecutorService} of the {@link SelectorGroup},
+ * so that it doesn't require any dedicated threads.
+ * <p>
+ * The bytes received but not yet processed, and those buffered but not yet sent, are bounded
+ * by {@link #MAXIMUM_BUFFERED_BYTES}.  Reading is suspended while too many received bytes are
+ * waiting to be processed, and writers wait while too many bytes are waiting to be sent.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class SelectorBasedRemoteChannel extends AbstractRemoteChannel implements SelectorGroup.Handler
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SelectorBasedRemoteChannel.class.getName());
+
+    /**
+     * The initial size of the buffers for receiving and sending bytes.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum number of bytes that may be received but not yet processed,
+     * or buffered but not yet sent (give or take the size of a single read or write).
+     */
+    static final int MAXIMUM_BUFFERED_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * The {@link ByteBuffer} queued to signal the other end has closed the connection.
+     */
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+
+    /**
+     * The {@link SocketChannel} over which operations are sent and received.
+     */
+    private final SocketChannel socketChannel;
+
+    /**
+     * The {@link SelectorGroup.SelectorLoop} that reads and writes the {@link SocketChannel}.
+     */
+    private final SelectorGroup.SelectorLoop selectorLoop;
+
+    /**
+     * The {@link ChannelOutputStream} that buffers bytes to send over the {@link SocketChannel}.
+     */
+    private final ChannelOutputStream outputStream;
+
+    /**
+     * The {@link ExecutorService} used to process the received bytes.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * The {@link ByteBuffer}s received by the {@link SelectorGroup.SelectorLoop}, in order,
+     * waiting to be processed.
+     */
+    private final ConcurrentLinkedQueue<ByteBuffer> received;
+
+    /**
+     * The number of bytes received but not yet processed.
+     */
+    private final AtomicInteger receivedBytes;
+
+    /**
+     * Is processing of the received bytes scheduled or running?
+     */
+    private final AtomicBoolean isProcessing;
+
+    /**
+     * The {@link ByteBuffer} into which bytes are read (only used by the
+     * {@link SelectorGroup.SelectorLoop} thread).
+     */
+    private final ByteBuffer inbound;
+
+    /**
+     * The {@link ByteBuffer} of received bytes being processed, positioned at the start of
+     * the first incomplete operation (only used while processing).
+     */
+    private ByteBuffer pending;
+
+    /**
+     * The {@link SelectionKey} of the registered {@link SocketChannel} (<code>null</code> until registered).
+     */
+    private volatile SelectionKey key;
+
+    /**
+     * Has reading been suspended (only changed by the {@link SelectorGroup.SelectorLoop} thread)?
+     */
+    private volatile boolean isReadSuspended;
+
+
+    /**
+     * Constructs a {@link SelectorBasedRemoteChannel}.
+     *
+     * @param socketChannel    the non-blocking {@link SocketChannel}
+     * @param selectorLoop     the {@link SelectorGroup.SelectorLoop} to read and write the {@link SocketChannel}
+     * @param executorService  the shared {@link ExecutorService} for executing operations
+     * @param serializer       an optional serializer to use
+     * @param protocol         the requested {@link ChannelProtocol}
+     *                         (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     *
+     * @throws IOException when the {@link SelectorBasedRemoteChannel} can't be established
+     */
+    SelectorBasedRemoteChannel(SocketChannel              socketChannel,
+                               SelectorGroup.SelectorLoop selectorLoop,
+                               ExecutorService            executorService,
+                               RemoteChannelSerializer    serializer,
+                               ChannelProtocol            protocol) throws IOException
+    {
+        this(new ChannelOutputStream(socketChannel, selectorLoop),
+             socketChannel,
+             selectorLoop,
+             executorService,
+             serializer,
+             protocol);
+    }
+
+
+    /**
+     * Constructs a {@link SelectorBasedRemoteChannel}.
+     *
+     * @param outputStream     the {@link ChannelOutputStream} for the {@link SocketChannel}
+     * @param socketChannel    the non-blocking {@link SocketChannel}
+     * @param selectorLoop     the {@link SelectorGroup.SelectorLoop} to read and write the {@link SocketChannel}
+     * @param executorService  the shared {@link ExecutorService} for executing operations
+     * @param serializer       an optional serializer to use
+     * @param protocol         the requested {@link ChannelProtocol}
+     *
+     * @throws IOException when the {@link SelectorBasedRemoteChannel} can't be established
+     */
+    private SelectorBasedRemoteChannel(ChannelOutputStream        outputStream,
+                                       SocketChannel              socketChannel,
+                                       SelectorGroup.SelectorLoop selectorLoop,
+                                       ExecutorService            executorService,
+                                       RemoteChannelSerializer    serializer,
+                                       ChannelProtocol            protocol) throws IOException
+    {
+        super(outputStream, null, serializer, protocol, executorService);
+
+        this.outputStream    = outputStream;
+        this.socketChannel   = socketChannel;
+        this.selectorLoop    = selectorLoop;
+        this.executorService = executorService;
+        this.received        = new ConcurrentLinkedQueue<>();
+        this.receivedBytes   = new AtomicInteger();
+        this.isProcessing    = new AtomicBoolean(false);
+        this.inbound         = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        this.pending         = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    }
+
+
+    /**
+     * Registers the {@link SocketChannel} with the {@link SelectorGroup.SelectorLoop}
+     * so that bytes may be received (once the {@link SelectorBasedRemoteChannel} has been opened).
+     */
+    void register()
+    {
+        selectorLoop.execute(() -> {
+                                 try
+                                 {
+                                     key = socketChannel.register(selectorLoop.getSelector(),
+                                                                  SelectionKey.OP_READ,
+                                                                  this);
+
+                                     outputStream.setSelectionKey(key);
+                                 }
+                                 catch (IOException e)
+                                 {
+                                     LOGGER.log(Level.FINE, "Failed to register " + socketChannel, e);
+
+                                     close();
+                                 }
+                             });
+    }
+
+
+    @Override
+    public void onSelected(SelectionKey key)
+    {
+        try
+        {
+            if (key.isWritable())
+            {
+                outputStream.onWritable();
+            }
+
+            if (key.isReadable())
+            {
+                onReadable();
+            }
+        }
+        catch (IOException e)
+        {
+            // the connection has failed
+            LOGGER.log(Level.FINE, "Closing RemoteChannel for " + socketChannel, e);
+
+            close();
+        }
+    }
+
+
+    /**
+     * Reads the available bytes from the {@link SocketChannel}, queuing them to be processed
+     * by the {@link ExecutorService}, so that operations aren't deserialized by the
+     * {@link SelectorGroup.SelectorLoop} thread.
+     *
+     * @throws IOException  should the {@link SocketChannel} fail
+     */
+    private void onReadable() throws IOException
+    {
+        int count = socketChannel.read(inbound);
+
+        if (count < 0)
+        {
+            // the other end has closed the connection, so close once the received bytes are processed
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+
+            received.add(END_OF_STREAM);
+        }
+        else if (count > 0)
+        {
+            inbound.flip();
+
+            ByteBuffer bytes = ByteBuffer.allocate(inbound.remaining());
+
+            bytes.put(inbound).flip();
+            inbound.clear();
+
+            received.add(bytes);
+
+            if (receivedBytes.addAndGet(count) >= MAXIMUM_BUFFERED_BYTES)
+            {
+                // stop reading until the received bytes have been processed
+                isReadSuspended = true;
+
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            }
+        }
+
+        scheduleProcessing();
+    }
+
+
+    /**
+     * Schedules processing of the received bytes, unless it's already scheduled or running.
+     */
+    private void scheduleProcessing()
+    {
+        if (!received.isEmpty() && isProcessing.compareAndSet(false, true))
+        {
+            try
+            {
+                executorService.execute(this::process);
+            }
+            catch (RejectedExecutionException e)
+            {
+                // the executor has been shutdown, so there's nothing to process the bytes
+                isProcessing.set(false);
+
+                close();
+            }
+        }
+    }
+
+
+    /**
+     * Receives the operations completely contained in the queued received bytes
+     * (executed by the {@link ExecutorService}, one at a time).
+     */
+    private void process()
+    {
+        try
+        {
+            for (ByteBuffer bytes = received.poll(); bytes != null; bytes = received.poll())
+            {
+                if (bytes == END_OF_STREAM)
+                {
+                    close();
+
+                    return;
+                }
+
+                int count = bytes.remaining();
+
+                if (pending.remaining() < count)
+                {
+                    // grow the buffer to hold the incomplete operation and the received bytes
+                    ByteBuffer buffer = ByteBuffer.allocate(Math.max(pending.capacity() * 2,
+                                                                     pending.position() + count));
+
+                    pending.flip();
+                    buffer.put(pending);
+
+                    pending = buffer;
+                }
+
+                pending.put(bytes);
+                pending.flip();
+
+                receive(pending);
+
+                pending.compact();
+
+                if (pending.position() == 0 && pending.capacity() > FrameBuffer.MAXIMUM_RETAINED_CAPACITY)
+                {
+                    // don't retain buffers that were grown for unusually large operations
+                    pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+                }
+
+                receivedBytes.addAndGet(-count);
+            }
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // the received bytes are corrupted, so there's no point processing any more of them
+            LOGGER.log(Level.FINE, "Closing RemoteChannel for " + socketChannel, e);
+
+            received.clear();
+
+            close();
+        }
+        finally
+        {
+            isProcessing.set(false);
+
+            if (isReadSuspended)
+            {
+                selectorLoop.execute(this::resumeReading);
+            }
+
+            scheduleProcessing();
+        }
+    }
+
+
+    /**
+     * Resumes reading once enough of the received bytes have been processed
+     * (called by the {@link SelectorGroup.SelectorLoop} thread).
+     */
+    private void resumeReading()
+    {
+        if (isReadSuspended && receivedBytes.get() < MAXIMUM_BUFFERED_BYTES && key.isValid())
+        {
+            isReadSuspended = false;
+
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        }
+    }
+
+
+    /**
+     * Obtains the {@link InetAddress} of the other end of the {@link SocketChannel}.
+     *
+     * @return the {@link InetAddress}
+     */
+    public InetAddress getInetAddress()
+    {
+        return socketChannel.socket().getInetAddress();
+    }
+
+
+    /**
+     * Obtains the port of the other end of the {@link SocketChannel}.
+     *
+     * @return the port number
+     */
+    public int getPort()
+    {
+        return socketChannel.socket().getPort();
+    }
+
+
+    @Override
+    protected void onClose()
+    {
+        super.onClose();
+
+        // ensure the socket channel is closed (even when closing the object stream failed)
+
+        try
+        {
+            outputStream.close();
+        }
+        catch (IOException e)
+        {
+            // don't care
+        }
+    }
+
+
+    /**
+     * An {@link OutputStream} that buffers bytes, sending them over a non-blocking
+     * {@link SocketChannel} when flushed.  Bytes that can't be immediately sent are
+     * sent by the {@link SelectorGroup.SelectorLoop} when the {@link SocketChannel}
+     * becomes writable, with writers waiting while {@link #MAXIMUM_BUFFERED_BYTES}
+     * are waiting to be sent.
+     */
+    private static class ChannelOutputStream extends OutputStream
+    {
+        /**
+         * The {@link SocketChannel} to which bytes are sent.
+         */
+        private final SocketChannel socketChannel;
+
+        /**
+         * The {@link SelectorGroup.SelectorLoop} for the {@link SocketChannel}.
+         */
+        private final SelectorGroup.SelectorLoop selectorLoop;
+
+        /**
+         * The bytes that have yet to be sent (in write mode).
+         */
+        private ByteBuffer buffer;
+
+        /**
+         * The {@link SelectionKey} of the registered {@link SocketChannel}
+         * (<code>null</code> until registered).
+         */
+        private SelectionKey key;
+
+        /**
+         * Has interest in writing been requested from the {@link SelectorGroup.SelectorLoop}?
+         */
+        private boolean isWriteRequested;
+
+
+        /**
+         * Constructs a {@link ChannelOutputStream}.
+         *
+         * @param socketChannel  the {@link SocketChannel}
+         * @param selectorLoop   the {@link SelectorGroup.SelectorLoop} for the {@link SocketChannel}
+         */
+        private ChannelOutputStream(SocketChannel              socketChannel,
+                                    SelectorGroup.SelectorLoop selectorLoop)
+        {
+            this.socketChannel    = socketChannel;
+            this.selectorLoop     = selectorLoop;
+            this.buffer           = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+            this.isWriteRequested = false;
+        }
+
+
+        /**
+         * Sets the {@link SelectionKey} once the {@link SocketChannel} has been registered
+         * (called by the {@link SelectorGroup.SelectorLoop} thread).
+         *
+         * @param key  the {@link SelectionKey}
+         */
+        private synchronized void setSelectionKey(SelectionKey key)
+        {
+            this.key = key;
+
+            if (isWriteRequested)
+            {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+
+
+        @Override
+        public synchronized void write(int b) throws IOException
+        {
+            awaitSent();
+            ensureCapacity(1);
+
+            buffer.put((byte) b);
+        }
+
+
+        @Override
+        public synchronized void write(byte[] bytes,
+                                       int    offset,
+                                       int    length) throws IOException
+        {
+            awaitSent();
+            ensureCapacity(length);
+
+            buffer.put(bytes, offset, length);
+        }
+
+
+        /**
+         * Waits while too many buffered bytes are waiting to be sent, sending them when possible.
+         *
+         * @throws IOException  should the {@link SocketChannel} fail or close, or the wait be interrupted
+         */
+        private void awaitSent() throws IOException
+        {
+            while (buffer.position() >= MAXIMUM_BUFFERED_BYTES)
+            {
+                if (!socketChannel.isOpen())
+                {
+                    throw new ClosedChannelException();
+                }
+
+                if (!isWriteRequested)
+                {
+                    flush();
+                }
+                else
+                {
+                    try
+                    {
+                        // the selector loop notifies as bytes are sent (periodically checking for closure)
+                        wait(1000);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+
+                        throw new InterruptedIOException("Interrupted while waiting to send");
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Ensures the buffer has capacity for the specified number of additional bytes.
+         *
+         * @param length  the number of bytes
+         */
+        private void ensureCapacity(int length)
+        {
+            if (buffer.remaining() < length)
+            {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+
+                buffer.flip();
+                larger.put(buffer);
+
+                buffer = larger;
+            }
+        }
+
+
+        @Override
+        public synchronized void flush() throws IOException
+        {
+            if (buffer.position() > 0 && !isWriteRequested)
+            {
+                send();
+
+                if (buffer.position() > 0)
+                {
+                    // the socket can't accept everything, so send the remainder when it becomes writable
+                    isWriteRequested = true;
+
+                    selectorLoop.execute(this::onWriteRequested);
+                }
+            }
+        }
+
+
+        /**
+         * Sends as many of the buffered bytes as the {@link SocketChannel} will accept without blocking.
+         *
+         * @throws IOException  should the {@link SocketChannel} fail
+         */
+        private void send() throws IOException
+        {
+            buffer.flip();
+            socketChannel.write(buffer);
+            buffer.compact();
+
+            if (buffer.position() == 0 && buffer.capacity() > FrameBuffer.MAXIMUM_RETAINED_CAPACITY)
+            {
+                // don't retain buffers that were grown for unusually large operations
+                buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+            }
+        }
+
+
+        /**
+         * Registers interest in writing (called by the {@link SelectorGroup.SelectorLoop} thread).
+         */
+        private synchronized void onWriteRequested()
+        {
+            if (key != null && key.isValid())
+            {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+
+
+        /**
+         * Sends the buffered bytes now that the {@link SocketChannel} is writable
+         * (called by the {@link SelectorGroup.SelectorLoop} thread).
+         *
+         * @throws IOException  should the {@link SocketChannel} fail
+         */
+        private synchronized void onWritable() throws IOException
+        {
+            send();
+
+            // allow waiting writers to continue
+            notifyAll();
+
+            if (buffer.position() == 0)
+            {
+                isWriteRequested = false;
+
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            }
+        }
+
+
+        @Override
+        public void close() throws IOException
+        {
+            try
+            {
+                synchronized (this)
+                {
+                    // attempt to send what remains without waiting
+                    if (buffer.position() > 0 && socketChannel.isOpen())
+                    {
+                        send();
+                    }
+
+                    notifyAll();
+                }
+            }
+            finally
+            {
+                socketChannel.close();
+
+                // closed channels are only released once deregistered by the selector
+                selectorLoop.wakeup();
+            }
+        }
+    }
+}
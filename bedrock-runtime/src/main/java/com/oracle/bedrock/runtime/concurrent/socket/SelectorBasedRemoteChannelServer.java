@@ -0,0 +1,343 @@
+/*
+ * File: SelectorBasedRemoteChannelServer.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent.socket;
+
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.concurrent.ControllableRemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link ControllableRemoteChannel} that accepts and processes requests from
+ * {@link SocketBasedRemoteChannelClient}s, multiplexing all of the connections on the
+ * threads of a {@link SelectorGroup}, instead of using dedicated threads per connection.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class SelectorBasedRemoteChannelServer extends AbstractRemoteChannelServer<SelectorBasedRemoteChannel>
+    implements SelectorGroup.Handler
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SelectorBasedRemoteChannelServer.class.getName());
+
+    /**
+     * The {@link SelectorGroup} to use (<code>null</code> to use the {@link SelectorGroup#getDefault()}).
+     */
+    private final SelectorGroup selectorGroup;
+
+    /**
+     * The {@link SelectorGroup} being used (established when opened).
+     */
+    private SelectorGroup activeSelectorGroup;
+
+    /**
+     * The {@link ServerSocketChannel} that will be used to accept {@link SocketBasedRemoteChannelClient}
+     * connections.
+     * <p>
+     * When this is <code>null</code> the {@link SelectorBasedRemoteChannelServer} is not open.
+     */
+    private ServerSocketChannel serverSocketChannel;
+
+    /**
+     * The {@link SelectorGroup.SelectorLoop} accepting connections (established when opened).
+     */
+    private SelectorGroup.SelectorLoop acceptorLoop;
+
+    /**
+     * The {@link ClassLoader} to use for the accepted {@link SelectorBasedRemoteChannel}s
+     * (the context {@link ClassLoader} of the {@link Thread} that opened the server).
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * The id of the last accepted {@link SelectorBasedRemoteChannel}.
+     */
+    private final AtomicInteger channelId;
+
+
+    /**
+     * Constructs a {@link SelectorBasedRemoteChannelServer} that will accept
+     * and process {@link Callable}s from {@link SocketBasedRemoteChannelClient}s.
+     *
+     * @param name  the name of this server
+     */
+    public SelectorBasedRemoteChannelServer(String name)
+    {
+        this(name, 0, null, null);
+    }
+
+
+    /**
+     * Constructs a {@link SelectorBasedRemoteChannelServer} that will accept
+     * and process {@link Callable}s from {@link SocketBasedRemoteChannelClient}s,
+     * using the default {@link SelectorGroup}.
+     *
+     * @param name        the name of this server
+     * @param port        the port to bind to
+     * @param serializer  an optional serializer to use
+     * @param protocol    the {@link ChannelProtocol} requested for accepted connections
+     *                    (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     */
+    public SelectorBasedRemoteChannelServer(String                  name,
+                                            int                     port,
+                                            RemoteChannelSerializer serializer,
+                                            ChannelProtocol         protocol)
+    {
+        this(name, port, serializer, protocol, null);
+    }
+
+
+    /**
+     * Constructs a {@link SelectorBasedRemoteChannelServer} that will accept
+     * and process {@link Callable}s from {@link SocketBasedRemoteChannelClient}s.
+     *
+     * @param name           the name of this server
+     * @param port           the port to bind to
+     * @param serializer     an optional serializer to use
+     * @param protocol       the {@link ChannelProtocol} requested for accepted connections
+     *                       (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     * @param selectorGroup  the {@link SelectorGroup} to use
+     *                       (<code>null</code> to use the {@link SelectorGroup#getDefault()})
+     */
+    public SelectorBasedRemoteChannelServer(String                  name,
+                                            int                     port,
+                                            RemoteChannelSerializer serializer,
+                                            ChannelProtocol         protocol,
+                                            SelectorGroup           selectorGroup)
+    {
+        super(name, port, serializer, protocol);
+
+        this.selectorGroup       = selectorGroup;
+        this.activeSelectorGroup = null;
+        this.serverSocketChannel = null;
+        this.channelId           = new AtomicInteger(0);
+    }
+
+
+    /**
+     * Opens and starts the {@link SelectorBasedRemoteChannelServer}.
+     * <p>
+     * Does nothing if the {@link SelectorBasedRemoteChannelServer} is already open.
+     *
+     * @return the {@link InetAddress} on which the {@link SelectorBasedRemoteChannelServer}
+     *         is accepting requests from {@link SocketBasedRemoteChannelClient}s.
+     *
+     * @throws IOException  when a {@link ServerSocketChannel} can't be established
+     */
+    @Override
+    public synchronized InetAddress open() throws IOException
+    {
+        if (!isOpen())
+        {
+            activeSelectorGroup = selectorGroup == null ? SelectorGroup.getDefault() : selectorGroup;
+            classLoader         = Thread.currentThread().getContextClassLoader();
+
+            serverSocketChannel = ServerSocketChannel.open();
+            serverSocketChannel.socket().setReuseAddress(true);
+            serverSocketChannel.bind(new InetSocketAddress(port));    // 0 to use an ephemeral port
+            serverSocketChannel.configureBlocking(false);
+
+            SelectorGroup.SelectorLoop selectorLoop        = activeSelectorGroup.next();
+            ServerSocketChannel        serverSocketChannel = this.serverSocketChannel;
+
+            acceptorLoop = selectorLoop;
+
+            selectorLoop.execute(() -> {
+                                     try
+                                     {
+                                         serverSocketChannel.register(selectorLoop.getSelector(),
+                                                                      SelectionKey.OP_ACCEPT,
+                                                                      this);
+                                     }
+                                     catch (IOException e)
+                                     {
+                                         LOGGER.log(Level.WARNING,
+                                                    "SelectorBasedRemoteChannelServer \"" + name
+                                                    + "\" failed to accept connections",
+                                                    e);
+                                     }
+                                 });
+
+            setOpen(true);
+        }
+
+        return getInetAddress();
+    }
+
+
+    @Override
+    public synchronized int getPort()
+    {
+        if (serverSocketChannel != null)
+        {
+            return serverSocketChannel.socket().getLocalPort();
+        }
+        else
+        {
+            throw new IllegalStateException("Server is closed");
+        }
+    }
+
+
+    @Override
+    protected synchronized InetAddress getBoundInetAddress()
+    {
+        return serverSocketChannel == null ? null : serverSocketChannel.socket().getInetAddress();
+    }
+
+
+    @Override
+    public void onSelected(SelectionKey key) throws IOException
+    {
+        if (key.isAcceptable())
+        {
+            ServerSocketChannel channel = (ServerSocketChannel) key.channel();
+
+            for (SocketChannel socketChannel = channel.accept(); socketChannel != null;
+                socketChannel = channel.accept())
+            {
+                accept(socketChannel);
+            }
+        }
+    }
+
+
+    /**
+     * Establishes and opens a {@link SelectorBasedRemoteChannel} for an accepted connection.
+     *
+     * @param socketChannel  the accepted {@link SocketChannel}
+     */
+    private void accept(SocketChannel socketChannel)
+    {
+        if (isTerminating.get())
+        {
+            close(socketChannel);
+
+            return;
+        }
+
+        Thread      thread              = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+
+        try
+        {
+            socketChannel.configureBlocking(false);
+            socketChannel.socket().setReuseAddress(true);
+            socketChannel.socket().setTcpNoDelay(true);
+
+            SelectorBasedRemoteChannel channel = new SelectorBasedRemoteChannel(socketChannel,
+                                                                                activeSelectorGroup.next(),
+                                                                                activeSelectorGroup
+                                                                                .getExecutorService(),
+                                                                                serializer,
+                                                                                protocol);
+
+            // open the channel using the class loader of the thread that opened the server
+            thread.setContextClassLoader(classLoader);
+
+            if (openRemoteChannel(channelId.incrementAndGet(), channel))
+            {
+                channel.register();
+            }
+            else
+            {
+                LOGGER.severe("SelectorBasedRemoteChannelServer \"" + name + "\" Rejected connection on "
+                              + socketChannel);
+
+                close(socketChannel);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.FINE, "Failed to accept connection on " + socketChannel, e);
+
+            close(socketChannel);
+        }
+        finally
+        {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+
+    /**
+     * Closes a {@link SocketChannel}, ignoring any failures.
+     *
+     * @param socketChannel  the {@link SocketChannel}
+     */
+    private void close(SocketChannel socketChannel)
+    {
+        try
+        {
+            socketChannel.close();
+        }
+        catch (IOException e)
+        {
+            // we don't care about exceptions as we close
+        }
+    }
+
+
+    @Override
+    protected synchronized void onClose()
+    {
+        // we're now terminating
+        isTerminating.set(true);
+
+        closeRemoteChannels();
+
+        try
+        {
+            serverSocketChannel.close();
+        }
+        catch (IOException e)
+        {
+            // we don't care about exceptions as we close
+        }
+        finally
+        {
+            serverSocketChannel = null;
+
+            // closed channels are only released once deregistered by the selector
+            acceptorLoop.wakeup();
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * File: SelectorGroup.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent.socket;
+
+import com.oracle.bedrock.annotations.Internal;
+import com.oracle.bedrock.runtime.Settings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A fixed group of {@link Selector} threads, together with a bounded {@link ExecutorService},
+ * shared by {@link SelectorBasedRemoteChannelServer}s for accepting connections, reading and
+ * writing bytes and executing operations for any number of {@link SelectorBasedRemoteChannel}s.
+ * <p>
+ * The number of {@link Selector} threads is defined by the {@link Settings#CHANNEL_SELECTOR_THREADS}
+ * system property and the maximum number of {@link ExecutorService} threads by the
+ * {@link Settings#CHANNEL_EXECUTOR_THREADS} system property.  Idle {@link ExecutorService}
+ * threads are retired, so the number of threads remains flat regardless of the number of
+ * connected {@link SelectorBasedRemoteChannel}s.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+public class SelectorGroup implements Closeable
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SelectorGroup.class.getName());
+
+    /**
+     * The time (in seconds) idle {@link ExecutorService} threads are retained.
+     */
+    private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * The {@link SelectorGroup} shared by default (lazily created).
+     */
+    private static SelectorGroup defaultGroup;
+
+    /**
+     * The {@link SelectorLoop}s in the {@link SelectorGroup}.
+     */
+    private final SelectorLoop[] selectorLoops;
+
+    /**
+     * The index used to allocate {@link SelectorLoop}s in a round-robin manner.
+     */
+    private final AtomicInteger nextSelectorLoop;
+
+    /**
+     * The bounded {@link ExecutorService} for executing operations.
+     */
+    private final ThreadPoolExecutor executorService;
+
+
+    /**
+     * Constructs a {@link SelectorGroup}.
+     *
+     * @param name                    the name of the {@link SelectorGroup} (used for naming threads)
+     * @param selectorCount           the number of {@link Selector} threads
+     * @param maximumExecutorThreads  the maximum number of {@link ExecutorService} threads
+     *
+     * @throws IOException  should a {@link Selector} fail to open
+     */
+    public SelectorGroup(String name,
+                         int    selectorCount,
+                         int    maximumExecutorThreads) throws IOException
+    {
+        AtomicInteger threadCount = new AtomicInteger(0);
+
+        this.executorService = new ThreadPoolExecutor(Math.max(1, maximumExecutorThreads),
+                                                      Math.max(1, maximumExecutorThreads),
+                                                      EXECUTOR_KEEP_ALIVE_SECONDS,
+                                                      TimeUnit.SECONDS,
+                                                      new LinkedBlockingQueue<>(),
+                                                      runnable -> {
+                                                          Thread thread =
+                                                              new Thread(runnable,
+                                                                         name + ":Executor-"
+                                                                         + threadCount.incrementAndGet());
+
+                                                          thread.setDaemon(true);
+
+                                                          return thread;
+                                                      });
+
+        this.executorService.allowCoreThreadTimeOut(true);
+
+        this.selectorLoops    = new SelectorLoop[Math.max(1, selectorCount)];
+        this.nextSelectorLoop = new AtomicInteger(0);
+
+        for (int i = 0; i < selectorLoops.length; i++)
+        {
+            selectorLoops[i] = new SelectorLoop(name + ":Selector-" + (i + 1));
+        }
+    }
+
+
+    /**
+     * Obtains the {@link SelectorGroup} shared by default, creating it when required.
+     *
+     * @return the default {@link SelectorGroup}
+     *
+     * @throws IOException  should a {@link Selector} fail to open
+     */
+    public static synchronized SelectorGroup getDefault() throws IOException
+    {
+        if (defaultGroup == null)
+        {
+            int processors = Runtime.getRuntime().availableProcessors();
+
+            defaultGroup = new SelectorGroup("RemoteChannel",
+                                             Integer.getInteger(Settings.CHANNEL_SELECTOR_THREADS,
+                                                                Math.min(4, Math.max(1, processors / 2))),
+                                             Integer.getInteger(Settings.CHANNEL_EXECUTOR_THREADS,
+                                                                Math.max(16, processors * 4)));
+        }
+
+        return defaultGroup;
+    }
+
+
+    /**
+     * Obtains the next {@link SelectorLoop} in the {@link SelectorGroup} (in a round-robin manner).
+     *
+     * @return a {@link SelectorLoop}
+     */
+    SelectorLoop next()
+    {
+        return selectorLoops[Math.floorMod(nextSelectorLoop.getAndIncrement(), selectorLoops.length)];
+    }
+
+
+    /**
+     * Obtains the number of {@link Selector} threads in the {@link SelectorGroup}.
+     *
+     * @return the number of {@link Selector} threads
+     */
+    public int getSelectorCount()
+    {
+        return selectorLoops.length;
+    }
+
+
+    /**
+     * Obtains the shared {@link ExecutorService} for executing operations.
+     *
+     * @return the {@link ExecutorService}
+     */
+    public ExecutorService getExecutorService()
+    {
+        return executorService;
+    }
+
+
+    @Override
+    public void close()
+    {
+        for (SelectorLoop selectorLoop : selectorLoops)
+        {
+            selectorLoop.close();
+        }
+
+        executorService.shutdown();
+    }
+
+
+    /**
+     * Handles the readiness of a channel registered with a {@link SelectorLoop}.
+     */
+    interface Handler
+    {
+        /**
+         * Invoked by the {@link SelectorLoop} thread when the channel for the
+         * specified {@link SelectionKey} is ready for one or more operations.
+         *
+         * @param key  the {@link SelectionKey}
+         *
+         * @throws IOException  should the channel fail (the {@link SelectionKey} is then cancelled)
+         */
+        void onSelected(SelectionKey key) throws IOException;
+    }
+
+
+    /**
+     * A {@link Thread} that dispatches the readiness of the channels registered with
+     * a {@link Selector} to their {@link Handler}s.
+     */
+    static class SelectorLoop implements Runnable
+    {
+        /**
+         * The {@link Selector}.
+         */
+        private final Selector selector;
+
+        /**
+         * The tasks to execute using the {@link SelectorLoop} thread.
+         */
+        private final ConcurrentLinkedQueue<Runnable> tasks;
+
+        /**
+         * The {@link SelectorLoop} thread.
+         */
+        private final Thread thread;
+
+        /**
+         * Is the {@link SelectorLoop} running?
+         */
+        private volatile boolean isRunning;
+
+
+        /**
+         * Constructs and starts a {@link SelectorLoop}.
+         *
+         * @param name  the name of the {@link SelectorLoop} thread
+         *
+         * @throws IOException  should the {@link Selector} fail to open
+         */
+        SelectorLoop(String name) throws IOException
+        {
+            this.selector  = Selector.open();
+            this.tasks     = new ConcurrentLinkedQueue<>();
+            this.isRunning = true;
+            this.thread    = new Thread(this, name);
+
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+
+        /**
+         * Obtains the {@link Selector}.
+         *
+         * @return the {@link Selector}
+         */
+        Selector getSelector()
+        {
+            return selector;
+        }
+
+
+        /**
+         * Wakes up the {@link SelectorLoop} thread, typically so that the {@link Selector}
+         * deregisters (and thus releases) recently closed channels.
+         */
+        void wakeup()
+        {
+            selector.wakeup();
+        }
+
+
+        /**
+         * Executes the specified task using the {@link SelectorLoop} thread, which is
+         * required for registering channels and changing interest in operations.
+         *
+         * @param task  the task
+         */
+        void execute(Runnable task)
+        {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+
+        @Override
+        public void run()
+        {
+            while (isRunning)
+            {
+                try
+                {
+                    selector.select();
+
+                    for (Runnable task = tasks.poll(); task != null; task = tasks.poll())
+                    {
+                        try
+                        {
+                            task.run();
+                        }
+                        catch (Throwable throwable)
+                        {
+                            LOGGER.log(Level.WARNING, "Failed to execute selector task", throwable);
+                        }
+                    }
+
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+                    while (keys.hasNext())
+                    {
+                        SelectionKey key = keys.next();
+
+                        keys.remove();
+
+                        if (key.isValid())
+                        {
+                            try
+                            {
+                                ((Handler) key.attachment()).onSelected(key);
+                            }
+                            catch (Throwable throwable)
+                            {
+                                LOGGER.log(Level.FINE, "Closing channel after failure", throwable);
+
+                                key.cancel();
+
+                                try
+                                {
+                                    key.channel().close();
+                                }
+                                catch (IOException e)
+                                {
+                                    // we don't care about exceptions as we close
+                                }
+                            }
+                        }
+                    }
+                }
+                catch (ClosedSelectorException e)
+                {
+                    isRunning = false;
+                }
+                catch (IOException e)
+                {
+                    LOGGER.log(Level.WARNING, "Selector failed", e);
+                }
+            }
+        }
+
+
+        /**
+         * Closes the {@link SelectorLoop}, closing the {@link Selector} and stopping the thread.
+         */
+        void close()
+        {
+            isRunning = false;
+
+            try
+            {
+                selector.close();
+            }
+            catch (IOException e)
+            {
+                // we don't care about exceptions as we close
+            }
+        }
+    }
+}
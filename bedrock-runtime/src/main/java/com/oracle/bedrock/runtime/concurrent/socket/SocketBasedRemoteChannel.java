@@ -29,6 +29,8 @@ import com.oracle.bedrock.annotations.Internal;
 import com.oracle.bedrock.runtime.concurrent.AbstractRemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -64,13 +66,59 @@ public class SocketBasedRemoteChannel extends AbstractRemoteChannel
      */
     public SocketBasedRemoteChannel(Socket socket, RemoteChannelSerializer serializer) throws IOException
     {
-        super(socket.getOutputStream(), socket.getInputStream(), serializer);
+        this(socket, serializer, null);
+    }
+
+
+    /**
+     * Constructs a {@link SocketBasedRemoteChannel} to submit and accept {@link Callable}s.
+     *
+     * @param socket      the {@link Socket} over which {@link Callable}s
+     *                    will be submitted and accepted
+     * @param serializer  an optional serializer to use
+     * @param protocol    the requested {@link ChannelProtocol}
+     *                    (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     *
+     * @throws IOException when the {@link SocketBasedRemoteChannel} can't connect
+     *                     using the {@link Socket}
+     */
+    public SocketBasedRemoteChannel(Socket                  socket,
+                                    RemoteChannelSerializer serializer,
+                                    ChannelProtocol         protocol) throws IOException
+    {
+        this(socket, serializer, protocol, null);
+    }
+
+
+    /**
+     * Constructs a {@link SocketBasedRemoteChannel} to submit and accept {@link Callable}s.
+     *
+     * @param socket          the {@link Socket} over which {@link Callable}s
+     *                        will be submitted and accepted
+     * @param serializer      an optional serializer to use
+     * @param protocol        the requested {@link ChannelProtocol}
+     *                        (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     * @param virtualThreads  the {@link VirtualThreads} for the dedicated threads of the channel
+     *                        (<code>null</code> to use {@link VirtualThreads#autoDetect()})
+     *
+     * @throws IOException when the {@link SocketBasedRemoteChannel} can't connect
+     *                     using the {@link Socket}
+     */
+    public SocketBasedRemoteChannel(Socket                  socket,
+                                    RemoteChannelSerializer serializer,
+                                    ChannelProtocol         protocol,
+                                    VirtualThreads          virtualThreads) throws IOException
+    {
+        super(socket.getOutputStream(), socket.getInputStream(), serializer, protocol, null, virtualThreads);
 
         // remember the socket so we can close it
         this.socket = socket;
 
         // we'll always attempt to reuse addresses
         this.socket.setReuseAddress(true);
+
+        // operations are coalesced into frames before being written, so don't delay sending them
+        this.socket.setTcpNoDelay(true);
     }
 
 
@@ -28,6 +28,7 @@ package com.oracle.bedrock.runtime.concurrent.socket;
 import com.oracle.bedrock.annotations.Internal;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -56,6 +57,26 @@ public class SocketBasedRemoteChannelClient extends SocketBasedRemoteChannel
                                           int         port,
                                           RemoteChannelSerializer serializer) throws IOException
     {
-        super(new Socket(address, port), serializer);
+        this(address, port, serializer, null);
+    }
+
+
+    /**
+     * Constructs a {@link SocketBasedRemoteChannelClient}.
+     *
+     * @param address     the {@link InetAddress} of the {@link SocketBasedRemoteChannelServer}
+     * @param port        the port of the {@link SocketBasedRemoteChannelServer}
+     * @param serializer  an optional serializer to use
+     * @param protocol    the requested {@link ChannelProtocol}
+     *                    (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     *
+     * @throws IOException  should the {@link SocketBasedRemoteChannelClient} fail to connect
+     */
+    public SocketBasedRemoteChannelClient(InetAddress             address,
+                                          int                     port,
+                                          RemoteChannelSerializer serializer,
+                                          ChannelProtocol         protocol) throws IOException
+    {
+        super(new Socket(address, port), serializer, protocol);
     }
 }
@@ -25,34 +25,19 @@
 
 package com.oracle.bedrock.runtime.concurrent.socket;
 
-import com.oracle.bedrock.Option;
 import com.oracle.bedrock.annotations.Internal;
-import com.oracle.bedrock.io.NetworkHelper;
-import com.oracle.bedrock.runtime.concurrent.AbstractControllableRemoteChannel;
-import com.oracle.bedrock.runtime.concurrent.AbstractRemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.ControllableRemoteChannel;
-import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
-import com.oracle.bedrock.runtime.concurrent.RemoteEvent;
-import com.oracle.bedrock.runtime.concurrent.RemoteEventListener;
-import com.oracle.bedrock.runtime.concurrent.RemoteRunnable;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.net.SocketException;
-import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-
-import static com.oracle.bedrock.predicate.Predicates.allOf;
 
 /**
  * A {@link ControllableRemoteChannel} that accepts and processes requests
@@ -64,7 +49,7 @@ import static com.oracle.bedrock.predicate.Predicates.allOf;
  * @author Brian Oliver
  */
 @Internal
-public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteChannel
+public class SocketBasedRemoteChannelServer extends AbstractRemoteChannelServer<SocketBasedRemoteChannel>
 {
     /**
     * The {@link Logger} for this class.
@@ -87,32 +72,6 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
      */
     private ServerThread serverThread;
 
-    /**
-     * The current {@link SocketBasedRemoteChannel}s managed by the {@link SocketBasedRemoteChannelServer}
-     * (indexed by a executor id).
-     */
-    private ConcurrentHashMap<Integer, SocketBasedRemoteChannel> remoteChannels;
-
-    /**
-     * Should the running {@link SocketBasedRemoteChannelServer} terminate as soon as possible?
-     */
-    private AtomicBoolean isTerminating;
-
-    /**
-     * The name for this server.
-     */
-    private String name;
-
-    /**
-     * The port that this server should bind to (or zero to use an ephemeral port).
-     */
-    private final int port;
-
-    /**
-     * An optional serializer to use.
-     */
-    private final RemoteChannelSerializer serializer;
-
     /**
      * Constructs a {@link SocketBasedRemoteChannelServer} that will accept
      * and process {@link Callable}s from {@link SocketBasedRemoteChannelClient}s.
@@ -156,14 +115,49 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
      */
     public SocketBasedRemoteChannelServer(String name, int port, RemoteChannelSerializer serializer)
     {
-        super();
-        this.name           = name;
-        this.port           = port;
-        this.serverSocket   = null;
-        this.serverThread   = null;
-        this.remoteChannels = new ConcurrentHashMap<>();
-        this.isTerminating  = new AtomicBoolean(false);
-        this.serializer     = serializer;
+        this(name, port, serializer, null);
+    }
+
+    /**
+     * Constructs a {@link SocketBasedRemoteChannelServer} that will accept
+     * and process {@link Callable}s from {@link SocketBasedRemoteChannelClient}s.
+     *
+     * @param name        the name of this server
+     * @param port        the port to bind to
+     * @param serializer  an optional serializer to use
+     * @param protocol    the {@link ChannelProtocol} requested for accepted connections
+     *                    (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     */
+    public SocketBasedRemoteChannelServer(String                  name,
+                                          int                     port,
+                                          RemoteChannelSerializer serializer,
+                                          ChannelProtocol         protocol)
+    {
+        this(name, port, serializer, protocol, null);
+    }
+
+
+    /**
+     * Constructs a {@link SocketBasedRemoteChannelServer} that will accept
+     * and process {@link Callable}s from {@link SocketBasedRemoteChannelClient}s.
+     *
+     * @param name            the name of this server
+     * @param port            the port to bind to
+     * @param serializer      an optional serializer to use
+     * @param protocol        the {@link ChannelProtocol} requested for accepted connections
+     *                        (<code>null</code> to use {@link ChannelProtocol#autoDetect()})
+     * @param virtualThreads  the {@link VirtualThreads} for the dedicated threads of accepted connections
+     *                        (<code>null</code> to use {@link VirtualThreads#autoDetect()})
+     */
+    public SocketBasedRemoteChannelServer(String                  name,
+                                          int                     port,
+                                          RemoteChannelSerializer serializer,
+                                          ChannelProtocol         protocol,
+                                          VirtualThreads          virtualThreads)
+    {
+        super(name, port, serializer, protocol, virtualThreads);
+        this.serverSocket = null;
+        this.serverThread = null;
     }
 
 
@@ -190,7 +184,7 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
             setOpen(true);
         }
 
-        return getInetAddress(allOf(NetworkHelper.LOOPBACK_ADDRESS, NetworkHelper.DEFAULT_ADDRESS));
+        return getInetAddress();
     }
 
 
@@ -199,6 +193,7 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
      *
      * @return the port
      */
+    @Override
     public synchronized int getPort()
     {
         if (serverSocket != null)
@@ -212,37 +207,10 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
     }
 
 
-    /**
-     * Obtains the {@link InetAddress} on which the {@link SocketBasedRemoteChannelServer}
-     * will accept connections (based on a specific {@link Predicate})
-     *
-     * @param predicate  the {@link Predicate} to filter {@link InetAddress}es
-     *                   (or <code>null</code> indicating the default is acceptable)
-     *
-     * @return the {@link InetAddress}
-     */
-    public synchronized InetAddress getInetAddress(Predicate<InetAddress> predicate)
+    @Override
+    protected synchronized InetAddress getBoundInetAddress()
     {
-        if (serverSocket != null)
-        {
-            try
-            {
-                predicate = predicate == null ? NetworkHelper.DEFAULT_ADDRESS : predicate;
-
-                InetAddress inetAddress = NetworkHelper.getInetAddress(predicate);
-
-                // when the specific inetAddess is not available, use the server socket
-                return inetAddress == null ? serverSocket.getInetAddress() : inetAddress;
-            }
-            catch (SocketException e)
-            {
-                return serverSocket.getInetAddress();
-            }
-        }
-        else
-        {
-            throw new IllegalStateException("Server is closed");
-        }
+        return serverSocket == null ? null : serverSocket.getInetAddress();
     }
 
 
@@ -252,17 +220,7 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
         // we're now terminating
         isTerminating.set(true);
 
-        for (SocketBasedRemoteChannel executor : remoteChannels.values())
-        {
-            try
-            {
-                executor.close();
-            }
-            catch (Exception e)
-            {
-                // we don't care about exceptions for clients when we close
-            }
-        }
+        closeRemoteChannels();
 
         try
         {
@@ -279,123 +237,6 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
     }
 
 
-    @Override
-    @SuppressWarnings("unchecked")
-    public <T> CompletableFuture<T> submit(RemoteCallable<T> callable,
-                                           Option...         options) throws IllegalStateException
-    {
-        synchronized (this)
-        {
-            if (isOpen() &&!isTerminating.get())
-            {
-                List<CompletableFuture<T>> futures =
-                    remoteChannels.values().stream().map((channel) -> channel.submit(callable))
-                    .collect(Collectors.toList());
-
-                if (futures.isEmpty())
-                {
-                    throw new IllegalStateException("Failed to submit the request [" + callable
-                                                    + "].  There are no RemoteChannels connected");
-                }
-
-                return (CompletableFuture<T>) CompletableFuture.anyOf(futures.toArray(new CompletableFuture[futures.size()]));
-            }
-            else
-            {
-                throw new IllegalStateException("Can't submit the request [" + callable
-                                                + " as the RemoteChannel is closing or is closed");
-            }
-        }
-    }
-
-
-    @Override
-    public CompletableFuture<Void> submit(RemoteRunnable runnable,
-                                          Option...      options) throws IllegalStateException
-    {
-        synchronized (this)
-        {
-            if (isOpen() &&!isTerminating.get())
-            {
-                List<CompletableFuture<?>> futures =
-                    remoteChannels.values().stream().map((channel) -> channel.submit(runnable))
-                    .collect(Collectors.toList());
-
-                if (futures.isEmpty())
-                {
-                    throw new IllegalStateException("Failed to submit the request [" + runnable
-                                                    + "].  There are no RemoteChannels connected");
-                }
-
-                return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
-            }
-            else
-            {
-                throw new IllegalStateException("Can't submit the request [" + runnable
-                                                + "] as the RemoteChannel is closing or is closed");
-            }
-        }
-    }
-
-
-    @Override
-    public void addListener(RemoteEventListener listener,
-                            Option...           options)
-    {
-        super.addListener(listener, options);
-
-        // now add the listener to all of the RemoteChannels
-        remoteChannels.forEach((id, remoteChannel) -> remoteChannel.addListener(listener, options));
-    }
-
-
-    @Override
-    public void removeListener(RemoteEventListener listener,
-                               Option...           options)
-    {
-        super.removeListener(listener, options);
-
-        // now remove the listener from all of the RemoteChannels
-        remoteChannels.forEach((id, remoteChannel) -> remoteChannel.removeListener(listener, options));
-    }
-
-
-    @Override
-    public CompletableFuture<Void> raise(RemoteEvent event,
-                                         Option...   options)
-    {
-        if (isOpen())
-        {
-            List<CompletableFuture<?>> futures = remoteChannels.values().stream().map((channel) -> {
-                                                         try
-                                                         {
-                                                             return channel.raise(event, options);
-                                                         }
-                                                         catch (Throwable e)
-                                                         {
-                                                             // we ignore exceptions when a RemoteChannel fails to raise (probably because it is closing)
-                                                             return CompletableFuture.completedFuture(null);
-                                                         }
-                                                     }).collect(Collectors.toList());
-
-            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
-        }
-
-        return CompletableFuture.completedFuture(null);
-    }
-
-
-    /**
-     * Obtains the currently connected {@link SocketBasedRemoteChannel}s.
-     *
-     * @return an {@link Iterable} over the currently connected {@link SocketBasedRemoteChannel}s
-     */
-    public Iterable<SocketBasedRemoteChannel> getRemoteChannels()
-    {
-        return remoteChannels.values();
-    }
-
-
     /**
      * The {@link Thread} used to manage communication with a single {@link RemoteChannel}.
      */
@@ -435,22 +276,13 @@ public class SocketBasedRemoteChannelServer extends AbstractControllableRemoteCh
                     try
                     {
                         Socket                   socket  = serverSocket.accept();
-                        SocketBasedRemoteChannel channel = new SocketBasedRemoteChannel(socket, serializer);
-
-                        // add all of the RemoteChannelServer RemoteEventListeners to the RemoteChannel
-                        eventListenersByStreamName.forEach((streamName,
-                            listeners) -> listeners.forEach(listener -> channel.addListener(listener, streamName)));
-
-                        // add all of the RemoteChannelServer ChannelListeners to the RemoteChannel
-                        channelListeners.forEach(channel::addListener);
-
-                        // open the channel to for communication
-                        channel.open();
+                        SocketBasedRemoteChannel channel = new SocketBasedRemoteChannel(socket,
+                                                                                        serializer,
+                                                                                        protocol,
+                                                                                        virtualThreads);
 
-                        if (channel.isOpen())
+                        if (openRemoteChannel(remoteChannelId, channel))
                         {
-                            // remember our the RemoteChannel
-                            remoteChannels.put(remoteChannelId, channel);
                             remoteChannel = channel;
                             connected = true;
                         }
@@ -0,0 +1,811 @@
+/*
+ * File: AsyncFileApplicationConsole.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.ApplicationConsoleBuilder;
+import com.oracle.bedrock.runtime.java.io.NullReader;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link ApplicationConsole} that asynchronously writes standard output and error streams
+ * to a file, and uses a {@link NullReader} for standard input.
+ * <p>
+ * Lines written to the console are handed to a single writer {@link Thread}, which writes them
+ * in batches through a large buffer, flushing it when full, when output has been buffered for
+ * the flush interval and when the console is closed.  Partially written lines are handed to the
+ * writer once they are terminated, or when the console is closed.
+ * <p>
+ * When a rotation size is specified, the file is rolled once it has grown beyond that size,
+ * renaming it with the suffix ".1" (after renaming previously rolled files to the next suffix),
+ * optionally compressing it with gzip and keeping only the specified number of rolled files.
+ * When compressing, the writer {@link Thread} only renames the file, leaving a separate compressor
+ * {@link Thread} to compress it (and rename previously rolled files), so writing isn't delayed.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class AsyncFileApplicationConsole implements ApplicationConsole
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(AsyncFileApplicationConsole.class.getName());
+
+    /**
+     * The default size of the buffer used to write to the file.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The default maximum time, in milliseconds, that output is buffered before being flushed.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL = 250;
+
+    /**
+     * The maximum number of lines that may be waiting to be written, after which writing to
+     * the console blocks until the writer catches up.
+     */
+    private static final int MAXIMUM_PENDING_LINES = 64 * 1024;
+
+    /**
+     * The maximum number of lines the writer takes from the queue at once.
+     */
+    private static final int MAXIMUM_BATCH_SIZE = 1024;
+
+    /**
+     * The marker placed on the queue to close the writer (compared by identity).
+     */
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String CLOSE = new String("");
+
+    /**
+     * The file to which output is written.
+     */
+    private final File file;
+
+    /**
+     * The size of the file after which it is rolled (zero or less to never roll).
+     */
+    private final long rotationSize;
+
+    /**
+     * The number of rolled files to keep.
+     */
+    private final int rolledFiles;
+
+    /**
+     * Should rolled files be compressed using gzip.
+     */
+    private final boolean compress;
+
+    /**
+     * The size of the buffer used to write to the file.
+     */
+    private final int bufferSize;
+
+    /**
+     * The maximum time, in nanoseconds, that output is buffered before being flushed.
+     */
+    private final long flushInterval;
+
+    /**
+     * The lines waiting to be written.
+     */
+    private final BlockingQueue<String> queue;
+
+    /**
+     * The {@link Thread} writing lines to the file.
+     */
+    private final Thread writerThread;
+
+    /**
+     * The Standard Output {@link PrintWriter}.
+     */
+    private final PrintWriter outputWriter;
+
+    /**
+     * The Standard Error {@link PrintWriter}.
+     */
+    private final PrintWriter errorWriter;
+
+    /**
+     * The Standard Input {@link Reader}.
+     */
+    private final Reader inputReader;
+
+    /**
+     * If true, application output should be formatted to include application information.
+     */
+    private final boolean diagnosticMode;
+
+    /**
+     * Is the writer accepting lines.
+     */
+    private volatile boolean accepting;
+
+    /**
+     * The number of bytes written to the current file.
+     */
+    private long size;
+
+    /**
+     * The {@link OutputStream} for the current file (only used by the writer {@link Thread}).
+     */
+    private OutputStream fileStream;
+
+    /**
+     * The {@link ExecutorService} compressing rolled files, one at a time and in the order they
+     * were rolled (<code>null</code> when rolled files aren't compressed).
+     */
+    private final ExecutorService compressor;
+
+    /**
+     * The number of times the file has been rolled (only used by the writer {@link Thread}).
+     */
+    private long rolls;
+
+
+    /**
+     * Constructs an {@link AsyncFileApplicationConsole} appending to the specified file, in diagnostic mode.
+     *
+     * @param fileName  the file name of the log file
+     */
+    public AsyncFileApplicationConsole(String fileName)
+    {
+        this(new File(fileName), true);
+    }
+
+
+    /**
+     * Constructs an {@link AsyncFileApplicationConsole} appending to the specified file.
+     *
+     * @param file            the log file
+     * @param diagnosticMode  if true, output to this console is formatted
+     *                        with application details and line numbers
+     */
+    public AsyncFileApplicationConsole(File    file,
+                                       boolean diagnosticMode)
+    {
+        this(file, diagnosticMode, 0, 0, false);
+    }
+
+
+    /**
+     * Constructs an {@link AsyncFileApplicationConsole} appending to the specified file and rolling it
+     * once it grows beyond a specified size.
+     *
+     * @param file            the log file
+     * @param diagnosticMode  if true, output to this console is formatted
+     *                        with application details and line numbers
+     * @param rotationSize    the size in bytes after which the file is rolled (zero or less to never roll)
+     * @param rolledFiles     the number of rolled files to keep
+     * @param compress        should rolled files be compressed using gzip
+     */
+    public AsyncFileApplicationConsole(File    file,
+                                       boolean diagnosticMode,
+                                       long    rotationSize,
+                                       int     rolledFiles,
+                                       boolean compress)
+    {
+        this(file, diagnosticMode, rotationSize, rolledFiles, compress, DEFAULT_BUFFER_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+
+    /**
+     * Constructs an {@link AsyncFileApplicationConsole}.
+     *
+     * @param file            the log file
+     * @param diagnosticMode  if true, output to this console is formatted
+     *                        with application details and line numbers
+     * @param rotationSize    the size in bytes after which the file is rolled (zero or less to never roll)
+     * @param rolledFiles     the number of rolled files to keep
+     * @param compress        should rolled files be compressed using gzip
+     * @param bufferSize      the size of the buffer used to write to the file
+     * @param flushInterval   the maximum time, in milliseconds, that output is buffered before being flushed
+     */
+    public AsyncFileApplicationConsole(File    file,
+                                       boolean diagnosticMode,
+                                       long    rotationSize,
+                                       int     rolledFiles,
+                                       boolean compress,
+                                       int     bufferSize,
+                                       long    flushInterval)
+    {
+        this(file,
+             diagnosticMode,
+             rotationSize,
+             rolledFiles,
+             compress,
+             bufferSize,
+             flushInterval,
+             VirtualThreads.autoDetect());
+    }
+
+
+    /**
+     * Constructs an {@link AsyncFileApplicationConsole}.
+     *
+     * @param file            the log file
+     * @param diagnosticMode  if true, output to this console is formatted
+     *                        with application details and line numbers
+     * @param rotationSize    the size in bytes after which the file is rolled (zero or less to never roll)
+     * @param rolledFiles     the number of rolled files to keep
+     * @param compress        should rolled files be compressed using gzip
+     * @param bufferSize      the size of the buffer used to write to the file
+     * @param flushInterval   the maximum time, in milliseconds, that output is buffered before being flushed
+     * @param virtualThreads  the {@link VirtualThreads} for the writer thread
+     */
+    public AsyncFileApplicationConsole(File           file,
+                                       boolean        diagnosticMode,
+                                       long           rotationSize,
+                                       int            rolledFiles,
+                                       boolean        compress,
+                                       int            bufferSize,
+                                       long           flushInterval,
+                                       VirtualThreads virtualThreads)
+    {
+        this.file           = file;
+        this.diagnosticMode = diagnosticMode;
+        this.rotationSize   = rotationSize;
+        this.rolledFiles    = Math.max(0, rolledFiles);
+        this.compress       = compress;
+        this.bufferSize     = Math.max(1024, bufferSize);
+        this.flushInterval  = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushInterval));
+        this.queue          = new LinkedBlockingQueue<>(MAXIMUM_PENDING_LINES);
+        this.outputWriter   = new PrintWriter(new LineWriter());
+        this.errorWriter    = new PrintWriter(new LineWriter());
+        this.inputReader    = new NullReader();
+        this.accepting      = true;
+        this.rolls          = 0;
+        this.compressor     = compress && this.rolledFiles > 0
+                              ? Executors.newSingleThreadExecutor(runnable -> {
+                                    Thread thread = virtualThreads.newThread(runnable,
+                                                                             "AsyncFileApplicationConsole-Compressor:"
+                                                                             + file.getName());
+
+                                    thread.setDaemon(true);
+
+                                    return thread;
+                                }) : null;
+
+        this.writerThread   = virtualThreads.newThread(this::drain, "AsyncFileApplicationConsole:" + file.getName());
+
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+
+    @Override
+    public PrintWriter getOutputWriter()
+    {
+        return outputWriter;
+    }
+
+
+    @Override
+    public PrintWriter getErrorWriter()
+    {
+        return errorWriter;
+    }
+
+
+    @Override
+    public Reader getInputReader()
+    {
+        return inputReader;
+    }
+
+
+    @Override
+    public boolean isDiagnosticsEnabled()
+    {
+        return diagnosticMode;
+    }
+
+
+    /**
+     * Obtains the file to which output is written.
+     *
+     * @return the file
+     */
+    public File getFile()
+    {
+        return file;
+    }
+
+
+    /**
+     * Obtains the rolled file with the specified index, where the most recently rolled file has index 1.
+     *
+     * @param index  the index
+     *
+     * @return the rolled file
+     */
+    public File getRolledFile(int index)
+    {
+        return new File(file.getPath() + "." + index + (compress ? ".gz" : ""));
+    }
+
+
+    @Override
+    public void close()
+    {
+        synchronized (this)
+        {
+            if (!accepting)
+            {
+                return;
+            }
+
+            // closing the writers hands any partially written lines to the writer
+            outputWriter.close();
+            errorWriter.close();
+
+            enqueue(CLOSE);
+
+            accepting = false;
+        }
+
+        try
+        {
+            writerThread.join();
+
+            // wait for the rolled files to be compressed
+            if (compressor != null)
+            {
+                compressor.shutdown();
+
+                while (!compressor.awaitTermination(1, TimeUnit.MINUTES))
+                {
+                    LOGGER.log(Level.WARNING, "Waiting to compress the rolled files of " + file);
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        try
+        {
+            inputReader.close();
+        }
+        catch (IOException e)
+        {
+            // SKIP: we don't care if an exception occurs - we're closing
+        }
+    }
+
+
+    /**
+     * Hands a line to the writer, waiting while the writer has too many lines pending.
+     *
+     * @param line  the line
+     *
+     * @return <code>true</code> if the line was accepted
+     */
+    private boolean enqueue(String line)
+    {
+        try
+        {
+            while (!queue.offer(line, 100, TimeUnit.MILLISECONDS))
+            {
+                if (!accepting || !writerThread.isAlive())
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+
+    /**
+     * Writes lines from the queue to the file until closed.
+     */
+    private void drain()
+    {
+        ArrayList<String> batch       = new ArrayList<>(MAXIMUM_BATCH_SIZE);
+        boolean           closing     = false;
+        boolean           dirty       = false;
+        long              bufferedAt  = 0;
+
+        try
+        {
+            open(true);
+
+            while (!closing)
+            {
+                String line = dirty
+                              ? queue.poll(bufferedAt + flushInterval - System.nanoTime(), TimeUnit.NANOSECONDS)
+                              : queue.take();
+
+                if (line != null)
+                {
+                    batch.add(line);
+                    queue.drainTo(batch, MAXIMUM_BATCH_SIZE - 1);
+
+                    for (String next : batch)
+                    {
+                        if (next == CLOSE)
+                        {
+                            closing = true;
+                        }
+                        else
+                        {
+                            byte[] bytes = next.getBytes(StandardCharsets.UTF_8);
+
+                            fileStream.write(bytes);
+                            size += bytes.length;
+
+                            if (!dirty)
+                            {
+                                dirty      = true;
+                                bufferedAt = System.nanoTime();
+                            }
+
+                            if (rotationSize > 0 && size >= rotationSize)
+                            {
+                                roll();
+                            }
+                        }
+                    }
+
+                    batch.clear();
+                }
+
+                if (dirty && (closing || System.nanoTime() - bufferedAt >= flushInterval))
+                {
+                    fileStream.flush();
+
+                    dirty = false;
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            // SKIP: we're being shutdown
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.WARNING, "Failed to write console output to " + file, e);
+        }
+        finally
+        {
+            accepting = false;
+
+            try
+            {
+                if (fileStream != null)
+                {
+                    fileStream.close();
+                }
+            }
+            catch (IOException e)
+            {
+                // SKIP: we don't care if an exception occurs - we're closing
+            }
+        }
+    }
+
+
+    /**
+     * Opens the file for writing.
+     *
+     * @param append  should output be appended to an existing file
+     *
+     * @throws IOException when the file can't be opened
+     */
+    private void open(boolean append) throws IOException
+    {
+        size = append && file.exists() ? file.length() : 0;
+
+        fileStream = new BufferedOutputStream(new FileOutputStream(file, append), bufferSize);
+    }
+
+
+    /**
+     * Rolls the file, renaming previously rolled files, or when compressing, renaming the file
+     * and leaving the compressor to compress it.
+     *
+     * @throws IOException when the file can't be rolled
+     */
+    private void roll() throws IOException
+    {
+        fileStream.close();
+
+        if (rolledFiles == 0)
+        {
+            Files.deleteIfExists(file.toPath());
+        }
+        else if (compressor != null)
+        {
+            File rolled = new File(file.getPath() + ".rolled-" + (++rolls));
+
+            Files.move(file.toPath(), rolled.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            compressor.execute(() -> compress(rolled));
+        }
+        else
+        {
+            shiftRolledFiles();
+
+            Files.move(file.toPath(), getRolledFile(1).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        open(false);
+    }
+
+
+    /**
+     * Renames the rolled files to the next suffix, deleting the oldest.
+     *
+     * @throws IOException when the rolled files can't be renamed
+     */
+    private void shiftRolledFiles() throws IOException
+    {
+        Files.deleteIfExists(getRolledFile(rolledFiles).toPath());
+
+        for (int index = rolledFiles - 1; index >= 1; index--)
+        {
+            File rolled = getRolledFile(index);
+
+            if (rolled.exists())
+            {
+                Files.move(rolled.toPath(), getRolledFile(index + 1).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+
+    /**
+     * Compresses a rolled file as the most recently rolled file, after renaming the previously
+     * rolled files (only used by the compressor {@link Thread}).
+     *
+     * @param rolled  the (renamed) rolled file
+     */
+    private void compress(File rolled)
+    {
+        try
+        {
+            shiftRolledFiles();
+
+            try (OutputStream output = new GZIPOutputStream(new FileOutputStream(getRolledFile(1)), bufferSize))
+            {
+                Files.copy(rolled.toPath(), output);
+            }
+
+            Files.delete(rolled.toPath());
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.WARNING, "Failed to compress the rolled file " + rolled, e);
+        }
+    }
+
+
+    /**
+     * Obtains a {@link ApplicationConsoleBuilder} for the
+     * {@link AsyncFileApplicationConsole}.
+     *
+     * @param directory  the existing directory in which to create the files
+     * @param prefix     the prefix to use for files (may be null)
+     * @param suffix     the suffix to use for files (may be null)
+     *
+     * @return a {@link ApplicationConsoleBuilder}
+     */
+    public static ApplicationConsoleBuilder builder(final String directory,
+                                                    final String prefix,
+                                                    final String suffix)
+    {
+        return new ApplicationConsoleBuilder()
+        {
+            @Override
+            public ApplicationConsole build(String applicationName)
+            {
+                return build(applicationName, VirtualThreads.autoDetect());
+            }
+
+
+            @Override
+            public ApplicationConsole build(String        applicationName,
+                                            OptionsByType optionsByType)
+            {
+                return build(applicationName, optionsByType.get(VirtualThreads.class));
+            }
+
+
+            /**
+             * Realizes an {@link AsyncFileApplicationConsole} for the specified application name.
+             *
+             * @param applicationName  the name of the application
+             * @param virtualThreads   the {@link VirtualThreads} for the writer thread
+             *
+             * @return  an {@link AsyncFileApplicationConsole}
+             */
+            private ApplicationConsole build(String         applicationName,
+                                             VirtualThreads virtualThreads)
+            {
+                File folder = new File(directory.trim());
+
+                if (!folder.exists())
+                {
+                    throw new RuntimeException("The specified directory [" + directory + "] does not exist");
+                }
+
+                // normalize the prefix and suffix
+                String normalizedPrefix = prefix == null ? "" : prefix.trim();
+                String normalizedSuffix = suffix == null ? "" : suffix.trim();
+
+                if (normalizedPrefix.length() > 0 &&!normalizedPrefix.endsWith("-"))
+                {
+                    normalizedPrefix = normalizedPrefix + "-";
+                }
+
+                return new AsyncFileApplicationConsole(new File(folder,
+                                                                normalizedPrefix + applicationName.trim()
+                                                                + normalizedSuffix),
+                                                       true,
+                                                       0,
+                                                       0,
+                                                       false,
+                                                       DEFAULT_BUFFER_SIZE,
+                                                       DEFAULT_FLUSH_INTERVAL,
+                                                       virtualThreads);
+            }
+        };
+    }
+
+
+    /**
+     * A {@link Writer} that hands complete lines to the writer {@link Thread}.
+     */
+    private class LineWriter extends Writer
+    {
+        /**
+         * The partially written line.
+         */
+        private final StringBuilder pending = new StringBuilder();
+
+
+        @Override
+        public void write(char[] buffer,
+                          int    offset,
+                          int    length) throws IOException
+        {
+            write(new String(buffer, offset, length));
+        }
+
+
+        @Override
+        public void write(String string,
+                          int    offset,
+                          int    length) throws IOException
+        {
+            int end   = offset + length;
+            int start = offset;
+
+            for (int i = offset; i < end; i++)
+            {
+                if (string.charAt(i) == '\n')
+                {
+                    String line;
+
+                    if (pending.length() == 0)
+                    {
+                        line = string.substring(start, i + 1);
+                    }
+                    else
+                    {
+                        line = pending.append(string, start, i + 1).toString();
+
+                        pending.setLength(0);
+                    }
+
+                    hand(line);
+
+                    start = i + 1;
+                }
+            }
+
+            pending.append(string, start, end);
+        }
+
+
+        /**
+         * Hands a line to the writer {@link Thread}.
+         *
+         * @param line  the line
+         *
+         * @throws IOException when the line can't be accepted
+         */
+        private void hand(String line) throws IOException
+        {
+            if (!accepting)
+            {
+                throw new IOException("The AsyncFileApplicationConsole is closed");
+            }
+
+            if (!enqueue(line))
+            {
+                throw Thread.currentThread().isInterrupted()
+                      ? new InterruptedIOException() : new IOException("The AsyncFileApplicationConsole is closed");
+            }
+        }
+
+
+        @Override
+        public void flush()
+        {
+            // SKIP: complete lines are already with the writer, which flushes them
+        }
+
+
+        @Override
+        public void close() throws IOException
+        {
+            if (pending.length() > 0)
+            {
+                pending.append(System.lineSeparator());
+
+                hand(pending.toString());
+
+                pending.setLength(0);
+            }
+        }
+    }
+}
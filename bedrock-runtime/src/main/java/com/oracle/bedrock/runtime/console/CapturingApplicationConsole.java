@@ -26,6 +26,7 @@
 package com.oracle.bedrock.runtime.console;
 
 import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -121,6 +122,24 @@ public class CapturingApplicationConsole extends AbstractPipedApplicationConsole
     public CapturingApplicationConsole(int     maximumLines,
                                        boolean diagnosticMode,
                                        int     pipeSize)
+    {
+        this(maximumLines, diagnosticMode, pipeSize, VirtualThreads.autoDetect());
+    }
+
+
+    /**
+     * Constructs {@link CapturingApplicationConsole}.
+     *
+     * @param maximumLines    the number of lines of output to keep
+     * @param diagnosticMode  if true, output to this console is not formatted
+     *                        with application details or line numbers
+     * @param pipeSize        the size of the pipe's buffers
+     * @param virtualThreads  the {@link VirtualThreads} for the threads capturing output
+     */
+    public CapturingApplicationConsole(int            maximumLines,
+                                       boolean        diagnosticMode,
+                                       int            pipeSize,
+                                       VirtualThreads virtualThreads)
     {
         super(pipeSize, diagnosticMode);
 
@@ -129,8 +148,10 @@ public class CapturingApplicationConsole extends AbstractPipedApplicationConsole
         this.stdoutBuffer = new ConcurrentLinkedQueue<>();
         this.stderrBuffer = new ConcurrentLinkedQueue<>();
 
-        this.stdoutThread = new Thread(new OutputCaptor(stdoutReader, stdoutBuffer));
-        this.stderrThread = new Thread(new OutputCaptor(stderrReader, stderrBuffer));
+        this.stdoutThread = virtualThreads.newThread(new OutputCaptor(stdoutReader, stdoutBuffer),
+                                                     "CapturingApplicationConsole:StdOut");
+        this.stderrThread = virtualThreads.newThread(new OutputCaptor(stderrReader, stderrBuffer),
+                                                     "CapturingApplicationConsole:StdErr");
 
         this.stdoutThread.start();
         this.stderrThread.start();
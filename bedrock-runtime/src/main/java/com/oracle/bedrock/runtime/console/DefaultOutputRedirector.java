@@ -79,6 +79,12 @@ public abstract class DefaultOutputRedirector
         PrintWriter        printWriter               = ensurePrintWriter();
         long               lineNumber                = 1;
 
+        // the diagnostic header is the same for every line, so only the line number and line are formatted per line
+        String        header     = "[" + applicationName + ":" + prefix + (processId < 0 ? "" : ":" + processId)
+                                   + "] ";
+        StringBuilder diagnostic = new StringBuilder(128);
+        char[]        buffer     = new char[128];
+
         try
         {
             BufferedReader reader  =
@@ -97,24 +103,16 @@ public abstract class DefaultOutputRedirector
                         break;
                     }
 
-                    String diagnosticOutput = (diagnosticsEnabled
-                                               || consoleDiagnosticsEnabled) ? String.format("[%s:%s%s] %4d: %s",
-                                                                                             applicationName,
-                                                                                             prefix,
-                                                                                             processId < 0
-                                                                                             ? "" : ":" + processId,
-                                                                                             lineNumber++,
-                                                                                             line) : null;
-
-                    String output = consoleDiagnosticsEnabled ? diagnosticOutput : line;
-
-                    if (diagnosticsEnabled)
+                    if (diagnosticsEnabled || consoleDiagnosticsEnabled)
                     {
-                        Container.getPlatformScope().getStandardOutput().println(output);
+                        formatDiagnostic(diagnostic, header, lineNumber++, line);
                     }
 
-                    printWriter.println(output);
-                    printWriter.flush();
+                    buffer = println(printWriter,
+                                     consoleDiagnosticsEnabled ? diagnostic : null,
+                                     line,
+                                     diagnosticsEnabled,
+                                     buffer);
                 }
                 catch (InterruptedIOException e)
                 {
@@ -130,23 +128,12 @@ public abstract class DefaultOutputRedirector
 
         try
         {
-            String diagnosticOutput = (diagnosticsEnabled
-                                       || consoleDiagnosticsEnabled) ? String.format("[%s:%s%s] %4d: (terminated)",
-                                                                                     applicationName,
-                                                                                     prefix,
-                                                                                     processId < 0
-                                                                                     ? "" : ":" + processId,
-                                                                                     lineNumber) : null;
-
-            String output = consoleDiagnosticsEnabled ? diagnosticOutput : "(terminated)";
-
-            if (diagnosticsEnabled)
+            if (diagnosticsEnabled || consoleDiagnosticsEnabled)
             {
-                Container.getPlatformScope().getStandardOutput().println(output);
+                formatDiagnostic(diagnostic, header, lineNumber, "(terminated)");
             }
 
-            printWriter.println(output);
-            printWriter.flush();
+            println(printWriter, consoleDiagnosticsEnabled ? diagnostic : null, "(terminated)", diagnosticsEnabled, buffer);
         }
         catch (Exception e)
         {
@@ -154,4 +141,76 @@ public abstract class DefaultOutputRedirector
             // are always due to process termination.
         }
     }
+
+
+    /**
+     * Formats a line of diagnostic output, equivalent to <code>String.format("%s%4d: %s", header, lineNumber, line)</code>,
+     * reusing the specified {@link StringBuilder}.
+     *
+     * @param builder     the {@link StringBuilder} in which to format the output
+     * @param header      the header identifying the application
+     * @param lineNumber  the line number
+     * @param line        the line
+     */
+    static void formatDiagnostic(StringBuilder builder,
+                                 String        header,
+                                 long          lineNumber,
+                                 String        line)
+    {
+        builder.setLength(0);
+        builder.append(header);
+
+        for (long limit = 1000; limit > 1 && lineNumber < limit; limit /= 10)
+        {
+            builder.append(' ');
+        }
+
+        builder.append(lineNumber).append(": ").append(line);
+    }
+
+
+    /**
+     * Writes and flushes a line of output, along with the diagnostic output when enabled.
+     *
+     * @param printWriter         the {@link PrintWriter} to which to write
+     * @param diagnostic          the formatted diagnostic output to write in place of the line (may be null)
+     * @param line                the line
+     * @param diagnosticsEnabled  should the output also be written to the platform standard output
+     * @param buffer              the buffer to use for copying the diagnostic output
+     *
+     * @return the buffer to use for subsequent diagnostic output
+     */
+    private static char[] println(PrintWriter   printWriter,
+                                  StringBuilder diagnostic,
+                                  String        line,
+                                  boolean       diagnosticsEnabled,
+                                  char[]        buffer)
+    {
+        if (diagnosticsEnabled)
+        {
+            Container.getPlatformScope().getStandardOutput().println(diagnostic == null ? line : diagnostic);
+        }
+
+        if (diagnostic == null)
+        {
+            printWriter.println(line);
+        }
+        else
+        {
+            int length = diagnostic.length();
+
+            if (buffer.length < length)
+            {
+                buffer = new char[Math.max(length, buffer.length * 2)];
+            }
+
+            diagnostic.getChars(0, length, buffer, 0);
+            printWriter.write(buffer, 0, length);
+            printWriter.println();
+        }
+
+        printWriter.flush();
+
+        return buffer;
+    }
 }
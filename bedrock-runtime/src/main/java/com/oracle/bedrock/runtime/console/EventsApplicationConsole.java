@@ -26,11 +26,17 @@
 package com.oracle.bedrock.runtime.console;
 
 import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 import com.oracle.bedrock.util.Pair;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Predicate;
@@ -40,6 +46,11 @@ import java.util.function.Predicate;
  * treats line of output to StdOut and StdErr as events and fires them to registered {@link Listener}s.
  * This console also allows StdIn to be piped to the application.
  * <p>
+ * {@link Listener}s registered with a {@link LinePattern} are matched together, scanning each line
+ * once regardless of how many are registered, whereas those registered with a {@link Predicate}
+ * are each tested against every line.  {@link Listener}s are deregistered once they are
+ * {@link Listener#isSatisfied() satisfied}.
+ * <p>
  * Copyright (c) 2016. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -50,12 +61,12 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
     /**
      * The {@link Listener}s listening to StdOut
      */
-    private final ConcurrentLinkedQueue<Pair<Predicate<String>, Listener>> stdoutListeners;
+    private final Listeners stdoutListeners;
 
     /**
      * The {@link Listener}s listening to StdErr
      */
-    private final ConcurrentLinkedQueue<Pair<Predicate<String>, Listener>> stderrListeners;
+    private final Listeners stderrListeners;
 
     /**
      * The {@link Thread} capturing StdOut lines
@@ -74,14 +85,27 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
      * This constructor will set the maximum number of lines to capture to {@link Integer#MAX_VALUE}.
      */
     public EventsApplicationConsole()
+    {
+        this(VirtualThreads.autoDetect());
+    }
+
+
+    /**
+     * Constructs {@link EventsApplicationConsole}.
+     *
+     * @param virtualThreads  the {@link VirtualThreads} for the threads capturing output
+     */
+    public EventsApplicationConsole(VirtualThreads virtualThreads)
     {
         super(DEFAULT_PIPE_SIZE, false);
 
-        this.stdoutListeners = new ConcurrentLinkedQueue<>();
-        this.stderrListeners = new ConcurrentLinkedQueue<>();
+        this.stdoutListeners = new Listeners();
+        this.stderrListeners = new Listeners();
 
-        this.stdoutThread    = new Thread(new OutputCaptor(stdoutReader, stdoutListeners));
-        this.stderrThread    = new Thread(new OutputCaptor(stderrReader, stderrListeners));
+        this.stdoutThread    = virtualThreads.newThread(new OutputCaptor(stdoutReader, stdoutListeners),
+                                                        "EventsApplicationConsole:StdOut");
+        this.stderrThread    = virtualThreads.newThread(new OutputCaptor(stderrReader, stderrListeners),
+                                                        "EventsApplicationConsole:StdErr");
 
         this.stdoutThread.start();
         this.stderrThread.start();
@@ -143,6 +167,24 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
     }
 
 
+    /**
+     * Add a listener to receive stdout console lines as events
+     * that match the specified {@link LinePattern}.
+     *
+     * @param pattern   the {@link LinePattern} to use to match console output lines
+     * @param listener  the {@link Listener}
+     *
+     * @return  this {@link EventsApplicationConsole}
+     */
+    public EventsApplicationConsole withStdOutListener(LinePattern pattern,
+                                                       Listener    listener)
+    {
+        stdoutListeners.add(pattern, listener);
+
+        return this;
+    }
+
+
     /**
      * Add a listener to receive stderr console lines as events.
      *
@@ -181,6 +223,48 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
     }
 
 
+    /**
+     * Add a listener to receive stderr console lines as events
+     * that match the specified {@link LinePattern}.
+     *
+     * @param pattern   the {@link LinePattern} to use to match console output lines
+     * @param listener  the {@link Listener}
+     *
+     * @return  this {@link EventsApplicationConsole}
+     */
+    public EventsApplicationConsole withStdErrListener(LinePattern pattern,
+                                                       Listener    listener)
+    {
+        stderrListeners.add(pattern, listener);
+
+        return this;
+    }
+
+
+    /**
+     * Obtains the number of {@link Listener}s currently registered to receive stdout console lines,
+     * excluding those that have been deregistered once satisfied.
+     *
+     * @return the number of {@link Listener}s
+     */
+    public int getStdOutListenerCount()
+    {
+        return stdoutListeners.size();
+    }
+
+
+    /**
+     * Obtains the number of {@link Listener}s currently registered to receive stderr console lines,
+     * excluding those that have been deregistered once satisfied.
+     *
+     * @return the number of {@link Listener}s
+     */
+    public int getStdErrListenerCount()
+    {
+        return stderrListeners.size();
+    }
+
+
     /**
      * Obtains a {@link PrintWriter} that can be used to write to the stdin
      * of an {@link ApplicationConsole}.
@@ -206,6 +290,53 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
          * @param line  the line of output
          */
         void onOutput(String line);
+
+
+        /**
+         * Determines if this {@link Listener} has received all of the output it requires,
+         * after which it is deregistered.
+         *
+         * @return <code>true</code> if the {@link Listener} is satisfied
+         */
+        default boolean isSatisfied()
+        {
+            return false;
+        }
+
+
+        /**
+         * Obtains a {@link Listener} that delegates the first line of output it receives to the
+         * specified {@link Listener}, after which it is satisfied.
+         *
+         * @param listener  the {@link Listener}
+         *
+         * @return a one-shot {@link Listener}
+         */
+        static Listener once(Listener listener)
+        {
+            return new Listener()
+            {
+                private volatile boolean satisfied;
+
+                @Override
+                public void onOutput(String line)
+                {
+                    if (!satisfied)
+                    {
+                        satisfied = true;
+
+                        listener.onOutput(line);
+                    }
+                }
+
+
+                @Override
+                public boolean isSatisfied()
+                {
+                    return satisfied;
+                }
+            };
+        }
     }
 
 
@@ -236,6 +367,186 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
         {
             countDown();
         }
+
+
+        @Override
+        public boolean isSatisfied()
+        {
+            return getCount() == 0;
+        }
+    }
+
+
+    /**
+     * The {@link Listener}s registered for a stream of output.
+     */
+    static class Listeners
+    {
+        /**
+         * The {@link Listener}s registered with a {@link Predicate}.
+         */
+        private final ConcurrentLinkedQueue<Pair<Predicate<String>, Listener>> predicated;
+
+        /**
+         * The {@link Listener}s registered with a {@link LinePattern}.
+         */
+        private final ArrayList<Pair<LinePattern, Listener>> patterned;
+
+        /**
+         * The {@link Listener}s registered with a {@link LinePattern} and their compiled {@link LinePatternMatcher},
+         * replaced whenever a {@link Listener} is registered or deregistered.
+         */
+        private volatile Pair<List<Listener>, LinePatternMatcher> matcher;
+
+        /**
+         * The indexes of the {@link LinePattern}s matching a line (only used by the captor).
+         */
+        private final BitSet matched;
+
+
+        /**
+         * Constructs {@link Listeners}.
+         */
+        Listeners()
+        {
+            this.predicated = new ConcurrentLinkedQueue<>();
+            this.patterned  = new ArrayList<>();
+            this.matcher    = new Pair<>(Collections.emptyList(), null);
+            this.matched    = new BitSet();
+        }
+
+
+        /**
+         * Registers a {@link Listener} with a {@link Predicate}.
+         *
+         * @param pair  the {@link Predicate} and {@link Listener}
+         */
+        void add(Pair<Predicate<String>, Listener> pair)
+        {
+            predicated.add(pair);
+        }
+
+
+        /**
+         * Registers a {@link Listener} with a {@link LinePattern}.
+         *
+         * @param pattern   the {@link LinePattern}
+         * @param listener  the {@link Listener}
+         */
+        synchronized void add(LinePattern pattern,
+                              Listener    listener)
+        {
+            patterned.add(new Pair<>(pattern, listener));
+
+            compile();
+        }
+
+
+        /**
+         * Deregisters the {@link Listener}s registered with a {@link LinePattern} that are satisfied.
+         */
+        private synchronized void removeSatisfied()
+        {
+            if (patterned.removeIf(pair -> pair.getY().isSatisfied()))
+            {
+                compile();
+            }
+        }
+
+
+        /**
+         * Compiles the {@link LinePattern}s of the registered {@link Listener}s.
+         */
+        private void compile()
+        {
+            ArrayList<LinePattern> patterns  = new ArrayList<>(patterned.size());
+            ArrayList<Listener>    listeners = new ArrayList<>(patterned.size());
+
+            for (Pair<LinePattern, Listener> pair : patterned)
+            {
+                patterns.add(pair.getX());
+                listeners.add(pair.getY());
+            }
+
+            matcher = new Pair<>(listeners, patterns.isEmpty() ? null : new LinePatternMatcher(patterns));
+        }
+
+
+        /**
+         * Obtains the number of registered {@link Listener}s.
+         *
+         * @return the number of {@link Listener}s
+         */
+        int size()
+        {
+            return predicated.size() + matcher.getX().size();
+        }
+
+
+        /**
+         * Sends a line of output to the matching {@link Listener}s, deregistering those that are satisfied.
+         *
+         * @param line  the line of output
+         */
+        void onOutput(String line)
+        {
+            for (Iterator<Pair<Predicate<String>, Listener>> iterator = predicated.iterator(); iterator.hasNext(); )
+            {
+                Pair<Predicate<String>, Listener> pair = iterator.next();
+
+                try
+                {
+                    if (pair.getX().test(line))
+                    {
+                        pair.getY().onOutput(line);
+
+                        if (pair.getY().isSatisfied())
+                        {
+                            iterator.remove();
+                        }
+                    }
+                }
+                catch (Throwable t)
+                {
+                    t.printStackTrace();
+                }
+            }
+
+            Pair<List<Listener>, LinePatternMatcher> current   = matcher;
+            List<Listener>                           listeners = current.getX();
+            boolean                                  satisfied = false;
+
+            if (current.getY() != null)
+            {
+                current.getY().match(line, matched);
+
+                for (int index = matched.nextSetBit(0); index >= 0; index = matched.nextSetBit(index + 1))
+                {
+                    Listener listener = listeners.get(index);
+
+                    try
+                    {
+                        if (!listener.isSatisfied())
+                        {
+                            listener.onOutput(line);
+
+                            satisfied |= listener.isSatisfied();
+                        }
+                    }
+                    catch (Throwable t)
+                    {
+                        t.printStackTrace();
+                    }
+                }
+
+                matched.clear();
+            }
+
+            if (satisfied)
+            {
+                removeSatisfied();
+            }
+        }
     }
 
 
@@ -252,7 +563,7 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
         /**
          * The {@link Listener}a to send output lines to.
          */
-        ConcurrentLinkedQueue<Pair<Predicate<String>, Listener>> listeners;
+        Listeners listeners;
 
 
         /**
@@ -261,8 +572,8 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
          * @param reader      The {@link BufferedReader} to capture output from
          * @param listeners   The {@link Listener}s to send output lines to
          */
-        OutputCaptor(BufferedReader                                           reader,
-                     ConcurrentLinkedQueue<Pair<Predicate<String>, Listener>> listeners)
+        OutputCaptor(BufferedReader reader,
+                     Listeners      listeners)
         {
             this.reader    = reader;
             this.listeners = listeners;
@@ -282,20 +593,7 @@ public class EventsApplicationConsole extends AbstractPipedApplicationConsole
 
                 while (line != null)
                 {
-                    for (Pair<Predicate<String>, Listener> pair : listeners)
-                    {
-                        try
-                        {
-                            if (pair.getX().test(line))
-                            {
-                                pair.getY().onOutput(line);
-                            }
-                        }
-                        catch (Throwable t)
-                        {
-                            t.printStackTrace();
-                        }
-                    }
+                    listeners.onOutput(line);
 
                     line = reader.readLine();
                 }
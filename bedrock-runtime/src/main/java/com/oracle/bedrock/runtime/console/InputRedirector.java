@@ -26,6 +26,7 @@
 package com.oracle.bedrock.runtime.console;
 
 import com.oracle.bedrock.runtime.ApplicationConsole;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 
 import java.io.OutputStream;
 import java.io.Reader;
@@ -34,6 +35,9 @@ import java.io.Reader;
  * An {@link InputRedirector} pipes input to an {@link OutputStream},
  * typically from an {@link ApplicationConsole} to a {@link Process}.
  * <p>
+ * When {@link VirtualThreads} are enabled (and supported) an {@link InputRedirector}
+ * is executed by a virtual {@link Thread}, instead of being started itself.
+ * <p>
  * Copyright (c) 2019. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -53,6 +57,12 @@ public abstract class InputRedirector
      */
     private ApplicationConsole console;
 
+    /**
+     * The {@link Thread} executing this {@link InputRedirector}, being either this
+     * {@link Thread} or a virtual {@link Thread} (<code>null</code> until started).
+     */
+    private volatile Thread executingThread;
+
     /**
      * Start this {@link InputRedirector}.
      *
@@ -60,12 +70,48 @@ public abstract class InputRedirector
      * @param console  the {@link ApplicationConsole} for the process
      */
     public void start(OutputStream out, ApplicationConsole console)
+    {
+        start(out, console, VirtualThreads.autoDetect());
+    }
+
+    /**
+     * Start this {@link InputRedirector}, using a virtual {@link Thread} when
+     * {@link VirtualThreads} are enabled and supported.
+     *
+     * @param out             the {@link OutputStream} to which to write content
+     * @param console         the {@link ApplicationConsole} for the process
+     * @param virtualThreads  the {@link VirtualThreads} option
+     */
+    public void start(OutputStream out, ApplicationConsole console, VirtualThreads virtualThreads)
     {
         this.outputStream = out;
         this.console      = console;
-        
-        setDaemon(true);
-        start();
+
+        if (virtualThreads != null && virtualThreads.isEnabled() && VirtualThreads.isSupported())
+        {
+            executingThread = virtualThreads.newThread(this, getName());
+        }
+        else
+        {
+            executingThread = this;
+
+            setDaemon(true);
+        }
+
+        executingThread.start();
+    }
+
+    @Override
+    public void interrupt()
+    {
+        Thread thread = executingThread;
+
+        if (thread != null && thread != this)
+        {
+            thread.interrupt();
+        }
+
+        super.interrupt();
     }
 
     /**
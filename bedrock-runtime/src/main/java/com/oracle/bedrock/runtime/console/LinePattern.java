@@ -0,0 +1,163 @@
+/*
+ * File: LinePattern.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * A literal or regular expression pattern to match against lines of console output.
+ * <p>
+ * A literal {@link LinePattern} matches lines containing its text.  A regular expression
+ * {@link LinePattern} matches lines in which its {@link Pattern} can be found.
+ * <p>
+ * Unlike arbitrary {@link java.util.function.Predicate}s, {@link LinePattern}s registered with an
+ * {@link EventsApplicationConsole} are compiled together, so that each line of output is scanned
+ * once regardless of the number of patterns registered.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public final class LinePattern
+{
+    /**
+     * The literal text to match (null when a regular expression).
+     */
+    private final String literal;
+
+    /**
+     * The regular expression to match (null when a literal).
+     */
+    private final Pattern pattern;
+
+
+    /**
+     * Constructs a {@link LinePattern}.
+     *
+     * @param literal  the literal text
+     * @param pattern  the regular expression
+     */
+    private LinePattern(String  literal,
+                        Pattern pattern)
+    {
+        this.literal = literal;
+        this.pattern = pattern;
+    }
+
+
+    /**
+     * Obtains a {@link LinePattern} matching lines containing the specified text.
+     *
+     * @param text  the text
+     *
+     * @return a {@link LinePattern}
+     */
+    public static LinePattern literal(String text)
+    {
+        return new LinePattern(Objects.requireNonNull(text, "The text must not be null"), null);
+    }
+
+
+    /**
+     * Obtains a {@link LinePattern} matching lines in which the specified regular expression can be found.
+     *
+     * @param regex  the regular expression
+     *
+     * @return a {@link LinePattern}
+     *
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    public static LinePattern regex(String regex)
+    {
+        return of(Pattern.compile(regex));
+    }
+
+
+    /**
+     * Obtains a {@link LinePattern} matching lines in which the specified {@link Pattern} can be found.
+     *
+     * @param pattern  the {@link Pattern}
+     *
+     * @return a {@link LinePattern}
+     */
+    public static LinePattern of(Pattern pattern)
+    {
+        return new LinePattern(null, Objects.requireNonNull(pattern, "The pattern must not be null"));
+    }
+
+
+    /**
+     * Determines if this {@link LinePattern} is a literal.
+     *
+     * @return <code>true</code> if this is a literal, <code>false</code> if a regular expression
+     */
+    public boolean isLiteral()
+    {
+        return literal != null;
+    }
+
+
+    /**
+     * Obtains the literal text of this {@link LinePattern}.
+     *
+     * @return the literal text or <code>null</code> if this is a regular expression
+     */
+    public String getLiteral()
+    {
+        return literal;
+    }
+
+
+    /**
+     * Obtains the regular expression of this {@link LinePattern}.
+     *
+     * @return the {@link Pattern} or <code>null</code> if this is a literal
+     */
+    public Pattern getPattern()
+    {
+        return pattern;
+    }
+
+
+    /**
+     * Determines if this {@link LinePattern} matches the specified line, independently of any other patterns.
+     *
+     * @param line  the line
+     *
+     * @return <code>true</code> if the line matches
+     */
+    public boolean matches(String line)
+    {
+        return literal != null ? line.contains(literal) : pattern.matcher(line).find();
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return literal != null ? "LinePattern{literal=" + literal + "}" : "LinePattern{regex=" + pattern + "}";
+    }
+}
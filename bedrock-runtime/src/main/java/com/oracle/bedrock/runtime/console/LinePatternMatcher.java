@@ -0,0 +1,682 @@
+/*
+ * File: LinePatternMatcher.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Matches lines against a fixed list of {@link LinePattern}s, scanning each line once.
+ * <p>
+ * Literal patterns, together with a literal that each regular expression requires (when one can be
+ * determined), are compiled into a single Aho-Corasick automaton.  A regular expression with a
+ * required literal is only evaluated when the automaton finds its literal.  The remaining regular
+ * expressions are combined into a single alternation, which must be found before they are evaluated.
+ * <p>
+ * A {@link LinePatternMatcher} is immutable once created, but may only be used by one thread at a time.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+final class LinePatternMatcher
+{
+    /**
+     * The regular expression flags that can be specified inline, in the order of {@link #INLINE_FLAG_NAMES}.
+     */
+    private static final int[] INLINE_FLAGS = {Pattern.CASE_INSENSITIVE, Pattern.MULTILINE, Pattern.DOTALL,
+                                               Pattern.UNICODE_CASE, Pattern.UNIX_LINES,
+                                               Pattern.UNICODE_CHARACTER_CLASS};
+
+    /**
+     * The names of the regular expression flags that can be specified inline.
+     */
+    private static final String INLINE_FLAG_NAMES = "imsudU";
+
+    /**
+     * The number of {@link LinePattern}s.
+     */
+    private final int size;
+
+    /**
+     * The indexes of the {@link LinePattern}s matching every line.
+     */
+    private final int[] everyLine;
+
+    /**
+     * The symbols of ASCII characters (zero for characters not in any literal).
+     */
+    private final int[] asciiSymbols;
+
+    /**
+     * The sorted non-ASCII characters of literals, the symbol of each being its index plus the ASCII symbol count.
+     */
+    private final char[] otherCharacters;
+
+    /**
+     * The number of symbols used by ASCII characters, including the zero symbol.
+     */
+    private final int asciiSymbolCount;
+
+    /**
+     * The number of symbols.
+     */
+    private final int symbolCount;
+
+    /**
+     * The automaton transitions, indexed by state multiplied by the number of symbols, plus the symbol.
+     */
+    private final int[] transitions;
+
+    /**
+     * The indexes of {@link LinePattern}s whose literal ends at each state (null when none).
+     */
+    private final int[][] outputs;
+
+    /**
+     * The {@link Matcher}s of regular expressions, by index (null for literals).
+     */
+    private final Matcher[] matchers;
+
+    /**
+     * The indexes of regular expressions without a required literal, evaluated when {@link #alternation} is found.
+     */
+    private final int[] alternatives;
+
+    /**
+     * The {@link Matcher} of the alternation of the {@link #alternatives}.
+     */
+    private final Matcher alternation;
+
+    /**
+     * The indexes of regular expressions that are evaluated for every line.
+     */
+    private final int[] unfiltered;
+
+    /**
+     * The regular expressions found by the automaton to be worth evaluating.
+     */
+    private final BitSet candidates;
+
+
+    /**
+     * Constructs a {@link LinePatternMatcher}.
+     *
+     * @param patterns  the {@link LinePattern}s
+     */
+    LinePatternMatcher(List<LinePattern> patterns)
+    {
+        this.size       = patterns.size();
+        this.matchers   = new Matcher[size];
+        this.candidates = new BitSet(size);
+
+        ArrayList<String>  literals     = new ArrayList<>();
+        ArrayList<Integer> owners       = new ArrayList<>();
+        ArrayList<Integer> everyLine    = new ArrayList<>();
+        ArrayList<Integer> alternatives = new ArrayList<>();
+        ArrayList<Integer> unfiltered   = new ArrayList<>();
+        StringBuilder      alternation  = new StringBuilder();
+
+        for (int index = 0; index < size; index++)
+        {
+            LinePattern linePattern = patterns.get(index);
+            String      literal;
+
+            if (linePattern.isLiteral())
+            {
+                literal = linePattern.getLiteral();
+            }
+            else
+            {
+                Pattern pattern = linePattern.getPattern();
+
+                matchers[index] = pattern.matcher("");
+                literal         = requiredLiteral(pattern);
+
+                if (literal == null || literal.isEmpty())
+                {
+                    String inlined = inline(pattern);
+
+                    if (inlined == null)
+                    {
+                        unfiltered.add(index);
+                    }
+                    else
+                    {
+                        alternation.append(alternation.length() == 0 ? "" : "|").append(inlined);
+                        alternatives.add(index);
+                    }
+
+                    literal = null;
+                }
+            }
+
+            if (literal != null)
+            {
+                if (literal.isEmpty())
+                {
+                    everyLine.add(index);
+                }
+                else
+                {
+                    literals.add(literal);
+                    owners.add(index);
+                }
+            }
+        }
+
+        Matcher combined = null;
+
+        if (!alternatives.isEmpty())
+        {
+            try
+            {
+                combined = Pattern.compile(alternation.toString()).matcher("");
+            }
+            catch (PatternSyntaxException e)
+            {
+                // the expressions can't be combined (eg: they define the same named groups)
+                unfiltered.addAll(alternatives);
+                alternatives.clear();
+            }
+        }
+
+        this.everyLine    = toArray(everyLine);
+        this.alternatives = toArray(alternatives);
+        this.alternation  = combined;
+        this.unfiltered   = toArray(unfiltered);
+
+        // establish the symbols for the characters used by the literals
+        TreeSet<Character> characters = new TreeSet<>();
+
+        for (String literal : literals)
+        {
+            for (int i = 0; i < literal.length(); i++)
+            {
+                characters.add(literal.charAt(i));
+            }
+        }
+
+        this.asciiSymbols = new int[128];
+
+        int    symbol = 1;
+        char[] others = new char[characters.size()];
+        int    count  = 0;
+
+        for (char character : characters)
+        {
+            if (character < 128)
+            {
+                asciiSymbols[character] = symbol++;
+            }
+            else
+            {
+                others[count++] = character;
+            }
+        }
+
+        this.asciiSymbolCount = symbol;
+        this.otherCharacters  = Arrays.copyOf(others, count);
+        this.symbolCount      = symbol + count;
+
+        // build the trie of literals
+        ArrayList<HashMap<Integer, Integer>> children = new ArrayList<>();
+        ArrayList<ArrayList<Integer>>        ends     = new ArrayList<>();
+
+        children.add(new HashMap<>());
+        ends.add(new ArrayList<>());
+
+        for (int i = 0; i < literals.size(); i++)
+        {
+            String literal = literals.get(i);
+            int    state   = 0;
+
+            for (int j = 0; j < literal.length(); j++)
+            {
+                Integer next = children.get(state).get(symbolOf(literal.charAt(j)));
+
+                if (next == null)
+                {
+                    next = children.size();
+
+                    children.get(state).put(symbolOf(literal.charAt(j)), next);
+                    children.add(new HashMap<>());
+                    ends.add(new ArrayList<>());
+                }
+
+                state = next;
+            }
+
+            ends.get(state).add(owners.get(i));
+        }
+
+        // convert the trie into a deterministic automaton, breadth first so failure states are complete
+        int   states  = children.size();
+        int[] failure = new int[states];
+        int[] queue   = new int[states];
+        int   head    = 0;
+        int   tail    = 0;
+
+        this.transitions = new int[states * symbolCount];
+        this.outputs     = new int[states][];
+
+        queue[tail++]    = 0;
+
+        while (head < tail)
+        {
+            int state = queue[head++];
+
+            if (state != 0)
+            {
+                ends.get(state).addAll(ends.get(failure[state]));
+            }
+
+            outputs[state] = ends.get(state).isEmpty() ? null : toArray(ends.get(state));
+
+            for (int s = 1; s < symbolCount; s++)
+            {
+                Integer next = children.get(state).get(s);
+
+                if (next == null)
+                {
+                    transitions[state * symbolCount + s] = state == 0
+                                                           ? 0 : transitions[failure[state] * symbolCount + s];
+                }
+                else
+                {
+                    transitions[state * symbolCount + s] = next;
+                    failure[next] = state == 0 ? 0 : transitions[failure[state] * symbolCount + s];
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Obtains the symbol of a character.
+     *
+     * @param character  the character
+     *
+     * @return the symbol, zero when the character is not in any literal
+     */
+    private int symbolOf(char character)
+    {
+        if (character < 128)
+        {
+            return asciiSymbols[character];
+        }
+
+        int index = Arrays.binarySearch(otherCharacters, character);
+
+        return index < 0 ? 0 : asciiSymbolCount + index;
+    }
+
+
+    /**
+     * Determines the {@link LinePattern}s matching a line.
+     *
+     * @param line     the line
+     * @param matched  the {@link BitSet} in which to set the indexes of the matching {@link LinePattern}s
+     */
+    void match(String line,
+               BitSet matched)
+    {
+        for (int index : everyLine)
+        {
+            matched.set(index);
+        }
+
+        if (outputs.length > 1)
+        {
+            int state = 0;
+
+            for (int i = 0, length = line.length(); i < length; i++)
+            {
+                state = transitions[state * symbolCount + symbolOf(line.charAt(i))];
+
+                int[] indexes = outputs[state];
+
+                if (indexes != null)
+                {
+                    for (int index : indexes)
+                    {
+                        if (matchers[index] == null)
+                        {
+                            matched.set(index);
+                        }
+                        else
+                        {
+                            candidates.set(index);
+                        }
+                    }
+                }
+            }
+
+            for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1))
+            {
+                if (matchers[index].reset(line).find())
+                {
+                    matched.set(index);
+                }
+            }
+
+            candidates.clear();
+        }
+
+        if (alternation != null && alternation.reset(line).find())
+        {
+            for (int index : alternatives)
+            {
+                if (matchers[index].reset(line).find())
+                {
+                    matched.set(index);
+                }
+            }
+        }
+
+        for (int index : unfiltered)
+        {
+            if (matchers[index].reset(line).find())
+            {
+                matched.set(index);
+            }
+        }
+    }
+
+
+    /**
+     * Obtains the number of {@link LinePattern}s.
+     *
+     * @return the number of {@link LinePattern}s
+     */
+    int size()
+    {
+        return size;
+    }
+
+
+    /**
+     * Determines the longest literal that any match of a {@link Pattern} must contain, considering only
+     * the top-level sequence of the expression.
+     *
+     * @param pattern  the {@link Pattern}
+     *
+     * @return the literal (possibly empty), or <code>null</code> when one can't be safely determined
+     */
+    static String requiredLiteral(Pattern pattern)
+    {
+        int flags = pattern.flags();
+
+        if ((flags & Pattern.LITERAL) != 0 && (flags & (Pattern.CASE_INSENSITIVE | Pattern.CANON_EQ)) == 0)
+        {
+            return pattern.pattern();
+        }
+
+        if ((flags & (Pattern.LITERAL | Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.CANON_EQ)) != 0)
+        {
+            return null;
+        }
+
+        String        regex     = pattern.pattern();
+        StringBuilder run       = new StringBuilder();
+        String        longest   = "";
+        int           depth     = 0;
+        int           classes   = 0;
+        boolean       isLiteral = false;
+
+        for (int i = 0; i < regex.length(); i++)
+        {
+            char c = regex.charAt(i);
+
+            if (classes > 0)
+            {
+                if (c == '\\')
+                {
+                    i++;
+                }
+                else if (c == '[')
+                {
+                    classes++;
+                }
+                else if (c == ']')
+                {
+                    classes--;
+                }
+
+                continue;
+            }
+
+            boolean literal = false;
+            char    value   = c;
+
+            if (c == '\\')
+            {
+                char next = ++i < regex.length() ? regex.charAt(i) : 0;
+
+                if (next == 'Q' || (next >= '1' && next <= '9'))
+                {
+                    return null;
+                }
+                else if (Character.isLetterOrDigit(next))
+                {
+                    i = skipEscape(regex, i);
+                }
+                else
+                {
+                    literal = true;
+                    value   = next;
+                }
+            }
+            else if (c == '(')
+            {
+                if (i + 2 < regex.length() && regex.charAt(i + 1) == '?'
+                    && "imsuxdU-".indexOf(regex.charAt(i + 2)) >= 0)
+                {
+                    // inline flags may change how the following characters match
+                    return null;
+                }
+
+                depth++;
+            }
+            else if (c == ')')
+            {
+                depth--;
+            }
+            else if (c == '|')
+            {
+                if (depth == 0)
+                {
+                    return null;
+                }
+            }
+            else if (c == '[')
+            {
+                classes = 1;
+            }
+            else if (c == '?' || c == '*' || c == '+' || c == '{')
+            {
+                if (isLiteral && c != '+')
+                {
+                    // the quantified character is optional
+                    run.setLength(run.length() - 1);
+
+                    if (run.length() > 0 && Character.isHighSurrogate(run.charAt(run.length() - 1)))
+                    {
+                        run.setLength(run.length() - 1);
+                    }
+                }
+
+                if (c == '{')
+                {
+                    i = regex.indexOf('}', i);
+
+                    if (i < 0)
+                    {
+                        return null;
+                    }
+                }
+
+                if (i + 1 < regex.length() && (regex.charAt(i + 1) == '?' || regex.charAt(i + 1) == '+'))
+                {
+                    i++;
+                }
+            }
+            else if (c != '^' && c != '$' && c != '.')
+            {
+                literal = true;
+            }
+
+            if (literal && depth == 0)
+            {
+                run.append(value);
+                isLiteral = true;
+            }
+            else
+            {
+                if (run.length() > longest.length())
+                {
+                    longest = run.toString();
+                }
+
+                run.setLength(0);
+                isLiteral = false;
+            }
+        }
+
+        return run.length() > longest.length() ? run.toString() : longest;
+    }
+
+
+    /**
+     * Skips the arguments of an alphanumeric escape in a regular expression.
+     *
+     * @param regex  the regular expression
+     * @param index  the index of the escape character following the backslash
+     *
+     * @return the index of the last character of the escape
+     */
+    private static int skipEscape(String regex,
+                                  int    index)
+    {
+        char escape = regex.charAt(index);
+        int  next   = index + 1;
+
+        if (next < regex.length() && regex.charAt(next) == '{'
+            && (escape == 'p' || escape == 'P' || escape == 'x' || escape == 'N'))
+        {
+            return Math.max(regex.indexOf('}', next), next);
+        }
+
+        switch (escape)
+        {
+        case 'p' :
+        case 'P' :
+        case 'c' :
+            return Math.min(index + 1, regex.length() - 1);
+
+        case 'x' :
+            return Math.min(index + 2, regex.length() - 1);
+
+        case 'u' :
+            return Math.min(index + 4, regex.length() - 1);
+
+        case '0' :
+            while (next < regex.length() && next - index <= 3 && regex.charAt(next) >= '0' && regex.charAt(next) <= '7')
+            {
+                next++;
+            }
+
+            return next - 1;
+
+        case 'k' :
+            return Math.max(regex.indexOf('>', next), index);
+
+        default :
+            return index;
+        }
+    }
+
+
+    /**
+     * Obtains the source of a {@link Pattern} as a non-capturing group with its flags inlined, so that
+     * it may be combined with others.
+     *
+     * @param pattern  the {@link Pattern}
+     *
+     * @return the source, or <code>null</code> when the {@link Pattern} can't be combined
+     */
+    static String inline(Pattern pattern)
+    {
+        String regex = pattern.pattern();
+        int    flags = pattern.flags();
+
+        if ((flags & (Pattern.LITERAL | Pattern.COMMENTS | Pattern.CANON_EQ)) != 0 || regex.contains("\\Q")
+            || regex.matches("(?s).*\\\\([1-9]|k<).*"))
+        {
+            // back references would refer to the wrong groups and quoting or comments could consume the group
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder("(?");
+
+        for (int i = 0; i < INLINE_FLAGS.length; i++)
+        {
+            if ((flags & INLINE_FLAGS[i]) != 0)
+            {
+                builder.append(INLINE_FLAG_NAMES.charAt(i));
+            }
+        }
+
+        return builder.append(':').append(regex).append(')').toString();
+    }
+
+
+    /**
+     * Converts a {@link List} of {@link Integer}s into an array.
+     *
+     * @param list  the {@link List}
+     *
+     * @return the array
+     */
+    private static int[] toArray(List<Integer> list)
+    {
+        int[] array = new int[list.size()];
+
+        for (int i = 0; i < array.length; i++)
+        {
+            array[i] = list.get(i);
+        }
+
+        return array;
+    }
+}
@@ -27,6 +27,7 @@ package com.oracle.bedrock.runtime.console;
 
 import com.oracle.bedrock.runtime.ApplicationConsole;
 import com.oracle.bedrock.runtime.ApplicationProcess;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 
 import java.io.InputStream;
 
@@ -34,6 +35,10 @@ import java.io.InputStream;
  * An {@link OutputRedirector} pipes output from an {@link InputStream},
  * typically of some {@link ApplicationProcess} to an {@link ApplicationConsole}.
  * <p>
+ * When {@link VirtualThreads} are enabled (and supported) an {@link OutputRedirector}
+ * is executed by a virtual {@link Thread}, instead of being started itself, in which
+ * case {@link #awaitTermination()} should be used in place of {@link #join()}.
+ * <p>
  * Copyright (c) 2019. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -72,7 +77,13 @@ public abstract class OutputRedirector
      * The {@link ApplicationConsole} to which to write content.
      */
     private ApplicationConsole console;
-    
+
+    /**
+     * The {@link Thread} executing this {@link OutputRedirector}, being either this
+     * {@link Thread} or a virtual {@link Thread} (<code>null</code> until started).
+     */
+    private volatile Thread executingThread;
+
     /**
      * Start this {@link OutputRedirector}.
      *
@@ -91,6 +102,32 @@ public abstract class OutputRedirector
                       ApplicationConsole console,
                       long               processId,
                       boolean            diagnosticsEnabled)
+    {
+        start(applicationName, prefix, inputStream, console, processId, diagnosticsEnabled, VirtualThreads.autoDetect());
+    }
+
+
+    /**
+     * Start this {@link OutputRedirector}, using a virtual {@link Thread} when
+     * {@link VirtualThreads} are enabled and supported.
+     *
+     * @param applicationName            the name of the application
+     * @param prefix                     the prefix to output on each console line
+     *                                   (typically this is the abbreviation of the stream
+     *                                   like "stderr" or "stdout")
+     * @param inputStream                the {@link InputStream} from which to read content
+     * @param console                    the {@link ApplicationConsole} to which to write content
+     * @param processId                  the {@link ApplicationProcess} identifier
+     * @param diagnosticsEnabled         should diagnostic information be logged/output
+     * @param virtualThreads             the {@link VirtualThreads} option
+     */
+    public void start(String             applicationName,
+                      String             prefix,
+                      InputStream        inputStream,
+                      ApplicationConsole console,
+                      long               processId,
+                      boolean            diagnosticsEnabled,
+                      VirtualThreads     virtualThreads)
     {
         this.applicationName           = applicationName;
         this.prefix                    = prefix;
@@ -99,8 +136,53 @@ public abstract class OutputRedirector
         this.processId                 = processId;
         this.diagnosticsEnabled        = diagnosticsEnabled && !(console instanceof SystemApplicationConsole);
 
-        setDaemon(true);
-        start();
+        if (virtualThreads != null && virtualThreads.isEnabled() && VirtualThreads.isSupported())
+        {
+            executingThread = virtualThreads.newThread(this, getName());
+        }
+        else
+        {
+            executingThread = this;
+
+            setDaemon(true);
+        }
+
+        executingThread.start();
+    }
+
+
+    @Override
+    public void interrupt()
+    {
+        Thread thread = executingThread;
+
+        if (thread != null && thread != this)
+        {
+            thread.interrupt();
+        }
+
+        super.interrupt();
+    }
+
+
+    /**
+     * Waits for this {@link OutputRedirector} to terminate, regardless of the
+     * {@link Thread} executing it.
+     *
+     * @throws InterruptedException if the wait is interrupted
+     */
+    public void awaitTermination() throws InterruptedException
+    {
+        Thread thread = executingThread;
+
+        if (thread == null || thread == this)
+        {
+            join();
+        }
+        else
+        {
+            thread.join();
+        }
     }
 
     /**
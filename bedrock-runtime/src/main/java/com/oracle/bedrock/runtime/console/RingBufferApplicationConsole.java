@@ -0,0 +1,248 @@
+/*
+ * File: RingBufferApplicationConsole.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import com.oracle.bedrock.runtime.ApplicationConsole;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * An implementation of an {@link ApplicationConsole} that captures the most recent output on
+ * StdOut and StdErr in fixed size {@link RingBufferOutputStream}s.  This console also allows
+ * StdIn to be piped to the application.
+ * <p>
+ * Unlike the {@link CapturingApplicationConsole}, output is written directly to the captured bytes
+ * without piping it through a reader thread, memory is bounded by a fixed number of bytes
+ * and captured lines are only decoded when requested.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RingBufferApplicationConsole implements ApplicationConsole
+{
+    /**
+     * The output captured from StdOut.
+     */
+    private final RingBufferOutputStream stdoutBuffer;
+
+    /**
+     * The output captured from StdErr.
+     */
+    private final RingBufferOutputStream stderrBuffer;
+
+    /**
+     * The {@link PrintWriter} for StdOut.
+     */
+    private final PrintWriter stdoutWriter;
+
+    /**
+     * The {@link PrintWriter} for StdErr.
+     */
+    private final PrintWriter stderrWriter;
+
+    /**
+     * The {@link Reader} for StdIn.
+     */
+    private final PipedReader stdinReader;
+
+    /**
+     * The {@link PrintWriter} used to write to StdIn.
+     */
+    private final PrintWriter stdinWriter;
+
+    /**
+     * If true, output to this console is formatted with application details and line numbers.
+     */
+    private final boolean diagnosticMode;
+
+
+    /**
+     * Constructs a {@link RingBufferApplicationConsole} capturing up to
+     * {@link RingBufferOutputStream#DEFAULT_CAPACITY} bytes of StdOut and of StdErr.
+     */
+    public RingBufferApplicationConsole()
+    {
+        this(RingBufferOutputStream.DEFAULT_CAPACITY, Integer.MAX_VALUE, false);
+    }
+
+
+    /**
+     * Constructs a {@link RingBufferApplicationConsole}.
+     *
+     * @param capacity      the number of bytes of StdOut and of StdErr to capture
+     * @param maximumLines  the maximum number of lines of StdOut and of StdErr to keep
+     */
+    public RingBufferApplicationConsole(int capacity,
+                                        int maximumLines)
+    {
+        this(capacity, maximumLines, false);
+    }
+
+
+    /**
+     * Constructs a {@link RingBufferApplicationConsole}.
+     *
+     * @param capacity        the number of bytes of StdOut and of StdErr to capture
+     * @param maximumLines    the maximum number of lines of StdOut and of StdErr to keep
+     * @param diagnosticMode  if true, output to this console is formatted
+     *                        with application details and line numbers
+     *
+     * @throws RuntimeException if an error occurs creating this {@link RingBufferApplicationConsole}
+     */
+    public RingBufferApplicationConsole(int     capacity,
+                                        int     maximumLines,
+                                        boolean diagnosticMode)
+    {
+        this.diagnosticMode = diagnosticMode;
+
+        this.stdoutBuffer   = new RingBufferOutputStream(capacity, maximumLines);
+        this.stderrBuffer   = new RingBufferOutputStream(capacity, maximumLines);
+
+        this.stdoutWriter   = new PrintWriter(new OutputStreamWriter(stdoutBuffer, StandardCharsets.UTF_8), true);
+        this.stderrWriter   = new PrintWriter(new OutputStreamWriter(stderrBuffer, StandardCharsets.UTF_8), true);
+
+        try
+        {
+            this.stdinReader = new PipedReader(AbstractPipedApplicationConsole.DEFAULT_PIPE_SIZE);
+            this.stdinWriter = new PrintWriter(new PipedWriter(stdinReader));
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error creating console streams", e);
+        }
+    }
+
+
+    @Override
+    public PrintWriter getOutputWriter()
+    {
+        return stdoutWriter;
+    }
+
+
+    @Override
+    public PrintWriter getErrorWriter()
+    {
+        return stderrWriter;
+    }
+
+
+    @Override
+    public Reader getInputReader()
+    {
+        return stdinReader;
+    }
+
+
+    @Override
+    public boolean isDiagnosticsEnabled()
+    {
+        return diagnosticMode;
+    }
+
+
+    /**
+     * Obtains the {@link RingBufferOutputStream} capturing the application's StdOut.
+     *
+     * @return the {@link RingBufferOutputStream} for StdOut
+     */
+    public RingBufferOutputStream getCapturedOutput()
+    {
+        return stdoutBuffer;
+    }
+
+
+    /**
+     * Obtains the {@link RingBufferOutputStream} capturing the application's StdErr.
+     *
+     * @return the {@link RingBufferOutputStream} for StdErr
+     */
+    public RingBufferOutputStream getCapturedError()
+    {
+        return stderrBuffer;
+    }
+
+
+    /**
+     * Obtains a copy of the lines currently captured from the application's StdOut,
+     * the oldest line first.
+     *
+     * @return the lines captured from StdOut
+     */
+    public List<String> getCapturedOutputLines()
+    {
+        return stdoutBuffer.snapshot();
+    }
+
+
+    /**
+     * Obtains a copy of the lines currently captured from the application's StdErr,
+     * the oldest line first.
+     *
+     * @return the lines captured from StdErr
+     */
+    public List<String> getCapturedErrorLines()
+    {
+        return stderrBuffer.snapshot();
+    }
+
+
+    /**
+     * Obtains a {@link PrintWriter} that can be used to write to the stdin
+     * of an {@link ApplicationConsole}.
+     *
+     * @return a {@link PrintWriter}
+     */
+    public PrintWriter getInputWriter()
+    {
+        return stdinWriter;
+    }
+
+
+    @Override
+    public void close()
+    {
+        try
+        {
+            stdinReader.close();
+        }
+        catch (IOException e)
+        {
+            // SKIP: ignore exceptions
+        }
+
+        // closing the writers flushes their encoders and terminates any partially written line
+        stdoutWriter.close();
+        stderrWriter.close();
+    }
+}
@@ -0,0 +1,628 @@
+/*
+ * File: RingBufferOutputStream.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An {@link OutputStream} that captures the most recent lines written to it in a preallocated
+ * ring of bytes, together with a ring of line start positions.
+ * <p>
+ * Memory is bounded by the byte capacity and the line capacity, both fixed when the stream is
+ * created.  Writing never allocates and never blocks on readers.  Reading never blocks writing:
+ * readers copy the captured bytes and then validate that the writer has not overwritten them
+ * in the meantime, discarding any lines that were, rather than retrying.
+ * <p>
+ * Lines are terminated by '\n', with any trailing '\r' removed, and are decoded as UTF-8.
+ * A partially written line is only captured once it is terminated or the stream is closed.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RingBufferOutputStream extends OutputStream
+{
+    /**
+     * The default number of bytes to capture.
+     */
+    public static final int DEFAULT_CAPACITY = 1024 * 1024;
+
+    /**
+     * The assumed average line length used to size the line index when not specified.
+     */
+    private static final int AVERAGE_LINE_LENGTH = 32;
+
+    /**
+     * The captured bytes, indexed by position modulo the capacity.
+     */
+    private final byte[] bytes;
+
+    /**
+     * The mask to convert a byte position into an index of {@link #bytes}.
+     */
+    private final int byteMask;
+
+    /**
+     * The start positions of lines, indexed by line number modulo the line capacity.
+     * The start of line <i>n</i> is recorded when line <i>n - 1</i> is terminated.
+     */
+    private final long[] lineStarts;
+
+    /**
+     * The mask to convert a line number into an index of {@link #lineStarts}.
+     */
+    private final int lineMask;
+
+    /**
+     * The maximum number of lines to retain.
+     */
+    private final int maximumLines;
+
+    /**
+     * The number of bytes the writer may have started writing, published before they are written.
+     */
+    private volatile long reservedBytes;
+
+    /**
+     * The number of line starts the writer may have started writing, published before they are written.
+     */
+    private volatile long reservedLines;
+
+    /**
+     * The number of bytes written.
+     */
+    private volatile long writtenBytes;
+
+    /**
+     * The number of lines terminated.
+     */
+    private volatile long writtenLines;
+
+    /**
+     * Has the stream been closed.
+     */
+    private volatile boolean closed;
+
+
+    /**
+     * Constructs a {@link RingBufferOutputStream} retaining up to {@link #DEFAULT_CAPACITY} bytes.
+     */
+    public RingBufferOutputStream()
+    {
+        this(DEFAULT_CAPACITY, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Constructs a {@link RingBufferOutputStream}.
+     *
+     * @param capacity      the number of bytes to retain (rounded up to a power of two)
+     * @param maximumLines  the maximum number of lines to retain
+     */
+    public RingBufferOutputStream(int capacity,
+                                  int maximumLines)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+
+        if (maximumLines <= 0)
+        {
+            throw new IllegalArgumentException("The maximum number of lines must be positive");
+        }
+
+        int byteCapacity = powerOfTwo(capacity);
+        int lineCapacity = powerOfTwo(Math.min(maximumLines, Math.max(64, byteCapacity / AVERAGE_LINE_LENGTH)) + 1);
+
+        this.bytes        = new byte[byteCapacity];
+        this.byteMask     = byteCapacity - 1;
+        this.lineStarts   = new long[lineCapacity];
+        this.lineMask     = lineCapacity - 1;
+        this.maximumLines = Math.min(maximumLines, lineCapacity - 1);
+    }
+
+
+    /**
+     * Obtains the smallest power of two greater than or equal to the specified value.
+     *
+     * @param value  the value
+     *
+     * @return the power of two
+     */
+    private static int powerOfTwo(int value)
+    {
+        return value >= (1 << 30) ? 1 << 30 : value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+
+    /**
+     * Obtains the number of bytes this {@link RingBufferOutputStream} retains.
+     *
+     * @return the capacity in bytes
+     */
+    public int getCapacity()
+    {
+        return bytes.length;
+    }
+
+
+    /**
+     * Obtains the maximum number of lines this {@link RingBufferOutputStream} retains.
+     *
+     * @return the maximum number of lines
+     */
+    public int getMaximumLines()
+    {
+        return maximumLines;
+    }
+
+
+    /**
+     * Obtains the total number of bytes written to this {@link RingBufferOutputStream},
+     * including those no longer retained.
+     *
+     * @return the number of bytes written
+     */
+    public long getByteCount()
+    {
+        return writtenBytes;
+    }
+
+
+    /**
+     * Obtains the total number of lines written to this {@link RingBufferOutputStream},
+     * including those no longer retained.
+     *
+     * @return the number of lines written
+     */
+    public long getLineCount()
+    {
+        return writtenLines;
+    }
+
+
+    @Override
+    public void write(int b) throws IOException
+    {
+        ensureOpen();
+
+        synchronized (this)
+        {
+            long position = writtenBytes;
+            long lines    = writtenLines;
+            int  newLines = b == '\n' ? 1 : 0;
+
+            reserve(position + 1, lines + newLines);
+
+            bytes[(int) position & byteMask] = (byte) b;
+
+            if (newLines == 1)
+            {
+                lineStarts[(int) (lines + 1) & lineMask] = position + 1;
+            }
+
+            publish(position + 1, lines + newLines);
+        }
+    }
+
+
+    @Override
+    public void write(byte[] buffer,
+                      int    offset,
+                      int    length) throws IOException
+    {
+        if (offset < 0 || length < 0 || offset + length > buffer.length)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        ensureOpen();
+
+        synchronized (this)
+        {
+            while (length > 0)
+            {
+                int chunk = Math.min(length, bytes.length);
+
+                writeChunk(buffer, offset, chunk);
+
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+    }
+
+
+    /**
+     * Writes a chunk of no more than the capacity of bytes, indexing the lines it terminates.
+     *
+     * @param buffer  the bytes to write
+     * @param offset  the offset of the first byte to write
+     * @param length  the number of bytes to write
+     */
+    private void writeChunk(byte[] buffer,
+                            int    offset,
+                            int    length)
+    {
+        long position = writtenBytes;
+        long lines    = writtenLines;
+        int  newLines = 0;
+
+        for (int i = offset, end = offset + length; i < end; i++)
+        {
+            if (buffer[i] == '\n')
+            {
+                newLines++;
+            }
+        }
+
+        reserve(position + length, lines + newLines);
+
+        int index = (int) position & byteMask;
+        int first = Math.min(length, bytes.length - index);
+
+        System.arraycopy(buffer, offset, bytes, index, first);
+        System.arraycopy(buffer, offset + first, bytes, 0, length - first);
+
+        if (newLines > 0)
+        {
+            long line = lines;
+
+            for (int i = offset, end = offset + length; i < end; i++)
+            {
+                if (buffer[i] == '\n')
+                {
+                    line++;
+                    lineStarts[(int) line & lineMask] = position + (i - offset) + 1;
+                }
+            }
+        }
+
+        publish(position + length, lines + newLines);
+    }
+
+
+    /**
+     * Publishes the extent of the bytes and line starts about to be written, so that readers
+     * can detect those they copied being overwritten.
+     *
+     * @param bytes  the number of bytes that will have been written
+     * @param lines  the number of lines that will have been terminated
+     */
+    private void reserve(long bytes,
+                         long lines)
+    {
+        reservedBytes = bytes;
+        reservedLines = lines;
+
+        // ensure the reservation is visible before any of the reserved slots are overwritten
+        VarHandle.storeStoreFence();
+    }
+
+
+    /**
+     * Publishes the bytes and line starts that have been written.
+     *
+     * @param bytes  the number of bytes written
+     * @param lines  the number of lines terminated
+     */
+    private void publish(long bytes,
+                         long lines)
+    {
+        writtenBytes = bytes;
+        writtenLines = lines;
+    }
+
+
+    /**
+     * Ensures this {@link RingBufferOutputStream} is open.
+     *
+     * @throws IOException when closed
+     */
+    private void ensureOpen() throws IOException
+    {
+        if (closed)
+        {
+            throw new IOException("The RingBufferOutputStream is closed");
+        }
+    }
+
+
+    /**
+     * Closes this {@link RingBufferOutputStream}, terminating any partially written line.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        synchronized (this)
+        {
+            if (!closed)
+            {
+                long position = writtenBytes;
+
+                if (position > 0 && lineStarts[(int) writtenLines & lineMask] < position)
+                {
+                    write('\n');
+                }
+
+                closed = true;
+            }
+        }
+    }
+
+
+    /**
+     * Obtains the number of lines currently retained.
+     *
+     * @return the number of lines
+     */
+    public int size()
+    {
+        return capture(Integer.MAX_VALUE).size();
+    }
+
+
+    /**
+     * Obtains a copy of the lines currently retained, oldest first.
+     *
+     * @return the lines
+     */
+    public List<String> snapshot()
+    {
+        return tail(Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Obtains a copy of the most recent lines currently retained, oldest first.
+     *
+     * @param count  the maximum number of lines
+     *
+     * @return the lines
+     */
+    public List<String> tail(int count)
+    {
+        return capture(count).toStrings();
+    }
+
+
+    /**
+     * Visits the lines currently retained, oldest first, without decoding them.
+     * <p>
+     * The {@link ByteBuffer} provided to the {@link Consumer} is a read-only view of a single copy
+     * of the retained bytes, positioned over one line at a time, and is only valid during the call.
+     *
+     * @param consumer  the {@link Consumer} of lines
+     */
+    public void forEachLine(Consumer<? super ByteBuffer> consumer)
+    {
+        Capture    capture = capture(Integer.MAX_VALUE);
+        ByteBuffer buffer  = ByteBuffer.wrap(capture.bytes).asReadOnlyBuffer();
+
+        for (int line = 0; line < capture.size(); line++)
+        {
+            buffer.limit(capture.end(line));
+            buffer.position(capture.start(line));
+
+            consumer.accept(buffer);
+        }
+    }
+
+
+    /**
+     * Captures the most recent lines retained.
+     *
+     * @param count  the maximum number of lines to capture
+     *
+     * @return the {@link Capture}
+     */
+    private Capture capture(int count)
+    {
+        if (count <= 0)
+        {
+            return Capture.EMPTY;
+        }
+
+        long   first;
+        long[] starts;
+        int    skip;
+
+        while (true)
+        {
+            long lines = writtenLines;
+
+            first = Math.max(0, lines - Math.min(count, maximumLines));
+
+            if (first == lines)
+            {
+                return Capture.EMPTY;
+            }
+
+            starts = new long[(int) (lines - first) + 1];
+
+            for (long line = first; line <= lines; line++)
+            {
+                starts[(int) (line - first)] = lineStarts[(int) line & lineMask];
+            }
+
+            // ensure the line starts are read before validating them against the writer's reservations
+            VarHandle.acquireFence();
+
+            long validLines = reservedLines - lineStarts.length;
+
+            if (lines > validLines)
+            {
+                // skip the lines whose starts the writer may have overwritten while they were being read
+                skip = (int) Math.max(0, validLines + 1 - first);
+                break;
+            }
+
+            // the writer lapped the entire line index; try again
+        }
+
+        long end = starts[starts.length - 1];
+
+        // skip the lines whose bytes have already been overwritten
+        while (skip < starts.length - 1 && starts[skip] < end - bytes.length)
+        {
+            skip++;
+        }
+
+        long   start  = starts[skip];
+        byte[] copy   = new byte[(int) (end - start)];
+        int    index  = (int) start & byteMask;
+        int    length = Math.min(copy.length, bytes.length - index);
+
+        System.arraycopy(bytes, index, copy, 0, length);
+        System.arraycopy(bytes, 0, copy, length, copy.length - length);
+
+        // ensure the bytes are copied before validating them against the writer's reservations
+        VarHandle.acquireFence();
+
+        long validBytes = reservedBytes - bytes.length;
+
+        // skip the lines whose bytes the writer may have overwritten while they were being copied
+        while (skip < starts.length - 1 && starts[skip] < validBytes)
+        {
+            skip++;
+        }
+
+        int[] offsets = new int[starts.length - skip];
+
+        for (int i = 0; i < offsets.length; i++)
+        {
+            offsets[i] = (int) (starts[skip + i] - start);
+        }
+
+        return new Capture(copy, offsets);
+    }
+
+
+    /**
+     * A consistent copy of captured lines.
+     */
+    private static class Capture
+    {
+        /**
+         * A {@link Capture} without any lines.
+         */
+        private static final Capture EMPTY = new Capture(new byte[0], new int[] {0});
+
+        /**
+         * The copied bytes.
+         */
+        private final byte[] bytes;
+
+        /**
+         * The offsets of the start of each line, followed by the offset after the last line.
+         */
+        private final int[] offsets;
+
+
+        /**
+         * Constructs a {@link Capture}.
+         *
+         * @param bytes    the copied bytes
+         * @param offsets  the offsets of lines
+         */
+        private Capture(byte[] bytes,
+                        int[]  offsets)
+        {
+            this.bytes   = bytes;
+            this.offsets = offsets;
+        }
+
+
+        /**
+         * Obtains the number of captured lines.
+         *
+         * @return the number of lines
+         */
+        private int size()
+        {
+            return offsets.length - 1;
+        }
+
+
+        /**
+         * Obtains the offset of the first byte of a line.
+         *
+         * @param line  the line
+         *
+         * @return the offset
+         */
+        private int start(int line)
+        {
+            return offsets[line];
+        }
+
+
+        /**
+         * Obtains the offset after the last byte of a line, excluding its terminator.
+         *
+         * @param line  the line
+         *
+         * @return the offset
+         */
+        private int end(int line)
+        {
+            int end = offsets[line + 1] - 1;
+
+            return end > offsets[line] && bytes[end - 1] == '\r' ? end - 1 : end;
+        }
+
+
+        /**
+         * Decodes the captured lines.
+         *
+         * @return the lines
+         */
+        private List<String> toStrings()
+        {
+            if (size() == 0)
+            {
+                return Collections.emptyList();
+            }
+
+            ArrayList<String> lines = new ArrayList<>(size());
+
+            for (int line = 0; line < size(); line++)
+            {
+                lines.add(new String(bytes, start(line), end(line) - start(line), StandardCharsets.UTF_8));
+            }
+
+            return lines;
+        }
+    }
+}
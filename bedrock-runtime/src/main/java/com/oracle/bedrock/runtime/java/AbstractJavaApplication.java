@@ -33,6 +33,7 @@ import com.oracle.bedrock.runtime.Application;
 import com.oracle.bedrock.runtime.ApplicationProcess;
 import com.oracle.bedrock.runtime.Platform;
 import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelMetrics;
 import com.oracle.bedrock.runtime.concurrent.RemoteEvent;
 import com.oracle.bedrock.runtime.concurrent.RemoteEventListener;
 import com.oracle.bedrock.runtime.concurrent.RemoteRunnable;
@@ -41,6 +42,8 @@ import com.oracle.bedrock.runtime.concurrent.callable.RemoteMethodInvocation;
 import com.oracle.bedrock.util.ProxyHelper;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -102,6 +105,22 @@ public abstract class AbstractJavaApplication<P extends JavaApplicationProcess>
     }
 
 
+    @Override
+    public <T> List<CompletableFuture<T>> submitAll(Collection<? extends RemoteCallable<T>> callables,
+                                                    Option...                               options)
+                                                        throws IllegalStateException
+    {
+        return process.submitAll(callables, options);
+    }
+
+
+    @Override
+    public RemoteChannelMetrics getMetrics()
+    {
+        return process.getMetrics();
+    }
+
+
     @Override
     public CompletableFuture<Void> submit(RemoteRunnable runnable,
                                           Option...      options) throws IllegalStateException
@@ -338,6 +338,23 @@ public class ClassPath implements Iterable<String>, Tabular, Option
     }
 
 
+    /**
+     * Obtains the names of the resources in the {@link ClassPath} that match the specified
+     * pattern, using the {@link ClassPathIndex#system() system} {@link ClassPathIndex}.
+     * <p>
+     * Resource names are relative to the {@link ClassPath} element containing them, using
+     * '/' as a separator, and are returned in the order of the {@link ClassPath} elements.
+     *
+     * @param pattern  the pattern to match, or <code>null</code> to match everything
+     *
+     * @return the names of the matching resources
+     */
+    public List<String> getResources(Pattern pattern)
+    {
+        return ClassPathIndex.system().getResources(this, pattern);
+    }
+
+
     @Override
     public Iterator<String> iterator()
     {
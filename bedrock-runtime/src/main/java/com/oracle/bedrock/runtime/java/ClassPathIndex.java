@@ -0,0 +1,598 @@
+/*
+ * File: ClassPathIndex.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.java;
+
+import com.oracle.bedrock.runtime.Settings;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An index of the resources contained in the elements of {@link ClassPath}s.
+ * <p>
+ * Elements of a {@link ClassPath} are scanned in parallel, using the common fork-join pool.
+ * The resources of archives are remembered, keyed by the path, size and last modified time
+ * of each archive, so that an archive is only scanned again once it changes.  Directories
+ * are always scanned, as their contents may change without their modification time changing.
+ * <p>
+ * When a {@link ClassPathIndex} has an index file, the resources of archives are persisted to
+ * it in a compact binary form, allowing them to be reused by other processes.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ClassPathIndex
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ClassPathIndex.class.getName());
+
+    /**
+     * The name of the default index file, created in the temporary directory.
+     */
+    public static final String DEFAULT_INDEX_FILE = "bedrock-classpath.index";
+
+    /**
+     * The value of the {@link Settings#CLASSPATH_INDEX} property that disables persisting the index.
+     */
+    public static final String NONE = "none";
+
+    /**
+     * The identifying header of an index file, followed by the version.
+     */
+    private static final int MAGIC = 0x42435049;
+
+    /**
+     * The version of the index file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The {@link ClassPathIndex}s by index file.
+     */
+    private static final ConcurrentHashMap<Path, ClassPathIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * The index file (<code>null</code> when the index isn't persisted).
+     */
+    private final Path file;
+
+    /**
+     * The scanned archives, by their canonical path.
+     */
+    private final ConcurrentHashMap<String, Archive> archives;
+
+    /**
+     * Has the index file been loaded?
+     */
+    private boolean loaded;
+
+    /**
+     * Have archives been scanned since the index file was loaded or saved?
+     */
+    private volatile boolean modified;
+
+
+    /**
+     * Constructs a {@link ClassPathIndex}.
+     *
+     * @param file  the index file (<code>null</code> when the index isn't persisted)
+     */
+    private ClassPathIndex(Path file)
+    {
+        this.file     = file;
+        this.archives = new ConcurrentHashMap<>();
+        this.loaded   = file == null;
+        this.modified = false;
+    }
+
+
+    /**
+     * Obtains the {@link ClassPathIndex} for the host, using the file specified by the
+     * {@link Settings#CLASSPATH_INDEX} system property, or otherwise the {@link #DEFAULT_INDEX_FILE}
+     * in the temporary directory.  When the property is {@link #NONE}, the index is only kept
+     * in memory.
+     *
+     * @return the {@link ClassPathIndex}
+     */
+    public static ClassPathIndex system()
+    {
+        String property = System.getProperty(Settings.CLASSPATH_INDEX);
+
+        if (property == null)
+        {
+            return at(Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_INDEX_FILE));
+        }
+        else if (property.trim().equalsIgnoreCase(NONE))
+        {
+            return INDEXES.computeIfAbsent(Paths.get(NONE), path -> new ClassPathIndex(null));
+        }
+        else
+        {
+            return at(Paths.get(property));
+        }
+    }
+
+
+    /**
+     * Obtains the {@link ClassPathIndex} persisted in the specified file.
+     *
+     * @param file  the index file
+     *
+     * @return the {@link ClassPathIndex}
+     */
+    public static ClassPathIndex at(Path file)
+    {
+        return INDEXES.computeIfAbsent(file.toAbsolutePath().normalize(), ClassPathIndex::new);
+    }
+
+
+    /**
+     * Creates a new {@link ClassPathIndex} that is only kept in memory.
+     *
+     * @return a new {@link ClassPathIndex}
+     */
+    public static ClassPathIndex inMemory()
+    {
+        return new ClassPathIndex(null);
+    }
+
+
+    /**
+     * Obtains the index file.
+     *
+     * @return the index file, or <code>null</code> when the index isn't persisted
+     */
+    public Path getFile()
+    {
+        return file;
+    }
+
+
+    /**
+     * Obtains the names of the resources in the {@link ClassPath} that match the specified
+     * pattern, in the order of the {@link ClassPath} elements.  Resource names are relative to
+     * their {@link ClassPath} element, using '/' as a separator, as used by
+     * {@link ClassLoader#getResource(String)}.
+     *
+     * @param classPath  the {@link ClassPath}
+     * @param pattern    the pattern to match, or <code>null</code> to match everything
+     *
+     * @return the names of the matching resources
+     */
+    public List<String> getResources(ClassPath classPath,
+                                     Pattern   pattern)
+    {
+        ArrayList<String> resources = new ArrayList<>();
+
+        forEachResource(classPath,
+                        pattern,
+                        (element, resource) -> resources.add(resource));
+
+        return resources;
+    }
+
+
+    /**
+     * Provides each of the resources in the {@link ClassPath} that match the specified pattern
+     * to a {@link BiConsumer}, together with the {@link ClassPath} element containing the resource,
+     * in the order of the {@link ClassPath} elements.
+     *
+     * @param classPath  the {@link ClassPath}
+     * @param pattern    the pattern to match, or <code>null</code> to match everything
+     * @param consumer   the {@link BiConsumer} accepting the element and the resource name
+     */
+    public void forEachResource(ClassPath                  classPath,
+                                Pattern                    pattern,
+                                BiConsumer<String, String> consumer)
+    {
+        ArrayList<String> elements = new ArrayList<>();
+
+        classPath.forEach(elements::add);
+
+        // scan the elements in parallel (retaining their order)
+        List<String[]> resources = elements.parallelStream().map(this::getResources).collect(Collectors.toList());
+
+        save();
+
+        for (int i = 0; i < elements.size(); i++)
+        {
+            String element = elements.get(i);
+
+            for (String resource : resources.get(i))
+            {
+                if (pattern == null || pattern.matcher(resource).matches())
+                {
+                    consumer.accept(element, resource);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Obtains the names of the resources in a {@link ClassPath} element.
+     *
+     * @param element  the {@link ClassPath} element
+     *
+     * @return the names of the resources
+     */
+    private String[] getResources(String element)
+    {
+        try
+        {
+            File file = new File(element);
+
+            if (file.isDirectory())
+            {
+                return scanDirectory(file.toPath());
+            }
+            else if (file.isFile() && ClassPath.isResourceAnArchive(file.getName()))
+            {
+                load();
+
+                String  path         = file.getCanonicalPath();
+                long    size         = file.length();
+                long    lastModified = file.lastModified();
+                Archive archive      = archives.get(path);
+
+                if (archive == null || archive.size != size || archive.lastModified != lastModified)
+                {
+                    archive = new Archive(size, lastModified, scanArchive(file));
+
+                    archives.put(path, archive);
+
+                    modified = true;
+                }
+
+                return archive.resources;
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.FINE, "Failed to scan the class path element " + element, e);
+        }
+
+        return new String[0];
+    }
+
+
+    /**
+     * Scans the resources in a directory.
+     *
+     * @param directory  the directory
+     *
+     * @return the names of the resources, relative to the directory
+     *
+     * @throws IOException  when the directory can't be scanned
+     */
+    private static String[] scanDirectory(Path directory) throws IOException
+    {
+        ArrayList<String> resources = new ArrayList<>();
+
+        Files.walkFileTree(directory,
+                           new SimpleFileVisitor<Path>()
+                           {
+                               @Override
+                               public FileVisitResult visitFile(Path                path,
+                                                                BasicFileAttributes attributes)
+                               {
+                                   if (attributes.isRegularFile())
+                                   {
+                                       String resource = directory.relativize(path).toString();
+
+                                       resources.add(File.separatorChar == '/'
+                                                     ? resource : resource.replace(File.separatorChar, '/'));
+                                   }
+
+                                   return FileVisitResult.CONTINUE;
+                               }
+                           });
+
+        return resources.toArray(new String[0]);
+    }
+
+
+    /**
+     * Scans the resources in an archive.
+     *
+     * @param archive  the archive
+     *
+     * @return the names of the resources (excluding directory entries)
+     *
+     * @throws IOException  when the archive can't be read
+     */
+    private static String[] scanArchive(File archive) throws IOException
+    {
+        try (ZipFile zipFile = new ZipFile(archive))
+        {
+            ArrayList<String>               resources = new ArrayList<>(zipFile.size());
+            Enumeration<? extends ZipEntry> entries   = zipFile.entries();
+
+            while (entries.hasMoreElements())
+            {
+                ZipEntry entry = entries.nextElement();
+
+                if (!entry.isDirectory())
+                {
+                    resources.add(entry.getName());
+                }
+            }
+
+            return resources.toArray(new String[0]);
+        }
+    }
+
+
+    /**
+     * Loads the index file, when it hasn't been loaded.
+     */
+    private synchronized void load()
+    {
+        if (loaded)
+        {
+            return;
+        }
+
+        loaded = true;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION)
+            {
+                return;
+            }
+
+            int count = input.readInt();
+
+            for (int i = 0; i < count; i++)
+            {
+                String   path         = input.readUTF();
+                long     size         = input.readLong();
+                long     lastModified = input.readLong();
+                String[] resources    = new String[input.readInt()];
+                byte[]   previous     = new byte[0];
+
+                // each resource name is stored as the length of the prefix it shares with the
+                // previous name, followed by the remaining (UTF-8) bytes
+                for (int j = 0; j < resources.length; j++)
+                {
+                    int    shared = input.readUnsignedShort();
+                    byte[] name   = new byte[shared + input.readUnsignedShort()];
+
+                    System.arraycopy(previous, 0, name, 0, shared);
+                    input.readFully(name, shared, name.length - shared);
+
+                    resources[j] = new String(name, StandardCharsets.UTF_8);
+                    previous     = name;
+                }
+
+                archives.putIfAbsent(path, new Archive(size, lastModified, resources));
+            }
+        }
+        catch (NoSuchFileException e)
+        {
+            // there's no index to load
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // an unreadable index is simply rebuilt
+            LOGGER.log(Level.FINE, "Failed to load the class path index " + file, e);
+
+            archives.clear();
+        }
+    }
+
+
+    /**
+     * Saves the index file, when archives have been scanned since it was loaded or saved.
+     * <p>
+     * The index is written to a temporary file that then replaces the index file, so that other
+     * processes never observe a partially written index.  Archives that no longer exist are
+     * dropped from the index.
+     */
+    private synchronized void save()
+    {
+        if (file == null || !modified)
+        {
+            return;
+        }
+
+        modified = false;
+
+        HashMap<String, Archive> snapshot = new HashMap<>();
+
+        archives.forEach((path, archive) -> {
+                             if (new File(path).isFile())
+                             {
+                                 snapshot.put(path, archive);
+                             }
+                         });
+
+        Path temporary = null;
+
+        try
+        {
+            Path directory = file.getParent();
+
+            if (directory != null)
+            {
+                Files.createDirectories(directory);
+            }
+
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream output =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary))))
+            {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(snapshot.size());
+
+                for (Map.Entry<String, Archive> entry : snapshot.entrySet())
+                {
+                    Archive archive = entry.getValue();
+
+                    output.writeUTF(entry.getKey());
+                    output.writeLong(archive.size);
+                    output.writeLong(archive.lastModified);
+                    output.writeInt(archive.resources.length);
+
+                    byte[] previous = new byte[0];
+
+                    for (String resource : archive.resources)
+                    {
+                        byte[] name   = resource.getBytes(StandardCharsets.UTF_8);
+                        int    limit  = Math.min(Math.min(previous.length, name.length), 0xFFFF);
+                        int    shared = 0;
+
+                        while (shared < limit && previous[shared] == name[shared])
+                        {
+                            shared++;
+                        }
+
+                        output.writeShort(shared);
+                        output.writeShort(name.length - shared);
+                        output.write(name, shared, name.length - shared);
+
+                        previous = name;
+                    }
+                }
+            }
+
+            try
+            {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.log(Level.FINE, "Failed to save the class path index " + file, e);
+
+            if (temporary != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(temporary);
+                }
+                catch (IOException ignored)
+                {
+                    // deliberately empty as the temporary file will simply remain
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Obtains the number of archives in the index.
+     *
+     * @return the number of archives
+     */
+    public int getArchiveCount()
+    {
+        return archives.size();
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "ClassPathIndex{" + (file == null ? "(in memory)" : file) + ": " + archives.size() + " archives}";
+    }
+
+
+    /**
+     * The resources of a scanned archive, together with the size and last modified time
+     * of the archive when it was scanned.
+     */
+    private static class Archive
+    {
+        /**
+         * The size of the archive.
+         */
+        private final long size;
+
+        /**
+         * The last modified time of the archive.
+         */
+        private final long lastModified;
+
+        /**
+         * The names of the resources in the archive.
+         */
+        private final String[] resources;
+
+
+        /**
+         * Constructs an {@link Archive}.
+         *
+         * @param size          the size of the archive
+         * @param lastModified  the last modified time of the archive
+         * @param resources     the names of the resources in the archive
+         */
+        private Archive(long     size,
+                        long     lastModified,
+                        String[] resources)
+        {
+            this.size         = size;
+            this.lastModified = lastModified;
+            this.resources    = resources;
+        }
+    }
+}
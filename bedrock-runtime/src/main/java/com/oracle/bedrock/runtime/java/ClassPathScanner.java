@@ -27,20 +27,17 @@ package com.oracle.bedrock.runtime.java;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 /**
  * List resources available from a {@link ClassPath}.
  * <p>
+ * Resources are determined using the {@link ClassPathIndex#system() system} {@link ClassPathIndex}.
+ * <p>
  * Copyright (c) 2016. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -48,6 +45,11 @@ import java.util.zip.ZipFile;
  */
 public class ClassPathScanner
 {
+    /**
+     * The {@link Pattern} matching the names of class files.
+     */
+    private static final Pattern CLASS_FILE = Pattern.compile(".*\\.class");
+
     /**
      * For all elements of a {@link ClassPath} get a {@link List} of resources
      * that match the specified pattern.
@@ -69,106 +71,54 @@ public class ClassPathScanner
             pattern = Pattern.compile(".*");
         }
 
-        ArrayList<String> result    = new ArrayList<>();
-        URLClassLoader    loader    = new URLClassLoader(classPath.getURLs());
-        Enumeration<URL>  resources = loader.getResources("");
-
-        while (resources.hasMoreElements())
-        {
-            URL  url  = resources.nextElement();
-            File file = new File(url.toURI());
-
-            for (String resource : getResources(file, pattern))
-            {
-                if (resource.endsWith(".class"))
-                {
-                    result.add(resource);
-                }
-            }
-        }
+        Pattern                 matcher     = pattern;
+        ArrayList<String>       result      = new ArrayList<>();
+        HashMap<String, String> directories = new HashMap<>();
+
+        // the class files of the directories in the class path are matched using their canonical file names
+        // (the archives are indexed, but as before, only directories are included)
+        ClassPathIndex.system().forEachResource(classPath,
+                                                CLASS_FILE,
+                                                (element, resource) -> {
+                                                    String directory = directories.computeIfAbsent(element,
+                                                                                                   this::getDirectory);
+
+                                                    if (directory != null)
+                                                    {
+                                                        String fileName = directory + resource.replace('/',
+                                                                                                       File.separatorChar);
+
+                                                        if (matcher.matcher(fileName).matches())
+                                                        {
+                                                            result.add(fileName);
+                                                        }
+                                                    }
+                                                });
 
         return result;
     }
 
 
-    private Collection<String> getResources(File    file,
-                                            Pattern pattern) throws IOException
-    {
-        ArrayList<String> retval = new ArrayList<>();
-
-        if (file.isDirectory())
-        {
-            retval.addAll(getResourcesFromDirectory(file, pattern));
-        }
-        else
-        {
-            retval.addAll(getResourcesFromJarFile(file, pattern));
-        }
-
-        return retval;
-    }
-
-
-    private List<String> getResourcesFromJarFile(File    file,
-                                                 Pattern pattern) throws IOException
+    /**
+     * Obtains the canonical path of a {@link ClassPath} element that is a directory,
+     * terminated with a separator.
+     *
+     * @param element  the {@link ClassPath} element
+     *
+     * @return the canonical path or <code>null</code> if the element isn't a directory
+     */
+    private String getDirectory(String element)
     {
-        if (!ClassPath.isResourceAnArchive(file.getCanonicalPath()))
+        try
         {
-            return Collections.emptyList();
-        }
-
-        ArrayList<String> retval = new ArrayList<>();
+            File file = new File(element);
 
-        try (ZipFile zipFile = new ZipFile(file))
-        {
-            Enumeration<? extends ZipEntry> entries = zipFile.entries();
-
-            while (entries.hasMoreElements())
-            {
-                ZipEntry entry    = entries.nextElement();
-                String   fileName = entry.getName();
-
-                if (pattern.matcher(fileName).matches())
-                {
-                    retval.add(fileName);
-                }
-            }
+            return file.isDirectory() ? file.getCanonicalPath() + File.separator : null;
         }
-
-        return retval;
-    }
-
-
-    private List<String> getResourcesFromDirectory(File    directory,
-                                                   Pattern pattern) throws IOException
-    {
-        File[] fileList = directory.listFiles();
-
-        if (fileList == null)
-        {
-            return Collections.emptyList();
-        }
-
-        ArrayList<String> list = new ArrayList<>();
-
-        for (File file : fileList)
+        catch (IOException e)
         {
-            if (file.isDirectory())
-            {
-                list.addAll(getResourcesFromDirectory(file, pattern));
-            }
-            else
-            {
-                String fileName = file.getCanonicalPath();
-
-                if (pattern.matcher(fileName).matches())
-                {
-                    list.add(fileName);
-                }
-            }
+            return null;
         }
-
-        return list;
     }
 
 
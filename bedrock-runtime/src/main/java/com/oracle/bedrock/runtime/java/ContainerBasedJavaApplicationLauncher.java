@@ -39,6 +39,7 @@ import com.oracle.bedrock.runtime.PropertiesBuilder;
 import com.oracle.bedrock.runtime.concurrent.PipeBasedRemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelMetrics;
 import com.oracle.bedrock.runtime.concurrent.RemoteEvent;
 import com.oracle.bedrock.runtime.concurrent.RemoteEventListener;
 import com.oracle.bedrock.runtime.concurrent.RemoteRunnable;
@@ -54,6 +55,7 @@ import com.oracle.bedrock.runtime.java.profiles.CommercialFeatures;
 import com.oracle.bedrock.runtime.java.profiles.RemoteDebugging;
 import com.oracle.bedrock.runtime.options.Arguments;
 import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 import com.oracle.bedrock.table.Cell;
 import com.oracle.bedrock.table.Table;
 import com.oracle.bedrock.util.ReflectionHelper;
@@ -66,6 +68,7 @@ import java.io.PipedOutputStream;
 import java.lang.reflect.Constructor;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Properties;
@@ -307,10 +310,13 @@ public class ContainerBasedJavaApplicationLauncher<A extends JavaApplication> im
                            + "------------------------------------------------------------------------\n");
             }
 
-            // establish the ContainerBasedJavaProcess
+            // establish the ContainerBasedJavaProcess (with the channel using virtual threads when enabled)
+            VirtualThreads virtualThreads = launchOptions.get(VirtualThreads.class);
+
             ContainerBasedJavaApplicationProcess process = new ContainerBasedJavaApplicationProcess(classLoader,
                                                                                                     controller,
-                                                                                                    systemProperties);
+                                                                                                    systemProperties,
+                                                                                                    virtualThreads);
 
             // register the defined RemoteEventListeners before the application starts so they can
             // immediately start receiving RemoteEvents
@@ -583,6 +589,27 @@ public class ContainerBasedJavaApplicationLauncher<A extends JavaApplication> im
         public ContainerBasedJavaApplicationProcess(ContainerClassLoader  classLoader,
                                                     ApplicationController controller,
                                                     Properties            systemProperties) throws IOException
+        {
+            this(classLoader, controller, systemProperties, null);
+        }
+
+
+        /**
+         * Constructs an {@link ContainerBasedJavaApplicationProcess}.
+         *
+         * @param classLoader       the {@link ClassLoader} in which to run the application
+         * @param controller        the {@link ApplicationController}
+         * @param systemProperties  the resolved System {@link Properties}
+         * @param virtualThreads    the {@link VirtualThreads} for the threads of the {@link RemoteChannel}
+         *                          (<code>null</code> to use {@link VirtualThreads#autoDetect()})
+         *
+         * @throws IOException  when it was not possible to establish the {@link JavaApplication} due to
+         *                      an internal IO failure
+         */
+        public ContainerBasedJavaApplicationProcess(ContainerClassLoader  classLoader,
+                                                    ApplicationController controller,
+                                                    Properties            systemProperties,
+                                                    VirtualThreads        virtualThreads) throws IOException
         {
             if (controller == null)
             {
@@ -601,7 +628,9 @@ public class ContainerBasedJavaApplicationLauncher<A extends JavaApplication> im
             this.outboundChannelOutputStream = new PipedOutputStream(outboundChannelInputStream);
 
             // establish the RemoteChannel for asynchronously communicating with the application
-            this.channel          = new PipeBasedRemoteChannel(outboundChannelOutputStream, inboundChannelInputStream);
+            this.channel          = new PipeBasedRemoteChannel(outboundChannelOutputStream,
+                                                               inboundChannelInputStream,
+                                                               virtualThreads);
 
             this.systemProperties = systemProperties;
         }
@@ -740,6 +769,16 @@ public class ContainerBasedJavaApplicationLauncher<A extends JavaApplication> im
 
             // notify the container to stop managing the scope
             Container.unmanage(scope);
+
+            // release the archives shared by the class loader
+            try
+            {
+                containerClassLoader.close();
+            }
+            catch (IOException e)
+            {
+                LOGGER.log(Level.WARNING, "An exception occurred while closing the application class loader", e);
+            }
         }
 
 
@@ -765,6 +804,28 @@ public class ContainerBasedJavaApplicationLauncher<A extends JavaApplication> im
         }
 
 
+        @Override
+        public <T> List<CompletableFuture<T>> submitAll(Collection<? extends RemoteCallable<T>> callables,
+                                                        Option...                               options)
+        {
+            if (applicationController == null)
+            {
+                throw new IllegalStateException("Attempting to submit to a ContainerBasedJavaProcess that has been destroyed");
+            }
+            else
+            {
+                return channel.submitAll(callables, options);
+            }
+        }
+
+
+        @Override
+        public RemoteChannelMetrics getMetrics()
+        {
+            return channel == null ? null : channel.getMetrics();
+        }
+
+
         @Override
         public CompletableFuture<Void> submit(RemoteRunnable runnable,
                                               Option...      options) throws IllegalStateException
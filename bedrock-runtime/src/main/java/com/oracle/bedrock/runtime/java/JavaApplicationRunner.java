@@ -103,13 +103,7 @@ public class JavaApplicationRunner
             // attempt to connect to the parent application
             try
             {
-                RemoteChannelSerializer serializer = null;
-                String  serializerName = System.getProperty(Settings.CHANNEL_SERIALIZER);
-                if (serializerName != null)
-                {
-                    Class<?> clz = Class.forName(serializerName);
-                    serializer = (RemoteChannelSerializer) clz.getDeclaredConstructor().newInstance();
-                }
+                RemoteChannelSerializer serializer = RemoteChannelSerializer.fromSettings();
 
                 URI parentURI = new URI(parent);
 
@@ -48,10 +48,15 @@ import com.oracle.bedrock.runtime.Settings;
 import com.oracle.bedrock.runtime.concurrent.ControllableRemoteChannel;
 import com.oracle.bedrock.runtime.concurrent.RemoteCallable;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannel;
+import com.oracle.bedrock.runtime.concurrent.RemoteChannelMetrics;
 import com.oracle.bedrock.runtime.concurrent.RemoteChannelSerializer;
 import com.oracle.bedrock.runtime.concurrent.RemoteEvent;
 import com.oracle.bedrock.runtime.concurrent.RemoteEventListener;
 import com.oracle.bedrock.runtime.concurrent.RemoteRunnable;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelProtocol;
+import com.oracle.bedrock.runtime.concurrent.options.ChannelTransport;
+import com.oracle.bedrock.runtime.concurrent.socket.AbstractRemoteChannelServer;
+import com.oracle.bedrock.runtime.concurrent.socket.SelectorBasedRemoteChannelServer;
 import com.oracle.bedrock.runtime.concurrent.socket.SocketBasedRemoteChannelServer;
 import com.oracle.bedrock.runtime.java.features.JmxFeature;
 import com.oracle.bedrock.runtime.java.options.BedrockRunner;
@@ -71,6 +76,7 @@ import com.oracle.bedrock.runtime.options.EnvironmentVariables;
 import com.oracle.bedrock.runtime.options.ErrorStreamRedirection;
 import com.oracle.bedrock.runtime.options.Executable;
 import com.oracle.bedrock.runtime.options.Orphanable;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 import com.oracle.bedrock.runtime.options.WorkingDirectory;
 import com.oracle.bedrock.table.Cell;
 import com.oracle.bedrock.table.Table;
@@ -83,6 +89,7 @@ import java.lang.reflect.Constructor;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.text.SimpleDateFormat;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -269,8 +276,23 @@ public class LocalJavaApplicationLauncher<A extends JavaApplication> implements
         // ----- establish Bedrock specific system properties -----
 
         // configure a server channel to communicate with the native process
-        RemoteChannelSerializer serializer = launchOptions.get(RemoteChannelSerializer.class);
-        final SocketBasedRemoteChannelServer server = new SocketBasedRemoteChannelServer(applicationName, serializer);
+        // (using the serializer defined by the system properties when one isn't specified)
+        RemoteChannelSerializer serializer     = launchOptions.getOrDefault(RemoteChannelSerializer.class,
+                                                                            RemoteChannelSerializer.fromSettings());
+        ChannelProtocol         protocol       = launchOptions.get(ChannelProtocol.class);
+        ChannelTransport        transport      = launchOptions.get(ChannelTransport.class);
+        VirtualThreads          virtualThreads = launchOptions.get(VirtualThreads.class);
+
+        final AbstractRemoteChannelServer<?> server = transport == ChannelTransport.SELECTOR
+                                                      ? new SelectorBasedRemoteChannelServer(applicationName,
+                                                                                             0,
+                                                                                             serializer,
+                                                                                             protocol)
+                                                      : new SocketBasedRemoteChannelServer(applicationName,
+                                                                                           0,
+                                                                                           serializer,
+                                                                                           protocol,
+                                                                                           virtualThreads);
 
         // register the defined RemoteEventListeners with the server so that when the application starts
         // the listeners can immediately start receiving RemoteEvents
@@ -336,6 +358,14 @@ public class LocalJavaApplicationLauncher<A extends JavaApplication> implements
 
         systemPropertiesTable.addRow(Settings.ORPHANABLE, Boolean.toString(orphanable.isOrphanable()));
 
+        // the application uses virtual threads for its channel and console when they are enabled for the launch
+        if (virtualThreads.isEnabled())
+        {
+            processBuilder.command().add("-D" + Settings.VIRTUAL_THREADS + "=true");
+
+            systemPropertiesTable.addRow(Settings.VIRTUAL_THREADS, "true");
+        }
+
         if (serializer != null)
             {
             Class<?> clz = serializer.getClass();
@@ -567,6 +597,11 @@ public class LocalJavaApplicationLauncher<A extends JavaApplication> implements
             listener.onLaunched(application);
         }
 
+        // expose the metrics of the server (and the channel to the application) as an MBean
+        // (only once launched, as it's unregistered when the application is closed, which doesn't
+        // happen when the launch fails)
+        server.getMetrics().register(applicationName);
+
         return application;
     }
 
@@ -621,6 +656,22 @@ public class LocalJavaApplicationLauncher<A extends JavaApplication> implements
         }
 
 
+        @Override
+        public <T> List<CompletableFuture<T>> submitAll(Collection<? extends RemoteCallable<T>> callables,
+                                                        Option...                               options)
+                                                            throws IllegalStateException
+        {
+            return remoteExecutor.submitAll(callables, options);
+        }
+
+
+        @Override
+        public RemoteChannelMetrics getMetrics()
+        {
+            return remoteExecutor.getMetrics();
+        }
+
+
         @Override
         public CompletableFuture<Void> submit(RemoteRunnable runnable,
                                               Option...      options) throws IllegalStateException
@@ -659,6 +710,14 @@ public class LocalJavaApplicationLauncher<A extends JavaApplication> implements
             super.close();
 
             remoteExecutor.close();
+
+            // the metrics MBean is registered when the application is launched
+            RemoteChannelMetrics metrics = remoteExecutor.getMetrics();
+
+            if (metrics != null)
+            {
+                metrics.unregister();
+            }
         }
     }
 
@@ -30,12 +30,21 @@ import com.oracle.bedrock.annotations.Internal;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * An {@link AbstractDelegatingOutputStream} is a {@link FilterOutputStream}
  * that delegates output to an appropriate {@link Scope}
  * {@link OutputStream}.
  * <p>
+ * The {@link Scope} of each {@link Thread} is cached until its context {@link ClassLoader}
+ * or {@link Container} association changes, and output is buffered for each {@link Scope}
+ * until flushed (as it is by {@link System#out} and {@link System#err}), so that bytes
+ * aren't resolved and written to a {@link Scope} one at a time.
+ * <p>
  * Copyright (c) 2011. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -44,6 +53,22 @@ import java.io.OutputStream;
 @Internal
 public abstract class AbstractDelegatingOutputStream extends FilterOutputStream
 {
+    /**
+     * The size of the buffer for each {@link Scope}.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The {@link ScopeOutput} last resolved by each {@link Thread}.
+     */
+    private final ThreadLocal<Resolution> resolutions;
+
+    /**
+     * The {@link ScopeOutput} for each {@link Scope}.
+     */
+    private final Map<Scope, ScopeOutput> outputs;
+
+
     /**
      * Constructs a {@link AbstractDelegatingOutputStream}
      *
@@ -54,6 +79,9 @@ public abstract class AbstractDelegatingOutputStream extends FilterOutputStream
     public AbstractDelegatingOutputStream(OutputStream outputStream)
     {
         super(outputStream);
+
+        this.resolutions = new ThreadLocal<>();
+        this.outputs     = Collections.synchronizedMap(new WeakHashMap<>());
     }
 
 
@@ -63,19 +91,117 @@ public abstract class AbstractDelegatingOutputStream extends FilterOutputStream
     @Override
     public void write(int value) throws IOException
     {
-        ContainerScope scope = Container.getContainerScope();
+        ScopeOutput output = resolve();
 
-        if (scope == null)
+        if (output == null)
         {
             super.out.write(value);
         }
         else
         {
-            getOutputStreamFor(scope).write(value);
+            output.write(value);
         }
     }
 
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] bytes,
+                      int    offset,
+                      int    length) throws IOException
+    {
+        if ((offset | length | (bytes.length - (length + offset)) | (offset + length)) < 0)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        ScopeOutput output = resolve();
+
+        if (output == null)
+        {
+            super.out.write(bytes, offset, length);
+        }
+        else
+        {
+            output.write(bytes, offset, length);
+        }
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        ScopeOutput output = resolve();
+
+        if (output == null)
+        {
+            super.out.flush();
+        }
+        else
+        {
+            output.flush();
+        }
+    }
+
+
+    /**
+     * Writes and forgets the output buffered for a {@link Scope} that is closing, including any
+     * partial line.  Subsequent output for the {@link Scope} is not buffered.
+     *
+     * @param scope  the {@link Scope}
+     */
+    public void close(Scope scope)
+    {
+        ScopeOutput output = outputs.remove(scope);
+
+        if (output != null)
+        {
+            try
+            {
+                output.close();
+            }
+            catch (IOException e)
+            {
+                // SKIP: the scope output has already been closed
+            }
+        }
+    }
+
+
+    /**
+     * Obtains the {@link ScopeOutput} for the calling {@link Thread}, using the previous resolution
+     * when its context {@link ClassLoader} and {@link Container} associations are unchanged.
+     *
+     * @return the {@link ScopeOutput} or <code>null</code> when the {@link Thread} has no {@link ContainerScope}
+     */
+    private ScopeOutput resolve()
+    {
+        ClassLoader classLoader  = Thread.currentThread().getContextClassLoader();
+        int         associations = Container.getAssociations();
+        Resolution  resolution   = resolutions.get();
+
+        if (resolution == null || resolution.associations != associations
+            || resolution.classLoader.get() != classLoader)
+        {
+            ContainerScope scope  = Container.getContainerScope();
+            ScopeOutput    output = scope == null
+                                    ? null : outputs.computeIfAbsent(scope,
+                                                                     s -> new ScopeOutput(getOutputStreamFor(s)));
+
+            resolution = new Resolution(classLoader, associations, output);
+
+            resolutions.set(resolution);
+        }
+
+        return resolution.output;
+    }
+
+
     /**
      * Obtains the {@link OutputStream} from the {@link Scope} to
      * which output will be delegated.
@@ -85,4 +211,186 @@ public abstract class AbstractDelegatingOutputStream extends FilterOutputStream
      * @return  the {@link OutputStream} for the {@link Scope}
      */
     public abstract OutputStream getOutputStreamFor(Scope scope);
+
+
+    /**
+     * The {@link ScopeOutput} resolved by a {@link Thread}, and what it was resolved with.
+     */
+    private static class Resolution
+    {
+        /**
+         * The context {@link ClassLoader} of the {@link Thread} (weakly referenced so as not to prevent unloading).
+         */
+        private final WeakReference<ClassLoader> classLoader;
+
+        /**
+         * The {@link Container#getAssociations()} at the time of resolution.
+         */
+        private final int associations;
+
+        /**
+         * The {@link ScopeOutput} (null when the {@link Thread} has no {@link ContainerScope}).
+         */
+        private final ScopeOutput output;
+
+
+        /**
+         * Constructs a {@link Resolution}.
+         *
+         * @param classLoader   the context {@link ClassLoader}
+         * @param associations  the {@link Container#getAssociations()}
+         * @param output        the {@link ScopeOutput}
+         */
+        private Resolution(ClassLoader classLoader,
+                           int         associations,
+                           ScopeOutput output)
+        {
+            this.classLoader  = new WeakReference<>(classLoader);
+            this.associations = associations;
+            this.output       = output;
+        }
+    }
+
+
+    /**
+     * The buffered output of a {@link Scope}, shared by the {@link Thread}s of the {@link Scope}.
+     */
+    private static class ScopeOutput
+    {
+        /**
+         * The {@link OutputStream} of the {@link Scope}.
+         */
+        private final OutputStream stream;
+
+        /**
+         * The buffered output.
+         */
+        private final byte[] buffer;
+
+        /**
+         * The number of buffered bytes.
+         */
+        private int count;
+
+        /**
+         * Has the {@link Scope} closed, in which case output is no longer buffered?
+         */
+        private boolean closed;
+
+
+        /**
+         * Constructs a {@link ScopeOutput}.
+         *
+         * @param stream  the {@link OutputStream} of the {@link Scope}
+         */
+        private ScopeOutput(OutputStream stream)
+        {
+            this.stream = stream;
+            this.buffer = new byte[BUFFER_SIZE];
+        }
+
+
+        /**
+         * Writes a byte, writing the buffer to the {@link Scope} when full or at the end of a line.
+         *
+         * @param value  the byte
+         *
+         * @throws IOException when writing to the {@link Scope} fails
+         */
+        private synchronized void write(int value) throws IOException
+        {
+            if (closed)
+            {
+                stream.write(value);
+
+                return;
+            }
+
+            if (count == buffer.length)
+            {
+                drain();
+            }
+
+            buffer[count++] = (byte) value;
+
+            if (value == '\n')
+            {
+                drain();
+            }
+        }
+
+
+        /**
+         * Writes bytes, writing the buffer to the {@link Scope} when full and writing large runs directly.
+         *
+         * @param bytes   the bytes
+         * @param offset  the offset of the first byte to write
+         * @param length  the number of bytes to write
+         *
+         * @throws IOException when writing to the {@link Scope} fails
+         */
+        private synchronized void write(byte[] bytes,
+                                        int    offset,
+                                        int    length) throws IOException
+        {
+            if (length > buffer.length - count)
+            {
+                drain();
+            }
+
+            if (closed || length >= buffer.length)
+            {
+                stream.write(bytes, offset, length);
+            }
+            else
+            {
+                System.arraycopy(bytes, offset, buffer, count, length);
+
+                count += length;
+            }
+        }
+
+
+        /**
+         * Writes the buffer to the {@link Scope} and flushes it.
+         *
+         * @throws IOException when writing to the {@link Scope} fails
+         */
+        private synchronized void flush() throws IOException
+        {
+            drain();
+            stream.flush();
+        }
+
+
+        /**
+         * Writes the buffer to the {@link Scope} and flushes it, no longer buffering subsequent output.
+         *
+         * @throws IOException when writing to the {@link Scope} fails
+         */
+        private synchronized void close() throws IOException
+        {
+            closed = true;
+
+            flush();
+        }
+
+
+        /**
+         * Writes the buffer to the {@link Scope}.
+         *
+         * @throws IOException when writing to the {@link Scope} fails
+         */
+        private void drain() throws IOException
+        {
+            if (count > 0)
+            {
+                int length = count;
+
+                count = 0;
+
+                stream.write(buffer, 0, length);
+            }
+        }
+    }
 }
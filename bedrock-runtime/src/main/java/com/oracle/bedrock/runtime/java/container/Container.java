@@ -31,6 +31,7 @@ import com.oracle.bedrock.runtime.network.AvailablePortIterator;
 
 import java.io.PrintStream;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The {@link Container} class provides mechanisms to establish and dismantal
@@ -76,6 +77,22 @@ public class Container
      */
     private static InheritableThreadLocal<ContainerScope> threadScope;
 
+    /**
+     * The number of times a {@link Thread} has been associated with or dissociated from a {@link ContainerScope},
+     * allowing cached resolutions of {@link #getContainerScope()} to be invalidated.
+     */
+    private static final AtomicInteger associations = new AtomicInteger();
+
+    /**
+     * The {@link DelegatingStdOutOutputStream} installed as {@link System#out} (<code>null</code> when not started).
+     */
+    private static DelegatingStdOutOutputStream stdout;
+
+    /**
+     * The {@link DelegatingStdErrOutputStream} installed as {@link System#err} (<code>null</code> when not started).
+     */
+    private static DelegatingStdErrOutputStream stderr;
+
     /**
      * The current set of {@link ContainerScope}s being managed by the {@link Container}.
      */
@@ -119,8 +136,11 @@ public class Container
                                                      DelegatingMBeanServerBuilder.class.getCanonicalName());
 
             System.setProperties(new DelegatingProperties(defaultScope.getProperties()));
-            System.setOut(new PrintStream(new DelegatingStdOutOutputStream(platformScope.getStandardOutput()), true));
-            System.setErr(new PrintStream(new DelegatingStdErrOutputStream(platformScope.getStandardError()), true));
+            stdout = new DelegatingStdOutOutputStream(platformScope.getStandardOutput());
+            stderr = new DelegatingStdErrOutputStream(platformScope.getStandardError());
+
+            System.setOut(new PrintStream(stdout, true));
+            System.setErr(new PrintStream(stderr, true));
             System.setIn(new DelegatingStdInInputStream(platformScope.getStandardInput()));
 
             // establish the scopes set to track the scopes being managed
@@ -141,6 +161,9 @@ public class Container
             System.setOut(platformScope.getStandardOutput());
             System.setErr(platformScope.getStandardError());
 
+            stdout = null;
+            stderr = null;
+
             // close and clear the default scope as we are no longer running in a container
             defaultScope.close();
             defaultScope = null;
@@ -226,6 +249,39 @@ public class Container
     }
 
 
+    /**
+     * Obtains the number of times a {@link Thread} has been associated with or dissociated from a
+     * {@link ContainerScope}.  Should this change, a previously determined {@link #getContainerScope()}
+     * may no longer be correct.
+     *
+     * @return  the number of associations and dissociations
+     */
+    static int getAssociations()
+    {
+        return associations.get();
+    }
+
+
+    /**
+     * Writes the output buffered for the specified {@link Scope} by {@link System#out} and
+     * {@link System#err}, including any partial line, as the {@link Scope} is closing.
+     *
+     * @param scope  the {@link Scope}
+     */
+    static synchronized void flush(Scope scope)
+    {
+        if (stdout != null)
+        {
+            stdout.close(scope);
+        }
+
+        if (stderr != null)
+        {
+            stderr.close(scope);
+        }
+    }
+
+
     /**
      * Obtains a {@link PlatformScope} that represents the underlying Java
      * Virtual Machine Platform itself.
@@ -274,6 +330,8 @@ public class Container
             if (existingScope == null)
             {
                 threadScope.set(scope);
+
+                associations.incrementAndGet();
             }
             else
             {
@@ -303,6 +361,8 @@ public class Container
         else
         {
             threadScope.remove();
+
+            associations.incrementAndGet();
         }
     }
 
@@ -31,16 +31,23 @@ import com.oracle.bedrock.runtime.PropertiesBuilder;
 import com.oracle.bedrock.runtime.java.ClassPath;
 import com.oracle.bedrock.runtime.network.AvailablePortIterator;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.security.AllPermission;
+import java.security.CodeSigner;
 import java.security.CodeSource;
 import java.security.PermissionCollection;
 import java.security.Permissions;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Manifest;
 
 /**
  * A {@link ContainerClassLoader} is a specialized {@link ContainerScopeClassLoader}
@@ -53,6 +60,10 @@ import java.util.Set;
  * isolate regular Java Applications, much like an application server would do
  * for Java EE applications.  That is, this {@link ClassLoader} provides
  * infrastructure for the scoping, containment of applications in one process.
+ * <p>
+ * {@link ContainerClassLoader}s are parallel capable and define classes from archives
+ * using the {@link SharedArchiveCache}, so that the archives on a {@link ClassPath} shared
+ * by many {@link ContainerClassLoader}s are mapped and read once, not once per application.
  *
  * @see Container
  * @see ContainerScopeClassLoader
@@ -71,6 +82,11 @@ import java.util.Set;
 @Internal
 public class ContainerClassLoader extends ContainerScopeClassLoader
 {
+    static
+    {
+        ClassLoader.registerAsParallelCapable();
+    }
+
     /**
      * The java.class.path property.
      */
@@ -85,24 +101,30 @@ public class ContainerClassLoader extends ContainerScopeClassLoader
      * The names of the packages (as prefixes) to load from the parent
      * {@link ClassLoader}.  ie: these are the "shared" packages.
      */
-    private Set<String> packagesToLoadFromParent = new HashSet<String>();
+    private final PackagePrefixes packagesToLoadFromParent = new PackagePrefixes();
 
     /**
      * The names of the packages (as prefixes) the must be loaded by this container
      * {@link ClassLoader}.  These override the classes that may be
      * declared as loading from the parent.
      */
-    private Set<String> packagesToLoadInContainer = new HashSet<String>();
+    private final PackagePrefixes packagesToLoadInContainer = new PackagePrefixes();
 
     /**
      * The {@link Class}es currently loaded by the {@link ContainerClassLoader}.
      */
-    private Map<String, Class<?>> loadedClasses = new HashMap<String, Class<?>>();
+    private final ConcurrentHashMap<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
 
     /**
-     * The currently loaded resources.
+     * The currently loaded resources (empty when a resource couldn't be found).
      */
-    private Map<String, URL> loadedResources = new HashMap<String, URL>();
+    private final ConcurrentHashMap<String, Optional<URL>> loadedResources = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link Element}s of the {@link ClassPath}, in order, from which classes are defined
+     * (<code>null</code> until first required).
+     */
+    private volatile List<Element> elements;
 
     /**
      * The root {@link ClassLoader}.
@@ -335,46 +357,204 @@ public class ContainerClassLoader extends ContainerScopeClassLoader
                 c = rootClassLoader.loadClass(name);
             }
 
-            loadedClasses.put(name, c);
+            Class<?> existing = loadedClasses.putIfAbsent(name, c);
+
+            c = existing == null ? c : existing;
         }
 
         return c;
     }
 
 
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException
+    {
+        String resourceName = name.replace('.', '/') + ".class";
+
+        for (Element element : getElements())
+        {
+            if (element.missing)
+            {
+                // a class path element that doesn't exist can't define classes
+                continue;
+            }
+
+            if (!element.directory && !element.isArchive())
+            {
+                // the element isn't handled here so resolve the class as a URLClassLoader would
+                return super.findClass(name);
+            }
+
+            try
+            {
+                byte[]   bytes;
+                Manifest manifest;
+                URL      url;
+
+                if (element.directory)
+                {
+                    File file = new File(element.file, resourceName);
+
+                    if (!file.isFile())
+                    {
+                        continue;
+                    }
+
+                    bytes    = Files.readAllBytes(file.toPath());
+                    manifest = null;
+                }
+                else
+                {
+                    bytes = element.archive.getBytes(resourceName);
+
+                    if (bytes == null)
+                    {
+                        continue;
+                    }
+
+                    manifest = element.archive.getManifest();
+                }
+
+                url = element.url;
+
+                definePackageFor(name, manifest, url);
+
+                return defineClass(name, bytes, 0, bytes.length, new CodeSource(url, (CodeSigner[]) null));
+            }
+            catch (IOException e)
+            {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+        throw new ClassNotFoundException(name);
+    }
+
+
     /**
-     * Determines if the specified class name should be loaded from the
-     * parent {@link ClassLoader}.
+     * Defines the {@link Package} of the specified class, when it hasn't already been defined.
      *
-     * @param className  the name of the class to check
-     *
-     * @return  <code>true</code> if the specified class should be loaded
-     *          from the parent {@link ClassLoader}, otherwise <code>false</code>
+     * @param className  the name of the class
+     * @param manifest   the {@link Manifest} of the archive defining the class (may be <code>null</code>)
+     * @param url        the {@link URL} of the class path element defining the class
      */
-    private boolean shouldLoadFromParent(String className)
+    private void definePackageFor(String   className,
+                                  Manifest manifest,
+                                  URL      url)
     {
-        if (ContainerClassLoader.class.getCanonicalName().equals(className))
+        int index = className.lastIndexOf('.');
+
+        if (index < 0)
         {
-            return true;
+            return;
         }
 
-        for (String prefix : packagesToLoadInContainer)
+        String packageName = className.substring(0, index);
+
+        if (getDefinedPackage(packageName) == null)
         {
-            if (className.startsWith(prefix))
+            try
+            {
+                if (manifest == null)
+                {
+                    definePackage(packageName, null, null, null, null, null, null, null);
+                }
+                else
+                {
+                    definePackage(packageName, manifest, url);
+                }
+            }
+            catch (IllegalArgumentException e)
             {
-                return false;
+                // another thread defined the package concurrently
             }
         }
+    }
+
+
+    /**
+     * Obtains the {@link Element}s of the {@link ClassPath}, resolving them when first required.
+     *
+     * @return the {@link Element}s
+     */
+    private List<Element> getElements()
+    {
+        List<Element> resolved = elements;
 
-        for (String prefix : packagesToLoadFromParent)
+        if (resolved == null)
         {
-            if (className.startsWith(prefix))
+            synchronized (this)
             {
-                return true;
+                resolved = elements;
+
+                if (resolved == null)
+                {
+                    resolved = new ArrayList<>();
+
+                    for (URL url : getURLs())
+                    {
+                        resolved.add(new Element(url));
+                    }
+
+                    elements = resolved;
+                }
             }
         }
 
-        return false;
+        return resolved;
+    }
+
+
+    /**
+     * Closes the {@link ContainerClassLoader}, releasing the archives it acquired from the
+     * {@link SharedArchiveCache}.  Classes can't be defined once the {@link ContainerClassLoader}
+     * is closed.
+     *
+     * @throws IOException  when the underlying {@link java.net.URLClassLoader} fails to close
+     */
+    @Override
+    public void close() throws IOException
+    {
+        List<Element> released;
+
+        synchronized (this)
+        {
+            released = elements;
+            elements = Collections.emptyList();
+        }
+
+        if (released != null)
+        {
+            for (Element element : released)
+            {
+                if (element.archive != null)
+                {
+                    SharedArchiveCache.get().release(element.archive);
+                }
+            }
+        }
+
+        super.close();
+    }
+
+
+    /**
+     * Determines if the specified class name should be loaded from the
+     * parent {@link ClassLoader}.
+     *
+     * @param className  the name of the class to check
+     *
+     * @return  <code>true</code> if the specified class should be loaded
+     *          from the parent {@link ClassLoader}, otherwise <code>false</code>
+     */
+    private boolean shouldLoadFromParent(String className)
+    {
+        if (ContainerClassLoader.class.getCanonicalName().equals(className))
+        {
+            return true;
+        }
+
+        return !packagesToLoadInContainer.matches(className) && packagesToLoadFromParent.matches(className);
     }
 
 
@@ -392,19 +572,94 @@ public class ContainerClassLoader extends ContainerScopeClassLoader
     @Override
     public URL getResource(String name)
     {
-        URL c = loadedResources.get(name);
+        URL c = loadedResources.computeIfAbsent(name, resource -> Optional.ofNullable(findResource(resource)))
+                               .orElse(null);
 
         if (c == null)
         {
-            c = findResource(name);
-            loadedResources.put(name, c);
+            c = super.getResource(name);
         }
 
-        if (c == null)
+        return c;
+    }
+
+
+    /**
+     * An element of the {@link ClassPath} from which a {@link ContainerClassLoader} defines classes.
+     */
+    private static class Element
+    {
+        /**
+         * The {@link URL} of the element.
+         */
+        private final URL url;
+
+        /**
+         * The {@link File} of the element (<code>null</code> when not a file).
+         */
+        private final File file;
+
+        /**
+         * Is the element a directory?
+         */
+        private final boolean directory;
+
+        /**
+         * Is the element a file that doesn't exist?
+         */
+        private final boolean missing;
+
+        /**
+         * The {@link SharedArchiveCache.Archive} acquired for the element (<code>null</code> when not a file).
+         */
+        private final SharedArchiveCache.Archive archive;
+
+
+        /**
+         * Constructs an {@link Element}.
+         *
+         * @param url  the {@link URL} of the element
+         */
+        private Element(URL url)
         {
-            c = super.getResource(name);
+            File                       file    = null;
+            SharedArchiveCache.Archive archive = null;
+
+            if ("file".equals(url.getProtocol()))
+            {
+                try
+                {
+                    file = new File(url.toURI());
+
+                    if (file.isFile())
+                    {
+                        archive = SharedArchiveCache.get().getArchive(file);
+                    }
+                }
+                catch (URISyntaxException | IOException | RuntimeException e)
+                {
+                    // the element will be handled as a URLClassLoader would
+                    file    = null;
+                    archive = null;
+                }
+            }
+
+            this.url       = url;
+            this.file      = file;
+            this.directory = file != null && file.isDirectory();
+            this.missing   = file != null && !file.exists();
+            this.archive   = archive;
         }
 
-        return c;
+
+        /**
+         * Determines if the element is an archive supported by the {@link SharedArchiveCache}.
+         *
+         * @return <code>true</code> if the element is a supported archive
+         */
+        private boolean isArchive()
+        {
+            return archive != null && archive.isSupported();
+        }
     }
 }
@@ -278,6 +278,9 @@ public class ContainerScope extends AbstractContainerScope
     {
         if (super.close())
         {
+            // write any output (including partial lines) buffered by System.out and System.err
+            Container.flush(this);
+
             try
             {
                 stdoutPipedOutputStream.close();
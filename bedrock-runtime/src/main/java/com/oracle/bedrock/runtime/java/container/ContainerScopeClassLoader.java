@@ -44,6 +44,11 @@ import java.net.URLClassLoader;
 @Internal
 public class ContainerScopeClassLoader extends URLClassLoader
 {
+    static
+    {
+        ClassLoader.registerAsParallelCapable();
+    }
+
     /**
      * The {@link ContainerScope} for the {@link ContainerScopeClassLoader}.
      */
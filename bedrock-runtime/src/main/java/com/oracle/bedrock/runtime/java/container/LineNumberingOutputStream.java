@@ -35,6 +35,10 @@ import java.io.OutputStream;
  * A {@link LineNumberingOutputStream} is an {@link OutputStream} that
  * numbers each new line as it is output.
  * <p>
+ * The label written at the start of each line is encoded once, with only its line number
+ * digits updated in place, and bulk writes are copied in runs between line starts, so that
+ * writing doesn't allocate.
+ * <p>
  * Copyright (c) 2011. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -44,6 +48,16 @@ import java.io.OutputStream;
 @Internal
 public class LineNumberingOutputStream extends FilterOutputStream
 {
+    /**
+     * The minimum number of digits in line numbers, which are padded with leading spaces.
+     */
+    private static final int MINIMUM_DIGITS = 4;
+
+    /**
+     * The size of the buffer used to assemble bulk writes.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * The next line number to output.
      */
@@ -61,6 +75,26 @@ public class LineNumberingOutputStream extends FilterOutputStream
      */
     private boolean m_lastOutputWasEOL;
 
+    /**
+     * The encoded label for the next line, equivalent to <code>String.format("[%-10s%4d]: ", prefix, lineNumber)</code>.
+     */
+    private byte[] m_label;
+
+    /**
+     * The index of the first line number digit (or padding) in the label.
+     */
+    private int m_digitsStart;
+
+    /**
+     * The index after the last line number digit in the label.
+     */
+    private int m_digitsEnd;
+
+    /**
+     * The buffer used to assemble bulk writes (created when first required).
+     */
+    private byte[] m_buffer;
+
 
     /**
      * Constructs a {@link LineNumberingOutputStream}.
@@ -77,6 +111,68 @@ public class LineNumberingOutputStream extends FilterOutputStream
         m_lastOutputWasEOL = true;
         m_prefix           = prefix == null ? "" : prefix.trim();
         m_prefix           = m_prefix.isEmpty() ? m_prefix : m_prefix + ":";
+
+        encodeLabel();
+    }
+
+
+    /**
+     * Encodes the label for the current line number.
+     */
+    private void encodeLabel()
+    {
+        String number = Integer.toString(m_lineNumber);
+        byte[] start  = String.format("[%-10s", m_prefix).getBytes();
+        int    digits = Math.max(MINIMUM_DIGITS, number.length());
+
+        m_label       = new byte[start.length + digits + 3];
+        m_digitsStart = start.length;
+        m_digitsEnd   = start.length + digits;
+
+        System.arraycopy(start, 0, m_label, 0, start.length);
+
+        for (int i = 0; i < digits; i++)
+        {
+            int index = i - (digits - number.length());
+
+            m_label[m_digitsStart + i] = index < 0 ? (byte) ' ' : (byte) number.charAt(index);
+        }
+
+        m_label[m_digitsEnd]     = ']';
+        m_label[m_digitsEnd + 1] = ':';
+        m_label[m_digitsEnd + 2] = ' ';
+    }
+
+
+    /**
+     * Advances to the next line number, incrementing the digits of the label in place.
+     */
+    private void nextLineNumber()
+    {
+        m_lineNumber++;
+
+        for (int i = m_digitsEnd - 1; i >= m_digitsStart; i--)
+        {
+            byte digit = m_label[i];
+
+            if (digit == ' ')
+            {
+                m_label[i] = '1';
+
+                return;
+            }
+            else if (digit != '9')
+            {
+                m_label[i] = (byte) (digit + 1);
+
+                return;
+            }
+
+            m_label[i] = '0';
+        }
+
+        // the line number has more digits than the label has room for
+        encodeLabel();
     }
 
 
@@ -88,21 +184,109 @@ public class LineNumberingOutputStream extends FilterOutputStream
     {
         if (m_lastOutputWasEOL && value != '\n' && value != '\r')
         {
-            byte[] bytes = String.format("[%-10s%4d]: ", m_prefix, m_lineNumber++).getBytes();
+            out.write(m_label, 0, m_label.length);
 
-            for (byte c : bytes)
-            {
-                super.write(c);
-            }
+            nextLineNumber();
 
             m_lastOutputWasEOL = false;
         }
 
-        super.write(value);
+        out.write(value);
 
         if (value == '\n' || value == '\r')
         {
             m_lastOutputWasEOL = true;
         }
     }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] bytes,
+                      int    offset,
+                      int    length) throws IOException
+    {
+        if ((offset | length | (bytes.length - (length + offset)) | (offset + length)) < 0)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (m_buffer == null)
+        {
+            m_buffer = new byte[BUFFER_SIZE];
+        }
+
+        int end      = offset + length;
+        int start    = offset;
+        int buffered = 0;
+
+        for (int i = offset; i < end; i++)
+        {
+            byte value = bytes[i];
+
+            if (value == '\n' || value == '\r')
+            {
+                m_lastOutputWasEOL = true;
+            }
+            else if (m_lastOutputWasEOL)
+            {
+                // copy the run of bytes preceding this line and then the label for this line
+                buffered           = append(bytes, start, i - start, buffered);
+                buffered           = append(m_label, 0, m_label.length, buffered);
+                start              = i;
+                m_lastOutputWasEOL = false;
+
+                nextLineNumber();
+            }
+        }
+
+        buffered = append(bytes, start, end - start, buffered);
+
+        if (buffered > 0)
+        {
+            out.write(m_buffer, 0, buffered);
+        }
+    }
+
+
+    /**
+     * Appends bytes to the buffer, writing the buffer when full and writing large runs directly.
+     *
+     * @param bytes     the bytes
+     * @param offset    the offset of the first byte to append
+     * @param length    the number of bytes to append
+     * @param buffered  the number of bytes currently in the buffer
+     *
+     * @return the number of bytes in the buffer
+     *
+     * @throws IOException when writing fails
+     */
+    private int append(byte[] bytes,
+                       int    offset,
+                       int    length,
+                       int    buffered) throws IOException
+    {
+        if (buffered + length > m_buffer.length)
+        {
+            if (buffered > 0)
+            {
+                out.write(m_buffer, 0, buffered);
+
+                buffered = 0;
+            }
+
+            if (length > m_buffer.length)
+            {
+                out.write(bytes, offset, length);
+
+                return 0;
+            }
+        }
+
+        System.arraycopy(bytes, offset, m_buffer, buffered, length);
+
+        return buffered + length;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * File: PackagePrefixes.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.java.container;
+
+import com.oracle.bedrock.annotations.Internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe trie of package name prefixes, used to determine if a class name starts
+ * with any of the prefixes in a single pass over the class name.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+class PackagePrefixes
+{
+    /**
+     * The root {@link Node} of the trie (representing the empty prefix).
+     */
+    private final Node root = new Node();
+
+
+    /**
+     * Adds a prefix.
+     *
+     * @param prefix  the prefix to add
+     */
+    public void add(String prefix)
+    {
+        Node node = root;
+
+        for (int i = 0; i < prefix.length(); i++)
+        {
+            node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+        }
+
+        node.terminal = true;
+    }
+
+
+    /**
+     * Determines if the specified name starts with any of the prefixes.
+     *
+     * @param name  the name
+     *
+     * @return <code>true</code> if the name starts with one of the prefixes
+     */
+    public boolean matches(String name)
+    {
+        Node node = root;
+
+        for (int i = 0; node != null; i++)
+        {
+            if (node.terminal)
+            {
+                return true;
+            }
+
+            if (i == name.length())
+            {
+                return false;
+            }
+
+            node = node.children.get(name.charAt(i));
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Determines if there are no prefixes.
+     *
+     * @return <code>true</code> if no prefixes have been added
+     */
+    public boolean isEmpty()
+    {
+        return !root.terminal && root.children.isEmpty();
+    }
+
+
+    /**
+     * A node in the trie.
+     */
+    private static class Node
+    {
+        /**
+         * The child {@link Node}s by the next character of the prefix.
+         */
+        private final ConcurrentHashMap<Character, Node> children = new ConcurrentHashMap<>();
+
+        /**
+         * Does a prefix end at this {@link Node}?
+         */
+        private volatile boolean terminal;
+    }
+}
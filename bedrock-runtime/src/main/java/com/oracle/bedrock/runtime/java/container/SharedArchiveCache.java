@@ -0,0 +1,720 @@
+/*
+ * File: SharedArchiveCache.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.java.container;
+
+import com.oracle.bedrock.annotations.Internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * A process-wide cache of the contents of Java archives, shared by {@link ContainerClassLoader}s
+ * so that launching many in-process applications from the same {@link com.oracle.bedrock.runtime.java.ClassPath}
+ * doesn't repeatedly read the same archives.
+ * <p>
+ * Each archive is memory-mapped once, with its central directory indexed by entry name.  The bytes
+ * of entries are read (and inflated) once and then softly retained, allowing them to be reclaimed
+ * under memory pressure.  Archives are identified by their canonical path, size and last modified
+ * time, so a changed archive is mapped again.
+ * <p>
+ * Archives that can't be handled here (eg: those that are signed, encrypted, use ZIP64,
+ * unsupported compression methods or declare a manifest <code>Class-Path</code>) are reported as
+ * unsupported, allowing a {@link ClassLoader} to fall back to its usual means of loading classes.
+ * The entries of multi-release archives are resolved for the version of the running platform.
+ * <p>
+ * Archives are reference counted, each {@link #getArchive(File)} being paired with a
+ * {@link #release(Archive)}.  When an archive is no longer referenced it's evicted and its
+ * mapping and contents are dropped, allowing them to be reclaimed.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+@Internal
+class SharedArchiveCache
+{
+    /**
+     * The singleton {@link SharedArchiveCache}.
+     */
+    private static final SharedArchiveCache INSTANCE = new SharedArchiveCache();
+
+    /**
+     * The signature of a local file header.
+     */
+    private static final int LOCAL_HEADER = 0x04034b50;
+
+    /**
+     * The signature of a central directory file header.
+     */
+    private static final int CENTRAL_HEADER = 0x02014b50;
+
+    /**
+     * The signature of the end of central directory record.
+     */
+    private static final int END_HEADER = 0x06054b50;
+
+    /**
+     * The size of the end of central directory record (without a comment).
+     */
+    private static final int END_SIZE = 22;
+
+    /**
+     * The compression method for stored (uncompressed) entries.
+     */
+    private static final int STORED = 0;
+
+    /**
+     * The compression method for deflated entries.
+     */
+    private static final int DEFLATED = 8;
+
+    /**
+     * The name of the manifest entry.
+     */
+    private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+    /**
+     * The prefix of the versioned entries of multi-release archives.
+     */
+    private static final String VERSIONS = "META-INF/versions/";
+
+    /**
+     * The {@link Archive}s by canonical path.
+     */
+    private final ConcurrentHashMap<String, Archive> archives;
+
+    /**
+     * The number of entries read from archives.
+     */
+    private final AtomicLong reads;
+
+
+    /**
+     * Constructs a {@link SharedArchiveCache}.
+     */
+    SharedArchiveCache()
+    {
+        this.archives = new ConcurrentHashMap<>();
+        this.reads    = new AtomicLong();
+    }
+
+
+    /**
+     * Obtains the process-wide {@link SharedArchiveCache}.
+     *
+     * @return the {@link SharedArchiveCache}
+     */
+    static SharedArchiveCache get()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Acquires the {@link Archive} for the specified file, mapping it when it hasn't
+     * been mapped or has changed since it was mapped.  The {@link Archive} must be
+     * {@link #release(Archive) released} when no longer required.
+     *
+     * @param file  the archive file
+     *
+     * @return the {@link Archive}, which may not be {@link Archive#isSupported() supported}
+     *
+     * @throws IOException  when the archive can't be read
+     */
+    synchronized Archive getArchive(File file) throws IOException
+    {
+        String  path         = file.getCanonicalPath();
+        long    size         = file.length();
+        long    lastModified = file.lastModified();
+
+        Archive archive      = archives.get(path);
+
+        if (archive == null || archive.size != size || archive.lastModified != lastModified)
+        {
+            archive = map(path, size, lastModified);
+
+            archives.put(path, archive);
+        }
+
+        archive.references++;
+
+        return archive;
+    }
+
+
+    /**
+     * Releases an {@link Archive} acquired using {@link #getArchive(File)}, evicting it
+     * and dropping its mapping and contents when it's no longer referenced.
+     *
+     * @param archive  the {@link Archive}
+     */
+    synchronized void release(Archive archive)
+    {
+        if (--archive.references == 0)
+        {
+            archives.remove(archive.path, archive);
+
+            archive.close();
+        }
+    }
+
+
+    /**
+     * Obtains the number of archives that have been mapped.
+     *
+     * @return the number of archives
+     */
+    int getArchiveCount()
+    {
+        return archives.size();
+    }
+
+
+    /**
+     * Obtains the number of entries that have been read from archives
+     * (as opposed to being provided from the cache).
+     *
+     * @return the number of entries read
+     */
+    long getReadCount()
+    {
+        return reads.get();
+    }
+
+
+    /**
+     * Memory-maps and indexes an archive.
+     *
+     * @param path          the canonical path of the archive file
+     * @param size          the size of the archive
+     * @param lastModified  the last modified time of the archive
+     *
+     * @return the {@link Archive} (which may be unsupported)
+     *
+     * @throws IOException  when the archive can't be read
+     */
+    private Archive map(String path,
+                        long   size,
+                        long   lastModified) throws IOException
+    {
+        Archive unsupported = new Archive(path, size, lastModified, null, null, null);
+
+        if (size < END_SIZE || size > Integer.MAX_VALUE)
+        {
+            return unsupported;
+        }
+
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ))
+        {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        // locate the end of central directory record (which may be followed by a comment)
+        int end = -1;
+
+        for (int i = (int) size - END_SIZE; i >= Math.max(0, (int) size - END_SIZE - 0xFFFF); i--)
+        {
+            if (buffer.getInt(i) == END_HEADER)
+            {
+                end = i;
+                break;
+            }
+        }
+
+        if (end < 0)
+        {
+            return unsupported;
+        }
+
+        int  count  = Short.toUnsignedInt(buffer.getShort(end + 10));
+        long offset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+
+        // ZIP64 archives record their directory elsewhere
+        if (count == 0xFFFF || offset == 0xFFFFFFFFL || offset >= size)
+        {
+            return unsupported;
+        }
+
+        HashMap<String, Entry> entries  = new HashMap<>(count * 2);
+        int                    position = (int) offset;
+
+        for (int i = 0; i < count; i++)
+        {
+            if (buffer.getInt(position) != CENTRAL_HEADER)
+            {
+                return unsupported;
+            }
+
+            int  flags          = Short.toUnsignedInt(buffer.getShort(position + 8));
+            int  method         = Short.toUnsignedInt(buffer.getShort(position + 10));
+            long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+            long entrySize      = Integer.toUnsignedLong(buffer.getInt(position + 24));
+            int  nameLength     = Short.toUnsignedInt(buffer.getShort(position + 28));
+            int  extraLength    = Short.toUnsignedInt(buffer.getShort(position + 30));
+            int  commentLength  = Short.toUnsignedInt(buffer.getShort(position + 32));
+            long localOffset    = Integer.toUnsignedLong(buffer.getInt(position + 42));
+
+            byte[] nameBytes = new byte[nameLength];
+
+            buffer.duplicate().position(position + 46).get(nameBytes);
+
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+            // encrypted, ZIP64 and signed archives are left to the usual class loading mechanisms
+            if ((flags & 1) != 0 || compressedSize == 0xFFFFFFFFL || entrySize == 0xFFFFFFFFL
+                || localOffset == 0xFFFFFFFFL || isSignature(name))
+            {
+                return unsupported;
+            }
+
+            if (!name.endsWith("/"))
+            {
+                entries.put(name, new Entry(method, (int) compressedSize, (int) entrySize, (int) localOffset));
+            }
+
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+
+        Archive  archive  = new Archive(path, size, lastModified, buffer, entries, null);
+        Manifest manifest = archive.getManifest();
+
+        if (manifest == null)
+        {
+            return archive;
+        }
+
+        Attributes attributes = manifest.getMainAttributes();
+
+        // the class path of the archive is left to the usual class loading mechanisms
+        if (attributes.getValue(Attributes.Name.CLASS_PATH) != null)
+        {
+            return unsupported;
+        }
+
+        if (!"true".equalsIgnoreCase(attributes.getValue("Multi-Release")))
+        {
+            return archive;
+        }
+
+        // determine the versions of a multi-release archive applicable to this platform, newest first
+        TreeSet<Integer> versions = new TreeSet<>(Comparator.reverseOrder());
+        int              current  = Runtime.version().feature();
+
+        for (String name : entries.keySet())
+        {
+            int slash = name.indexOf('/', VERSIONS.length());
+
+            if (name.startsWith(VERSIONS) && slash > 0)
+            {
+                try
+                {
+                    int version = Integer.parseInt(name.substring(VERSIONS.length(), slash));
+
+                    if (version >= 9 && version <= current)
+                    {
+                        versions.add(version);
+                    }
+                }
+                catch (NumberFormatException e)
+                {
+                    // not a versioned entry
+                }
+            }
+        }
+
+        int[] releases = versions.stream().mapToInt(Integer::intValue).toArray();
+
+        return new Archive(path, size, lastModified, buffer, entries, releases);
+    }
+
+
+    /**
+     * Determines if an archive entry is part of a signature.
+     *
+     * @param name  the entry name
+     *
+     * @return <code>true</code> if the entry is a signature file
+     */
+    private static boolean isSignature(String name)
+    {
+        if (!name.startsWith("META-INF/") || name.indexOf('/', 9) >= 0)
+        {
+            return false;
+        }
+
+        String upper = name.toUpperCase();
+
+        return upper.endsWith(".SF") || upper.endsWith(".RSA") || upper.endsWith(".DSA") || upper.endsWith(".EC");
+    }
+
+
+    /**
+     * A memory-mapped archive.
+     */
+    class Archive
+    {
+        /**
+         * The canonical path of the archive.
+         */
+        private final String path;
+
+        /**
+         * The size of the archive when it was mapped.
+         */
+        private final long size;
+
+        /**
+         * The last modified time of the archive when it was mapped.
+         */
+        private final long lastModified;
+
+        /**
+         * The mapped archive (<code>null</code> when unsupported or closed).
+         */
+        private volatile ByteBuffer buffer;
+
+        /**
+         * The {@link Entry}s by name (<code>null</code> when unsupported).
+         */
+        private final Map<String, Entry> entries;
+
+        /**
+         * The versions of a multi-release archive applicable to the platform, newest first
+         * (<code>null</code> when not a multi-release archive).
+         */
+        private final int[] versions;
+
+        /**
+         * The number of references to the archive (guarded by the {@link SharedArchiveCache}).
+         */
+        private int references;
+
+        /**
+         * The softly retained bytes of entries that have been read, by name.
+         */
+        private final ConcurrentHashMap<String, SoftReference<byte[]>> contents;
+
+        /**
+         * The {@link Manifest} of the archive (<code>null</code> until read).
+         */
+        private volatile Manifest manifest;
+
+        /**
+         * Has the {@link Manifest} been read?
+         */
+        private volatile boolean manifestRead;
+
+
+        /**
+         * Constructs an {@link Archive}.
+         *
+         * @param path          the canonical path of the archive
+         * @param size          the size of the archive
+         * @param lastModified  the last modified time of the archive
+         * @param buffer        the mapped archive (<code>null</code> when unsupported)
+         * @param entries       the entries by name (<code>null</code> when unsupported)
+         * @param versions      the applicable versions, newest first (<code>null</code> when not multi-release)
+         */
+        private Archive(String             path,
+                        long               size,
+                        long               lastModified,
+                        ByteBuffer         buffer,
+                        Map<String, Entry> entries,
+                        int[]              versions)
+        {
+            this.path         = path;
+            this.size         = size;
+            this.lastModified = lastModified;
+            this.buffer       = buffer;
+            this.entries      = entries;
+            this.versions     = versions;
+            this.contents     = new ConcurrentHashMap<>();
+            this.manifestRead = false;
+            this.references   = 0;
+        }
+
+
+        /**
+         * Determines if the archive is supported.
+         *
+         * @return <code>true</code> if the archive was mapped and indexed
+         */
+        boolean isSupported()
+        {
+            return entries != null;
+        }
+
+
+        /**
+         * Determines if the archive contains the named entry.
+         *
+         * @param name  the name of the entry
+         *
+         * @return <code>true</code> if the entry exists
+         */
+        boolean contains(String name)
+        {
+            return entries.containsKey(name);
+        }
+
+
+        /**
+         * Obtains the bytes of the named entry, being the newest applicable versioned entry of
+         * a multi-release archive.  The returned array is shared and must not be modified.
+         *
+         * @param name  the name of the entry
+         *
+         * @return the bytes or <code>null</code> if the entry doesn't exist
+         *
+         * @throws IOException  when the entry can't be read
+         */
+        byte[] getBytes(String name) throws IOException
+        {
+            Entry entry = null;
+
+            if (versions != null && !name.startsWith("META-INF/"))
+            {
+                for (int i = 0; i < versions.length && entry == null; i++)
+                {
+                    entry = entries.get(VERSIONS + versions[i] + "/" + name);
+                }
+            }
+
+            if (entry == null)
+            {
+                entry = entries.get(name);
+            }
+
+            if (entry == null)
+            {
+                return null;
+            }
+
+            SoftReference<byte[]> reference = contents.get(name);
+            byte[]                bytes     = reference == null ? null : reference.get();
+
+            if (bytes == null)
+            {
+                bytes = read(name, entry);
+
+                contents.put(name, new SoftReference<>(bytes));
+            }
+
+            return bytes;
+        }
+
+
+        /**
+         * Obtains the {@link Manifest} of the archive.
+         *
+         * @return the {@link Manifest} or <code>null</code> if the archive doesn't have one
+         *
+         * @throws IOException  when the {@link Manifest} can't be read
+         */
+        Manifest getManifest() throws IOException
+        {
+            if (!manifestRead)
+            {
+                byte[] bytes = getBytes(MANIFEST);
+
+                if (bytes != null)
+                {
+                    try (InputStream stream = new ByteArrayInputStream(bytes))
+                    {
+                        manifest = new Manifest(stream);
+                    }
+                }
+
+                manifestRead = true;
+            }
+
+            return manifest;
+        }
+
+
+        /**
+         * Closes the archive, dropping its mapping and contents so that they may be reclaimed.
+         * Entries can't be read once the archive is closed.
+         */
+        private void close()
+        {
+            buffer = null;
+
+            contents.clear();
+        }
+
+
+        /**
+         * Reads (and when necessary, inflates) the bytes of an entry from the mapped archive.
+         *
+         * @param name   the name of the entry
+         * @param entry  the {@link Entry}
+         *
+         * @return the bytes of the entry
+         *
+         * @throws IOException  when the entry can't be read
+         */
+        private byte[] read(String name,
+                            Entry  entry) throws IOException
+        {
+            ByteBuffer buffer = this.buffer;
+
+            if (buffer == null)
+            {
+                throw new IOException("Archive [" + path + "] is closed");
+            }
+
+            reads.incrementAndGet();
+
+            if (buffer.getInt(entry.localOffset) != LOCAL_HEADER)
+            {
+                throw new IOException("Invalid local header for [" + name + "]");
+            }
+
+            int        nameLength  = Short.toUnsignedInt(buffer.getShort(entry.localOffset + 26));
+            int        extraLength = Short.toUnsignedInt(buffer.getShort(entry.localOffset + 28));
+            int        start       = entry.localOffset + 30 + nameLength + extraLength;
+
+            ByteBuffer data        = buffer.duplicate();
+
+            data.position(start).limit(start + entry.compressedSize);
+
+            byte[] bytes = new byte[entry.size];
+
+            if (entry.method == STORED)
+            {
+                data.get(bytes);
+            }
+            else if (entry.method == DEFLATED)
+            {
+                Inflater inflater = new Inflater(true);
+
+                try
+                {
+                    inflater.setInput(data);
+
+                    int offset = 0;
+
+                    while (offset < bytes.length)
+                    {
+                        int inflated = inflater.inflate(bytes, offset, bytes.length - offset);
+
+                        if (inflated == 0 && (inflater.finished() || inflater.needsInput()))
+                        {
+                            throw new IOException("Truncated entry [" + name + "]");
+                        }
+
+                        offset += inflated;
+                    }
+                }
+                catch (DataFormatException e)
+                {
+                    throw new IOException("Corrupt entry [" + name + "]", e);
+                }
+                finally
+                {
+                    inflater.end();
+                }
+            }
+            else
+            {
+                throw new IOException("Unsupported compression method " + entry.method + " for [" + name + "]");
+            }
+
+            return bytes;
+        }
+    }
+
+
+    /**
+     * The location and encoding of an entry in an archive.
+     */
+    private static class Entry
+    {
+        /**
+         * The compression method.
+         */
+        private final int method;
+
+        /**
+         * The compressed size.
+         */
+        private final int compressedSize;
+
+        /**
+         * The uncompressed size.
+         */
+        private final int size;
+
+        /**
+         * The offset of the local file header.
+         */
+        private final int localOffset;
+
+
+        /**
+         * Constructs an {@link Entry}.
+         *
+         * @param method          the compression method
+         * @param compressedSize  the compressed size
+         * @param size            the uncompressed size
+         * @param localOffset     the offset of the local file header
+         */
+        private Entry(int method,
+                      int compressedSize,
+                      int size,
+                      int localOffset)
+        {
+            this.method         = method;
+            this.compressedSize = compressedSize;
+            this.size           = size;
+            this.localOffset    = localOffset;
+        }
+    }
+}
@@ -25,7 +25,12 @@
 
 package com.oracle.bedrock.runtime.network;
 
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
 import com.oracle.bedrock.io.NetworkHelper;
+import com.oracle.bedrock.options.Decoration;
+import com.oracle.bedrock.runtime.Application;
+import com.oracle.bedrock.runtime.ApplicationListener;
 
 import java.io.IOException;
 import java.net.DatagramSocket;
@@ -49,6 +54,11 @@ import java.util.concurrent.ConcurrentLinkedQueue;
  * set of {@link InetAddress}es to determine what {@link ServerSocket} and {@link DatagramSocket}
  * ports are available.
  * <p>
+ * Alternatively an {@link AvailablePortIterator} created with {@link #ephemeral(int, int, Iterable)}
+ * asks the operating system for ephemeral ports in bulk, only verifying the ports it is given.
+ * Such ports are reserved with a {@link PortRegistry} so that concurrent Java Virtual Machines
+ * on the same host never return the same port, until they are {@link #release(int) released}.
+ * <p>
  * Copyright (c) 2015. All Rights Reserved. Oracle Corporation.<br>
  * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
  *
@@ -77,6 +87,12 @@ public class AvailablePortIterator implements Iterator<Integer>, Iterable<Intege
      */
     private final static int IDEAL_AVAILABLE_PORTS = 10;
 
+    /**
+     * The maximum number of ephemeral ports to examine, per port required,
+     * before giving up on acquiring ports.
+     */
+    private final static int EPHEMERAL_ATTEMPTS_PER_PORT = 8;
+
     /**
      * The {@link InetAddress}es on which the port scanning is occurring.
      */
@@ -113,6 +129,12 @@ public class AvailablePortIterator implements Iterator<Integer>, Iterable<Intege
      */
     private int lastCheckedPort;
 
+    /**
+     * The {@link PortRegistry} with which ephemeral ports are reserved
+     * (<code>null</code> when scanning for ports).
+     */
+    private final PortRegistry registry;
+
 
     /**
      * Constructs an {@link AvailablePortIterator}.
@@ -180,6 +202,25 @@ public class AvailablePortIterator implements Iterator<Integer>, Iterable<Intege
     public AvailablePortIterator(int                   portRangeStart,
                                  int                   portRangeEnd,
                                  Iterable<InetAddress> inetAddresses)
+    {
+        this(portRangeStart, portRangeEnd, inetAddresses, null);
+    }
+
+
+    /**
+     * Constructs an {@link AvailablePortIterator} for an {@link Iterable} of {@link InetAddress}es
+     * over a range of ports.
+     *
+     * @param portRangeStart  the port at which to start scanning (inclusive)
+     * @param portRangeEnd    the port at which to destroy scanning (inclusive)
+     * @param inetAddresses   the {@link InetAddress}es to protect
+     * @param registry        the {@link PortRegistry} with which to reserve ephemeral ports
+     *                        (<code>null</code> to scan the port range)
+     */
+    private AvailablePortIterator(int                   portRangeStart,
+                                  int                   portRangeEnd,
+                                  Iterable<InetAddress> inetAddresses,
+                                  PortRegistry          registry)
     {
         // copy the InetAddresses into our set (maintaining the order)
         this.inetAddresses = new LinkedHashSet<>();
@@ -197,6 +238,7 @@ public class AvailablePortIterator implements Iterator<Integer>, Iterable<Intege
         this.serverSockets   = new ConcurrentLinkedQueue<>();
         this.datagramSockets = new ConcurrentLinkedQueue<>();
         this.lastCheckedPort = portRangeStart - 1;
+        this.registry        = registry;
 
         acquireAvailablePorts(LOW_PORT_THRESHOLD, IDEAL_AVAILABLE_PORTS);
     }
@@ -219,6 +261,51 @@ public class AvailablePortIterator implements Iterator<Integer>, Iterable<Intege
     }
 
 
+    /**
+     * Creates an {@link AvailablePortIterator} for an {@link Iterable} of {@link InetAddress}es
+     * that acquires ephemeral ports from the operating system, within a range of ports, reserving
+     * them with the {@link PortRegistry#system() system} {@link PortRegistry}.
+     *
+     * @param portRangeStart  the lowest acceptable port (inclusive)
+     * @param portRangeEnd    the highest acceptable port (inclusive)
+     * @param inetAddresses   the {@link InetAddress}es to protect
+     *
+     * @return a new {@link AvailablePortIterator}
+     */
+    public static AvailablePortIterator ephemeral(int                   portRangeStart,
+                                                  int                   portRangeEnd,
+                                                  Iterable<InetAddress> inetAddresses)
+    {
+        return ephemeral(PortRegistry.system(), portRangeStart, portRangeEnd, inetAddresses);
+    }
+
+
+    /**
+     * Creates an {@link AvailablePortIterator} for an {@link Iterable} of {@link InetAddress}es
+     * that acquires ephemeral ports from the operating system, within a range of ports, reserving
+     * them with the specified {@link PortRegistry}.
+     *
+     * @param registry        the {@link PortRegistry} with which to reserve ports
+     * @param portRangeStart  the lowest acceptable port (inclusive)
+     * @param portRangeEnd    the highest acceptable port (inclusive)
+     * @param inetAddresses   the {@link InetAddress}es to protect
+     *
+     * @return a new {@link AvailablePortIterator}
+     */
+    public static AvailablePortIterator ephemeral(PortRegistry          registry,
+                                                  int                   portRangeStart,
+                                                  int                   portRangeEnd,
+                                                  Iterable<InetAddress> inetAddresses)
+    {
+        if (registry == null)
+        {
+            throw new NullPointerException("The PortRegistry must not be null");
+        }
+
+        return new AvailablePortIterator(portRangeStart, portRangeEnd, inetAddresses, registry);
+    }
+
+
     /**
      * Attempts to determine if a {@link ServerSocket} and {@link DatagramSocket} port is
      * available for each of the {@link InetAddress}es protected by the {@link AvailablePortIterator}.
@@ -348,6 +435,148 @@ public class AvailablePortIterator implements Iterator<Integer>, Iterable<Intege
     }
 
 
+    /**
+     * Attempts to acquire ephemeral ports from the operating system, by binding a number of
+     * {@link ServerSocket}s to port 0 at the same time, and then reserving and verifying the ports
+     * allocated to them.
+     *
+     * @param count  the number of ports required in the queue
+     */
+    private void acquireEphemeralPorts(int count)
+    {
+        InetAddress probeAddress = inetAddresses.isEmpty()
+                                   ? NetworkHelper.getWildcardAddress() : inetAddresses.iterator().next();
+
+        int         attempts     = 0;
+        int         limit        = count * EPHEMERAL_ATTEMPTS_PER_PORT;
+
+        while (serverSockets.size() < count && attempts < limit)
+        {
+            ArrayList<ServerSocket> probes = new ArrayList<>();
+            ArrayList<Integer>      ports  = new ArrayList<>();
+
+            try
+            {
+                // ask for all of the ports at once so the operating system allocates distinct ports
+                for (int i = serverSockets.size(); i < count; i++)
+                {
+                    ServerSocket probe = new ServerSocket();
+
+                    probes.add(probe);
+                    probe.bind(new InetSocketAddress(probeAddress, 0));
+                    ports.add(probe.getLocalPort());
+                }
+            }
+            catch (IOException e)
+            {
+                // deliberately empty as we'll use the ports we've been allocated (if any)
+            }
+            finally
+            {
+                for (ServerSocket probe : probes)
+                {
+                    try
+                    {
+                        probe.close();
+                    }
+                    catch (IOException e)
+                    {
+                        // deliberately empty as failing here will have no effect on acquiring ports
+                    }
+                }
+            }
+
+            if (ports.isEmpty())
+            {
+                break;
+            }
+
+            for (int port : ports)
+            {
+                attempts++;
+
+                if (port >= portRangeStart && port <= portRangeEnd && registry.reserve(port))
+                {
+                    // the port is ours (on this host) once it's available on all of the InetAddresses
+                    if (!isPortAvailable(port))
+                    {
+                        registry.release(port);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Determines if the {@link AvailablePortIterator} acquires ephemeral ports from the
+     * operating system, as opposed to scanning the port range.
+     *
+     * @return <code>true</code> when ephemeral ports are acquired
+     */
+    public boolean isEphemeral()
+    {
+        return registry != null;
+    }
+
+
+    /**
+     * Releases a port previously returned by {@link #next()}, allowing it to be returned again
+     * by this or any other ephemeral {@link AvailablePortIterator} on the host.
+     * <p>
+     * Ports returned by an {@link AvailablePortIterator} scanning the port range are never
+     * returned again by the same iterator, in which case releasing a port has no effect.
+     *
+     * @param port  the port to release
+     *
+     * @return <code>true</code> if the port was reserved and is now released
+     */
+    public boolean release(int port)
+    {
+        return registry != null && registry.release(port);
+    }
+
+
+    /**
+     * Obtains an {@link Option} that, when provided to an {@link Application} at launch,
+     * {@link #release(int) releases} the specified ports once the {@link Application} is closed.
+     *
+     * @param ports  the ports to release
+     *
+     * @return an {@link Option}
+     */
+    public Option releaseOnClose(int... ports)
+    {
+        int[] released = ports.clone();
+
+        return Decoration.of(new ApplicationListener<Application>()
+                             {
+                                 @Override
+                                 public void onClosing(Application   application,
+                                                       OptionsByType optionsByType)
+                                 {
+                                     // nothing to do until the application has closed
+                                 }
+
+                                 @Override
+                                 public void onClosed(Application   application,
+                                                      OptionsByType optionsByType)
+                                 {
+                                     for (int port : released)
+                                     {
+                                         release(port);
+                                     }
+                                 }
+
+                                 @Override
+                                 public void onLaunched(Application application)
+                                 {
+                                     // nothing to do when the application has launched
+                                 }
+                             });
+    }
+
+
     /**
      * Obtains the {@link InetAddress}es over which the {@link AvailablePortIterator} is reserving ports.
      *
@@ -377,9 +606,16 @@ public class AvailablePortIterator implements Iterator<Integer>, Iterable<Intege
         int count = serverSockets.size() < minimumThreshold
                     ? serverSockets.size() + idealQueueSize : serverSockets.size();
 
-        while (serverSockets.size() < count && lastCheckedPort < portRangeEnd)
+        if (registry == null)
+        {
+            while (serverSockets.size() < count && lastCheckedPort < portRangeEnd)
+            {
+                isPortAvailable(++lastCheckedPort);
+            }
+        }
+        else if (serverSockets.size() < count)
         {
-            isPortAvailable(++lastCheckedPort);
+            acquireEphemeralPorts(count);
         }
 
         return serverSockets.size();
@@ -0,0 +1,304 @@
+/*
+ * File: PortRegistry.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.network;
+
+import com.oracle.bedrock.runtime.Settings;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A host-wide registry of reserved ports, shared by all Java Virtual Machines on the
+ * same host through a registry file.
+ * <p>
+ * Each port is reserved by taking an exclusive lock on the single byte at the offset
+ * of the port in the registry file.  As the operating system releases such locks when
+ * a process terminates, reservations can't outlive the process that made them, even
+ * when it crashes.  Within a Java Virtual Machine, reservations are tracked by the
+ * one {@link PortRegistry} instance created for each registry file.
+ * <p>
+ * When the registry file can't be opened, ports are only reserved within the current
+ * Java Virtual Machine.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class PortRegistry
+{
+    /**
+     * The {@link Logger} for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(PortRegistry.class.getName());
+
+    /**
+     * The name of the default registry file, created in the temporary directory.
+     */
+    public static final String DEFAULT_REGISTRY_FILE = "bedrock-ports.registry";
+
+    /**
+     * The {@link PortRegistry}s by registry file.
+     * <p>
+     * Locks held by a process on a file are released when any channel to that file is closed by
+     * the process, so there must only ever be one {@link PortRegistry} (and channel) per file.
+     */
+    private static final ConcurrentHashMap<Path, PortRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * The path of the registry file.
+     */
+    private final Path path;
+
+    /**
+     * The {@link FileChannel} to the registry file (<code>null</code> until opened or
+     * when the file couldn't be opened).
+     */
+    private FileChannel channel;
+
+    /**
+     * Has an attempt been made to open the registry file?
+     */
+    private boolean opened;
+
+    /**
+     * The {@link FileLock}s for the reserved ports (<code>null</code> values when the
+     * registry file couldn't be opened).
+     */
+    private final Map<Integer, FileLock> reservations;
+
+
+    /**
+     * Constructs a {@link PortRegistry}.
+     *
+     * @param path  the path of the registry file
+     */
+    private PortRegistry(Path path)
+    {
+        this.path         = path;
+        this.channel      = null;
+        this.opened       = false;
+        this.reservations = new HashMap<>();
+    }
+
+
+    /**
+     * Obtains the {@link PortRegistry} for the host, using the file specified by the
+     * {@link Settings#PORT_REGISTRY} system property, or otherwise the
+     * {@link #DEFAULT_REGISTRY_FILE} in the temporary directory.
+     *
+     * @return the {@link PortRegistry}
+     */
+    public static PortRegistry system()
+    {
+        String file = System.getProperty(Settings.PORT_REGISTRY);
+
+        return at(file == null
+                  ? Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_REGISTRY_FILE) : Paths.get(file));
+    }
+
+
+    /**
+     * Obtains the {@link PortRegistry} using the specified registry file.
+     *
+     * @param path  the path of the registry file
+     *
+     * @return the {@link PortRegistry}
+     */
+    public static PortRegistry at(Path path)
+    {
+        return REGISTRIES.computeIfAbsent(path.toAbsolutePath().normalize(), PortRegistry::new);
+    }
+
+
+    /**
+     * Obtains the path of the registry file.
+     *
+     * @return the path of the registry file
+     */
+    public Path getPath()
+    {
+        return path;
+    }
+
+
+    /**
+     * Attempts to reserve the specified port.
+     *
+     * @param port  the port to reserve
+     *
+     * @return <code>true</code> if the port was reserved, <code>false</code> if it is
+     *         already reserved by this or another process
+     */
+    public synchronized boolean reserve(int port)
+    {
+        if (port < 1 || port > AvailablePortIterator.MAXIMUM_PORT)
+        {
+            throw new IllegalArgumentException("Invalid port [" + port + "]");
+        }
+
+        if (reservations.containsKey(port))
+        {
+            return false;
+        }
+
+        FileChannel channel = open();
+        FileLock    lock    = null;
+
+        if (channel != null)
+        {
+            try
+            {
+                lock = channel.tryLock(port, 1, false);
+
+                if (lock == null)
+                {
+                    // another process holds the reservation
+                    return false;
+                }
+            }
+            catch (OverlappingFileLockException e)
+            {
+                // another channel in this process holds the reservation
+                return false;
+            }
+            catch (IOException e)
+            {
+                LOGGER.log(Level.WARNING, "Failed to reserve port " + port + " in " + path, e);
+
+                return false;
+            }
+        }
+
+        reservations.put(port, lock);
+
+        return true;
+    }
+
+
+    /**
+     * Releases a port previously reserved with {@link #reserve(int)}.
+     *
+     * @param port  the port to release
+     *
+     * @return <code>true</code> if the port was reserved and is now released
+     */
+    public synchronized boolean release(int port)
+    {
+        if (!reservations.containsKey(port))
+        {
+            return false;
+        }
+
+        FileLock lock = reservations.remove(port);
+
+        if (lock != null)
+        {
+            try
+            {
+                lock.release();
+            }
+            catch (IOException e)
+            {
+                // deliberately empty as the lock is released when the process terminates
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Determines if the specified port is reserved by this process.
+     *
+     * @param port  the port
+     *
+     * @return <code>true</code> if the port is reserved by this process
+     */
+    public synchronized boolean isReserved(int port)
+    {
+        return reservations.containsKey(port);
+    }
+
+
+    /**
+     * Obtains the ports reserved by this process, in ascending order.
+     *
+     * @return the reserved ports
+     */
+    public synchronized Set<Integer> getReservedPorts()
+    {
+        return Collections.unmodifiableSet(new TreeSet<>(reservations.keySet()));
+    }
+
+
+    /**
+     * Opens the registry file, when not already open.
+     *
+     * @return the {@link FileChannel} or <code>null</code> if the registry file can't be opened
+     */
+    private FileChannel open()
+    {
+        if (!opened)
+        {
+            opened = true;
+
+            try
+            {
+                channel = FileChannel.open(path,
+                                           StandardOpenOption.CREATE,
+                                           StandardOpenOption.READ,
+                                           StandardOpenOption.WRITE);
+            }
+            catch (IOException | UnsupportedOperationException e)
+            {
+                LOGGER.log(Level.WARNING,
+                           "Failed to open port registry " + path + ", ports will only be reserved by this process",
+                           e);
+            }
+        }
+
+        return channel;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "PortRegistry{" + path + ": " + getReservedPorts() + "}";
+    }
+}
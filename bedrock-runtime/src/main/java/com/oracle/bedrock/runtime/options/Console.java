@@ -28,6 +28,7 @@ package com.oracle.bedrock.runtime.options;
 import com.oracle.bedrock.Option;
 import com.oracle.bedrock.runtime.ApplicationConsole;
 import com.oracle.bedrock.runtime.ApplicationConsoleBuilder;
+import com.oracle.bedrock.runtime.console.AsyncFileApplicationConsole;
 import com.oracle.bedrock.runtime.console.FileWriterApplicationConsole;
 import com.oracle.bedrock.runtime.console.NullApplicationConsole;
 import com.oracle.bedrock.runtime.console.SystemApplicationConsole;
@@ -109,6 +110,21 @@ public class Console implements ApplicationConsoleBuilder
     }
 
 
+    /**
+     * Constructs an {@link ApplicationConsoleBuilder} for the {@link AsyncFileApplicationConsole}.
+     *
+     * @param directory  the directory in which to write the files
+     * @param prefix     the file-name prefix
+     *
+     * @return an {@link ApplicationConsoleBuilder}
+     */
+    public static ApplicationConsoleBuilder asyncFile(String directory,
+                                                      String prefix)
+    {
+        return AsyncFileApplicationConsole.builder(directory, prefix, null);
+    }
+
+
     @Override
     public ApplicationConsole build(String applicationName)
     {
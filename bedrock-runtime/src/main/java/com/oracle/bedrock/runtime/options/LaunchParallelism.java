@@ -0,0 +1,160 @@
+/*
+ * File: LaunchParallelism.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.Application;
+import com.oracle.bedrock.runtime.Assembly;
+
+/**
+ * An {@link Option} to define the maximum number of {@link Application}s an {@link Assembly}
+ * launches concurrently when it is expanded.
+ * <p>
+ * {@link Discriminator}s are assigned to the {@link Application}s before any are launched, so they
+ * are the same regardless of the order in which the {@link Application}s finish launching.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class LaunchParallelism implements Option
+{
+    /**
+     * The maximum number of {@link Application}s to launch concurrently.
+     */
+    private int parallelism;
+
+
+    /**
+     * Privately construct a {@link LaunchParallelism}.
+     *
+     * @param parallelism  the maximum number of {@link Application}s to launch concurrently
+     */
+    private LaunchParallelism(int parallelism)
+    {
+        this.parallelism = parallelism;
+    }
+
+
+    /**
+     * Obtains the maximum number of {@link Application}s to launch concurrently.
+     *
+     * @return  the maximum number of {@link Application}s to launch concurrently
+     */
+    public int get()
+    {
+        return parallelism;
+    }
+
+
+    /**
+     * Determines if {@link Application}s are launched one after another.
+     *
+     * @return  <code>true</code> if {@link Application}s are launched sequentially
+     */
+    public boolean isSequential()
+    {
+        return parallelism == 1;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "LaunchParallelism{" + parallelism + "}";
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof LaunchParallelism))
+        {
+            return false;
+        }
+
+        LaunchParallelism that = (LaunchParallelism) other;
+
+        return parallelism == that.parallelism;
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        return parallelism;
+    }
+
+
+    /**
+     * Constructs a {@link LaunchParallelism} that launches {@link Application}s one after
+     * another, the default.
+     *
+     * @return  a sequential {@link LaunchParallelism}
+     */
+    @OptionsByType.Default
+    public static LaunchParallelism sequential()
+    {
+        return new LaunchParallelism(1);
+    }
+
+
+    /**
+     * Constructs a {@link LaunchParallelism} that launches up to the number of available
+     * processors {@link Application}s concurrently.
+     *
+     * @return  a {@link LaunchParallelism}
+     */
+    public static LaunchParallelism availableProcessors()
+    {
+        return new LaunchParallelism(Math.max(1, Runtime.getRuntime().availableProcessors()));
+    }
+
+
+    /**
+     * Constructs a {@link LaunchParallelism}.
+     *
+     * @param parallelism  the maximum number of {@link Application}s to launch concurrently
+     *
+     * @return  a {@link LaunchParallelism}
+     *
+     * @throws IllegalArgumentException  when the parallelism is less than one
+     */
+    public static LaunchParallelism of(int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("The LaunchParallelism must be at least 1");
+        }
+
+        return new LaunchParallelism(parallelism);
+    }
+}
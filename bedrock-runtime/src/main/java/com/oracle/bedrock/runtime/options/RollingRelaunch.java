@@ -0,0 +1,137 @@
+/*
+ * File: RollingRelaunch.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.Application;
+import com.oracle.bedrock.runtime.Assembly;
+
+/**
+ * An {@link Option} to define the number of {@link Application}s an {@link Assembly} closes
+ * and relaunches at a time when they are relaunched.
+ * <p>
+ * The {@link Application}s in each batch are closed together and then relaunched together,
+ * with any {@link StabilityPredicate} being satisfied before the next batch is relaunched.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RollingRelaunch implements Option
+{
+    /**
+     * The number of {@link Application}s to relaunch at a time.
+     */
+    private final int batchSize;
+
+
+    /**
+     * Privately construct a {@link RollingRelaunch}.
+     *
+     * @param batchSize  the number of {@link Application}s to relaunch at a time
+     */
+    private RollingRelaunch(int batchSize)
+    {
+        this.batchSize = batchSize;
+    }
+
+
+    /**
+     * Obtains the number of {@link Application}s to relaunch at a time.
+     *
+     * @return  the number of {@link Application}s to relaunch at a time
+     */
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "RollingRelaunch{" + batchSize + "}";
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof RollingRelaunch))
+        {
+            return false;
+        }
+
+        RollingRelaunch that = (RollingRelaunch) other;
+
+        return batchSize == that.batchSize;
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        return batchSize;
+    }
+
+
+    /**
+     * Constructs a {@link RollingRelaunch} that relaunches one {@link Application} at a time,
+     * the default.
+     *
+     * @return  a {@link RollingRelaunch}
+     */
+    @OptionsByType.Default
+    public static RollingRelaunch oneAtATime()
+    {
+        return new RollingRelaunch(1);
+    }
+
+
+    /**
+     * Constructs a {@link RollingRelaunch}.
+     *
+     * @param batchSize  the number of {@link Application}s to relaunch at a time
+     *
+     * @return  a {@link RollingRelaunch}
+     *
+     * @throws IllegalArgumentException  when the batch size is less than one
+     */
+    public static RollingRelaunch of(int batchSize)
+    {
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException("The RollingRelaunch batch size must be at least 1");
+        }
+
+        return new RollingRelaunch(batchSize);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * File: VirtualThreads.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.options;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.lang.ThreadFactories;
+import com.oracle.bedrock.runtime.Application;
+import com.oracle.bedrock.runtime.Settings;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An {@link Option} to define if the threads that Bedrock dedicates to an {@link Application},
+ * for redirecting and capturing console output and for reading from and executing operations on
+ * {@link com.oracle.bedrock.runtime.concurrent.RemoteChannel}s, should be virtual threads.
+ * <p>
+ * Virtual threads are only used when supported by the Java runtime, otherwise platform
+ * threads are used, as they are when {@link VirtualThreads} are disabled (the default).
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class VirtualThreads implements Option
+{
+    /**
+     * Are virtual threads enabled?
+     */
+    private final boolean enabled;
+
+
+    /**
+     * Privately construct a {@link VirtualThreads}.
+     *
+     * @param enabled  are virtual threads enabled?
+     */
+    private VirtualThreads(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+
+    /**
+     * Determines if virtual threads are enabled.  Virtual threads will only be used
+     * when they are also {@link #isSupported() supported}.
+     *
+     * @return <code>true</code> if virtual threads are enabled
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+
+    /**
+     * Determines if virtual threads are supported by the Java runtime.
+     *
+     * @return <code>true</code> if virtual threads are supported
+     */
+    public static boolean isSupported()
+    {
+        return ThreadFactories.isVirtualThreadSupported();
+    }
+
+
+    /**
+     * Obtains a {@link ThreadFactory} producing virtual threads when they are enabled and
+     * supported, otherwise producing daemon platform threads.
+     *
+     * @return a {@link ThreadFactory}
+     */
+    public ThreadFactory getThreadFactory()
+    {
+        return enabled ? ThreadFactories.usingVirtualThreads() : ThreadFactories.usingDaemonThreads(true);
+    }
+
+
+    /**
+     * Creates a new unstarted {@link Thread} with the specified name, being a virtual thread
+     * when they are enabled and supported, otherwise a platform thread created as it would be
+     * with {@link Thread#Thread(Runnable, String)} (so it's not necessarily a daemon thread).
+     *
+     * @param runnable  the {@link Runnable} the {@link Thread} will execute
+     * @param name      the name of the {@link Thread}
+     *
+     * @return a new {@link Thread}
+     */
+    public Thread newThread(Runnable runnable,
+                            String   name)
+    {
+        if (enabled && isSupported())
+        {
+            Thread thread = ThreadFactories.usingVirtualThreads().newThread(runnable);
+
+            thread.setName(name);
+
+            return thread;
+        }
+        else
+        {
+            return new Thread(runnable, name);
+        }
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "VirtualThreads{" + enabled + "}";
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+
+        if (!(other instanceof VirtualThreads))
+        {
+            return false;
+        }
+
+        VirtualThreads that = (VirtualThreads) other;
+
+        return enabled == that.enabled;
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        return (enabled ? 1 : 0);
+    }
+
+
+    /**
+     * Constructs a {@link VirtualThreads} being enabled.
+     *
+     * @return an enabled {@link VirtualThreads}
+     */
+    public static VirtualThreads enabled()
+    {
+        return new VirtualThreads(true);
+    }
+
+
+    /**
+     * Constructs a {@link VirtualThreads} being disabled.
+     *
+     * @return a disabled {@link VirtualThreads}
+     */
+    public static VirtualThreads disabled()
+    {
+        return new VirtualThreads(false);
+    }
+
+
+    /**
+     * Constructs a {@link VirtualThreads}.
+     *
+     * @param enabled  are virtual threads enabled?
+     *
+     * @return a {@link VirtualThreads}
+     */
+    public static VirtualThreads enabled(boolean enabled)
+    {
+        return new VirtualThreads(enabled);
+    }
+
+
+    /**
+     * Obtains the {@link VirtualThreads} defined by the {@link Settings#VIRTUAL_THREADS}
+     * system property, defaulting to being disabled when the property isn't defined.
+     *
+     * @return the {@link VirtualThreads}
+     */
+    @OptionsByType.Default
+    public static VirtualThreads autoDetect()
+    {
+        String value = System.getProperty(Settings.VIRTUAL_THREADS);
+
+        if (value == null)
+        {
+            return disabled();
+        }
+        else
+        {
+            value = value.trim().toLowerCase();
+
+            return enabled(value.equals("true") || value.equals("on"));
+        }
+    }
+}
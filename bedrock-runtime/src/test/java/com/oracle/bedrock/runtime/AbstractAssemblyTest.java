@@ -0,0 +1,278 @@
+/*
+ * File: AbstractAssemblyTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime;
+
+import com.oracle.bedrock.Option;
+import com.oracle.bedrock.OptionsByType;
+import com.oracle.bedrock.runtime.options.Discriminator;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import com.oracle.bedrock.runtime.options.LaunchParallelism;
+import com.oracle.bedrock.runtime.options.RollingRelaunch;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link AbstractAssembly} class.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class AbstractAssemblyTest
+{
+    /**
+     * Ensure that an {@link Assembly} launches applications concurrently, assigning
+     * {@link Discriminator}s in order.
+     */
+    @Test
+    public void shouldExpandInParallel()
+    {
+        // each launch waits for all of the launches to have started
+        CountDownLatch           started  = new CountDownLatch(4);
+        List<String>             events   = Collections.synchronizedList(new ArrayList<>());
+        Platform                 platform = mockPlatform(events, options -> {
+                                                             started.countDown();
+
+                                                             if (!started.await(10, TimeUnit.SECONDS))
+                                                             {
+                                                                 throw new IllegalStateException("Not launched concurrently");
+                                                             }
+                                                         });
+
+        SimpleAssembly<Application> assembly = new SimpleAssembly<>(OptionsByType.empty());
+
+        assembly.expand(4, platform, Application.class, DisplayName.of("app"), LaunchParallelism.of(4));
+
+        List<String> names = new ArrayList<>();
+
+        assembly.forEach(application -> names.add(application.getName().split("#")[0]));
+
+        assertThat(names, contains("app-1", "app-2", "app-3", "app-4"));
+    }
+
+
+    /**
+     * Ensure that an {@link Assembly} closes the launched applications when launching
+     * applications concurrently fails.
+     */
+    @Test
+    public void shouldCloseLaunchedApplicationsWhenParallelExpansionFails()
+    {
+        List<String> events   = Collections.synchronizedList(new ArrayList<>());
+        Platform     platform = mockPlatform(events, options -> {
+                                                 if (options.get(Discriminator.class).getValue().equals("3"))
+                                                 {
+                                                     throw new IllegalStateException("Failed to launch");
+                                                 }
+                                             });
+
+        SimpleAssembly<Application> assembly = new SimpleAssembly<>(OptionsByType.empty());
+
+        try
+        {
+            assembly.expand(4, platform, Application.class, DisplayName.of("app"), LaunchParallelism.of(2));
+
+            fail("Expected the expansion to fail");
+        }
+        catch (RuntimeException e)
+        {
+            assertThat(e.getCause().getMessage(), is("Failed to launch"));
+        }
+
+        assertThat(assembly.count(), is(0L));
+
+        // every application that was launched must have been closed
+        long launched = events.stream().filter(event -> event.startsWith("launch:")).count();
+        long closed   = events.stream().filter(event -> event.startsWith("close:")).count();
+
+        assertThat(closed, is(launched));
+    }
+
+
+    /**
+     * Ensure that an {@link Assembly} relaunches applications in batches when a
+     * {@link RollingRelaunch} is provided.
+     */
+    @Test
+    public void shouldRelaunchInBatches()
+    {
+        List<String>                events   = Collections.synchronizedList(new ArrayList<>());
+        Platform                    platform = mockPlatform(events, options -> {});
+        SimpleAssembly<Application> assembly = new SimpleAssembly<>(OptionsByType.empty());
+
+        assembly.expand(4, platform, Application.class, DisplayName.of("app"));
+
+        events.clear();
+
+        assembly.relaunch(RollingRelaunch.of(2));
+
+        assertThat(assembly.count(), is(4L));
+        assertThat(events.size(), is(8));
+
+        // each batch of two is closed before being relaunched
+        for (int batch = 0; batch < 2; batch++)
+        {
+            List<String> batchEvents = events.subList(batch * 4, batch * 4 + 4);
+
+            assertThat(batchEvents.get(0).startsWith("close:"), is(true));
+            assertThat(batchEvents.get(1).startsWith("close:"), is(true));
+            assertThat(batchEvents.get(2).startsWith("launch:"), is(true));
+            assertThat(batchEvents.get(3).startsWith("launch:"), is(true));
+        }
+    }
+
+
+    /**
+     * Ensure that an {@link Assembly} relaunches the applications in a batch that closed,
+     * keeping and reporting those that failed to close.
+     */
+    @Test
+    public void shouldRelaunchClosedApplicationsWhenBatchCloseFails()
+    {
+        List<String>                events   = Collections.synchronizedList(new ArrayList<>());
+        Platform                    platform = mockPlatform(events, options -> {});
+        SimpleAssembly<Application> assembly = new SimpleAssembly<>(OptionsByType.empty());
+
+        assembly.expand(4, platform, Application.class, DisplayName.of("app"));
+
+        List<Application> applications = new ArrayList<>();
+
+        assembly.forEach(applications::add);
+
+        Application failing = applications.get(1);
+
+        doThrow(new IllegalStateException("Failed to close")).when(failing).close(any());
+
+        events.clear();
+
+        try
+        {
+            assembly.relaunch(RollingRelaunch.of(2));
+
+            fail("Expected the relaunch to fail");
+        }
+        catch (RuntimeException e)
+        {
+            assertThat(e.getMessage(), is("Failed to close"));
+        }
+
+        // the application that failed to close remains, the other in its batch was relaunched
+        // (and the rolling relaunch stopped, leaving the next batch untouched)
+        List<Application> remaining = new ArrayList<>();
+
+        assembly.forEach(remaining::add);
+
+        assertThat(remaining.size(), is(4));
+        assertThat(remaining.contains(failing), is(true));
+        assertThat(remaining.contains(applications.get(0)), is(false));
+        assertThat(remaining.contains(applications.get(2)), is(true));
+        assertThat(events.stream().filter(event -> event.startsWith("launch:")).count(), is(1L));
+    }
+
+
+    /**
+     * Creates a mock {@link Platform} that launches mock {@link Application}s, recording
+     * their launching and closing.
+     *
+     * @param events    the recorded events
+     * @param launcher  called with the launch options prior to launching an {@link Application}
+     *
+     * @return a mock {@link Platform}
+     */
+    private static Platform mockPlatform(List<String> events,
+                                         Launcher     launcher)
+    {
+        Platform      platform = mock(Platform.class);
+        AtomicInteger ids      = new AtomicInteger();
+
+        doAnswer(invocation -> {
+                     Object[]      arguments = invocation.getArguments();
+                     OptionsByType options   = OptionsByType.empty();
+
+                     for (int i = 1; i < arguments.length; i++)
+                     {
+                         if (arguments[i] instanceof Option[])
+                         {
+                             options.addAll((Option[]) arguments[i]);
+                         }
+                         else
+                         {
+                             options.add((Option) arguments[i]);
+                         }
+                     }
+
+                     launcher.launch(options);
+
+                     String      name        = options.get(DisplayName.class).resolve(options) + "#"
+                                               + ids.incrementAndGet();
+                     Application application = mock(Application.class);
+
+                     when(application.getName()).thenReturn(name);
+                     when(application.getPlatform()).thenReturn(platform);
+                     when(application.getOptions()).thenReturn(options);
+                     doAnswer(closing -> events.add("close:" + name)).when(application).close();
+                     doAnswer(closing -> events.add("close:" + name)).when(application).close(any());
+
+                     events.add("launch:" + name);
+
+                     return application;
+                 }).when(platform).launch(any(Class.class), any());
+
+        return platform;
+    }
+
+
+    /**
+     * Called prior to launching an {@link Application}.
+     */
+    @FunctionalInterface
+    private interface Launcher
+    {
+        /**
+         * Prepares to launch an {@link Application}.
+         *
+         * @param options  the launch options
+         *
+         * @throws Exception  to fail the launch
+         */
+        void launch(OptionsByType options) throws Exception;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * File: BlockDataReaderTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for the {@link BlockDataReader}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class BlockDataReaderTest
+{
+    /**
+     * Writes an operation in the same manner as the serialized protocol.
+     */
+    private static void write(ObjectOutputStream stream,
+                              String             operationType,
+                              long               sequence,
+                              byte[]             bytes) throws Exception
+    {
+        stream.writeUTF(operationType);
+        stream.writeLong(sequence);
+        stream.writeInt(bytes.length);
+        stream.write(bytes, 0, bytes.length);
+        stream.flush();
+    }
+
+
+    @Test
+    public void shouldReadOperationsFromFragmentedByteBuffers() throws Exception
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectOutputStream    stream = new ObjectOutputStream(output);
+        byte[]                small  = new byte[] {1, 2, 3};
+        byte[]                large  = new byte[5000];
+
+        Arrays.fill(large, (byte) 7);
+
+        write(stream, "CALLABLE", 0, small);
+        write(stream, "RESPONSE", 1, large);
+        write(stream, "EVENT", Long.MAX_VALUE, new byte[0]);
+
+        byte[]          bytes      = output.toByteArray();
+        ByteBuffer      received   = ByteBuffer.allocate(bytes.length);
+        BlockDataReader reader     = new BlockDataReader();
+        int             operations = 0;
+
+        // provide the bytes one at a time, as the worst case of fragmentation
+        for (byte b : bytes)
+        {
+            received.put(b);
+            received.flip();
+
+            while (reader.read(received))
+            {
+                switch (operations++)
+                {
+                case 0 :
+                    assertThat(reader.getOperationType(), is("CALLABLE"));
+                    assertThat(reader.getSequence(), is(0L));
+                    assertThat(Arrays.equals(reader.getBytes(), small), is(true));
+                    break;
+
+                case 1 :
+                    assertThat(reader.getOperationType(), is("RESPONSE"));
+                    assertThat(reader.getSequence(), is(1L));
+                    assertThat(Arrays.equals(reader.getBytes(), large), is(true));
+                    break;
+
+                default :
+                    assertThat(reader.getOperationType(), is("EVENT"));
+                    assertThat(reader.getSequence(), is(Long.MAX_VALUE));
+                    assertThat(reader.getBytes().length, is(0));
+                }
+            }
+
+            received.compact();
+        }
+
+        assertThat(operations, is(3));
+    }
+
+
+    @Test
+    public void shouldNotConsumeBytesFollowingAnOperation() throws Exception
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectOutputStream    stream = new ObjectOutputStream(output);
+
+        write(stream, "PROTOCOL", 0, new byte[] {1, 1});
+
+        // bytes that follow the operation, that aren't block data
+        output.write(new byte[] {0, 42, 0});
+
+        ByteBuffer      received = ByteBuffer.wrap(output.toByteArray());
+        BlockDataReader reader   = new BlockDataReader();
+
+        assertThat(reader.read(received), is(true));
+        assertThat(reader.getOperationType(), is("PROTOCOL"));
+        assertThat(received.remaining(), is(3));
+        assertThat(received.get(), is((byte) 0));
+        assertThat(received.get(), is((byte) 42));
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * File: CompactRemoteChannelSerializerTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import org.junit.Test;
+
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link CompactRemoteChannelSerializer} class.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class CompactRemoteChannelSerializerTest
+{
+    @Test
+    public void shouldSerializePrimitivesAndStrings()
+    {
+        RemoteChannelSerializer sender   = new CompactRemoteChannelSerializer().forChannel(null);
+        RemoteChannelSerializer receiver = new CompactRemoteChannelSerializer().forChannel(null);
+
+        List<Object> values = Arrays.asList(null, true, false, (byte) -3, (short) 1234, 'x', 0, -1,
+                                            Integer.MIN_VALUE, Long.MAX_VALUE, -42L, 1.5f, Math.PI,
+                                            "", "hello", "héllo 世界");
+
+        for (Object value : values)
+        {
+            assertThat(receiver.deserialize(sender.serialize(value)), is(value));
+        }
+
+        byte[] bytes = receiver.deserialize(sender.serialize(new byte[] {1, 2, 3}));
+
+        assertThat(bytes, is(new byte[] {1, 2, 3}));
+
+        // small integers occupy a tag and a single byte
+        assertThat(sender.serialize(42).length, is(2));
+    }
+
+
+    @Test
+    public void shouldSerializeCollections()
+    {
+        RemoteChannelSerializer sender   = new CompactRemoteChannelSerializer().forChannel(null);
+        RemoteChannelSerializer receiver = new CompactRemoteChannelSerializer().forChannel(null);
+
+        ArrayList<Object>             list = new ArrayList<>(Arrays.asList(1, "two", 3L, null));
+        LinkedHashSet<String>         set  = new LinkedHashSet<>(Arrays.asList("c", "b", "a"));
+        LinkedHashMap<String, Object> map  = new LinkedHashMap<>();
+
+        map.put("list", list);
+        map.put("set", set);
+        map.put("map", new HashMap<>(Collections.singletonMap(1, 2.0)));
+
+        Object result = receiver.deserialize(sender.serialize(map));
+
+        assertThat(result, instanceOf(LinkedHashMap.class));
+        assertThat(result, is(map));
+        assertThat(new ArrayList<>(((LinkedHashMap<?, ?>) result).keySet()), is(Arrays.asList("list", "set", "map")));
+        assertThat(new ArrayList<>((LinkedHashSet<?>) ((LinkedHashMap<?, ?>) result).get("set")),
+                   is(Arrays.asList("c", "b", "a")));
+
+        // collections that can't be encoded compactly are serialized as objects
+        ArrayList<Object> mixed = new ArrayList<>(Arrays.asList("event", new Event("name", 1)));
+        TreeMap<String, Integer> sorted = new TreeMap<>(Collections.singletonMap("one", 1));
+
+        assertThat(receiver.deserialize(sender.serialize(mixed)), is(mixed));
+        assertThat(receiver.deserialize(sender.serialize(sorted)), instanceOf(TreeMap.class));
+
+        // as are self-referencing collections
+        ArrayList<Object> cyclic = new ArrayList<>();
+
+        cyclic.add(cyclic);
+
+        ArrayList<?> copy = receiver.deserialize(sender.serialize(cyclic));
+
+        assertThat(copy.get(0) == copy, is(true));
+    }
+
+
+    @Test
+    public void shouldSendClassDescriptorsOnce()
+    {
+        RemoteChannelSerializer sender   = new CompactRemoteChannelSerializer().forChannel(null);
+        RemoteChannelSerializer receiver = new CompactRemoteChannelSerializer().forChannel(null);
+
+        byte[] first  = sender.serialize(new Event("first", 1));
+        byte[] second = sender.serialize(new Event("second", 2));
+
+        assertThat(second.length, lessThan(first.length / 2));
+
+        assertThat(receiver.deserialize(first), is(new Event("first", 1)));
+        assertThat(receiver.deserialize(second), is(new Event("second", 2)));
+
+        // a receiver that hasn't seen the descriptors can't deserialize the second value
+        try
+        {
+            new CompactRemoteChannelSerializer().forChannel(null).deserialize(second);
+            fail("Expected the class descriptor to be unknown");
+        }
+        catch (UncheckedIOException e)
+        {
+            // expected
+        }
+    }
+
+
+    @Test
+    public void shouldNotRememberDescriptorsOfValuesThatFailToSerialize()
+    {
+        RemoteChannelSerializer sender   = new CompactRemoteChannelSerializer().forChannel(null);
+        RemoteChannelSerializer receiver = new CompactRemoteChannelSerializer().forChannel(null);
+
+        try
+        {
+            sender.serialize(new Event("broken", new Object()));
+            fail("Expected the value not to be serializable");
+        }
+        catch (UncheckedIOException e)
+        {
+            assertThat(e.getCause(), instanceOf(NotSerializableException.class));
+        }
+
+        // the failed value was never sent, so its descriptors must be sent again
+        assertThat(receiver.deserialize(sender.serialize(new Event("name", null))), is(new Event("name", null)));
+        assertThat(receiver.deserialize(sender.serialize(null)), is(nullValue()));
+    }
+
+
+    /**
+     * A {@link Serializable} value resembling a typical {@link RemoteEvent}.
+     */
+    public static class Event implements Serializable
+    {
+        private final String name;
+        private final Object value;
+
+
+        public Event(String name, Object value)
+        {
+            this.name  = name;
+            this.value = value;
+        }
+
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (!(other instanceof Event))
+            {
+                return false;
+            }
+
+            Event event = (Event) other;
+
+            return Objects.equals(name, event.name) && Objects.equals(value, event.value);
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(name, value);
+        }
+    }
+}
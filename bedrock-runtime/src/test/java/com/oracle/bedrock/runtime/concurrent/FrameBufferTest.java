@@ -0,0 +1,208 @@
+/*
+ * File: FrameBufferTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for the {@link FrameBuffer} and {@link FrameReader} classes.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class FrameBufferTest
+{
+    @Test
+    public void shouldWriteAndReadFrames() throws Exception
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FrameBuffer           buffer = new FrameBuffer();
+        long[]                values = new long[] {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, Long.MAX_VALUE};
+
+        for (int i = 0; i < values.length; i++)
+        {
+            ObjectOutputStream stream = buffer.begin();
+
+            stream.writeBoolean(true);
+            stream.writeObject(new ArrayList<>(Arrays.asList("frame", i)));
+            stream.writeUTF("end");
+
+            buffer.end((byte) i, values[i]);
+            buffer.writeTo(output);
+        }
+
+        FrameReader reader = new FrameReader(new ByteArrayInputStream(output.toByteArray()),
+                                             getClass().getClassLoader());
+
+        for (int i = 0; i < values.length; i++)
+        {
+            reader.read();
+
+            assertThat(reader.getOpcode(), is((byte) i));
+            assertThat(reader.getSequence(), is(values[i]));
+
+            ObjectInputStream stream = reader.getObjectInputStream();
+
+            assertThat(stream.readBoolean(), is(true));
+            assertThat(stream.readObject(), is(Arrays.asList("frame", i)));
+            assertThat(stream.readUTF(), is("end"));
+
+            reader.complete();
+        }
+    }
+
+
+    @Test
+    public void shouldRecoverFromPartiallyConsumedFrames() throws Exception
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FrameBuffer           buffer = new FrameBuffer();
+
+        for (int i = 0; i < 3; i++)
+        {
+            ObjectOutputStream stream = buffer.begin();
+
+            stream.writeInt(i);
+            stream.writeObject("payload-" + i);
+
+            buffer.end((byte) 1, i);
+            buffer.writeTo(output);
+        }
+
+        FrameReader reader = new FrameReader(new ByteArrayInputStream(output.toByteArray()),
+                                             getClass().getClassLoader());
+
+        // only read the int from the first frame
+        reader.read();
+        assertThat(reader.getObjectInputStream().readInt(), is(0));
+        reader.complete();
+
+        for (int i = 1; i < 3; i++)
+        {
+            reader.read();
+
+            ObjectInputStream stream = reader.getObjectInputStream();
+
+            assertThat(stream.readInt(), is(i));
+            assertThat(stream.readObject(), is("payload-" + i));
+
+            reader.complete();
+        }
+    }
+
+
+    @Test
+    public void shouldWriteLargeFramesAndTrimBuffers() throws Exception
+    {
+        ByteArrayOutputStream output  = new ByteArrayOutputStream();
+        FrameBufferPool       pool    = new FrameBufferPool(1);
+        FrameBuffer           buffer  = pool.acquire();
+        byte[]                payload = new byte[FrameBuffer.MAXIMUM_RETAINED_CAPACITY * 2];
+
+        Arrays.fill(payload, (byte) 42);
+
+        buffer.begin().writeObject(payload);
+        buffer.end((byte) 2, 7);
+        buffer.writeTo(output);
+
+        pool.release(buffer);
+
+        assertThat(pool.size(), is(1));
+
+        buffer = pool.acquire();
+
+        buffer.begin().writeObject("small");
+        buffer.end((byte) 3, 8);
+        buffer.writeTo(output);
+
+        FrameReader reader = new FrameReader(new ByteArrayInputStream(output.toByteArray()),
+                                             getClass().getClassLoader());
+
+        reader.read();
+        assertThat(reader.getSequence(), is(7L));
+        assertThat(Arrays.equals((byte[]) reader.getObjectInputStream().readObject(), payload), is(true));
+        reader.complete();
+
+        reader.read();
+        assertThat(reader.getOpcode(), is((byte) 3));
+        assertThat(reader.getObjectInputStream().readObject(), is("small"));
+        reader.complete();
+    }
+
+
+    @Test
+    public void shouldReadFramesFromFragmentedByteBuffers() throws Exception
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FrameBuffer           buffer = new FrameBuffer();
+
+        for (int i = 0; i < 5; i++)
+        {
+            buffer.begin().writeObject("fragment-" + i);
+            buffer.end((byte) i, 1000L * i);
+            buffer.writeTo(output);
+        }
+
+        byte[]      bytes    = output.toByteArray();
+        ByteBuffer  received = ByteBuffer.allocate(bytes.length);
+        FrameReader reader   = new FrameReader(getClass().getClassLoader());
+        int         frames   = 0;
+
+        // provide the bytes one at a time, as the worst case of fragmentation
+        for (byte b : bytes)
+        {
+            received.put(b);
+            received.flip();
+
+            while (reader.read(received))
+            {
+                assertThat(reader.getOpcode(), is((byte) frames));
+                assertThat(reader.getSequence(), is(1000L * frames));
+                assertThat(reader.getObjectInputStream().readObject(), is("fragment-" + frames));
+
+                reader.complete();
+
+                frames++;
+            }
+
+            received.compact();
+        }
+
+        assertThat(frames, is(5));
+        assertThat(received.position(), is(0));
+    }
+}
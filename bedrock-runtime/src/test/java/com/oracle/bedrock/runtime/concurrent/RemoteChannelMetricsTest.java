@@ -0,0 +1,127 @@
+/*
+ * File: RemoteChannelMetricsTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for the {@link RemoteChannelMetrics} class.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RemoteChannelMetricsTest
+{
+    @Test
+    public void shouldRecordHistogramValues()
+    {
+        RemoteChannelMetrics.Histogram histogram = new RemoteChannelMetrics.Histogram();
+
+        assertThat(histogram.getPercentile(99.0), is(0L));
+        assertThat(histogram.getMean(), is(0.0));
+
+        for (int i = 1; i <= 100; i++)
+        {
+            histogram.record(i);
+        }
+
+        histogram.record(-5);
+
+        assertThat(histogram.getCount(), is(101L));
+        assertThat(histogram.getTotal(), is(5050L));
+        assertThat(histogram.getMaximum(), is(100L));
+
+        // percentiles are the upper bounds of power of two buckets
+        assertThat(histogram.getPercentile(0.0), is(0L));
+        assertThat(histogram.getPercentile(50.0), is(63L));
+        assertThat(histogram.getPercentile(99.0), is(100L));
+    }
+
+
+    @Test
+    public void shouldRecordOperationsByType()
+    {
+        RemoteChannelMetrics metrics = new RemoteChannelMetrics();
+
+        metrics.defineOperationType(0, "CALLABLE");
+        metrics.defineOperationType(1, "RESPONSE");
+
+        metrics.onSent(0, 100, 2_000);
+        metrics.onSent(0, 300, 4_000);
+        metrics.onReceived(1, 50);
+        metrics.onLatency(1, 10_000);
+
+        assertThat(metrics.getSentCount("CALLABLE"), is(2L));
+        assertThat(metrics.getReceivedCount("RESPONSE"), is(1L));
+        assertThat(metrics.getSentCount("EVENT"), is(0L));
+        assertThat(metrics.getLatency("EVENT"), is(nullValue()));
+        assertThat(metrics.getLatency("RESPONSE").getCount(), is(1L));
+
+        assertThat(metrics.getBytesSent(), is(400L));
+        assertThat(metrics.getBytesReceived(), is(50L));
+        assertThat(metrics.getMeanSerializationMicros(), is(3.0));
+        assertThat(metrics.getMaximumFrameSize(), is(300L));
+        assertThat(metrics.getMeanLatencyMicros().get("RESPONSE"), is(10.0));
+
+        Map<String, Long> sent = metrics.getSentCounts();
+
+        assertThat(sent.size(), is(2));
+        assertThat(sent.get("CALLABLE"), is(2L));
+        assertThat(sent.get("RESPONSE"), is(0L));
+    }
+
+
+    @Test
+    public void shouldRegisterAsMBean() throws Exception
+    {
+        RemoteChannelMetrics metrics = new RemoteChannelMetrics();
+
+        metrics.defineOperationType(0, "CALLABLE");
+        metrics.onSent(0, 10, 1);
+
+        ObjectName  name   = metrics.register("Test \"Application\"");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        assertThat(name, is(notNullValue()));
+        assertThat(server.isRegistered(name), is(true));
+        assertThat(server.getAttribute(name, "BytesSent"), is(10L));
+
+        metrics.unregister();
+
+        assertThat(server.isRegistered(name), is(false));
+        assertThat(metrics.getObjectName(), is(nullValue()));
+    }
+}
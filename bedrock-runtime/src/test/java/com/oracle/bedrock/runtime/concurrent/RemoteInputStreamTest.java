@@ -0,0 +1,192 @@
+/*
+ * File: RemoteInputStreamTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link RemoteInputStream} class.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RemoteInputStreamTest
+{
+    @Test
+    public void shouldReadChunksAsTheyArrive() throws Exception
+    {
+        RemoteInputStream stream = new RemoteInputStream(credits -> {});
+
+        stream.offer(new byte[] {1, 2, 3});
+
+        assertThat(stream.available(), is(3));
+        assertThat(stream.read(), is(1));
+
+        Thread producer = new Thread(() -> {
+                                         stream.offer(new byte[] {4, 5});
+
+                                         // the response hasn't been received
+                                         assertThat(stream.complete(), is(false));
+                                     });
+
+        producer.start();
+
+        byte[] buffer = new byte[10];
+        int    count  = 0;
+        int    read;
+
+        while ((read = stream.read(buffer, count, buffer.length - count)) >= 0)
+        {
+            count += read;
+        }
+
+        producer.join();
+
+        assertThat(count, is(4));
+        assertThat(buffer[0], is((byte) 2));
+        assertThat(buffer[3], is((byte) 5));
+
+        // all of the content has been received
+        assertThat(stream.claim(), is(true));
+    }
+
+
+    @Test
+    public void shouldFailReadingWhenStreamingFails() throws Exception
+    {
+        RemoteInputStream stream = new RemoteInputStream(credits -> {});
+
+        stream.offer(new byte[] {1});
+        stream.fail(new IOException("failed"));
+
+        assertThat(stream.read(), is(1));
+
+        try
+        {
+            stream.read();
+
+            fail("Expected an IOException");
+        }
+        catch (IOException e)
+        {
+            assertThat(e.getCause().getMessage(), is("failed"));
+        }
+    }
+
+
+    @Test
+    public void shouldTransferToFile() throws Exception
+    {
+        RemoteInputStream stream = new RemoteInputStream(credits -> {});
+        byte[]            chunk  = new byte[RemoteInputStream.CHUNK_SIZE];
+
+        for (int i = 0; i < chunk.length; i++)
+        {
+            chunk[i] = (byte) i;
+        }
+
+        stream.offer(chunk);
+        stream.offer(chunk);
+        stream.offer(new byte[] {42});
+        stream.complete();
+
+        File file = File.createTempFile("bedrock-remote", ".bin");
+
+        try
+        {
+            assertThat(stream.transferTo(file.toPath()), is(2L * chunk.length + 1));
+
+            byte[] bytes = Files.readAllBytes(file.toPath());
+
+            assertThat(bytes.length, is(2 * chunk.length + 1));
+            assertThat(bytes[chunk.length + 1], is((byte) 1));
+            assertThat(bytes[bytes.length - 1], is((byte) 42));
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+
+    @Test
+    public void shouldReturnCreditsAsChunksAreRead() throws Exception
+    {
+        List<Integer>     credits = new ArrayList<>();
+        RemoteInputStream stream  = new RemoteInputStream(credits::add);
+
+        stream.offer(new byte[] {1, 2});
+        stream.offer(new byte[] {3});
+
+        assertThat(credits.isEmpty(), is(true));
+
+        assertThat(stream.read(), is(1));
+        assertThat(credits, is(Arrays.asList(1)));
+
+        assertThat(stream.read(), is(2));
+        assertThat(credits, is(Arrays.asList(1)));
+
+        assertThat(stream.read(), is(3));
+        assertThat(credits, is(Arrays.asList(1, 1)));
+
+        stream.complete();
+
+        assertThat(stream.read(), is(-1));
+
+        // closing a completely received stream doesn't cancel streaming
+        stream.close();
+
+        assertThat(credits, is(Arrays.asList(1, 1)));
+    }
+
+
+    @Test
+    public void shouldCancelStreamingWhenClosedEarly() throws Exception
+    {
+        List<Integer>     credits = new ArrayList<>();
+        RemoteInputStream stream  = new RemoteInputStream(credits::add);
+
+        stream.offer(new byte[] {1, 2});
+
+        assertThat(stream.read(), is(1));
+
+        stream.close();
+        stream.close();
+
+        assertThat(credits, is(Arrays.asList(1, RemoteInputStream.CANCEL)));
+    }
+}
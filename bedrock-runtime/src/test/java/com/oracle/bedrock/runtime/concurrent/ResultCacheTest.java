@@ -0,0 +1,231 @@
+/*
+ * File: ResultCacheTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.concurrent;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link ResultCache} class.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ResultCacheTest
+{
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+
+    @Test
+    public void shouldShareResultsInFlight() throws Exception
+    {
+        ResultCache                cache     = new ResultCache(10);
+        AtomicInteger              submitted = new AtomicInteger();
+        CompletableFuture<Integer> inFlight  = new CompletableFuture<>();
+        RemoteCallable<Integer>    callable  = new Value(1);
+
+        CompletableFuture<Integer> first = cache.get(callable, MINUTE, () -> {
+                                                         submitted.incrementAndGet();
+
+                                                         return inFlight;
+                                                     });
+
+        CompletableFuture<Integer> second = cache.get(new Value(1), MINUTE, () -> {
+                                                          submitted.incrementAndGet();
+
+                                                          return new CompletableFuture<>();
+                                                      });
+
+        assertThat(submitted.get(), is(1));
+        assertThat(second.isDone(), is(false));
+
+        inFlight.complete(42);
+
+        assertThat(first.get(), is(42));
+        assertThat(second.get(), is(42));
+
+        // the completed result is now cached
+        assertThat(cache.get(callable, MINUTE, CompletableFuture::new).get(), is(42));
+
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.size(), is(1));
+    }
+
+
+    @Test
+    public void shouldNotCacheFailures() throws Exception
+    {
+        ResultCache                cache    = new ResultCache(10);
+        CompletableFuture<Integer> inFlight = new CompletableFuture<>();
+
+        CompletableFuture<Integer> first  = cache.get(new Value(1), MINUTE, () -> inFlight);
+        CompletableFuture<Integer> second = cache.get(new Value(1), MINUTE, CompletableFuture::new);
+
+        inFlight.completeExceptionally(new IllegalStateException("failed"));
+
+        try
+        {
+            second.get();
+            fail("Expected the shared result to fail");
+        }
+        catch (ExecutionException e)
+        {
+            assertThat(e.getCause() instanceof IllegalStateException, is(true));
+        }
+
+        assertThat(first.isCompletedExceptionally(), is(true));
+        assertThat(cache.size(), is(0));
+
+        // the callable is submitted again
+        assertThat(cache.get(new Value(1), MINUTE, () -> CompletableFuture.completedFuture(2)).get(), is(2));
+        assertThat(cache.getMissCount(), is(2L));
+    }
+
+
+    @Test
+    public void shouldExpireResults() throws Exception
+    {
+        ResultCache cache = new ResultCache(10);
+
+        assertThat(cache.get(new Value(1), 0, () -> CompletableFuture.completedFuture(1)).get(), is(1));
+        assertThat(cache.get(new Value(1), 0, () -> CompletableFuture.completedFuture(2)).get(), is(2));
+
+        assertThat(cache.getMissCount(), is(2L));
+        assertThat(cache.getEvictionCount(), is(2L));
+        assertThat(cache.size(), is(0));
+    }
+
+
+    @Test
+    public void shouldEvictResultsThatExpireSoonestWhenFull() throws Exception
+    {
+        ResultCache cache = new ResultCache(2);
+
+        cache.get(new Value(1), 3 * MINUTE, () -> CompletableFuture.completedFuture(1));
+        cache.get(new Value(2), MINUTE, () -> CompletableFuture.completedFuture(2));
+        cache.get(new Value(3), 2 * MINUTE, () -> CompletableFuture.completedFuture(3));
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getEvictionCount(), is(1L));
+
+        // the result expiring soonest was evicted
+        assertThat(cache.get(new Value(1), MINUTE, () -> CompletableFuture.completedFuture(-1)).get(), is(1));
+        assertThat(cache.get(new Value(3), MINUTE, () -> CompletableFuture.completedFuture(-1)).get(), is(3));
+        assertThat(cache.get(new Value(2), MINUTE, () -> CompletableFuture.completedFuture(-1)).get(), is(-1));
+    }
+
+
+    @Test
+    public void shouldRemoveResults() throws Exception
+    {
+        ResultCache cache = new ResultCache(10);
+
+        cache.get(new Value(1), MINUTE, () -> CompletableFuture.completedFuture(1));
+
+        cache.remove(new Value(1));
+
+        assertThat(cache.get(new Value(1), MINUTE, () -> CompletableFuture.completedFuture(2)).get(), is(2));
+    }
+
+
+    @Test
+    public void shouldEvictResultsThatExpireSoonestWhenTooHeavy() throws Exception
+    {
+        ResultCache cache = new ResultCache(10, 5, result -> (Integer) result);
+
+        cache.get(new Value(1), 3 * MINUTE, () -> CompletableFuture.completedFuture(2));
+        cache.get(new Value(2), MINUTE, () -> CompletableFuture.completedFuture(2));
+        cache.get(new Value(3), 2 * MINUTE, () -> CompletableFuture.completedFuture(2));
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getWeight(), is(4L));
+        assertThat(cache.getEvictionCount(), is(1L));
+
+        // the result expiring soonest was evicted
+        assertThat(cache.get(new Value(2), MINUTE, () -> CompletableFuture.completedFuture(-1)).get(), is(-1));
+
+        // results heavier than the maximum weight aren't cached
+        cache.get(new Value(4), MINUTE, () -> CompletableFuture.completedFuture(6));
+
+        assertThat(cache.get(new Value(4), MINUTE, () -> CompletableFuture.completedFuture(-1)).get(), is(-1));
+    }
+
+
+    @Test
+    public void shouldWeighResults()
+    {
+        assertThat(ResultCache.weigh(null), is(0L));
+        assertThat(ResultCache.weigh(new byte[1000]) > 1000, is(true));
+        assertThat(ResultCache.weigh("hello") > 10, is(true));
+        assertThat(ResultCache.weigh(Arrays.asList(new byte[1000], new byte[1000])) > 2000, is(true));
+    }
+
+
+    /**
+     * A {@link RemoteCallable} that's equal to others returning the same value.
+     */
+    public static class Value implements RemoteCallable<Integer>
+    {
+        private final int value;
+
+
+        public Value(int value)
+        {
+            this.value = value;
+        }
+
+
+        @Override
+        public Integer call()
+        {
+            return value;
+        }
+
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof Value && ((Value) other).value == value;
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * File: AsyncFileApplicationConsoleTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.JavaApplication;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Arguments;
+import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.DisplayName;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+/**
+ * Tests for {@link AsyncFileApplicationConsole}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class AsyncFileApplicationConsoleTest
+{
+    @ClassRule
+    public static TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    @Test
+    public void shouldWriteLinesFromBothStreams() throws Exception
+    {
+        File                        file    = temporaryFolder.newFile();
+        AsyncFileApplicationConsole console = new AsyncFileApplicationConsole(file, false);
+        PrintWriter                 out     = console.getOutputWriter();
+        PrintWriter                 err     = console.getErrorWriter();
+
+        assertThat(console.isDiagnosticsEnabled(), is(false));
+
+        out.println("one");
+        out.flush();
+        err.println("two");
+        err.flush();
+        out.print("three, ");
+        out.print("four");
+        out.flush();
+
+        console.close();
+
+        assertThat(Files.readAllLines(file.toPath()), contains("one", "two", "three, four"));
+
+        out.println("closed");
+
+        assertThat(out.checkError(), is(true));
+    }
+
+
+    @Test
+    public void shouldRollAndCompressFiles() throws Exception
+    {
+        File                        file    = new File(temporaryFolder.getRoot(), "rolling.log");
+        AsyncFileApplicationConsole console = new AsyncFileApplicationConsole(file, false, 1000, 2, true);
+        PrintWriter                 out     = console.getOutputWriter();
+
+        for (int i = 0; i < 300; i++)
+        {
+            out.println(String.format("line %04d", i));
+        }
+
+        console.close();
+
+        assertThat(console.getRolledFile(1).exists(), is(true));
+        assertThat(console.getRolledFile(2).exists(), is(true));
+        assertThat(console.getRolledFile(3).exists(), is(false));
+
+        // the rolled files awaiting compression have all been compressed
+        assertThat(temporaryFolder.getRoot().list((directory, name) -> name.contains(".rolled-")).length, is(0));
+
+        List<String> lines = new ArrayList<>();
+
+        lines.addAll(gunzip(console.getRolledFile(2)));
+        lines.addAll(gunzip(console.getRolledFile(1)));
+        lines.addAll(Files.readAllLines(file.toPath()));
+
+        int first = 300 - lines.size();
+
+        for (int i = 0; i < lines.size(); i++)
+        {
+            assertThat(lines.get(i), is(String.format("line %04d", first + i)));
+        }
+
+        assertThat(console.getRolledFile(1).length() < 1000, is(true));
+    }
+
+
+    @Test
+    public void shouldCaptureApplicationOutput() throws Exception
+    {
+        File directory = temporaryFolder.newFolder();
+
+        try (JavaApplication application = LocalPlatform.get().launch(JavaApplication.class,
+                                                                      ClassName.of(SimpleApp.class),
+                                                                      Arguments.of("1", "2"),
+                                                                      DisplayName.of("simple"),
+                                                                      Console.asyncFile(directory.getPath(), "test")))
+        {
+            application.waitFor();
+        }
+
+        List<String> lines = Files.readAllLines(new File(directory, "test-simple").toPath());
+
+        assertThat(lines, hasItem(endsWith("1: Out: 1")));
+        assertThat(lines, hasItem(endsWith("2: Err: 2")));
+        assertThat(lines.size(), is(6));
+    }
+
+
+    /**
+     * Reads the lines from a gzip compressed file.
+     *
+     * @param file  the file
+     *
+     * @return the lines
+     *
+     * @throws Exception when the file can't be read
+     */
+    private static List<String> gunzip(File file) throws Exception
+    {
+        List<String> lines = new ArrayList<>();
+
+        try (BufferedReader reader =
+            new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(file)),
+                                                     StandardCharsets.UTF_8)))
+        {
+            for (String line = reader.readLine(); line != null; line = reader.readLine())
+            {
+                lines.add(line);
+            }
+        }
+
+        return lines;
+    }
+}
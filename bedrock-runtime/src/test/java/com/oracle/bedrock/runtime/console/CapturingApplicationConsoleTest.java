@@ -28,10 +28,12 @@ package com.oracle.bedrock.runtime.console;
 import com.oracle.bedrock.deferred.DeferredHelper;
 import com.oracle.bedrock.predicate.Predicates;
 import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.Settings;
 import com.oracle.bedrock.runtime.java.JavaApplication;
 import com.oracle.bedrock.runtime.java.options.ClassName;
 import com.oracle.bedrock.runtime.options.Arguments;
 import com.oracle.bedrock.runtime.options.Console;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 import org.junit.Test;
 
 import java.io.PrintWriter;
@@ -143,4 +145,77 @@ public class CapturingApplicationConsoleTest
             assertThat(lines, contains("Echo: Foo2"));
         }
     }
+
+
+    @Test
+    public void shouldUsePlatformThreadsWhenVirtualThreadsDisabled() throws Exception
+    {
+        String previous = System.setProperty(Settings.VIRTUAL_THREADS, "true");
+
+        try
+        {
+            // the option overrides the system property
+            CapturingApplicationConsole console = new CapturingApplicationConsole(5,
+                                                                                  false,
+                                                                                  CapturingApplicationConsole
+                                                                                  .DEFAULT_PIPE_SIZE,
+                                                                                  VirtualThreads.disabled());
+
+            assertThat(isVirtual(console.stdoutThread), is(false));
+            assertThat(isVirtual(console.stderrThread), is(false));
+
+            // as they were before virtual threads, the platform threads aren't daemon threads
+            assertThat(console.stdoutThread.isDaemon(), is(false));
+            assertThat(console.stderrThread.isDaemon(), is(false));
+
+            console.close();
+        }
+        finally
+        {
+            if (previous == null)
+            {
+                System.clearProperty(Settings.VIRTUAL_THREADS);
+            }
+            else
+            {
+                System.setProperty(Settings.VIRTUAL_THREADS, previous);
+            }
+        }
+    }
+
+
+    @Test
+    public void shouldUseVirtualThreadsWhenEnabledAndSupported() throws Exception
+    {
+        CapturingApplicationConsole console = new CapturingApplicationConsole(5,
+                                                                              false,
+                                                                              CapturingApplicationConsole
+                                                                              .DEFAULT_PIPE_SIZE,
+                                                                              VirtualThreads.enabled());
+
+        assertThat(isVirtual(console.stdoutThread), is(VirtualThreads.isSupported()));
+        assertThat(isVirtual(console.stderrThread), is(VirtualThreads.isSupported()));
+
+        console.close();
+    }
+
+
+    /**
+     * Determines if a {@link Thread} is a virtual thread (when supported by the Java runtime).
+     *
+     * @param thread  the {@link Thread}
+     *
+     * @return <code>true</code> if the {@link Thread} is a virtual thread
+     */
+    private static boolean isVirtual(Thread thread) throws Exception
+    {
+        try
+        {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        }
+        catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * File: EventsApplicationConsoleTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import org.junit.Test;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+/**
+ * Tests for {@link EventsApplicationConsole}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class EventsApplicationConsoleTest
+{
+    @Test
+    public void shouldNotifyPatternListenersAndDeregisterThemOnceSatisfied() throws Exception
+    {
+        EventsApplicationConsole                   console  = new EventsApplicationConsole();
+        List<String>                               all      = new CopyOnWriteArrayList<>();
+        List<String>                               first    = new CopyOnWriteArrayList<>();
+        EventsApplicationConsole.CountDownListener started  = new EventsApplicationConsole.CountDownListener(2);
+        EventsApplicationConsole.CountDownListener finished = new EventsApplicationConsole.CountDownListener(1);
+
+        console.withStdOutListener(LinePattern.regex("Member\\(Id=\\d+\\)"), all::add)
+            .withStdOutListener(LinePattern.literal("Member"), EventsApplicationConsole.Listener.once(first::add))
+            .withStdOutListener(LinePattern.literal("Started"), started)
+            .withStdOutListener((line) -> line.endsWith("done"), finished);
+
+        assertThat(console.getStdOutListenerCount(), is(4));
+
+        PrintWriter writer = console.getOutputWriter();
+
+        writer.println("Started Member(Id=1)");
+        writer.println("Started Member(Id=2)");
+        writer.println("Member(Id=3) joined");
+        writer.println("done");
+        writer.flush();
+
+        assertThat(started.await(1, TimeUnit.MINUTES), is(true));
+        assertThat(finished.await(1, TimeUnit.MINUTES), is(true));
+
+        console.close();
+
+        assertThat(all, contains("Started Member(Id=1)", "Started Member(Id=2)", "Member(Id=3) joined"));
+        assertThat(first, contains("Started Member(Id=1)"));
+        assertThat(console.getStdOutListenerCount(), is(1));
+    }
+}
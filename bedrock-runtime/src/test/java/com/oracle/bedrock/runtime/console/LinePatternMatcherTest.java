@@ -0,0 +1,204 @@
+/*
+ * File: LinePatternMatcherTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link LinePatternMatcher}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class LinePatternMatcherTest
+{
+    @Test
+    public void shouldDetermineRequiredLiterals()
+    {
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("Started DefaultCacheServer")),
+                   is("Started DefaultCacheServer"));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("^Member\\(Id=\\d+\\) joined.*$")),
+                   is("Member(Id="));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("abcd?ef+g")), is("abc"));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("(foo|bar)baz")), is("baz"));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("x[a-z]{2,3}yyyy")), is("yyyy"));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("\\x41BCDE\\p{Alpha}")), is("BCDE"));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("a.b", Pattern.LITERAL)), is("a.b"));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("\\d+")), is(""));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("foo|bar")), is(nullValue()));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("(?i)foo")), is(nullValue()));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("foo", Pattern.CASE_INSENSITIVE)),
+                   is(nullValue()));
+        assertThat(LinePatternMatcher.requiredLiteral(Pattern.compile("(a)\\1")), is(nullValue()));
+    }
+
+
+    @Test
+    public void shouldMatchLiteralsAndRegularExpressions()
+    {
+        List<LinePattern> patterns = Arrays.asList(LinePattern.literal("he"),
+                                                   LinePattern.literal("she"),
+                                                   LinePattern.literal("his"),
+                                                   LinePattern.literal("hers"),
+                                                   LinePattern.literal(""),
+                                                   LinePattern.regex("s.e\\b"),
+                                                   LinePattern.regex("h(i|e)rs?$"),
+                                                   LinePattern.regex("(\\w)\\1"),
+                                                   LinePattern.of(Pattern.compile("USHERS",
+                                                                                  Pattern.CASE_INSENSITIVE)),
+                                                   LinePattern.regex("café"));
+
+        assertThat(matches(patterns, "ushers"), is(bits(0, 1, 3, 4, 6, 8)));
+        assertThat(matches(patterns, "this is"), is(bits(2, 4)));
+        assertThat(matches(patterns, "shell"), is(bits(0, 1, 4, 7)));
+        assertThat(matches(patterns, "a she"), is(bits(0, 1, 4, 5)));
+        assertThat(matches(patterns, "un café"), is(bits(4, 9)));
+        assertThat(matches(patterns, ""), is(bits(4)));
+    }
+
+
+    @Test
+    public void shouldMatchTheSameAsIndividualPatterns()
+    {
+        Random            random   = new Random(42);
+        List<LinePattern> patterns = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++)
+        {
+            String text = randomText(random, 1 + random.nextInt(4));
+
+            switch (i % 4)
+            {
+            case 0 :
+                patterns.add(LinePattern.literal(text));
+                break;
+
+            case 1 :
+                patterns.add(LinePattern.regex(Pattern.quote(text) + "\\w?" + randomText(random, 2)));
+                break;
+
+            case 2 :
+                patterns.add(LinePattern.regex("[" + text + "]{3}"));
+                break;
+
+            default :
+                patterns.add(LinePattern.of(Pattern.compile(text + "|" + randomText(random, 3),
+                                                            Pattern.CASE_INSENSITIVE)));
+            }
+        }
+
+        LinePatternMatcher matcher = new LinePatternMatcher(patterns);
+        BitSet             matched = new BitSet();
+
+        for (int i = 0; i < 2000; i++)
+        {
+            String line = randomText(random, random.nextInt(40));
+
+            matcher.match(line, matched);
+
+            for (int index = 0; index < patterns.size(); index++)
+            {
+                assertThat(patterns.get(index) + " against " + line,
+                           matched.get(index),
+                           is(patterns.get(index).matches(line)));
+            }
+
+            matched.clear();
+        }
+    }
+
+
+    /**
+     * Obtains the indexes of the {@link LinePattern}s matching a line.
+     *
+     * @param patterns  the {@link LinePattern}s
+     * @param line      the line
+     *
+     * @return the indexes of the matching {@link LinePattern}s
+     */
+    private static BitSet matches(List<LinePattern> patterns,
+                                  String            line)
+    {
+        BitSet matched = new BitSet();
+
+        new LinePatternMatcher(patterns).match(line, matched);
+
+        return matched;
+    }
+
+
+    /**
+     * Obtains a {@link BitSet} with the specified bits set.
+     *
+     * @param indexes  the indexes of the bits
+     *
+     * @return the {@link BitSet}
+     */
+    private static BitSet bits(int... indexes)
+    {
+        BitSet bits = new BitSet();
+
+        for (int index : indexes)
+        {
+            bits.set(index);
+        }
+
+        return bits;
+    }
+
+
+    /**
+     * Obtains random text using a small alphabet, so that patterns frequently match.
+     *
+     * @param random  the {@link Random}
+     * @param length  the length of the text
+     *
+     * @return the text
+     */
+    private static String randomText(Random random,
+                                     int    length)
+    {
+        StringBuilder builder = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++)
+        {
+            builder.append("abcAB é".charAt(random.nextInt(7)));
+        }
+
+        return builder.toString();
+    }
+}
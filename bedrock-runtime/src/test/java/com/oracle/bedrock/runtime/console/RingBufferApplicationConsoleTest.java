@@ -0,0 +1,216 @@
+/*
+ * File: RingBufferApplicationConsoleTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.console;
+
+import com.oracle.bedrock.deferred.DeferredHelper;
+import com.oracle.bedrock.predicate.Predicates;
+import com.oracle.bedrock.runtime.LocalPlatform;
+import com.oracle.bedrock.runtime.java.JavaApplication;
+import com.oracle.bedrock.runtime.java.options.ClassName;
+import com.oracle.bedrock.runtime.options.Arguments;
+import com.oracle.bedrock.runtime.options.Console;
+import org.junit.Test;
+
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.oracle.bedrock.deferred.DeferredHelper.eventually;
+import static com.oracle.bedrock.deferred.DeferredHelper.invoking;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+/**
+ * Tests for {@link RingBufferApplicationConsole} and {@link RingBufferOutputStream}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class RingBufferApplicationConsoleTest
+{
+    @Test
+    public void shouldCaptureStdOutAndStdErr() throws Exception
+    {
+        RingBufferApplicationConsole console = new RingBufferApplicationConsole(4096, 5);
+
+        try (JavaApplication application = LocalPlatform.get().launch(JavaApplication.class,
+                                                                      ClassName.of(SimpleApp.class),
+                                                                      Arguments.of("1", "2", "3", "4", "5"),
+                                                                      Console.of(console)))
+        {
+            application.waitFor();
+        }
+
+        console.close();
+
+        assertThat(console.getCapturedOutputLines(), contains("Out: 2", "Out: 3", "Out: 4", "Out: 5", "(terminated)"));
+        assertThat(console.getCapturedErrorLines(), contains("Err: 2", "Err: 3", "Err: 4", "Err: 5", "(terminated)"));
+    }
+
+
+    @Test
+    public void shouldPipeStdIn() throws Exception
+    {
+        RingBufferApplicationConsole console = new RingBufferApplicationConsole();
+        PrintWriter                  stdIn   = console.getInputWriter();
+
+        try (JavaApplication application = LocalPlatform.get().launch(JavaApplication.class,
+                                                                      ClassName.of(EchoApp.class),
+                                                                      Console.of(console)))
+        {
+            RingBufferOutputStream output = console.getCapturedOutput();
+
+            stdIn.println("Foo");
+
+            DeferredHelper.ensure(eventually(invoking(output).size()), Predicates.is(1));
+
+            stdIn.println("Bar");
+
+            DeferredHelper.ensure(eventually(invoking(output).size()), Predicates.is(2));
+
+            assertThat(output.snapshot(), contains("Echo: Foo", "Echo: Bar"));
+        }
+    }
+
+
+    @Test
+    public void shouldKeepTheMostRecentLinesWithinTheCapacity() throws Exception
+    {
+        RingBufferOutputStream stream = new RingBufferOutputStream(64, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 100; i++)
+        {
+            stream.write(String.format("line-%02d\r\n", i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        // each line is 9 bytes, so only the last 7 fit in 64 bytes
+        assertThat(stream.getCapacity(), is(64));
+        assertThat(stream.getLineCount(), is(100L));
+        assertThat(stream.getByteCount(), is(900L));
+        assertThat(stream.snapshot(), contains("line-93", "line-94", "line-95", "line-96", "line-97", "line-98", "line-99"));
+        assertThat(stream.tail(2), contains("line-98", "line-99"));
+        assertThat(stream.tail(0).isEmpty(), is(true));
+    }
+
+
+    @Test
+    public void shouldKeepTheMaximumNumberOfLines() throws Exception
+    {
+        RingBufferOutputStream stream = new RingBufferOutputStream(4096, 3);
+
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)))
+        {
+            for (int i = 1; i <= 5; i++)
+            {
+                writer.println("Line " + i + " \u00e9\u20ac\ud83d\ude00");
+            }
+
+            writer.print("partial");
+            writer.flush();
+
+            assertThat(stream.snapshot(),
+                       contains("Line 3 \u00e9\u20ac\ud83d\ude00", "Line 4 \u00e9\u20ac\ud83d\ude00", "Line 5 \u00e9\u20ac\ud83d\ude00"));
+        }
+
+        // closing terminates the partial line
+        assertThat(stream.tail(2), contains("Line 5 \u00e9\u20ac\ud83d\ude00", "partial"));
+    }
+
+
+    @Test
+    public void shouldVisitLinesWithoutDecoding() throws Exception
+    {
+        RingBufferOutputStream stream = new RingBufferOutputStream(16, Integer.MAX_VALUE);
+
+        // a line longer than the capacity is not retained
+        stream.write("abc\n0123456789012345678901234\nxyz\n\n".getBytes(StandardCharsets.UTF_8));
+
+        List<String> lines = new ArrayList<>();
+
+        stream.forEachLine(buffer -> {
+                               byte[] bytes = new byte[buffer.remaining()];
+
+                               buffer.get(bytes);
+                               lines.add(new String(bytes, StandardCharsets.UTF_8));
+                           });
+
+        assertThat(lines, contains("xyz", ""));
+    }
+
+
+    @Test
+    public void shouldCaptureConsistentLinesWhileWriting() throws Exception
+    {
+        RingBufferOutputStream     stream  = new RingBufferOutputStream(256, Integer.MAX_VALUE);
+        AtomicBoolean              running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+                                       try
+                                       {
+                                           while (running.get())
+                                           {
+                                               long previous = -1;
+
+                                               for (String line : stream.snapshot())
+                                               {
+                                                   long number = Long.parseLong(line.substring(5));
+
+                                                   if (!line.startsWith("line:") || (previous >= 0
+                                                                                     && number != previous + 1))
+                                                   {
+                                                       throw new AssertionError("Inconsistent line " + line);
+                                                   }
+
+                                                   previous = number;
+                                               }
+                                           }
+                                       }
+                                       catch (Throwable throwable)
+                                       {
+                                           failure.set(throwable);
+                                       }
+                                   });
+
+        reader.start();
+
+        for (int i = 0; i < 200_000; i++)
+        {
+            stream.write(("line:" + i + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        running.set(false);
+        reader.join();
+
+        assertThat(failure.get(), is(nullValue()));
+    }
+}
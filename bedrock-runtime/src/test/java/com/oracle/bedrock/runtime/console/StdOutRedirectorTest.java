@@ -27,6 +27,7 @@ package com.oracle.bedrock.runtime.console;
 
 import com.oracle.bedrock.runtime.ApplicationConsole;
 import com.oracle.bedrock.runtime.console.StdOutRedirector;
+import com.oracle.bedrock.runtime.options.VirtualThreads;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -120,4 +121,47 @@ public class StdOutRedirectorTest
 
         assertThat(line3, is(nullValue()));
     }
+
+
+    @Test
+    public void shouldFormatDiagnosticOutputLikeStringFormat()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (long lineNumber : new long[] {1, 9, 10, 99, 100, 999, 1000, 12345})
+        {
+            DefaultOutputRedirector.formatDiagnostic(builder, "[TestApp:X:1234] ", lineNumber, "foo");
+
+            assertThat(builder.toString(), is(String.format("[TestApp:X:1234] %4d: %s", lineNumber, "foo")));
+        }
+    }
+
+
+    @Test
+    public void shouldRedirectOutputUsingVirtualThreads() throws Exception
+    {
+        InputStream        inputStream  = new ByteArrayInputStream("foo".getBytes());
+        StringWriter       writer       = new StringWriter();
+        PrintWriter        outputWriter = new PrintWriter(writer);
+        ApplicationConsole console = mock(ApplicationConsole.class);
+
+        when(console.getOutputWriter()).thenReturn(outputWriter);
+        when(console.isDiagnosticsEnabled()).thenReturn(false);
+
+        StdOutRedirector redirector = new StdOutRedirector();
+
+        redirector.setName("TestApp StdOut Thread");
+        redirector.start("TestApp", "X", inputStream, console, 1234, false, VirtualThreads.enabled());
+
+        redirector.awaitTermination();
+
+        // the redirector thread itself is only started when virtual threads aren't supported
+        assertThat(redirector.getState() == Thread.State.NEW, is(VirtualThreads.isSupported()));
+
+        BufferedReader reader = new BufferedReader(new StringReader(writer.getBuffer().toString()));
+
+        assertThat(reader.readLine(), is("foo"));
+        assertThat(reader.readLine(), is("(terminated)"));
+        assertThat(reader.readLine(), is(nullValue()));
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * File: ClassPathIndexTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.java;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Unit Tests for the {@link ClassPathIndex}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class ClassPathIndexTest
+{
+    /**
+     * A temporary folder for the archives, directories and index files.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
+    /**
+     * Ensure that the resources of directories and archives are returned in class path order.
+     */
+    @Test
+    public void shouldIndexDirectoriesAndArchives() throws IOException
+    {
+        File directory = temporaryFolder.newFolder("classes");
+
+        Files.createDirectories(directory.toPath().resolve("com/example"));
+        Files.write(directory.toPath().resolve("com/example/Main.class"), new byte[] {1});
+
+        File           archive   = createArchive("library.jar", "org/example/Library.class", "META-INF/MANIFEST.MF");
+        ClassPath      classPath = new ClassPath(directory.getAbsolutePath(), archive.getAbsolutePath());
+        ClassPathIndex index     = ClassPathIndex.inMemory();
+
+        assertThat(index.getFile(), is(nullValue()));
+        assertThat(index.getResources(classPath, null),
+                   contains("com/example/Main.class", "org/example/Library.class", "META-INF/MANIFEST.MF"));
+
+        assertThat(index.getResources(classPath, Pattern.compile(".*\\.class")),
+                   contains("com/example/Main.class", "org/example/Library.class"));
+
+        assertThat(index.getArchiveCount(), is(1));
+    }
+
+
+    /**
+     * Ensure that archives are scanned again once they change.
+     */
+    @Test
+    public void shouldRescanChangedArchives() throws IOException
+    {
+        File           archive   = createArchive("library.jar", "a/One.class");
+        ClassPath      classPath = new ClassPath(archive.getAbsolutePath());
+        ClassPathIndex index     = ClassPathIndex.inMemory();
+
+        assertThat(index.getResources(classPath, null), contains("a/One.class"));
+
+        createArchive("library.jar", "a/One.class", "a/Two.class");
+        archive.setLastModified(archive.lastModified() + 2000);
+
+        assertThat(index.getResources(classPath, null), contains("a/One.class", "a/Two.class"));
+    }
+
+
+    /**
+     * Ensure that the index of archives is persisted and reused while the archives are unchanged.
+     */
+    @Test
+    public void shouldPersistIndex() throws IOException
+    {
+        File           archive   = createArchive("library.jar", "a/One.class", "a/OneMore.class", "b/Two.class");
+        ClassPath      classPath = new ClassPath(archive.getAbsolutePath());
+        Path           file      = temporaryFolder.getRoot().toPath().resolve("first.index");
+        ClassPathIndex index     = ClassPathIndex.at(file);
+
+        assertThat(ClassPathIndex.at(file), is(sameInstance(index)));
+        assertThat(index.getResources(classPath, null), contains("a/One.class", "a/OneMore.class", "b/Two.class"));
+        assertThat(Files.exists(file), is(true));
+
+        // replace the archive with one of the same size and last modified time
+        long size         = archive.length();
+        long lastModified = archive.lastModified();
+
+        createArchive("library.jar", "a/Uno.class", "a/UnoMore.class", "b/Dos.class");
+        archive.setLastModified(lastModified);
+
+        assertThat(archive.length(), is(size));
+
+        // a new index loaded from a copy of the persisted index trusts the unchanged fingerprint
+        Path copy = temporaryFolder.getRoot().toPath().resolve("second.index");
+
+        Files.copy(file, copy);
+
+        ClassPathIndex loaded = ClassPathIndex.at(copy);
+
+        assertThat(loaded.getResources(classPath, null), contains("a/One.class", "a/OneMore.class", "b/Two.class"));
+
+        // a different last modified time causes the archive to be scanned again
+        archive.setLastModified(lastModified + 2000);
+
+        assertThat(loaded.getResources(classPath, null), contains("a/Uno.class", "a/UnoMore.class", "b/Dos.class"));
+    }
+
+
+    /**
+     * Creates an archive in the temporary folder containing empty entries.
+     *
+     * @param name     the name of the archive
+     * @param entries  the names of the entries
+     *
+     * @return the archive
+     */
+    private File createArchive(String    name,
+                               String... entries) throws IOException
+    {
+        File file = new File(temporaryFolder.getRoot(), name);
+
+        try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(file)))
+        {
+            for (String entry : entries)
+            {
+                output.putNextEntry(new ZipEntry(entry));
+                output.write(entry.getBytes(StandardCharsets.UTF_8), 0, 0);
+                output.closeEntry();
+            }
+        }
+
+        return file;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * File: AbstractDelegatingOutputStreamTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.java.container;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link AbstractDelegatingOutputStream}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class AbstractDelegatingOutputStreamTest
+{
+    @Test
+    public void shouldDelegateToTheScopeOfTheThread() throws Exception
+    {
+        ByteArrayOutputStream                           platform = new ByteArrayOutputStream();
+        ConcurrentHashMap<Scope, ByteArrayOutputStream> scoped   = new ConcurrentHashMap<>();
+        PrintStream                                     stream   = new PrintStream(new TestStream(platform, scoped), true);
+        ContainerScope                                  scope1   = new ContainerScope("scope-1");
+        ContainerScope                                  scope2   = new ContainerScope("scope-2");
+
+        try
+        {
+            stream.println("platform");
+
+            Container.associateThreadWith(scope1);
+            stream.println("one");
+            stream.print("partial");
+            stream.flush();
+
+            assertThat(scoped.get(scope1).toString(), is("one" + System.lineSeparator() + "partial"));
+
+            Container.dissociateThread();
+            stream.println("platform again");
+
+            Thread thread = new Thread(() -> {
+                                           Container.associateThreadWith(scope2);
+                                           stream.println("two");
+                                       });
+
+            thread.start();
+            thread.join();
+
+            assertThat(platform.toString(), is("platform" + System.lineSeparator() + "platform again"
+                                                + System.lineSeparator()));
+            assertThat(scoped.get(scope2).toString(), is("two" + System.lineSeparator()));
+        }
+        finally
+        {
+            Container.dissociateThread();
+            scope1.close();
+            scope2.close();
+        }
+    }
+
+
+    @Test
+    public void shouldDelegateUsingTheContextClassLoader() throws Exception
+    {
+        ByteArrayOutputStream                           platform    = new ByteArrayOutputStream();
+        ConcurrentHashMap<Scope, ByteArrayOutputStream> scoped      = new ConcurrentHashMap<>();
+        PrintStream                                     stream      = new PrintStream(new TestStream(platform, scoped),
+                                                                                      true);
+        ContainerScope                                  scope       = new ContainerScope("scope");
+        Thread                                          thread      = Thread.currentThread();
+        ClassLoader                                     classLoader = thread.getContextClassLoader();
+
+        try
+        {
+            stream.println("before");
+
+            thread.setContextClassLoader(new ContainerScopeClassLoader(classLoader, scope));
+            stream.println("during");
+
+            thread.setContextClassLoader(classLoader);
+            stream.println("after");
+
+            assertThat(platform.toString(), is("before" + System.lineSeparator() + "after" + System.lineSeparator()));
+            assertThat(scoped.get(scope).toString(), is("during" + System.lineSeparator()));
+        }
+        finally
+        {
+            thread.setContextClassLoader(classLoader);
+            scope.close();
+        }
+    }
+
+
+    @Test
+    public void shouldBufferScopeOutputUntilFlushed() throws Exception
+    {
+        ConcurrentHashMap<Scope, ByteArrayOutputStream> scoped = new ConcurrentHashMap<>();
+        TestStream                                      stream = new TestStream(new ByteArrayOutputStream(), scoped);
+        ContainerScope                                  scope  = new ContainerScope("scope");
+
+        try
+        {
+            Container.associateThreadWith(scope);
+
+            stream.write("hello ".getBytes());
+            stream.write('w');
+            stream.write("orld".getBytes(), 0, 4);
+
+            assertThat(scoped.get(scope).size(), is(0));
+
+            stream.flush();
+
+            assertThat(scoped.get(scope).toString(), is("hello world"));
+
+            // large writes are written directly, after any buffered output
+            byte[] large = new byte[20000];
+
+            stream.write('!');
+            stream.write(large);
+
+            assertThat(scoped.get(scope).size(), is(11 + 1 + large.length));
+        }
+        finally
+        {
+            Container.dissociateThread();
+            scope.close();
+        }
+    }
+
+
+    @Test
+    public void shouldWritePartialLineWhenScopeCloses() throws Exception
+    {
+        ConcurrentHashMap<Scope, ByteArrayOutputStream> scoped = new ConcurrentHashMap<>();
+        TestStream                                      stream = new TestStream(new ByteArrayOutputStream(), scoped);
+        ContainerScope                                  scope  = new ContainerScope("scope");
+
+        try
+        {
+            Container.associateThreadWith(scope);
+
+            stream.write("partial".getBytes());
+
+            assertThat(scoped.get(scope).size(), is(0));
+
+            stream.close(scope);
+
+            assertThat(scoped.get(scope).toString(), is("partial"));
+
+            // output after closing is no longer buffered
+            stream.write('!');
+
+            assertThat(scoped.get(scope).toString(), is("partial!"));
+        }
+        finally
+        {
+            Container.dissociateThread();
+            scope.close();
+        }
+    }
+
+
+    /**
+     * An {@link AbstractDelegatingOutputStream} capturing the output of each {@link Scope}.
+     */
+    static class TestStream extends AbstractDelegatingOutputStream
+    {
+        private final ConcurrentHashMap<Scope, ByteArrayOutputStream> scoped;
+
+
+        TestStream(OutputStream                                    platform,
+                   ConcurrentHashMap<Scope, ByteArrayOutputStream> scoped)
+        {
+            super(platform);
+
+            this.scoped = scoped;
+        }
+
+
+        @Override
+        public OutputStream getOutputStreamFor(Scope scope)
+        {
+            return scoped.computeIfAbsent(scope, s -> new ByteArrayOutputStream());
+        }
+    }
+}
@@ -29,12 +29,21 @@ import classloader.child.DummyClass;
 import classloader.parent.DummyParentLoadedClass;
 import com.oracle.bedrock.runtime.java.ClassPath;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -53,6 +62,13 @@ import static org.junit.Assert.assertTrue;
  */
 public class ContainerClassLoaderTest
 {
+    /**
+     * A temporary folder for archives.
+     */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
     /**
      * Ensure that we can create ContainerClassLoader that uses
      * the System ClassPath.
@@ -163,6 +179,42 @@ public class ContainerClassLoaderTest
     }
 
 
+    /**
+     * Ensure that ContainerClassLoaders sharing a Jar define their own Classes
+     * from bytes that are read from the Jar once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void shouldShareClassBytesFromJarBetweenLoaders() throws Exception
+    {
+        ClassPath   classPath = ClassPath.ofResource("LICENSE");
+
+        // the Mockito jar must be supported by the cache
+        SharedArchiveCache.Archive archive = SharedArchiveCache.get().getArchive(new File(classPath.iterator().next()));
+
+        assertThat(archive.isSupported(), is(true));
+
+        SharedArchiveCache.get().release(archive);
+
+        ClassLoader loader1   = ContainerClassLoader.newInstance("Test-1", classPath, System.getProperties());
+        Class<?>    result1   = loader1.loadClass(Mockito.class.getCanonicalName());
+
+        long        reads     = SharedArchiveCache.get().getReadCount();
+
+        ClassLoader loader2   = ContainerClassLoader.newInstance("Test-2", classPath, System.getProperties());
+        Class<?>    result2   = loader2.loadClass(Mockito.class.getCanonicalName());
+
+        assertThat(result2.getClassLoader(), sameInstance(loader2));
+        assertThat(result2, not(sameInstance(result1)));
+        assertThat(SharedArchiveCache.get().getReadCount(), is(reads));
+
+        assertThat(result2.getProtectionDomain().getCodeSource().getLocation(),
+                   is(result1.getProtectionDomain().getCodeSource().getLocation()));
+        assertThat(result2.getPackage().getName(), is(Mockito.class.getPackage().getName()));
+    }
+
+
     /**
      * Ensure that the ContainerClassLoader can load a Class from a
      * custom ClassPath (based on a Java Class).
@@ -296,4 +348,171 @@ public class ContainerClassLoaderTest
             thread.setContextClassLoader(saved);
         }
     }
+
+
+    /**
+     * Ensure that a missing class path element doesn't prevent the ContainerClassLoader
+     * from defining classes using the SharedArchiveCache.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void shouldUseSharedArchivesWhenClassPathElementIsMissing() throws Exception
+    {
+        File                 missing = new File(temporaryFolder.getRoot(), "missing.jar");
+        File                 jar     = createJar("dummy.jar", null, DummyClass.class.getName(), getClassBytes());
+        long                 reads   = SharedArchiveCache.get().getReadCount();
+
+        ContainerClassLoader loader  = ContainerClassLoader.newInstance("Test",
+                                                                        ClassPath.of(ClassPath.ofFile(missing),
+                                                                                     ClassPath.ofFile(jar)),
+                                                                        System.getProperties());
+        Class<?>             result  = loader.loadClass(DummyClass.class.getName());
+
+        assertThat(result.getClassLoader(), sameInstance(loader));
+        assertThat(SharedArchiveCache.get().getReadCount() > reads, is(true));
+
+        loader.close();
+    }
+
+
+    /**
+     * Ensure that the ContainerClassLoader defines the versioned classes of multi-release archives.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void shouldLoadVersionedClassFromMultiReleaseJar() throws Exception
+    {
+        Manifest manifest = new Manifest();
+
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Multi-Release", "true");
+
+        // the unversioned class is invalid so only the versioned class can be defined
+        File jar = createJar("multi-release.jar",
+                             manifest,
+                             DummyClass.class.getName(),
+                             new byte[] {0, 1, 2, 3},
+                             "META-INF/versions/9/" + DummyClass.class.getName(),
+                             getClassBytes());
+
+        ContainerClassLoader loader = ContainerClassLoader.newInstance("Test",
+                                                                       ClassPath.ofFile(jar),
+                                                                       System.getProperties());
+        Class<?>             result = loader.loadClass(DummyClass.class.getName());
+
+        assertThat(result.getClassLoader(), sameInstance(loader));
+
+        loader.close();
+    }
+
+
+    /**
+     * Ensure that the ContainerClassLoader defines classes from the manifest class path of an archive.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void shouldLoadClassFromManifestClassPath() throws Exception
+    {
+        File     dependency = createJar("dependency.jar", null, DummyClass.class.getName(), getClassBytes());
+        Manifest manifest   = new Manifest();
+
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, dependency.getName());
+
+        File                 jar    = createJar("application.jar", manifest);
+
+        ContainerClassLoader loader = ContainerClassLoader.newInstance("Test",
+                                                                       ClassPath.ofFile(jar),
+                                                                       System.getProperties());
+        Class<?>             result = loader.loadClass(DummyClass.class.getName());
+
+        assertThat(result.getClassLoader(), sameInstance(loader));
+
+        loader.close();
+    }
+
+
+    /**
+     * Ensure that closing a ContainerClassLoader evicts the archives it no longer shares.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void shouldReleaseSharedArchivesWhenClosed() throws Exception
+    {
+        File                 jar     = createJar("released.jar", null, DummyClass.class.getName(), getClassBytes());
+        int                  count   = SharedArchiveCache.get().getArchiveCount();
+
+        ContainerClassLoader loader1 = ContainerClassLoader.newInstance("Test-1",
+                                                                        ClassPath.ofFile(jar),
+                                                                        System.getProperties());
+        ContainerClassLoader loader2 = ContainerClassLoader.newInstance("Test-2",
+                                                                        ClassPath.ofFile(jar),
+                                                                        System.getProperties());
+
+        loader1.loadClass(DummyClass.class.getName());
+        loader2.loadClass(DummyClass.class.getName());
+
+        assertThat(SharedArchiveCache.get().getArchiveCount(), is(count + 1));
+
+        loader1.close();
+
+        assertThat(SharedArchiveCache.get().getArchiveCount(), is(count + 1));
+
+        loader2.close();
+
+        assertThat(SharedArchiveCache.get().getArchiveCount(), is(count));
+    }
+
+
+    /**
+     * Obtains the bytes of the {@link DummyClass}.
+     *
+     * @return the class bytes
+     *
+     * @throws IOException  when the class can't be read
+     */
+    private static byte[] getClassBytes() throws IOException
+    {
+        try (InputStream stream = DummyClass.class.getResourceAsStream("DummyClass.class"))
+        {
+            return stream.readAllBytes();
+        }
+    }
+
+
+    /**
+     * Creates a jar in the temporary folder containing the specified classes.
+     *
+     * @param name             the name of the jar
+     * @param manifest         the {@link Manifest} of the jar (may be <code>null</code>)
+     * @param namesAndClasses  pairs of class names (optionally prefixed) and class bytes
+     *
+     * @return the jar {@link File}
+     *
+     * @throws IOException  when the jar can't be created
+     */
+    private File createJar(String    name,
+                           Manifest  manifest,
+                           Object... namesAndClasses) throws IOException
+    {
+        File file = new File(temporaryFolder.getRoot(), name);
+
+        try (JarOutputStream jar = manifest == null
+                                   ? new JarOutputStream(new FileOutputStream(file))
+                                   : new JarOutputStream(new FileOutputStream(file), manifest))
+        {
+            for (int i = 0; i < namesAndClasses.length; i += 2)
+            {
+                jar.putNextEntry(new JarEntry(((String) namesAndClasses[i]).replace('.', '/') + ".class"));
+                jar.write((byte[]) namesAndClasses[i + 1]);
+                jar.closeEntry();
+            }
+        }
+
+        return file;
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * File: LineNumberingOutputStreamTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.java.container;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link LineNumberingOutputStream}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class LineNumberingOutputStreamTest
+{
+    @Test
+    public void shouldNumberLinesWrittenInBulk() throws Exception
+    {
+        ByteArrayOutputStream     bytes  = new ByteArrayOutputStream();
+        LineNumberingOutputStream stream = new LineNumberingOutputStream(bytes, "out");
+
+        stream.write("hello\nworld\r\n\nsplit ".getBytes());
+        stream.write("line\nlast".getBytes());
+
+        assertThat(bytes.toString(),
+                   is("[out:         1]: hello\n[out:         2]: world\r\n\n[out:         3]: split line\n"
+                      + "[out:         4]: last"));
+    }
+
+
+    @Test
+    public void shouldNumberLinesLikeStringFormat() throws Exception
+    {
+        ByteArrayOutputStream     single = new ByteArrayOutputStream();
+        ByteArrayOutputStream     bulk   = new ByteArrayOutputStream();
+        StringBuilder             lines  = new StringBuilder();
+        StringBuilder             expect = new StringBuilder();
+        LineNumberingOutputStream stream = new LineNumberingOutputStream(single, null);
+
+        for (int i = 1; i <= 12000; i++)
+        {
+            String line = "line " + i + (i % 3 == 0 ? "\r\n" : "\n");
+
+            lines.append(line);
+            expect.append(String.format("[%-10s%4d]: ", "", i)).append(line);
+        }
+
+        for (byte b : lines.toString().getBytes())
+        {
+            stream.write(b);
+        }
+
+        // write in bulk using chunks that don't align with lines, and are sometimes larger than the buffer
+        OutputStream bulkStream = new LineNumberingOutputStream(bulk, null);
+        byte[]       content    = lines.toString().getBytes();
+
+        for (int offset = 0, chunk = 1; offset < content.length; offset += chunk, chunk = chunk * 3 % 20011)
+        {
+            bulkStream.write(content, offset, Math.min(chunk, content.length - offset));
+        }
+
+        assertThat(single.toString(), is(expect.toString()));
+        assertThat(bulk.toString(), is(expect.toString()));
+    }
+
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectInvalidRanges() throws IOException
+    {
+        new LineNumberingOutputStream(new ByteArrayOutputStream(), "out").write(new byte[10], 5, 6);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * File: PackagePrefixesTest.java
+ *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * The contents of this file are subject to the terms and conditions of 
+ * the Common Development and Distribution License 1.0 (the "License").
+ *
+ * You may not use this file except in compliance with the License.
+ *
+ * You can obtain a copy of the License by consulting the LICENSE.txt file
+ * distributed with this file, or by consulting https://oss.oracle.com/licenses/CDDL
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file LICENSE.txt.
+ *
+ * MODIFICATIONS:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ */
+
+package com.oracle.bedrock.runtime.java.container;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit Tests for {@link PackagePrefixes}.
+ * <p>
+ * Copyright (c) 2026. All Rights Reserved. Oracle Corporation.<br>
+ * Oracle is a registered trademark of Oracle Corporation and/or its affiliates.
+ */
+public class PackagePrefixesTest
+{
+    /**
+     * Ensure that names are matched when they start with any of the prefixes.
+     */
+    @Test
+    public void shouldMatchNamesStartingWithPrefixes()
+    {
+        PackagePrefixes prefixes = new PackagePrefixes();
+
+        assertThat(prefixes.isEmpty(), is(true));
+        assertThat(prefixes.matches("com.oracle.Example"), is(false));
+
+        prefixes.add("com.oracle.bedrock.runtime.java");
+        prefixes.add("org.junit");
+
+        assertThat(prefixes.isEmpty(), is(false));
+        assertThat(prefixes.matches("com.oracle.bedrock.runtime.java.ClassPath"), is(true));
+        assertThat(prefixes.matches("com.oracle.bedrock.runtime.java.container.Container"), is(true));
+        assertThat(prefixes.matches("org.junit.Test"), is(true));
+        assertThat(prefixes.matches("org.junit"), is(true));
+        assertThat(prefixes.matches("com.oracle.bedrock.runtime.Application"), is(false));
+        assertThat(prefixes.matches("org.jun"), is(false));
+        assertThat(prefixes.matches("org.hamcrest.Matcher"), is(false));
+    }
+
+
+    /**
+     * Ensure that the empty prefix matches every name.
+     */
+    @Test
+    public void shouldMatchEverythingWithEmptyPrefix()
+    {
+        PackagePrefixes prefixes = new PackagePrefixes();
+
+        prefixes.add("");
+
+        assertThat(prefixes.matches("com.oracle.Example"), is(true));
+        assertThat(prefixes.matches(""), is(true));
+    }
+}
@@ -32,24 +32,12 @@ import com.oracle.bedrock.runtime.java.ClassPath;
 import org.junit.runner.Description;
 import org.junit.runner.manipulation.Filter;
 
-import java.io.IOException;
 import java.io.Serializable;
-import java.net.URL;
-import java.nio.file.FileSystem;
-import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * An option representing a set of test {@link Class}es.
@@ -288,6 +276,11 @@ public abstract class TestClasses implements Option.Collectable, Option, Seriali
      */
     protected static class ClassPathClasses extends TestClasses implements Serializable
     {
+        /**
+         * The {@link Pattern} matching the names of class files.
+         */
+        private static final Pattern CLASS_FILE = Pattern.compile(".*\\.class");
+
         /**
          * The array of class path entries to use to resolve classes.
          */
@@ -328,139 +321,36 @@ public abstract class TestClasses implements Option.Collectable, Option, Seriali
                 {
                     if (classes == null)
                     {
-                        try
+                        Set<Class<?>>       testClasses = new HashSet<>();
+                        Predicate<Class<?>> predicate   = getTestClassPredicate();
+
+                        // the class files are determined using the (indexed) resources of the class path
+                        for (String resource : new ClassPath(paths).getResources(CLASS_FILE))
                         {
-                            Set<Class<?>>       testClasses = new HashSet<>();
-                            ClassPath           classPath   = new ClassPath(paths);
-                            URL[]               urLs        = classPath.getURLs();
-                            List<Path>          paths       = new ArrayList<>();
-                            Predicate<Class<?>> predicate   = getTestClassPredicate();
+                            String className = resource.substring(0, resource.length() - 6).replace('/', '.');
 
-                            for (URL url : urLs)
+                            try
                             {
-                                paths.add(Paths.get(url.toURI()));
-                            }
+                                Class<?> testClass = Class.forName(className);
 
-                            for (Path path : paths)
-                            {
-                                if (Files.isDirectory(path))
+                                if (predicate.test(testClass))
                                 {
-                                    testClasses.addAll(walkPath(path, predicate));
-                                }
-                                else
-                                {
-                                    String fileName = path.getFileName().toString();
-
-                                    if (Files.isRegularFile(path) && ClassPath.isResourceAnArchive(fileName))
-                                    {
-                                    FileSystem fileSystem = FileSystems.newFileSystem(path, (ClassLoader) null);
-                                    testClasses.addAll(walkFileSystem(fileSystem, predicate));
-                                    }
+                                    testClasses.add(testClass);
                                 }
                             }
-
-                            this.classes = testClasses;
-                        }
-                        catch (Exception e)
-                        {
-                            throw new RuntimeException(e);
+                            catch (ClassNotFoundException e)
+                            {
+                                // ignored - can't load class so do not add it to tests
+                            }
                         }
+
+                        this.classes = testClasses;
                     }
                 }
             }
 
             return Collections.unmodifiableSet(classes);
         }
-
-
-        /**
-         * Walk the specified {@link FileSystem} and return all of the {@link Class}es that
-         * match the specified {@link Predicate}.
-         *
-         * @param fileSystem  the {@link FileSystem} to search for matching {@link Class} files
-         * @param predicate   the {@link Predicate} to use to match {@link Class} files
-         *
-         * @return  the {@link Set} of {@link Class}es from the {@link FileSystem} that match the {@link Predicate}
-         *
-         * @throws IOException if there is an error walking the {@link FileSystem}
-         */
-        private Set<Class<?>> walkFileSystem(FileSystem          fileSystem,
-                                             Predicate<Class<?>> predicate) throws IOException
-        {
-            Set<Class<?>> testClasses = new HashSet<>();
-
-            for (Path path : fileSystem.getRootDirectories())
-            {
-                testClasses.addAll(walkPath(path, predicate));
-            }
-
-            return testClasses;
-        }
-
-
-        /**
-         * Walk the specified {@link Path} and return all of the {@link Class}es that
-         * match the specified {@link Predicate}.
-         *
-         * @param path       the {@lin Path} to search for matching {@link Class} files
-         * @param predicate  the {@link Predicate} to use to match {@link Class} files
-         *
-         * @return  the {@link Set} of {@link Class}es from the {@link Path} that match the {@link Predicate}
-         *
-         * @throws IOException if there is an error walking the {@link Path}
-         */
-        private List<Class<?>> walkPath(Path                path,
-                                        Predicate<Class<?>> predicate) throws IOException
-        {
-            List<Class<?>> testClasses = new ArrayList<>();
-
-            Files.walkFileTree(path,
-                               new SimpleFileVisitor<Path>()
-                               {
-                                   @Override
-                                   public FileVisitResult visitFile(Path                file,
-                                                                    BasicFileAttributes attrs) throws IOException
-                                   {
-                                       if (file.getFileName().toString().endsWith(".class"))
-                                       {
-                                           StringBuilder  className = new StringBuilder();
-                                           Iterator<Path> iterator  = path.relativize(file).iterator();
-
-                                           while (iterator.hasNext())
-                                           {
-                                               String name = iterator.next().toString();
-
-                                               if (iterator.hasNext())
-                                               {
-                                                   className.append(name).append('.');
-                                               }
-                                               else
-                                               {
-                                                   className.append(name.substring(0, name.length() - 6));
-                                               }
-                                           }
-
-                                           try
-                                           {
-                                               Class<?> testClass = Class.forName(className.toString());
-
-                                               if (predicate.test(testClass))
-                                               {
-                                                   testClasses.add(testClass);
-                                               }
-                                           }
-                                           catch (ClassNotFoundException e)
-                                           {
-                                               // ignored - can't load class so do not add it to tests
-                                           }
-                                       }
-
-                                       return FileVisitResult.CONTINUE;
-                                   }
-                               });
-
-            return testClasses;
-        }
     }
 
 